@@ -41,6 +41,16 @@ public interface SWRLRuleEngineBridge
    */
   void inferOWLAxiom(@NonNull OWLAxiom axiom) throws SWRLRuleEngineBridgeException;
 
+  /**
+   * Infer an axiom and identify the rule that inferred it. Target rule engines that know which rule fired should use
+   * this method so that inferences can be attributed to rules by the engine's instrumentation.
+   *
+   * @param axiom    The axiom to infer
+   * @param ruleName The name of the rule that inferred the axiom
+   * @throws SWRLRuleEngineBridgeException If an error occurs during the infer process
+   */
+  void inferOWLAxiom(@NonNull OWLAxiom axiom, @NonNull String ruleName) throws SWRLRuleEngineBridgeException;
+
   /**
    * This method can be used by a target rule engine to invoke built-ins. If the built-in evaluates to false, an empty
    * list is returned. If it evaluates to true, one of more argument lists are returned, one for each combination of
@@ -2,6 +2,8 @@ package org.swrlapi.bridge;
 
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.semanticweb.owlapi.model.OWLAxiom;
+import org.swrlapi.core.SWRLRuleEngineInferenceListener;
+import org.swrlapi.core.SWRLRuleEngineInstrumentation;
 
 import java.util.Set;
 
@@ -23,4 +25,56 @@ public interface SWRLRuleEngineBridgeController
    * @return A set of inferred OWL axioms
    */
   @NonNull Set<@NonNull OWLAxiom> getInferredOWLAxioms();
+
+  /**
+   * Get the OWL axioms inferred since the last call to this method or since the bridge was last reset. Used to write
+   * only newly inferred axioms back to an ontology when a target rule engine is run more than once without a reset.
+   *
+   * @return The newly inferred OWL axioms
+   */
+  @NonNull Set<@NonNull OWLAxiom> takeNewlyInferredOWLAxioms();
+
+  /**
+   * Add OWL axioms inferred and injected by an earlier execution, typically one restored from a snapshot. The axioms
+   * are not passed to the target rule engine.
+   *
+   * @param inferredOWLAxioms Previously inferred OWL axioms
+   * @param injectedOWLAxioms Previously injected OWL axioms
+   */
+  void restoreOWLAxioms(@NonNull Set<@NonNull OWLAxiom> inferredOWLAxioms,
+    @NonNull Set<@NonNull OWLAxiom> injectedOWLAxioms);
+
+  /**
+   * @return The instrumentation that records activity passing through the bridge
+   */
+  @NonNull SWRLRuleEngineInstrumentation getInstrumentation();
+
+  /**
+   * @param listener A listener to notify of changes to the inferred and injected OWL axioms
+   */
+  void addInferenceListener(@NonNull SWRLRuleEngineInferenceListener listener);
+
+  /**
+   * @param listener A previously added listener
+   */
+  void removeInferenceListener(@NonNull SWRLRuleEngineInferenceListener listener);
+
+  /**
+   * Notify the inference listeners of the changes to the inferred and injected OWL axioms since they were last
+   * notified. Called by a rule engine after each run of its target rule engine.
+   */
+  void notifyInferenceListeners();
+
+  /**
+   * Associate a monitor with the next execution of the target rule engine. The bridge checks the monitor as axioms are
+   * inferred and built-ins are invoked.
+   *
+   * @param executionMonitor A monitor for the execution
+   */
+  void startExecution(@NonNull SWRLRuleEngineExecutionMonitor executionMonitor);
+
+  /**
+   * Remove any monitor associated with the current execution.
+   */
+  void finishExecution();
 }
@@ -0,0 +1,172 @@
+package org.swrlapi.bridge;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.swrlapi.core.SWRLRuleEngineBudget;
+import org.swrlapi.core.SWRLRuleEnginePhase;
+import org.swrlapi.core.SWRLRuleEngineProgress;
+import org.swrlapi.exceptions.SWRLRuleEngineBudgetExceededException;
+import org.swrlapi.exceptions.SWRLRuleEngineCancelledException;
+
+import java.util.Optional;
+
+/**
+ * Tracks a single rule engine execution so that it can be cancelled or stopped when it exceeds its
+ * {@link SWRLRuleEngineBudget}. The bridge calls the check methods from the thread running the target rule engine,
+ * for example as axioms are inferred and built-ins are invoked; a failed check throws an unchecked exception that
+ * unwinds the target rule engine. The quantities passed to the check methods are also recorded as the progress of the
+ * execution.
+ *
+ * @see org.swrlapi.bridge.SWRLRuleEngineBridgeController#startExecution(SWRLRuleEngineExecutionMonitor)
+ */
+public class SWRLRuleEngineExecutionMonitor implements SWRLRuleEngineProgress
+{
+  @NonNull private final SWRLRuleEngineBudget budget;
+  private volatile long deadlineNanos = Long.MAX_VALUE; // Set when the execution starts
+
+  private volatile boolean cancelled = false;
+  @Nullable private volatile String budgetExceededReason = null;
+  @Nullable private Thread executingThread = null;
+
+  @Nullable private volatile SWRLRuleEnginePhase phase = null;
+  private volatile long numberOfImportedOWLAxioms = 0;
+  private volatile long numberOfInferredOWLAxioms = 0;
+  private volatile long numberOfSQWRLResultRows = 0;
+
+  public SWRLRuleEngineExecutionMonitor(@NonNull SWRLRuleEngineBudget budget)
+  {
+    this.budget = budget;
+  }
+
+  @NonNull public SWRLRuleEngineBudget getBudget()
+  {
+    return this.budget;
+  }
+
+  /**
+   * Record the thread that runs the execution so that cancellation can interrupt it, and start the wall time limit.
+   * Time spent waiting for the execution to start does not count against the limit.
+   */
+  public synchronized void attach()
+  {
+    this.executingThread = Thread.currentThread();
+    if (this.budget.hasWallTimeLimit() && this.deadlineNanos == Long.MAX_VALUE)
+      this.deadlineNanos = System.nanoTime() + this.budget.getMaximumWallTimeMillis() * 1000000L;
+  }
+
+  public synchronized void detach()
+  {
+    this.executingThread = null;
+  }
+
+  /**
+   * Request cancellation. The execution stops at its next check; the executing thread is also interrupted so that
+   * blocking operations in built-ins return promptly.
+   */
+  public synchronized void cancel()
+  {
+    this.cancelled = true;
+
+    if (this.executingThread != null)
+      this.executingThread.interrupt();
+  }
+
+  public boolean isCancelled()
+  {
+    return this.cancelled;
+  }
+
+  @NonNull @Override public Optional<@NonNull SWRLRuleEnginePhase> getPhase()
+  {
+    return Optional.ofNullable(this.phase);
+  }
+
+  @Override public long getNumberOfImportedOWLAxioms()
+  {
+    return this.numberOfImportedOWLAxioms;
+  }
+
+  @Override public long getNumberOfInferredOWLAxioms()
+  {
+    return this.numberOfInferredOWLAxioms;
+  }
+
+  @Override public long getNumberOfSQWRLResultRows()
+  {
+    return this.numberOfSQWRLResultRows;
+  }
+
+  public void startPhase(@NonNull SWRLRuleEnginePhase phase)
+  {
+    this.phase = phase;
+  }
+
+  /**
+   * @param numberOfImportedOWLAxioms The number of asserted axioms imported into the target rule engine so far
+   */
+  public void checkImportedOWLAxioms(long numberOfImportedOWLAxioms)
+    throws SWRLRuleEngineCancelledException, SWRLRuleEngineBudgetExceededException
+  {
+    this.numberOfImportedOWLAxioms = numberOfImportedOWLAxioms;
+
+    check();
+  }
+
+  /**
+   * @return A description of the exceeded limit if the execution was stopped for exceeding its budget
+   */
+  @NonNull public Optional<@NonNull String> getBudgetExceededReason()
+  {
+    return Optional.ofNullable(this.budgetExceededReason);
+  }
+
+  /**
+   * Check for cancellation, interruption, and the wall time limit.
+   *
+   * @throws SWRLRuleEngineCancelledException      If the execution has been cancelled or interrupted
+   * @throws SWRLRuleEngineBudgetExceededException If the wall time limit has been exceeded
+   */
+  public void check() throws SWRLRuleEngineCancelledException, SWRLRuleEngineBudgetExceededException
+  {
+    if (this.cancelled || Thread.currentThread().isInterrupted())
+      throw new SWRLRuleEngineCancelledException("rule engine execution cancelled");
+
+    if (this.deadlineNanos != Long.MAX_VALUE && System.nanoTime() - this.deadlineNanos > 0)
+      exceeded("maximum wall time of " + this.budget.getMaximumWallTimeMillis() + " ms exceeded");
+  }
+
+  /**
+   * @param numberOfInferredOWLAxioms The number of axioms inferred so far
+   */
+  public void checkInferredOWLAxioms(long numberOfInferredOWLAxioms)
+    throws SWRLRuleEngineCancelledException, SWRLRuleEngineBudgetExceededException
+  {
+    this.numberOfInferredOWLAxioms = numberOfInferredOWLAxioms;
+
+    check();
+
+    if (this.budget.hasInferredOWLAxiomLimit()
+      && numberOfInferredOWLAxioms > this.budget.getMaximumNumberOfInferredOWLAxioms())
+      exceeded("maximum of " + this.budget.getMaximumNumberOfInferredOWLAxioms() + " inferred axioms exceeded");
+  }
+
+  /**
+   * @param numberOfSQWRLResultRows The number of rows generated so far for a SQWRL query
+   */
+  public void checkSQWRLResultRows(long numberOfSQWRLResultRows)
+    throws SWRLRuleEngineCancelledException, SWRLRuleEngineBudgetExceededException
+  {
+    this.numberOfSQWRLResultRows = numberOfSQWRLResultRows;
+
+    if (this.budget.hasSQWRLResultRowLimit()
+      && numberOfSQWRLResultRows > this.budget.getMaximumNumberOfSQWRLResultRows())
+      exceeded("maximum of " + this.budget.getMaximumNumberOfSQWRLResultRows() + " SQWRL result rows exceeded");
+  }
+
+  private void exceeded(@NonNull String reason) throws SWRLRuleEngineBudgetExceededException
+  {
+    this.budgetExceededReason = reason;
+
+    throw new SWRLRuleEngineBudgetExceededException(reason);
+  }
+}
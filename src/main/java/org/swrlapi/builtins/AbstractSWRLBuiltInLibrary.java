@@ -39,7 +39,6 @@ import org.swrlapi.exceptions.InvalidSWRLBuiltInArgumentNumberException;
 import org.swrlapi.exceptions.SWRLBuiltInException;
 import org.swrlapi.exceptions.SWRLBuiltInLibraryException;
 import org.swrlapi.exceptions.SWRLBuiltInMethodRuntimeException;
-import org.swrlapi.factory.LiteralFactory;
 import org.swrlapi.factory.OWLLiteralFactory;
 import org.swrlapi.factory.SQWRLResultValueFactory;
 import org.swrlapi.factory.SWRLAPIOWLDataFactory;
@@ -1933,24 +1932,25 @@ public abstract class AbstractSWRLBuiltInLibrary
       return getOWLLiteralFactory().getOWLLiteral(value);
   }
 
-  @NonNull private Literal getArgumentAsALiteral(int argumentNumber,
+  @NonNull @Override public Literal getArgumentAsALiteral(int argumentNumber,
     @NonNull List<@NonNull SWRLBuiltInArgument> arguments) throws SWRLBuiltInException
   {
     checkThatArgumentIsALiteral(argumentNumber, arguments);
 
     SWRLLiteralBuiltInArgument argument = (SWRLLiteralBuiltInArgument)arguments.get(argumentNumber);
 
-    return getLiteralFactory().getLiteral(argument.getLiteral());
+    return argument.getParsedLiteral();
   }
 
-  @NonNull private Literal getArgumentAsALiteral(SWRLBuiltInArgument argument) throws SWRLBuiltInException
+  @NonNull @Override public Literal getArgumentAsALiteral(@NonNull SWRLBuiltInArgument argument)
+    throws SWRLBuiltInException
   {
     if (!(argument instanceof SWRLLiteralBuiltInArgument))
       throw new InvalidSWRLBuiltInArgumentException(makeInvalidArgumentTypeMessage(argument, "data value"));
 
     SWRLLiteralBuiltInArgument a = (SWRLLiteralBuiltInArgument)argument;
 
-    return getLiteralFactory().getLiteral(a.getLiteral());
+    return a.getParsedLiteral();
   }
 
   @NonNull @Override public String makeInvalidArgumentTypeMessage(@NonNull SWRLBuiltInArgument argument,
@@ -2051,11 +2051,6 @@ public abstract class AbstractSWRLBuiltInLibrary
     return getSWRLAPIOWLDataFactory().getSQWRLResultValueFactory();
   }
 
-  @NonNull private LiteralFactory getLiteralFactory() throws SWRLBuiltInLibraryException
-  {
-    return getSWRLAPIOWLDataFactory().getLiteralFactory();
-  }
-
   @NonNull private OWLLiteralFactory getOWLLiteralFactory() throws SWRLBuiltInLibraryException
   {
     return getSWRLAPIOWLDataFactory().getOWLLiteralFactory();
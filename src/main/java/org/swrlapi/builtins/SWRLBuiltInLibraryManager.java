@@ -1,11 +1,13 @@
 package org.swrlapi.builtins;
 
 import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
 import org.semanticweb.owlapi.model.IRI;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.swrlapi.builtins.arguments.SWRLBuiltInArgument;
 import org.swrlapi.builtins.arguments.SWRLMultiValueVariableBuiltInArgument;
+import org.swrlapi.core.SWRLRuleEngineInstrumentation;
 import org.swrlapi.exceptions.IncompatibleBuiltInMethodException;
 import org.swrlapi.exceptions.IncompatibleSWRLBuiltInClassException;
 import org.swrlapi.exceptions.SWRLBuiltInException;
@@ -59,6 +61,8 @@ public class SWRLBuiltInLibraryManager
   // Map of prefix:methodName to method implementation
   @NonNull private final Map<@NonNull String, @NonNull Method> swrlBuiltInMethods;
 
+  @Nullable private volatile SWRLRuleEngineInstrumentation instrumentation;
+
   public SWRLBuiltInLibraryManager()
   {
     this.swrlBuiltInLibraryImplementations = new HashMap<>();
@@ -144,6 +148,15 @@ public class SWRLBuiltInLibraryManager
       return Optional.empty();
   }
 
+  /**
+   * @param instrumentation Instrumentation that records the number and latency of built-in invocations; null to stop
+   *                        recording
+   */
+  public void setInstrumentation(@Nullable SWRLRuleEngineInstrumentation instrumentation)
+  {
+    this.instrumentation = instrumentation;
+  }
+
   @NonNull public Set<@NonNull IRI> getSWRLBuiltInIRIs()
   {
     return Collections.unmodifiableSet(swrlBuiltInIRI2PrefixedName.keySet());
@@ -172,6 +185,26 @@ public class SWRLBuiltInLibraryManager
   @NonNull public List<@NonNull List<@NonNull SWRLBuiltInArgument>> invokeSWRLBuiltIn(@NonNull SWRLBuiltInBridge bridge,
     @NonNull String ruleName, @NonNull String builtInMethodPrefixedName, int builtInIndex, boolean isInConsequent,
     @NonNull List<@NonNull SWRLBuiltInArgument> arguments) throws SWRLBuiltInException
+  {
+    SWRLRuleEngineInstrumentation instrumentation = this.instrumentation;
+
+    if (instrumentation == null || !instrumentation.isEnabled())
+      return invokeSWRLBuiltInMethod(bridge, ruleName, builtInMethodPrefixedName, builtInIndex, isInConsequent,
+        arguments);
+
+    long startNanos = System.nanoTime();
+    try {
+      return invokeSWRLBuiltInMethod(bridge, ruleName, builtInMethodPrefixedName, builtInIndex, isInConsequent,
+        arguments);
+    } finally {
+      instrumentation.recordSWRLBuiltInInvocation(builtInMethodPrefixedName, ruleName, System.nanoTime() - startNanos);
+    }
+  }
+
+  @NonNull private List<@NonNull List<@NonNull SWRLBuiltInArgument>> invokeSWRLBuiltInMethod(
+    @NonNull SWRLBuiltInBridge bridge, @NonNull String ruleName, @NonNull String builtInMethodPrefixedName,
+    int builtInIndex, boolean isInConsequent, @NonNull List<@NonNull SWRLBuiltInArgument> arguments)
+    throws SWRLBuiltInException
   {
     String prefix = getPrefixFromPrefixedName(builtInMethodPrefixedName);
     String builtInMethodName = getBuiltInMethodNameFromPrefixedName(builtInMethodPrefixedName);
@@ -6,6 +6,7 @@ import org.semanticweb.owlapi.model.OWLLiteral;
 import org.semanticweb.owlapi.model.OWLObject;
 import org.swrlapi.exceptions.InvalidSWRLBuiltInArgumentNumberException;
 import org.swrlapi.exceptions.SWRLBuiltInException;
+import org.swrlapi.literal.Literal;
 import org.swrlapi.literal.XSDDate;
 import org.swrlapi.literal.XSDDateTime;
 import org.swrlapi.literal.XSDDuration;
@@ -504,6 +505,22 @@ public interface SWRLBuiltInInputArgumentHandler
    */
   @NonNull OWLLiteral getArgumentAsAnOWLLiteral(@NonNull SWRLBuiltInArgument argument) throws SWRLBuiltInException;
 
+  /**
+   * @param argumentNumber The 0-based index of the argument
+   * @param arguments      The built-in arguments
+   * @return A literal whose datatype and value are parsed once per argument
+   * @throws SWRLBuiltInException If an error occurs during processing
+   */
+  @NonNull Literal getArgumentAsALiteral(int argumentNumber, @NonNull List<@NonNull SWRLBuiltInArgument> arguments)
+    throws SWRLBuiltInException;
+
+  /**
+   * @param argument A built-in argument
+   * @return A literal whose datatype and value are parsed once per argument
+   * @throws SWRLBuiltInException If an error occurs during processing
+   */
+  @NonNull Literal getArgumentAsALiteral(@NonNull SWRLBuiltInArgument argument) throws SWRLBuiltInException;
+
   /**
    * @param arguments The built-in arguments
    * @return True is all arguments are booleans
@@ -1,6 +1,8 @@
 package org.swrlapi.builtins.arguments;
 
+import org.checkerframework.checker.nullness.qual.NonNull;
 import org.semanticweb.owlapi.model.SWRLLiteralArgument;
+import org.swrlapi.literal.Literal;
 
 /**
  * Represents an OWL literal argument to a built-in atom.
@@ -9,4 +11,9 @@ import org.semanticweb.owlapi.model.SWRLLiteralArgument;
  */
 public interface SWRLLiteralBuiltInArgument extends SWRLBuiltInArgument, SWRLLiteralArgument
 {
+  /**
+   * @return The argument's literal with its datatype resolved and its value parsed; repeated calls return the same
+   * instance
+   */
+  @NonNull Literal getParsedLiteral();
 }
\ No newline at end of file
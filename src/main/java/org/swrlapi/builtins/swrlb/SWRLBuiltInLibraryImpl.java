@@ -3,7 +3,6 @@ package org.swrlapi.builtins.swrlb;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.checkerframework.checker.nullness.qual.Nullable;
 import org.semanticweb.owlapi.model.IRI;
-import org.semanticweb.owlapi.model.OWLLiteral;
 import org.swrlapi.builtins.AbstractSWRLBuiltInLibrary;
 import org.swrlapi.builtins.arguments.SWRLBuiltInArgument;
 import org.swrlapi.builtins.arguments.SWRLLiteralBuiltInArgument;
@@ -12,6 +11,7 @@ import org.swrlapi.exceptions.InvalidSWRLBuiltInArgumentException;
 import org.swrlapi.exceptions.InvalidSWRLBuiltInNameException;
 import org.swrlapi.exceptions.SWRLBuiltInException;
 import org.swrlapi.exceptions.SWRLBuiltInNotImplementedException;
+import org.swrlapi.literal.Literal;
 import org.swrlapi.literal.OWLLiteralComparator;
 import org.swrlapi.literal.XSDDate;
 import org.swrlapi.literal.XSDDateTime;
@@ -21,13 +21,16 @@ import org.swrlapi.literal.XSDTimeUtil;
 
 import java.math.BigDecimal;
 import java.math.BigInteger;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
 import java.util.Arrays;
-import java.util.Calendar;
-import java.util.GregorianCalendar;
 import java.util.HashSet;
 import java.util.List;
 import java.util.StringTokenizer;
-import java.util.TimeZone;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.regex.PatternSyntaxException;
@@ -808,12 +811,12 @@ public class SWRLBuiltInLibraryImpl extends AbstractSWRLBuiltInLibrary
     checkNumberOfArgumentsEqualTo(3, arguments.size());
     int year = convertArgumentToAnInt(1, arguments);
     int month = convertArgumentToAnInt(2, arguments);
-    org.apache.axis.types.Duration duration = new org.apache.axis.types.Duration();
 
-    duration.setYears(year);
-    duration.setMonths(month);
-
-    return processResultArgument(arguments, 0, axisDuration2XSDDuration(duration));
+    try {
+      return processResultArgument(arguments, 0, XSDTimeUtil.yearMonthDuration(year, month));
+    } catch (IllegalArgumentException | ArithmeticException e) {
+      throw new SWRLBuiltInException("error creating xsd:duration: " + e.getMessage(), e);
+    }
   }
 
   @SuppressWarnings("deprecation")
@@ -828,14 +831,12 @@ public class SWRLBuiltInLibraryImpl extends AbstractSWRLBuiltInLibrary
     int hours = convertArgumentToAnInt(2, arguments);
     int minutes = convertArgumentToAnInt(3, arguments);
     int seconds = convertArgumentToAnInt(4, arguments);
-    org.apache.axis.types.Duration duration = new org.apache.axis.types.Duration();
 
-    duration.setDays(days);
-    duration.setHours(hours);
-    duration.setMinutes(minutes);
-    duration.setSeconds(seconds);
-
-    return processResultArgument(arguments, 0, axisDuration2XSDDuration(duration));
+    try {
+      return processResultArgument(arguments, 0, XSDTimeUtil.dayTimeDuration(days, hours, minutes, seconds));
+    } catch (IllegalArgumentException | ArithmeticException e) {
+      throw new SWRLBuiltInException("error creating xsd:duration: " + e.getMessage(), e);
+    }
   }
 
   /**
@@ -854,17 +855,15 @@ public class SWRLBuiltInLibraryImpl extends AbstractSWRLBuiltInLibrary
     int minutes = convertArgumentToAnInt(5, arguments);
     int seconds = convertArgumentToAnInt(6, arguments);
     String timeZone = getArgumentAsAString(7, arguments);
-    Calendar calendar = new GregorianCalendar();
 
-    calendar.set(year, month, days, hours, minutes, seconds);
-    calendar.setTimeZone(TimeZone.getTimeZone(timeZone));
-
-    String operationResult =
-      "" + calendar.get(Calendar.YEAR) + "-" + calendar.get(Calendar.MONTH) + "-" + calendar.get(Calendar.DAY_OF_MONTH)
-        + "T" + calendar.get(Calendar.HOUR) + ":" + calendar.get(Calendar.MINUTE) + ":" + calendar.get(Calendar.SECOND)
-        + calendar.getTimeZone().getID();
+    try {
+      LocalDateTime dateTime = LocalDateTime.of(year, month, days, hours, minutes, seconds);
+      ZoneOffset zoneOffset = getZoneOffset(timeZone, dateTime);
 
-    return processResultArgument(arguments, 0, dateTimeString2XSDDateTime(operationResult));
+      return processResultArgument(arguments, 0, new XSDDateTime(dateTime, zoneOffset));
+    } catch (DateTimeException e) {
+      throw new SWRLBuiltInException("invalid xsd:dateTime: " + e.getMessage(), e);
+    }
   }
 
   /**
@@ -880,16 +879,15 @@ public class SWRLBuiltInLibraryImpl extends AbstractSWRLBuiltInLibrary
     int month = convertArgumentToAnInt(2, arguments);
     int days = convertArgumentToAnInt(3, arguments);
     String timeZone = getArgumentAsAString(4, arguments);
-    Calendar calendar = new GregorianCalendar();
 
-    calendar.set(year, month, days);
-    calendar.setTimeZone(TimeZone.getTimeZone(timeZone));
-
-    String operationResult =
-      "" + calendar.get(Calendar.YEAR) + "-" + calendar.get(Calendar.MONTH) + "-" + calendar.get(Calendar.DAY_OF_MONTH)
-        + calendar.getTimeZone().getID();
+    try {
+      LocalDate date = LocalDate.of(year, month, days);
+      ZoneOffset zoneOffset = getZoneOffset(timeZone, date.atStartOfDay());
 
-    return processResultArgument(arguments, 0, dateString2XSDDate(operationResult));
+      return processResultArgument(arguments, 0, new XSDDate(date, zoneOffset));
+    } catch (DateTimeException e) {
+      throw new SWRLBuiltInException("invalid xsd:date: " + e.getMessage(), e);
+    }
   }
 
   /**
@@ -905,9 +903,15 @@ public class SWRLBuiltInLibraryImpl extends AbstractSWRLBuiltInLibrary
     int minutes = convertArgumentToAnInt(2, arguments);
     int seconds = convertArgumentToAnInt(3, arguments);
     String timeZone = getArgumentAsAString(4, arguments);
-    String operationResult = "" + hours + ":" + minutes + ":" + seconds + timeZone;
 
-    return processResultArgument(arguments, 0, timeString2XSDTime(operationResult));
+    try {
+      LocalTime time = LocalTime.of(hours, minutes, seconds);
+      ZoneOffset zoneOffset = getZoneOffset(timeZone, LocalDate.now().atTime(time));
+
+      return processResultArgument(arguments, 0, new XSDTime(time, zoneOffset));
+    } catch (DateTimeException e) {
+      throw new SWRLBuiltInException("invalid xsd:time: " + e.getMessage(), e);
+    }
   }
 
   /**
@@ -920,14 +924,14 @@ public class SWRLBuiltInLibraryImpl extends AbstractSWRLBuiltInLibrary
   {
     checkNumberOfArgumentsAtLeast(3, arguments.size());
 
-    org.apache.axis.types.Duration operationDuration = new org.apache.axis.types.Duration();
+    XSDDuration operationDuration = getArgumentAsADuration(1, arguments);
 
-    for (int i = 1; i < arguments.size(); i++) {
-      org.apache.axis.types.Duration duration = getArgumentAsAnAxisDuration(i, arguments);
+    for (int i = 2; i < arguments.size(); i++) {
+      XSDDuration duration = getArgumentAsADuration(i, arguments);
       operationDuration = XSDTimeUtil.addYearMonthDurations(operationDuration, duration);
     }
 
-    return processResultArgument(arguments, 0, axisDuration2XSDDuration(operationDuration));
+    return processResultArgument(arguments, 0, operationDuration);
   }
 
   /**
@@ -940,11 +944,11 @@ public class SWRLBuiltInLibraryImpl extends AbstractSWRLBuiltInLibrary
   {
     checkNumberOfArgumentsEqualTo(3, arguments.size());
 
-    org.apache.axis.types.Duration duration2 = getArgumentAsAnAxisDuration(1, arguments);
-    org.apache.axis.types.Duration duration3 = getArgumentAsAnAxisDuration(2, arguments);
-    org.apache.axis.types.Duration operationDuration = XSDTimeUtil.subtractYearMonthDurations(duration2, duration3);
+    XSDDuration duration2 = getArgumentAsADuration(1, arguments);
+    XSDDuration duration3 = getArgumentAsADuration(2, arguments);
+    XSDDuration operationDuration = XSDTimeUtil.subtractYearMonthDurations(duration2, duration3);
 
-    return processResultArgument(arguments, 0, axisDuration2XSDDuration(operationDuration));
+    return processResultArgument(arguments, 0, operationDuration);
   }
 
   /**
@@ -957,11 +961,14 @@ public class SWRLBuiltInLibraryImpl extends AbstractSWRLBuiltInLibrary
   {
     checkNumberOfArgumentsEqualTo(3, arguments.size());
 
-    org.apache.axis.types.Duration duration2 = getArgumentAsAnAxisDuration(1, arguments);
-    org.apache.axis.types.Duration duration3 = getArgumentAsAnAxisDuration(2, arguments);
-    org.apache.axis.types.Duration operationDuration = XSDTimeUtil.multiplyYearMonthDurations(duration2, duration3);
+    XSDDuration duration2 = getArgumentAsADuration(1, arguments);
+    double operand3 = getArgumentAsADouble(2, arguments);
 
-    return processResultArgument(arguments, 0, axisDuration2XSDDuration(operationDuration));
+    try {
+      return processResultArgument(arguments, 0, XSDTimeUtil.multiplyYearMonthDuration(duration2, operand3));
+    } catch (IllegalArgumentException e) {
+      throw new InvalidSWRLBuiltInArgumentException(2, e.getMessage() != null ? e.getMessage() : "", e);
+    }
   }
 
   /**
@@ -974,11 +981,14 @@ public class SWRLBuiltInLibraryImpl extends AbstractSWRLBuiltInLibrary
   {
     checkNumberOfArgumentsEqualTo(3, arguments.size());
 
-    org.apache.axis.types.Duration duration2 = getArgumentAsAnAxisDuration(1, arguments);
-    org.apache.axis.types.Duration duration3 = getArgumentAsAnAxisDuration(2, arguments);
-    org.apache.axis.types.Duration operationDuration = XSDTimeUtil.divideYearMonthDurations(duration2, duration3);
+    XSDDuration duration2 = getArgumentAsADuration(1, arguments);
+    double operand3 = getArgumentAsADouble(2, arguments);
 
-    return processResultArgument(arguments, 0, axisDuration2XSDDuration(operationDuration));
+    try {
+      return processResultArgument(arguments, 0, XSDTimeUtil.divideYearMonthDuration(duration2, operand3));
+    } catch (IllegalArgumentException e) {
+      throw new InvalidSWRLBuiltInArgumentException(2, e.getMessage() != null ? e.getMessage() : "", e);
+    }
   }
 
   /**
@@ -988,16 +998,16 @@ public class SWRLBuiltInLibraryImpl extends AbstractSWRLBuiltInLibrary
    */
   public boolean addDayTimeDurations(@NonNull List<@NonNull SWRLBuiltInArgument> arguments) throws SWRLBuiltInException
   {
-    org.apache.axis.types.Duration operationDuration = new org.apache.axis.types.Duration();
-
     checkNumberOfArgumentsAtLeast(3, arguments.size());
 
-    for (int i = 1; i < arguments.size(); i++) {
-      org.apache.axis.types.Duration duration = getArgumentAsAnAxisDuration(i, arguments);
+    XSDDuration operationDuration = getArgumentAsADuration(1, arguments);
+
+    for (int i = 2; i < arguments.size(); i++) {
+      XSDDuration duration = getArgumentAsADuration(i, arguments);
       operationDuration = XSDTimeUtil.addDayTimeDurations(operationDuration, duration);
     }
 
-    return processResultArgument(arguments, 0, axisDuration2XSDDuration(operationDuration));
+    return processResultArgument(arguments, 0, operationDuration);
   }
 
   /**
@@ -1010,11 +1020,11 @@ public class SWRLBuiltInLibraryImpl extends AbstractSWRLBuiltInLibrary
   {
     checkNumberOfArgumentsEqualTo(3, arguments.size());
 
-    org.apache.axis.types.Duration duration2 = getArgumentAsAnAxisDuration(1, arguments);
-    org.apache.axis.types.Duration duration3 = getArgumentAsAnAxisDuration(2, arguments);
-    org.apache.axis.types.Duration operationDuration = XSDTimeUtil.subtractDayTimeDurations(duration2, duration3);
+    XSDDuration duration2 = getArgumentAsADuration(1, arguments);
+    XSDDuration duration3 = getArgumentAsADuration(2, arguments);
+    XSDDuration operationDuration = XSDTimeUtil.subtractDayTimeDurations(duration2, duration3);
 
-    return processResultArgument(arguments, 0, axisDuration2XSDDuration(operationDuration));
+    return processResultArgument(arguments, 0, operationDuration);
   }
 
   /**
@@ -1027,11 +1037,14 @@ public class SWRLBuiltInLibraryImpl extends AbstractSWRLBuiltInLibrary
   {
     checkNumberOfArgumentsEqualTo(3, arguments.size());
 
-    org.apache.axis.types.Duration duration2 = getArgumentAsAnAxisDuration(1, arguments);
-    org.apache.axis.types.Duration duration3 = getArgumentAsAnAxisDuration(2, arguments);
-    org.apache.axis.types.Duration operationDuration = XSDTimeUtil.multiplyDayTimeDurations(duration2, duration3);
+    XSDDuration duration2 = getArgumentAsADuration(1, arguments);
+    double operand3 = getArgumentAsADouble(2, arguments);
 
-    return processResultArgument(arguments, 0, axisDuration2XSDDuration(operationDuration));
+    try {
+      return processResultArgument(arguments, 0, XSDTimeUtil.multiplyDayTimeDuration(duration2, operand3));
+    } catch (IllegalArgumentException e) {
+      throw new InvalidSWRLBuiltInArgumentException(2, e.getMessage() != null ? e.getMessage() : "", e);
+    }
   }
 
   /**
@@ -1044,11 +1057,14 @@ public class SWRLBuiltInLibraryImpl extends AbstractSWRLBuiltInLibrary
   {
     checkNumberOfArgumentsEqualTo(3, arguments.size());
 
-    org.apache.axis.types.Duration duration2 = getArgumentAsAnAxisDuration(1, arguments);
-    org.apache.axis.types.Duration duration3 = getArgumentAsAnAxisDuration(2, arguments);
-    org.apache.axis.types.Duration operationDuration = XSDTimeUtil.divideDayTimeDurations(duration2, duration3);
+    XSDDuration duration2 = getArgumentAsADuration(1, arguments);
+    double operand3 = getArgumentAsADouble(2, arguments);
 
-    return processResultArgument(arguments, 0, axisDuration2XSDDuration(operationDuration));
+    try {
+      return processResultArgument(arguments, 0, XSDTimeUtil.divideDayTimeDuration(duration2, operand3));
+    } catch (IllegalArgumentException e) {
+      throw new InvalidSWRLBuiltInArgumentException(2, e.getMessage() != null ? e.getMessage() : "", e);
+    }
   }
 
   /**
@@ -1060,11 +1076,11 @@ public class SWRLBuiltInLibraryImpl extends AbstractSWRLBuiltInLibrary
   {
     checkNumberOfArgumentsEqualTo(3, arguments.size());
 
-    java.util.Date date2 = getXSDDateArgumentAsAUtilDate(1, arguments);
-    java.util.Date date3 = getXSDDateArgumentAsAUtilDate(2, arguments);
-    org.apache.axis.types.Duration operationDuration = XSDTimeUtil.subtractDates(date2, date3);
+    XSDDate date2 = getArgumentAsADate(1, arguments);
+    XSDDate date3 = getArgumentAsADate(2, arguments);
+    XSDDuration operationDuration = XSDTimeUtil.subtractDates(date2, date3);
 
-    return processResultArgument(arguments, 0, axisDuration2XSDDuration(operationDuration));
+    return processResultArgument(arguments, 0, operationDuration);
   }
 
   /**
@@ -1076,11 +1092,11 @@ public class SWRLBuiltInLibraryImpl extends AbstractSWRLBuiltInLibrary
   {
     checkNumberOfArgumentsEqualTo(3, arguments.size());
 
-    org.apache.axis.types.Time time2 = getArgumentAsAnAxisTime(1, arguments);
-    org.apache.axis.types.Time time3 = getArgumentAsAnAxisTime(2, arguments);
-    org.apache.axis.types.Duration operationDuration = XSDTimeUtil.subtractTimes(time2, time3);
+    XSDTime time2 = getArgumentAsAnXSDTime(1, arguments);
+    XSDTime time3 = getArgumentAsAnXSDTime(2, arguments);
+    XSDDuration operationDuration = XSDTimeUtil.subtractTimes(time2, time3);
 
-    return processResultArgument(arguments, 0, axisDuration2XSDDuration(operationDuration));
+    return processResultArgument(arguments, 0, operationDuration);
   }
 
   /**
@@ -1093,11 +1109,14 @@ public class SWRLBuiltInLibraryImpl extends AbstractSWRLBuiltInLibrary
   {
     checkNumberOfArgumentsEqualTo(3, arguments.size());
 
-    java.util.Date date = getXSDDateTimeArgumentAsAUtilDate(1, arguments);
-    org.apache.axis.types.Duration duration = getArgumentAsAnAxisDuration(2, arguments);
-    java.util.Date operationUtilDate = XSDTimeUtil.addYearMonthDurationToUtilDate(date, duration);
+    XSDDateTime dateTime = getArgumentAsADateTime(1, arguments);
+    XSDDuration duration = getArgumentAsAYearMonthDuration(2, arguments);
 
-    return processResultArgument(arguments, 0, utilDate2XSDDateTime(operationUtilDate));
+    try {
+      return processResultArgument(arguments, 0, XSDTimeUtil.addDurationToDateTime(dateTime, duration));
+    } catch (DateTimeException | ArithmeticException e) {
+      throw new SWRLBuiltInException("xsd:dateTime out of range: " + e.getMessage(), e);
+    }
   }
 
   /**
@@ -1110,11 +1129,14 @@ public class SWRLBuiltInLibraryImpl extends AbstractSWRLBuiltInLibrary
   {
     checkNumberOfArgumentsEqualTo(3, arguments.size());
 
-    java.util.Date date = getXSDDateTimeArgumentAsAUtilDate(1, arguments);
-    org.apache.axis.types.Duration duration = getArgumentAsAnAxisDuration(2, arguments);
-    java.util.Date operationUtilDate = XSDTimeUtil.subtractYearMonthDurationFromUtilDate(date, duration);
+    XSDDateTime dateTime = getArgumentAsADateTime(1, arguments);
+    XSDDuration duration = getArgumentAsAYearMonthDuration(2, arguments);
 
-    return processResultArgument(arguments, 0, utilDate2XSDDateTime(operationUtilDate));
+    try {
+      return processResultArgument(arguments, 0, XSDTimeUtil.subtractDurationFromDateTime(dateTime, duration));
+    } catch (DateTimeException | ArithmeticException e) {
+      throw new SWRLBuiltInException("xsd:dateTime out of range: " + e.getMessage(), e);
+    }
   }
 
   /**
@@ -1127,11 +1149,14 @@ public class SWRLBuiltInLibraryImpl extends AbstractSWRLBuiltInLibrary
   {
     checkNumberOfArgumentsEqualTo(3, arguments.size());
 
-    java.util.Date date = getXSDDateTimeArgumentAsAUtilDate(1, arguments);
-    org.apache.axis.types.Duration duration = getArgumentAsAnAxisDuration(2, arguments);
-    java.util.Date operationUtilDate = XSDTimeUtil.addDayTimeDurationToUtilDate(date, duration);
+    XSDDateTime dateTime = getArgumentAsADateTime(1, arguments);
+    XSDDuration duration = getArgumentAsADayTimeDuration(2, arguments);
 
-    return processResultArgument(arguments, 0, utilDate2XSDDateTime(operationUtilDate));
+    try {
+      return processResultArgument(arguments, 0, XSDTimeUtil.addDurationToDateTime(dateTime, duration));
+    } catch (DateTimeException | ArithmeticException e) {
+      throw new SWRLBuiltInException("xsd:dateTime out of range: " + e.getMessage(), e);
+    }
   }
 
   /**
@@ -1144,11 +1169,14 @@ public class SWRLBuiltInLibraryImpl extends AbstractSWRLBuiltInLibrary
   {
     checkNumberOfArgumentsEqualTo(3, arguments.size());
 
-    java.util.Date date = getXSDDateTimeArgumentAsAUtilDate(1, arguments);
-    org.apache.axis.types.Duration duration = getArgumentAsAnAxisDuration(2, arguments);
-    java.util.Date operationUtilDate = XSDTimeUtil.subtractDayTimeDurationFromUtilDate(date, duration);
+    XSDDateTime dateTime = getArgumentAsADateTime(1, arguments);
+    XSDDuration duration = getArgumentAsADayTimeDuration(2, arguments);
 
-    return processResultArgument(arguments, 0, utilDate2XSDDateTime(operationUtilDate));
+    try {
+      return processResultArgument(arguments, 0, XSDTimeUtil.subtractDurationFromDateTime(dateTime, duration));
+    } catch (DateTimeException | ArithmeticException e) {
+      throw new SWRLBuiltInException("xsd:dateTime out of range: " + e.getMessage(), e);
+    }
   }
 
   /**
@@ -1161,11 +1189,14 @@ public class SWRLBuiltInLibraryImpl extends AbstractSWRLBuiltInLibrary
   {
     checkNumberOfArgumentsEqualTo(3, arguments.size());
 
-    java.util.Date date = getXSDDateArgumentAsAUtilDate(1, arguments);
-    org.apache.axis.types.Duration duration = getArgumentAsAnAxisDuration(2, arguments);
-    java.util.Date operationUtilDate = XSDTimeUtil.addYearMonthDurationToUtilDate(date, duration);
+    XSDDate date = getArgumentAsADate(1, arguments);
+    XSDDuration duration = getArgumentAsAYearMonthDuration(2, arguments);
 
-    return processResultArgument(arguments, 0, utilDate2XSDDate(operationUtilDate));
+    try {
+      return processResultArgument(arguments, 0, XSDTimeUtil.addDurationToDate(date, duration));
+    } catch (DateTimeException | ArithmeticException e) {
+      throw new SWRLBuiltInException("xsd:date out of range: " + e.getMessage(), e);
+    }
   }
 
   /**
@@ -1178,11 +1209,14 @@ public class SWRLBuiltInLibraryImpl extends AbstractSWRLBuiltInLibrary
   {
     checkNumberOfArgumentsEqualTo(3, arguments.size());
 
-    java.util.Date date = getXSDDateArgumentAsAUtilDate(1, arguments);
-    org.apache.axis.types.Duration duration = getArgumentAsAnAxisDuration(2, arguments);
-    java.util.Date operationUtilDate = XSDTimeUtil.subtractYearMonthDurationFromUtilDate(date, duration);
+    XSDDate date = getArgumentAsADate(1, arguments);
+    XSDDuration duration = getArgumentAsAYearMonthDuration(2, arguments);
 
-    return processResultArgument(arguments, 0, utilDate2XSDDate(operationUtilDate));
+    try {
+      return processResultArgument(arguments, 0, XSDTimeUtil.subtractDurationFromDate(date, duration));
+    } catch (DateTimeException | ArithmeticException e) {
+      throw new SWRLBuiltInException("xsd:date out of range: " + e.getMessage(), e);
+    }
   }
 
   /**
@@ -1195,11 +1229,14 @@ public class SWRLBuiltInLibraryImpl extends AbstractSWRLBuiltInLibrary
   {
     checkNumberOfArgumentsEqualTo(3, arguments.size());
 
-    java.util.Date date = getXSDDateArgumentAsAUtilDate(1, arguments);
-    org.apache.axis.types.Duration duration = getArgumentAsAnAxisDuration(2, arguments);
-    java.util.Date operationUtilDate = XSDTimeUtil.addDayTimeDurationToUtilDate(date, duration);
+    XSDDate date = getArgumentAsADate(1, arguments);
+    XSDDuration duration = getArgumentAsADayTimeDuration(2, arguments);
 
-    return processResultArgument(arguments, 0, utilDate2XSDDate(operationUtilDate));
+    try {
+      return processResultArgument(arguments, 0, XSDTimeUtil.addDurationToDate(date, duration));
+    } catch (DateTimeException | ArithmeticException e) {
+      throw new SWRLBuiltInException("xsd:date out of range: " + e.getMessage(), e);
+    }
   }
 
   /**
@@ -1212,11 +1249,14 @@ public class SWRLBuiltInLibraryImpl extends AbstractSWRLBuiltInLibrary
   {
     checkNumberOfArgumentsEqualTo(3, arguments.size());
 
-    java.util.Date date = getXSDDateArgumentAsAUtilDate(1, arguments);
-    org.apache.axis.types.Duration duration = getArgumentAsAnAxisDuration(2, arguments);
-    java.util.Date operationUtilDate = XSDTimeUtil.subtractDayTimeDurationFromUtilDate(date, duration);
+    XSDDate date = getArgumentAsADate(1, arguments);
+    XSDDuration duration = getArgumentAsADayTimeDuration(2, arguments);
 
-    return processResultArgument(arguments, 0, utilDate2XSDDate(operationUtilDate));
+    try {
+      return processResultArgument(arguments, 0, XSDTimeUtil.subtractDurationFromDate(date, duration));
+    } catch (DateTimeException | ArithmeticException e) {
+      throw new SWRLBuiltInException("xsd:date out of range: " + e.getMessage(), e);
+    }
   }
 
   /**
@@ -1229,11 +1269,10 @@ public class SWRLBuiltInLibraryImpl extends AbstractSWRLBuiltInLibrary
   {
     checkNumberOfArgumentsEqualTo(3, arguments.size());
 
-    org.apache.axis.types.Time time = getArgumentAsAnAxisTime(1, arguments);
-    org.apache.axis.types.Duration duration = getArgumentAsAnAxisDuration(2, arguments);
-    org.apache.axis.types.Time operationTime = XSDTimeUtil.addDayTimeDurationToTime(time, duration);
+    XSDTime time = getArgumentAsAnXSDTime(1, arguments);
+    XSDDuration duration = getArgumentAsADayTimeDuration(2, arguments);
 
-    return processResultArgument(arguments, 0, axisTime2XSDTime(operationTime));
+    return processResultArgument(arguments, 0, XSDTimeUtil.addDurationToTime(time, duration));
   }
 
   /**
@@ -1246,11 +1285,10 @@ public class SWRLBuiltInLibraryImpl extends AbstractSWRLBuiltInLibrary
   {
     checkNumberOfArgumentsEqualTo(3, arguments.size());
 
-    org.apache.axis.types.Time time = getArgumentAsAnAxisTime(1, arguments);
-    org.apache.axis.types.Duration duration = getArgumentAsAnAxisDuration(2, arguments);
-    org.apache.axis.types.Time operationTime = XSDTimeUtil.subtractDayTimeDurationFromTime(time, duration);
+    XSDTime time = getArgumentAsAnXSDTime(1, arguments);
+    XSDDuration duration = getArgumentAsADayTimeDuration(2, arguments);
 
-    return processResultArgument(arguments, 0, axisTime2XSDTime(operationTime));
+    return processResultArgument(arguments, 0, XSDTimeUtil.subtractDurationFromTime(time, duration));
   }
 
   /**
@@ -1261,12 +1299,17 @@ public class SWRLBuiltInLibraryImpl extends AbstractSWRLBuiltInLibrary
   public boolean subtractDateTimesYieldingYearMonthDuration(@NonNull List<@NonNull SWRLBuiltInArgument> arguments)
     throws SWRLBuiltInException
   {
-    java.util.Date date1 = getXSDDateTimeArgumentAsAUtilDate(1, arguments);
-    java.util.Date date2 = getXSDDateTimeArgumentAsAUtilDate(2, arguments);
-    org.apache.axis.types.Duration operationDuration = XSDTimeUtil
-      .subtractUtilDatesYieldingYearMonthDuration(date1, date2);
+    checkNumberOfArgumentsEqualTo(3, arguments.size());
+
+    XSDDateTime dateTime1 = getArgumentAsADateTime(1, arguments);
+    XSDDateTime dateTime2 = getArgumentAsADateTime(2, arguments);
 
-    return processResultArgument(arguments, 0, axisDuration2XSDDuration(operationDuration));
+    try {
+      return processResultArgument(arguments, 0,
+        XSDTimeUtil.subtractDateTimesYieldingYearMonthDuration(dateTime1, dateTime2));
+    } catch (ArithmeticException e) {
+      throw new SWRLBuiltInException("xsd:duration out of range: " + e.getMessage(), e);
+    }
   }
 
   /**
@@ -1277,12 +1320,17 @@ public class SWRLBuiltInLibraryImpl extends AbstractSWRLBuiltInLibrary
   public boolean subtractDateTimesYieldingDayTimeDuration(@NonNull List<@NonNull SWRLBuiltInArgument> arguments)
     throws SWRLBuiltInException
   {
-    java.util.Date date1 = getXSDDateTimeArgumentAsAUtilDate(1, arguments);
-    java.util.Date date2 = getXSDDateTimeArgumentAsAUtilDate(2, arguments);
-    org.apache.axis.types.Duration operationDuration = XSDTimeUtil
-      .subtractUtilDatesYieldingDayTimeDuration(date1, date2);
+    checkNumberOfArgumentsEqualTo(3, arguments.size());
 
-    return processResultArgument(arguments, 0, axisDuration2XSDDuration(operationDuration));
+    XSDDateTime dateTime1 = getArgumentAsADateTime(1, arguments);
+    XSDDateTime dateTime2 = getArgumentAsADateTime(2, arguments);
+
+    try {
+      return processResultArgument(arguments, 0,
+        XSDTimeUtil.subtractDateTimesYieldingDayTimeDuration(dateTime1, dateTime2));
+    } catch (ArithmeticException e) {
+      throw new SWRLBuiltInException("xsd:duration out of range: " + e.getMessage(), e);
+    }
   }
 
   // Built-ins for URIs
@@ -1409,10 +1457,10 @@ public class SWRLBuiltInLibraryImpl extends AbstractSWRLBuiltInLibrary
 
     checkThatAllArgumentsAreNumeric(arguments);
 
-    OWLLiteral literal1 = getArgumentAsAnOWLLiteral(argument1Index, arguments);
-    OWLLiteral literal2 = getArgumentAsAnOWLLiteral(argument2Index, arguments);
+    Literal literal1 = getArgumentAsALiteral(argument1Index, arguments);
+    Literal literal2 = getArgumentAsALiteral(argument2Index, arguments);
 
-    return OWLLiteralComparator.COMPARATOR.compare(literal1, literal2);
+    return OWLLiteralComparator.compareLiterals(literal1, literal2);
   }
 
   private boolean mathOperation(@NonNull String builtInName, @NonNull List<@NonNull SWRLBuiltInArgument> arguments)
@@ -1516,86 +1564,60 @@ public class SWRLBuiltInLibraryImpl extends AbstractSWRLBuiltInLibrary
       return (argument1.equals(operationResult));
   }
 
-  private org.apache.axis.types.Duration getArgumentAsAnAxisDuration(int argumentNumber,
+  @NonNull private XSDDuration getArgumentAsAYearMonthDuration(int argumentNumber,
     @NonNull List<@NonNull SWRLBuiltInArgument> arguments) throws SWRLBuiltInException
   {
-    try {
-      XSDDuration duration = getArgumentAsADuration(argumentNumber, arguments);
-      return XSDTimeUtil.xsdDuration2AxisDuration(duration);
-    } catch (IllegalArgumentException e) {
-      throw new SWRLBuiltInException("invalid xsd:duration " + arguments.get(argumentNumber) + ": " + e.getMessage(),
-        e);
-    }
-  }
+    XSDDuration duration = getArgumentAsADuration(argumentNumber, arguments);
 
-  private java.util.Date getXSDDateArgumentAsAUtilDate(int argumentNumber,
-    @NonNull List<@NonNull SWRLBuiltInArgument> arguments) throws SWRLBuiltInException
-  {
-    try {
-      XSDDate date = getArgumentAsADate(argumentNumber, arguments);
-      return XSDTimeUtil.xsdDate2UtilDate(date);
-    } catch (IllegalArgumentException e) {
-      throw new SWRLBuiltInException("invalid xsd:date " + arguments.get(argumentNumber) + ": " + e.getMessage(), e);
-    }
+    if (!duration.getDayTimeDuration().isZero())
+      throw new InvalidSWRLBuiltInArgumentException(argumentNumber,
+        "expecting a year-month duration, got " + duration.getContent());
+
+    return duration;
   }
 
-  private java.util.Date getXSDDateTimeArgumentAsAUtilDate(int argumentNumber,
+  @NonNull private XSDDuration getArgumentAsADayTimeDuration(int argumentNumber,
     @NonNull List<@NonNull SWRLBuiltInArgument> arguments) throws SWRLBuiltInException
   {
-    try {
-      XSDDateTime dateTime = getArgumentAsADateTime(argumentNumber, arguments);
-      return XSDTimeUtil.xsdDateTime2UtilDate(dateTime);
-    } catch (IllegalArgumentException e) {
-      throw new SWRLBuiltInException("invalid xsd:dateTime " + arguments.get(argumentNumber) + ": " + e.getMessage(),
-        e);
-    }
+    XSDDuration duration = getArgumentAsADuration(argumentNumber, arguments);
+
+    if (!duration.getYearMonthPeriod().isZero())
+      throw new InvalidSWRLBuiltInArgumentException(argumentNumber,
+        "expecting a day-time duration, got " + duration.getContent());
+
+    return duration;
   }
 
-  private org.apache.axis.types.Time getArgumentAsAnAxisTime(int argumentNumber,
+  /**
+   * Times may also be supplied as strings.
+   */
+  @NonNull private XSDTime getArgumentAsAnXSDTime(int argumentNumber,
     @NonNull List<@NonNull SWRLBuiltInArgument> arguments) throws SWRLBuiltInException
   {
+    if (isArgumentATime(argumentNumber, arguments))
+      return getArgumentAsATime(argumentNumber, arguments);
+
     String time = getArgumentAsAString(argumentNumber, arguments);
 
     try {
-      return XSDTimeUtil.xsdTimeString2AxisTime(time);
-    } catch (NumberFormatException e) {
+      return new XSDTime(time);
+    } catch (IllegalArgumentException e) {
       throw new SWRLBuiltInException("invalid xsd:time " + time + ": " + e.getMessage(), e);
     }
   }
 
-  @NonNull private XSDDate utilDate2XSDDate(java.util.Date utilDate)
-  {
-    return new XSDDate(XSDTimeUtil.utilDate2XSDDateString(utilDate));
-  }
-
-  @NonNull private XSDDate dateString2XSDDate(@NonNull String date)
-  {
-    return new XSDDate(date);
-  }
-
-  @NonNull private XSDDateTime utilDate2XSDDateTime(java.util.@NonNull Date utilDate)
-  {
-    return new XSDDateTime(XSDTimeUtil.utilDate2XSDDateTimeString(utilDate));
-  }
-
-  @NonNull private XSDDateTime dateTimeString2XSDDateTime(@NonNull String dateTime)
-  {
-    return new XSDDateTime(dateTime);
-  }
-
-  @NonNull private XSDDuration axisDuration2XSDDuration(org.apache.axis.types.@NonNull Duration duration)
-  {
-    return new XSDDuration(duration.toString());
-  }
-
-  @NonNull private XSDTime axisTime2XSDTime(org.apache.axis.types.@NonNull Time time)
+  /**
+   * @param timeZone A time zone offset such as <code>Z</code> or <code>-05:00</code>, a region such as
+   *                 <code>Europe/Dublin</code>, or an empty string for no time zone
+   * @param dateTime The local date time at which a region's offset is determined
+   * @return The offset; null if no time zone was given
+   */
+  @Nullable private ZoneOffset getZoneOffset(@NonNull String timeZone, @NonNull LocalDateTime dateTime)
   {
-    return new XSDTime(time.toString());
-  }
+    if (timeZone.isEmpty())
+      return null;
 
-  @NonNull private XSDTime timeString2XSDTime(@NonNull String time)
-  {
-    return new XSDTime(time);
+    return ZoneId.of(timeZone).getRules().getOffset(dateTime);
   }
 
   @Nullable private String substringAfter(@Nullable String str, @Nullable String separator)
@@ -2,8 +2,6 @@ package org.swrlapi.builtins.temporal;
 
 import org.checkerframework.checker.nullness.qual.NonNull;
 
-import java.text.ParsePosition;
-import java.text.SimpleDateFormat;
 import java.util.StringTokenizer;
 
 /**
@@ -12,8 +10,8 @@ import java.util.StringTokenizer;
  */
 abstract class DatetimeStringProcessor
 {
-  @NonNull private final SimpleDateFormat dateFormat;
   @NonNull private final String delimiters;
+  private final char dateTimeSeparator;
 
   // The number of tokens (including delimeters) necessary to strip a datetime to the specified granularity
   @NonNull private final int[] gTokenIndex;
@@ -22,26 +20,24 @@ abstract class DatetimeStringProcessor
   @NonNull private final String datetimeRoundUpPadding[]; // Padding for a partially specified datetime
 
   /**
-   * @param dateFormat               A date format
    * @param delimiters               Delimiters
+   * @param dateTimeSeparator        Separator between the date and time parts of a full-specification datetime
    * @param gTokenIndex              Indices of granularity tokens
    * @param datetimeRoundDownPadding Padding for rounding down
    * @param datetimeRoundUpPadding   Padding for rounding up
    */
-  DatetimeStringProcessor(@NonNull SimpleDateFormat dateFormat, @NonNull String delimiters, @NonNull int gTokenIndex[],
+  DatetimeStringProcessor(@NonNull String delimiters, char dateTimeSeparator, @NonNull int gTokenIndex[],
     @NonNull String datetimeRoundDownPadding[], @NonNull String datetimeRoundUpPadding[])
   {
-    this.dateFormat = dateFormat;
     this.delimiters = delimiters;
+    this.dateTimeSeparator = dateTimeSeparator;
     this.gTokenIndex = gTokenIndex.clone();
     this.datetimeRoundUpPadding = datetimeRoundUpPadding.clone();
     this.datetimeRoundDownPadding = datetimeRoundDownPadding.clone();
   }
 
-  @NonNull protected abstract String constructDatetimeStringFromMillisecondsFrom1970Count(long milliseconds);
-
   /**
-   * Take a granule count (from the beginning of calendar time, i.e., January 1st 1 C.E) at any granularity and convert
+   * Take a granule count (from the beginning of calendar time, i.e., January 1st 0000) at any granularity and convert
    * it to a datetime string.
    */
   @NonNull public String granuleCount2DatetimeString(long granuleCount, int granularity) throws TemporalException
@@ -49,11 +45,33 @@ abstract class DatetimeStringProcessor
     Temporal.checkGranularity(granularity);
 
     long granuleCountInMilliSeconds = Temporal.convertGranuleCount(granuleCount, granularity, Temporal.MILLISECONDS);
+    int[] timeComponents = Temporal.granuleCountInMilliseconds2TimeComponents(granuleCountInMilliSeconds);
+    StringBuilder sb = new StringBuilder(23);
+
+    appendZeroPadded(sb, timeComponents[Temporal.YEARS], 4);
+    sb.append('-');
+    appendZeroPadded(sb, timeComponents[Temporal.MONTHS], 2);
+    sb.append('-');
+    appendZeroPadded(sb, timeComponents[Temporal.DAYS], 2);
+    sb.append(this.dateTimeSeparator);
+    appendZeroPadded(sb, timeComponents[Temporal.HOURS], 2);
+    sb.append(':');
+    appendZeroPadded(sb, timeComponents[Temporal.MINUTES], 2);
+    sb.append(':');
+    appendZeroPadded(sb, timeComponents[Temporal.SECONDS], 2);
+    sb.append('.');
+    appendZeroPadded(sb, timeComponents[Temporal.MILLISECONDS], 3);
+
+    return sb.toString();
+  }
 
-    // The java.sql.Timestamp constructor will correctly deal with negative milliseconds.
+  private static void appendZeroPadded(@NonNull StringBuilder sb, int value, int width)
+  {
+    String digits = Integer.toString(value);
 
-    return constructDatetimeStringFromMillisecondsFrom1970Count(
-      granuleCountInMilliSeconds - Temporal.MillisecondsTo1970); // Call subclass.
+    for (int i = digits.length(); i < width; i++)
+      sb.append('0');
+    sb.append(digits);
   }
 
   /**
@@ -79,11 +97,7 @@ abstract class DatetimeStringProcessor
 
   private void checkDatetimeString(@NonNull String datetimeString) throws TemporalException
   {
-    String localDatetimeString = datetimeString.trim();
-    java.util.Date date = this.dateFormat.parse(localDatetimeString, new ParsePosition(0));
-
-    if (date == null)
-      Temporal.throwInvalidDatetimeStringException(datetimeString);
+    getTimeComponents(datetimeString);
   }
 
   /**
@@ -241,33 +255,88 @@ abstract class DatetimeStringProcessor
     return getTimeComponent(datetimeString, Temporal.MILLISECONDS);
   }
 
-  private int getTimeComponent(@NonNull String datetimeString, int granularity) throws TemporalException
+  /**
+   * Extract all components of a full-specification datetime string in a single pass. The components are indexed by
+   * granularity. The millisecond component is read as a fraction of a second, e.g., '.5' is 500 milliseconds.
+   */
+  @NonNull public int[] getTimeComponents(@NonNull String datetimeString) throws TemporalException
   {
-    StringTokenizer tokenizer;
-    int result = -1;
-    int numberOfTokens;
+    int[] timeComponents = new int[Temporal.NUMBER_OF_GRANULARITIES];
 
-    Temporal.checkGranularity(granularity);
+    if (parseTimeComponents(datetimeString, timeComponents) < Temporal.NUMBER_OF_GRANULARITIES)
+      Temporal.throwInvalidDatetimeStringException(datetimeString);
 
-    tokenizer = new StringTokenizer(datetimeString, this.delimiters, true); // Return all tokens including delimiters.
-    numberOfTokens = tokenizer.countTokens();
+    return timeComponents;
+  }
 
-    if (numberOfTokens == 0)
-      Temporal.throwInvalidDatetimeStringException(datetimeString);
+  private int getTimeComponent(@NonNull String datetimeString, int granularity) throws TemporalException
+  {
+    int[] timeComponents = new int[Temporal.NUMBER_OF_GRANULARITIES];
+
+    Temporal.checkGranularity(granularity);
 
-    if (numberOfTokens < this.gTokenIndex[granularity])
+    if (parseTimeComponents(datetimeString, timeComponents) <= granularity)
       throw new TemporalException(
         "cannot extract " + Temporal.getStringGranularityRepresentation(granularity) + " from incomplete datetime "
           + datetimeString);
 
-    try {
-      int i = 1;
-      while (i++ < this.gTokenIndex[granularity])
-        tokenizer.nextToken();
-      return new Integer(tokenizer.nextToken());
-    } catch (Exception e) {
-      Temporal.throwInvalidDatetimeStringException(datetimeString);
+    return timeComponents[granularity];
+  }
+
+  /**
+   * Parse the leading components of a possibly partial datetime string, stopping after milliseconds. Anything following
+   * the millisecond component, such as a time zone designator, is ignored.
+   *
+   * @return The number of components parsed
+   */
+  private int parseTimeComponents(@NonNull String datetimeString, @NonNull int[] timeComponents)
+    throws TemporalException
+  {
+    int length = datetimeString.length();
+    int position = 0;
+    int numberOfComponents = 0;
+
+    while (position < length && Character.isWhitespace(datetimeString.charAt(position)))
+      position++;
+    while (length > position && Character.isWhitespace(datetimeString.charAt(length - 1)))
+      length--;
+
+    while (position < length && numberOfComponents < Temporal.NUMBER_OF_GRANULARITIES) {
+      if (numberOfComponents > 0) { // Expect a single delimiter between components
+        if (this.delimiters.indexOf(datetimeString.charAt(position)) == -1)
+          Temporal.throwInvalidDatetimeStringException(datetimeString);
+        position++;
+        if (position == length)
+          break;
+      }
+
+      int value = 0, digits = 0;
+      char c;
+      while (position < length && (c = datetimeString.charAt(position)) >= '0' && c <= '9') {
+        if (numberOfComponents == Temporal.MILLISECONDS) { // Fraction of a second
+          if (digits < 3)
+            value = value * 10 + (c - '0');
+        } else if (digits < 9)
+          value = value * 10 + (c - '0');
+        else
+          Temporal.throwInvalidDatetimeStringException(datetimeString);
+        digits++;
+        position++;
+      }
+
+      if (digits == 0)
+        Temporal.throwInvalidDatetimeStringException(datetimeString);
+
+      if (numberOfComponents == Temporal.MILLISECONDS)
+        for (int i = digits; i < 3; i++)
+          value *= 10;
+
+      timeComponents[numberOfComponents++] = value;
     }
-    return result;
+
+    if (numberOfComponents == 0)
+      Temporal.throwInvalidDatetimeStringException(datetimeString);
+
+    return numberOfComponents;
   }
 }
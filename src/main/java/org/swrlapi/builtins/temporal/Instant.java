@@ -77,20 +77,13 @@ class Instant
 
   public Instant(@NonNull Temporal t, @NonNull String datetimeString, int g, boolean roundUp) throws TemporalException
   {
-    String localDatetimeString;
+    this.temporal = t;
+    this.granularity = g;
 
     if (datetimeString.equals("now"))
-      localDatetimeString = t.getNowDatetimeString();
+      this.granuleCount = t.getNowGranuleCount(g);
     else
-      localDatetimeString = datetimeString.trim();
-
-    localDatetimeString = t.normalizeDatetimeString(localDatetimeString, g, roundUp);
-
-    localDatetimeString = t.expressDatetimeStringAtGranularity(localDatetimeString, g);
-
-    this.temporal = t;
-    this.granularity = g;
-    this.granuleCount = t.datetimeString2GranuleCount(localDatetimeString, g);
+      this.granuleCount = t.datetimeString2GranuleCount(datetimeString.trim(), g, roundUp);
 
     for (int i = 0; i < Temporal.NUMBER_OF_GRANULARITIES; i++)
       this.granuleCountArray[i] = -1;
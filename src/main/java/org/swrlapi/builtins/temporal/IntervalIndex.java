@@ -0,0 +1,319 @@
+package org.swrlapi.builtins.temporal;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+
+/**
+ * An index over intervals of granule counts that finds the intervals standing in an Allen relation to a query interval
+ * without comparing the query against every indexed interval. The semantics of each relation match those of the
+ * corresponding temporal built-in, so a rule engine can use the index to generate candidate bindings for a built-in
+ * instead of enumerating all pairs of intervals.
+ * <p>
+ * Intervals are held sorted by start and then finish, together with an implicit tree recording the smallest and largest
+ * finish of each range of entries. Each relation is translated into a range of starts and a range of finishes; the
+ * range of starts is located by binary search and the tree prunes entries whose finish falls outside the range of
+ * finishes. Joining two indexes of n intervals therefore takes O(n log n + k) time for k matching pairs for the
+ * relations that fix one end point and close to that for the rest.
+ * <p>
+ * Intervals may be added at any time; the index is rebuilt on the first query after an addition. Queries may run
+ * concurrently with each other but not with additions.
+ *
+ * @see org.swrlapi.builtins.temporal.SWRLBuiltInLibraryImpl#getValidTimeIndex(String)
+ */
+public class IntervalIndex<T>
+{
+  /**
+   * The Allen relations supported by the temporal built-ins. A relation holds between an indexed interval and a query
+   * interval in that order, e.g., {@link #BEFORE} finds the indexed intervals that are before the query interval.
+   */
+  public enum Relation
+  {
+    EQUALS("equals"), BEFORE("before"), AFTER("after"), MEETS("meets"), MET_BY("metBy"), OVERLAPS("overlaps"),
+    OVERLAPPED_BY("overlappedBy"), CONTAINS("contains"), DURING("during"), STARTS("starts"), STARTED_BY("startedBy"),
+    FINISHES("finishes"), FINISHED_BY("finishedBy"), INTERSECTS("intersects");
+
+    @NonNull private final String builtInName;
+
+    Relation(@NonNull String builtInName)
+    {
+      this.builtInName = builtInName;
+    }
+
+    /**
+     * @return The unprefixed name of the temporal built-in testing this relation
+     */
+    @NonNull public String getBuiltInName()
+    {
+      return this.builtInName;
+    }
+
+    /**
+     * @param builtInName A temporal built-in name, with or without a prefix
+     * @return The relation tested by the built-in or null if it does not test an Allen relation
+     */
+    @Nullable public static Relation forBuiltInName(@NonNull String builtInName)
+    {
+      String localName = builtInName.substring(builtInName.indexOf(':') + 1);
+
+      for (Relation relation : values())
+        if (relation.builtInName.equals(localName))
+          return relation;
+
+      return null;
+    }
+  }
+
+  @NonNull private final List<@NonNull T> keys;
+  @NonNull private long[] starts;
+  @NonNull private long[] finishes;
+
+  // Entries sorted by start and then finish, and the tree over them; rebuilt when intervals are added.
+  private boolean built;
+  @NonNull private Object[] sortedKeys;
+  @NonNull private long[] sortedStarts;
+  @NonNull private long[] sortedFinishes;
+  @NonNull private long[] minimumFinishes;
+  @NonNull private long[] maximumFinishes;
+
+  public IntervalIndex()
+  {
+    this.keys = new ArrayList<>();
+    this.starts = new long[16];
+    this.finishes = new long[16];
+    this.built = true;
+    this.sortedKeys = new Object[0];
+    this.sortedStarts = new long[0];
+    this.sortedFinishes = new long[0];
+    this.minimumFinishes = new long[0];
+    this.maximumFinishes = new long[0];
+  }
+
+  /**
+   * @param key    The key identifying the interval
+   * @param start  The granule count of the start of the interval
+   * @param finish The granule count of the finish of the interval
+   * @throws IllegalArgumentException If the start is after the finish
+   */
+  public synchronized void add(@NonNull T key, long start, long finish)
+  {
+    if (start > finish)
+      throw new IllegalArgumentException("start " + start + " of interval " + key + " is after finish " + finish);
+
+    int size = this.keys.size();
+
+    if (size == this.starts.length) {
+      this.starts = Arrays.copyOf(this.starts, size * 2);
+      this.finishes = Arrays.copyOf(this.finishes, size * 2);
+    }
+
+    this.keys.add(key);
+    this.starts[size] = start;
+    this.finishes[size] = finish;
+    this.built = false;
+  }
+
+  public synchronized int size()
+  {
+    return this.keys.size();
+  }
+
+  /**
+   * @param relation The relation that indexed intervals must have to the query interval
+   * @param start    The granule count of the start of the query interval
+   * @param finish   The granule count of the finish of the query interval
+   * @return The keys of the matching intervals
+   */
+  @NonNull public List<@NonNull T> find(@NonNull Relation relation, long start, long finish)
+  {
+    List<@NonNull T> result = new ArrayList<>();
+
+    find(relation, start, finish, result::add);
+
+    return result;
+  }
+
+  /**
+   * @param relation The relation that indexed intervals must have to the query interval
+   * @param start    The granule count of the start of the query interval
+   * @param finish   The granule count of the finish of the query interval
+   * @param consumer Receives the key of each matching interval
+   */
+  public void find(@NonNull Relation relation, long start, long finish, @NonNull Consumer<? super T> consumer)
+  {
+    build();
+
+    switch (relation) {
+    case EQUALS:
+      find(start, start, finish, finish, consumer);
+      break;
+    case BEFORE:
+      find(Long.MIN_VALUE, Long.MAX_VALUE, Long.MIN_VALUE, start - 1, consumer);
+      break;
+    case AFTER:
+      find(finish + 1, Long.MAX_VALUE, Long.MIN_VALUE, Long.MAX_VALUE, consumer);
+      break;
+    case MEETS:
+      find(Long.MIN_VALUE, Long.MAX_VALUE, start - 1, start - 1, consumer);
+      break;
+    case MET_BY:
+      find(finish + 1, finish + 1, Long.MIN_VALUE, Long.MAX_VALUE, consumer);
+      break;
+    case OVERLAPS:
+      find(Long.MIN_VALUE, start, start, finish, consumer);
+      break;
+    case OVERLAPPED_BY:
+      find(start, finish, finish, Long.MAX_VALUE, consumer);
+      break;
+    case CONTAINS:
+      find(Long.MIN_VALUE, start, finish, Long.MAX_VALUE, consumer);
+      break;
+    case DURING: // Contained by the query interval but not equal to it
+      find(start, start, Long.MIN_VALUE, finish - 1, consumer);
+      find(start + 1, finish, Long.MIN_VALUE, finish, consumer);
+      break;
+    case STARTS:
+      find(start, start, Long.MIN_VALUE, finish - 1, consumer);
+      break;
+    case STARTED_BY:
+      find(start, start, finish + 1, Long.MAX_VALUE, consumer);
+      break;
+    case FINISHES:
+      find(Long.MIN_VALUE, start - 1, finish, finish, consumer);
+      break;
+    case FINISHED_BY:
+      find(start + 1, Long.MAX_VALUE, finish, finish, consumer);
+      break;
+    case INTERSECTS: // Same start, or one interval starts strictly inside the other
+      find(start, start, Long.MIN_VALUE, Long.MAX_VALUE, consumer);
+      find(Long.MIN_VALUE, start - 1, start + 1, Long.MAX_VALUE, consumer);
+      find(start + 1, finish - 1, Long.MIN_VALUE, Long.MAX_VALUE, consumer);
+      break;
+    default:
+      throw new IllegalArgumentException("unknown relation " + relation);
+    }
+  }
+
+  /**
+   * Find all pairs of intervals from this index and another index that stand in the specified relation.
+   *
+   * @param relation The relation that intervals from this index must have to intervals from the other index
+   * @param other    The other index
+   * @param consumer Receives the keys of each matching pair
+   */
+  public <U> void join(@NonNull Relation relation, @NonNull IntervalIndex<U> other,
+    @NonNull BiConsumer<? super T, ? super U> consumer)
+  {
+    other.build();
+
+    for (int i = 0; i < other.sortedKeys.length; i++) {
+      @SuppressWarnings("unchecked") U otherKey = (U)other.sortedKeys[i];
+
+      find(relation, other.sortedStarts[i], other.sortedFinishes[i], key -> consumer.accept(key, otherKey));
+    }
+  }
+
+  // Report entries whose start is in [minimumStart, maximumStart] and whose finish is in [minimumFinish, maximumFinish]
+  private void find(long minimumStart, long maximumStart, long minimumFinish, long maximumFinish,
+    @NonNull Consumer<? super T> consumer)
+  {
+    // An interval never finishes before it starts, which narrows both ranges
+    long effectiveMaximumStart = Math.min(maximumStart, maximumFinish);
+    long effectiveMinimumFinish = Math.max(minimumFinish, minimumStart);
+
+    if (minimumStart > effectiveMaximumStart || effectiveMinimumFinish > maximumFinish || this.sortedKeys.length == 0)
+      return;
+
+    int from = firstStartNotBefore(minimumStart);
+    int to = effectiveMaximumStart == Long.MAX_VALUE ?
+      this.sortedStarts.length :
+      firstStartNotBefore(effectiveMaximumStart + 1);
+
+    if (from < to)
+      search(1, 0, this.sortedKeys.length, from, to, effectiveMinimumFinish, maximumFinish, consumer);
+  }
+
+  private void search(int node, int low, int high, int from, int to, long minimumFinish, long maximumFinish,
+    @NonNull Consumer<? super T> consumer)
+  {
+    if (high <= from || to <= low || this.maximumFinishes[node] < minimumFinish
+      || this.minimumFinishes[node] > maximumFinish)
+      return;
+
+    if (high - low == 1) {
+      @SuppressWarnings("unchecked") T key = (T)this.sortedKeys[low];
+      consumer.accept(key);
+    } else {
+      int middle = (low + high) >>> 1;
+      search(2 * node, low, middle, from, to, minimumFinish, maximumFinish, consumer);
+      search(2 * node + 1, middle, high, from, to, minimumFinish, maximumFinish, consumer);
+    }
+  }
+
+  private int firstStartNotBefore(long start)
+  {
+    int low = 0, high = this.sortedStarts.length;
+
+    while (low < high) {
+      int middle = (low + high) >>> 1;
+      if (this.sortedStarts[middle] < start)
+        low = middle + 1;
+      else
+        high = middle;
+    }
+    return low;
+  }
+
+  private synchronized void build()
+  {
+    if (this.built)
+      return;
+
+    int size = this.keys.size();
+    Integer[] order = new Integer[size];
+
+    for (int i = 0; i < size; i++)
+      order[i] = i;
+
+    Arrays.sort(order, (i1, i2) -> this.starts[i1] != this.starts[i2] ?
+      Long.compare(this.starts[i1], this.starts[i2]) :
+      Long.compare(this.finishes[i1], this.finishes[i2]));
+
+    this.sortedKeys = new Object[size];
+    this.sortedStarts = new long[size];
+    this.sortedFinishes = new long[size];
+
+    for (int i = 0; i < size; i++) {
+      this.sortedKeys[i] = this.keys.get(order[i]);
+      this.sortedStarts[i] = this.starts[order[i]];
+      this.sortedFinishes[i] = this.finishes[order[i]];
+    }
+
+    this.minimumFinishes = new long[Math.max(4 * size, 1)];
+    this.maximumFinishes = new long[Math.max(4 * size, 1)];
+
+    if (size != 0)
+      buildTree(1, 0, size);
+
+    this.built = true;
+  }
+
+  private void buildTree(int node, int low, int high)
+  {
+    if (high - low == 1) {
+      this.minimumFinishes[node] = this.sortedFinishes[low];
+      this.maximumFinishes[node] = this.sortedFinishes[low];
+    } else {
+      int middle = (low + high) >>> 1;
+      buildTree(2 * node, low, middle);
+      buildTree(2 * node + 1, middle, high);
+      this.minimumFinishes[node] = Math.min(this.minimumFinishes[2 * node], this.minimumFinishes[2 * node + 1]);
+      this.maximumFinishes[node] = Math.max(this.maximumFinishes[2 * node], this.maximumFinishes[2 * node + 1]);
+    }
+  }
+}
@@ -1,14 +1,10 @@
 package org.swrlapi.builtins.temporal;
 
-import java.sql.Timestamp;
-import java.text.SimpleDateFormat;
-
 /**
  * A class supporting processing of datetime strings represented in the standard JDBC format 'y-M-d h:m:s.S'.
  */
 class JDBCDatetimeStringProcessor extends DatetimeStringProcessor
 {
-  private static final SimpleDateFormat _dateFormat = new SimpleDateFormat("y-M-d h:m:s.S");
   private static final String _delimiters = " -:."; // Note the space.
 
   // The number of tokens (including delimeters) necessary to strip a datetime to a specified granularity.
@@ -28,14 +24,6 @@ class JDBCDatetimeStringProcessor extends DatetimeStringProcessor
 
   public JDBCDatetimeStringProcessor()
   {
-    super(_dateFormat, _delimiters, _gTokenIndex, _datetimeRoundDownPadding, _datetimeRoundUpPadding);
-  }
-
-  @Override
-  protected String constructDatetimeStringFromMillisecondsFrom1970Count(long millisecondsFrom1970)
-  {
-    Timestamp ts = new Timestamp(millisecondsFrom1970);
-
-    return ts.toString(); // Returns in JDBC format.
+    super(_delimiters, ' ', _gTokenIndex, _datetimeRoundDownPadding, _datetimeRoundUpPadding);
   }
 }
@@ -2,10 +2,13 @@ package org.swrlapi.builtins.temporal;
 
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.semanticweb.owlapi.model.IRI;
+import org.semanticweb.owlapi.model.OWLClass;
+import org.semanticweb.owlapi.model.OWLClassAssertionAxiom;
 import org.semanticweb.owlapi.model.OWLDataPropertyAssertionAxiom;
 import org.semanticweb.owlapi.model.OWLIndividual;
-import org.semanticweb.owlapi.model.OWLLiteral;
+import org.semanticweb.owlapi.model.OWLNamedIndividual;
 import org.semanticweb.owlapi.model.OWLObjectPropertyAssertionAxiom;
+import org.semanticweb.owlapi.model.OWLOntology;
 import org.swrlapi.builtins.AbstractSWRLBuiltInLibrary;
 import org.swrlapi.builtins.SWRLBuiltInBridge;
 import org.swrlapi.builtins.arguments.SWRLBuiltInArgument;
@@ -18,10 +21,13 @@ import org.swrlapi.literal.XSDDate;
 import org.swrlapi.literal.XSDDateTime;
 
 import java.math.BigInteger;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Implementation library for SWRL temporal built-ins.
@@ -66,17 +72,42 @@ public class SWRLBuiltInLibraryImpl extends AbstractSWRLBuiltInLibrary
 
   @NonNull private final Temporal temporal;
 
+  // Indexes of valid-time individuals keyed by granularity; built on demand and discarded on reset
+  @NonNull private final Map<@NonNull Integer, @NonNull IntervalIndex<@NonNull IRI>> validTimeIndexes;
+
   public SWRLBuiltInLibraryImpl()
   {
     super(PREFIX, NAMESPACE, new HashSet<>(Arrays.asList(BUILT_IN_NAMES)));
 
     this.temporal = new Temporal(new XSDDateTimeStringProcessor());
     this.temporal.setNow();
+    this.validTimeIndexes = new ConcurrentHashMap<>();
   }
 
   @Override public void reset() throws SWRLBuiltInLibraryException
   {
     this.temporal.setNow();
+    this.validTimeIndexes.clear();
+  }
+
+  /**
+   * Get an index of the valid times of the ValidInstant, ValidPeriod, and ExtendedProposition individuals in the
+   * ontology, keyed by individual IRI. Rule engines can use the index to generate the candidate pairs of individuals
+   * for a temporal relation built-in rather than invoking the built-in on every pair. The index is built on first use
+   * and discarded when the library is reset.
+   *
+   * @param granularity The granularity of the indexed granule counts, e.g., "days"
+   * @return An index of valid times
+   * @throws SWRLBuiltInException If the granularity is invalid or an individual has an invalid valid time
+   */
+  @NonNull public IntervalIndex<@NonNull IRI> getValidTimeIndex(@NonNull String granularity)
+    throws SWRLBuiltInException
+  {
+    try {
+      return getValidTimeIndex(Temporal.getIntegerGranularityRepresentation(granularity));
+    } catch (TemporalException e) {
+      throw new SWRLBuiltInException(e.getMessage() == null ? "" : e.getMessage(), e);
+    }
   }
 
   /**
@@ -86,7 +117,7 @@ public class SWRLBuiltInLibraryImpl extends AbstractSWRLBuiltInLibrary
    */
   public boolean equals(@NonNull List<@NonNull SWRLBuiltInArgument> arguments) throws SWRLBuiltInException
   {
-    return temporalOperation(TemporalEquals, arguments);
+    return temporalOperation(TemporalEquals, arguments, true);
   }
 
   /**
@@ -96,7 +127,7 @@ public class SWRLBuiltInLibraryImpl extends AbstractSWRLBuiltInLibrary
    */
   public boolean before(@NonNull List<@NonNull SWRLBuiltInArgument> arguments) throws SWRLBuiltInException
   {
-    return temporalOperation(TemporalBefore, arguments);
+    return temporalOperation(TemporalBefore, arguments, true);
   }
 
   /**
@@ -106,7 +137,7 @@ public class SWRLBuiltInLibraryImpl extends AbstractSWRLBuiltInLibrary
    */
   public boolean after(@NonNull List<@NonNull SWRLBuiltInArgument> arguments) throws SWRLBuiltInException
   {
-    return temporalOperation(TemporalAfter, arguments);
+    return temporalOperation(TemporalAfter, arguments, true);
   }
 
   /**
@@ -116,7 +147,7 @@ public class SWRLBuiltInLibraryImpl extends AbstractSWRLBuiltInLibrary
    */
   public boolean meets(@NonNull List<@NonNull SWRLBuiltInArgument> arguments) throws SWRLBuiltInException
   {
-    return temporalOperation(TemporalMeets, arguments);
+    return temporalOperation(TemporalMeets, arguments, true);
   }
 
   /**
@@ -126,7 +157,7 @@ public class SWRLBuiltInLibraryImpl extends AbstractSWRLBuiltInLibrary
    */
   public boolean metBy(@NonNull List<@NonNull SWRLBuiltInArgument> arguments) throws SWRLBuiltInException
   {
-    return temporalOperation(TemporalMetBy, arguments);
+    return temporalOperation(TemporalMetBy, arguments, true);
   }
 
   /**
@@ -136,7 +167,7 @@ public class SWRLBuiltInLibraryImpl extends AbstractSWRLBuiltInLibrary
    */
   public boolean overlaps(@NonNull List<@NonNull SWRLBuiltInArgument> arguments) throws SWRLBuiltInException
   {
-    return temporalOperation(TemporalOverlaps, arguments);
+    return temporalOperation(TemporalOverlaps, arguments, true);
   }
 
   /**
@@ -146,7 +177,7 @@ public class SWRLBuiltInLibraryImpl extends AbstractSWRLBuiltInLibrary
    */
   public boolean overlappedBy(@NonNull List<@NonNull SWRLBuiltInArgument> arguments) throws SWRLBuiltInException
   {
-    return temporalOperation(TemporalOverlappedBy, arguments);
+    return temporalOperation(TemporalOverlappedBy, arguments, true);
   }
 
   /**
@@ -156,7 +187,7 @@ public class SWRLBuiltInLibraryImpl extends AbstractSWRLBuiltInLibrary
    */
   public boolean contains(@NonNull List<@NonNull SWRLBuiltInArgument> arguments) throws SWRLBuiltInException
   {
-    return temporalOperation(TemporalContains, arguments);
+    return temporalOperation(TemporalContains, arguments, true);
   }
 
   /**
@@ -166,7 +197,7 @@ public class SWRLBuiltInLibraryImpl extends AbstractSWRLBuiltInLibrary
    */
   public boolean during(@NonNull List<@NonNull SWRLBuiltInArgument> arguments) throws SWRLBuiltInException
   {
-    return temporalOperation(TemporalDuring, arguments);
+    return temporalOperation(TemporalDuring, arguments, true);
   }
 
   /**
@@ -176,7 +207,7 @@ public class SWRLBuiltInLibraryImpl extends AbstractSWRLBuiltInLibrary
    */
   public boolean starts(@NonNull List<@NonNull SWRLBuiltInArgument> arguments) throws SWRLBuiltInException
   {
-    return temporalOperation(TemporalStarts, arguments);
+    return temporalOperation(TemporalStarts, arguments, true);
   }
 
   /**
@@ -186,7 +217,7 @@ public class SWRLBuiltInLibraryImpl extends AbstractSWRLBuiltInLibrary
    */
   public boolean startedBy(@NonNull List<@NonNull SWRLBuiltInArgument> arguments) throws SWRLBuiltInException
   {
-    return temporalOperation(TemporalStartedBy, arguments);
+    return temporalOperation(TemporalStartedBy, arguments, true);
   }
 
   /**
@@ -196,7 +227,7 @@ public class SWRLBuiltInLibraryImpl extends AbstractSWRLBuiltInLibrary
    */
   public boolean finishes(@NonNull List<@NonNull SWRLBuiltInArgument> arguments) throws SWRLBuiltInException
   {
-    return temporalOperation(TemporalFinishes, arguments);
+    return temporalOperation(TemporalFinishes, arguments, true);
   }
 
   /**
@@ -206,7 +237,7 @@ public class SWRLBuiltInLibraryImpl extends AbstractSWRLBuiltInLibrary
    */
   public boolean finishedBy(@NonNull List<@NonNull SWRLBuiltInArgument> arguments) throws SWRLBuiltInException
   {
-    return temporalOperation(TemporalFinishedBy, arguments);
+    return temporalOperation(TemporalFinishedBy, arguments, true);
   }
 
   /**
@@ -216,7 +247,7 @@ public class SWRLBuiltInLibraryImpl extends AbstractSWRLBuiltInLibrary
    */
   public boolean intersects(@NonNull List<@NonNull SWRLBuiltInArgument> arguments) throws SWRLBuiltInException
   {
-    return temporalOperation(TemporalIntersects, arguments);
+    return temporalOperation(TemporalIntersects, arguments, true);
   }
 
   /**
@@ -609,9 +640,22 @@ public class SWRLBuiltInLibraryImpl extends AbstractSWRLBuiltInLibrary
 
   private boolean temporalOperation(@NonNull String operation, @NonNull List<@NonNull SWRLBuiltInArgument> arguments)
     throws SWRLBuiltInException
+  {
+    return temporalOperation(operation, arguments, false);
+  }
+
+  /**
+   * If the first argument may be unbound and is, it is bound to the valid-time individuals that stand in the relation
+   * to the remaining arguments. These are found with an index rather than by testing every individual.
+   */
+  private boolean temporalOperation(@NonNull String operation, @NonNull List<@NonNull SWRLBuiltInArgument> arguments,
+    boolean bindFirstArgument) throws SWRLBuiltInException
   {
     checkNumberOfArgumentsInRange(2, 4, arguments.size());
-    checkForUnboundArguments(arguments);
+    if (bindFirstArgument)
+      checkForUnboundNonFirstArguments(arguments);
+    else
+      checkForUnboundArguments(arguments);
 
     try {
       int numberOfArguments = arguments.size();
@@ -620,11 +664,25 @@ public class SWRLBuiltInLibraryImpl extends AbstractSWRLBuiltInLibrary
       int granularity = hasGranularityArgument ?
         getBuiltInArgumentAsAGranularity(numberOfArguments - 1, arguments) :
         Temporal.FINEST;
-      Period p1 = getArgumentAsAPeriod(0, arguments, granularity);
       Period p2 = has2nd3rdInstantArguments ?
         getTwoInstantArgumentsAsAPeriod(1, 2, arguments, granularity) :
         getArgumentAsAPeriod(1, arguments, granularity);
 
+      if (isUnboundArgument(0, arguments)) {
+        IntervalIndex.Relation relation = IntervalIndex.Relation.forBuiltInName(operation);
+        if (relation == null)
+          throw new SWRLBuiltInException("internal error - unknown temporal operator " + operation);
+
+        List<@NonNull SWRLBuiltInArgument> resultArguments = new ArrayList<>();
+        for (IRI individualIRI : getValidTimeIndex(granularity)
+          .find(relation, p2.getStartGranuleCount(granularity), p2.getFinishGranuleCount(granularity)))
+          resultArguments.add(createNamedIndividualBuiltInArgument(getOWLNamedIndividual(individualIRI)));
+
+        return processResultArgument(arguments, 0, resultArguments);
+      }
+
+      Period p1 = getArgumentAsAPeriod(0, arguments, granularity);
+
       switch (operation) {
       case TemporalEquals:
         return p1.equals(p2, granularity);
@@ -832,30 +890,97 @@ public class SWRLBuiltInLibraryImpl extends AbstractSWRLBuiltInLibrary
         "expecting valid instant value for extended proposition " + extendedPropositionIRI);
   }
 
-  @NonNull private IRI getObjectPropertyValueAsIRI(@NonNull SWRLBuiltInBridge bridge, @NonNull IRI individualIRI,
-    @NonNull IRI propertyIRI)
+  @NonNull private IntervalIndex<@NonNull IRI> getValidTimeIndex(int granularity)
+    throws SWRLBuiltInException, TemporalException
   {
-    Set<@NonNull OWLObjectPropertyAssertionAxiom> axioms = new HashSet<>(); // TODO Get assertions for this individual/property
-    OWLObjectPropertyAssertionAxiom axiom = axioms.toArray(new OWLObjectPropertyAssertionAxiom[axioms.size()])[0];
-    OWLIndividual subject = axiom.getObject();
+    IntervalIndex<@NonNull IRI> validTimeIndex = this.validTimeIndexes.get(granularity);
 
-    return subject.asOWLNamedIndividual().getIRI();
+    if (validTimeIndex == null) {
+      validTimeIndex = new IntervalIndex<>();
+
+      for (IRI individualIRI : getOWLIndividualsOfType(createIRI(ValidInstantClassName))) {
+        Instant instant = validInstantIndividual2Instant(individualIRI, granularity);
+        validTimeIndex.add(individualIRI, instant.getGranuleCount(granularity), instant.getGranuleCount(granularity));
+      }
+
+      for (IRI individualIRI : getOWLIndividualsOfType(createIRI(ValidPeriodClassName))) {
+        Period period = validPeriodIndividual2Period(individualIRI, granularity);
+        validTimeIndex.add(individualIRI, period.getStartGranuleCount(granularity),
+          period.getFinishGranuleCount(granularity));
+      }
+
+      for (IRI individualIRI : getOWLIndividualsOfType(createIRI(ExtendedPropositionClassName))) {
+        Period period = extendedPropositionIndividual2Period(individualIRI, granularity);
+        validTimeIndex.add(individualIRI, period.getStartGranuleCount(granularity),
+          period.getFinishGranuleCount(granularity));
+      }
+      this.validTimeIndexes.put(granularity, validTimeIndex);
+    }
+    return validTimeIndex;
+  }
+
+  @NonNull private IRI getObjectPropertyValueAsIRI(@NonNull SWRLBuiltInBridge bridge, @NonNull IRI individualIRI,
+    @NonNull IRI propertyIRI) throws SWRLBuiltInException
+  {
+    OWLNamedIndividual individual = getOWLNamedIndividual(individualIRI);
+
+    for (OWLOntology ontology : bridge.getOWLOntology().getImportsClosure()) {
+      for (OWLObjectPropertyAssertionAxiom axiom : ontology.getObjectPropertyAssertionAxioms(individual)) {
+        OWLIndividual object = axiom.getObject();
+        if (!axiom.getProperty().isAnonymous() && axiom.getProperty().asOWLObjectProperty().getIRI()
+          .equals(propertyIRI) && object.isNamed())
+          return object.asOWLNamedIndividual().getIRI();
+      }
+    }
+    throw new SWRLBuiltInException("individual " + individualIRI + " has no value for property " + propertyIRI);
   }
 
   private boolean isOWLIndividualOfType(@NonNull IRI individualIRI, @NonNull IRI classIRI)
-    throws SWRLBuiltInLibraryException
+    throws SWRLBuiltInException
   {
-    return true; // TODO Implement isOWLIndividualOfType
+    OWLNamedIndividual individual = getOWLNamedIndividual(individualIRI);
+
+    for (OWLOntology ontology : getBuiltInBridge().getOWLOntology().getImportsClosure()) {
+      for (OWLClassAssertionAxiom axiom : ontology.getClassAssertionAxioms(individual)) {
+        if (!axiom.getClassExpression().isAnonymous() && axiom.getClassExpression().asOWLClass().getIRI()
+          .equals(classIRI))
+          return true;
+      }
+    }
+    return false;
+  }
+
+  @NonNull private Set<@NonNull IRI> getOWLIndividualsOfType(@NonNull IRI classIRI) throws SWRLBuiltInException
+  {
+    OWLClass cls = getSWRLAPIOWLDataFactory().getOWLClass(classIRI);
+    Set<@NonNull IRI> individualIRIs = new HashSet<>();
+
+    for (OWLOntology ontology : getBuiltInBridge().getOWLOntology().getImportsClosure()) {
+      for (OWLClassAssertionAxiom axiom : ontology.getClassAssertionAxioms(cls)) {
+        if (axiom.getIndividual().isNamed())
+          individualIRIs.add(axiom.getIndividual().asOWLNamedIndividual().getIRI());
+      }
+    }
+    return individualIRIs;
   }
 
   @NonNull private String getDataPropertyValueAsAString(@NonNull SWRLBuiltInBridge bridge, @NonNull IRI individualIRI,
-    @NonNull IRI propertyIRI)
+    @NonNull IRI propertyIRI) throws SWRLBuiltInException
   {
-    Set<@NonNull OWLDataPropertyAssertionAxiom> axioms = new HashSet<>(); // TODO Get assertions for this individual/property
-    OWLDataPropertyAssertionAxiom axiom = axioms.toArray(new OWLDataPropertyAssertionAxiom[axioms.size()])[0];
-    OWLLiteral value = axiom.getObject();
+    OWLNamedIndividual individual = getOWLNamedIndividual(individualIRI);
 
-    return value.toString();
+    for (OWLOntology ontology : bridge.getOWLOntology().getImportsClosure()) {
+      for (OWLDataPropertyAssertionAxiom axiom : ontology.getDataPropertyAssertionAxioms(individual)) {
+        if (!axiom.getProperty().isAnonymous() && axiom.getProperty().asOWLDataProperty().getIRI().equals(propertyIRI))
+          return axiom.getObject().getLiteral();
+      }
+    }
+    throw new SWRLBuiltInException("individual " + individualIRI + " has no value for property " + propertyIRI);
+  }
+
+  @NonNull private OWLNamedIndividual getOWLNamedIndividual(@NonNull IRI individualIRI) throws SWRLBuiltInException
+  {
+    return getSWRLAPIOWLDataFactory().getOWLNamedIndividual(individualIRI);
   }
 
   private long convertArgumentToALong(int argumentNumber, @NonNull List<@NonNull SWRLBuiltInArgument> arguments)
@@ -3,13 +3,22 @@ package org.swrlapi.builtins.temporal;
 import org.checkerframework.checker.nullness.qual.NonNull;
 
 import java.sql.Timestamp;
-import java.util.GregorianCalendar;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
- * A class that supports temporal operations using the Gregorian calendar. In instance of this class is supplied with a
- * DatetimeStringProcessor that governs how timestamps are converted to and from datetime strings. Apart from the
- * granularity constants, users should generally not use this class directly but should instead use the Instant and
- * Period classes in this package.
+ * A class that supports temporal operations using the proleptic Gregorian calendar. In instance of this class is
+ * supplied with a DatetimeStringProcessor that governs how timestamps are converted to and from datetime strings.
+ * Apart from the granularity constants, users should generally not use this class directly but should instead use the
+ * Instant and Period classes in this package.
+ * <p>
+ * Granule counts are measured from '0000-01-01 00:00:00.000' in local wall-clock time and are computed with integer
+ * arithmetic, so instances of this class can be shared between threads.
  */
 class Temporal
 {
@@ -26,44 +35,15 @@ class Temporal
 
   public final static int NUMBER_OF_GRANULARITIES = 7;
 
-  private long nowGranuleCountInMillis = -1; // Granule count in milliseconds since 1 C.E.
+  // Number of milliseconds to January 1st 1970 from January 1st 1 C.E., the origin of granule counts when they were
+  // computed with a GregorianCalendar. Granule counts now start at MillisecondsFrom0000To1970 and do not use it.
+  @Deprecated public static final long MillisecondsTo1970 = 62167392000000L;
 
-  private final DatetimeStringProcessor datetimeStringProcessor;
+  // Number of milliseconds to January 1st 1970 from January 1st 0000 in the proleptic Gregorian calendar.
+  private static final long MillisecondsFrom0000To1970 = 62167219200000L; // 719528 * 24 * 60 * 60 * 1000L
 
-  // Number of milliseconds to January 1st 1970 from January 1st 1 C.E.
-  public static final long MillisecondsTo1970 = 62167392000000L;
-
-  // Number of milliseconds to Gregorian change date of October 15th, 1582 from January 1st 1 C.E.
-  public static final long MillisecondsToGregorianChangeDate = 12219292800000L;
-
-  // Number of milliseconds to Gregorian change date of October 15th, 1582 from January 1st 1 C.E.
-  public static final long GregorianChangeYear = 1582;
-
-  // 10-day discontinuity between October 4, 1582 and October 15, 1582.
-  public static final long MillisecondsInGregorianDiscontinuity = 864000000L; // 10 * 24 * 60 * 60 * 1000L;
-
-  // 10-day discontinuity between October 4, 1582 and October 15, 1582.
-  public static final long DaysInGregorianDiscontinuity = 10;
-
-  // The following table is used to convert an integral number of granules at one granularity (the y axis) to an
-  // integral number of granules
-  // at another granularity (the x axis). If the source granularity is finer than the target granularity we divide by
-  // the number in the
-  // appropriate entry; if it is coarser, we multiply by the number in the entry. e.g., 10 days will be converted to
-  // 10*(24*60*60) seconds;
-  // 1000 seconds will be converted to 1000/(60) minutes. Months are a special case and individual routines will deal
-  // with them
-  // separately. Leap years are also handled separately.
-  private static final long conversion_table[][] = {
-  /* year, month, day, hours, minutes, seconds, milliseconds */
-  { 1, 12, 365, 365 * 24, 365 * 24 * 60, 365 * 24 * 60 * 60, 365 * 24 * 60 * 60 * 1000L }, /* year */
-  { 0, 1, 0, 0, 0, 0, 0 }, /* month */
-  { 365, 0, 1, 24, 24 * 60, 24 * 60 * 60, 24 * 60 * 60 * 1000 }, /* day */
-  { 365 * 24, 0, 24, 1, 60, 60 * 60, 60 * 60 * 1000 }, /* hour */
-  { 365 * 24 * 60, 0, 24 * 60, 60, 1, 60, 60 * 1000 }, /* minute */
-  { 365 * 24 * 60 * 60, 0, 24 * 60 * 60, 60 * 60, 60, 1, 1000 }, /* second */
-  { 365 * 24 * 60 * 60 * 1000L, 0, 24 * 60 * 60 * 1000, 60 * 60 * 1000, 60 * 1000, 1000, 1 } /* milli-seconds */
-  };
+  // Number of granules in a day at granularities of days or finer; years and months are dealt with separately.
+  private static final long[] granulesInDay = { 0, 0, 1, 24, 24 * 60, 24 * 60 * 60, 24 * 60 * 60 * 1000L };
 
   private static final String[] stringGranularityRepresentation = { "years", "months", "days", "hours", "minutes",
       "seconds", "milliseconds" };
@@ -71,22 +51,15 @@ class Temporal
   // Individual routines will adjust February for leap years.
   private static final long[] days_in_month = { 31, 28, 31, 30, 31, 30, 31, 31, 30, 31, 30, 31 };
 
-  // Days up until a month. Routine convertMonth2Granularity will adjust for leap years.
-  private static final long[] days_to_month = { 0, // to January
-      31, // to February
-      31 + 28, // to March (code will handle leap years separately))
-      31 + 28 + 31, // to April
-      31 + 28 + 31 + 30, // to May
-      31 + 28 + 31 + 30 + 31, // to June
-      31 + 28 + 31 + 30 + 31 + 30, // to July
-      31 + 28 + 31 + 30 + 31 + 30 + 31, // to August
-      31 + 28 + 31 + 30 + 31 + 30 + 31 + 31, // to September
-      31 + 28 + 31 + 30 + 31 + 30 + 31 + 31 + 30, // to October
-      31 + 28 + 31 + 30 + 31 + 30 + 31 + 31 + 30 + 31, // to November
-      31 + 28 + 31 + 30 + 31 + 30 + 31 + 31 + 30 + 31 + 30, // to December
-      365 };
-
-  @NonNull private final GregorianCalendar gc;
+  // Number of distinct datetime strings cached per granularity and rounding direction before the cache is cleared.
+  private static final int MAXIMUM_CACHED_DATETIME_STRINGS = 10000;
+
+  private final DatetimeStringProcessor datetimeStringProcessor;
+
+  // Granule counts of normalized datetime strings, indexed by granularity and rounding direction.
+  @NonNull private final List<@NonNull Map<@NonNull String, @NonNull Long>> granuleCountCaches;
+
+  private volatile long nowGranuleCountInMillis = -1; // Granule count in milliseconds since 0000-01-01
 
   /**
    * @param datetimeStringProcessor A datetime string processor
@@ -94,8 +67,10 @@ class Temporal
   public Temporal(DatetimeStringProcessor datetimeStringProcessor)
   {
     this.datetimeStringProcessor = datetimeStringProcessor;
+    this.granuleCountCaches = new ArrayList<>(NUMBER_OF_GRANULARITIES * 2);
 
-    this.gc = new GregorianCalendar();
+    for (int i = 0; i < NUMBER_OF_GRANULARITIES * 2; i++)
+      this.granuleCountCaches.add(new ConcurrentHashMap<>());
   }
 
   /**
@@ -109,9 +84,10 @@ class Temporal
 
   public void setNow()
   {
-    long millisecondsFrom1970 = System.currentTimeMillis();
+    LocalDateTime now = LocalDateTime.now();
 
-    this.nowGranuleCountInMillis = millisecondsFrom1970 + MillisecondsTo1970;
+    this.nowGranuleCountInMillis = timeComponents2GranuleCountInMilliseconds(now.getYear(), now.getMonthValue(),
+      now.getDayOfMonth(), now.getHour(), now.getMinute(), now.getSecond(), now.getNano() / 1000000);
   }
 
   /**
@@ -177,55 +153,83 @@ class Temporal
   }
 
   /**
-   * * Take a java.sql.Timestamp and return the number of granules at the specified granularity since 1 C.E.
+   * * Take a java.sql.Timestamp and return the number of granules at the specified granularity since 0000-01-01.
    */
   public long sqlTimestamp2GranuleCount(@NonNull Timestamp timestamp, int granularity) throws TemporalException
   {
-    long granuleCountInMillis = timestamp.getTime() + MillisecondsTo1970;
+    long granuleCountInMillis = millisecondsFrom1970ToGranuleCountInMilliseconds(timestamp.getTime());
 
     return convertGranuleCount(granuleCountInMillis, MILLISECONDS, granularity);
   }
 
+  /**
+   * Take a possibly partial datetime string, normalize it at the specified granularity rounding up or down, and return
+   * the number of granules at that granularity since 0000-01-01. Results are cached so that datetimes repeatedly
+   * supplied to built-ins are parsed once.
+   */
+  public long datetimeString2GranuleCount(@NonNull String datetimeString, int granularity, boolean roundUp)
+      throws TemporalException
+  {
+    checkGranularity(granularity);
+
+    Map<@NonNull String, @NonNull Long> granuleCountCache = this.granuleCountCaches
+        .get(granularity * 2 + (roundUp ? 1 : 0));
+    Long cachedGranuleCount = granuleCountCache.get(datetimeString);
+
+    if (cachedGranuleCount != null)
+      return cachedGranuleCount;
+
+    String normalizedDatetimeString = normalizeDatetimeString(datetimeString, granularity, roundUp);
+    long granuleCount = datetimeString2GranuleCount(
+        expressDatetimeStringAtGranularity(normalizedDatetimeString, granularity), granularity);
+
+    if (granuleCountCache.size() >= MAXIMUM_CACHED_DATETIME_STRINGS)
+      granuleCountCache.clear();
+    granuleCountCache.put(datetimeString, granuleCount);
+
+    return granuleCount;
+  }
+
   /**
    * Take a full specification datetime string (i.e., all components including milliseconds have a value) and return the
-   * number of granules at the specified granularity since 1 C.E.
+   * number of granules at the specified granularity since 0000-01-01.
    */
   public long datetimeString2GranuleCount(@NonNull String datetimeString, int granularity) throws TemporalException
   {
     checkGranularity(granularity);
 
-    int years = getDatetimeStringProcessor().getYears(datetimeString);
+    int[] timeComponents = getDatetimeStringProcessor().getTimeComponents(datetimeString);
+
+    int years = timeComponents[YEARS];
     if (years < 1 || years > 9999)
       throw new TemporalException("years must be between 1  and 9999 in datetime: " + datetimeString);
 
-    int months = getDatetimeStringProcessor().getMonths(datetimeString);
+    int months = timeComponents[MONTHS];
     if (months < 1 | months > 12)
       throw new TemporalException("months must be between 1 and 12 in datetime: " + datetimeString);
 
-    int days = getDatetimeStringProcessor().getDays(datetimeString);
+    int days = timeComponents[DAYS];
     if (days < 1 || days > 31)
       throw new TemporalException("days must be between 1 and 31 in datetime: " + datetimeString);
 
-    int hours = getDatetimeStringProcessor().getHours(datetimeString);
+    int hours = timeComponents[HOURS];
     if (hours < 0 || hours > 23)
       throw new TemporalException("hours must bebetween 0 and 23 in datetime: " + datetimeString);
 
-    int minutes = getDatetimeStringProcessor().getMinutes(datetimeString);
+    int minutes = timeComponents[MINUTES];
     if (minutes < 0 || minutes > 59)
       throw new TemporalException("minutes must be between 0 and 59 in datetime: " + datetimeString);
 
-    int seconds = getDatetimeStringProcessor().getSeconds(datetimeString);
+    int seconds = timeComponents[SECONDS];
     if (seconds < 0)
       throw new TemporalException("seconds must be 0 or greater in datetime: " + datetimeString);
 
-    int milliseconds = getDatetimeStringProcessor().getMilliseconds(datetimeString);
+    int milliseconds = timeComponents[MILLISECONDS];
     if (milliseconds < 0)
       throw new TemporalException("milliseconds must be 0 or greater in datetime: " + datetimeString);
 
-    this.gc.clear();
-    this.gc.set(years, months - 1, days, hours, minutes, seconds);
-
-    long granuleCountInMillis = this.gc.getTimeInMillis() + milliseconds + MillisecondsTo1970;
+    long granuleCountInMillis = timeComponents2GranuleCountInMilliseconds(years, months, days, hours, minutes, seconds,
+        milliseconds);
 
     return convertGranuleCount(granuleCountInMillis, MILLISECONDS, granularity);
   }
@@ -234,7 +238,7 @@ class Temporal
   {
     checkGranularity(granularity);
 
-    long granuleCountInMilliseconds = date.getTime() + MillisecondsTo1970;
+    long granuleCountInMilliseconds = millisecondsFrom1970ToGranuleCountInMilliseconds(date.getTime());
 
     return convertGranuleCount(granuleCountInMilliseconds, MILLISECONDS, granularity);
   }
@@ -248,54 +252,36 @@ class Temporal
   }
 
   /**
-   * Convert a granule count from one granularity to another.
+   * Convert a granule count from one granularity to another. Conversions between months or years and days or finer go
+   * through the day count of the first day of the month, so leap years are accounted for without iteration.
    */
   public static long convertGranuleCount(long granuleCount, int from_granularity, int to_granularity)
       throws TemporalException
   {
-    long result, leapOffsetGranuleCount;
-
     checkGranularity(from_granularity);
     checkGranularity(to_granularity);
 
     if (from_granularity == to_granularity)
       return granuleCount;
 
-    long localGranuleCount = granuleCount;
-
-    // If we are converting from a granularity of days or finer to months or years, we need to account for the extra
-    // day's worth of granules
-    // in each leap year up to that point in time.
-    if ((from_granularity >= DAYS) && (to_granularity <= MONTHS)) {
-      leapOffsetGranuleCount = -leapYearsUpToGranuleCount(localGranuleCount, from_granularity)
-          * conversion_table[DAYS][from_granularity];
-      localGranuleCount += leapOffsetGranuleCount;
-    }
+    if (from_granularity <= MONTHS) {
+      long monthCount = from_granularity == YEARS ? granuleCount * 12 : granuleCount;
 
-    // Months must be dealt with separately.
-    if (from_granularity == MONTHS)
-      result = convertMonthCount2GranuleCount(localGranuleCount, to_granularity);
-    else if (to_granularity == MONTHS)
-      result = convertGranuleCount2MonthCount(localGranuleCount, from_granularity);
-    else if (from_granularity > to_granularity)
-      result = localGranuleCount / conversion_table[from_granularity][to_granularity];
-    else if (from_granularity < to_granularity)
-      result = localGranuleCount * conversion_table[from_granularity][to_granularity];
-    else
-      result = localGranuleCount;
-
-    // If we are converting from a granularity of years or months to a granularity of days or finer, we need to account
-    // for the extra day's
-    // worth of granules in each leap year up to that point in time.
-    if ((from_granularity <= MONTHS) && (to_granularity >= DAYS)) {
-      if (from_granularity == YEARS)
-        leapOffsetGranuleCount = leapGranulesUpToYear(granuleCount, to_granularity);
+      if (to_granularity == MONTHS)
+        return monthCount;
+      else if (to_granularity == YEARS)
+        return Math.floorDiv(monthCount, 12);
       else
-        leapOffsetGranuleCount = leapGranulesUpToMonth(granuleCount, to_granularity); // MONTHS
-      result += leapOffsetGranuleCount;
-    }
-
-    return result;
+        return daysFromCivil(Math.floorDiv(monthCount, 12), (int)Math.floorMod(monthCount, 12) + 1, 1)
+            * granulesInDay[to_granularity];
+    } else if (to_granularity <= MONTHS) {
+      long monthCount = monthCountFromDays(Math.floorDiv(granuleCount, granulesInDay[from_granularity]));
+
+      return to_granularity == MONTHS ? monthCount : Math.floorDiv(monthCount, 12);
+    } else if (from_granularity > to_granularity)
+      return Math.floorDiv(granuleCount, granulesInDay[from_granularity] / granulesInDay[to_granularity]);
+    else
+      return granuleCount * (granulesInDay[to_granularity] / granulesInDay[from_granularity]);
   }
 
   public static long getDaysInMonth(long monthCount) throws TemporalException
@@ -307,54 +293,37 @@ class Temporal
 
   public static boolean isLeapYear(long yearCount)
   {
-    GregorianCalendar gc = new GregorianCalendar();
-
-    return gc.isLeapYear((int)yearCount);
+    return (yearCount % 4 == 0) && ((yearCount % 100 != 0) || (yearCount % 400 == 0));
   }
 
-  // We ignore leap years here - convertGranuleCount adjusts for them.
-  private static long convertGranuleCount2MonthCount(long granuleCount, int from_granularity)
+  /**
+   * Split a granule count in milliseconds into its year, month, day, hour, minute, second, and millisecond components,
+   * indexed by granularity.
+   */
+  @NonNull public static int[] granuleCountInMilliseconds2TimeComponents(long granuleCountInMilliseconds)
   {
-    long monthCount;
+    int[] timeComponents = new int[NUMBER_OF_GRANULARITIES];
+    long dayCount = Math.floorDiv(granuleCountInMilliseconds, granulesInDay[MILLISECONDS]);
+    long millisecondsInDay = Math.floorMod(granuleCountInMilliseconds, granulesInDay[MILLISECONDS]);
 
-    if (from_granularity == YEARS)
-      monthCount = granuleCount * conversion_table[YEARS][MONTHS];
-    else if (from_granularity == MONTHS)
-      monthCount = granuleCount;
-    else { // DAY or finer
-      long dayCount = granuleCount / conversion_table[from_granularity][DAYS];
-      long yearCount = dayCount / 365;
-      monthCount = yearCount * 12;
-      long dayInYear = dayCount % 365;
+    civilFromDays(dayCount, timeComponents);
 
-      int i = 1;
-      while (days_to_month[i] <= dayInYear) {
-        monthCount++;
-        i++;
-      }
-    }
-    return monthCount;
-  }
+    timeComponents[HOURS] = (int)(millisecondsInDay / (60 * 60 * 1000));
+    timeComponents[MINUTES] = (int)(millisecondsInDay / (60 * 1000) % 60);
+    timeComponents[SECONDS] = (int)(millisecondsInDay / 1000 % 60);
+    timeComponents[MILLISECONDS] = (int)(millisecondsInDay % 1000);
 
-  // We ignore leap years here - convertGranuleCount adjusts for them.
-
-  private static java.util.Date sqlDate2UtilDate(java.sql.Date sqlDate, int granularity) throws TemporalException
-  {
-    checkGranularity(granularity);
-
-    return granuleCount2UtilDate(sqlDate2GranuleCount(sqlDate, granularity), granularity);
+    return timeComponents;
   }
 
-  public static java.util.Date sqlDate2UtilDate(java.sql.Date sqlDate) throws TemporalException
+  public static java.util.Date sqlDate2UtilDate(java.sql.Date sqlDate)
   {
-    return sqlDate2UtilDate(sqlDate, FINEST);
+    return new java.util.Date(sqlDate.getTime());
   }
 
   public static long sqlDate2GranuleCount(java.sql.Date date, int granularity) throws TemporalException
   {
-    checkGranularity(granularity);
-
-    return utilDate2GranuleCount(sqlDate2UtilDate(date, granularity), granularity);
+    return utilDate2GranuleCount(date, granularity);
   }
 
   public static java.util.Date addGranuleCount(java.util.Date date, long granuleCount, int granularity)
@@ -379,7 +348,7 @@ class Temporal
 
   public java.sql.Date getNowSQLDate() throws TemporalException
   {
-    return java.sql.Date.valueOf(getNowDatetimeString());
+    return granuleCount2SQLDate(this.nowGranuleCountInMillis, FINEST);
   }
 
   public java.util.Date getNowUtilDate() throws TemporalException
@@ -396,10 +365,10 @@ class Temporal
 
   /**
    * Take a granule count (from the beginning of calendar time, e.g., '0000-01-01 00:00:00.000' in JDBC timestamp
-   * format) at any granularity and convert it to a Timestamp. Java Timestamp recordOWLClassExpression time as milliseconds from January
+   * format) at any granularity and convert it to a Timestamp. Java Timestamp records time as milliseconds from January
    * 1st 1970.
    * <p>
-   * java.sql.Timestamp will take car of the time zone offset plus daylight savings time.
+   * The granule count is interpreted as local time in the default time zone.
    */
   public static java.sql.Timestamp granuleCount2Timestamp(long granuleCount, int granularity) throws TemporalException
   {
@@ -407,18 +376,15 @@ class Temporal
     // granularity for
     // sanity
 
-    // java.sql.Timestamp will correctly deal with negative milliseconds.
-    granuleCountInMilliSeconds -= MillisecondsTo1970;
-
-    return new java.sql.Timestamp(granuleCountInMilliSeconds);
+    return new java.sql.Timestamp(granuleCountInMilliseconds2MillisecondsFrom1970(granuleCountInMilliSeconds));
   }
 
   /**
    * Take a granule count (from the beginning of calendar time, e.g., '0000-01-01 00:00:00.000' in JDBC timestamp
-   * format) at any granularity and convert it to a java.util.Date. Date recordOWLClassExpression time as milliseconds from January 1st
+   * format) at any granularity and convert it to a java.util.Date. Date records time as milliseconds from January 1st
    * 1970.
    * <p>
-   * java.util.Date will take car of the time zone offset plus daylight savings time.
+   * The granule count is interpreted as local time in the default time zone.
    */
   public static java.util.Date granuleCount2UtilDate(long granuleCount, int granularity) throws TemporalException
   {
@@ -426,18 +392,15 @@ class Temporal
     // granularity for
     // sanity
 
-    // java.util.Date will correctly deal with negative milliseconds.
-    granuleCountInMilliseconds -= MillisecondsTo1970;
-
-    return new java.util.Date(granuleCountInMilliseconds);
+    return new java.util.Date(granuleCountInMilliseconds2MillisecondsFrom1970(granuleCountInMilliseconds));
   }
 
   /**
    * Take a granule count (from the beginning of calendar time, e.g., '0000-01-01 00:00:00.000' in JDBC timestamp
-   * format) at any granularity and convert it to a java.sql.Date. Date recordOWLClassExpression time as milliseconds from January 1st
+   * format) at any granularity and convert it to a java.sql.Date. Date records time as milliseconds from January 1st
    * 1970.
    * <p>
-   * java.sql.Date will take car of the time zone offset plus daylight savings time.
+   * The granule count is interpreted as local time in the default time zone.
    */
   public static java.sql.Date granuleCount2SQLDate(long granuleCount, int granularity) throws TemporalException
   {
@@ -445,10 +408,7 @@ class Temporal
 
     long granuleCountInMilliseconds = convertGranuleCount(granuleCount, granularity, MILLISECONDS);
 
-    // java.sql.Date will correctly deal with negative milliseconds.
-    granuleCountInMilliseconds -= MillisecondsTo1970;
-
-    return new java.sql.Date(granuleCountInMilliseconds);
+    return new java.sql.Date(granuleCountInMilliseconds2MillisecondsFrom1970(granuleCountInMilliseconds));
   }
 
   // Take a java.sql.Date object and convert it to a datetime string at the specified granularity.
@@ -555,7 +515,7 @@ class Temporal
   }
 
   /**
-   * * Take a granule count (from the beginning of calendar time, i.e., January 1st 1 C.E) at any granularity and
+   * * Take a granule count (from the beginning of calendar time, i.e., January 1st 0000) at any granularity and
    * convert it to a datetime string.
    */
   public String granuleCount2DatetimeString(long granuleCount, int granularity) throws TemporalException
@@ -574,110 +534,74 @@ class Temporal
     throw new TemporalException("invalid datetime string: '" + datetimeString + "'");
   }
 
-  private static long convertMonthCount2GranuleCount(long monthCount, int to_granularity) throws TemporalException
+  private static long timeComponents2GranuleCountInMilliseconds(long years, int months, long days, long hours,
+      long minutes, long seconds, long milliseconds)
   {
-    long daysUpToAndIncludingMonth, yearCount, dayCount, result;
-
-    checkGranularity(to_granularity);
-
-    if (to_granularity == MONTHS)
-      return monthCount;
-
-    yearCount = monthCount / 12;
-
-    daysUpToAndIncludingMonth = days_to_month[(int)monthCount % 12];
-
-    dayCount = daysUpToAndIncludingMonth + (yearCount * 365);
-
-    if (to_granularity > MONTHS)
-      result = dayCount * conversion_table[DAYS][to_granularity];
-    else
-      result = dayCount / conversion_table[DAYS][to_granularity];
+    long dayCount = daysFromCivil(years, months, days);
 
-    return result;
+    return (((dayCount * 24 + hours) * 60 + minutes) * 60 + seconds) * 1000 + milliseconds;
   }
 
-  // Calculate the number of extra leap granules at a specific granularity up until the start of a year.
-  //
-  // TODO: optimize leap granules up to year - very inefficient.
-  private static long leapGranulesUpToYear(long yearCount, int granularity) throws TemporalException
+  /**
+   * Number of days from 0000-01-01 to the specified date in the proleptic Gregorian calendar. Days past the end of the
+   * month carry over into the following month. The calculation counts in 400-year eras with years starting on March 1st
+   * so that leap days fall at the end of a year.
+   */
+  private static long daysFromCivil(long years, int months, long days)
   {
-    long leapDays = 0;
-
-    checkGranularity(granularity);
-
-    for (long i = 0; i < yearCount; i++)
-      if (isLeapYear(i))
-        leapDays++; // isLeap year takes care of Gregorian discontinuity
+    long marchBasedYears = months <= 2 ? years - 1 : years;
+    long era = Math.floorDiv(marchBasedYears, 400);
+    long yearOfEra = marchBasedYears - era * 400; // [0, 399]
+    long monthFromMarch = (months + 9) % 12; // [0, 11]
+    long dayOfYear = (153 * monthFromMarch + 2) / 5 + days - 1;
+    long dayOfEra = yearOfEra * 365 + yearOfEra / 4 - yearOfEra / 100 + dayOfYear;
 
-    return leapDays * conversion_table[DAYS][granularity];
+    return era * 146097 + dayOfEra + 60; // 0000-03-01 is day 60
   }
 
-  // Calculate the number of extra leap granules at a specific granularity up until the start of a month.
-  private static long leapGranulesUpToMonth(long monthCount, int granularity) throws TemporalException
+  // Inverse of daysFromCivil; stores the year, month, and day of a day count in the supplied time components.
+  private static void civilFromDays(long dayCount, @NonNull int[] timeComponents)
   {
-    long leapGranules, yearCount, month;
-
-    checkGranularity(granularity);
+    long marchBasedDayCount = dayCount - 60;
+    long era = Math.floorDiv(marchBasedDayCount, 146097);
+    long dayOfEra = marchBasedDayCount - era * 146097; // [0, 146096]
+    long yearOfEra = (dayOfEra - dayOfEra / 1460 + dayOfEra / 36524 - dayOfEra / 146096) / 365; // [0, 399]
+    long dayOfYear = dayOfEra - (365 * yearOfEra + yearOfEra / 4 - yearOfEra / 100); // [0, 365]
+    long monthFromMarch = (5 * dayOfYear + 2) / 153; // [0, 11]
+    int months = (int)(monthFromMarch < 10 ? monthFromMarch + 3 : monthFromMarch - 9);
 
-    yearCount = monthCount / 12;
+    timeComponents[YEARS] = (int)(yearOfEra + era * 400 + (months <= 2 ? 1 : 0));
+    timeComponents[MONTHS] = months;
+    timeComponents[DAYS] = (int)(dayOfYear - (153 * monthFromMarch + 2) / 5 + 1);
+  }
 
-    leapGranules = leapGranulesUpToYear(yearCount, granularity);
+  private static long monthCountFromDays(long dayCount)
+  {
+    int[] timeComponents = new int[NUMBER_OF_GRANULARITIES];
 
-    if (yearCount != 0) {
-      month = monthCount % 12;
-      if (isLeapYear(yearCount) && month > 1)
-        leapGranules += conversion_table[DAYS][granularity];
-    } // if
+    civilFromDays(dayCount, timeComponents);
 
-    return leapGranules;
+    return timeComponents[YEARS] * 12L + timeComponents[MONTHS] - 1;
   }
 
-  /**
-   * Calculate the number of leap years up until a granule count specified at any granularity. TODO: rewrite - very,
-   *
-   * @param granuleCount The count of the granules
-   * @param granularity The granularity
-   * @return The number of leap years
-   * @throws TemporalException If an error occurs during generation
-   */
-  private static long leapYearsUpToGranuleCount(long granuleCount, int granularity) throws TemporalException
+  // Convert milliseconds from 1970 UTC to a granule count in local wall-clock time in the default time zone.
+  private static long millisecondsFrom1970ToGranuleCountInMilliseconds(long millisecondsFrom1970)
   {
-    long yearCount, granulesInYearToFeb29th, granulesInYear, granulesInDay, cumulativeGranuleCount, leapYearCount = 0;
+    ZoneOffset offset = ZoneId.systemDefault().getRules()
+        .getOffset(java.time.Instant.ofEpochMilli(millisecondsFrom1970));
 
-    checkGranularity(granularity);
+    return millisecondsFrom1970 + offset.getTotalSeconds() * 1000L + MillisecondsFrom0000To1970;
+  }
 
-    if (granuleCount == 0)
-      return 0;
-
-    if (granularity == YEARS)
-      leapYearCount = leapGranulesUpToYear(granuleCount, YEARS);
-    else if (granuleCount == MONTHS)
-      leapYearCount = leapGranulesUpToMonth(granuleCount, YEARS);
-    else { // DAYS or finer.
-
-      cumulativeGranuleCount = 0;
-      granulesInYear = conversion_table[YEARS][granularity];
-      granulesInDay = conversion_table[DAYS][granularity];
-      yearCount = 0;
-      do {
-        yearCount++;
-        cumulativeGranuleCount += granulesInYear;
-
-        if (isLeapYear(yearCount)) {
-          leapYearCount++;
-          cumulativeGranuleCount += granulesInDay;
-        }
-      } while (cumulativeGranuleCount < granuleCount);
-
-      // Add a leap year if wraparound is later than Feb 29th in a leap year.
-      granulesInYearToFeb29th = (days_to_month[2] + 1) * conversion_table[DAYS][granularity];
-
-      if (isLeapYear(yearCount) && ((cumulativeGranuleCount - granuleCount) > granulesInYearToFeb29th))
-        leapYearCount++;
-    }
+  // Convert a granule count in local wall-clock time in the default time zone to milliseconds from 1970 UTC.
+  private static long granuleCountInMilliseconds2MillisecondsFrom1970(long granuleCountInMilliseconds)
+  {
+    long localMillisecondsFrom1970 = granuleCountInMilliseconds - MillisecondsFrom0000To1970;
+    LocalDateTime localDateTime = LocalDateTime
+        .ofEpochSecond(Math.floorDiv(localMillisecondsFrom1970, 1000L),
+            (int)Math.floorMod(localMillisecondsFrom1970, 1000L) * 1000000, ZoneOffset.UTC);
 
-    return leapYearCount;
+    return localDateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
   }
 
   private DatetimeStringProcessor getDatetimeStringProcessor()
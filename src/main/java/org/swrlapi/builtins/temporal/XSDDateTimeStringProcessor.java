@@ -2,9 +2,6 @@ package org.swrlapi.builtins.temporal;
 
 import org.checkerframework.checker.nullness.qual.NonNull;
 
-import java.sql.Timestamp;
-import java.text.SimpleDateFormat;
-
 /**
  * A class supporting processing of datetime strings represented in the standard XML Schema date format
  * 'yyyy-MM-ddTHH:mm:ss.S'.
@@ -13,7 +10,6 @@ import java.text.SimpleDateFormat;
  */
 class XSDDateTimeStringProcessor extends DatetimeStringProcessor
 {
-  @NonNull private static final SimpleDateFormat _dateFormat = new SimpleDateFormat("y-M-d'T'h:m:s.S");
   @NonNull private static final String _delimiters = "-:.TZ";
 
   // The number of tokens (including delimeters) necessary to strip a datetime to a specified granularity.
@@ -29,13 +25,6 @@ class XSDDateTimeStringProcessor extends DatetimeStringProcessor
 
   public XSDDateTimeStringProcessor()
   {
-    super(_dateFormat, _delimiters, _gTokenIndex, _datetimeRoundDownPadding, _datetimeRoundUpPadding);
-  }
-
-  @NonNull @Override protected String constructDatetimeStringFromMillisecondsFrom1970Count(long millisecondsFrom1970)
-  {
-    Timestamp ts = new Timestamp(millisecondsFrom1970);
-
-    return ts.toString().replace(' ', 'T'); // Timestamp.toString returns in JDBC format so replace space with 'T'.
+    super(_delimiters, 'T', _gTokenIndex, _datetimeRoundDownPadding, _datetimeRoundUpPadding);
   }
 }
@@ -0,0 +1,55 @@
+package org.swrlapi.core;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.semanticweb.owlapi.model.EntityType;
+import org.semanticweb.owlapi.model.IRI;
+
+import java.util.Set;
+
+/**
+ * Records the kinds of OWL entity named by each IRI in the signature of an ontology and its imports closure. An IRI
+ * may name more than one kind of entity if it is punned.
+ * <p>
+ * The table is shared by the parser, renderer, and auto-completer of an ontology so that resolving a name does not
+ * require a signature lookup in each ontology in the imports closure for each kind of entity. It is built on first use
+ * and kept up to date as axioms are added to or removed from the ontologies in the imports closure.
+ *
+ * @see org.swrlapi.core.SWRLAPIOWLOntology#getOWLEntitySymbolTable()
+ */
+public interface OWLEntitySymbolTable
+{
+  /**
+   * @param iri An IRI
+   * @return The kinds of entity named by the IRI; empty if it is not in the signature
+   */
+  @NonNull Set<@NonNull EntityType<?>> getEntityTypes(@NonNull IRI iri);
+
+  /**
+   * @param iri An IRI
+   * @return True if the IRI names an entity of any kind
+   */
+  boolean isOWLEntity(@NonNull IRI iri);
+
+  /**
+   * owl:Thing and owl:Nothing are always classes.
+   *
+   * @param iri An IRI
+   * @return True if the IRI names a class
+   */
+  boolean isOWLClass(@NonNull IRI iri);
+
+  boolean isOWLNamedIndividual(@NonNull IRI iri);
+
+  boolean isOWLObjectProperty(@NonNull IRI iri);
+
+  boolean isOWLDataProperty(@NonNull IRI iri);
+
+  boolean isOWLAnnotationProperty(@NonNull IRI iri);
+
+  boolean isOWLDatatype(@NonNull IRI iri);
+
+  /**
+   * @return The IRIs of all entities in the signature
+   */
+  @NonNull Set<@NonNull IRI> getEntityIRIs();
+}
@@ -21,6 +21,7 @@ import org.swrlapi.sqwrl.exceptions.SQWRLException;
 import org.swrlapi.ui.model.SWRLAutoCompleter;
 import org.swrlapi.ui.model.SWRLRuleEngineModel;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 
@@ -87,6 +88,18 @@ public interface SWRLAPIOWLOntology
   @NonNull SWRLAPIRule createSWRLRule(@NonNull String ruleName, @NonNull String rule, @NonNull String comment,
       boolean isActive) throws SWRLParseException, SWRLBuiltInException;
 
+  /**
+   * Create many rules or queries at once. The rules are parsed in parallel, converted in order, and are then added
+   * to the underlying ontology in a single batch of changes, after which the ontology is processed once rather than
+   * once per rule. No rule is added if any rule cannot be parsed.
+   *
+   * @param ruleDefinitions The names, text, comments, and active states of the rules
+   * @return The rule representations in the order of their definitions
+   * @throws SWRLParseException If an error occurs during parsing; the message names the offending rule
+   */
+  @NonNull List<@NonNull SWRLAPIRule> createSWRLRules(@NonNull List<@NonNull SWRLRuleDefinition> ruleDefinitions)
+    throws SWRLParseException, SWRLBuiltInException;
+
   /**
    *
    * @param originalRuleName The original name of the rule
@@ -123,6 +136,10 @@ public interface SWRLAPIOWLOntology
 
   @NonNull SWRLParser createSWRLParser();
 
+  /**
+   * @return The auto-completer for this ontology, which is shared by all callers and kept up to date as the ontology
+   * changes
+   */
   @NonNull SWRLAutoCompleter createSWRLAutoCompleter();
 
   @NonNull SWRLRuleRenderer createSWRLRuleRenderer();
@@ -194,6 +211,11 @@ public interface SWRLAPIOWLOntology
 
   @NonNull IRIResolver getIRIResolver();
 
+  /**
+   * @return The symbol table recording the kinds of the OWL entities in the ontology and its imports closure
+   */
+  @NonNull OWLEntitySymbolTable getOWLEntitySymbolTable();
+
   @NonNull OWLOntologyManager getOWLOntologyManager();
 
   @NonNull OWLOntology getOWLOntology();
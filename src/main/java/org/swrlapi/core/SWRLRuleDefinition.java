@@ -0,0 +1,66 @@
+package org.swrlapi.core;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+/**
+ * The name, text, comment, and active state of a SWRL rule or SQWRL query that has yet to be created.
+ *
+ * @see org.swrlapi.core.SWRLAPIOWLOntology#createSWRLRules(java.util.List)
+ * @see org.swrlapi.core.SWRLRuleEngine#createSWRLRules(java.util.List)
+ */
+public class SWRLRuleDefinition
+{
+  @NonNull private final String ruleName;
+  @NonNull private final String ruleText;
+  @NonNull private final String comment;
+  private final boolean isActive;
+
+  /**
+   * @param ruleName The name of the rule
+   * @param ruleText The rule text
+   */
+  public SWRLRuleDefinition(@NonNull String ruleName, @NonNull String ruleText)
+  {
+    this(ruleName, ruleText, "", true);
+  }
+
+  /**
+   * @param ruleName The name of the rule
+   * @param ruleText The rule text
+   * @param comment  A comment associated with the rule
+   * @param isActive Is the rule active
+   */
+  public SWRLRuleDefinition(@NonNull String ruleName, @NonNull String ruleText, @NonNull String comment,
+    boolean isActive)
+  {
+    this.ruleName = ruleName;
+    this.ruleText = ruleText;
+    this.comment = comment;
+    this.isActive = isActive;
+  }
+
+  @NonNull public String getRuleName()
+  {
+    return this.ruleName;
+  }
+
+  @NonNull public String getRuleText()
+  {
+    return this.ruleText;
+  }
+
+  @NonNull public String getComment()
+  {
+    return this.comment;
+  }
+
+  public boolean isActive()
+  {
+    return this.isActive;
+  }
+
+  @NonNull @Override public String toString()
+  {
+    return this.ruleName + ": " + this.ruleText;
+  }
+}
@@ -1,6 +1,7 @@
 package org.swrlapi.core;
 
 import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
 import org.semanticweb.owlapi.model.IRI;
 import org.semanticweb.owlapi.model.OWLAxiom;
 import org.semanticweb.owlapi.model.OWLOntology;
@@ -15,8 +16,11 @@ import org.swrlapi.ui.model.SWRLAutoCompleter;
 
 import javax.swing.*;
 import java.io.File;
+import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 /**
  * This interface defines methods that must be provided by a SWRL rule engine in the SWRLAPI.
@@ -36,6 +40,28 @@ public interface SWRLRuleEngine
    */
   void infer() throws SWRLRuleEngineException;
 
+  /**
+   * Perform inference asynchronously using the default executor. Cancelling the returned future stops the rule
+   * engine at its next check. If the budget is exceeded the future completes with a
+   * {@link org.swrlapi.exceptions.SWRLRuleEngineBudgetExceededException}.
+   *
+   * @param budget Limits on the execution
+   * @return A future that completes when inferred knowledge has been written back to OWL
+   * @see org.swrlapi.factory.SWRLAPIFactory#getDefaultSWRLRuleEngineExecutor()
+   */
+  @NonNull CompletableFuture<@Nullable Void> inferAsync(@NonNull SWRLRuleEngineBudget budget);
+
+  /**
+   * Perform inference asynchronously using the supplied executor. Asynchronous executions on the same engine run one
+   * at a time.
+   *
+   * @param budget   Limits on the execution
+   * @param executor The executor that runs the inference
+   * @return A future that completes when inferred knowledge has been written back to OWL
+   */
+  @NonNull CompletableFuture<@Nullable Void> inferAsync(@NonNull SWRLRuleEngineBudget budget,
+    @NonNull Executor executor);
+
   /**
    * Load asserted OWL axioms (which include SWRL rules) from a source OWL ontology.
    *
@@ -43,6 +69,62 @@ public interface SWRLRuleEngine
    */
   void importAssertedOWLAxioms() throws SWRLRuleEngineException;
 
+  /**
+   * Enable or disable pruning of the OWL axioms imported into the rule engine. When pruning is enabled only the
+   * asserted axioms that can contribute to an inference by an active SWRL rule or SQWRL query, given the currently
+   * enabled OWL 2 RL rules, are imported. Inferences about other entities are not made and inconsistencies that involve
+   * only other entities are not detected. Pruning is disabled by default.
+   *
+   * @param enabled Whether to prune imported axioms
+   */
+  void setOWLAxiomPruningEnabled(boolean enabled);
+
+  /**
+   * @return True if imported axioms are pruned
+   */
+  boolean isOWLAxiomPruningEnabled();
+
+  /**
+   * Enable or disable incremental inference. When it is enabled the engine records the changes made to its ontology.
+   * If the only changes since the last inference are added class or property assertions, {@link #infer()} imports
+   * just those assertions into the target rule engine, which still holds the previously imported axioms and their
+   * inferences, runs it, and writes only the newly inferred axioms back to the ontology. Any other change, such as a
+   * removed axiom, a schema axiom, a rule, or a change in the selected OWL 2 RL rules, causes the next inference to
+   * reset the target rule engine and import the whole ontology as usual. Importing or running a SQWRL query also
+   * resets the target rule engine. Incremental inference requires a target rule engine that accepts new axioms after
+   * it has been run. It is disabled by default.
+   *
+   * @param enabled Whether to infer incrementally
+   */
+  void setIncrementalInferenceEnabled(boolean enabled);
+
+  /**
+   * @return True if inference is incremental
+   */
+  boolean isIncrementalInferenceEnabled();
+
+  /**
+   * Save the inferred and injected OWL axioms to a file so that a later rule engine for the same ontology can restore
+   * them with {@link #restoreSnapshot(File)} instead of re-running inference.
+   *
+   * @param file The snapshot file
+   * @throws SWRLRuleEngineException If the snapshot cannot be written
+   */
+  void saveSnapshot(@NonNull File file) throws SWRLRuleEngineException;
+
+  /**
+   * Restore the inferred and injected OWL axioms from a snapshot without running the rule engine. The engine is reset
+   * and the ontology processed as they are before an import. The snapshot must have been taken from the same asserted
+   * axioms and rules and with the same enabled OWL 2 RL rules; a snapshot that does not match is rejected before
+   * anything is imported, leaving the target rule engine empty. Otherwise the asserted axioms are imported and the
+   * target rule engine is given the restored axioms, so it holds the same knowledge as after the inference the snapshot
+   * was taken from.
+   *
+   * @param file The snapshot file
+   * @throws SWRLRuleEngineException If the snapshot cannot be read or does not match the ontology
+   */
+  void restoreSnapshot(@NonNull File file) throws SWRLRuleEngineException;
+
   /**
    * Run the rule engine.
    *
@@ -57,6 +139,42 @@ public interface SWRLRuleEngine
    */
   void exportInferredOWLAxioms() throws SWRLRuleEngineException;
 
+  /**
+   * Write the OWL axioms inferred by the rule engine to a file in OWL functional syntax. The axioms are streamed to the
+   * file and no ontology is changed.
+   *
+   * @param file The file to write
+   * @throws SWRLRuleEngineException If an error occurs writing the file
+   */
+  void exportInferredOWLAxioms(@NonNull File file) throws SWRLRuleEngineException;
+
+  /**
+   * Set the number of inferred OWL axioms written to an ontology in each set of changes by
+   * {@link #exportInferredOWLAxioms()}. Registered rule engine models are updated once after all batches are written.
+   * If a batch cannot be written the batches before it stay in the ontology. The default is 10,000.
+   *
+   * @param batchSize The number of axioms in each batch
+   */
+  void setInferredOWLAxiomBatchSize(int batchSize);
+
+  /**
+   * @return The number of inferred OWL axioms written in each batch
+   */
+  int getInferredOWLAxiomBatchSize();
+
+  /**
+   * Set the ontology that {@link #exportInferredOWLAxioms()} writes inferred OWL axioms to. By default they are written
+   * to the source ontology.
+   *
+   * @param ontology The ontology to write inferred axioms to, or null to write them to the source ontology
+   */
+  void setInferredOWLAxiomOntology(@Nullable OWLOntology ontology);
+
+  /**
+   * @return The ontology inferred axioms are written to, if not the source ontology
+   */
+  @NonNull Optional<@NonNull OWLOntology> getInferredOWLAxiomOntology();
+
   /**
    * Create a SWRL rule
    *
@@ -81,6 +199,17 @@ public interface SWRLRuleEngine
   @NonNull SWRLAPIRule createSWRLRule(@NonNull String ruleName, @NonNull String rule, @NonNull String comment,
     boolean isActive) throws SWRLParseException, SWRLBuiltInException;
 
+  /**
+   * Create many SWRL rules or SQWRL queries at once. This is much faster than creating each rule in turn when loading
+   * a large rule base because the rules are parsed in parallel and the ontology is updated and processed once.
+   *
+   * @param ruleDefinitions The names, text, comments, and active states of the rules
+   * @return The SWRL rules in the order of their definitions
+   * @throws SWRLParseException If an error occurs during parsing; no rule is created in that case
+   */
+  @NonNull List<@NonNull SWRLAPIRule> createSWRLRules(@NonNull List<@NonNull SWRLRuleDefinition> ruleDefinitions)
+    throws SWRLParseException, SWRLBuiltInException;
+
   /**
    *
    * @param originalRuleName The original name of the rule
@@ -252,4 +381,36 @@ public interface SWRLRuleEngine
    * @return The underlying OWL ontology
    */
   @NonNull SWRLAPIOWLOntology getSWRLAPIOWLOntology();
+
+  /**
+   * Get the instrumentation that records phase timings, built-in invocations, and per-rule inferences for this engine.
+   * Instrumentation is disabled until {@link SWRLRuleEngineInstrumentation#setEnabled(boolean)} is called.
+   *
+   * @return The engine's instrumentation
+   */
+  @NonNull SWRLRuleEngineInstrumentation getInstrumentation();
+
+  /**
+   * Add a listener that is notified after each run of the rule engine of the axioms that rules have inferred and
+   * built-ins have injected since the previous run, and of those that are no longer inferred or injected. The changes
+   * are recorded as the axioms are inferred, so listeners receive them without the complete sets being copied.
+   *
+   * @param listener A listener to notify of changes to the inferred and injected OWL axioms
+   */
+  void addInferenceListener(@NonNull SWRLRuleEngineInferenceListener listener);
+
+  /**
+   * @param listener A previously added listener
+   */
+  void removeInferenceListener(@NonNull SWRLRuleEngineInferenceListener listener);
+
+  /**
+   * Get the progress of the asynchronous execution that is currently running on this engine. The returned progress
+   * is updated until the execution completes and may be polled from any thread.
+   *
+   * @return The progress of the current execution, or empty if no asynchronous execution is running
+   * @see #inferAsync(SWRLRuleEngineBudget)
+   * @see org.swrlapi.sqwrl.SQWRLQueryEngine#runSQWRLQueryAsync(String, SWRLRuleEngineBudget)
+   */
+  @NonNull Optional<@NonNull SWRLRuleEngineProgress> getExecutionProgress();
 }
@@ -0,0 +1,78 @@
+package org.swrlapi.core;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+/**
+ * Limits on a single rule engine or query engine execution. A limit of zero or less means that the corresponding
+ * resource is unbounded.
+ *
+ * @see org.swrlapi.core.SWRLRuleEngine#inferAsync(SWRLRuleEngineBudget)
+ * @see org.swrlapi.sqwrl.SQWRLQueryEngine#runSQWRLQueryAsync(String, SWRLRuleEngineBudget)
+ */
+public class SWRLRuleEngineBudget
+{
+  @NonNull public static final SWRLRuleEngineBudget UNLIMITED = new SWRLRuleEngineBudget(0, 0, 0);
+
+  private final long maximumWallTimeMillis;
+  private final long maximumNumberOfInferredOWLAxioms;
+  private final long maximumNumberOfSQWRLResultRows;
+
+  /**
+   * @param maximumWallTimeMillis            The maximum elapsed time of the execution
+   * @param maximumNumberOfInferredOWLAxioms The maximum number of OWL axioms inferred by the execution
+   * @param maximumNumberOfSQWRLResultRows   The maximum number of rows generated for any SQWRL query
+   */
+  public SWRLRuleEngineBudget(long maximumWallTimeMillis, long maximumNumberOfInferredOWLAxioms,
+    long maximumNumberOfSQWRLResultRows)
+  {
+    this.maximumWallTimeMillis = maximumWallTimeMillis;
+    this.maximumNumberOfInferredOWLAxioms = maximumNumberOfInferredOWLAxioms;
+    this.maximumNumberOfSQWRLResultRows = maximumNumberOfSQWRLResultRows;
+  }
+
+  /**
+   * @param maximumWallTimeMillis The maximum elapsed time of the execution
+   * @return A budget that limits elapsed time only
+   */
+  @NonNull public static SWRLRuleEngineBudget ofWallTime(long maximumWallTimeMillis)
+  {
+    return new SWRLRuleEngineBudget(maximumWallTimeMillis, 0, 0);
+  }
+
+  public long getMaximumWallTimeMillis()
+  {
+    return this.maximumWallTimeMillis;
+  }
+
+  public long getMaximumNumberOfInferredOWLAxioms()
+  {
+    return this.maximumNumberOfInferredOWLAxioms;
+  }
+
+  public long getMaximumNumberOfSQWRLResultRows()
+  {
+    return this.maximumNumberOfSQWRLResultRows;
+  }
+
+  public boolean hasWallTimeLimit()
+  {
+    return this.maximumWallTimeMillis > 0;
+  }
+
+  public boolean hasInferredOWLAxiomLimit()
+  {
+    return this.maximumNumberOfInferredOWLAxioms > 0;
+  }
+
+  public boolean hasSQWRLResultRowLimit()
+  {
+    return this.maximumNumberOfSQWRLResultRows > 0;
+  }
+
+  @NonNull @Override public String toString()
+  {
+    return "SWRLRuleEngineBudget{" + "maximumWallTimeMillis=" + this.maximumWallTimeMillis
+      + ", maximumNumberOfInferredOWLAxioms=" + this.maximumNumberOfInferredOWLAxioms
+      + ", maximumNumberOfSQWRLResultRows=" + this.maximumNumberOfSQWRLResultRows + '}';
+  }
+}
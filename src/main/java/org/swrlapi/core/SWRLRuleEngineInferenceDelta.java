@@ -0,0 +1,74 @@
+package org.swrlapi.core;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.semanticweb.owlapi.model.OWLAxiom;
+
+import java.util.Collections;
+import java.util.Set;
+
+/**
+ * The changes to the OWL axioms inferred by rules and injected by built-ins between two notifications of a
+ * {@link org.swrlapi.core.SWRLRuleEngineInferenceListener}.
+ * <p>
+ * An axiom is removed if it is no longer inferred or injected and is not asserted. An axiom that was inferred and has
+ * since been asserted, for example because the inferences of an earlier run were written back to the ontology, is
+ * not reported as removed.
+ */
+public class SWRLRuleEngineInferenceDelta
+{
+  @NonNull private final Set<@NonNull OWLAxiom> addedInferredOWLAxioms;
+  @NonNull private final Set<@NonNull OWLAxiom> removedInferredOWLAxioms;
+  @NonNull private final Set<@NonNull OWLAxiom> addedInjectedOWLAxioms;
+  @NonNull private final Set<@NonNull OWLAxiom> removedInjectedOWLAxioms;
+
+  public SWRLRuleEngineInferenceDelta(@NonNull Set<@NonNull OWLAxiom> addedInferredOWLAxioms,
+    @NonNull Set<@NonNull OWLAxiom> removedInferredOWLAxioms, @NonNull Set<@NonNull OWLAxiom> addedInjectedOWLAxioms,
+    @NonNull Set<@NonNull OWLAxiom> removedInjectedOWLAxioms)
+  {
+    this.addedInferredOWLAxioms = Collections.unmodifiableSet(addedInferredOWLAxioms);
+    this.removedInferredOWLAxioms = Collections.unmodifiableSet(removedInferredOWLAxioms);
+    this.addedInjectedOWLAxioms = Collections.unmodifiableSet(addedInjectedOWLAxioms);
+    this.removedInjectedOWLAxioms = Collections.unmodifiableSet(removedInjectedOWLAxioms);
+  }
+
+  /**
+   * @return The axioms that rules have inferred since the last notification
+   */
+  @NonNull public Set<@NonNull OWLAxiom> getAddedInferredOWLAxioms()
+  {
+    return this.addedInferredOWLAxioms;
+  }
+
+  /**
+   * @return The axioms that were inferred at the last notification and are no longer inferred or asserted
+   */
+  @NonNull public Set<@NonNull OWLAxiom> getRemovedInferredOWLAxioms()
+  {
+    return this.removedInferredOWLAxioms;
+  }
+
+  /**
+   * @return The axioms that built-ins have injected since the last notification
+   */
+  @NonNull public Set<@NonNull OWLAxiom> getAddedInjectedOWLAxioms()
+  {
+    return this.addedInjectedOWLAxioms;
+  }
+
+  /**
+   * @return The axioms that were injected at the last notification and are no longer injected or asserted
+   */
+  @NonNull public Set<@NonNull OWLAxiom> getRemovedInjectedOWLAxioms()
+  {
+    return this.removedInjectedOWLAxioms;
+  }
+
+  /**
+   * @return True if no axioms were added or removed
+   */
+  public boolean isEmpty()
+  {
+    return this.addedInferredOWLAxioms.isEmpty() && this.removedInferredOWLAxioms.isEmpty()
+      && this.addedInjectedOWLAxioms.isEmpty() && this.removedInjectedOWLAxioms.isEmpty();
+  }
+}
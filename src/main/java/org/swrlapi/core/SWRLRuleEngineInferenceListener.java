@@ -0,0 +1,20 @@
+package org.swrlapi.core;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+/**
+ * A listener that is notified of the changes to the OWL axioms inferred by rules and injected by built-ins after each
+ * run of a rule engine. It can be used to apply the inferences of a rule engine to another store without copying and
+ * comparing the complete sets of inferred axioms after every run.
+ * <p>
+ * Listeners are called on the thread running the rule engine and should return quickly.
+ *
+ * @see org.swrlapi.core.SWRLRuleEngine#addInferenceListener(SWRLRuleEngineInferenceListener)
+ */
+public interface SWRLRuleEngineInferenceListener
+{
+  /**
+   * @param delta The changes since listeners were last notified, or since the first listener was added
+   */
+  void inferencesChanged(@NonNull SWRLRuleEngineInferenceDelta delta);
+}
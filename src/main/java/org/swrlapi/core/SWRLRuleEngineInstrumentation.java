@@ -0,0 +1,62 @@
+package org.swrlapi.core;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+/**
+ * Records where a rule engine spends its time: the duration of each execution phase, the number and latency of
+ * built-in invocations, and the number of axioms inferred by each rule. Instrumentation is disabled by default; when
+ * disabled each recording method returns after checking a single flag.
+ *
+ * @see org.swrlapi.core.SWRLRuleEngine#getInstrumentation()
+ * @see org.swrlapi.core.SWRLRuleEngineInstrumentationSnapshot
+ */
+public interface SWRLRuleEngineInstrumentation
+{
+  /**
+   * @return True if activity is being recorded
+   */
+  boolean isEnabled();
+
+  /**
+   * @param enabled Start or stop recording activity
+   */
+  void setEnabled(boolean enabled);
+
+  /**
+   * Discard all recorded activity.
+   */
+  void reset();
+
+  /**
+   * @return An immutable copy of the activity recorded so far
+   */
+  @NonNull SWRLRuleEngineInstrumentationSnapshot getSnapshot();
+
+  /**
+   * @param listener A listener to notify of recorded activity
+   */
+  void addListener(@NonNull SWRLRuleEngineInstrumentationListener listener);
+
+  /**
+   * @param listener A previously added listener
+   */
+  void removeListener(@NonNull SWRLRuleEngineInstrumentationListener listener);
+
+  /**
+   * @param phase The completed phase
+   * @param nanos The elapsed time of the phase
+   */
+  void recordPhase(@NonNull SWRLRuleEnginePhase phase, long nanos);
+
+  /**
+   * @param builtInName The prefixed name of the invoked built-in
+   * @param ruleName    The name of the invoking rule
+   * @param nanos       The elapsed time of the invocation
+   */
+  void recordSWRLBuiltInInvocation(@NonNull String builtInName, @NonNull String ruleName, long nanos);
+
+  /**
+   * @param ruleName The name of the rule that inferred an axiom
+   */
+  void recordInferredOWLAxiom(@NonNull String ruleName);
+}
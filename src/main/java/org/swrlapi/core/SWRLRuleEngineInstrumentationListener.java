@@ -0,0 +1,32 @@
+package org.swrlapi.core;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+/**
+ * A listener that is notified of instrumented rule engine activity while instrumentation is enabled. It can be used to
+ * forward this activity to an external monitoring system, such as Java Flight Recorder on runtimes that provide it.
+ * <p>
+ * Listeners are called on the thread performing the activity and should return quickly.
+ *
+ * @see org.swrlapi.core.SWRLRuleEngineInstrumentation#addListener(SWRLRuleEngineInstrumentationListener)
+ */
+public interface SWRLRuleEngineInstrumentationListener
+{
+  /**
+   * @param phase The completed phase
+   * @param nanos The elapsed time of the phase
+   */
+  void phaseCompleted(@NonNull SWRLRuleEnginePhase phase, long nanos);
+
+  /**
+   * @param builtInName The prefixed name of the built-in
+   * @param ruleName    The name of the invoking rule
+   * @param nanos       The elapsed time of the invocation
+   */
+  void swrlBuiltInInvoked(@NonNull String builtInName, @NonNull String ruleName, long nanos);
+
+  /**
+   * @param ruleName The name of the rule that inferred an axiom
+   */
+  void owlAxiomInferred(@NonNull String ruleName);
+}
@@ -0,0 +1,180 @@
+package org.swrlapi.core;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * An immutable copy of the activity recorded by a {@link org.swrlapi.core.SWRLRuleEngineInstrumentation}.
+ */
+public class SWRLRuleEngineInstrumentationSnapshot
+{
+  /**
+   * Number of buckets in a built-in latency histogram. Bucket i holds invocations taking less than 2^i nanoseconds
+   * and at least 2^(i-1) nanoseconds; the last bucket also holds all longer invocations.
+   */
+  public static final int NUMBER_OF_LATENCY_BUCKETS = 40;
+
+  @NonNull private final Map<@NonNull SWRLRuleEnginePhase, @NonNull PhaseStatistics> phaseStatistics;
+  @NonNull private final Map<@NonNull String, @NonNull SWRLBuiltInStatistics> swrlBuiltInStatistics;
+  @NonNull private final Map<@NonNull String, @NonNull Long> inferredOWLAxiomCounts;
+
+  public SWRLRuleEngineInstrumentationSnapshot(
+    @NonNull Map<@NonNull SWRLRuleEnginePhase, @NonNull PhaseStatistics> phaseStatistics,
+    @NonNull Map<@NonNull String, @NonNull SWRLBuiltInStatistics> swrlBuiltInStatistics,
+    @NonNull Map<@NonNull String, @NonNull Long> inferredOWLAxiomCounts)
+  {
+    this.phaseStatistics = phaseStatistics.isEmpty() ?
+      Collections.emptyMap() :
+      Collections.unmodifiableMap(new EnumMap<>(phaseStatistics));
+    this.swrlBuiltInStatistics = Collections.unmodifiableMap(new HashMap<>(swrlBuiltInStatistics));
+    this.inferredOWLAxiomCounts = Collections.unmodifiableMap(new HashMap<>(inferredOWLAxiomCounts));
+  }
+
+  /**
+   * @return Timing statistics for each phase that has completed at least once
+   */
+  @NonNull public Map<@NonNull SWRLRuleEnginePhase, @NonNull PhaseStatistics> getPhaseStatistics()
+  {
+    return this.phaseStatistics;
+  }
+
+  /**
+   * @return Invocation statistics keyed by the prefixed name of each invoked built-in
+   */
+  @NonNull public Map<@NonNull String, @NonNull SWRLBuiltInStatistics> getSWRLBuiltInStatistics()
+  {
+    return this.swrlBuiltInStatistics;
+  }
+
+  /**
+   * @return The number of axioms inferred by each rule, keyed by rule name
+   */
+  @NonNull public Map<@NonNull String, @NonNull Long> getInferredOWLAxiomCounts()
+  {
+    return this.inferredOWLAxiomCounts;
+  }
+
+  /**
+   * @param nanos An elapsed time
+   * @return The index of the latency histogram bucket for the time
+   */
+  public static int getLatencyBucket(long nanos)
+  {
+    int bucket = 64 - Long.numberOfLeadingZeros(Math.max(nanos, 0));
+
+    return Math.min(bucket, NUMBER_OF_LATENCY_BUCKETS - 1);
+  }
+
+  @NonNull @Override public String toString()
+  {
+    return "SWRLRuleEngineInstrumentationSnapshot{" + "phaseStatistics=" + this.phaseStatistics
+      + ", swrlBuiltInStatistics=" + this.swrlBuiltInStatistics + ", inferredOWLAxiomCounts="
+      + this.inferredOWLAxiomCounts + '}';
+  }
+
+  public static class PhaseStatistics
+  {
+    private final long count;
+    private final long totalNanos;
+    private final long lastNanos;
+
+    public PhaseStatistics(long count, long totalNanos, long lastNanos)
+    {
+      this.count = count;
+      this.totalNanos = totalNanos;
+      this.lastNanos = lastNanos;
+    }
+
+    public long getCount()
+    {
+      return this.count;
+    }
+
+    public long getTotalNanos()
+    {
+      return this.totalNanos;
+    }
+
+    public long getLastNanos()
+    {
+      return this.lastNanos;
+    }
+
+    @NonNull @Override public String toString()
+    {
+      return "{count=" + this.count + ", totalNanos=" + this.totalNanos + ", lastNanos=" + this.lastNanos + '}';
+    }
+  }
+
+  public static class SWRLBuiltInStatistics
+  {
+    private final long count;
+    private final long totalNanos;
+    private final long maximumNanos;
+    @NonNull private final long[] latencyHistogram;
+
+    public SWRLBuiltInStatistics(long count, long totalNanos, long maximumNanos, @NonNull long[] latencyHistogram)
+    {
+      this.count = count;
+      this.totalNanos = totalNanos;
+      this.maximumNanos = maximumNanos;
+      this.latencyHistogram = latencyHistogram.clone();
+    }
+
+    public long getCount()
+    {
+      return this.count;
+    }
+
+    public long getTotalNanos()
+    {
+      return this.totalNanos;
+    }
+
+    public long getMaximumNanos()
+    {
+      return this.maximumNanos;
+    }
+
+    public double getMeanNanos()
+    {
+      return this.count == 0 ? 0.0 : (double)this.totalNanos / this.count;
+    }
+
+    /**
+     * @return A copy of the latency histogram
+     * @see SWRLRuleEngineInstrumentationSnapshot#NUMBER_OF_LATENCY_BUCKETS
+     */
+    @NonNull public long[] getLatencyHistogram()
+    {
+      return this.latencyHistogram.clone();
+    }
+
+    /**
+     * @param percentile A percentile between 0 and 100
+     * @return An upper bound on the latency of the given percentile of invocations, accurate to a factor of two
+     */
+    public long getPercentileNanos(double percentile)
+    {
+      long threshold = (long)Math.ceil(this.count * Math.min(Math.max(percentile, 0.0), 100.0) / 100.0);
+      long cumulativeCount = 0;
+
+      for (int bucket = 0; bucket < this.latencyHistogram.length; bucket++) {
+        cumulativeCount += this.latencyHistogram[bucket];
+        if (cumulativeCount >= threshold)
+          return Math.min(1L << bucket, this.maximumNanos);
+      }
+      return this.maximumNanos;
+    }
+
+    @NonNull @Override public String toString()
+    {
+      return "{count=" + this.count + ", totalNanos=" + this.totalNanos + ", maximumNanos=" + this.maximumNanos
+        + ", p50Nanos=" + getPercentileNanos(50) + ", p99Nanos=" + getPercentileNanos(99) + '}';
+    }
+  }
+}
@@ -0,0 +1,23 @@
+package org.swrlapi.core;
+
+/**
+ * The phases of a rule engine or query engine execution that are timed by a
+ * {@link org.swrlapi.core.SWRLRuleEngineInstrumentation}.
+ */
+public enum SWRLRuleEnginePhase
+{
+  /**
+   * Import of asserted OWL axioms (and any SQWRL queries) into the target rule engine
+   */
+  IMPORT,
+
+  /**
+   * Execution of the target rule engine
+   */
+  RUN,
+
+  /**
+   * Export of inferred OWL axioms to the source ontology
+   */
+  EXPORT
+}
@@ -0,0 +1,35 @@
+package org.swrlapi.core;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+import java.util.Optional;
+
+/**
+ * The progress of an asynchronous rule engine or query engine execution. It is updated by the thread running the
+ * execution and may be read from any thread, for example by a user interface that polls it while the execution runs.
+ *
+ * @see org.swrlapi.core.SWRLRuleEngine#getExecutionProgress()
+ */
+public interface SWRLRuleEngineProgress
+{
+  /**
+   * @return The phase that the execution is in, or empty if no phase has started yet
+   */
+  @NonNull Optional<@NonNull SWRLRuleEnginePhase> getPhase();
+
+  /**
+   * @return The number of asserted OWL axioms imported into the target rule engine so far
+   */
+  long getNumberOfImportedOWLAxioms();
+
+  /**
+   * @return The number of OWL axioms inferred so far
+   */
+  long getNumberOfInferredOWLAxioms();
+
+  /**
+   * @return The number of rows generated so far for the SQWRL query being run, or for the most recently extended
+   * query if several queries are being run
+   */
+  long getNumberOfSQWRLResultRows();
+}
@@ -0,0 +1,24 @@
+package org.swrlapi.exceptions;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+/**
+ * Thrown inside a running rule engine when its execution exceeds one of the limits in its
+ * {@link org.swrlapi.core.SWRLRuleEngineBudget}.
+ *
+ * @see org.swrlapi.bridge.SWRLRuleEngineExecutionMonitor
+ */
+public class SWRLRuleEngineBudgetExceededException extends SWRLRuleEngineBridgeException
+{
+  private static final long serialVersionUID = 1L;
+
+  public SWRLRuleEngineBudgetExceededException()
+  {
+    super();
+  }
+
+  public SWRLRuleEngineBudgetExceededException(@NonNull String message)
+  {
+    super(message);
+  }
+}
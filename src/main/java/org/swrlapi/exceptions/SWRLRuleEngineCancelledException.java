@@ -0,0 +1,23 @@
+package org.swrlapi.exceptions;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+/**
+ * Thrown inside a running rule engine when its execution has been cancelled or interrupted.
+ *
+ * @see org.swrlapi.bridge.SWRLRuleEngineExecutionMonitor
+ */
+public class SWRLRuleEngineCancelledException extends SWRLRuleEngineBridgeException
+{
+  private static final long serialVersionUID = 1L;
+
+  public SWRLRuleEngineCancelledException()
+  {
+    super();
+  }
+
+  public SWRLRuleEngineCancelledException(@NonNull String message)
+  {
+    super(message);
+  }
+}
@@ -4,6 +4,7 @@ import org.checkerframework.checker.nullness.qual.NonNull;
 import org.checkerframework.checker.nullness.qual.Nullable;
 import org.semanticweb.owlapi.formats.PrefixDocumentFormat;
 import org.semanticweb.owlapi.io.OWLObjectRenderer;
+import org.semanticweb.owlapi.io.XMLUtils;
 import org.semanticweb.owlapi.model.IRI;
 import org.semanticweb.owlapi.model.OWLDocumentFormat;
 import org.semanticweb.owlapi.model.OWLObject;
@@ -18,18 +19,33 @@ import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 
 public class DefaultIRIResolver implements IRIResolver
 {
   private static final String GENERATED_IRI_NAMESPACE = "http://swrl.stanford.edu/autogenerated";
 
+  private static final int MAXIMUM_CACHED_PREFIXED_NAMES = 100000;
+
   @NonNull private final DefaultPrefixManager prefixManager;
   @NonNull private final OWLObjectRenderer objectRenderer;
 
-  @NonNull private final Map<@NonNull String, @NonNull String> autogenNamespace2Prefix = new HashMap<>();
-  @NonNull private final Map<@NonNull String, @NonNull String> autogeneratedPrefix2Namespace = new HashMap<>();
-  @NonNull private final Map<@NonNull IRI, @NonNull String> autogenIRI2PrefixedName = new HashMap<>();
-  @NonNull private final Map<@NonNull String, @NonNull IRI> autogenPrefixedName2IRI = new HashMap<>();
+  // Rules may be parsed and rendered concurrently, and rendering may auto-generate prefixes, so these maps are
+  // concurrent and are only written while holding this resolver's lock
+  @NonNull private final Map<@NonNull String, @NonNull String> autogenNamespace2Prefix = new ConcurrentHashMap<>();
+  @NonNull private final Map<@NonNull String, @NonNull String> autogeneratedPrefix2Namespace =
+    new ConcurrentHashMap<>();
+  @NonNull private final Map<@NonNull IRI, @NonNull String> autogenIRI2PrefixedName = new ConcurrentHashMap<>();
+  @NonNull private final Map<@NonNull String, @NonNull IRI> autogenPrefixedName2IRI = new ConcurrentHashMap<>();
+
+  // Prefixed names of recently resolved IRIs; cleared when the prefixes change, on reset, and when full
+  @NonNull private final Map<@NonNull IRI, @NonNull String> iri2PrefixedNameCache = new ConcurrentHashMap<>();
+  @NonNull private volatile NamespaceTrie namespaceTrie;
+
+  // Generated IRIs are numbered in sequence after a random base that distinguishes them from those of other resolvers
+  @NonNull private final String generatedIRIBase = UUID.randomUUID().toString().replace('-', '_');
+  @NonNull private final AtomicLong generatedIRINumber = new AtomicLong();
 
   @Nullable private String defaultPrefix;
 
@@ -40,6 +56,7 @@ public class DefaultIRIResolver implements IRIResolver
   {
     this.prefixManager = new DefaultPrefixManager();
     this.objectRenderer = new SimpleRenderer();
+    this.namespaceTrie = createNamespaceTrie();
   }
 
   public DefaultIRIResolver(@NonNull String defaultPrefix)
@@ -48,14 +65,16 @@ public class DefaultIRIResolver implements IRIResolver
     this.prefixManager.setDefaultPrefix(defaultPrefix);
     this.defaultPrefix = defaultPrefix;
     this.objectRenderer = new SimpleRenderer();
+    this.namespaceTrie = createNamespaceTrie();
   }
 
-  @Override public void reset()
+  @Override public synchronized void reset()
   {
     this.autogenNamespace2Prefix.clear();
     this.autogeneratedPrefix2Namespace.clear();
     this.autogenPrefixedName2IRI.clear();
     this.autogenIRI2PrefixedName.clear();
+    this.iri2PrefixedNameCache.clear();
 
     this.autogenPrefixedNameNumber = 0;
     this.autogenPrefixNumber = 0;
@@ -104,21 +123,32 @@ public class DefaultIRIResolver implements IRIResolver
 
   @Override public Optional<@NonNull String> iri2PrefixedName(@NonNull IRI iri)
   {
-    String existingPrefixedName = this.prefixManager.getPrefixIRI(iri);
+    String prefixedName = this.iri2PrefixedNameCache.get(iri);
+
+    if (prefixedName == null) {
+      prefixedName = resolvePrefixedName(iri);
+      if (this.iri2PrefixedNameCache.size() >= MAXIMUM_CACHED_PREFIXED_NAMES)
+        this.iri2PrefixedNameCache.clear();
+      this.iri2PrefixedNameCache.put(iri, prefixedName);
+    }
+    return Optional.of(prefixedName);
+  }
+
+  @NonNull private String resolvePrefixedName(@NonNull IRI iri)
+  {
+    String existingPrefixedName = this.namespaceTrie.getPrefixedName(iri.toString());
     if (existingPrefixedName != null)
-      return Optional.of(existingPrefixedName);
+      return existingPrefixedName;
     else {
       String namespace = iri.getNamespace();
       com.google.common.base.Optional<@NonNull String> remainder = iri.getRemainder();
       if (remainder.isPresent()) {
-        if (namespace.isEmpty()) {
-          String prefixedName = remainder.get();
-          return Optional.of(prefixedName);
-        } else { // OWLAPI prefix manager does not have a prefixed form. We auto-generate a prefix for each namespace.
-          return Optional.of(autoGeneratePrefixedName(iri, namespace, remainder.get()));
-        }
+        if (namespace.isEmpty())
+          return remainder.get();
+        else // No prefix has a matching namespace. We auto-generate a prefix for each namespace.
+          return autoGeneratePrefixedName(iri, namespace, remainder.get());
       } else { // No remainder - auto-generate a prefixed form
-        return Optional.of(autoGeneratePrefixedName(iri));
+        return autoGeneratePrefixedName(iri);
       }
     }
   }
@@ -140,17 +170,16 @@ public class DefaultIRIResolver implements IRIResolver
 
   @Override @NonNull public Optional<@NonNull String> iri2ShortForm(@NonNull IRI iri)
   {
-    String shortForm = this.prefixManager.getShortForm(iri);
-
-    if (shortForm == null || shortForm.isEmpty() || shortForm.startsWith("<"))
-      return iri2PrefixedName(iri);
-    else
-      return Optional.of(shortForm);
+    // The prefix manager's short form of an IRI is its prefixed name when a prefix matches and its quoted form, which
+    // we never use, otherwise
+    return iri2PrefixedName(iri);
   }
 
   @Override public void setPrefix(@NonNull String prefix, @NonNull String namespace)
   {
     this.prefixManager.setPrefix(prefix, namespace);
+    this.namespaceTrie = createNamespaceTrie();
+    this.iri2PrefixedNameCache.clear();
   }
 
   @Override public void updatePrefixes(@NonNull OWLOntology ontology)
@@ -170,16 +199,20 @@ public class DefaultIRIResolver implements IRIResolver
         this.prefixManager.setPrefix(prefix, map.get(prefix));
     }
     addSWRLAPIPrefixes();
+
+    this.namespaceTrie = createNamespaceTrie();
+    this.iri2PrefixedNameCache.clear();
   }
 
   @Override public IRI generateIRI()
   {
     String defaultPrefix = this.prefixManager.getDefaultPrefix();
+    String localName = this.generatedIRIBase + "_" + this.generatedIRINumber.getAndIncrement();
 
     if (defaultPrefix != null)
-      return IRI.create(defaultPrefix + "#" + UUID.randomUUID().toString().replaceAll("-", "_"));
+      return IRI.create(defaultPrefix + "#" + localName);
     else
-      return IRI.create(GENERATED_IRI_NAMESPACE + "#" + UUID.randomUUID().toString().replaceAll("-", "_"));
+      return IRI.create(GENERATED_IRI_NAMESPACE + "#" + localName);
   }
 
   @NonNull @Override public String render(@Nonnull OWLObject owlObject)
@@ -207,7 +240,7 @@ public class DefaultIRIResolver implements IRIResolver
       return prefixedName;
   }
 
-  @NonNull private String autoGeneratePrefix(@NonNull String namespace)
+  @NonNull private synchronized String autoGeneratePrefix(@NonNull String namespace)
   {
     if (this.autogenNamespace2Prefix.containsKey(namespace))
       return this.autogenNamespace2Prefix.get(namespace);
@@ -220,7 +253,7 @@ public class DefaultIRIResolver implements IRIResolver
     }
   }
 
-  @NonNull private String autoGeneratePrefixedName(@NonNull IRI iri)
+  @NonNull private synchronized String autoGeneratePrefixedName(@NonNull IRI iri)
   {
     if (this.autogenIRI2PrefixedName.containsKey(iri))
       return this.autogenIRI2PrefixedName.get(iri);
@@ -233,7 +266,7 @@ public class DefaultIRIResolver implements IRIResolver
     }
   }
 
-  @NonNull private String autoGeneratePrefixedName(@NonNull IRI iri, @NonNull String namespace,
+  @NonNull private synchronized String autoGeneratePrefixedName(@NonNull IRI iri, @NonNull String namespace,
     @NonNull String remainder)
   {
     String autogenPrefix = autoGeneratePrefix(namespace);
@@ -257,4 +290,59 @@ public class DefaultIRIResolver implements IRIResolver
     this.prefixManager.setPrefix("rbox:", "http://swrl.stanford.edu/ontologies/built-ins/5.0.0/rbox.owl#");
     this.prefixManager.setPrefix("swrla:", "http://swrl.stanford.edu/ontologies/3.3/swrla.owl#");
   }
+
+  @NonNull private NamespaceTrie createNamespaceTrie()
+  {
+    NamespaceTrie namespaceTrie = new NamespaceTrie();
+    Map<@NonNull String, String> prefixName2Namespace = this.prefixManager.getPrefixName2PrefixMap();
+
+    for (String prefixName : prefixName2Namespace.keySet()) {
+      String namespace = prefixName2Namespace.get(prefixName);
+      if (namespace != null)
+        namespaceTrie.add(namespace, prefixName);
+    }
+    return namespaceTrie;
+  }
+
+  /**
+   * A character trie of the namespaces of the known prefixes. Finding the prefixed name of an IRI walks the trie along
+   * the IRI once and picks the longest namespace that leaves a valid local name, rather than splitting the IRI and
+   * looking up its namespace. The trie is not modified after it is built.
+   */
+  private static class NamespaceTrie
+  {
+    @NonNull private final Map<@NonNull Character, @NonNull NamespaceTrie> children = new HashMap<>();
+    @Nullable private String prefixName; // The prefix of the namespace that ends at this node, if any
+
+    /**
+     * If several prefixes share a namespace the shortest prefix is used, as the default prefix ":" is.
+     */
+    private void add(@NonNull String namespace, @NonNull String prefixName)
+    {
+      NamespaceTrie node = this;
+
+      for (int i = 0; i < namespace.length(); i++)
+        node = node.children.computeIfAbsent(namespace.charAt(i), c -> new NamespaceTrie());
+
+      if (node.prefixName == null || prefixName.length() < node.prefixName.length() || (
+        prefixName.length() == node.prefixName.length() && prefixName.compareTo(node.prefixName) < 0))
+        node.prefixName = prefixName;
+    }
+
+    @Nullable private String getPrefixedName(@NonNull String iri)
+    {
+      NamespaceTrie node = this;
+      String matchingPrefixName = null;
+      int matchingNamespaceLength = 0;
+
+      for (int i = 0; node != null; i++) {
+        if (node.prefixName != null && (i == iri.length() || XMLUtils.isNCName(iri.subSequence(i, iri.length())))) {
+          matchingPrefixName = node.prefixName;
+          matchingNamespaceLength = i;
+        }
+        node = i < iri.length() ? node.children.get(iri.charAt(i)) : null;
+      }
+      return matchingPrefixName != null ? matchingPrefixName + iri.substring(matchingNamespaceLength) : null;
+    }
+  }
 }
\ No newline at end of file
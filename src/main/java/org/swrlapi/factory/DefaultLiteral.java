@@ -10,7 +10,7 @@ import org.semanticweb.owlapi.vocab.OWLRDFVocabulary;
 import org.semanticweb.owlapi.vocab.XSDVocabulary;
 import org.swrlapi.exceptions.LiteralException;
 import org.swrlapi.literal.Literal;
-import org.swrlapi.literal.OWLLiteralComparator;
+import org.swrlapi.literal.LiteralDatatype;
 import org.swrlapi.literal.XSDDate;
 import org.swrlapi.literal.XSDDateTime;
 import org.swrlapi.literal.XSDDuration;
@@ -20,13 +20,23 @@ import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.net.URI;
 
+/**
+ * Resolves the datatype of the wrapped OWL literal once on construction and parses its lexical form at most once, so
+ * that repeated type tests and conversions by built-ins and comparators are cheap.
+ */
 class DefaultLiteral implements Literal
 {
   @NonNull private final OWLLiteral literal;
+  @NonNull private final LiteralDatatype datatype;
+
+  // Lazily computed; parsed values are immutable so a racing thread at worst parses the lexical form again
+  @Nullable private Object parsedValue;
+  @Nullable private BigDecimal decimalValue;
 
   public DefaultLiteral(@NonNull OWLLiteral literal)
   {
     this.literal = literal;
+    this.datatype = LiteralDatatype.of(literal.getDatatype());
   }
 
   @NonNull @Override public OWLLiteral getOWLLiteral()
@@ -36,137 +46,137 @@ class DefaultLiteral implements Literal
 
   @Override public boolean isNumeric()
   {
-    return OWLLiteralComparator.isNumeric(literal);
+    return this.datatype.isNumeric();
   }
 
   @Override public boolean isByte()
   {
-    return this.literal.getDatatype().getIRI().equals(XSDVocabulary.BYTE.getIRI());
+    return this.datatype == LiteralDatatype.BYTE;
   }
 
   @Override public boolean isShort()
   {
-    return this.literal.getDatatype().getIRI().equals(XSDVocabulary.SHORT.getIRI());
+    return this.datatype == LiteralDatatype.SHORT;
   }
 
   @Override public boolean isInt()
   {
-    return this.literal.getDatatype().getIRI().equals(XSDVocabulary.INT.getIRI());
+    return this.datatype == LiteralDatatype.INT;
   }
 
   @Override public boolean isLong()
   {
-    return this.literal.getDatatype().getIRI().equals(XSDVocabulary.LONG.getIRI());
+    return this.datatype == LiteralDatatype.LONG;
   }
 
   @Override public boolean isFloat()
   {
-    return this.literal.getDatatype().isFloat();
+    return this.datatype == LiteralDatatype.FLOAT;
   }
 
   @Override public boolean isDouble()
   {
-    return this.literal.getDatatype().isDouble();
+    return this.datatype == LiteralDatatype.DOUBLE;
   }
 
   @Override public boolean isDecimal()
   {
-    return this.literal.getDatatype().getIRI().equals(XSDVocabulary.DECIMAL.getIRI());
+    return this.datatype == LiteralDatatype.DECIMAL;
   }
 
   @Override public boolean isInteger()
   {
-    return this.literal.getDatatype().getIRI().equals(XSDVocabulary.INTEGER.getIRI());
+    return this.datatype == LiteralDatatype.INTEGER;
   }
 
   @Override public boolean isNegativeInteger()
   {
-    return this.literal.getDatatype().getIRI().equals(XSDVocabulary.NEGATIVE_INTEGER.getIRI());
+    return this.datatype == LiteralDatatype.NEGATIVE_INTEGER;
   }
 
   @Override public boolean isPositiveInteger()
   {
-    return this.literal.getDatatype().getIRI().equals(XSDVocabulary.POSITIVE_INTEGER.getIRI());
+    return this.datatype == LiteralDatatype.POSITIVE_INTEGER;
   }
 
   @Override public boolean isNonNegativeInteger()
   {
-    return this.literal.getDatatype().getIRI().equals(XSDVocabulary.NON_NEGATIVE_INTEGER.getIRI());
+    return this.datatype == LiteralDatatype.NON_NEGATIVE_INTEGER;
   }
 
   @Override public boolean isNonPositiveInteger()
   {
-    return this.literal.getDatatype().getIRI().equals(XSDVocabulary.NON_POSITIVE_INTEGER.getIRI());
+    return this.datatype == LiteralDatatype.NON_POSITIVE_INTEGER;
   }
 
   @Override public boolean isUnsignedLong()
   {
-    return this.literal.getDatatype().getIRI().equals(XSDVocabulary.UNSIGNED_LONG.getIRI());
+    return this.datatype == LiteralDatatype.UNSIGNED_LONG;
   }
 
   @Override public boolean isUnsignedInt()
   {
-    return this.literal.getDatatype().getIRI().equals(XSDVocabulary.UNSIGNED_INT.getIRI());
+    return this.datatype == LiteralDatatype.UNSIGNED_INT;
   }
 
   @Override public boolean isUnsignedShort()
   {
-    return this.literal.getDatatype().getIRI().equals(XSDVocabulary.UNSIGNED_SHORT.getIRI());
+    return this.datatype == LiteralDatatype.UNSIGNED_SHORT;
   }
 
   @Override public boolean isUnsignedByte()
   {
-    return this.literal.getDatatype().getIRI().equals(XSDVocabulary.UNSIGNED_BYTE.getIRI());
+    return this.datatype == LiteralDatatype.UNSIGNED_BYTE;
   }
 
   @Override public boolean isRDFPlainLiteral()
   {
-    return this.literal.getDatatype().getIRI().equals(OWLRDFVocabulary.RDF_PLAIN_LITERAL.getIRI());
+    return this.datatype == LiteralDatatype.RDF_PLAIN_LITERAL;
   }
 
   @Override public boolean isRDFSLiteral()
   {
-    return this.literal.getDatatype().getIRI().equals(OWLRDFVocabulary.RDFS_LITERAL.getIRI());
+    return this.datatype == LiteralDatatype.RDFS_LITERAL;
   }
 
   @Override public boolean isRDFXMLLiteral()
   {
-    return this.literal.getDatatype().getIRI().equals(OWLRDFVocabulary.RDF_XML_LITERAL.getIRI());
+    return this.datatype == LiteralDatatype.RDF_XML_LITERAL;
   }
 
   @Override public boolean isString()
   {
-    return this.literal.getDatatype().isString();
+    return this.datatype == LiteralDatatype.STRING;
   }
 
   @Override public boolean isBoolean()
   {
-    return this.literal.getDatatype().isBoolean();
+    return this.datatype == LiteralDatatype.BOOLEAN;
   }
 
   @Override public boolean isAnyURI()
   {
-    return this.literal.getDatatype().getIRI().equals(XSDVocabulary.ANY_URI.getIRI());
+    return this.datatype == LiteralDatatype.ANY_URI;
   }
 
   @Override public boolean isTime()
   {
-    return this.literal.getDatatype().getIRI().equals(XSDVocabulary.TIME.getIRI());
+    return this.datatype == LiteralDatatype.TIME;
   }
 
   @Override public boolean isDate()
   {
-    return this.literal.getDatatype().getIRI().equals(XSDVocabulary.DATE.getIRI());
+    return this.datatype == LiteralDatatype.DATE;
   }
 
   @Override public boolean isDateTime()
   {
-    return this.literal.getDatatype().getIRI().equals(XSDVocabulary.DATE_TIME.getIRI());
+    return this.datatype == LiteralDatatype.DATE_TIME;
   }
 
   @Override public boolean isDuration()
   {
-    return this.literal.getDatatype().getIRI().equals(XSDVocabulary.DURATION.getIRI());
+    return this.datatype == LiteralDatatype.DURATION;
   }
 
   @Override public boolean isComparable()
@@ -225,7 +235,7 @@ class DefaultLiteral implements Literal
         "cannot convert value of type " + this.literal.getDatatype() + " to " + XSDVocabulary.BOOLEAN
           .getPrefixedName());
 
-    return Boolean.parseBoolean(this.literal.getLiteral());
+    return (Boolean)getParsedValue();
   }
 
   @Override public byte getByte() throws LiteralException
@@ -234,7 +244,7 @@ class DefaultLiteral implements Literal
       if (!isByte())
         throw new LiteralException(
           "cannot convert value of type " + this.literal.getDatatype() + " to " + XSDVocabulary.BYTE.getPrefixedName());
-      return Byte.parseByte(this.literal.getLiteral());
+      return getNumber().byteValue();
     } catch (NumberFormatException e) {
       throw new LiteralException(
         "cannot convert value " + this.literal.getLiteral() + " of type " + this.literal.getDatatype()
@@ -245,10 +255,8 @@ class DefaultLiteral implements Literal
   @Override public short getShort() throws LiteralException
   {
     try {
-      if (isShort())
-        return Short.parseShort(this.literal.getLiteral());
-      else if (isByte())
-        return Byte.parseByte(this.literal.getLiteral());
+      if (isShort() || isByte())
+        return getNumber().shortValue();
       else
         throw new LiteralException(
           "cannot convert value of type " + this.literal.getDatatype() + " to " + XSDVocabulary.SHORT
@@ -263,12 +271,8 @@ class DefaultLiteral implements Literal
   @Override public int getInt() throws LiteralException
   {
     try {
-      if (isInt())
-        return Integer.parseInt(this.literal.getLiteral());
-      else if (isShort())
-        return Short.parseShort(this.literal.getLiteral());
-      else if (isByte())
-        return Byte.parseByte(this.literal.getLiteral());
+      if (isInt() || isShort() || isByte())
+        return getNumber().intValue();
       else
         throw new LiteralException(
           "cannot convert value of type " + this.literal.getDatatype() + " to " + XSDVocabulary.INT.getPrefixedName());
@@ -282,14 +286,8 @@ class DefaultLiteral implements Literal
   @Override public long getLong() throws LiteralException
   {
     try {
-      if (isLong())
-        return Long.parseLong(this.literal.getLiteral());
-      else if (isInt())
-        return Integer.parseInt(this.literal.getLiteral());
-      else if (isShort())
-        return Short.parseShort(this.literal.getLiteral());
-      else if (isByte())
-        return Byte.parseByte(this.literal.getLiteral());
+      if (isLong() || isInt() || isShort() || isByte())
+        return getNumber().longValue();
       else
         throw new LiteralException(
           "cannot convert value of type " + this.literal.getDatatype() + " to " + XSDVocabulary.LONG.getPrefixedName());
@@ -305,18 +303,10 @@ class DefaultLiteral implements Literal
   @Override public float getFloat() throws LiteralException
   {
     try {
-      if (isFloat())
-        return Float.parseFloat(this.literal.getLiteral());
-      else if (isDouble())
+      if (isDouble()) // Parse directly to avoid double rounding
         return Float.parseFloat(this.literal.getLiteral());
-      else if (isInt())
-        return Integer.parseInt(this.literal.getLiteral());
-      else if (isLong())
-        return Long.parseLong(this.literal.getLiteral());
-      else if (isShort())
-        return Short.parseShort(this.literal.getLiteral());
-      else if (isByte())
-        return Byte.parseByte(this.literal.getLiteral());
+      else if (isFloat() || isInt() || isLong() || isShort() || isByte())
+        return getNumber().floatValue();
       else
         throw new LiteralException(
           "cannot convert value of type " + this.literal.getDatatype() + " to " + XSDVocabulary.FLOAT
@@ -333,18 +323,8 @@ class DefaultLiteral implements Literal
   @Override public double getDouble() throws LiteralException
   {
     try {
-      if (isDouble())
-        return Double.parseDouble(this.literal.getLiteral());
-      else if (isFloat())
-        return Float.parseFloat(this.literal.getLiteral());
-      else if (isInt())
-        return Integer.parseInt(this.literal.getLiteral());
-      else if (isLong())
-        return Long.parseLong(this.literal.getLiteral());
-      else if (isShort())
-        return Short.parseShort(this.literal.getLiteral());
-      else if (isByte())
-        return Byte.parseByte(this.literal.getLiteral());
+      if (isDouble() || isFloat() || isInt() || isLong() || isShort() || isByte())
+        return getNumber().doubleValue();
       else
         throw new LiteralException(
           "cannot convert value of type " + this.literal.getDatatype() + " to " + XSDVocabulary.DOUBLE
@@ -360,7 +340,7 @@ class DefaultLiteral implements Literal
   {
     try {
       if (isNumeric())
-        return new BigDecimal(this.literal.getLiteral());
+        return getDecimalValue();
       else
         throw new LiteralException(
           "cannot convert value of type " + this.literal.getDatatype() + " to " + XSDVocabulary.DECIMAL
@@ -376,7 +356,7 @@ class DefaultLiteral implements Literal
   {
     try {
       if (isNumeric())
-        return new BigInteger(this.literal.getLiteral());
+        return getIntegerValue();
       else
         throw new LiteralException(
           "cannot convert value of type " + this.literal.getDatatype() + " to " + XSDVocabulary.INTEGER
@@ -392,7 +372,7 @@ class DefaultLiteral implements Literal
   {
     try {
       if (isNumeric()) {
-        BigInteger i = new BigInteger(this.literal.getLiteral());
+        BigInteger i = getIntegerValue();
         if (i.signum() != -1)
           return i;
         else
@@ -413,7 +393,7 @@ class DefaultLiteral implements Literal
   {
     try {
       if (isNumeric()) {
-        BigInteger i = new BigInteger(this.literal.getLiteral());
+        BigInteger i = getIntegerValue();
         if (i.signum() != 1)
           return i;
         else
@@ -434,7 +414,7 @@ class DefaultLiteral implements Literal
   {
     try {
       if (isNumeric()) {
-        BigInteger i = new BigInteger(this.literal.getLiteral());
+        BigInteger i = getIntegerValue();
         if (i.signum() == -1)
           return i;
         else
@@ -455,7 +435,7 @@ class DefaultLiteral implements Literal
   {
     try {
       if (isNumeric()) {
-        BigInteger i = new BigInteger(this.literal.getLiteral());
+        BigInteger i = getIntegerValue();
         if (i.signum() == 1)
           return i;
         else
@@ -563,7 +543,7 @@ class DefaultLiteral implements Literal
         throw new LiteralException(
           "cannot convert value of type " + this.literal.getDatatype() + " to " + XSDVocabulary.ANY_URI
             .getPrefixedName());
-      return URI.create(this.literal.getLiteral());
+      return (URI)getParsedValue();
     } catch (IllegalArgumentException e) {
       throw new LiteralException(
         "cannot convert value " + this.literal.getLiteral() + " of type " + this.literal.getDatatype() + " to "
@@ -576,7 +556,7 @@ class DefaultLiteral implements Literal
     if (!isTime())
       throw new LiteralException(
         "cannot convert value of type " + this.literal.getDatatype() + " to " + XSDVocabulary.TIME.getPrefixedName());
-    return new XSDTime(this.literal.getLiteral());
+    return (XSDTime)getParsedValue();
   }
 
   @NonNull @Override public XSDDate getDate() throws LiteralException
@@ -584,7 +564,7 @@ class DefaultLiteral implements Literal
     if (!isDate())
       throw new LiteralException(
         "cannot convert value of type " + this.literal.getDatatype() + " to " + XSDVocabulary.DATE.getPrefixedName());
-    return new XSDDate(this.literal.getLiteral());
+    return (XSDDate)getParsedValue();
   }
 
   @NonNull @Override public XSDDateTime getDateTime() throws LiteralException
@@ -593,7 +573,7 @@ class DefaultLiteral implements Literal
       throw new LiteralException(
         "cannot convert value of type " + this.literal.getDatatype() + " to " + XSDVocabulary.DATE_TIME
           .getPrefixedName());
-    return new XSDDateTime(this.literal.getLiteral());
+    return (XSDDateTime)getParsedValue();
   }
 
   @NonNull @Override public XSDDuration getDuration() throws LiteralException
@@ -603,7 +583,7 @@ class DefaultLiteral implements Literal
         "cannot convert value of type " + this.literal.getDatatype() + " to " + XSDVocabulary.DURATION
           .getPrefixedName());
 
-    return new XSDDuration(this.literal.getLiteral());
+    return (XSDDuration)getParsedValue();
   }
 
   @NonNull @Override public String getValue()
@@ -621,6 +601,11 @@ class DefaultLiteral implements Literal
     return getOWLDatatype().toString();
   }
 
+  @NonNull @Override public LiteralDatatype getLiteralDatatype()
+  {
+    return this.datatype;
+  }
+
    @NonNull @SideEffectFree @Override public String toString()
   {
     return this.literal.toString();
@@ -632,6 +617,107 @@ class DefaultLiteral implements Literal
     return "\"" + this.literal.toString().replaceAll("[~\\\\]\"", "\\\\\"") + "\"";
   }
 
+  // Only called for byte, short, int, long, float, and double literals
+  @NonNull private Number getNumber()
+  {
+    return (Number)getParsedValue();
+  }
+
+  @NonNull private BigDecimal getDecimalValue()
+  {
+    BigDecimal decimalValue = this.decimalValue;
+
+    if (decimalValue == null) {
+      decimalValue = this.datatype == LiteralDatatype.DECIMAL ?
+        (BigDecimal)getParsedValue() :
+        new BigDecimal(this.literal.getLiteral());
+      this.decimalValue = decimalValue;
+    }
+    return decimalValue;
+  }
+
+  @NonNull private BigInteger getIntegerValue()
+  {
+    switch (this.datatype) {
+    case BYTE:
+    case SHORT:
+    case INT:
+    case LONG:
+      return BigInteger.valueOf(getNumber().longValue());
+    case INTEGER:
+    case NEGATIVE_INTEGER:
+    case POSITIVE_INTEGER:
+    case NON_NEGATIVE_INTEGER:
+    case NON_POSITIVE_INTEGER:
+    case UNSIGNED_LONG:
+    case UNSIGNED_INT:
+    case UNSIGNED_SHORT:
+    case UNSIGNED_BYTE:
+      return (BigInteger)getParsedValue();
+    default:
+      return new BigInteger(this.literal.getLiteral());
+    }
+  }
+
+  /**
+   * Parses the lexical form according to the datatype of the literal and caches the result. Parse failures are not
+   * cached so they are reported on every conversion attempt.
+   */
+  @NonNull private Object getParsedValue()
+  {
+    Object parsedValue = this.parsedValue;
+
+    if (parsedValue == null) {
+      parsedValue = parseValue(this.datatype, this.literal.getLiteral());
+      this.parsedValue = parsedValue;
+    }
+    return parsedValue;
+  }
+
+  @NonNull private static Object parseValue(@NonNull LiteralDatatype datatype, @NonNull String lexicalForm)
+  {
+    switch (datatype) {
+    case BYTE:
+      return Byte.parseByte(lexicalForm);
+    case SHORT:
+      return Short.parseShort(lexicalForm);
+    case INT:
+      return Integer.parseInt(lexicalForm);
+    case LONG:
+      return Long.parseLong(lexicalForm);
+    case FLOAT:
+      return Float.parseFloat(lexicalForm);
+    case DOUBLE:
+      return Double.parseDouble(lexicalForm);
+    case DECIMAL:
+      return new BigDecimal(lexicalForm);
+    case INTEGER:
+    case NEGATIVE_INTEGER:
+    case POSITIVE_INTEGER:
+    case NON_NEGATIVE_INTEGER:
+    case NON_POSITIVE_INTEGER:
+    case UNSIGNED_LONG:
+    case UNSIGNED_INT:
+    case UNSIGNED_SHORT:
+    case UNSIGNED_BYTE:
+      return new BigInteger(lexicalForm);
+    case BOOLEAN:
+      return Boolean.parseBoolean(lexicalForm);
+    case ANY_URI:
+      return URI.create(lexicalForm);
+    case TIME:
+      return new XSDTime(lexicalForm);
+    case DATE:
+      return new XSDDate(lexicalForm);
+    case DATE_TIME:
+      return new XSDDateTime(lexicalForm);
+    case DURATION:
+      return new XSDDuration(lexicalForm);
+    default:
+      return lexicalForm;
+    }
+  }
+
   @SideEffectFree @Deterministic @Override public boolean equals(@Nullable Object obj)
   {
     if (this == obj)
@@ -0,0 +1,250 @@
+package org.swrlapi.factory;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.semanticweb.owlapi.model.AddAxiom;
+import org.semanticweb.owlapi.model.EntityType;
+import org.semanticweb.owlapi.model.IRI;
+import org.semanticweb.owlapi.model.OWLEntity;
+import org.semanticweb.owlapi.model.OWLOntology;
+import org.semanticweb.owlapi.model.OWLOntologyChange;
+import org.semanticweb.owlapi.model.OWLOntologyChangeListener;
+import org.semanticweb.owlapi.model.OWLOntologyManager;
+import org.semanticweb.owlapi.model.RemoveAxiom;
+import org.semanticweb.owlapi.model.parameters.Imports;
+import org.semanticweb.owlapi.vocab.OWLRDFVocabulary;
+import org.swrlapi.core.OWLEntitySymbolTable;
+
+import javax.annotation.Nonnull;
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * An {@link org.swrlapi.core.OWLEntitySymbolTable} that maps each IRI in the signature of an ontology's imports
+ * closure to a bit set of entity kinds.
+ * <p>
+ * There is one table per ontology object, shared by all SWRLAPI ontologies created for it, and it listens for changes
+ * to the ontologies in its ontology manager. An added axiom adds the entities in its signature; a removed axiom removes
+ * those of its entities that no longer occur in the imports closure. Any other change to an ontology in the imports
+ * closure, such as a change of imports, discards the table, which is rebuilt on its next use.
+ * <p>
+ * Tables are found by ontology identity rather than equality because ontologies with the same ID, or with IDs changed
+ * after the table was created, are equal or unequal independently of their contents. A table stops listening to its
+ * manager when its ontology is removed from the manager or discarded.
+ *
+ * @see org.swrlapi.factory.SWRLAPIInternalFactory#getOWLEntitySymbolTable(OWLOntology)
+ */
+class DefaultOWLEntitySymbolTable implements OWLEntitySymbolTable, OWLOntologyChangeListener
+{
+  @NonNull private static final EntityType<?>[] entityTypes = { EntityType.CLASS, EntityType.NAMED_INDIVIDUAL,
+    EntityType.OBJECT_PROPERTY, EntityType.DATA_PROPERTY, EntityType.ANNOTATION_PROPERTY, EntityType.DATATYPE };
+
+  // Tables are grouped weakly by ontology manager and refer to their ontology weakly so that they do not keep
+  // discarded managers or ontologies alive
+  @NonNull private static final Map<@NonNull OWLOntologyManager, @NonNull List<@NonNull DefaultOWLEntitySymbolTable>>
+    symbolTables = new WeakHashMap<>();
+
+  @NonNull private final WeakReference<@NonNull OWLOntology> ontology;
+  @NonNull private final Map<@NonNull IRI, @NonNull Integer> entityKinds; // Bit i is set for entityTypes[i]
+  private volatile boolean built;
+
+  private DefaultOWLEntitySymbolTable(@NonNull OWLOntology ontology)
+  {
+    this.ontology = new WeakReference<>(ontology);
+    this.entityKinds = new ConcurrentHashMap<>();
+    this.built = false;
+  }
+
+  /**
+   * @param ontology An OWL ontology
+   * @return The symbol table for the ontology, which is created and registered with its manager on first request
+   */
+  @NonNull static synchronized DefaultOWLEntitySymbolTable getOWLEntitySymbolTable(@NonNull OWLOntology ontology)
+  {
+    OWLOntologyManager ontologyManager = ontology.getOWLOntologyManager();
+    List<@NonNull DefaultOWLEntitySymbolTable> managerSymbolTables = symbolTables
+      .computeIfAbsent(ontologyManager, m -> new ArrayList<>());
+    DefaultOWLEntitySymbolTable symbolTable = null;
+    Iterator<@NonNull DefaultOWLEntitySymbolTable> iterator = managerSymbolTables.iterator();
+
+    while (iterator.hasNext()) {
+      DefaultOWLEntitySymbolTable managerSymbolTable = iterator.next();
+      OWLOntology managerOntology = managerSymbolTable.ontology.get();
+
+      if (managerOntology == ontology)
+        symbolTable = managerSymbolTable;
+      else if (managerOntology == null || !ontologyManager.contains(managerOntology)) {
+        managerSymbolTable.dispose(ontologyManager);
+        iterator.remove();
+      }
+    }
+
+    if (symbolTable == null) {
+      symbolTable = new DefaultOWLEntitySymbolTable(ontology);
+      managerSymbolTables.add(symbolTable);
+      ontologyManager.addOntologyChangeListener(symbolTable);
+    }
+    return symbolTable;
+  }
+
+  @NonNull @Override public Set<@NonNull EntityType<?>> getEntityTypes(@NonNull IRI iri)
+  {
+    int kinds = getEntityKinds(iri);
+    Set<@NonNull EntityType<?>> types = new LinkedHashSet<>();
+
+    for (int i = 0; i < entityTypes.length; i++)
+      if ((kinds & (1 << i)) != 0)
+        types.add(entityTypes[i]);
+
+    if ((kinds & kindOf(EntityType.CLASS)) == 0 && isBuiltInClass(iri))
+      types.add(EntityType.CLASS);
+
+    return types;
+  }
+
+  @Override public boolean isOWLEntity(@NonNull IRI iri)
+  {
+    return getEntityKinds(iri) != 0 || isBuiltInClass(iri);
+  }
+
+  @Override public boolean isOWLClass(@NonNull IRI iri)
+  {
+    return isOfKind(iri, EntityType.CLASS) || isBuiltInClass(iri);
+  }
+
+  @Override public boolean isOWLNamedIndividual(@NonNull IRI iri)
+  {
+    return isOfKind(iri, EntityType.NAMED_INDIVIDUAL);
+  }
+
+  @Override public boolean isOWLObjectProperty(@NonNull IRI iri)
+  {
+    return isOfKind(iri, EntityType.OBJECT_PROPERTY);
+  }
+
+  @Override public boolean isOWLDataProperty(@NonNull IRI iri)
+  {
+    return isOfKind(iri, EntityType.DATA_PROPERTY);
+  }
+
+  @Override public boolean isOWLAnnotationProperty(@NonNull IRI iri)
+  {
+    return isOfKind(iri, EntityType.ANNOTATION_PROPERTY);
+  }
+
+  @Override public boolean isOWLDatatype(@NonNull IRI iri)
+  {
+    return isOfKind(iri, EntityType.DATATYPE);
+  }
+
+  @NonNull @Override public Set<@NonNull IRI> getEntityIRIs()
+  {
+    if (!this.built)
+      build();
+
+    return Collections.unmodifiableSet(new HashSet<>(this.entityKinds.keySet()));
+  }
+
+  @Override public synchronized void ontologiesChanged(@Nonnull List<? extends OWLOntologyChange> changes)
+  {
+    OWLOntology ontology = this.ontology.get();
+
+    if (!this.built || ontology == null)
+      return;
+
+    Set<@NonNull OWLOntology> importsClosure = ontology.getImportsClosure();
+
+    for (OWLOntologyChange change : changes) {
+      if (!importsClosure.contains(change.getOntology()))
+        continue;
+
+      if (change instanceof AddAxiom) {
+        for (OWLEntity entity : ((AddAxiom)change).getAxiom().getSignature())
+          addEntity(entity);
+      } else if (change instanceof RemoveAxiom) {
+        for (OWLEntity entity : ((RemoveAxiom)change).getAxiom().getSignature())
+          if (!ontology.containsEntityInSignature(entity, Imports.INCLUDED))
+            removeEntity(entity);
+      } else { // Imports, ontology IDs, or ontology annotations have changed so rebuild on next use
+        this.built = false;
+        return;
+      }
+    }
+  }
+
+  private synchronized void dispose(@NonNull OWLOntologyManager ontologyManager)
+  {
+    ontologyManager.removeOntologyChangeListener(this);
+    this.entityKinds.clear();
+    this.built = false;
+  }
+
+  private boolean isOfKind(@NonNull IRI iri, @NonNull EntityType<?> entityType)
+  {
+    return (getEntityKinds(iri) & kindOf(entityType)) != 0;
+  }
+
+  private int getEntityKinds(@NonNull IRI iri)
+  {
+    if (!this.built)
+      build();
+
+    Integer kinds = this.entityKinds.get(iri);
+
+    return kinds != null ? kinds : 0;
+  }
+
+  private synchronized void build()
+  {
+    if (this.built)
+      return;
+
+    OWLOntology ontology = this.ontology.get();
+
+    this.entityKinds.clear();
+
+    if (ontology != null) {
+      for (OWLOntology importedOntology : ontology.getImportsClosure())
+        for (OWLEntity entity : importedOntology.getSignature())
+          addEntity(entity);
+    }
+    this.built = true;
+  }
+
+  private void addEntity(@NonNull OWLEntity entity)
+  {
+    int kind = kindOf(entity.getEntityType());
+
+    if (kind != 0)
+      this.entityKinds.merge(entity.getIRI(), kind, (kinds1, kinds2) -> kinds1 | kinds2);
+  }
+
+  private void removeEntity(@NonNull OWLEntity entity)
+  {
+    int kind = kindOf(entity.getEntityType());
+
+    this.entityKinds.computeIfPresent(entity.getIRI(), (iri, kinds) -> (kinds & ~kind) != 0 ? kinds & ~kind : null);
+  }
+
+  private static int kindOf(@NonNull EntityType<?> entityType)
+  {
+    for (int i = 0; i < entityTypes.length; i++)
+      if (entityTypes[i].equals(entityType))
+        return 1 << i;
+
+    return 0;
+  }
+
+  private static boolean isBuiltInClass(@NonNull IRI iri)
+  {
+    return iri.equals(OWLRDFVocabulary.OWL_THING.getIRI()) || iri.equals(OWLRDFVocabulary.OWL_NOTHING.getIRI());
+  }
+}
@@ -22,12 +22,8 @@ import org.swrlapi.sqwrl.values.SQWRLNamedIndividualResultValue;
 import org.swrlapi.sqwrl.values.SQWRLObjectPropertyExpressionResultValue;
 import org.swrlapi.sqwrl.values.SQWRLObjectPropertyResultValue;
 
-import java.util.Comparator;
-
 class DefaultSQWRLLiteralResultValue extends DefaultLiteral implements SQWRLLiteralResultValue
 {
-  private static final Comparator<@NonNull OWLLiteral> owlLiteralComparator = OWLLiteralComparator.COMPARATOR;
-
   private final String datatypePrefixedName;
 
   public DefaultSQWRLLiteralResultValue(@NonNull OWLLiteral literal, @NonNull String datatypePrefixedName)
@@ -208,6 +204,6 @@ class DefaultSQWRLLiteralResultValue extends DefaultLiteral implements SQWRLLite
     if (o == null)
       throw new NullPointerException();
 
-    return owlLiteralComparator.compare(this.getOWLLiteral(), o.getOWLLiteral());
+    return OWLLiteralComparator.compareLiterals(this, o);
   }
 }
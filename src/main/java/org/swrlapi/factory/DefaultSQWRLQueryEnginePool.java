@@ -0,0 +1,346 @@
+package org.swrlapi.factory;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.semanticweb.owlapi.model.OWLOntology;
+import org.swrlapi.bridge.TargetSWRLRuleEngine;
+import org.swrlapi.bridge.TargetSWRLRuleEngineCreator;
+import org.swrlapi.builtins.SWRLBuiltInLibraryManager;
+import org.swrlapi.core.IRIResolver;
+import org.swrlapi.exceptions.SWRLAPIException;
+import org.swrlapi.exceptions.SWRLRuleEngineException;
+import org.swrlapi.owl2rl.OWL2RLPersistenceLayer;
+import org.swrlapi.sqwrl.SQWRLQueryEngine;
+import org.swrlapi.sqwrl.SQWRLQueryEnginePool;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.Map;
+
+/**
+ * Default implementation of a SQWRL query engine pool. Idle engines are kept in most-recently-used order so that
+ * frequently used engines stay warm and rarely used engines age out at the tail of the queue. An idle engine already
+ * bound to the requested ontology is preferred; it keeps its processed ontology, which is only reprocessed if the
+ * ontology has changed since the engine last used it.
+ *
+ * @see org.swrlapi.sqwrl.SQWRLQueryEnginePool
+ */
+class DefaultSQWRLQueryEnginePool implements SQWRLQueryEnginePool
+{
+  @NonNull private final TargetSWRLRuleEngineCreator targetSWRLRuleEngineCreator;
+  private final int maximumNumberOfEngines;
+  private final int maximumNumberOfIdleEngines;
+  private final long maximumIdleTimeMillis;
+
+  @NonNull private final Deque<@NonNull PooledEngine> idleEngines;
+  @NonNull private final Map<@NonNull SQWRLQueryEngine, @NonNull PooledEngine> activeEngines;
+
+  private int numberOfReservedEngines = 0;
+  private long numberOfCreatedEngines = 0;
+  private long numberOfReusedEngines = 0;
+  private long numberOfEvictedEngines = 0;
+
+  public DefaultSQWRLQueryEnginePool(@NonNull TargetSWRLRuleEngineCreator targetSWRLRuleEngineCreator,
+    int maximumNumberOfEngines, int maximumNumberOfIdleEngines, long maximumIdleTimeMillis)
+  {
+    if (maximumNumberOfEngines < 1)
+      throw new IllegalArgumentException("maximum number of engines must be at least 1");
+
+    if (maximumNumberOfIdleEngines < 0)
+      throw new IllegalArgumentException("maximum number of idle engines cannot be negative");
+
+    this.targetSWRLRuleEngineCreator = targetSWRLRuleEngineCreator;
+    this.maximumNumberOfEngines = maximumNumberOfEngines;
+    this.maximumNumberOfIdleEngines = Math.min(maximumNumberOfIdleEngines, maximumNumberOfEngines);
+    this.maximumIdleTimeMillis = maximumIdleTimeMillis;
+
+    this.idleEngines = new ArrayDeque<>();
+    this.activeEngines = new IdentityHashMap<>();
+  }
+
+  @NonNull @Override public SQWRLQueryEngine acquireSQWRLQueryEngine(@NonNull OWLOntology ontology)
+    throws SWRLRuleEngineException
+  {
+    return acquire(ontology, null); // Any IRI resolver will do, so an engine bound to the ontology can be reused
+  }
+
+  @NonNull @Override public SQWRLQueryEngine acquireSQWRLQueryEngine(@NonNull OWLOntology ontology,
+    @NonNull IRIResolver iriResolver) throws SWRLRuleEngineException
+  {
+    return acquire(ontology, iriResolver);
+  }
+
+  @NonNull private SQWRLQueryEngine acquire(@NonNull OWLOntology ontology, @Nullable IRIResolver iriResolver)
+    throws SWRLRuleEngineException
+  {
+    PooledEngine pooledEngine = reserveEngine(ontology, iriResolver);
+
+    try {
+      if (pooledEngine == null) {
+        pooledEngine = createPooledEngine(ontology,
+          iriResolver != null ? iriResolver : SWRLAPIFactory.createIRIResolver());
+        synchronized (this) {
+          this.numberOfCreatedEngines++;
+        }
+      } else
+        pooledEngine.rebind(ontology, iriResolver);
+
+      pooledEngine.getQueryEngine().importAssertedOWLAxioms();
+    } catch (RuntimeException e) {
+      if (pooledEngine != null) { // Not returned to the pool, so it must stop listening to the ontology
+        pooledEngine.discard();
+        synchronized (this) {
+          this.numberOfEvictedEngines++;
+        }
+      }
+      cancelReservation();
+      throw new SWRLRuleEngineException(
+        "error acquiring pooled query engine: " + (e.getMessage() != null ? e.getMessage() : ""), e);
+    }
+
+    synchronized (this) {
+      this.numberOfReservedEngines--;
+      this.activeEngines.put(pooledEngine.getQueryEngine(), pooledEngine);
+    }
+    return pooledEngine.getQueryEngine();
+  }
+
+  @Override public void releaseSQWRLQueryEngine(@NonNull SQWRLQueryEngine queryEngine) throws SWRLRuleEngineException
+  {
+    PooledEngine pooledEngine;
+
+    synchronized (this) {
+      pooledEngine = this.activeEngines.remove(queryEngine);
+    }
+
+    if (pooledEngine == null)
+      throw new SWRLRuleEngineException("query engine was not acquired from this pool");
+
+    boolean reusable;
+    try {
+      pooledEngine.release();
+      reusable = true;
+    } catch (SWRLAPIException e) {
+      reusable = false; // An engine that cannot be reset is not returned to the pool
+    }
+
+    synchronized (this) {
+      evictExpiredEngines();
+      if (reusable && this.idleEngines.size() < this.maximumNumberOfIdleEngines)
+        this.idleEngines.addFirst(pooledEngine);
+      else {
+        pooledEngine.discard();
+        this.numberOfEvictedEngines++;
+      }
+      notifyAll();
+    }
+  }
+
+  @Override public synchronized void evictIdleSQWRLQueryEngines()
+  {
+    evictExpiredEngines();
+  }
+
+  @Override public synchronized void clear()
+  {
+    this.numberOfEvictedEngines += this.idleEngines.size();
+    this.idleEngines.forEach(PooledEngine::discard);
+    this.idleEngines.clear();
+  }
+
+  @Override public int getMaximumNumberOfEngines()
+  {
+    return this.maximumNumberOfEngines;
+  }
+
+  @Override public int getMaximumNumberOfIdleEngines()
+  {
+    return this.maximumNumberOfIdleEngines;
+  }
+
+  @Override public synchronized int getNumberOfActiveEngines()
+  {
+    return this.activeEngines.size();
+  }
+
+  @Override public synchronized int getNumberOfIdleEngines()
+  {
+    return this.idleEngines.size();
+  }
+
+  @Override public synchronized long getNumberOfCreatedEngines()
+  {
+    return this.numberOfCreatedEngines;
+  }
+
+  @Override public synchronized long getNumberOfReusedEngines()
+  {
+    return this.numberOfReusedEngines;
+  }
+
+  @Override public synchronized long getNumberOfEvictedEngines()
+  {
+    return this.numberOfEvictedEngines;
+  }
+
+  /**
+   * Reserve a slot in the pool, waiting if the pool is at its maximum size. Returns an idle engine if one is
+   * available, preferring one already bound to the ontology; otherwise null, in which case the caller must create a
+   * new engine.
+   */
+  private synchronized @Nullable PooledEngine reserveEngine(@NonNull OWLOntology ontology,
+    @Nullable IRIResolver iriResolver) throws SWRLRuleEngineException
+  {
+    evictExpiredEngines();
+
+    while (this.numberOfReservedEngines + this.activeEngines.size() >= this.maximumNumberOfEngines
+      && this.idleEngines.isEmpty()) {
+      try {
+        wait();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new SWRLRuleEngineException("interrupted while waiting for a pooled query engine", e);
+      }
+      evictExpiredEngines();
+    }
+
+    this.numberOfReservedEngines++;
+
+    PooledEngine pooledEngine = pollIdleEngine(ontology, iriResolver);
+
+    if (pooledEngine != null)
+      this.numberOfReusedEngines++;
+
+    return pooledEngine;
+  }
+
+  private @Nullable PooledEngine pollIdleEngine(@NonNull OWLOntology ontology, @Nullable IRIResolver iriResolver)
+  {
+    Iterator<@NonNull PooledEngine> iterator = this.idleEngines.iterator();
+
+    while (iterator.hasNext()) {
+      PooledEngine pooledEngine = iterator.next();
+      if (pooledEngine.isBoundTo(ontology, iriResolver)) {
+        iterator.remove();
+        return pooledEngine;
+      }
+    }
+    return this.idleEngines.pollFirst();
+  }
+
+  private synchronized void cancelReservation()
+  {
+    this.numberOfReservedEngines--;
+    notifyAll();
+  }
+
+  private void evictExpiredEngines()
+  {
+    if (this.maximumIdleTimeMillis <= 0)
+      return;
+
+    long now = System.currentTimeMillis();
+    Iterator<@NonNull PooledEngine> iterator = this.idleEngines.descendingIterator();
+
+    while (iterator.hasNext()) {
+      PooledEngine pooledEngine = iterator.next();
+      if (now - pooledEngine.getLastReleaseTimeMillis() > this.maximumIdleTimeMillis) {
+        iterator.remove();
+        pooledEngine.discard();
+        this.numberOfEvictedEngines++;
+      } else
+        break; // Idle engines are ordered by release time
+    }
+  }
+
+  @NonNull private PooledEngine createPooledEngine(@NonNull OWLOntology ontology, @NonNull IRIResolver iriResolver)
+  {
+    SWRLBuiltInLibraryManager swrlBuiltInLibraryManager = SWRLAPIInternalFactory.createSWRLBuiltInLibraryManager();
+    DefaultSWRLAPIOWLOntology swrlapiOWLOntology = new DefaultSWRLAPIOWLOntology(ontology, iriResolver,
+      swrlBuiltInLibraryManager);
+    OWL2RLPersistenceLayer owl2RLPersistenceLayer = SWRLAPIInternalFactory.createOWL2RLPersistenceLayer(ontology);
+    DefaultSWRLBridge bridge = new DefaultSWRLBridge(swrlapiOWLOntology, owl2RLPersistenceLayer);
+    TargetSWRLRuleEngine targetSWRLRuleEngine = this.targetSWRLRuleEngineCreator.create(bridge);
+
+    bridge.setTargetSWRLRuleEngine(targetSWRLRuleEngine);
+
+    DefaultSWRLRuleAndQueryEngine queryEngine = new DefaultSWRLRuleAndQueryEngine(swrlapiOWLOntology,
+      targetSWRLRuleEngine, bridge, bridge, this.targetSWRLRuleEngineCreator);
+
+    swrlapiOWLOntology.startTrackingOntologyChanges();
+
+    return new PooledEngine(swrlBuiltInLibraryManager, swrlapiOWLOntology, bridge, queryEngine);
+  }
+
+  private static class PooledEngine
+  {
+    @NonNull private final SWRLBuiltInLibraryManager swrlBuiltInLibraryManager;
+    @NonNull private final DefaultSWRLBridge bridge;
+    @NonNull private final DefaultSWRLRuleAndQueryEngine queryEngine;
+    @NonNull private DefaultSWRLAPIOWLOntology swrlapiOWLOntology;
+    private long lastReleaseTimeMillis;
+
+    public PooledEngine(@NonNull SWRLBuiltInLibraryManager swrlBuiltInLibraryManager,
+      @NonNull DefaultSWRLAPIOWLOntology swrlapiOWLOntology, @NonNull DefaultSWRLBridge bridge,
+      @NonNull DefaultSWRLRuleAndQueryEngine queryEngine)
+    {
+      this.swrlBuiltInLibraryManager = swrlBuiltInLibraryManager;
+      this.swrlapiOWLOntology = swrlapiOWLOntology;
+      this.bridge = bridge;
+      this.queryEngine = queryEngine;
+      this.lastReleaseTimeMillis = System.currentTimeMillis();
+    }
+
+    @NonNull public SQWRLQueryEngine getQueryEngine()
+    {
+      return this.queryEngine;
+    }
+
+    public long getLastReleaseTimeMillis()
+    {
+      return this.lastReleaseTimeMillis;
+    }
+
+    /**
+     * An engine bound to the ontology keeps its processed ontology; a released engine has already been reset.
+     */
+    public void rebind(@NonNull OWLOntology ontology, @Nullable IRIResolver iriResolver)
+    {
+      if (isBoundTo(ontology, iriResolver))
+        return;
+
+      DefaultSWRLAPIOWLOntology swrlapiOWLOntology = new DefaultSWRLAPIOWLOntology(ontology,
+        iriResolver != null ? iriResolver : SWRLAPIFactory.createIRIResolver(), this.swrlBuiltInLibraryManager);
+      OWL2RLPersistenceLayer owl2RLPersistenceLayer = SWRLAPIInternalFactory.createOWL2RLPersistenceLayer(ontology);
+
+      this.bridge.rebind(swrlapiOWLOntology, owl2RLPersistenceLayer);
+      this.queryEngine.rebind(swrlapiOWLOntology);
+
+      this.swrlapiOWLOntology.stopTrackingOntologyChanges();
+      swrlapiOWLOntology.startTrackingOntologyChanges();
+      this.swrlapiOWLOntology = swrlapiOWLOntology;
+    }
+
+    public boolean isBoundTo(@NonNull OWLOntology ontology, @Nullable IRIResolver iriResolver)
+    {
+      return this.swrlapiOWLOntology.getOWLOntology() == ontology
+        && (iriResolver == null || this.swrlapiOWLOntology.getIRIResolver() == iriResolver);
+    }
+
+    /**
+     * Stop listening to the bound ontology so that its manager does not keep a discarded engine alive.
+     */
+    public void discard()
+    {
+      this.swrlapiOWLOntology.stopTrackingOntologyChanges();
+    }
+
+    public void release()
+    {
+      this.queryEngine.release();
+      this.lastReleaseTimeMillis = System.currentTimeMillis();
+    }
+  }
+}
@@ -1,9 +1,11 @@
 package org.swrlapi.factory;
 
 import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
 import org.checkerframework.dataflow.qual.SideEffectFree;
 import org.swrlapi.core.IRIResolver;
 import org.swrlapi.exceptions.SWRLAPIInternalException;
+import org.swrlapi.literal.LiteralDatatype;
 import org.swrlapi.sqwrl.SQWRLResultManager;
 import org.swrlapi.sqwrl.SQWRLResultNames;
 import org.swrlapi.sqwrl.exceptions.SQWRLException;
@@ -289,6 +291,11 @@ class DefaultSQWRLResultManager implements SQWRLResultManager, Serializable
     this.isRowOpen = false;
   }
 
+  @Override public int getCurrentNumberOfRows()
+  {
+    return this.rows.size();
+  }
+
   @Override public void prepared() throws SQWRLException
   {
     throwExceptionIfNotConfigured();
@@ -1092,19 +1099,242 @@ class DefaultSQWRLResultManager implements SQWRLResultManager, Serializable
   @NonNull private List<@NonNull List<@NonNull SQWRLResultValue>> orderBy(
     @NonNull List<@NonNull List<@NonNull SQWRLResultValue>> sourceRows, boolean ascending) throws SQWRLException
   {
-    List<@NonNull List<@NonNull SQWRLResultValue>> result = new ArrayList<>(sourceRows);
-    SQWRLResultRowComparator rowComparator = new SQWRLResultRowComparator(this.allColumnNames,
-      this.orderByColumnIndexes, ascending);
+    if (this.orderByColumnIndexes.size() == 1) {
+      long @Nullable [] sortKeys = getNumericSortKeys(sourceRows, this.orderByColumnIndexes.get(0));
 
-    try {
-      Collections.sort(result, rowComparator);
+      if (sortKeys != null)
+        return orderBySortKeys(sourceRows, sortKeys, ascending);
+    }
+
+    List<@NonNull Comparator<@NonNull Integer>> columnComparators = new ArrayList<>();
+    List<@NonNull Integer> rowIndexes = new ArrayList<>(sourceRows.size());
+    List<@NonNull List<@NonNull SQWRLResultValue>> result = new ArrayList<>(sourceRows.size());
+
+    for (int columnIndex : this.orderByColumnIndexes)
+      columnComparators.add(getColumnComparator(sourceRows, columnIndex));
+
+    for (int rowIndex = 0; rowIndex < sourceRows.size(); rowIndex++)
+      rowIndexes.add(rowIndex);
+
+    try { // Stable, so rows with equal keys keep their relative order
+      Collections.sort(rowIndexes, (rowIndex1, rowIndex2) -> {
+        for (Comparator<@NonNull Integer> columnComparator : columnComparators) {
+          int diff = columnComparator.compare(rowIndex1, rowIndex2);
+          if (diff != 0)
+            return ascending ? diff : -diff;
+        }
+        return 0;
+      });
     } catch (RuntimeException e) {
       throw new SQWRLException("Internal error comparing rows", e);
     }
 
+    for (int rowIndex : rowIndexes)
+      result.add(sourceRows.get(rowIndex));
+
+    return result;
+  }
+
+  /**
+   * A comparator of row indexes by the values in a column. Sort keys are extracted from the column once, before
+   * sorting, so comparisons neither dispatch on value types nor convert literals. Columns whose values do not share a
+   * key type are compared value by value, as {@link SQWRLResultRowComparator} compares them.
+   */
+  @NonNull private static Comparator<@NonNull Integer> getColumnComparator(
+    @NonNull List<@NonNull List<@NonNull SQWRLResultValue>> rows, int columnIndex)
+  {
+    long @Nullable [] numericSortKeys = getNumericSortKeys(rows, columnIndex);
+    if (numericSortKeys != null)
+      return (rowIndex1, rowIndex2) -> Long.compare(numericSortKeys[rowIndex1], numericSortKeys[rowIndex2]);
+
+    @Nullable Comparator<@NonNull Integer> literalColumnComparator = getLiteralColumnComparator(rows, columnIndex);
+    if (literalColumnComparator != null)
+      return literalColumnComparator;
+
+    return (rowIndex1, rowIndex2) -> compareResultValues(rows.get(rowIndex1).get(columnIndex),
+      rows.get(rowIndex2).get(columnIndex));
+  }
+
+  /**
+   * A comparator of row indexes for a column that holds only numeric literals, which are keyed by their decimal value,
+   * or only literals of a single non-numeric datatype, which are keyed by their parsed value. Keys order as
+   * {@link org.swrlapi.literal.OWLLiteralComparator#compareLiterals} orders the literals themselves.
+   *
+   * @return The comparator, or null if the column does not hold such values
+   */
+  @SuppressWarnings("unchecked") @Nullable private static Comparator<@NonNull Integer> getLiteralColumnComparator(
+    @NonNull List<@NonNull List<@NonNull SQWRLResultValue>> rows, int columnIndex)
+  {
+    List<@NonNull SQWRLLiteralResultValue> literals = new ArrayList<>(rows.size());
+
+    for (List<@NonNull SQWRLResultValue> row : rows) {
+      SQWRLResultValue value = row.get(columnIndex);
+
+      if (!value.isLiteral())
+        return null;
+
+      literals.add(value.asLiteralResult());
+    }
+
+    if (literals.isEmpty())
+      return null;
+
+    SQWRLLiteralResultValue firstLiteral = literals.get(0);
+    LiteralDatatype columnDatatype = firstLiteral.getLiteralDatatype();
+    boolean isNumericColumn = true, isSingleDatatypeColumn = true;
+
+    for (SQWRLLiteralResultValue literal : literals) {
+      isNumericColumn &= literal.isNumeric();
+      isSingleDatatypeColumn &= literal.getLiteralDatatype() == columnDatatype && (columnDatatype
+        != LiteralDatatype.OTHER || literal.getOWLDatatype().getIRI().equals(firstLiteral.getOWLDatatype().getIRI()));
+    }
+
+    if (!isNumericColumn && !isSingleDatatypeColumn)
+      return null;
+
+    Object[] sortKeys = new Object[literals.size()];
+    int rowIndex = 0;
+
+    try {
+      for (SQWRLLiteralResultValue literal : literals)
+        sortKeys[rowIndex++] = isNumericColumn ? literal.getDecimal() : getParsedSortKey(literal);
+    } catch (SQWRLException | IllegalArgumentException e) { // Leave invalid values to the value comparison to report
+      return null;
+    }
+
+    if (!isNumericColumn && sortKeys[0] instanceof String)
+      return (rowIndex1, rowIndex2) -> NaturalOrderComparator.NUMERICAL_ORDER
+        .compare((String)sortKeys[rowIndex1], (String)sortKeys[rowIndex2]);
+    else
+      return (rowIndex1, rowIndex2) -> ((Comparable<Object>)sortKeys[rowIndex1]).compareTo(sortKeys[rowIndex2]);
+  }
+
+  @NonNull private static Object getParsedSortKey(@NonNull SQWRLLiteralResultValue literal) throws SQWRLException
+  {
+    switch (literal.getLiteralDatatype()) {
+    case BOOLEAN:
+      return literal.getBoolean();
+    case ANY_URI:
+      return literal.getAnyURI();
+    case TIME:
+      return literal.getTime();
+    case DATE:
+      return literal.getDate();
+    case DATE_TIME:
+      return literal.getDateTime();
+    case DURATION:
+      return literal.getDuration();
+    default: // Compared in natural order
+      return literal.getValue();
+    }
+  }
+
+  /**
+   * Extract primitive sort keys from a column whose values are all literals of the same fixed-width numeric datatype.
+   * Floating point values are mapped to keys that order as {@link Double#compare(double, double)} does, which is also
+   * how the literal comparator orders them.
+   *
+   * @return The sort key of each row, or null if the column does not hold such values
+   */
+  private static long @Nullable [] getNumericSortKeys(@NonNull List<@NonNull List<@NonNull SQWRLResultValue>> rows,
+    int columnIndex)
+  {
+    long[] sortKeys = new long[rows.size()];
+    @Nullable LiteralDatatype columnDatatype = null;
+    int rowIndex = 0;
+
+    try {
+      for (List<@NonNull SQWRLResultValue> row : rows) {
+        SQWRLResultValue value = row.get(columnIndex);
+
+        if (!value.isLiteral())
+          return null;
+
+        SQWRLLiteralResultValue literal = value.asLiteralResult();
+        LiteralDatatype datatype = literal.getLiteralDatatype();
+
+        if (columnDatatype == null)
+          columnDatatype = datatype;
+        else if (datatype != columnDatatype)
+          return null;
+
+        switch (datatype) {
+        case BYTE:
+        case SHORT:
+        case INT:
+        case LONG:
+          sortKeys[rowIndex++] = literal.getLong();
+          break;
+        case FLOAT:
+        case DOUBLE:
+          long bits = Double.doubleToLongBits(literal.getDouble());
+          sortKeys[rowIndex++] = bits ^ ((bits >> 63) & Long.MAX_VALUE);
+          break;
+        default:
+          return null;
+        }
+      }
+    } catch (SQWRLException e) { // Leave invalid values to the row comparator to report
+      return null;
+    }
+    return sortKeys;
+  }
+
+  /**
+   * Stable sort of rows by precomputed keys. Rows with equal keys keep their relative order, as they do when sorting
+   * with {@link SQWRLResultRowComparator}.
+   */
+  @NonNull private static List<@NonNull List<@NonNull SQWRLResultValue>> orderBySortKeys(
+    @NonNull List<@NonNull List<@NonNull SQWRLResultValue>> sourceRows, long @NonNull [] sortKeys, boolean ascending)
+  {
+    int numberOfRows = sortKeys.length;
+    long[] sortedKeys = sortKeys.clone();
+    int[] groupEnds = new int[numberOfRows];
+    int[] numberOfRowsPlaced = new int[numberOfRows];
+    int[] rowIndexes = new int[numberOfRows];
+
+    Arrays.sort(sortedKeys);
+
+    for (int groupStart = 0; groupStart < numberOfRows; ) { // Record the end of each run of equal keys
+      int groupEnd = groupStart + 1;
+      while (groupEnd < numberOfRows && sortedKeys[groupEnd] == sortedKeys[groupStart])
+        groupEnd++;
+      groupEnds[groupStart] = groupEnd;
+      groupStart = groupEnd;
+    }
+
+    for (int rowIndex = 0; rowIndex < numberOfRows; rowIndex++) {
+      int groupStart = findFirstIndex(sortedKeys, sortKeys[rowIndex]);
+      int groupOffset = numberOfRowsPlaced[groupStart]++;
+      int position = ascending ?
+        groupStart + groupOffset :
+        numberOfRows - groupEnds[groupStart] + groupOffset;
+      rowIndexes[position] = rowIndex;
+    }
+
+    List<@NonNull List<@NonNull SQWRLResultValue>> result = new ArrayList<>(numberOfRows);
+
+    for (int rowIndex : rowIndexes)
+      result.add(sourceRows.get(rowIndex));
+
     return result;
   }
 
+  // Index of the first occurrence of a key known to be present in a sorted array
+  private static int findFirstIndex(long @NonNull [] sortedKeys, long key)
+  {
+    int low = 0, high = sortedKeys.length - 1;
+
+    while (low < high) {
+      int middle = (low + high) >>> 1;
+      if (sortedKeys[middle] < key)
+        low = middle + 1;
+      else
+        high = middle;
+    }
+    return low;
+  }
+
   @NonNull private SQWRLLiteralResultValue min(@NonNull List<@NonNull SQWRLLiteralResultValue> columnValues,
     int columnIndex) throws SQWRLException
   {
@@ -1296,25 +1526,8 @@ class DefaultSQWRLResultManager implements SQWRLResultManager, Serializable
       @NonNull List<@NonNull SQWRLResultValue> row2)
     {
       for (Integer columnIndex : this.orderByColumnIndexes) {
-        SQWRLResultValue value1 = row1.get(columnIndex);
-        SQWRLResultValue value2 = row2.get(columnIndex);
-        int diff;
-
-        try { // Note: an entity is a class expression (but not necessarily the reverse) so we compare class expressions first
-          if (value1.isLiteral() && value2.isLiteral())
-            diff = value1.asLiteralResult().compareTo(value2.asLiteralResult());
-          else if (value1.isClassExpression() && value2.isClassExpression())
-            diff = value1.asClassExpressionResult().compareTo(value2.asClassExpressionResult());
-          else if (value1.isEntity() && value2.isEntity())
-            diff = value1.asEntityResult().compareTo(value2.asEntityResult());
-          else
-            throw new SWRLAPIInternalException(
-              "attempt to compare a " + value1.getClass().getName() + " with a " + value2.getClass().getName());
-        } catch (SQWRLException e) {
-          throw new SWRLAPIInternalException(
-            "internal error comparing " + value1.getClass().getName() + " with a " + value2.getClass().getName() + ": "
-              + (e.getMessage() != null ? e.getMessage() : ""));
-        }
+        int diff = compareResultValues(row1.get(columnIndex), row2.get(columnIndex));
+
         if (diff != 0) {
           if (this.ascending)
             return diff;
@@ -1326,6 +1539,25 @@ class DefaultSQWRLResultManager implements SQWRLResultManager, Serializable
     }
   }
 
+  private static int compareResultValues(@NonNull SQWRLResultValue value1, @NonNull SQWRLResultValue value2)
+  {
+    try { // Note: an entity is a class expression (but not necessarily the reverse) so we compare class expressions first
+      if (value1.isLiteral() && value2.isLiteral())
+        return value1.asLiteralResult().compareTo(value2.asLiteralResult());
+      else if (value1.isClassExpression() && value2.isClassExpression())
+        return value1.asClassExpressionResult().compareTo(value2.asClassExpressionResult());
+      else if (value1.isEntity() && value2.isEntity())
+        return value1.asEntityResult().compareTo(value2.asEntityResult());
+      else
+        throw new SWRLAPIInternalException(
+          "attempt to compare a " + value1.getClass().getName() + " with a " + value2.getClass().getName());
+    } catch (SQWRLException e) {
+      throw new SWRLAPIInternalException(
+        "internal error comparing " + value1.getClass().getName() + " with a " + value2.getClass().getName() + ": "
+          + (e.getMessage() != null ? e.getMessage() : ""));
+    }
+  }
+
   @NonNull private List<@NonNull SQWRLLiteralResultValue> convert2LiteralResultValues(
     @NonNull List<@NonNull SQWRLResultValue> columnValues, int columnIndex) throws SQWRLException
   {
@@ -1,6 +1,8 @@
 package org.swrlapi.factory;
 
 import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.semanticweb.owlapi.model.AddAxiom;
 import org.semanticweb.owlapi.model.AxiomType;
 import org.semanticweb.owlapi.model.IRI;
 import org.semanticweb.owlapi.model.OWLAnnotation;
@@ -69,7 +71,6 @@ import org.semanticweb.owlapi.model.SWRLPredicate;
 import org.semanticweb.owlapi.model.SWRLRule;
 import org.semanticweb.owlapi.model.SWRLVariable;
 import org.semanticweb.owlapi.model.parameters.Imports;
-import org.semanticweb.owlapi.util.SimpleIRIMapper;
 import org.semanticweb.owlapi.vocab.OWL2Datatype;
 import org.semanticweb.owlapi.vocab.OWLRDFVocabulary;
 import org.slf4j.Logger;
@@ -78,10 +79,11 @@ import org.swrlapi.builtins.SWRLBuiltInLibraryManager;
 import org.swrlapi.builtins.arguments.SWRLBuiltInArgument;
 import org.swrlapi.builtins.arguments.SWRLVariableBuiltInArgument;
 import org.swrlapi.core.IRIResolver;
+import org.swrlapi.core.OWLEntitySymbolTable;
 import org.swrlapi.core.SWRLAPIOWLOntology;
 import org.swrlapi.core.SWRLAPIRule;
+import org.swrlapi.core.SWRLRuleDefinition;
 import org.swrlapi.core.SWRLRuleRenderer;
-import org.swrlapi.exceptions.SWRLAPIException;
 import org.swrlapi.exceptions.SWRLAPIInternalException;
 import org.swrlapi.exceptions.SWRLBuiltInException;
 import org.swrlapi.exceptions.SWRLRuleException;
@@ -97,8 +99,9 @@ import org.swrlapi.ui.model.SWRLAutoCompleter;
 import org.swrlapi.ui.model.SWRLRuleEngineModel;
 
 import javax.annotation.Nonnull;
-import java.net.URL;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -106,7 +109,9 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CopyOnWriteArraySet;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 class DefaultSWRLAPIOWLOntology implements SWRLAPIOWLOntology, OWLOntologyChangeListener
 {
@@ -132,17 +137,30 @@ class DefaultSWRLAPIOWLOntology implements SWRLAPIOWLOntology, OWLOntologyChange
   @NonNull private final Map<@NonNull IRI, @NonNull OWLDeclarationAxiom> dataPropertyDeclarationAxioms;
   @NonNull private final Map<@NonNull IRI, @NonNull OWLDeclarationAxiom> annotationPropertyDeclarationAxioms;
 
-  @NonNull private final Set<SWRLRuleEngineModel> swrlRuleEngineModels;
+  @NonNull private final Set<SWRLRuleEngineModel> swrlRuleEngineModels; // Notified from any thread
 
+  @Nullable private SWRLAutoCompleter swrlAutoCompleter; // Created on first request and shared thereafter
+  @Nullable private volatile OWLEntitySymbolTable owlEntitySymbolTable; // Looked up on first request
+
+  private final boolean isProcessedView;
   private boolean hasOntologyChanged = true; // Ensure initial processing
+  private volatile boolean hasChangedSinceProcessing = true; // Set by change events, which may arrive on any thread
+  private boolean isTrackingOntologyChanges = false;
+  private long processingCount = 0; // Incremented whenever the asserted axioms are processed, fully or incrementally
   private boolean eventFreezeMode = false;
 
   public DefaultSWRLAPIOWLOntology(@NonNull OWLOntology ontology, @NonNull IRIResolver iriResolver)
+  {
+    this(ontology, iriResolver, SWRLAPIInternalFactory.createSWRLBuiltInLibraryManager());
+  }
+
+  public DefaultSWRLAPIOWLOntology(@NonNull OWLOntology ontology, @NonNull IRIResolver iriResolver,
+    @NonNull SWRLBuiltInLibraryManager swrlBuiltInLibraryManager)
   {
     this.ontology = ontology;
     this.iriResolver = iriResolver;
     this.swrlapiOWLDataFactory = SWRLAPIInternalFactory.createSWRLAPIOWLDataFactory(this.iriResolver);
-    this.swrlBuiltInLibraryManager = SWRLAPIInternalFactory.createSWRLBuiltInLibraryManager();
+    this.swrlBuiltInLibraryManager = swrlBuiltInLibraryManager;
 
     this.swrlRules = new HashMap<>();
     this.owlapiRules = new HashMap<>();
@@ -156,24 +174,155 @@ class DefaultSWRLAPIOWLOntology implements SWRLAPIOWLOntology, OWLOntologyChange
     this.dataPropertyDeclarationAxioms = new HashMap<>();
     this.annotationPropertyDeclarationAxioms = new HashMap<>();
 
-    this.swrlRuleEngineModels = new HashSet<>();
+    this.swrlRuleEngineModels = new CopyOnWriteArraySet<>();
+
+    this.isProcessedView = false;
 
-    addSWRLAPIOntologies(this.ontology);
+    SWRLAPIOntologyCache.addSWRLAPIOntologyIRIMappers(this.ontology.getOWLOntologyManager());
 
     iriResolver.updatePrefixes(this.ontology);
   }
 
+  /**
+   * Create a view of an already processed ontology. The view holds unmodifiable copies of the processed rules and
+   * asserted axioms of the source, so later processing of the source does not affect it, and has its own IRI resolver,
+   * built-in library manager, and SQWRL queries so that queries can be run in it independently of the source. Views of
+   * a view share its copies.
+   */
+  private DefaultSWRLAPIOWLOntology(@NonNull DefaultSWRLAPIOWLOntology processedOntology) throws SWRLBuiltInException
+  {
+    this.ontology = processedOntology.ontology;
+    this.iriResolver = SWRLAPIFactory.createIRIResolver();
+    this.swrlapiOWLDataFactory = SWRLAPIInternalFactory.createSWRLAPIOWLDataFactory(this.iriResolver);
+    this.swrlBuiltInLibraryManager = SWRLAPIInternalFactory.createSWRLBuiltInLibraryManager();
+    this.sqwrlQueries = new HashMap<>();
+
+    if (processedOntology.isProcessedView) { // Already unmodifiable
+      this.swrlRules = processedOntology.swrlRules;
+      this.owlapiRules = processedOntology.owlapiRules;
+      this.assertedOWLAxioms = processedOntology.assertedOWLAxioms;
+      this.classDeclarationAxioms = processedOntology.classDeclarationAxioms;
+      this.individualDeclarationAxioms = processedOntology.individualDeclarationAxioms;
+      this.objectPropertyDeclarationAxioms = processedOntology.objectPropertyDeclarationAxioms;
+      this.dataPropertyDeclarationAxioms = processedOntology.dataPropertyDeclarationAxioms;
+      this.annotationPropertyDeclarationAxioms = processedOntology.annotationPropertyDeclarationAxioms;
+    } else {
+      this.swrlRules = Collections.unmodifiableMap(new HashMap<>(processedOntology.swrlRules));
+      this.owlapiRules = Collections.unmodifiableMap(new HashMap<>(processedOntology.owlapiRules));
+      this.assertedOWLAxioms = Collections.unmodifiableSet(new HashSet<>(processedOntology.assertedOWLAxioms));
+      this.classDeclarationAxioms = Collections
+        .unmodifiableMap(new HashMap<>(processedOntology.classDeclarationAxioms));
+      this.individualDeclarationAxioms = Collections
+        .unmodifiableMap(new HashMap<>(processedOntology.individualDeclarationAxioms));
+      this.objectPropertyDeclarationAxioms = Collections
+        .unmodifiableMap(new HashMap<>(processedOntology.objectPropertyDeclarationAxioms));
+      this.dataPropertyDeclarationAxioms = Collections
+        .unmodifiableMap(new HashMap<>(processedOntology.dataPropertyDeclarationAxioms));
+      this.annotationPropertyDeclarationAxioms = Collections
+        .unmodifiableMap(new HashMap<>(processedOntology.annotationPropertyDeclarationAxioms));
+    }
+
+    this.swrlRuleEngineModels = new CopyOnWriteArraySet<>();
+    this.isProcessedView = true;
+
+    this.iriResolver.updatePrefixes(this.ontology);
+    processOntology();
+  }
+
+  /**
+   * Create a view of this ontology for use by a query engine running in parallel with other engines. This ontology
+   * must already have been processed.
+   */
+  @NonNull DefaultSWRLAPIOWLOntology createProcessedView() throws SWRLBuiltInException
+  {
+    return new DefaultSWRLAPIOWLOntology(this);
+  }
+
   @Override public void processOntology() throws SWRLBuiltInException
   {
+    if (this.isProcessedView) { // Rules and axioms belong to the source ontology; only rebuild our queries
+      reset();
+      processSQWRLQueries();
+      return;
+    }
+
     reset(); // Will reset hasOntologyChanged
     this.iriResolver.updatePrefixes(this.ontology);
     processSWRLRulesAndSQWRLQueries();
     processOWLAxioms();
+    this.processingCount++;
+    this.hasChangedSinceProcessing = false;
     notifyRegisteredRuleEngineModels();
   }
 
+  /**
+   * Process the ontology unless it is known not to have changed since it was last processed, in which case only the
+   * SQWRL queries are rebuilt so that they start with empty results. Changes are only known while they are being
+   * tracked; see {@link #startTrackingOntologyChanges()}.
+   */
+  void processOntologyIfChanged() throws SWRLBuiltInException
+  {
+    if (!isProcessedOntologyCurrent())
+      processOntology();
+    else
+      resetSQWRLQueries();
+  }
+
+  /**
+   * Rebuild the SQWRL queries from the processed rules so that they start with empty results.
+   */
+  void resetSQWRLQueries() throws SWRLBuiltInException
+  {
+    this.sqwrlQueries.clear();
+    processSQWRLQueries();
+  }
+
+  /**
+   * @return A count that changes whenever the asserted axioms are processed, fully or incrementally
+   */
+  long getProcessingCount()
+  {
+    return this.processingCount;
+  }
+
+  /**
+   * @return True if the ontology is known not to have changed since it was last processed
+   */
+  boolean isProcessedOntologyCurrent()
+  {
+    return !this.isProcessedView && this.isTrackingOntologyChanges && !this.hasChangedSinceProcessing;
+  }
+
+  /**
+   * Listen for changes to the ontology even if no rule engine models are registered so that
+   * {@link #processOntologyIfChanged()} can skip processing an unchanged ontology. Tracking must be stopped when this
+   * ontology is discarded because the ontology manager holds a reference to it while it listens.
+   */
+  void startTrackingOntologyChanges()
+  {
+    if (!this.isTrackingOntologyChanges && this.swrlRuleEngineModels.isEmpty())
+      this.ontology.getOWLOntologyManager().addOntologyChangeListener(this);
+
+    this.isTrackingOntologyChanges = true;
+  }
+
+  void stopTrackingOntologyChanges()
+  {
+    if (this.isTrackingOntologyChanges && this.swrlRuleEngineModels.isEmpty())
+      this.ontology.getOWLOntologyManager().removeOntologyChangeListener(this);
+
+    this.isTrackingOntologyChanges = false;
+    this.hasChangedSinceProcessing = true; // Changes are no longer seen
+  }
+
   @Override public void reset()
   {
+    if (this.isProcessedView) {
+      this.sqwrlQueries.clear();
+      this.hasOntologyChanged = false;
+      return;
+    }
+
     this.swrlRules.clear();
     this.owlapiRules.clear();
     this.sqwrlQueries.clear();
@@ -193,7 +342,7 @@ class DefaultSWRLAPIOWLOntology implements SWRLAPIOWLOntology, OWLOntologyChange
 
   @Override public void registerRuleEngineModel(SWRLRuleEngineModel swrlRuleEngineModel)
   {
-    if (this.swrlRuleEngineModels.isEmpty())
+    if (this.swrlRuleEngineModels.isEmpty() && !this.isTrackingOntologyChanges)
       this.ontology.getOWLOntologyManager().addOntologyChangeListener(this);
 
     this.swrlRuleEngineModels.add(swrlRuleEngineModel);
@@ -202,7 +351,7 @@ class DefaultSWRLAPIOWLOntology implements SWRLAPIOWLOntology, OWLOntologyChange
   @Override public void unregisterRuleEngineModel(SWRLRuleEngineModel swrlRuleEngineModel)
   {
     this.swrlRuleEngineModels.remove(swrlRuleEngineModel);
-    if (this.swrlRuleEngineModels.isEmpty())
+    if (this.swrlRuleEngineModels.isEmpty() && !this.isTrackingOntologyChanges)
       this.ontology.getOWLOntologyManager().removeOntologyChangeListener(this);
   }
 
@@ -227,6 +376,87 @@ class DefaultSWRLAPIOWLOntology implements SWRLAPIOWLOntology, OWLOntologyChange
       throw new SWRLParseException("Unknown error - parser failed to generate a rule");
   }
 
+  /**
+   * Rules are parsed in parallel. Each rule gets its own parser, and parsing only reads the ontology, its symbol table,
+   * and the IRI resolver. Parsed rules are then converted to SWRLAPI rules and queries on the calling thread because
+   * the SWRLAPI data factory and built-in library manager used for conversion are not thread-safe. The resulting axioms
+   * are added with a single {@link OWLOntologyManager#applyChanges(List)} call in event freeze mode so that registered
+   * rule engine models see one processing of the ontology instead of one per rule.
+   */
+  @NonNull @Override public List<@NonNull SWRLAPIRule> createSWRLRules(
+    @NonNull List<@NonNull SWRLRuleDefinition> ruleDefinitions) throws SWRLParseException, SWRLBuiltInException
+  {
+    int numberOfRules = ruleDefinitions.size();
+    SWRLRule[] owlapiRules = new SWRLRule[numberOfRules];
+    SWRLAPIRule[] swrlapiRules = new SWRLAPIRule[numberOfRules];
+    SQWRLQuery[] queries = new SQWRLQuery[numberOfRules];
+    SWRLParseException[] exceptions = new SWRLParseException[numberOfRules];
+
+    IntStream.range(0, numberOfRules).parallel().forEach(ruleIndex -> {
+      SWRLRuleDefinition ruleDefinition = ruleDefinitions.get(ruleIndex);
+      try {
+        Optional<SWRLRule> owlapiRule = createSWRLParser()
+          .parseSWRLRule(ruleDefinition.getRuleText(), false, ruleDefinition.getRuleName(),
+            ruleDefinition.getComment());
+
+        if (owlapiRule.isPresent())
+          owlapiRules[ruleIndex] = owlapiRule.get();
+        else
+          exceptions[ruleIndex] = new SWRLParseException("Unknown error - parser failed to generate a rule");
+      } catch (SWRLParseException e) {
+        exceptions[ruleIndex] = e;
+      }
+    });
+
+    for (int ruleIndex = 0; ruleIndex < numberOfRules; ruleIndex++) { // Report the first failure in definition order
+      SWRLRuleDefinition ruleDefinition = ruleDefinitions.get(ruleIndex);
+      String ruleName = ruleDefinition.getRuleName();
+      SWRLParseException exception = exceptions[ruleIndex];
+
+      if (exception != null)
+        throw new SWRLParseException(
+          "error in rule " + ruleName + ": " + (exception.getMessage() != null ? exception.getMessage() : ""),
+          exception.getErrorOffset());
+
+      try {
+        swrlapiRules[ruleIndex] = convertOWLAPIRule2SWRLAPIRule(owlapiRules[ruleIndex], ruleName,
+          ruleDefinition.getComment(), ruleDefinition.isActive());
+        if (swrlapiRules[ruleIndex].isSQWRLQuery())
+          queries[ruleIndex] = createSQWRLQueryFromSWRLRule(swrlapiRules[ruleIndex]);
+      } catch (SWRLBuiltInException e) {
+        throw new SWRLBuiltInException(
+          "error in rule " + ruleName + ": " + (e.getMessage() != null ? e.getMessage() : ""), e);
+      }
+    }
+
+    List<@NonNull OWLOntologyChange> changes = new ArrayList<>(numberOfRules);
+    for (int ruleIndex = 0; ruleIndex < numberOfRules; ruleIndex++) {
+      String ruleName = swrlapiRules[ruleIndex].getRuleName();
+
+      this.swrlRules.put(ruleName, swrlapiRules[ruleIndex]);
+      this.owlapiRules.put(ruleName, owlapiRules[ruleIndex]);
+      this.assertedOWLAxioms.add(swrlapiRules[ruleIndex]);
+      if (queries[ruleIndex] != null)
+        this.sqwrlQueries.put(ruleName, queries[ruleIndex]);
+
+      changes.add(new AddAxiom(this.ontology, owlapiRules[ruleIndex]));
+    }
+
+    boolean wasInEventFreezeMode = this.eventFreezeMode;
+    startEventFreezeMode();
+    try {
+      this.ontology.getOWLOntologyManager().applyChanges(changes);
+    } finally {
+      this.eventFreezeMode = wasInEventFreezeMode;
+    }
+
+    // Process once if we are listening for changes, as we would have done for each rule had they been added singly
+    if (!wasInEventFreezeMode && !this.swrlRuleEngineModels.isEmpty() && !changes.isEmpty())
+      processOntology();
+
+    return Arrays.asList(swrlapiRules);
+  }
+
   @Override public void replaceSWRLRule(@NonNull String originalRuleName, @NonNull String ruleName,
     @NonNull String rule, @NonNull String comment, boolean isActive) throws SWRLParseException, SWRLBuiltInException
   {
@@ -315,6 +545,14 @@ class DefaultSWRLAPIOWLOntology implements SWRLAPIOWLOntology, OWLOntologyChange
     }
   }
 
+  private void processSQWRLQueries() throws SWRLBuiltInException
+  {
+    for (SWRLAPIRule swrlapiRule : this.swrlRules.values()) {
+      if (swrlapiRule.isSQWRLQuery())
+        this.sqwrlQueries.put(swrlapiRule.getRuleName(), createSQWRLQueryFromSWRLRule(swrlapiRule));
+    }
+  }
+
   @NonNull @Override public Optional<@NonNull SWRLAPIRule> getSWRLRule(@NonNull String ruleName)
     throws SWRLRuleException
   {
@@ -339,9 +577,12 @@ class DefaultSWRLAPIOWLOntology implements SWRLAPIOWLOntology, OWLOntologyChange
     return new SWRLParser(this);
   }
 
-  @NonNull @Override public SWRLAutoCompleter createSWRLAutoCompleter()
+  @NonNull @Override public synchronized SWRLAutoCompleter createSWRLAutoCompleter()
   {
-    return SWRLAPIInternalFactory.createSWRLAutoCompleter(this);
+    if (this.swrlAutoCompleter == null)
+      this.swrlAutoCompleter = SWRLAPIInternalFactory.createSWRLAutoCompleter(this);
+
+    return this.swrlAutoCompleter;
   }
 
   @NonNull @Override public SWRLRuleRenderer createSWRLRuleRenderer()
@@ -533,6 +774,17 @@ class DefaultSWRLAPIOWLOntology implements SWRLAPIOWLOntology, OWLOntologyChange
     return this.iriResolver;
   }
 
+  @NonNull @Override public OWLEntitySymbolTable getOWLEntitySymbolTable()
+  {
+    OWLEntitySymbolTable symbolTable = this.owlEntitySymbolTable;
+
+    if (symbolTable == null) {
+      symbolTable = SWRLAPIInternalFactory.getOWLEntitySymbolTable(this.ontology);
+      this.owlEntitySymbolTable = symbolTable;
+    }
+    return symbolTable;
+  }
+
   @NonNull private String iri2PrefixedName(IRI iri)
   {
     Optional<@NonNull String> prefixedName = this.iriResolver.iri2PrefixedName(iri);
@@ -712,28 +964,29 @@ class DefaultSWRLAPIOWLOntology implements SWRLAPIOWLOntology, OWLOntologyChange
   @NonNull private SWRLBuiltInArgument convertSWRLVariable2SWRLBuiltInArgument(@NonNull SWRLVariable swrlVariable)
   {
     IRI iri = swrlVariable.getIRI();
+    OWLEntitySymbolTable symbolTable = getOWLEntitySymbolTable();
 
-    if (isOWLClass(iri)) {
+    if (symbolTable.isOWLClass(iri)) {
       OWLClass cls = getOWLDataFactory().getOWLClass(iri);
 
       return getSWRLBuiltInArgumentFactory().getClassBuiltInArgument(cls);
-    } else if (getOWLOntology().containsIndividualInSignature(iri, Imports.INCLUDED)) {
+    } else if (symbolTable.isOWLNamedIndividual(iri)) {
       OWLNamedIndividual individual = getOWLDataFactory().getOWLNamedIndividual(iri);
 
       return getSWRLBuiltInArgumentFactory().getNamedIndividualBuiltInArgument(individual);
-    } else if (getOWLOntology().containsObjectPropertyInSignature(iri, Imports.INCLUDED)) {
+    } else if (symbolTable.isOWLObjectProperty(iri)) {
       OWLObjectProperty property = getOWLDataFactory().getOWLObjectProperty(iri);
 
       return getSWRLBuiltInArgumentFactory().getObjectPropertyBuiltInArgument(property);
-    } else if (getOWLOntology().containsDataPropertyInSignature(iri, Imports.INCLUDED)) {
+    } else if (symbolTable.isOWLDataProperty(iri)) {
       OWLDataProperty property = getOWLDataFactory().getOWLDataProperty(iri);
 
       return getSWRLBuiltInArgumentFactory().getDataPropertyBuiltInArgument(property);
-    } else if (getOWLOntology().containsAnnotationPropertyInSignature(iri, Imports.INCLUDED)) {
+    } else if (symbolTable.isOWLAnnotationProperty(iri)) {
       OWLAnnotationProperty property = getOWLDataFactory().getOWLAnnotationProperty(iri);
 
       return getSWRLBuiltInArgumentFactory().getAnnotationPropertyBuiltInArgument(property);
-    } else if (getOWLOntology().containsDatatypeInSignature(iri, Imports.INCLUDED)) {
+    } else if (symbolTable.isOWLDatatype(iri)) {
       OWLDatatype datatype = getOWLDataFactory().getOWLDatatype(iri);
 
       return getSWRLBuiltInArgumentFactory().getDatatypeBuiltInArgument(datatype);
@@ -747,8 +1000,7 @@ class DefaultSWRLAPIOWLOntology implements SWRLAPIOWLOntology, OWLOntologyChange
 
   private boolean isOWLClass(@NonNull IRI iri)
   {
-    return getOWLOntology().containsClassInSignature(iri, Imports.INCLUDED) || iri
-      .equals(OWLRDFVocabulary.OWL_THING.getIRI()) || iri.equals(OWLRDFVocabulary.OWL_NOTHING.getIRI());
+    return getOWLEntitySymbolTable().isOWLClass(iri);
   }
 
   /**
@@ -885,6 +1137,53 @@ class DefaultSWRLAPIOWLOntology implements SWRLAPIOWLOntology, OWLOntologyChange
     processOWLDisjointDataPropertiesAxioms();
   }
 
+  /**
+   * Process class and property assertion axioms added to the underlying ontology without reprocessing the ontology.
+   * Declarations are generated for their named individuals as they are when the ontology is processed.
+   *
+   * @param axioms The added axioms
+   * @return The asserted OWL axioms that the added axioms contribute and that were not asserted before, which are the
+   * axioms themselves and the declarations of their named individuals, or empty if an axiom is not an assertion that
+   * can be processed this way
+   */
+  @NonNull Optional<@NonNull Set<@NonNull OWLAxiom>> processAddedOWLAssertionAxioms(
+    @NonNull Collection<@NonNull OWLAxiom> axioms)
+  {
+    if (this.isProcessedView) // Asserted axioms are shared with the source ontology
+      return Optional.empty();
+
+    List<@NonNull OWLIndividual> individuals = new ArrayList<>();
+
+    for (OWLAxiom axiom : axioms) {
+      if (axiom instanceof OWLClassAssertionAxiom)
+        individuals.add(((OWLClassAssertionAxiom)axiom).getIndividual());
+      else if (axiom instanceof OWLObjectPropertyAssertionAxiom) {
+        individuals.add(((OWLObjectPropertyAssertionAxiom)axiom).getSubject());
+        individuals.add(((OWLObjectPropertyAssertionAxiom)axiom).getObject());
+      } else if (axiom instanceof OWLDataPropertyAssertionAxiom)
+        individuals.add(((OWLDataPropertyAssertionAxiom)axiom).getSubject());
+      else
+        return Optional.empty();
+    }
+
+    Set<@NonNull OWLAxiom> contributedAxioms = new HashSet<>();
+
+    for (OWLIndividual individual : individuals) {
+      if (individual.isNamed() && !this.individualDeclarationAxioms
+        .containsKey(individual.asOWLNamedIndividual().getIRI())) {
+        generateOWLIndividualDeclarationAxiomIfNecessary(individual);
+        contributedAxioms.add(this.individualDeclarationAxioms.get(individual.asOWLNamedIndividual().getIRI()));
+      }
+    }
+    for (OWLAxiom axiom : axioms) {
+      if (this.assertedOWLAxioms.add(axiom))
+        contributedAxioms.add(axiom);
+    }
+    this.processingCount++;
+
+    return Optional.of(contributedAxioms);
+  }
+
   private void processOWLClassAssertionAxioms()
   {
     for (OWLClassAssertionAxiom axiom : getOWLClassAssertionAxioms()) {
@@ -1429,8 +1728,9 @@ class DefaultSWRLAPIOWLOntology implements SWRLAPIOWLOntology, OWLOntologyChange
   @Override public void ontologiesChanged(@Nonnull List<? extends OWLOntologyChange> list) throws OWLException
   {
     this.hasOntologyChanged = true;
+    this.hasChangedSinceProcessing = true;
 
-    if (!eventFreezeMode) {
+    if (!eventFreezeMode && !this.swrlRuleEngineModels.isEmpty()) { // Tracking alone defers processing
       try {
         processOntology();
       } catch (SWRLBuiltInException e) {
@@ -1440,49 +1740,13 @@ class DefaultSWRLAPIOWLOntology implements SWRLAPIOWLOntology, OWLOntologyChange
     }
   }
 
-  private void notifyRegisteredRuleEngineModels()
+  /**
+   * Also used by rule engines to update models once after writing inferred axioms while events are frozen. Models are
+   * updated before this returns, on the calling thread.
+   */
+  void notifyRegisteredRuleEngineModels()
   {
     for (SWRLRuleEngineModel swrlRuleEngineModel : this.swrlRuleEngineModels)
       swrlRuleEngineModel.updateModel();
   }
-
-  private static void addSWRLAPIOntologies(@NonNull OWLOntology ontology)
-  {
-    List<SimpleIRIMapper> iriMappers = new ArrayList<>();
-
-    iriMappers
-      .add(new SimpleIRIMapper(IRI.create("http://www.w3.org/2003/11/swrl#"), resourcePath2IRI("owl/swrl.owl")));
-    iriMappers
-      .add(new SimpleIRIMapper(IRI.create("http://www.w3.org/2003/11/swrlb#"), resourcePath2IRI("owl/swrlb.owl")));
-    iriMappers.add(new SimpleIRIMapper(IRI.create("http://swrl.stanford.edu/ontologies/3.3/swrla.owl"),
-      resourcePath2IRI("owl/swrla.owl")));
-    iriMappers.add(new SimpleIRIMapper(IRI.create("http://swrl.stanford.edu/ontologies/built-ins/3.4/swrlm.owl"),
-      resourcePath2IRI("owl/swrlm.owl")));
-    iriMappers.add(new SimpleIRIMapper(IRI.create("http://swrl.stanford.edu/ontologies/built-ins/3.3/swrlx.owl"),
-      resourcePath2IRI("owl/swrlx.owl")));
-    iriMappers.add(new SimpleIRIMapper(IRI.create("http://swrl.stanford.edu/ontologies/built-ins/3.3/temporal.owl"),
-      resourcePath2IRI("owl/temporal.owl")));
-    iriMappers.add(new SimpleIRIMapper(IRI.create("http://sqwrl.stanford.edu/ontologies/built-ins/3.4/sqwrl.owl"),
-      resourcePath2IRI("owl/sqwrl.owl")));
-
-    for (SimpleIRIMapper iriMapper : iriMappers)
-      ontology.getOWLOntologyManager().getIRIMappers().add(iriMapper);
-  }
-
-  @NonNull private static IRI resourcePath2IRI(@NonNull String resourceName)
-  {
-    ClassLoader classLoader = DefaultSWRLAPIOWLOntology.class.getClassLoader();
-
-    if (classLoader == null)
-      throw new SWRLAPIException("Could not loadExternalSWRLBuiltInLibraries class loader");
-
-    URL url = classLoader.getResource(resourceName);
-
-    if (url == null)
-      throw new SWRLAPIException("Could not loadExternalSWRLBuiltInLibraries local resource " + resourceName);
-
-    //log.info("External form " + url.toExternalForm());
-
-    return IRI.create(url);
-  }
 }
@@ -1,84 +1,233 @@
 package org.swrlapi.factory;
 
 import org.checkerframework.checker.nullness.qual.NonNull;
+import org.semanticweb.owlapi.model.AddAxiom;
 import org.semanticweb.owlapi.model.IRI;
+import org.semanticweb.owlapi.model.OWLDocumentFormat;
 import org.semanticweb.owlapi.model.OWLEntity;
+import org.semanticweb.owlapi.model.OWLOntology;
+import org.semanticweb.owlapi.model.OWLOntologyChange;
+import org.semanticweb.owlapi.model.OWLOntologyChangeListener;
+import org.semanticweb.owlapi.model.RemoveAxiom;
 import org.semanticweb.owlapi.model.parameters.Imports;
 import org.semanticweb.owlapi.vocab.OWLRDFVocabulary;
 import org.semanticweb.owlapi.vocab.XSDVocabulary;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
 import org.swrlapi.core.IRIResolver;
 import org.swrlapi.core.SWRLAPIOWLOntology;
 import org.swrlapi.ui.model.SWRLAutoCompleter;
 
+import javax.annotation.Nonnull;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.NavigableSet;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ConcurrentSkipListSet;
 
 /**
+ * Completes prefixes of entity names, built-in names, and SWRL keywords.
+ * <p>
+ * Renderings are held in a sorted map so that the completions of a prefix are a contiguous range that can be
+ * extracted without scanning the other renderings. They are also grouped by length so that the shortest completions
+ * of a prefix can be found without examining all of its completions. An instance is shared by all editors of a
+ * SWRLAPI ontology. It is built on first use and then kept up to date as axioms are added to or removed from the
+ * ontologies in the imports closure. It is rebuilt only if the imports closure or the ontology's prefixes change.
+ *
  * @see org.swrlapi.ui.dialog.SWRLRuleEditorDialog
+ * @see org.swrlapi.core.SWRLAPIOWLOntology#createSWRLAutoCompleter()
  */
-class DefaultSWRLAutoCompleter implements SWRLAutoCompleter
+class DefaultSWRLAutoCompleter implements SWRLAutoCompleter, OWLOntologyChangeListener
 {
-  private static final Logger log = LoggerFactory.getLogger(DefaultSWRLAutoCompleter.class);
+  @NonNull private static final String[] keywords = { "sameAs", "differentFrom", "and", "or", "not" };
 
-  @NonNull private final List<@NonNull String> renderings;
+  @NonNull private final SWRLAPIOWLOntology swrlapiOWLOntology;
 
-  public DefaultSWRLAutoCompleter(@NonNull SWRLAPIOWLOntology swrlapiowlOntology)
+  // Each rendering maps to the number of entities and vocabulary terms with that rendering
+  @NonNull private final NavigableMap<@NonNull String, @NonNull Integer> renderings;
+  @NonNull private final NavigableMap<@NonNull Integer, @NonNull NavigableSet<@NonNull String>> renderingsByLength;
+  // Renderings contributed by each entity, which are removed when the entity leaves the signature
+  @NonNull private final Map<@NonNull IRI, @NonNull List<@NonNull String>> entityRenderings;
+
+  @NonNull private volatile Map<@NonNull String, String> prefixes; // The ontology prefixes used to render entities
+  private volatile boolean built;
+
+  public DefaultSWRLAutoCompleter(@NonNull SWRLAPIOWLOntology swrlapiOWLOntology)
+  {
+    this.swrlapiOWLOntology = swrlapiOWLOntology;
+    this.renderings = new ConcurrentSkipListMap<>();
+    this.renderingsByLength = new ConcurrentSkipListMap<>();
+    this.entityRenderings = new ConcurrentHashMap<>();
+    this.prefixes = Collections.emptyMap();
+    this.built = false;
+
+    swrlapiOWLOntology.getOWLOntologyManager().addOntologyChangeListener(this);
+  }
+
+  @NonNull @Override public List<@NonNull String> getCompletions(@NonNull String prefix)
+  {
+    ensureBuilt();
+
+    return new ArrayList<>(this.renderings.subMap(prefix, true, upperBound(prefix), false).keySet());
+  }
+
+  @NonNull @Override public List<@NonNull String> getCompletions(@NonNull String prefix,
+    int maximumNumberOfCompletions)
+  {
+    ensureBuilt();
+
+    List<@NonNull String> completions = new ArrayList<>();
+    String upperBound = upperBound(prefix);
+
+    for (NavigableSet<@NonNull String> sameLengthRenderings : this.renderingsByLength.tailMap(prefix.length(), true)
+      .values()) {
+      for (String rendering : sameLengthRenderings.subSet(prefix, true, upperBound, false)) {
+        if (completions.size() >= maximumNumberOfCompletions)
+          return completions;
+        completions.add(rendering);
+      }
+    }
+    return completions;
+  }
+
+  @Override public synchronized void ontologiesChanged(@Nonnull List<? extends OWLOntologyChange> changes)
   {
-    IRIResolver iriResolver = swrlapiowlOntology.getIRIResolver();
-    this.renderings = new ArrayList<>();
-
-    for (OWLEntity owlEntity : swrlapiowlOntology.getOWLOntology().getSignature(Imports.INCLUDED)) {
-      //log.info("iri " + owlEntity.getIRI() + ", shortForm " + prefixManager.iri2ShortForm(owlEntity.getIRI()));
-      Optional<@NonNull String> shortForm = iriResolver.iri2ShortForm(owlEntity.getIRI());
-      if (shortForm.isPresent()) {
-        if (shortForm.get().startsWith(":")) // Strip leading ":"
-          this.renderings.add(shortForm.get().substring(1));
-        this.renderings.add(shortForm.get());
+    if (!this.built)
+      return;
+
+    OWLOntology ontology = this.swrlapiOWLOntology.getOWLOntology();
+    Set<@NonNull OWLOntology> importsClosure = ontology.getImportsClosure();
+
+    for (OWLOntologyChange change : changes) {
+      if (!importsClosure.contains(change.getOntology()))
+        continue;
+
+      if (change instanceof AddAxiom) {
+        for (OWLEntity entity : ((AddAxiom)change).getAxiom().getSignature())
+          addEntity(entity.getIRI());
+      } else if (change instanceof RemoveAxiom) {
+        for (OWLEntity entity : ((RemoveAxiom)change).getAxiom().getSignature())
+          if (!ontology.containsEntityInSignature(entity.getIRI(), Imports.INCLUDED))
+            removeEntity(entity.getIRI());
+      } else { // Imports, ontology IDs, or ontology annotations have changed so rebuild on next use
+        this.built = false;
+        return;
       }
     }
+  }
+
+  private void ensureBuilt()
+  {
+    if (!this.built || !this.prefixes.equals(getOntologyPrefixes()))
+      build();
+  }
+
+  private synchronized void build()
+  {
+    Map<@NonNull String, String> ontologyPrefixes = getOntologyPrefixes();
 
-    for (IRI swrlBuiltInIRI : swrlapiowlOntology.getSWRLBuiltInIRIs()) {
+    if (this.built && this.prefixes.equals(ontologyPrefixes))
+      return;
+
+    IRIResolver iriResolver = this.swrlapiOWLOntology.getIRIResolver();
+
+    this.renderings.clear();
+    this.renderingsByLength.clear();
+    this.entityRenderings.clear();
+
+    for (IRI entityIRI : this.swrlapiOWLOntology.getOWLEntitySymbolTable().getEntityIRIs())
+      addEntity(entityIRI);
+
+    for (IRI swrlBuiltInIRI : this.swrlapiOWLOntology.getSWRLBuiltInIRIs()) {
       Optional<@NonNull String> prefixedName = iriResolver.iri2PrefixedName(swrlBuiltInIRI);
       if (prefixedName.isPresent()) {
         if (prefixedName.get().startsWith(":"))
-          this.renderings.add(prefixedName.get().substring(1));
-        this.renderings.add(prefixedName.get());
+          addRendering(prefixedName.get().substring(1));
+        addRendering(prefixedName.get());
       }
     }
 
     for (OWLRDFVocabulary v : OWLRDFVocabulary.values()) {
       String prefixedName = v.getPrefixedName();
       if (prefixedName != null)
-        this.renderings.add(prefixedName);
+        addRendering(prefixedName);
     }
 
     for (XSDVocabulary v : XSDVocabulary.values()) {
       String prefixedName = v.getPrefixedName();
       if (prefixedName != null)
-        this.renderings.add(prefixedName);
+        addRendering(prefixedName);
     }
 
-    this.renderings.add("sameAs");
-    this.renderings.add("differentFrom");
-    this.renderings.add("and");
-    this.renderings.add("or");
-    this.renderings.add("not");
+    for (String keyword : keywords)
+      addRendering(keyword);
 
-    Collections.sort(this.renderings);
+    this.prefixes = new HashMap<>(ontologyPrefixes);
+    this.built = true;
   }
 
-  @NonNull @Override public List<@NonNull String> getCompletions(@NonNull String prefix)
-  { // TODO Look at - not very efficient
-    List<@NonNull String> completions = new ArrayList<>();
+  private void addEntity(@NonNull IRI entityIRI)
+  {
+    if (this.entityRenderings.containsKey(entityIRI))
+      return;
 
-    for (String rendering : renderings) {
-      if (rendering.startsWith(prefix))
-        completions.add(rendering);
+    Optional<@NonNull String> shortForm = this.swrlapiOWLOntology.getIRIResolver().iri2ShortForm(entityIRI);
+    if (shortForm.isPresent()) {
+      List<@NonNull String> shortForms = new ArrayList<>(2);
+      if (shortForm.get().startsWith(":")) // Strip leading ":"
+        shortForms.add(shortForm.get().substring(1));
+      shortForms.add(shortForm.get());
+
+      for (String rendering : shortForms)
+        addRendering(rendering);
+      this.entityRenderings.put(entityIRI, shortForms);
     }
-    return completions;
+  }
+
+  private void removeEntity(@NonNull IRI entityIRI)
+  {
+    List<@NonNull String> shortForms = this.entityRenderings.remove(entityIRI);
+
+    if (shortForms != null) {
+      for (String rendering : shortForms)
+        removeRendering(rendering);
+    }
+  }
+
+  private void addRendering(@NonNull String rendering)
+  {
+    if (this.renderings.merge(rendering, 1, Integer::sum) == 1)
+      this.renderingsByLength.computeIfAbsent(rendering.length(), length -> new ConcurrentSkipListSet<>())
+        .add(rendering);
+  }
+
+  private void removeRendering(@NonNull String rendering)
+  {
+    if (this.renderings.computeIfPresent(rendering, (r, count) -> count > 1 ? count - 1 : null) == null) {
+      NavigableSet<@NonNull String> sameLengthRenderings = this.renderingsByLength.get(rendering.length());
+      if (sameLengthRenderings != null)
+        sameLengthRenderings.remove(rendering);
+    }
+  }
+
+  @NonNull private Map<@NonNull String, String> getOntologyPrefixes()
+  {
+    OWLOntology ontology = this.swrlapiOWLOntology.getOWLOntology();
+    OWLDocumentFormat ontologyFormat = ontology.getOWLOntologyManager().getOntologyFormat(ontology);
+
+    if (ontologyFormat != null && ontologyFormat.isPrefixOWLOntologyFormat())
+      return ontologyFormat.asPrefixOWLOntologyFormat().getPrefixName2PrefixMap();
+    else
+      return Collections.emptyMap();
+  }
+
+  @NonNull private static String upperBound(@NonNull String prefix)
+  {
+    return prefix + Character.MAX_VALUE;
   }
 }
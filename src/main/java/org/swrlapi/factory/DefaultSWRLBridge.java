@@ -2,16 +2,21 @@ package org.swrlapi.factory;
 
 import org.checkerframework.checker.nullness.qual.MonotonicNonNull;
 import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
 import org.semanticweb.owlapi.model.IRI;
 import org.semanticweb.owlapi.model.OWLAxiom;
 import org.semanticweb.owlapi.model.OWLOntology;
 import org.semanticweb.owlapi.model.parameters.Imports;
 import org.semanticweb.owlapi.vocab.OWLRDFVocabulary;
 import org.swrlapi.bridge.SWRLBridge;
+import org.swrlapi.bridge.SWRLRuleEngineExecutionMonitor;
 import org.swrlapi.bridge.TargetSWRLRuleEngine;
 import org.swrlapi.builtins.arguments.SWRLBuiltInArgument;
 import org.swrlapi.core.IRIResolver;
 import org.swrlapi.core.SWRLAPIOWLOntology;
+import org.swrlapi.core.SWRLRuleEngineInferenceDelta;
+import org.swrlapi.core.SWRLRuleEngineInferenceListener;
+import org.swrlapi.core.SWRLRuleEngineInstrumentation;
 import org.swrlapi.exceptions.SWRLBuiltInBridgeException;
 import org.swrlapi.exceptions.SWRLBuiltInException;
 import org.swrlapi.exceptions.SWRLRuleEngineBridgeException;
@@ -25,6 +30,8 @@ import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Collectors;
 
 /**
  * Default implementation of a SWRL rule engine bridge, built-in bridge, built-in bridge controller, and rule engine
@@ -36,28 +43,52 @@ import java.util.Set;
  */
 public class DefaultSWRLBridge implements SWRLBridge
 {
-  @NonNull private final SWRLAPIOWLOntology swrlapiOWLOntology;
-  @NonNull private final OWL2RLPersistenceLayer owl2RLPersistenceLayer;
+  @NonNull private SWRLAPIOWLOntology swrlapiOWLOntology;
+  @NonNull private OWL2RLPersistenceLayer owl2RLPersistenceLayer;
 
   /**
    * OWL axioms inferred by a rule engine (via the {@link #inferOWLAxiom(org.semanticweb.owlapi.model.OWLAxiom)} call).
    * A {@link org.swrlapi.core.SWRLRuleEngine} can retrieve these using the the {@link #getInjectedOWLAxioms()} call
    * after calling {@link org.swrlapi.bridge.TargetSWRLRuleEngine#runRuleEngine()}.
    */
-  @NonNull private final Set<@NonNull OWLAxiom> inferredOWLAxioms;
+  @NonNull private Set<@NonNull OWLAxiom> inferredOWLAxioms;
+
+  /**
+   * The inferred OWL axioms that have not yet been taken for export.
+   */
+  @NonNull private Set<@NonNull OWLAxiom> newlyInferredOWLAxioms;
 
   /**
    * OWL axioms inferred by SWRL built-ins (via the {@link #inferOWLAxiom(org.semanticweb.owlapi.model.OWLAxiom)}). A
    * {@link org.swrlapi.core.SWRLRuleEngine} can retrieve these using the {@link #getInjectedOWLAxioms()} call after
    * calling {@link org.swrlapi.bridge.TargetSWRLRuleEngine#runRuleEngine()}.
    */
-  @NonNull private final Set<@NonNull OWLAxiom> injectedOWLAxioms;
+  @NonNull private Set<@NonNull OWLAxiom> injectedOWLAxioms;
+
+  /**
+   * Changes to the inferred and injected OWL axioms since inference listeners were last notified. They are only
+   * recorded while there are listeners.
+   */
+  @NonNull private final OWLAxiomChanges inferredOWLAxiomChanges;
+  @NonNull private final OWLAxiomChanges injectedOWLAxiomChanges;
+  @NonNull private final CopyOnWriteArrayList<@NonNull SWRLRuleEngineInferenceListener> inferenceListeners;
+
+  /**
+   * Records inferences per rule and, via the built-in library manager, built-in invocations
+   */
+  @NonNull private final SWRLRuleEngineInstrumentation instrumentation;
 
   /**
    * The target rule engine implementation (e.g., Drools, Jess)
    */
   @MonotonicNonNull private TargetSWRLRuleEngine targetSWRLRuleEngine;
 
+  /**
+   * Monitor for the current execution, if any. Set from the thread that starts an execution and read from the thread
+   * running the target rule engine.
+   */
+  @Nullable private volatile SWRLRuleEngineExecutionMonitor executionMonitor;
+
   public DefaultSWRLBridge(@NonNull SWRLAPIOWLOntology swrlapiOWLOntology,
     @NonNull OWL2RLPersistenceLayer owl2RLPersistenceLayer) throws SWRLBuiltInBridgeException
   {
@@ -65,8 +96,14 @@ public class DefaultSWRLBridge implements SWRLBridge
     this.owl2RLPersistenceLayer = owl2RLPersistenceLayer;
 
     this.inferredOWLAxioms = new HashSet<>();
+    this.newlyInferredOWLAxioms = new HashSet<>();
     this.injectedOWLAxioms = new HashSet<>();
+    this.inferredOWLAxiomChanges = new OWLAxiomChanges();
+    this.injectedOWLAxiomChanges = new OWLAxiomChanges();
+    this.inferenceListeners = new CopyOnWriteArrayList<>();
+    this.instrumentation = SWRLAPIInternalFactory.createSWRLRuleEngineInstrumentation();
 
+    this.swrlapiOWLOntology.getSWRLBuiltInLibraryManager().setInstrumentation(this.instrumentation);
     this.swrlapiOWLOntology.getSWRLBuiltInLibraryManager().invokeAllBuiltInLibrariesResetMethod(this);
   }
 
@@ -77,12 +114,42 @@ public class DefaultSWRLBridge implements SWRLBridge
 
   @Override public void reset() throws SWRLBuiltInBridgeException
   {
-    this.inferredOWLAxioms.clear();
-    this.injectedOWLAxioms.clear();
+    if (!this.inferenceListeners.isEmpty()) { // The discarded sets are handed over instead of copied
+      this.inferredOWLAxiomChanges.discarded(this.inferredOWLAxioms);
+      this.injectedOWLAxiomChanges.discarded(this.injectedOWLAxioms);
+    }
+
+    this.inferredOWLAxioms = new HashSet<>();
+    this.newlyInferredOWLAxioms = new HashSet<>();
+    this.injectedOWLAxioms = new HashSet<>();
 
     this.swrlapiOWLOntology.getSWRLBuiltInLibraryManager().invokeAllBuiltInLibrariesResetMethod(this);
   }
 
+  /**
+   * Rebind this bridge to a different ontology. Used by engine pools to reuse a bridge and its target rule engine
+   * across ontologies. Any inferred or injected axioms from the previous ontology are discarded.
+   */
+  void rebind(@NonNull SWRLAPIOWLOntology swrlapiOWLOntology, @NonNull OWL2RLPersistenceLayer owl2RLPersistenceLayer)
+    throws SWRLBuiltInBridgeException
+  {
+    this.swrlapiOWLOntology = swrlapiOWLOntology;
+    this.owl2RLPersistenceLayer = owl2RLPersistenceLayer;
+    this.swrlapiOWLOntology.getSWRLBuiltInLibraryManager().setInstrumentation(this.instrumentation);
+
+    reset();
+  }
+
+  @Override public void startExecution(@NonNull SWRLRuleEngineExecutionMonitor executionMonitor)
+  {
+    this.executionMonitor = executionMonitor;
+  }
+
+  @Override public void finishExecution()
+  {
+    this.executionMonitor = null;
+  }
+
   @Override public boolean hasOntologyChanged()
   {
     return this.swrlapiOWLOntology.hasOntologyChanged();
@@ -96,6 +163,8 @@ public class DefaultSWRLBridge implements SWRLBridge
   {
     if (!this.injectedOWLAxioms.contains(axiom)) {
       this.injectedOWLAxioms.add(axiom);
+      if (!this.inferenceListeners.isEmpty())
+        this.injectedOWLAxiomChanges.added(axiom);
       exportOWLAxiom(axiom); // Export the axiom to the rule engine
     }
   }
@@ -130,6 +199,15 @@ public class DefaultSWRLBridge implements SWRLBridge
     return this.inferredOWLAxioms;
   }
 
+  @NonNull @Override public Set<@NonNull OWLAxiom> takeNewlyInferredOWLAxioms()
+  {
+    Set<@NonNull OWLAxiom> newlyInferredOWLAxioms = this.newlyInferredOWLAxioms;
+
+    this.newlyInferredOWLAxioms = new HashSet<>();
+
+    return newlyInferredOWLAxioms;
+  }
+
   @Override public int getNumberOfInferredOWLAxioms()
   {
     return this.inferredOWLAxioms.size();
@@ -137,17 +215,110 @@ public class DefaultSWRLBridge implements SWRLBridge
 
   @Override public void inferOWLAxiom(@NonNull OWLAxiom axiom) throws SWRLRuleEngineBridgeException
   {
+    addInferredOWLAxiom(axiom);
+  }
+
+  @Override public void inferOWLAxiom(@NonNull OWLAxiom axiom, @NonNull String ruleName)
+    throws SWRLRuleEngineBridgeException
+  {
+    if (addInferredOWLAxiom(axiom))
+      this.instrumentation.recordInferredOWLAxiom(ruleName);
+  }
+
+  @Override public void restoreOWLAxioms(@NonNull Set<@NonNull OWLAxiom> inferredOWLAxioms,
+    @NonNull Set<@NonNull OWLAxiom> injectedOWLAxioms)
+  {
+    for (OWLAxiom axiom : inferredOWLAxioms)
+      addInferredOWLAxiom(axiom);
+
+    for (OWLAxiom axiom : injectedOWLAxioms) {
+      if (this.injectedOWLAxioms.add(axiom) && !this.inferenceListeners.isEmpty())
+        this.injectedOWLAxiomChanges.added(axiom);
+    }
+  }
+
+  @NonNull @Override public SWRLRuleEngineInstrumentation getInstrumentation()
+  {
+    return this.instrumentation;
+  }
+
+  @Override public void addInferenceListener(@NonNull SWRLRuleEngineInferenceListener listener)
+  {
+    if (this.inferenceListeners.isEmpty()) { // Changes are recorded from now on
+      this.inferredOWLAxiomChanges.clear();
+      this.injectedOWLAxiomChanges.clear();
+    }
+    this.inferenceListeners.addIfAbsent(listener);
+  }
+
+  @Override public void removeInferenceListener(@NonNull SWRLRuleEngineInferenceListener listener)
+  {
+    this.inferenceListeners.remove(listener);
+  }
+
+  @Override public void notifyInferenceListeners()
+  {
+    if (this.inferenceListeners.isEmpty())
+      return;
+
+    SWRLRuleEngineInferenceDelta delta = new SWRLRuleEngineInferenceDelta(
+      this.inferredOWLAxiomChanges.takeAddedAxioms(), takeRemovedOWLAxioms(this.inferredOWLAxiomChanges),
+      this.injectedOWLAxiomChanges.takeAddedAxioms(), takeRemovedOWLAxioms(this.injectedOWLAxiomChanges));
+
+    for (SWRLRuleEngineInferenceListener listener : this.inferenceListeners)
+      listener.inferencesChanged(delta);
+  }
+
+  /**
+   * Axioms that were discarded and are now asserted, typically because inferences were written back to the ontology,
+   * have not been removed.
+   */
+  @NonNull private Set<@NonNull OWLAxiom> takeRemovedOWLAxioms(@NonNull OWLAxiomChanges changes)
+  {
+    return changes.takeRemovedAxioms().stream().filter(axiom -> !this.swrlapiOWLOntology.hasAssertedOWLAxiom(axiom))
+      .collect(Collectors.toSet());
+  }
+
+  private boolean addInferredOWLAxiom(@NonNull OWLAxiom axiom) throws SWRLRuleEngineBridgeException
+  {
+    SWRLRuleEngineExecutionMonitor monitor = this.executionMonitor;
+
     // Exclude already asserted axioms
-    if (!this.inferredOWLAxioms.contains(axiom) && !this.swrlapiOWLOntology.hasAssertedOWLAxiom(axiom))
+    if (!this.inferredOWLAxioms.contains(axiom) && !this.swrlapiOWLOntology.hasAssertedOWLAxiom(axiom)) {
       this.inferredOWLAxioms.add(axiom);
+      this.newlyInferredOWLAxioms.add(axiom);
+      if (!this.inferenceListeners.isEmpty())
+        this.inferredOWLAxiomChanges.added(axiom);
+      if (monitor != null)
+        monitor.checkInferredOWLAxioms(this.inferredOWLAxioms.size());
+      return true;
+    } else
+      return false;
   }
 
   @NonNull @Override public List<@NonNull List<@NonNull SWRLBuiltInArgument>> invokeSWRLBuiltIn(
     @NonNull String ruleName, @NonNull String builtInName, int builtInIndex, boolean isInConsequent,
     @NonNull List<@NonNull SWRLBuiltInArgument> arguments) throws SWRLBuiltInException
   {
-    return this.swrlapiOWLOntology.getSWRLBuiltInLibraryManager()
+    SWRLRuleEngineExecutionMonitor monitor = this.executionMonitor;
+
+    if (monitor != null)
+      monitor.check();
+
+    List<@NonNull List<@NonNull SWRLBuiltInArgument>> result = this.swrlapiOWLOntology.getSWRLBuiltInLibraryManager()
       .invokeSWRLBuiltIn(this, ruleName, builtInName, builtInIndex, isInConsequent, arguments);
+
+    if (monitor != null && isInConsequent && this.swrlapiOWLOntology.getSQWRLQueryNames().contains(ruleName)) {
+      try { // SQWRL result rows are generated by built-ins in a query's consequent
+        monitor.checkSQWRLResultRows(getSQWRLResultGenerator(ruleName).getCurrentNumberOfRows());
+      } catch (SQWRLException e) {
+        throw new SWRLBuiltInBridgeException(
+          "error checking result size of SQWRL query " + ruleName + ": " + (e.getMessage() != null ?
+            e.getMessage() :
+            ""), e);
+      }
+    }
+    return result;
   }
 
   public boolean isOWLClass(@NonNull IRI iri)
@@ -219,4 +390,59 @@ public class DefaultSWRLBridge implements SWRLBridge
   {
     return this.swrlapiOWLOntology.getSWRLAPIOWLDataFactory();
   }
+
+  /**
+   * The changes to a set of axioms since they were last taken. The owner of the set reports each axiom it adds and
+   * hands over the set itself when it discards it, so the set is never copied.
+   */
+  private static class OWLAxiomChanges
+  {
+    @NonNull private Set<@NonNull OWLAxiom> addedAxioms = new HashSet<>();
+    @NonNull private Set<@NonNull OWLAxiom> removedAxioms = new HashSet<>();
+
+    public void added(@NonNull OWLAxiom axiom)
+    {
+      if (!this.removedAxioms.remove(axiom)) // An axiom that is added again after it was discarded is unchanged
+        this.addedAxioms.add(axiom);
+    }
+
+    /**
+     * @param axioms The discarded axioms, which the owner must no longer use
+     */
+    public void discarded(@NonNull Set<@NonNull OWLAxiom> axioms)
+    {
+      if (this.addedAxioms.isEmpty() && this.removedAxioms.isEmpty())
+        this.removedAxioms = axioms;
+      else {
+        for (OWLAxiom axiom : axioms) {
+          if (!this.addedAxioms.remove(axiom))
+            this.removedAxioms.add(axiom);
+        }
+      }
+    }
+
+    @NonNull public Set<@NonNull OWLAxiom> takeAddedAxioms()
+    {
+      Set<@NonNull OWLAxiom> addedAxioms = this.addedAxioms;
+
+      this.addedAxioms = new HashSet<>();
+
+      return addedAxioms;
+    }
+
+    @NonNull public Set<@NonNull OWLAxiom> takeRemovedAxioms()
+    {
+      Set<@NonNull OWLAxiom> removedAxioms = this.removedAxioms;
+
+      this.removedAxioms = new HashSet<>();
+
+      return removedAxioms;
+    }
+
+    public void clear()
+    {
+      this.addedAxioms = new HashSet<>();
+      this.removedAxioms = new HashSet<>();
+    }
+  }
 }
\ No newline at end of file
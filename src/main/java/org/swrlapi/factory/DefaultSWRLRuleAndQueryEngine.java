@@ -1,117 +1,574 @@
 package org.swrlapi.factory;
 
 import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.semanticweb.owlapi.functional.renderer.FunctionalSyntaxObjectRenderer;
 import org.semanticweb.owlapi.model.AddAxiom;
 import org.semanticweb.owlapi.model.IRI;
 import org.semanticweb.owlapi.model.OWLAxiom;
+import org.semanticweb.owlapi.model.OWLAxiomChange;
 import org.semanticweb.owlapi.model.OWLOntology;
 import org.semanticweb.owlapi.model.OWLOntologyChange;
+import org.semanticweb.owlapi.model.OWLOntologyChangeListener;
 import org.semanticweb.owlapi.model.OWLOntologyManager;
 import org.semanticweb.owlapi.reasoner.OWLReasoner;
 import org.swrlapi.bridge.SWRLRuleEngineBridgeController;
+import org.swrlapi.bridge.SWRLRuleEngineExecutionMonitor;
 import org.swrlapi.bridge.TargetSWRLRuleEngine;
+import org.swrlapi.bridge.TargetSWRLRuleEngineCreator;
 import org.swrlapi.builtins.SWRLBuiltInBridgeController;
 import org.swrlapi.core.SWRLAPIOWLOntology;
 import org.swrlapi.core.SWRLAPIRule;
+import org.swrlapi.core.SWRLRuleDefinition;
 import org.swrlapi.core.SWRLRuleEngine;
+import org.swrlapi.core.SWRLRuleEngineBudget;
+import org.swrlapi.core.SWRLRuleEngineInferenceListener;
+import org.swrlapi.core.SWRLRuleEngineInstrumentation;
+import org.swrlapi.core.SWRLRuleEnginePhase;
+import org.swrlapi.core.SWRLRuleEngineProgress;
 import org.swrlapi.core.SWRLRuleRenderer;
 import org.swrlapi.exceptions.SWRLAPIException;
 import org.swrlapi.exceptions.SWRLBuiltInException;
+import org.swrlapi.exceptions.SWRLRuleEngineBudgetExceededException;
+import org.swrlapi.exceptions.SWRLRuleEngineCancelledException;
 import org.swrlapi.exceptions.SWRLRuleEngineException;
 import org.swrlapi.exceptions.SWRLRuleException;
 import org.swrlapi.exceptions.TargetSWRLRuleEngineException;
 import org.swrlapi.owl2rl.OWL2RLEngine;
+import org.swrlapi.owl2rl.OWL2RLPersistenceLayer;
 import org.swrlapi.parser.SWRLParseException;
 import org.swrlapi.parser.SWRLParser;
 import org.swrlapi.sqwrl.SQWRLQuery;
 import org.swrlapi.sqwrl.SQWRLQueryEngine;
 import org.swrlapi.sqwrl.SQWRLQueryRenderer;
 import org.swrlapi.sqwrl.SQWRLResult;
+import org.swrlapi.sqwrl.SQWRLResultDelta;
+import org.swrlapi.sqwrl.SQWRLResultListener;
 import org.swrlapi.sqwrl.exceptions.SQWRLException;
+import org.swrlapi.sqwrl.exceptions.SQWRLInvalidQueryNameException;
+import org.swrlapi.sqwrl.values.SQWRLResultValue;
 import org.swrlapi.ui.model.SWRLAutoCompleter;
 
 import javax.swing.*;
+import java.io.BufferedWriter;
 import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
 /**
  * This class provides an implementation of some of the core functionality required by a SWRL rule engine.
+ * <p>
+ * Operations that import knowledge into, run, or export knowledge from the target rule engine synchronize on the
+ * engine, as do asynchronous executions, so they never interleave.
  */
 class DefaultSWRLRuleAndQueryEngine implements SWRLRuleEngine, SQWRLQueryEngine
 {
-  @NonNull private final SWRLAPIOWLOntology swrlapiOWLOntology;
+  @NonNull private SWRLAPIOWLOntology swrlapiOWLOntology;
   @NonNull private final TargetSWRLRuleEngine targetSWRLRuleEngine;
   @NonNull private final SWRLBuiltInBridgeController builtInBridgeController;
   @NonNull private final SWRLRuleEngineBridgeController ruleEngineBridgeController;
+  @Nullable private final TargetSWRLRuleEngineCreator targetSWRLRuleEngineCreator;
+
+  /**
+   * Number of axioms exported to the target rule engine between checks of the execution monitor
+   */
+  private static final int EXECUTION_CHECK_INTERVAL = 1024;
+
+  private static final long PHASE_NOT_TIMED = Long.MIN_VALUE;
+
+  private static final int DEFAULT_INFERRED_OWL_AXIOM_BATCH_SIZE = 10000;
+
+  @Nullable private volatile SWRLRuleEngineExecutionMonitor executionMonitor;
+
+  /**
+   * Completes when the last asynchronous execution submitted to this engine has finished or will not run. Guarded by
+   * {@link #asyncExecutionLock}.
+   */
+  @NonNull private CompletableFuture<@Nullable Void> lastAsyncExecution = CompletableFuture.completedFuture(null);
+  @NonNull private final Object asyncExecutionLock = new Object();
+  private volatile boolean owlAxiomPruningEnabled = false;
+  private volatile boolean queryPredicateSlicingEnabled = false;
+  private volatile boolean incrementalInferenceEnabled = false;
+  private volatile int inferredOWLAxiomBatchSize = DEFAULT_INFERRED_OWL_AXIOM_BATCH_SIZE;
+  @Nullable private volatile OWLOntology inferredOWLAxiomOntology;
+
+  /**
+   * Records the changes made to the ontology while incremental inference is enabled
+   */
+  @NonNull private final OWLOntologyChangeListener owlOntologyChangeRecorder = this::recordOWLOntologyChanges;
+
+  /**
+   * Axioms added to the ontology since the target rule engine last imported it. Guarded by itself, as is
+   * {@link #hasNonIncrementalOWLOntologyChange}.
+   */
+  @NonNull private final List<@NonNull OWLAxiom> addedOWLAxioms = new ArrayList<>();
+  private boolean hasNonIncrementalOWLOntologyChange = false;
+
+  /**
+   * The restored axioms held by the target rule engine if it can be brought up to date incrementally; null otherwise.
+   * The target rule engine also holds the asserted axioms processed up to {@link #importedProcessingCount}, apart from
+   * any that were pruned, so they are not copied here.
+   */
+  @Nullable private Set<@NonNull OWLAxiom> restoredOWLAxioms;
+  private long importedProcessingCount;
+
+  /**
+   * The thread writing inferred axioms to the ontology, whose changes are not recorded
+   */
+  @Nullable private volatile Thread inferredOWLAxiomWriter;
+
+  /**
+   * Continuous queries by name. Guarded by itself.
+   */
+  @NonNull private final Map<@NonNull String, @NonNull ContinuousSQWRLQuery> continuousSQWRLQueries = new HashMap<>();
+
+  /**
+   * Marks the continuous queries affected by changes to the ontology while there are continuous queries
+   */
+  @NonNull private final OWLOntologyChangeListener continuousSQWRLQueryChangeRecorder =
+    this::recordContinuousSQWRLQueryChanges;
+
+  /**
+   * The engine that reruns continuous queries over its own processed copy of the ontology, which is kept up to date
+   * with the axioms added since it was processed; null until the first update or after a change it cannot take in.
+   * Guarded by the continuous query map, as are the added axioms and whether there was any other change.
+   */
+  @Nullable private DefaultSWRLRuleAndQueryEngine continuousSQWRLQueryEngine;
+  @NonNull private final List<@NonNull OWLAxiom> continuousSQWRLQueryAddedOWLAxioms = new ArrayList<>();
+  private boolean hasNonIncrementalContinuousSQWRLQueryChange = false;
 
   public DefaultSWRLRuleAndQueryEngine(@NonNull SWRLAPIOWLOntology swrlapiOWLOntology,
     @NonNull TargetSWRLRuleEngine targetSWRLRuleEngine,
     @NonNull SWRLRuleEngineBridgeController ruleEngineBridgeController,
     @NonNull SWRLBuiltInBridgeController builtInBridgeController) throws SWRLRuleEngineException
+  {
+    this(swrlapiOWLOntology, targetSWRLRuleEngine, ruleEngineBridgeController, builtInBridgeController, null);
+  }
+
+  /**
+   * @param targetSWRLRuleEngineCreator Creator used to make additional target rule engines for parallel query
+   *                                    execution; if null, batches of queries are run sequentially
+   */
+  public DefaultSWRLRuleAndQueryEngine(@NonNull SWRLAPIOWLOntology swrlapiOWLOntology,
+    @NonNull TargetSWRLRuleEngine targetSWRLRuleEngine,
+    @NonNull SWRLRuleEngineBridgeController ruleEngineBridgeController,
+    @NonNull SWRLBuiltInBridgeController builtInBridgeController,
+    @Nullable TargetSWRLRuleEngineCreator targetSWRLRuleEngineCreator) throws SWRLRuleEngineException
   {
     this.swrlapiOWLOntology = swrlapiOWLOntology;
     this.targetSWRLRuleEngine = targetSWRLRuleEngine;
     this.builtInBridgeController = builtInBridgeController;
     this.ruleEngineBridgeController = ruleEngineBridgeController;
+    this.targetSWRLRuleEngineCreator = targetSWRLRuleEngineCreator;
   }
 
-  @Override public void importAssertedOWLAxioms() throws SWRLRuleEngineException
+  /**
+   * Rebind this engine to a different ontology. The target rule engine is reset; callers must subsequently import
+   * the new ontology's axioms.
+   */
+  synchronized void rebind(@NonNull SWRLAPIOWLOntology swrlapiOWLOntology) throws SWRLRuleEngineException
   {
-    reset();
+    if (this.incrementalInferenceEnabled) {
+      getOWLOntologyManager().removeOntologyChangeListener(this.owlOntologyChangeRecorder);
+      swrlapiOWLOntology.getOWLOntologyManager().addOntologyChangeListener(this.owlOntologyChangeRecorder);
+    }
+
+    synchronized (this.continuousSQWRLQueries) {
+      if (!this.continuousSQWRLQueries.isEmpty()) {
+        getOWLOntologyManager().removeOntologyChangeListener(this.continuousSQWRLQueryChangeRecorder);
+        swrlapiOWLOntology.getOWLOntologyManager().addOntologyChangeListener(this.continuousSQWRLQueryChangeRecorder);
+        this.continuousSQWRLQueries.values().forEach(query -> query.affected = true);
+      }
+      discardContinuousSQWRLQueryEngine();
+    }
+
+    this.swrlapiOWLOntology = swrlapiOWLOntology;
+
+    getTargetSWRLRuleEngine().resetRuleEngine();
+    discardIncrementalInferenceState();
+  }
+
+  /**
+   * Discard the state held by the target rule engine and bridge without reprocessing the ontology.
+   */
+  synchronized void release() throws SWRLRuleEngineException
+  {
+    getTargetSWRLRuleEngine().resetRuleEngine();
+    getBuiltInBridgeController().reset();
+    discardIncrementalInferenceState();
+  }
+
+  @Override public synchronized void importAssertedOWLAxioms() throws SWRLRuleEngineException
+  {
+    long startNanos = startPhase(SWRLRuleEnginePhase.IMPORT);
 
     try {
-      exportOWLAxioms2TargetRuleEngine(this.swrlapiOWLOntology.getOWLAxioms()); // OWL axioms include SWRL rules
+      reset();
+      exportAssertedOWLAxioms2TargetRuleEngine();
+    } finally {
+      finishPhase(SWRLRuleEnginePhase.IMPORT, startNanos);
+    }
+  }
+
+  /**
+   * Export the asserted axioms of the processed ontology to the reset target rule engine.
+   */
+  private void exportAssertedOWLAxioms2TargetRuleEngine() throws SWRLRuleEngineException
+  {
+    try {
+      exportOWLAxioms2TargetRuleEngine(getOWLAxioms2Import()); // OWL axioms include SWRL rules
+      if (this.incrementalInferenceEnabled && this.swrlapiOWLOntology instanceof DefaultSWRLAPIOWLOntology) {
+        this.restoredOWLAxioms = new HashSet<>();
+        this.importedProcessingCount = ((DefaultSWRLAPIOWLOntology)this.swrlapiOWLOntology).getProcessingCount();
+      }
     } catch (SWRLAPIException e) {
       throw new SWRLRuleEngineException(
         "error exporting knowledge to rule engine: " + (e.getMessage() != null ? e.getMessage() : ""), e);
     }
   }
 
-  @Override public void importSQWRLQueryAndOWLAxioms(@NonNull String queryName)
+  @Override public synchronized void importSQWRLQueryAndOWLAxioms(@NonNull String queryName)
     throws SWRLRuleEngineException, SWRLBuiltInException
   {
-    reset();
+    long startNanos = startPhase(SWRLRuleEnginePhase.IMPORT);
 
     try {
-      exportOWLAxioms2TargetRuleEngine(this.swrlapiOWLOntology.getOWLAxioms()); // OWL axioms include SWRL rules
-      exportSQWRLQuery2TargetRuleEngine(queryName);
-    } catch (SWRLAPIException e) {
-      throw new SWRLRuleEngineException(
-        "error exporting SQWRL query rule engine: " + (e.getMessage() != null ? e.getMessage() : ""), e);
+      reset();
+
+      try {
+        exportOWLAxioms2TargetRuleEngine(getOWLAxioms2Import(Collections.singleton(queryName)));
+        exportSQWRLQuery2TargetRuleEngine(queryName);
+      } catch (SWRLAPIException e) {
+        throw new SWRLRuleEngineException(
+          "error exporting SQWRL query rule engine: " + (e.getMessage() != null ? e.getMessage() : ""), e);
+      }
+    } finally {
+      finishPhase(SWRLRuleEnginePhase.IMPORT, startNanos);
+    }
+  }
+
+  @Override public void setOWLAxiomPruningEnabled(boolean enabled)
+  {
+    this.owlAxiomPruningEnabled = enabled;
+  }
+
+  @Override public boolean isOWLAxiomPruningEnabled()
+  {
+    return this.owlAxiomPruningEnabled;
+  }
+
+  @Override public synchronized void setIncrementalInferenceEnabled(boolean enabled)
+  {
+    if (enabled != this.incrementalInferenceEnabled) {
+      if (enabled)
+        getOWLOntologyManager().addOntologyChangeListener(this.owlOntologyChangeRecorder);
+      else
+        getOWLOntologyManager().removeOntologyChangeListener(this.owlOntologyChangeRecorder);
+
+      this.incrementalInferenceEnabled = enabled;
+      discardIncrementalInferenceState(); // The next inference imports the whole ontology
     }
   }
 
-  @Override public void run() throws SWRLRuleEngineException
+  @Override public boolean isIncrementalInferenceEnabled()
   {
-    getTargetSWRLRuleEngine().runRuleEngine();
+    return this.incrementalInferenceEnabled;
   }
 
-  @Override public void exportInferredOWLAxioms() throws SWRLRuleEngineException
+  @Override public void registerContinuousSQWRLQuery(@NonNull String queryName, @NonNull SQWRLResultListener listener)
+    throws SQWRLException
   {
+    ContinuousSQWRLQuery query;
+    boolean isNewQuery;
+
+    synchronized (this.continuousSQWRLQueries) {
+      if (this.continuousSQWRLQueries.isEmpty())
+        getOWLOntologyManager().addOntologyChangeListener(this.continuousSQWRLQueryChangeRecorder);
+
+      query = this.continuousSQWRLQueries.get(queryName);
+      isNewQuery = query == null;
+      if (query == null) {
+        query = new ContinuousSQWRLQuery();
+        this.continuousSQWRLQueries.put(queryName, query);
+      }
+      query.listeners.addIfAbsent(listener);
+    }
+
+    if (isNewQuery)
+      updateContinuousSQWRLQueries(); // Notifies the new listener of the initial rows
+    else {
+      SQWRLResult result = query.result;
+      if (result != null)
+        listener.sqwrlResultChanged(
+          new SQWRLResultDelta(queryName, result, getRows(query.rowCounts), Collections.emptyList()));
+    }
+  }
+
+  @Override public void unregisterContinuousSQWRLQuery(@NonNull String queryName,
+    @NonNull SQWRLResultListener listener)
+  {
+    synchronized (this.continuousSQWRLQueries) {
+      ContinuousSQWRLQuery query = this.continuousSQWRLQueries.get(queryName);
+
+      if (query != null) {
+        query.listeners.remove(listener);
+        if (query.listeners.isEmpty()) {
+          this.continuousSQWRLQueries.remove(queryName);
+          if (this.continuousSQWRLQueries.isEmpty()) {
+            getOWLOntologyManager().removeOntologyChangeListener(this.continuousSQWRLQueryChangeRecorder);
+            discardContinuousSQWRLQueryEngine();
+          }
+        }
+      }
+    }
+  }
+
+  @Override public synchronized void updateContinuousSQWRLQueries() throws SQWRLException
+  {
+    Map<@NonNull String, @NonNull ContinuousSQWRLQuery> affectedQueries = new LinkedHashMap<>();
+
+    synchronized (this.continuousSQWRLQueries) {
+      for (Map.Entry<@NonNull String, @NonNull ContinuousSQWRLQuery> entry : this.continuousSQWRLQueries.entrySet()) {
+        if (entry.getValue().affected) {
+          entry.getValue().affected = false;
+          affectedQueries.put(entry.getKey(), entry.getValue());
+        }
+      }
+    }
+
+    if (affectedQueries.isEmpty())
+      return;
+
+    Map<@NonNull String, @NonNull Predicate<@NonNull OWLAxiom>> changeTests = new HashMap<>();
+    Map<@NonNull String, @NonNull SQWRLResult> results;
+
+    try {
+      results = runContinuousSQWRLQueries(affectedQueries.keySet(), changeTests);
+    } catch (SQWRLException | RuntimeException e) {
+      synchronized (this.continuousSQWRLQueries) {
+        affectedQueries.values().forEach(query -> query.affected = true); // Retry on the next update
+      }
+      throw e;
+    }
+
+    for (Map.Entry<@NonNull String, @NonNull ContinuousSQWRLQuery> entry : affectedQueries.entrySet())
+      updateContinuousSQWRLQuery(entry.getKey(), entry.getValue(), results.get(entry.getKey()),
+        changeTests.get(entry.getKey()));
+  }
+
+  @Override public void setQueryPredicateSlicingEnabled(boolean enabled)
+  {
+    this.queryPredicateSlicingEnabled = enabled;
+  }
+
+  @Override public boolean isQueryPredicateSlicingEnabled()
+  {
+    return this.queryPredicateSlicingEnabled;
+  }
+
+  @Override public synchronized void run() throws SWRLRuleEngineException
+  {
+    long startNanos = startPhase(SWRLRuleEnginePhase.RUN);
+
+    try {
+      getTargetSWRLRuleEngine().runRuleEngine();
+      this.ruleEngineBridgeController.notifyInferenceListeners();
+    } finally {
+      finishPhase(SWRLRuleEnginePhase.RUN, startNanos);
+    }
+  }
+
+  @Override public synchronized void saveSnapshot(@NonNull File file) throws SWRLRuleEngineException
+  {
+    new SWRLRuleEngineSnapshot(getSnapshotFingerprint(),
+      new HashSet<>(this.ruleEngineBridgeController.getInferredOWLAxioms()),
+      new HashSet<>(this.builtInBridgeController.getInjectedOWLAxioms())).write(file);
+  }
+
+  @Override public synchronized void restoreSnapshot(@NonNull File file) throws SWRLRuleEngineException
+  {
+    SWRLRuleEngineSnapshot snapshot = SWRLRuleEngineSnapshot.read(file);
+    long startNanos = startPhase(SWRLRuleEnginePhase.IMPORT);
+
+    try {
+      reset(); // Reprocesses the ontology if it may have changed; the fingerprint is taken from this processing
+
+      if (!snapshot.hasFingerprint(getSnapshotFingerprint())) // Checked before anything is exported
+        throw new SWRLRuleEngineException("snapshot file " + file
+          + " was not taken from the asserted axioms and enabled OWL 2 RL rules of ontology " + getOWLOntology()
+          .getOntologyID());
+
+      exportAssertedOWLAxioms2TargetRuleEngine();
+
+      try { // The target rule engine holds the restored axioms as it would after inference
+        Set<@NonNull OWLAxiom> snapshotOWLAxioms = new HashSet<>(snapshot.getInferredOWLAxioms());
+
+        snapshotOWLAxioms.addAll(snapshot.getInjectedOWLAxioms());
+        exportOWLAxioms2TargetRuleEngine(snapshotOWLAxioms);
+        if (this.restoredOWLAxioms != null)
+          this.restoredOWLAxioms.addAll(snapshotOWLAxioms);
+      } catch (SWRLAPIException e) {
+        throw new SWRLRuleEngineException(
+          "error exporting knowledge to rule engine: " + (e.getMessage() != null ? e.getMessage() : ""), e);
+      }
+    } finally {
+      finishPhase(SWRLRuleEnginePhase.IMPORT, startNanos);
+    }
+
+    this.ruleEngineBridgeController
+      .restoreOWLAxioms(snapshot.getInferredOWLAxioms(), snapshot.getInjectedOWLAxioms());
+    this.ruleEngineBridgeController.notifyInferenceListeners();
+  }
+
+  @Override public synchronized void exportInferredOWLAxioms() throws SWRLRuleEngineException
+  {
+    long startNanos = startPhase(SWRLRuleEnginePhase.EXPORT);
+    OWLOntology ontology = getInferredOWLAxiomOntology().orElse(getOWLOntology());
+    int axiomCount = ontology.getAxiomCount();
+
     try {
       getSWRLAPIOWLOntology().startEventFreezeMode(); // Suspend possible event generation for bulk updates.
 
+      this.inferredOWLAxiomWriter = Thread.currentThread();
+
       // Write OWL axioms generated by built-ins in rules.
-      writeOWLAxioms2OWLOntology(this.builtInBridgeController.getInjectedOWLAxioms());
-      // Write OWL axioms inferred by rules.
-      writeOWLAxioms2OWLOntology(this.ruleEngineBridgeController.getInferredOWLAxioms());
+      int numberOfWrittenAxioms = writeOWLAxioms2OWLOntology(ontology,
+        this.builtInBridgeController.getInjectedOWLAxioms(), 0);
+      // Write OWL axioms inferred by rules. Earlier inferences are already in the ontology if inference is incremental.
+      Set<@NonNull OWLAxiom> newlyInferredOWLAxioms = this.ruleEngineBridgeController.takeNewlyInferredOWLAxioms();
+      if (this.incrementalInferenceEnabled)
+        writeOWLAxioms2OWLOntology(ontology, newlyInferredOWLAxioms, numberOfWrittenAxioms);
+      else
+        writeOWLAxioms2OWLOntology(ontology, this.ruleEngineBridgeController.getInferredOWLAxioms(),
+          numberOfWrittenAxioms);
     } finally {
+      this.inferredOWLAxiomWriter = null;
       getSWRLAPIOWLOntology().finishEventFreezeMode();
+      finishPhase(SWRLRuleEnginePhase.EXPORT, startNanos);
+
+      // Registered models are updated once for all batches, including those written before a batch failed
+      if (ontology.getAxiomCount() != axiomCount && ontology.equals(getOWLOntology())
+        && this.swrlapiOWLOntology instanceof DefaultSWRLAPIOWLOntology)
+        ((DefaultSWRLAPIOWLOntology)this.swrlapiOWLOntology).notifyRegisteredRuleEngineModels();
     }
   }
 
-  @Override public void infer() throws SWRLRuleEngineException
+  @Override public synchronized void exportInferredOWLAxioms(@NonNull File file) throws SWRLRuleEngineException
   {
-    importAssertedOWLAxioms(); // Import will call reset()
-    run();
+    long startNanos = startPhase(SWRLRuleEnginePhase.EXPORT);
+
+    try (Writer writer = new BufferedWriter(
+      new OutputStreamWriter(new FileOutputStream(file), StandardCharsets.UTF_8))) {
+      FunctionalSyntaxObjectRenderer renderer = new FunctionalSyntaxObjectRenderer(getOWLOntology(), writer);
+
+      renderer.writePrefixes();
+      writer.write("\nOntology(\n");
+      writeOWLAxioms2Writer(writer, renderer, this.builtInBridgeController.getInjectedOWLAxioms());
+      writeOWLAxioms2Writer(writer, renderer, this.ruleEngineBridgeController.getInferredOWLAxioms());
+      writer.write(")\n");
+    } catch (IOException | RuntimeException e) { // The renderer reports write errors as runtime exceptions
+      throw new SWRLRuleEngineException(
+        "error writing inferred OWL axioms to file " + file + ": " + (e.getMessage() != null ? e.getMessage() : ""), e);
+    } finally {
+      finishPhase(SWRLRuleEnginePhase.EXPORT, startNanos);
+    }
+  }
+
+  @Override public void setInferredOWLAxiomBatchSize(int batchSize)
+  {
+    if (batchSize < 1)
+      throw new IllegalArgumentException("inferred OWL axiom batch size must be at least 1");
+
+    this.inferredOWLAxiomBatchSize = batchSize;
+  }
+
+  @Override public int getInferredOWLAxiomBatchSize()
+  {
+    return this.inferredOWLAxiomBatchSize;
+  }
+
+  @Override public void setInferredOWLAxiomOntology(@Nullable OWLOntology ontology)
+  {
+    this.inferredOWLAxiomOntology = ontology;
+  }
+
+  @NonNull @Override public Optional<@NonNull OWLOntology> getInferredOWLAxiomOntology()
+  {
+    return Optional.ofNullable(this.inferredOWLAxiomOntology);
+  }
+
+  @Override public synchronized void infer() throws SWRLRuleEngineException
+  {
+    if (!this.incrementalInferenceEnabled || !inferIncrementally()) {
+      importAssertedOWLAxioms(); // Import will call reset()
+      run();
+    }
     exportInferredOWLAxioms();
   }
 
-  @NonNull @Override public SQWRLResult runSQWRLQuery(@NonNull String queryName) throws SQWRLException
+  @NonNull @Override public CompletableFuture<@Nullable Void> inferAsync(@NonNull SWRLRuleEngineBudget budget)
+  {
+    return inferAsync(budget, SWRLAPIFactory.getDefaultSWRLRuleEngineExecutor());
+  }
+
+  @NonNull @Override public CompletableFuture<@Nullable Void> inferAsync(@NonNull SWRLRuleEngineBudget budget,
+    @NonNull Executor executor)
+  {
+    return executeAsync(budget, executor, () -> {
+      infer();
+      return null;
+    });
+  }
+
+  @NonNull @Override public CompletableFuture<@NonNull SQWRLResult> runSQWRLQueryAsync(@NonNull String queryName,
+    @NonNull SWRLRuleEngineBudget budget)
+  {
+    return runSQWRLQueryAsync(queryName, budget, SWRLAPIFactory.getDefaultSWRLRuleEngineExecutor());
+  }
+
+  @NonNull @Override public CompletableFuture<@NonNull SQWRLResult> runSQWRLQueryAsync(@NonNull String queryName,
+    @NonNull SWRLRuleEngineBudget budget, @NonNull Executor executor)
+  {
+    return executeAsync(budget, executor, () -> runSQWRLQuery(queryName));
+  }
+
+  @NonNull @Override public CompletableFuture<@Nullable Void> runSQWRLQueriesAsync(
+    @NonNull SWRLRuleEngineBudget budget)
+  {
+    return runSQWRLQueriesAsync(budget, SWRLAPIFactory.getDefaultSWRLRuleEngineExecutor());
+  }
+
+  @NonNull @Override public CompletableFuture<@Nullable Void> runSQWRLQueriesAsync(
+    @NonNull SWRLRuleEngineBudget budget, @NonNull Executor executor)
+  {
+    return executeAsync(budget, executor, () -> {
+      runSQWRLQueries();
+      return null;
+    });
+  }
+
+  @NonNull @Override public synchronized SQWRLResult runSQWRLQuery(@NonNull String queryName) throws SQWRLException
   {
     try {
       importSQWRLQueryAndOWLAxioms(queryName);
@@ -122,7 +579,7 @@ class DefaultSWRLRuleAndQueryEngine implements SWRLRuleEngine, SQWRLQueryEngine
     }
   }
 
-  @Override public void runSQWRLQueries() throws SQWRLException
+  @Override public synchronized void runSQWRLQueries() throws SQWRLException
   {
     try {
       importAssertedOWLAxioms();
@@ -138,6 +595,33 @@ class DefaultSWRLRuleAndQueryEngine implements SWRLRuleEngine, SQWRLQueryEngine
     }
   }
 
+  @NonNull @Override public synchronized Map<@NonNull String, @NonNull SQWRLResult> runSQWRLQueries(
+    @NonNull Set<@NonNull String> queryNames, int numberOfEngines) throws SQWRLException
+  {
+    if (numberOfEngines < 1)
+      throw new IllegalArgumentException("number of engines must be at least 1");
+
+    if (this.targetSWRLRuleEngineCreator == null || !(this.swrlapiOWLOntology instanceof DefaultSWRLAPIOWLOntology)) {
+      try {
+        reset();
+      } catch (SWRLAPIException e) {
+        throw new SQWRLException(
+          "error processing SQWRL queries: " + (e.getMessage() != null ? e.getMessage() : ""), e);
+      }
+      checkSQWRLQueryNames(queryNames, this.swrlapiOWLOntology);
+      return runSQWRLQueriesSequentially(queryNames);
+    }
+
+    DefaultSWRLAPIOWLOntology processedOntology = createProcessedOntology(); // Shared by all engines
+
+    checkSQWRLQueryNames(queryNames, processedOntology);
+
+    int numberOfPartitions = Math.max(1, Math.min(numberOfEngines, queryNames.size()));
+
+    return runSQWRLQueriesInParallel(queryNames, numberOfPartitions, this.targetSWRLRuleEngineCreator,
+      processedOntology);
+  }
+
   @Override public SQWRLQuery createSQWRLQuery(@NonNull String queryName, @NonNull String queryText)
     throws SWRLParseException, SQWRLException
   {
@@ -148,7 +632,7 @@ class DefaultSWRLRuleAndQueryEngine implements SWRLRuleEngine, SQWRLQueryEngine
     }
   }
 
-  @NonNull @Override public SQWRLResult runSQWRLQuery(@NonNull String queryName, @NonNull String queryText)
+  @NonNull @Override public synchronized SQWRLResult runSQWRLQuery(@NonNull String queryName, @NonNull String queryText)
     throws SWRLParseException, SQWRLException
   {
     createSQWRLQuery(queryName, queryText);
@@ -257,6 +741,12 @@ class DefaultSWRLRuleAndQueryEngine implements SWRLRuleEngine, SQWRLQueryEngine
     return this.swrlapiOWLOntology.createSWRLRule(ruleName, rule, comment, isActive);
   }
 
+  @NonNull @Override public List<@NonNull SWRLAPIRule> createSWRLRules(
+    @NonNull List<@NonNull SWRLRuleDefinition> ruleDefinitions) throws SWRLParseException, SWRLBuiltInException
+  {
+    return this.swrlapiOWLOntology.createSWRLRules(ruleDefinitions);
+  }
+
   @Override public void replaceSWRLRule(@NonNull String originalRuleName, @NonNull String ruleName,
     @NonNull String rule, @NonNull String comment, boolean isActive) throws SWRLParseException, SWRLBuiltInException
   {
@@ -364,13 +854,139 @@ class DefaultSWRLRuleAndQueryEngine implements SWRLRuleEngine, SQWRLQueryEngine
     return this.swrlapiOWLOntology;
   }
 
+  @NonNull @Override public SWRLRuleEngineInstrumentation getInstrumentation()
+  {
+    return this.ruleEngineBridgeController.getInstrumentation();
+  }
+
+  @Override public void addInferenceListener(@NonNull SWRLRuleEngineInferenceListener listener)
+  {
+    this.ruleEngineBridgeController.addInferenceListener(listener);
+  }
+
+  @Override public void removeInferenceListener(@NonNull SWRLRuleEngineInferenceListener listener)
+  {
+    this.ruleEngineBridgeController.removeInferenceListener(listener);
+  }
+
+  @NonNull @Override public Optional<@NonNull SWRLRuleEngineProgress> getExecutionProgress()
+  {
+    return Optional.ofNullable(this.executionMonitor);
+  }
+
+  /**
+   * @return The phase start time, or {@link #PHASE_NOT_TIMED} if instrumentation is disabled
+   */
+  private long startPhase(@NonNull SWRLRuleEnginePhase phase)
+  {
+    SWRLRuleEngineExecutionMonitor monitor = this.executionMonitor;
+
+    if (monitor != null)
+      monitor.startPhase(phase);
+
+    return getInstrumentation().isEnabled() ? System.nanoTime() : PHASE_NOT_TIMED;
+  }
+
+  private void finishPhase(@NonNull SWRLRuleEnginePhase phase, long startNanos)
+  {
+    if (startNanos != PHASE_NOT_TIMED)
+      getInstrumentation().recordPhase(phase, System.nanoTime() - startNanos);
+  }
+
+  /**
+   * Import the assertions added to the ontology since the target rule engine last imported it and run the target rule
+   * engine, which derives their consequences from the axioms and inferences it already holds.
+   *
+   * @return False if the target rule engine cannot be brought up to date incrementally and must reimport the ontology
+   */
+  private boolean inferIncrementally() throws SWRLRuleEngineException
+  {
+    Set<@NonNull OWLAxiom> restoredOWLAxioms = this.restoredOWLAxioms;
+    List<@NonNull OWLAxiom> addedOWLAxioms;
+
+    if (restoredOWLAxioms == null || getOWL2RLEngine().hasRuleSelectionChanged())
+      return false;
+
+    DefaultSWRLAPIOWLOntology swrlapiOWLOntology = (DefaultSWRLAPIOWLOntology)this.swrlapiOWLOntology;
+
+    if (swrlapiOWLOntology.getProcessingCount() != this.importedProcessingCount) // Processed elsewhere since import
+      return false;
+
+    synchronized (this.addedOWLAxioms) {
+      if (this.hasNonIncrementalOWLOntologyChange)
+        return false;
+
+      addedOWLAxioms = new ArrayList<>(this.addedOWLAxioms);
+      this.addedOWLAxioms.clear();
+    }
+
+    long startNanos = startPhase(SWRLRuleEnginePhase.IMPORT);
+
+    try {
+      Optional<@NonNull Set<@NonNull OWLAxiom>> contributedOWLAxioms = swrlapiOWLOntology
+        .processAddedOWLAssertionAxioms(addedOWLAxioms);
+
+      if (!contributedOWLAxioms.isPresent())
+        return false;
+
+      this.importedProcessingCount = swrlapiOWLOntology.getProcessingCount();
+
+      Set<@NonNull OWLAxiom> newOWLAxioms = contributedOWLAxioms.get(); // Only axioms that were not asserted before
+
+      newOWLAxioms.removeIf(restoredOWLAxioms::contains);
+      exportOWLAxioms2TargetRuleEngine(newOWLAxioms);
+    } catch (SWRLAPIException e) {
+      throw new SWRLRuleEngineException(
+        "error exporting knowledge to rule engine: " + (e.getMessage() != null ? e.getMessage() : ""), e);
+    } finally {
+      finishPhase(SWRLRuleEnginePhase.IMPORT, startNanos);
+    }
+
+    run();
+
+    return true;
+  }
+
+  private void recordOWLOntologyChanges(@NonNull List<? extends OWLOntologyChange> changes)
+  {
+    if (Thread.currentThread() == this.inferredOWLAxiomWriter) // The target rule engine already holds these axioms
+      return;
+
+    Set<@NonNull OWLOntology> importsClosure = getOWLOntology().getImportsClosure();
+
+    synchronized (this.addedOWLAxioms) {
+      for (OWLOntologyChange change : changes) {
+        if (importsClosure.contains(change.getOntology())) {
+          if (change instanceof AddAxiom)
+            this.addedOWLAxioms.add(((AddAxiom)change).getAxiom());
+          else
+            this.hasNonIncrementalOWLOntologyChange = true;
+        }
+      }
+    }
+  }
+
+  private void discardIncrementalInferenceState()
+  {
+    synchronized (this.addedOWLAxioms) {
+      this.addedOWLAxioms.clear();
+      this.hasNonIncrementalOWLOntologyChange = false;
+    }
+    this.restoredOWLAxioms = null;
+  }
+
   private void reset()
   {
+    discardIncrementalInferenceState();
+
     try {
       getTargetSWRLRuleEngine().resetRuleEngine(); // Reset the target rule engine
       getBuiltInBridgeController().reset();
       getOWL2RLEngine().resetRuleSelectionChanged();
-      this.swrlapiOWLOntology.processOntology();
+      if (this.swrlapiOWLOntology instanceof DefaultSWRLAPIOWLOntology)
+        ((DefaultSWRLAPIOWLOntology)this.swrlapiOWLOntology).processOntologyIfChanged();
+      else
+        this.swrlapiOWLOntology.processOntology();
     } catch (SWRLBuiltInException e) {
       throw new SWRLRuleEngineException("error running rule engine: " + (e.getMessage() != null ? e.getMessage() : ""),
         e);
@@ -409,25 +1025,564 @@ class DefaultSWRLRuleAndQueryEngine implements SWRLRuleEngine, SQWRLQueryEngine
     return this.targetSWRLRuleEngine;
   }
 
+  private static void checkSQWRLQueryNames(@NonNull Set<@NonNull String> queryNames,
+    @NonNull SWRLAPIOWLOntology swrlapiOWLOntology) throws SQWRLInvalidQueryNameException
+  {
+    for (String queryName : queryNames) {
+      if (!swrlapiOWLOntology.getSQWRLQueryNames().contains(queryName))
+        throw new SQWRLInvalidQueryNameException(queryName);
+    }
+  }
+
+  @NonNull private Map<@NonNull String, @NonNull SQWRLResult> runSQWRLQueriesSequentially(
+    @NonNull Set<@NonNull String> queryNames) throws SQWRLException
+  {
+    Map<@NonNull String, @NonNull SQWRLResult> results = new LinkedHashMap<>();
+
+    for (String queryName : queryNames)
+      results.put(queryName, runSQWRLQuery(queryName));
+
+    return results;
+  }
+
+  /**
+   * Query names are partitioned round-robin across engines. Each engine has its own target rule engine, bridge, and
+   * built-in libraries, and a view of the processed ontology that shares its asserted axioms. The views are
+   * created on the calling thread; the target rule engines are created and run on the default rule engine executor.
+   */
+  @NonNull private Map<@NonNull String, @NonNull SQWRLResult> runSQWRLQueriesInParallel(
+    @NonNull Set<@NonNull String> queryNames, int numberOfPartitions,
+    @NonNull TargetSWRLRuleEngineCreator targetSWRLRuleEngineCreator,
+    @NonNull DefaultSWRLAPIOWLOntology processedOntology) throws SQWRLException
+  {
+    List<@NonNull List<@NonNull String>> partitions = new ArrayList<>();
+    List<@NonNull CompletableFuture<@NonNull Map<@NonNull String, @NonNull SQWRLResult>>> futures = new ArrayList<>();
+    int queryIndex = 0;
+
+    for (int partitionIndex = 0; partitionIndex < numberOfPartitions; partitionIndex++)
+      partitions.add(new ArrayList<>());
+
+    for (String queryName : queryNames)
+      partitions.get(queryIndex++ % numberOfPartitions).add(queryName);
+
+    boolean owlAxiomPruningEnabled = this.owlAxiomPruningEnabled;
+    boolean queryPredicateSlicingEnabled = this.queryPredicateSlicingEnabled;
+
+    try {
+      DefaultSWRLAPIOWLOntology snapshot = processedOntology.createProcessedView(); // Copied once; shared by all views
+
+      for (List<@NonNull String> partition : partitions) {
+        DefaultSWRLAPIOWLOntology processedView = snapshot.createProcessedView();
+
+        futures.add(CompletableFuture.supplyAsync(() -> {
+          try {
+            DefaultSWRLRuleAndQueryEngine partitionEngine = createPartitionEngine(processedView,
+              targetSWRLRuleEngineCreator);
+            partitionEngine.setOWLAxiomPruningEnabled(owlAxiomPruningEnabled);
+            partitionEngine.setQueryPredicateSlicingEnabled(queryPredicateSlicingEnabled);
+            return partitionEngine.runSQWRLQueryPartition(partition);
+          } catch (SQWRLException e) {
+            throw new CompletionException(e);
+          }
+        }, SWRLAPIFactory.getDefaultSWRLRuleEngineExecutor()));
+      }
+    } catch (SWRLBuiltInException e) {
+      throw new SQWRLException("error processing SQWRL queries: " + (e.getMessage() != null ? e.getMessage() : ""), e);
+    }
+
+    Map<@NonNull String, @NonNull SQWRLResult> partitionResults = new LinkedHashMap<>();
+
+    try {
+      for (CompletableFuture<@NonNull Map<@NonNull String, @NonNull SQWRLResult>> future : futures)
+        partitionResults.putAll(future.join());
+    } catch (CompletionException e) {
+      Throwable cause = e.getCause() != null ? e.getCause() : e;
+      if (cause instanceof SQWRLException)
+        throw (SQWRLException)cause;
+      else
+        throw new SQWRLException(
+          "error running SQWRL queries: " + (cause.getMessage() != null ? cause.getMessage() : ""), cause);
+    }
+
+    Map<@NonNull String, @NonNull SQWRLResult> results = new LinkedHashMap<>(); // Preserve caller's ordering
+
+    for (String queryName : queryNames)
+      results.put(queryName, partitionResults.get(queryName));
+
+    return results;
+  }
+
+  /**
+   * A processed ontology for separate engines that leaves this engine's state untouched: a view of this engine's
+   * processed ontology if the ontology is known not to have changed since it was processed, and otherwise a processed
+   * copy.
+   */
+  @NonNull private DefaultSWRLAPIOWLOntology createProcessedOntology() throws SQWRLException
+  {
+    try {
+      if (this.swrlapiOWLOntology instanceof DefaultSWRLAPIOWLOntology
+        && ((DefaultSWRLAPIOWLOntology)this.swrlapiOWLOntology).isProcessedOntologyCurrent())
+        return ((DefaultSWRLAPIOWLOntology)this.swrlapiOWLOntology).createProcessedView();
+    } catch (SWRLBuiltInException e) {
+      throw new SQWRLException("error processing SQWRL queries: " + (e.getMessage() != null ? e.getMessage() : ""), e);
+    }
+    return createProcessedCopy();
+  }
+
+  /**
+   * A newly processed copy of the ontology, which, unlike a view, can take in added assertions.
+   */
+  @NonNull private DefaultSWRLAPIOWLOntology createProcessedCopy() throws SQWRLException
+  {
+    try {
+      DefaultSWRLAPIOWLOntology processedOntology = new DefaultSWRLAPIOWLOntology(getOWLOntology(),
+        SWRLAPIFactory.createIRIResolver());
+      processedOntology.processOntology();
+
+      return processedOntology;
+    } catch (SWRLAPIException | SWRLBuiltInException e) {
+      throw new SQWRLException("error processing SQWRL queries: " + (e.getMessage() != null ? e.getMessage() : ""), e);
+    }
+  }
+
+  @NonNull private static DefaultSWRLRuleAndQueryEngine createPartitionEngine(
+    @NonNull DefaultSWRLAPIOWLOntology processedView, @NonNull TargetSWRLRuleEngineCreator targetSWRLRuleEngineCreator)
+    throws SQWRLException
+  {
+    try {
+      OWL2RLPersistenceLayer owl2RLPersistenceLayer = SWRLAPIInternalFactory
+        .createOWL2RLPersistenceLayer(processedView.getOWLOntology());
+      DefaultSWRLBridge bridge = new DefaultSWRLBridge(processedView, owl2RLPersistenceLayer);
+      TargetSWRLRuleEngine targetSWRLRuleEngine = targetSWRLRuleEngineCreator.create(bridge);
+
+      bridge.setTargetSWRLRuleEngine(targetSWRLRuleEngine);
+
+      return new DefaultSWRLRuleAndQueryEngine(processedView, targetSWRLRuleEngine, bridge, bridge);
+    } catch (SWRLAPIException e) {
+      throw new SQWRLException("error creating query engine: " + (e.getMessage() != null ? e.getMessage() : ""), e);
+    }
+  }
+
+  /**
+   * Run a set of queries together in this engine without reprocessing its ontology.
+   */
+  @NonNull private Map<@NonNull String, @NonNull SQWRLResult> runSQWRLQueryPartition(
+    @NonNull Collection<@NonNull String> queryNames) throws SQWRLException
+  {
+    Set<@NonNull String> activeQueryNames = new HashSet<>(queryNames);
+    Map<@NonNull String, @NonNull SQWRLResult> results = new LinkedHashMap<>();
+
+    try {
+      exportOWLAxioms2TargetRuleEngine(getOWLAxioms2Import(activeQueryNames));
+      for (SQWRLQuery query : this.swrlapiOWLOntology.getSQWRLQueries()) {
+        query.setActive(activeQueryNames.contains(query.getQueryName()));
+        exportSQWRLQuery2TargetRuleEngine(query);
+      }
+      run();
+    } catch (SWRLAPIException | SWRLBuiltInException e) {
+      throw new SQWRLException("error running SQWRL queries: " + (e.getMessage() != null ? e.getMessage() : ""), e);
+    }
+
+    for (String queryName : queryNames)
+      results.put(queryName, getSQWRLResult(queryName));
+
+    return results;
+  }
+
+  /**
+   * The fingerprint of the asserted axioms of the ontology as it was last processed.
+   */
+  @NonNull private byte[] getSnapshotFingerprint()
+  {
+    return SWRLRuleEngineSnapshot
+      .getFingerprint(this.swrlapiOWLOntology.getOWLAxioms(), getOWL2RLEngine().getEnabledRules());
+  }
+
+  @NonNull private Set<@NonNull OWLAxiom> getOWLAxioms2Import()
+  {
+    Set<@NonNull OWLAxiom> axioms = this.swrlapiOWLOntology.getOWLAxioms();
+
+    if (this.owlAxiomPruningEnabled)
+      return new OWLAxiomRelevanceFilter(getOWL2RLEngine()).getRelevantOWLAxioms(axioms);
+    else
+      return axioms;
+  }
+
+  /**
+   * When predicate slicing is enabled only the rules and axioms that use the classes and properties the named queries
+   * depend on are imported.
+   */
+  @NonNull private Set<@NonNull OWLAxiom> getOWLAxioms2Import(@NonNull Collection<@NonNull String> queryNames)
+  {
+    if (this.queryPredicateSlicingEnabled)
+      return new OWLAxiomRelevanceFilter(getOWL2RLEngine())
+        .getQuerySliceOWLAxioms(this.swrlapiOWLOntology.getOWLAxioms(), getSQWRLQueries(queryNames));
+    else
+      return getOWLAxioms2Import();
+  }
+
+  @NonNull private List<@NonNull SQWRLQuery> getSQWRLQueries(@NonNull Collection<@NonNull String> queryNames)
+  {
+    return getSQWRLQueries(this.swrlapiOWLOntology, queryNames);
+  }
+
+  @NonNull private static List<@NonNull SQWRLQuery> getSQWRLQueries(@NonNull SWRLAPIOWLOntology swrlapiOWLOntology,
+    @NonNull Collection<@NonNull String> queryNames)
+  {
+    return swrlapiOWLOntology.getSQWRLQueries().stream()
+      .filter(query -> queryNames.stream().anyMatch(queryName -> queryName.equalsIgnoreCase(query.getQueryName())))
+      .collect(Collectors.toList());
+  }
+
+  /**
+   * Affected continuous queries are run together in the way that a partition of a parallel batch of queries is: in a
+   * separate engine over a processed copy of the ontology, so that this engine's imported axioms, inferences, bridge,
+   * and incremental inference state are untouched. The separate engine and its copy are kept between updates. Added
+   * assertions are processed into the copy; any other change causes both to be recreated. The target rule engine is
+   * reset and reloaded from the copy on each update because SQWRL results cannot be extended by a further run. Without
+   * a creator for additional target rule engines the queries are run one at a time in this engine.
+   *
+   * @param changeTests Receives, for each query, a test for the axiom changes that can affect its result
+   */
+  @NonNull private Map<@NonNull String, @NonNull SQWRLResult> runContinuousSQWRLQueries(
+    @NonNull Set<@NonNull String> queryNames,
+    @NonNull Map<@NonNull String, @NonNull Predicate<@NonNull OWLAxiom>> changeTests) throws SQWRLException
+  {
+    SWRLAPIOWLOntology queriedOntology;
+    Map<@NonNull String, @NonNull SQWRLResult> results;
+
+    if (this.targetSWRLRuleEngineCreator == null || !(this.swrlapiOWLOntology instanceof DefaultSWRLAPIOWLOntology)) {
+      results = runSQWRLQueriesSequentially(queryNames);
+      queriedOntology = this.swrlapiOWLOntology;
+    } else {
+      DefaultSWRLRuleAndQueryEngine queryEngine = getContinuousSQWRLQueryEngine(this.targetSWRLRuleEngineCreator);
+      DefaultSWRLAPIOWLOntology processedOntology = (DefaultSWRLAPIOWLOntology)queryEngine.swrlapiOWLOntology;
+      boolean succeeded = false;
+
+      try {
+        checkSQWRLQueryNames(queryNames, processedOntology);
+        queryEngine.setOWLAxiomPruningEnabled(this.owlAxiomPruningEnabled);
+        queryEngine.setQueryPredicateSlicingEnabled(this.queryPredicateSlicingEnabled);
+        results = queryEngine.runSQWRLQueryPartition(queryNames);
+        succeeded = true;
+      } finally {
+        synchronized (this.continuousSQWRLQueries) { // Recreated on the next update if the run did not complete
+          this.continuousSQWRLQueryEngine = succeeded && !this.continuousSQWRLQueries.isEmpty() ? queryEngine : null;
+        }
+      }
+      queriedOntology = processedOntology;
+    }
+
+    OWLAxiomRelevanceFilter relevanceFilter = new OWLAxiomRelevanceFilter(getOWL2RLEngine());
+
+    for (String queryName : queryNames)
+      changeTests.put(queryName, relevanceFilter.getQuerySliceOWLAxiomChangeTest(queriedOntology.getOWLAxioms(),
+        getSQWRLQueries(queriedOntology, Collections.singleton(queryName))));
+
+    return results;
+  }
+
+  /**
+   * The kept continuous query engine with the axioms added since its last update processed into its copy of the
+   * ontology, or a new engine over a new processed copy if there is no kept engine or a change it cannot take in. Its
+   * target rule engine and bridge are reset and its queries rebuilt, ready for a run.
+   */
+  @NonNull private DefaultSWRLRuleAndQueryEngine getContinuousSQWRLQueryEngine(
+    @NonNull TargetSWRLRuleEngineCreator targetSWRLRuleEngineCreator) throws SQWRLException
+  {
+    DefaultSWRLRuleAndQueryEngine queryEngine;
+    List<@NonNull OWLAxiom> addedOWLAxioms;
+
+    synchronized (this.continuousSQWRLQueries) { // Changes recorded from now on are taken in on the next update
+      queryEngine = this.hasNonIncrementalContinuousSQWRLQueryChange ? null : this.continuousSQWRLQueryEngine;
+      addedOWLAxioms = new ArrayList<>(this.continuousSQWRLQueryAddedOWLAxioms);
+      this.continuousSQWRLQueryAddedOWLAxioms.clear();
+      this.hasNonIncrementalContinuousSQWRLQueryChange = false;
+    }
+
+    if (queryEngine == null || !((DefaultSWRLAPIOWLOntology)queryEngine.swrlapiOWLOntology)
+      .processAddedOWLAssertionAxioms(addedOWLAxioms).isPresent())
+      return createPartitionEngine(createProcessedCopy(), targetSWRLRuleEngineCreator);
+
+    try {
+      queryEngine.release();
+      ((DefaultSWRLAPIOWLOntology)queryEngine.swrlapiOWLOntology).resetSQWRLQueries();
+    } catch (SWRLRuleEngineException | SWRLBuiltInException e) {
+      throw new SQWRLException("error resetting query engine: " + (e.getMessage() != null ? e.getMessage() : ""), e);
+    }
+    return queryEngine;
+  }
+
+  private void discardContinuousSQWRLQueryEngine()
+  {
+    this.continuousSQWRLQueryEngine = null;
+    this.continuousSQWRLQueryAddedOWLAxioms.clear();
+    this.hasNonIncrementalContinuousSQWRLQueryChange = false;
+  }
+
+  private void updateContinuousSQWRLQuery(@NonNull String queryName, @NonNull ContinuousSQWRLQuery query,
+    @NonNull SQWRLResult result, @NonNull Predicate<@NonNull OWLAxiom> changeTest) throws SQWRLException
+  {
+    Map<@NonNull List<@NonNull SQWRLResultValue>, @NonNull Integer> rowCounts = getRowCounts(result);
+    List<@NonNull List<@NonNull SQWRLResultValue>> addedRows = getRows(subtractRowCounts(rowCounts, query.rowCounts));
+    List<@NonNull List<@NonNull SQWRLResultValue>> removedRows = getRows(subtractRowCounts(query.rowCounts, rowCounts));
+
+    synchronized (this.continuousSQWRLQueries) {
+      query.changeTest = changeTest;
+    }
+    query.rowCounts = rowCounts;
+    query.result = result;
+
+    if (query.isInitialized && addedRows.isEmpty() && removedRows.isEmpty())
+      return;
+
+    SQWRLResultDelta delta = new SQWRLResultDelta(queryName, result, addedRows, removedRows);
+
+    query.isInitialized = true;
+    for (SQWRLResultListener listener : query.listeners)
+      listener.sqwrlResultChanged(delta);
+  }
+
+  private void recordContinuousSQWRLQueryChanges(@NonNull List<? extends OWLOntologyChange> changes)
+  {
+    Set<@NonNull OWLOntology> importsClosure = getOWLOntology().getImportsClosure();
+
+    synchronized (this.continuousSQWRLQueries) {
+      for (OWLOntologyChange change : changes) {
+        if (importsClosure.contains(change.getOntology())) {
+          if (this.targetSWRLRuleEngineCreator != null) { // The continuous query engine's copy must take in the change
+            if (change instanceof AddAxiom)
+              this.continuousSQWRLQueryAddedOWLAxioms.add(((AddAxiom)change).getAxiom());
+            else
+              this.hasNonIncrementalContinuousSQWRLQueryChange = true;
+          }
+          for (ContinuousSQWRLQuery query : this.continuousSQWRLQueries.values()) {
+            if (!query.affected && (!(change instanceof OWLAxiomChange) || query.changeTest
+              .test(((OWLAxiomChange)change).getAxiom())))
+              query.affected = true;
+          }
+        }
+      }
+    }
+  }
+
+  @NonNull private static Map<@NonNull List<@NonNull SQWRLResultValue>, @NonNull Integer> getRowCounts(
+    @NonNull SQWRLResult result) throws SQWRLException
+  {
+    Map<@NonNull List<@NonNull SQWRLResultValue>, @NonNull Integer> rowCounts = new HashMap<>();
+    int numberOfColumns = result.getNumberOfColumns();
+
+    for (int rowIndex = 0; rowIndex < result.getNumberOfRows(); rowIndex++) {
+      List<@NonNull SQWRLResultValue> row = new ArrayList<>(numberOfColumns);
+
+      for (int columnIndex = 0; columnIndex < numberOfColumns; columnIndex++)
+        row.add(result.getValue(columnIndex, rowIndex));
+      rowCounts.merge(row, 1, Integer::sum);
+    }
+    return rowCounts;
+  }
+
+  /**
+   * @return The rows of the first result that are not matched by rows of the second, counting duplicate rows
+   */
+  @NonNull private static Map<@NonNull List<@NonNull SQWRLResultValue>, @NonNull Integer> subtractRowCounts(
+    @NonNull Map<@NonNull List<@NonNull SQWRLResultValue>, @NonNull Integer> rowCounts,
+    @NonNull Map<@NonNull List<@NonNull SQWRLResultValue>, @NonNull Integer> subtractedRowCounts)
+  {
+    Map<@NonNull List<@NonNull SQWRLResultValue>, @NonNull Integer> difference = new HashMap<>();
+
+    for (Map.Entry<@NonNull List<@NonNull SQWRLResultValue>, @NonNull Integer> entry : rowCounts.entrySet()) {
+      int count = entry.getValue() - subtractedRowCounts.getOrDefault(entry.getKey(), 0);
+      if (count > 0)
+        difference.put(entry.getKey(), count);
+    }
+    return difference;
+  }
+
+  @NonNull private static List<@NonNull List<@NonNull SQWRLResultValue>> getRows(
+    @NonNull Map<@NonNull List<@NonNull SQWRLResultValue>, @NonNull Integer> rowCounts)
+  {
+    List<@NonNull List<@NonNull SQWRLResultValue>> rows = new ArrayList<>();
+
+    for (Map.Entry<@NonNull List<@NonNull SQWRLResultValue>, @NonNull Integer> entry : rowCounts.entrySet()) {
+      for (int count = 0; count < entry.getValue(); count++)
+        rows.add(entry.getKey());
+    }
+    return rows;
+  }
+
   private void exportOWLAxioms2TargetRuleEngine(@NonNull Set<@NonNull OWLAxiom> axioms)
     throws SWRLRuleEngineException, TargetSWRLRuleEngineException
   {
-    for (OWLAxiom axiom : axioms)
+    SWRLRuleEngineExecutionMonitor monitor = this.executionMonitor;
+    int numberOfExportedAxioms = 0;
+
+    for (OWLAxiom axiom : axioms) {
+      if (monitor != null && numberOfExportedAxioms % EXECUTION_CHECK_INTERVAL == 0)
+        monitor.checkImportedOWLAxioms(numberOfExportedAxioms);
       getTargetSWRLRuleEngine().defineOWLAxiom(axiom);
+      numberOfExportedAxioms++;
+    }
+
+    if (monitor != null)
+      monitor.checkImportedOWLAxioms(numberOfExportedAxioms);
+  }
+
+  /**
+   * Run a blocking operation on the supplied executor under the control of an execution monitor. Executions on this
+   * engine are serialized with each other by submitting each one to the executor only when the previous one has
+   * finished, so queued executions do not occupy executor threads. A running execution holds this engine's lock to
+   * exclude its synchronous operations. Cancelling the returned future cancels the monitor, which interrupts the
+   * executing thread and causes the bridge to stop the target rule engine at its next check; a queued execution that is
+   * cancelled never runs and does not hold up the executions queued after it.
+   */
+  @NonNull private <T> CompletableFuture<T> executeAsync(@NonNull SWRLRuleEngineBudget budget,
+    @NonNull Executor executor, @NonNull AsyncExecution<T> execution)
+  {
+    SWRLRuleEngineExecutionMonitor monitor = new SWRLRuleEngineExecutionMonitor(budget);
+    CompletableFuture<T> future = new CompletableFuture<>();
+    CompletableFuture<@Nullable Void> finished = new CompletableFuture<>();
+    AtomicBoolean claimed = new AtomicBoolean(); // By the execution when it starts or by its cancellation before then
+    CompletableFuture<@Nullable Void> previous;
+
+    future.whenComplete((result, exception) -> {
+      if (future.isCancelled()) {
+        monitor.cancel();
+        if (claimed.compareAndSet(false, true))
+          finished.complete(null);
+      }
+    });
+
+    synchronized (this.asyncExecutionLock) {
+      previous = this.lastAsyncExecution;
+      this.lastAsyncExecution = finished;
+    }
+
+    previous.whenComplete((previousResult, previousException) -> submitAsync(executor, monitor, future, finished,
+      claimed, execution));
+
+    return future;
+  }
+
+  private <T> void submitAsync(@NonNull Executor executor, @NonNull SWRLRuleEngineExecutionMonitor monitor,
+    @NonNull CompletableFuture<T> future, @NonNull CompletableFuture<@Nullable Void> finished,
+    @NonNull AtomicBoolean claimed, @NonNull AsyncExecution<T> execution)
+  {
+    if (future.isDone()) // Cancelled while queued
+      return;
+
+    try {
+      executor.execute(() -> {
+        if (!claimed.compareAndSet(false, true)) // Cancelled before it started
+          return;
+
+        try {
+          runAsync(monitor, future, execution);
+        } finally {
+          finished.complete(null);
+        }
+      });
+    } catch (RejectedExecutionException e) {
+      future.completeExceptionally(new SWRLRuleEngineException(
+        "error submitting rule engine execution: " + (e.getMessage() != null ? e.getMessage() : ""), e));
+      finished.complete(null);
+    }
+  }
+
+  private synchronized <T> void runAsync(@NonNull SWRLRuleEngineExecutionMonitor monitor,
+    @NonNull CompletableFuture<T> future, @NonNull AsyncExecution<T> execution)
+  {
+    monitor.attach();
+    this.executionMonitor = monitor;
+    this.ruleEngineBridgeController.startExecution(monitor);
+    try {
+      monitor.check();
+      future.complete(execution.execute());
+    } catch (SQWRLException | RuntimeException e) {
+      future.completeExceptionally(translateExecutionException(monitor, e));
+    } finally {
+      this.ruleEngineBridgeController.finishExecution();
+      this.executionMonitor = null;
+      monitor.detach();
+      Thread.interrupted(); // Do not leak a cancellation interrupt to the executor's next task
+    }
   }
 
-  private void writeOWLAxioms2OWLOntology(@NonNull Set<@NonNull OWLAxiom> axioms) throws SWRLRuleEngineException
+  /**
+   * Target rule engines and built-ins may wrap the exceptions thrown by the monitor, so the monitor's state is used to
+   * determine why an execution failed.
+   */
+  @NonNull private static Throwable translateExecutionException(@NonNull SWRLRuleEngineExecutionMonitor monitor,
+    @NonNull Exception e)
+  {
+    if (e instanceof SWRLRuleEngineBudgetExceededException || e instanceof SWRLRuleEngineCancelledException)
+      return e;
+
+    Optional<@NonNull String> budgetExceededReason = monitor.getBudgetExceededReason();
+
+    if (budgetExceededReason.isPresent())
+      return new SWRLRuleEngineBudgetExceededException(budgetExceededReason.get());
+    else if (monitor.isCancelled() || Thread.currentThread().isInterrupted())
+      return new SWRLRuleEngineCancelledException("rule engine execution cancelled");
+    else
+      return e;
+  }
+
+  @FunctionalInterface private interface AsyncExecution<T>
+  {
+    T execute() throws SQWRLException;
+  }
+
+  /**
+   * Axioms are added in batches so that neither a complete list of changes nor a single change event for all of them
+   * is created. A failed batch is reported with the number of axioms written before it.
+   *
+   * @param numberOfWrittenAxioms The number of axioms already written by this export
+   * @return The number of axioms written by this export, including those already written
+   */
+  private int writeOWLAxioms2OWLOntology(@NonNull OWLOntology ontology, @NonNull Set<@NonNull OWLAxiom> axioms,
+    int numberOfWrittenAxioms) throws SWRLRuleEngineException
   {
     OWLInferredAxiomFilter inferredAxiomFilter = new OWLInferredAxiomFilter(axioms);
-    List<OWLAxiom> filteredAxioms = axioms.stream().filter(a -> !a.accept(inferredAxiomFilter))
-      .collect(Collectors.toList());
-    List<? extends OWLOntologyChange> changes = filteredAxioms.stream().map(a -> new AddAxiom(getOWLOntology(), a))
-      .collect(Collectors.toList());
+    int batchSize = Math.min(this.inferredOWLAxiomBatchSize, axioms.size());
+    List<@NonNull OWLOntologyChange> changes = new ArrayList<>(batchSize);
 
     try {
-      getOWLOntologyManager().applyChanges(changes);
+      for (OWLAxiom axiom : axioms) {
+        if (!axiom.accept(inferredAxiomFilter)) {
+          changes.add(new AddAxiom(ontology, axiom));
+          if (changes.size() == batchSize) {
+            ontology.getOWLOntologyManager().applyChanges(changes);
+            numberOfWrittenAxioms += changes.size();
+            changes = new ArrayList<>(batchSize); // Listeners may hold on to the applied changes
+          }
+        }
+      }
+
+      if (!changes.isEmpty()) {
+        ontology.getOWLOntologyManager().applyChanges(changes);
+        numberOfWrittenAxioms += changes.size();
+      }
     } catch (RuntimeException e) {
-      throw new SWRLRuleEngineException("Error writing OWL axioms to ontology", e);
+      throw new SWRLRuleEngineException(
+        "error writing a batch of " + changes.size() + " inferred OWL axioms to ontology " + ontology.getOntologyID()
+          + " after " + numberOfWrittenAxioms + " axioms were written: " + (e.getMessage() != null ?
+          e.getMessage() :
+          ""), e);
+    }
+    return numberOfWrittenAxioms;
+  }
+
+  private static void writeOWLAxioms2Writer(@NonNull Writer writer, @NonNull FunctionalSyntaxObjectRenderer renderer,
+    @NonNull Set<@NonNull OWLAxiom> axioms) throws IOException
+  {
+    OWLInferredAxiomFilter inferredAxiomFilter = new OWLInferredAxiomFilter(axioms);
+
+    for (OWLAxiom axiom : axioms) {
+      if (!axiom.accept(inferredAxiomFilter)) {
+        axiom.accept(renderer);
+        writer.write("\n");
+      }
     }
   }
 
@@ -436,6 +1591,20 @@ class DefaultSWRLRuleAndQueryEngine implements SWRLRuleEngine, SQWRLQueryEngine
     return this.getSWRLAPIOWLOntology().getOWLOntologyManager();
   }
 
+  /**
+   * A query registered with {@link #registerContinuousSQWRLQuery(String, SQWRLResultListener)}. Its affected flag and
+   * change test are guarded by the engine's continuous query map; its result is only used by the updating thread.
+   */
+  private static class ContinuousSQWRLQuery
+  {
+    @NonNull private final CopyOnWriteArrayList<@NonNull SQWRLResultListener> listeners = new CopyOnWriteArrayList<>();
+    @NonNull private Predicate<@NonNull OWLAxiom> changeTest = axiom -> true;
+    @NonNull private Map<@NonNull List<@NonNull SQWRLResultValue>, @NonNull Integer> rowCounts = new HashMap<>();
+    @Nullable private SQWRLResult result;
+    private boolean affected = true;
+    private boolean isInitialized = false;
+  }
+
   @NonNull private SWRLBuiltInBridgeController getBuiltInBridgeController()
   {
     return this.builtInBridgeController;
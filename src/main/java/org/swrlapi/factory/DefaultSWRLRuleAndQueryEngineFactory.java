@@ -14,6 +14,7 @@ import org.swrlapi.exceptions.NoRegisteredSWRLRuleEnginesException;
 import org.swrlapi.exceptions.SWRLRuleEngineException;
 import org.swrlapi.owl2rl.OWL2RLPersistenceLayer;
 import org.swrlapi.sqwrl.SQWRLQueryEngine;
+import org.swrlapi.sqwrl.SQWRLQueryEnginePool;
 
 import java.lang.reflect.Constructor;
 import java.util.Optional;
@@ -60,7 +61,7 @@ public class DefaultSWRLRuleAndQueryEngineFactory implements SWRLRuleAndQueryEng
           bridge.setTargetSWRLRuleEngine(targetSWRLRuleEngine);
 
           SWRLRuleEngine ruleEngine = new DefaultSWRLRuleAndQueryEngine(swrlapiOWLOntology, targetSWRLRuleEngine,
-            bridge, bridge);
+            bridge, bridge, targetSWRLRuleEngineCreator.get());
           ruleEngine.importAssertedOWLAxioms();
           return ruleEngine;
         } else
@@ -99,7 +100,7 @@ public class DefaultSWRLRuleAndQueryEngineFactory implements SWRLRuleAndQueryEng
           bridge.setTargetSWRLRuleEngine(targetSWRLRuleEngine);
 
           SQWRLQueryEngine queryEngine = new DefaultSWRLRuleAndQueryEngine(swrlapiOWLOntology, targetSWRLRuleEngine,
-            bridge, bridge);
+            bridge, bridge, targetSWRLRuleEngineCreator.get());
           queryEngine.importAssertedOWLAxioms();
           return queryEngine;
 
@@ -114,6 +115,30 @@ public class DefaultSWRLRuleAndQueryEngineFactory implements SWRLRuleAndQueryEng
       throw new InvalidSWRLRuleEngineNameException(queryEngineName);
   }
 
+  @NonNull @Override public SQWRLQueryEnginePool createSQWRLQueryEnginePool(int maximumNumberOfEngines,
+    int maximumNumberOfIdleEngines, long maximumIdleTimeMillis)
+  {
+    Optional<@NonNull String> ruleEngineName = this.ruleEngineManager.getAnyRegisteredRuleEngineName();
+    if (ruleEngineName.isPresent())
+      return createSQWRLQueryEnginePool(ruleEngineName.get(), maximumNumberOfEngines, maximumNumberOfIdleEngines,
+        maximumIdleTimeMillis);
+    else
+      throw new NoRegisteredSWRLRuleEnginesException();
+  }
+
+  @NonNull @Override public SQWRLQueryEnginePool createSQWRLQueryEnginePool(@NonNull String queryEngineName,
+    int maximumNumberOfEngines, int maximumNumberOfIdleEngines, long maximumIdleTimeMillis)
+  {
+    Optional<TargetSWRLRuleEngineCreator> targetSWRLRuleEngineCreator = this.ruleEngineManager
+      .getRegisteredRuleEngineCreator(queryEngineName);
+
+    if (targetSWRLRuleEngineCreator.isPresent())
+      return new DefaultSQWRLQueryEnginePool(targetSWRLRuleEngineCreator.get(), maximumNumberOfEngines,
+        maximumNumberOfIdleEngines, maximumIdleTimeMillis);
+    else
+      throw new InvalidSWRLRuleEngineNameException(queryEngineName);
+  }
+
   @Override public void tryToRegisterADefaultSWRLRuleEngine()
   {
     Optional<@NonNull TargetSWRLRuleEngineCreator> ruleEngineCreator = getDroolsSWRLRuleEngineCreator();
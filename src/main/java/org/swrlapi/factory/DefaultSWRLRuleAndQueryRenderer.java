@@ -14,7 +14,6 @@ import org.semanticweb.owlapi.model.OWLLiteral;
 import org.semanticweb.owlapi.model.OWLNamedIndividual;
 import org.semanticweb.owlapi.model.OWLObjectProperty;
 import org.semanticweb.owlapi.model.OWLObjectPropertyExpression;
-import org.semanticweb.owlapi.model.OWLOntology;
 import org.semanticweb.owlapi.model.SWRLAtom;
 import org.semanticweb.owlapi.model.SWRLBuiltInAtom;
 import org.semanticweb.owlapi.model.SWRLClassAtom;
@@ -46,6 +45,7 @@ import org.swrlapi.builtins.arguments.SWRLObjectPropertyBuiltInArgument;
 import org.swrlapi.builtins.arguments.SWRLObjectPropertyExpressionBuiltInArgument;
 import org.swrlapi.builtins.arguments.SWRLVariableBuiltInArgument;
 import org.swrlapi.core.IRIResolver;
+import org.swrlapi.core.OWLEntitySymbolTable;
 import org.swrlapi.core.SWRLAPIBuiltInAtom;
 import org.swrlapi.core.SWRLRuleRenderer;
 import org.swrlapi.parser.SWRLParser;
@@ -66,13 +66,13 @@ import java.util.Optional;
  */
 class DefaultSWRLRuleAndQueryRenderer implements SWRLRuleRenderer, SQWRLQueryRenderer
 {
-  @NonNull private final OWLOntology ontology;
   @NonNull private final IRIResolver iriResolver;
+  @NonNull private final OWLEntitySymbolTable symbolTable;
 
-  public DefaultSWRLRuleAndQueryRenderer(@NonNull OWLOntology ontology, @NonNull IRIResolver iriResolver)
+  public DefaultSWRLRuleAndQueryRenderer(@NonNull IRIResolver iriResolver, @NonNull OWLEntitySymbolTable symbolTable)
   {
-    this.ontology = ontology;
     this.iriResolver = iriResolver;
+    this.symbolTable = symbolTable;
   }
 
   @NonNull @Override public String renderSWRLRule(@NonNull SWRLRule rule)
@@ -261,7 +261,7 @@ class DefaultSWRLRuleAndQueryRenderer implements SWRLRuleRenderer, SQWRLQueryRen
   {
     IRI argumentIRI = variable.getIRI();
 
-    if (getOWLOntology().containsEntityInSignature(argumentIRI)) {
+    if (this.symbolTable.isOWLEntity(argumentIRI)) {
       String shortForm = getShortForm(argumentIRI);
 
       return shortForm.startsWith(":") ? shortForm.substring(1) : shortForm;
@@ -583,6 +583,4 @@ class DefaultSWRLRuleAndQueryRenderer implements SWRLRuleRenderer, SQWRLQueryRen
     else
       throw new IllegalArgumentException("could not get short form for IRI " + iri);
   }
-
-  @NonNull private OWLOntology getOWLOntology() { return this.ontology; }
 }
\ No newline at end of file
@@ -0,0 +1,163 @@
+package org.swrlapi.factory;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.swrlapi.core.SWRLRuleEngineInstrumentation;
+import org.swrlapi.core.SWRLRuleEngineInstrumentationListener;
+import org.swrlapi.core.SWRLRuleEngineInstrumentationSnapshot;
+import org.swrlapi.core.SWRLRuleEngineInstrumentationSnapshot.PhaseStatistics;
+import org.swrlapi.core.SWRLRuleEngineInstrumentationSnapshot.SWRLBuiltInStatistics;
+import org.swrlapi.core.SWRLRuleEnginePhase;
+
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Default implementation of rule engine instrumentation. Counters are lock-free so that built-ins invoked
+ * concurrently from several threads can record their activity without contention.
+ *
+ * @see org.swrlapi.core.SWRLRuleEngineInstrumentation
+ */
+class DefaultSWRLRuleEngineInstrumentation implements SWRLRuleEngineInstrumentation
+{
+  @NonNull private final Map<@NonNull SWRLRuleEnginePhase, @NonNull PhaseCounters> phaseCounters;
+  @NonNull private final Map<@NonNull String, @NonNull SWRLBuiltInCounters> swrlBuiltInCounters;
+  @NonNull private final Map<@NonNull String, @NonNull LongAdder> inferredOWLAxiomCounters;
+  @NonNull private final CopyOnWriteArrayList<@NonNull SWRLRuleEngineInstrumentationListener> listeners;
+
+  private volatile boolean enabled = false;
+
+  public DefaultSWRLRuleEngineInstrumentation()
+  {
+    this.phaseCounters = new ConcurrentHashMap<>();
+    this.swrlBuiltInCounters = new ConcurrentHashMap<>();
+    this.inferredOWLAxiomCounters = new ConcurrentHashMap<>();
+    this.listeners = new CopyOnWriteArrayList<>();
+  }
+
+  @Override public boolean isEnabled()
+  {
+    return this.enabled;
+  }
+
+  @Override public void setEnabled(boolean enabled)
+  {
+    this.enabled = enabled;
+  }
+
+  @Override public void reset()
+  {
+    this.phaseCounters.clear();
+    this.swrlBuiltInCounters.clear();
+    this.inferredOWLAxiomCounters.clear();
+  }
+
+  @NonNull @Override public SWRLRuleEngineInstrumentationSnapshot getSnapshot()
+  {
+    Map<@NonNull SWRLRuleEnginePhase, @NonNull PhaseStatistics> phaseStatistics = new EnumMap<>(
+      SWRLRuleEnginePhase.class);
+    Map<@NonNull String, @NonNull SWRLBuiltInStatistics> swrlBuiltInStatistics = new HashMap<>();
+    Map<@NonNull String, @NonNull Long> inferredOWLAxiomCounts = new HashMap<>();
+
+    this.phaseCounters.forEach((phase, counters) -> phaseStatistics.put(phase, counters.getStatistics()));
+    this.swrlBuiltInCounters.forEach((builtInName, counters) -> swrlBuiltInStatistics.put(builtInName,
+      counters.getStatistics()));
+    this.inferredOWLAxiomCounters.forEach((ruleName, counter) -> inferredOWLAxiomCounts.put(ruleName, counter.sum()));
+
+    return new SWRLRuleEngineInstrumentationSnapshot(phaseStatistics, swrlBuiltInStatistics, inferredOWLAxiomCounts);
+  }
+
+  @Override public void addListener(@NonNull SWRLRuleEngineInstrumentationListener listener)
+  {
+    this.listeners.addIfAbsent(listener);
+  }
+
+  @Override public void removeListener(@NonNull SWRLRuleEngineInstrumentationListener listener)
+  {
+    this.listeners.remove(listener);
+  }
+
+  @Override public void recordPhase(@NonNull SWRLRuleEnginePhase phase, long nanos)
+  {
+    if (!this.enabled)
+      return;
+
+    this.phaseCounters.computeIfAbsent(phase, p -> new PhaseCounters()).record(nanos);
+
+    for (SWRLRuleEngineInstrumentationListener listener : this.listeners)
+      listener.phaseCompleted(phase, nanos);
+  }
+
+  @Override public void recordSWRLBuiltInInvocation(@NonNull String builtInName, @NonNull String ruleName, long nanos)
+  {
+    if (!this.enabled)
+      return;
+
+    this.swrlBuiltInCounters.computeIfAbsent(builtInName, n -> new SWRLBuiltInCounters()).record(nanos);
+
+    for (SWRLRuleEngineInstrumentationListener listener : this.listeners)
+      listener.swrlBuiltInInvoked(builtInName, ruleName, nanos);
+  }
+
+  @Override public void recordInferredOWLAxiom(@NonNull String ruleName)
+  {
+    if (!this.enabled)
+      return;
+
+    this.inferredOWLAxiomCounters.computeIfAbsent(ruleName, n -> new LongAdder()).increment();
+
+    for (SWRLRuleEngineInstrumentationListener listener : this.listeners)
+      listener.owlAxiomInferred(ruleName);
+  }
+
+  private static class PhaseCounters
+  {
+    private final LongAdder count = new LongAdder();
+    private final LongAdder totalNanos = new LongAdder();
+    private volatile long lastNanos;
+
+    public void record(long nanos)
+    {
+      this.count.increment();
+      this.totalNanos.add(nanos);
+      this.lastNanos = nanos;
+    }
+
+    @NonNull public PhaseStatistics getStatistics()
+    {
+      return new PhaseStatistics(this.count.sum(), this.totalNanos.sum(), this.lastNanos);
+    }
+  }
+
+  private static class SWRLBuiltInCounters
+  {
+    private final LongAdder count = new LongAdder();
+    private final LongAdder totalNanos = new LongAdder();
+    private final AtomicLong maximumNanos = new AtomicLong();
+    private final AtomicLongArray latencyHistogram = new AtomicLongArray(
+      SWRLRuleEngineInstrumentationSnapshot.NUMBER_OF_LATENCY_BUCKETS);
+
+    public void record(long nanos)
+    {
+      this.count.increment();
+      this.totalNanos.add(nanos);
+      this.latencyHistogram.incrementAndGet(SWRLRuleEngineInstrumentationSnapshot.getLatencyBucket(nanos));
+      this.maximumNanos.accumulateAndGet(nanos, Math::max);
+    }
+
+    @NonNull public SWRLBuiltInStatistics getStatistics()
+    {
+      long[] histogram = new long[this.latencyHistogram.length()];
+
+      for (int bucket = 0; bucket < histogram.length; bucket++)
+        histogram[bucket] = this.latencyHistogram.get(bucket);
+
+      return new SWRLBuiltInStatistics(this.count.sum(), this.totalNanos.sum(), this.maximumNanos.get(), histogram);
+    }
+  }
+}
@@ -18,6 +18,7 @@ import org.swrlapi.ui.model.SWRLAutoCompleter;
 import org.swrlapi.ui.model.SWRLRuleEngineModel;
 import org.swrlapi.ui.model.SWRLRulesAndSQWRLQueriesTableModel;
 
+import javax.swing.SwingUtilities;
 import java.io.File;
 import java.util.Optional;
 
@@ -67,8 +68,17 @@ public class DefaultSWRLRuleEngineModel implements SWRLRuleEngineModel
     this.swrlapiOWLOntology.unregisterRuleEngineModel(this);
   }
 
+  /**
+   * The table and OWL 2 RL models back Swing views, so when the ontology is processed or inferred axioms are written
+   * by a rule engine running in the background they are updated later on the event dispatch thread.
+   */
   @Override public void updateModel()
   {
+    if (!SwingUtilities.isEventDispatchThread()) {
+      SwingUtilities.invokeLater(this::updateModel);
+      return;
+    }
+
     this.swrlRulesAndSQWRLQueriesTableModel.updateModel(this.swrlRuleEngine);
     this.owl2RLModel.updateModel(owl2RLEngine);
 
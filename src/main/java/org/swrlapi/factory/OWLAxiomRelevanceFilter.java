@@ -0,0 +1,373 @@
+package org.swrlapi.factory;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.semanticweb.owlapi.model.AxiomType;
+import org.semanticweb.owlapi.model.IRI;
+import org.semanticweb.owlapi.model.OWLAxiom;
+import org.semanticweb.owlapi.model.OWLClassAssertionAxiom;
+import org.semanticweb.owlapi.model.OWLDataPropertyAssertionAxiom;
+import org.semanticweb.owlapi.model.OWLDeclarationAxiom;
+import org.semanticweb.owlapi.model.OWLDifferentIndividualsAxiom;
+import org.semanticweb.owlapi.model.OWLEntity;
+import org.semanticweb.owlapi.model.OWLNegativeDataPropertyAssertionAxiom;
+import org.semanticweb.owlapi.model.OWLNegativeObjectPropertyAssertionAxiom;
+import org.semanticweb.owlapi.model.OWLObjectPropertyAssertionAxiom;
+import org.semanticweb.owlapi.model.OWLSameIndividualAxiom;
+import org.semanticweb.owlapi.model.SWRLAtom;
+import org.semanticweb.owlapi.model.SWRLClassAtom;
+import org.semanticweb.owlapi.model.SWRLDataPropertyAtom;
+import org.semanticweb.owlapi.model.SWRLObjectPropertyAtom;
+import org.semanticweb.owlapi.model.SWRLRule;
+import org.semanticweb.owlapi.vocab.OWLRDFVocabulary;
+import org.swrlapi.builtins.arguments.SWRLBuiltInArgument;
+import org.swrlapi.builtins.arguments.SWRLNamedBuiltInArgument;
+import org.swrlapi.core.SWRLAPIBuiltInAtom;
+import org.swrlapi.core.SWRLAPIRule;
+import org.swrlapi.owl2rl.OWL2RLEngine;
+import org.swrlapi.owl2rl.OWL2RLNames.OWL2RLRule;
+import org.swrlapi.sqwrl.SQWRLQuery;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Predicate;
+
+/**
+ * Selects the asserted OWL axioms that can contribute to the inferences of the active SWRL rules and SQWRL queries.
+ * <p>
+ * The relevant signature starts with the entities used by the active rules and queries, including named built-in
+ * arguments. It is closed over the schema axioms that mention a relevant entity, so that, for example, the subclasses,
+ * subproperties, and equivalents of a relevant class or property also become relevant. A schema axiom whose OWL 2 RL
+ * rules are all disabled cannot contribute to an inference and is neither followed nor selected. The selected axioms
+ * are then the SWRL rules, the schema axioms that were followed, the declarations and assertions that mention a
+ * relevant class or property, and all individual equality and inequality axioms.
+ * <p>
+ * To slice the ontology by queries, the relevant signature instead starts with the entities used by the queries to be
+ * answered, and SWRL rules are followed backwards: a rule is selected, and the entities it uses become relevant, only
+ * if its consequent derives a fact about a relevant class or property. Rules that are not selected are not imported,
+ * so they cannot fire. Rules whose consequents assert equality or invoke built-ins are always selected. The slice is
+ * computed per class and property: constants in the queries, such as a literal compared with a built-in, do not
+ * restrict the selected rules or assertions, and no rules are rewritten.
+ * <p>
+ * Built-ins such as those in the tbox and abox libraries query the source ontology directly, so they are not affected
+ * by the selection. Inconsistencies that involve only irrelevant entities are not detected.
+ *
+ * @see org.swrlapi.core.SWRLRuleEngine#setOWLAxiomPruningEnabled(boolean)
+ * @see org.swrlapi.sqwrl.SQWRLQueryEngine#setQueryPredicateSlicingEnabled(boolean)
+ */
+class OWLAxiomRelevanceFilter
+{
+  // Schema axiom types whose only OWL 2 RL consequences are produced by the listed rules; other types are always
+  // followed
+  @NonNull private static final Map<AxiomType<?>, Set<OWL2RLRule>> axiomTypeRules = createAxiomTypeRules();
+
+  // Entities whose presence in the relevant signature makes every assertion relevant
+  @NonNull private static final Set<@NonNull IRI> universalEntityIRIs = new HashSet<>(
+    Arrays.asList(OWLRDFVocabulary.OWL_THING.getIRI(), OWLRDFVocabulary.OWL_TOP_OBJECT_PROPERTY.getIRI(),
+      OWLRDFVocabulary.OWL_TOP_DATA_PROPERTY.getIRI()));
+
+  // Prefixes of built-in libraries that query the source ontology instead of the axioms imported into a rule engine
+  @NonNull private static final Set<@NonNull String> ontologyBuiltInPrefixes = new HashSet<>(
+    Arrays.asList("abox", "rbox", "tbox"));
+
+  @NonNull private final Set<OWL2RLRule> enabledOWL2RLRules;
+
+  public OWLAxiomRelevanceFilter(@NonNull OWL2RLEngine owl2RLEngine)
+  {
+    this.enabledOWL2RLRules = new HashSet<>(owl2RLEngine.getEnabledRules());
+  }
+
+  /**
+   * @param axioms The asserted OWL axioms, which include the SWRL rules and SQWRL queries
+   * @return The axioms that can contribute to an inference
+   */
+  @NonNull public Set<@NonNull OWLAxiom> getRelevantOWLAxioms(@NonNull Set<@NonNull OWLAxiom> axioms)
+  {
+    return getRelevantOWLAxioms(axioms, Optional.empty(), new HashSet<>());
+  }
+
+  /**
+   * @param axioms  The asserted OWL axioms, which include the SWRL rules and SQWRL queries
+   * @param queries The queries to be answered
+   * @return The axioms that use the classes and properties the queries depend on
+   */
+  @NonNull public Set<@NonNull OWLAxiom> getQuerySliceOWLAxioms(@NonNull Set<@NonNull OWLAxiom> axioms,
+    @NonNull Collection<@NonNull SQWRLQuery> queries)
+  {
+    return getRelevantOWLAxioms(axioms, Optional.of(queries), new HashSet<>());
+  }
+
+  /**
+   * Changes to axioms that do not pass the returned test cannot change the results of the queries. Queries and rules
+   * that use built-ins from libraries that query the ontology directly, such as the tbox library, may depend on any
+   * axiom.
+   *
+   * @param axioms  The asserted OWL axioms, which include the SWRL rules and SQWRL queries
+   * @param queries The queries to be answered
+   * @return A test of whether adding or removing an axiom can change the results of the queries
+   */
+  @NonNull public Predicate<@NonNull OWLAxiom> getQuerySliceOWLAxiomChangeTest(@NonNull Set<@NonNull OWLAxiom> axioms,
+    @NonNull Collection<@NonNull SQWRLQuery> queries)
+  {
+    Set<@NonNull IRI> relevantIRIs = new HashSet<>();
+    Set<@NonNull OWLAxiom> relevantAxioms = getRelevantOWLAxioms(axioms, Optional.of(queries), relevantIRIs);
+
+    if (!Collections.disjoint(relevantIRIs, universalEntityIRIs) || usesOntologyBuiltIns(relevantAxioms))
+      return axiom -> true;
+    else
+      return axiom -> {
+        if (axiom instanceof SWRLRule || axiom instanceof OWLSameIndividualAxiom
+          || axiom instanceof OWLDifferentIndividualsAxiom)
+          return true;
+        else if (axiom instanceof OWLDeclarationAxiom)
+          return relevantIRIs.contains(((OWLDeclarationAxiom)axiom).getEntity().getIRI());
+        else if (isAssertionAxiom(axiom))
+          return mentionsRelevantClassOrProperty(axiom, relevantIRIs);
+        else
+          return canContribute(axiom) && axiom.getSignature().stream()
+            .anyMatch(entity -> relevantIRIs.contains(entity.getIRI()));
+      };
+  }
+
+  /**
+   * @param relevantIRIs Receives the relevant signature
+   */
+  @NonNull private Set<@NonNull OWLAxiom> getRelevantOWLAxioms(@NonNull Set<@NonNull OWLAxiom> axioms,
+    @NonNull Optional<@NonNull Collection<@NonNull SQWRLQuery>> queries, @NonNull Set<@NonNull IRI> relevantIRIs)
+  {
+    Map<@NonNull IRI, @NonNull List<@NonNull OWLAxiom>> schemaAxiomsByIRI = new HashMap<>();
+    Map<@NonNull IRI, @NonNull List<@NonNull OWLAxiom>> rulesByConsequentIRI = new HashMap<>();
+    Set<@NonNull OWLAxiom> relevantAxioms = new HashSet<>();
+    Set<@NonNull String> queryNames = new HashSet<>();
+
+    if (queries.isPresent()) {
+      for (SQWRLQuery query : queries.get()) {
+        queryNames.add(query.getQueryName());
+        addAtomSignatures(query.getBodyAtoms(), relevantIRIs);
+        addAtomSignatures(query.getHeadAtoms(), relevantIRIs);
+      }
+    }
+
+    for (OWLAxiom axiom : axioms) {
+      if (axiom instanceof SWRLAPIRule) {
+        SWRLAPIRule rule = (SWRLAPIRule)axiom;
+        if (!queries.isPresent()) {
+          if (rule.isActive())
+            addRuleSignature(rule, relevantIRIs);
+        } else if (rule.isSQWRLQuery()) {
+          if (queryNames.contains(rule.getRuleName()))
+            relevantAxioms.add(rule);
+        } else if (rule.isActive()) {
+          Optional<@NonNull Set<@NonNull IRI>> consequentIRIs = getConsequentIRIs(rule);
+          if (consequentIRIs.isPresent()) {
+            for (IRI consequentIRI : consequentIRIs.get())
+              rulesByConsequentIRI.computeIfAbsent(consequentIRI, iri -> new ArrayList<>()).add(rule);
+          } else {
+            addRuleSignature(rule, relevantIRIs);
+            relevantAxioms.add(rule);
+          }
+        }
+      } else if (isSchemaAxiom(axiom) && canContribute(axiom)) {
+        for (OWLEntity entity : axiom.getSignature())
+          schemaAxiomsByIRI.computeIfAbsent(entity.getIRI(), iri -> new ArrayList<>()).add(axiom);
+      }
+    }
+
+    followRelevantAxioms(relevantIRIs, schemaAxiomsByIRI, rulesByConsequentIRI, relevantAxioms);
+
+    if (!Collections.disjoint(relevantIRIs, universalEntityIRIs))
+      return axioms;
+
+    for (OWLAxiom axiom : axioms) {
+      if (axiom instanceof SWRLRule) {
+        if (!queries.isPresent())
+          relevantAxioms.add(axiom);
+      } else if (axiom instanceof OWLSameIndividualAxiom || axiom instanceof OWLDifferentIndividualsAxiom)
+        relevantAxioms.add(axiom);
+      else if (axiom instanceof OWLDeclarationAxiom) {
+        OWLEntity entity = ((OWLDeclarationAxiom)axiom).getEntity();
+        if (entity.isOWLNamedIndividual() || entity.isOWLDatatype() || relevantIRIs.contains(entity.getIRI()))
+          relevantAxioms.add(axiom);
+      } else if (isAssertionAxiom(axiom) && mentionsRelevantClassOrProperty(axiom, relevantIRIs))
+        relevantAxioms.add(axiom);
+    }
+    return relevantAxioms;
+  }
+
+  /**
+   * Add the entities mentioned by the schema axioms and rules that a relevant entity leads to to the relevant
+   * signature until no more are found. The axioms and rules that are followed are added to the relevant axioms.
+   */
+  private void followRelevantAxioms(@NonNull Set<@NonNull IRI> relevantIRIs,
+    @NonNull Map<@NonNull IRI, @NonNull List<@NonNull OWLAxiom>> schemaAxiomsByIRI,
+    @NonNull Map<@NonNull IRI, @NonNull List<@NonNull OWLAxiom>> rulesByConsequentIRI,
+    @NonNull Set<@NonNull OWLAxiom> relevantAxioms)
+  {
+    Deque<@NonNull IRI> unprocessedIRIs = new ArrayDeque<>(relevantIRIs);
+
+    while (!unprocessedIRIs.isEmpty()) {
+      IRI iri = unprocessedIRIs.pop();
+      List<@NonNull OWLAxiom> followedAxioms = new ArrayList<>();
+
+      followedAxioms.addAll(schemaAxiomsByIRI.getOrDefault(iri, Collections.emptyList()));
+      followedAxioms.addAll(rulesByConsequentIRI.getOrDefault(iri, Collections.emptyList()));
+
+      for (OWLAxiom axiom : followedAxioms) {
+        if (relevantAxioms.add(axiom)) {
+          Set<@NonNull IRI> axiomIRIs = new HashSet<>();
+
+          if (axiom instanceof SWRLAPIRule)
+            addRuleSignature((SWRLAPIRule)axiom, axiomIRIs);
+          else
+            axiom.getSignature().forEach(entity -> axiomIRIs.add(entity.getIRI()));
+
+          for (IRI axiomIRI : axiomIRIs) {
+            if (relevantIRIs.add(axiomIRI))
+              unprocessedIRIs.push(axiomIRI);
+          }
+        }
+      }
+    }
+  }
+
+  /**
+   * @return The classes and properties of the facts derived by the rule, or empty if the rule's consequent asserts
+   * equality or invokes built-ins, which may affect any fact
+   */
+  @NonNull private static Optional<@NonNull Set<@NonNull IRI>> getConsequentIRIs(@NonNull SWRLAPIRule rule)
+  {
+    Set<@NonNull IRI> consequentIRIs = new HashSet<>();
+
+    for (SWRLAtom atom : rule.getHeadAtoms()) {
+      if (atom instanceof SWRLClassAtom || atom instanceof SWRLObjectPropertyAtom
+        || atom instanceof SWRLDataPropertyAtom) {
+        for (OWLEntity entity : atom.getPredicate().getSignature())
+          consequentIRIs.add(entity.getIRI());
+      } else
+        return Optional.empty();
+    }
+    return Optional.of(consequentIRIs);
+  }
+
+  private static void addRuleSignature(@NonNull SWRLAPIRule rule, @NonNull Set<@NonNull IRI> relevantIRIs)
+  {
+    addAtomSignatures(rule.getBodyAtoms(), relevantIRIs);
+    addAtomSignatures(rule.getHeadAtoms(), relevantIRIs);
+  }
+
+  private static void addAtomSignatures(@NonNull List<@NonNull SWRLAtom> atoms, @NonNull Set<@NonNull IRI> relevantIRIs)
+  {
+    for (SWRLAtom atom : atoms) {
+      for (OWLEntity entity : atom.getSignature())
+        relevantIRIs.add(entity.getIRI());
+
+      if (atom instanceof SWRLAPIBuiltInAtom) { // Named built-in arguments are not in the OWLAPI signature
+        for (SWRLBuiltInArgument argument : ((SWRLAPIBuiltInAtom)atom).getBuiltInArguments()) {
+          if (argument instanceof SWRLNamedBuiltInArgument)
+            relevantIRIs.add(((SWRLNamedBuiltInArgument)argument).getIRI());
+        }
+      }
+    }
+  }
+
+  private static boolean usesOntologyBuiltIns(@NonNull Set<@NonNull OWLAxiom> axioms)
+  {
+    for (OWLAxiom axiom : axioms) {
+      if (axiom instanceof SWRLAPIRule) {
+        SWRLAPIRule rule = (SWRLAPIRule)axiom;
+        List<@NonNull SWRLAtom> atoms = new ArrayList<>(rule.getBodyAtoms());
+
+        atoms.addAll(rule.getHeadAtoms());
+        for (SWRLAtom atom : atoms) {
+          if (atom instanceof SWRLAPIBuiltInAtom && ontologyBuiltInPrefixes
+            .contains(getPrefix(((SWRLAPIBuiltInAtom)atom).getBuiltInPrefixedName())))
+            return true;
+        }
+      }
+    }
+    return false;
+  }
+
+  @NonNull private static String getPrefix(@NonNull String prefixedName)
+  {
+    int colonIndex = prefixedName.indexOf(':');
+
+    return colonIndex == -1 ? "" : prefixedName.substring(0, colonIndex);
+  }
+
+  private boolean canContribute(@NonNull OWLAxiom axiom)
+  {
+    Set<OWL2RLRule> owl2RLRules = axiomTypeRules.get(axiom.getAxiomType());
+
+    return owl2RLRules == null || !Collections.disjoint(owl2RLRules, this.enabledOWL2RLRules);
+  }
+
+  private static boolean isSchemaAxiom(@NonNull OWLAxiom axiom)
+  {
+    return !(axiom instanceof SWRLRule || axiom instanceof OWLDeclarationAxiom
+      || axiom instanceof OWLSameIndividualAxiom || axiom instanceof OWLDifferentIndividualsAxiom
+      || isAssertionAxiom(axiom));
+  }
+
+  private static boolean isAssertionAxiom(@NonNull OWLAxiom axiom)
+  {
+    return axiom instanceof OWLClassAssertionAxiom || axiom instanceof OWLObjectPropertyAssertionAxiom
+      || axiom instanceof OWLDataPropertyAssertionAxiom || axiom instanceof OWLNegativeObjectPropertyAssertionAxiom
+      || axiom instanceof OWLNegativeDataPropertyAssertionAxiom;
+  }
+
+  private static boolean mentionsRelevantClassOrProperty(@NonNull OWLAxiom axiom,
+    @NonNull Set<@NonNull IRI> relevantIRIs)
+  {
+    for (OWLEntity entity : axiom.getSignature()) {
+      if (!entity.isOWLNamedIndividual() && relevantIRIs.contains(entity.getIRI()))
+        return true;
+    }
+    return false;
+  }
+
+  @NonNull private static Map<AxiomType<?>, Set<OWL2RLRule>> createAxiomTypeRules()
+  {
+    Map<AxiomType<?>, Set<OWL2RLRule>> rulesByAxiomType = new HashMap<>();
+
+    rulesByAxiomType.put(AxiomType.SUB_OBJECT_PROPERTY,
+      EnumSet.of(OWL2RLRule.PRP_SPO1, OWL2RLRule.SCM_SPO, OWL2RLRule.SCM_DOM2, OWL2RLRule.SCM_RNG2));
+    rulesByAxiomType.put(AxiomType.SUB_DATA_PROPERTY,
+      EnumSet.of(OWL2RLRule.PRP_SPO1, OWL2RLRule.SCM_SPO, OWL2RLRule.SCM_DOM2, OWL2RLRule.SCM_RNG2));
+    rulesByAxiomType.put(AxiomType.EQUIVALENT_OBJECT_PROPERTIES,
+      EnumSet.of(OWL2RLRule.PRP_EQP1, OWL2RLRule.PRP_EQP2, OWL2RLRule.SCM_EQP1, OWL2RLRule.SCM_EQP2));
+    rulesByAxiomType.put(AxiomType.EQUIVALENT_DATA_PROPERTIES,
+      EnumSet.of(OWL2RLRule.PRP_EQP1, OWL2RLRule.PRP_EQP2, OWL2RLRule.SCM_EQP1, OWL2RLRule.SCM_EQP2));
+    rulesByAxiomType.put(AxiomType.OBJECT_PROPERTY_DOMAIN,
+      EnumSet.of(OWL2RLRule.PRP_DOM, OWL2RLRule.SCM_DOM1, OWL2RLRule.SCM_DOM2));
+    rulesByAxiomType.put(AxiomType.DATA_PROPERTY_DOMAIN,
+      EnumSet.of(OWL2RLRule.PRP_DOM, OWL2RLRule.SCM_DOM1, OWL2RLRule.SCM_DOM2));
+    rulesByAxiomType.put(AxiomType.OBJECT_PROPERTY_RANGE,
+      EnumSet.of(OWL2RLRule.PRP_RNG, OWL2RLRule.SCM_RNG1, OWL2RLRule.SCM_RNG2));
+    rulesByAxiomType.put(AxiomType.DATA_PROPERTY_RANGE,
+      EnumSet.of(OWL2RLRule.PRP_RNG, OWL2RLRule.SCM_RNG1, OWL2RLRule.SCM_RNG2));
+    rulesByAxiomType.put(AxiomType.INVERSE_OBJECT_PROPERTIES, EnumSet.of(OWL2RLRule.PRP_INV1, OWL2RLRule.PRP_INV2));
+    rulesByAxiomType.put(AxiomType.TRANSITIVE_OBJECT_PROPERTY, EnumSet.of(OWL2RLRule.PRP_TRP));
+    rulesByAxiomType.put(AxiomType.SYMMETRIC_OBJECT_PROPERTY, EnumSet.of(OWL2RLRule.PRP_SYMP));
+    rulesByAxiomType.put(AxiomType.FUNCTIONAL_OBJECT_PROPERTY, EnumSet.of(OWL2RLRule.PRP_FP));
+    rulesByAxiomType.put(AxiomType.FUNCTIONAL_DATA_PROPERTY, EnumSet.of(OWL2RLRule.PRP_FP));
+    rulesByAxiomType.put(AxiomType.INVERSE_FUNCTIONAL_OBJECT_PROPERTY, EnumSet.of(OWL2RLRule.PRP_IFP));
+    rulesByAxiomType.put(AxiomType.IRREFLEXIVE_OBJECT_PROPERTY, EnumSet.of(OWL2RLRule.PRP_IRP));
+    rulesByAxiomType.put(AxiomType.ASYMMETRIC_OBJECT_PROPERTY, EnumSet.of(OWL2RLRule.PRP_ASYP));
+    rulesByAxiomType.put(AxiomType.DISJOINT_OBJECT_PROPERTIES, EnumSet.of(OWL2RLRule.PRP_PDW, OWL2RLRule.PRP_ADP));
+    rulesByAxiomType.put(AxiomType.DISJOINT_DATA_PROPERTIES, EnumSet.of(OWL2RLRule.PRP_PDW, OWL2RLRule.PRP_ADP));
+    rulesByAxiomType.put(AxiomType.DISJOINT_CLASSES, EnumSet.of(OWL2RLRule.CAX_DW, OWL2RLRule.CAX_ADC));
+
+    return rulesByAxiomType;
+  }
+}
@@ -46,7 +46,10 @@ import org.semanticweb.owlapi.model.OWLSymmetricObjectPropertyAxiom;
 import org.semanticweb.owlapi.model.OWLTransitiveObjectPropertyAxiom;
 import org.semanticweb.owlapi.model.SWRLRule;
 
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -57,6 +60,13 @@ public class OWLInferredAxiomFilter implements OWLAxiomVisitorEx<Boolean>
 {
   @NonNull private final Set<@NonNull OWLAxiom> axioms;
 
+  /**
+   * Indexes of the subclass axioms in the axioms, built when the first subclass axiom is visited
+   */
+  @NonNull private final Map<OWLClassExpression, Set<OWLClassExpression>> subClassesBySuperClass = new HashMap<>();
+  @NonNull private final Map<OWLClassExpression, Set<OWLClassExpression>> superClassesBySubClass = new HashMap<>();
+  private boolean areSubClassOfAxiomsIndexed = false;
+
   public OWLInferredAxiomFilter(@NonNull Set<@NonNull OWLAxiom> axioms)
   {
     this.axioms = axioms;
@@ -111,14 +121,15 @@ public class OWLInferredAxiomFilter implements OWLAxiomVisitorEx<Boolean>
     else if (subClass.isOWLNothing())
       return true;
     else {
-      Set<OWLSubClassOfAxiom> subClassOfAxioms = this.axioms.stream().filter(OWLSubClassOfAxiom.class::isInstance)
-        .map(OWLSubClassOfAxiom.class::cast).collect(Collectors.toSet());
-      Set<OWLClassExpression> superClassSubClasses = subClassOfAxioms.stream().
-        filter(sca -> sca.getSuperClass().equals(superClass)).map(sca -> sca.getSubClass())
+      if (!this.areSubClassOfAxiomsIndexed)
+        indexSubClassOfAxioms();
+
+      Set<OWLClassExpression> superClassSubClasses = this.subClassesBySuperClass
+        .getOrDefault(superClass, Collections.emptySet()).stream()
         .filter(subC -> !subC.isOWLNothing() && !subC.equals(subClass) && !subC.equals(superClass))
         .collect(Collectors.toSet());
-      Set<OWLClassExpression> subClassSuperClasses = subClassOfAxioms.stream()
-        .filter(sca -> sca.getSubClass().equals(subClass)).map(sca -> sca.getSuperClass())
+      Set<OWLClassExpression> subClassSuperClasses = this.superClassesBySubClass
+        .getOrDefault(subClass, Collections.emptySet()).stream()
         .filter(supC -> !supC.isOWLThing() && !supC.equals(superClass) && !supC.equals(subClass))
         .collect(Collectors.toSet());
       Set<OWLClassExpression> common = new HashSet<>(superClassSubClasses);
@@ -358,4 +369,19 @@ public class OWLInferredAxiomFilter implements OWLAxiomVisitorEx<Boolean>
   {
     return true;
   }
+
+  private void indexSubClassOfAxioms()
+  {
+    for (OWLAxiom axiom : this.axioms) {
+      if (axiom instanceof OWLSubClassOfAxiom) {
+        OWLSubClassOfAxiom subClassOfAxiom = (OWLSubClassOfAxiom)axiom;
+
+        this.subClassesBySuperClass.computeIfAbsent(subClassOfAxiom.getSuperClass(), c -> new HashSet<>())
+          .add(subClassOfAxiom.getSubClass());
+        this.superClassesBySubClass.computeIfAbsent(subClassOfAxiom.getSubClass(), c -> new HashSet<>())
+          .add(subClassOfAxiom.getSuperClass());
+      }
+    }
+    this.areSubClassOfAxiomsIndexed = true;
+  }
 }
@@ -1,11 +1,14 @@
 package org.swrlapi.factory;
 
 import org.checkerframework.checker.nullness.qual.NonNull;
+import org.semanticweb.owlapi.apibinding.OWLManager;
 import org.semanticweb.owlapi.model.OWLOntology;
+import org.semanticweb.owlapi.model.OWLOntologyManager;
 import org.swrlapi.core.IRIResolver;
 import org.swrlapi.core.SWRLRuleEngine;
 import org.swrlapi.exceptions.SWRLRuleEngineException;
 import org.swrlapi.sqwrl.SQWRLQueryEngine;
+import org.swrlapi.sqwrl.SQWRLQueryEnginePool;
 import org.swrlapi.ui.dialog.SWRLRuleEngineDialogManager;
 import org.swrlapi.ui.model.FileBackedSQWRLQueryEngineModel;
 import org.swrlapi.ui.model.FileBackedSWRLRuleEngineModel;
@@ -14,6 +17,7 @@ import org.swrlapi.ui.model.SWRLRuleEngineModel;
 
 import java.io.File;
 import java.util.Optional;
+import java.util.concurrent.Executor;
 
 /**
  * Factory for generating some of the core entities defined by the SWRLAPI
@@ -73,6 +77,44 @@ public class SWRLAPIFactory
     return swrlRuleAndQueryEngineFactory.createSQWRLQueryEngine(ontology, iriResolver);
   }
 
+  /**
+   * @param maximumNumberOfEngines     The maximum number of engines, active or idle, held by the pool
+   * @param maximumNumberOfIdleEngines The maximum number of idle engines retained by the pool
+   * @param maximumIdleTimeMillis      The time after which an idle engine is evicted; zero or less to disable
+   * @return A SQWRL query engine pool
+   * @throws SWRLRuleEngineException If an error occurs during pool creation
+   */
+  @NonNull public static SQWRLQueryEnginePool createSQWRLQueryEnginePool(int maximumNumberOfEngines,
+    int maximumNumberOfIdleEngines, long maximumIdleTimeMillis) throws SWRLRuleEngineException
+  {
+    return swrlRuleAndQueryEngineFactory
+      .createSQWRLQueryEnginePool(maximumNumberOfEngines, maximumNumberOfIdleEngines, maximumIdleTimeMillis);
+  }
+
+  /**
+   * @return The executor used by asynchronous rule engine and query engine executions when none is supplied
+   * @see org.swrlapi.core.SWRLRuleEngine#inferAsync(org.swrlapi.core.SWRLRuleEngineBudget)
+   */
+  @NonNull public static Executor getDefaultSWRLRuleEngineExecutor()
+  {
+    return SWRLRuleEngineExecutors.getDefaultExecutor();
+  }
+
+  /**
+   * Create an OWL ontology manager that contains cached copies of the SWRLAPI support ontologies. Ontologies loaded
+   * with this manager that import these support ontologies will not cause them to be reparsed.
+   *
+   * @return An OWL ontology manager
+   */
+  @NonNull public static OWLOntologyManager createOWLOntologyManager()
+  {
+    OWLOntologyManager ontologyManager = OWLManager.createOWLOntologyManager();
+
+    SWRLAPIOntologyCache.addAllSWRLAPIOntologies(ontologyManager);
+
+    return ontologyManager;
+  }
+
   /**
    * @return An IRI resolver
    */
@@ -11,10 +11,12 @@ import org.swrlapi.bridge.SWRLBridge;
 import org.swrlapi.builtins.SWRLBuiltInLibraryManager;
 import org.swrlapi.builtins.arguments.SWRLBuiltInArgument;
 import org.swrlapi.core.IRIResolver;
+import org.swrlapi.core.OWLEntitySymbolTable;
 import org.swrlapi.core.SWRLAPIBuiltInAtom;
 import org.swrlapi.core.SWRLAPIOWLOntology;
 import org.swrlapi.core.SWRLAPIRule;
 import org.swrlapi.core.SWRLRuleEngine;
+import org.swrlapi.core.SWRLRuleEngineInstrumentation;
 import org.swrlapi.core.SWRLRuleEngineManager;
 import org.swrlapi.core.SWRLRuleRenderer;
 import org.swrlapi.exceptions.SWRLAPIException;
@@ -67,6 +69,11 @@ public class SWRLAPIInternalFactory
     return new SWRLBuiltInLibraryManager();
   }
 
+  @NonNull public static SWRLRuleEngineInstrumentation createSWRLRuleEngineInstrumentation()
+  {
+    return new DefaultSWRLRuleEngineInstrumentation();
+  }
+
   /**
    * @param ontology    An OWL ontology
    * @param iriResolver An IRI resolver
@@ -75,7 +82,7 @@ public class SWRLAPIInternalFactory
   @NonNull public static SWRLRuleRenderer createSWRLRuleRenderer(@NonNull OWLOntology ontology,
     @NonNull IRIResolver iriResolver)
   {
-    return new DefaultSWRLRuleAndQueryRenderer(ontology, iriResolver);
+    return new DefaultSWRLRuleAndQueryRenderer(iriResolver, getOWLEntitySymbolTable(ontology));
   }
 
   /**
@@ -86,7 +93,16 @@ public class SWRLAPIInternalFactory
   @NonNull public static SQWRLQueryRenderer createSQWRLQueryRenderer(@NonNull OWLOntology ontology,
     @NonNull IRIResolver iriResolver)
   {
-    return new DefaultSWRLRuleAndQueryRenderer(ontology, iriResolver);
+    return new DefaultSWRLRuleAndQueryRenderer(iriResolver, getOWLEntitySymbolTable(ontology));
+  }
+
+  /**
+   * @param ontology An OWL ontology
+   * @return The entity symbol table shared by all users of the ontology
+   */
+  @NonNull public static OWLEntitySymbolTable getOWLEntitySymbolTable(@NonNull OWLOntology ontology)
+  {
+    return DefaultOWLEntitySymbolTable.getOWLEntitySymbolTable(ontology);
   }
 
   /**
@@ -0,0 +1,208 @@
+package org.swrlapi.factory;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.semanticweb.owlapi.apibinding.OWLManager;
+import org.semanticweb.owlapi.model.AddOntologyAnnotation;
+import org.semanticweb.owlapi.model.IRI;
+import org.semanticweb.owlapi.model.OWLAnnotation;
+import org.semanticweb.owlapi.model.OWLAxiom;
+import org.semanticweb.owlapi.model.OWLOntology;
+import org.semanticweb.owlapi.model.OWLOntologyChange;
+import org.semanticweb.owlapi.model.OWLOntologyCreationException;
+import org.semanticweb.owlapi.model.OWLOntologyID;
+import org.semanticweb.owlapi.model.OWLOntologyManager;
+import org.semanticweb.owlapi.util.SimpleIRIMapper;
+import org.swrlapi.exceptions.SWRLAPIException;
+
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+
+/**
+ * Process-wide cache of the SWRLAPI support ontologies (swrl.owl, swrlb.owl, swrla.owl, swrlm.owl, swrlx.owl,
+ * temporal.owl, and sqwrl.owl).
+ * <p>
+ * Each support ontology is parsed from its bundled RDF/XML resource at most once per class loader. Its axioms and
+ * annotations are copied only into ontology managers created by {@link SWRLAPIFactory#createOWLOntologyManager()}, so
+ * ontologies loaded through those managers do not pay repeated parsing costs. Other managers only receive IRI mappers
+ * for the bundled resources; their ontologies and import closures are never changed.
+ *
+ * @see DefaultSWRLAPIOWLOntology
+ */
+final class SWRLAPIOntologyCache
+{
+  @NonNull private static final Map<@NonNull IRI, @NonNull String> supportOntologyResourcePaths;
+
+  @NonNull private static final Map<@NonNull IRI, @NonNull SupportOntology> supportOntologies = new HashMap<>();
+
+  /**
+   * Managers that already have IRI mappers for the support ontologies. Guarded by itself.
+   */
+  @NonNull private static final Set<@NonNull OWLOntologyManager> mappedOntologyManagers = Collections
+    .newSetFromMap(new WeakHashMap<>());
+
+  static {
+    Map<@NonNull IRI, @NonNull String> resourcePaths = new LinkedHashMap<>();
+
+    resourcePaths.put(IRI.create("http://www.w3.org/2003/11/swrl#"), "owl/swrl.owl");
+    resourcePaths.put(IRI.create("http://www.w3.org/2003/11/swrlb#"), "owl/swrlb.owl");
+    resourcePaths.put(IRI.create("http://swrl.stanford.edu/ontologies/3.3/swrla.owl"), "owl/swrla.owl");
+    resourcePaths.put(IRI.create("http://swrl.stanford.edu/ontologies/built-ins/3.4/swrlm.owl"), "owl/swrlm.owl");
+    resourcePaths.put(IRI.create("http://swrl.stanford.edu/ontologies/built-ins/3.3/swrlx.owl"), "owl/swrlx.owl");
+    resourcePaths.put(IRI.create("http://swrl.stanford.edu/ontologies/built-ins/3.3/temporal.owl"), "owl/temporal.owl");
+    resourcePaths.put(IRI.create("http://sqwrl.stanford.edu/ontologies/built-ins/3.4/sqwrl.owl"), "owl/sqwrl.owl");
+
+    supportOntologyResourcePaths = Collections.unmodifiableMap(resourcePaths);
+  }
+
+  private SWRLAPIOntologyCache()
+  {
+  }
+
+  /**
+   * Install IRI mappers for the support ontologies in an ontology manager so that imports of them loaded later resolve
+   * to the bundled resources. No ontologies are added to the manager, so the import closures of ontologies it already
+   * holds are unchanged. The mappers are installed once per manager.
+   *
+   * @param ontologyManager An ontology manager
+   */
+  public static void addSWRLAPIOntologyIRIMappers(@NonNull OWLOntologyManager ontologyManager)
+  {
+    synchronized (mappedOntologyManagers) {
+      if (!mappedOntologyManagers.add(ontologyManager))
+        return;
+    }
+
+    for (Map.Entry<@NonNull IRI, @NonNull String> e : supportOntologyResourcePaths.entrySet())
+      ontologyManager.getIRIMappers().add(new SimpleIRIMapper(e.getKey(), resourcePath2IRI(e.getValue())));
+  }
+
+  /**
+   * Add cached copies of all support ontologies to an ontology manager. Ontologies subsequently loaded by the manager
+   * that import them will use these copies rather than parsing the bundled resources.
+   *
+   * @param ontologyManager An ontology manager
+   */
+  public static void addAllSWRLAPIOntologies(@NonNull OWLOntologyManager ontologyManager)
+  {
+    addSWRLAPIOntologyIRIMappers(ontologyManager);
+
+    for (IRI supportOntologyIRI : supportOntologyResourcePaths.keySet())
+      addSupportOntology(ontologyManager, supportOntologyIRI);
+  }
+
+  private static void addSupportOntology(@NonNull OWLOntologyManager ontologyManager, @NonNull IRI supportOntologyIRI)
+  {
+    SupportOntology supportOntology = getSupportOntology(supportOntologyIRI);
+
+    for (OWLOntology ontology : ontologyManager.getOntologies()) {
+      if (ontologyManager.getOntologyDocumentIRI(ontology).equals(supportOntology.getDocumentIRI()))
+        return; // Already present in this manager
+    }
+
+    if (supportOntology.getOntologyID().getOntologyIRI().isPresent() && ontologyManager
+      .contains(supportOntology.getOntologyID()))
+      return;
+
+    try {
+      OWLOntology ontology = ontologyManager.createOntology(supportOntology.getOntologyID());
+      List<@NonNull OWLOntologyChange> changes = new ArrayList<>();
+
+      for (OWLAnnotation annotation : supportOntology.getAnnotations())
+        changes.add(new AddOntologyAnnotation(ontology, annotation));
+
+      ontologyManager.addAxioms(ontology, supportOntology.getAxioms());
+      ontologyManager.applyChanges(changes);
+      ontologyManager.setOntologyDocumentIRI(ontology, supportOntology.getDocumentIRI());
+    } catch (OWLOntologyCreationException e) {
+      throw new SWRLAPIException(
+        "error creating cached support ontology " + supportOntologyIRI + ": " + (e.getMessage() != null ?
+          e.getMessage() :
+          ""), e);
+    }
+  }
+
+  @NonNull private static synchronized SupportOntology getSupportOntology(@NonNull IRI supportOntologyIRI)
+  {
+    SupportOntology supportOntology = supportOntologies.get(supportOntologyIRI);
+
+    if (supportOntology == null) {
+      IRI documentIRI = resourcePath2IRI(supportOntologyResourcePaths.get(supportOntologyIRI));
+
+      try {
+        OWLOntologyManager ontologyManager = OWLManager.createOWLOntologyManager();
+        OWLOntology ontology = ontologyManager.loadOntologyFromOntologyDocument(documentIRI);
+
+        supportOntology = new SupportOntology(ontology.getOntologyID(), documentIRI,
+          Collections.unmodifiableSet(new HashSet<>(ontology.getAxioms())),
+          Collections.unmodifiableSet(new HashSet<>(ontology.getAnnotations())));
+        supportOntologies.put(supportOntologyIRI, supportOntology);
+      } catch (OWLOntologyCreationException e) {
+        throw new SWRLAPIException(
+          "error loading support ontology " + supportOntologyIRI + ": " + (e.getMessage() != null ?
+            e.getMessage() :
+            ""), e);
+      }
+    }
+    return supportOntology;
+  }
+
+  @NonNull private static IRI resourcePath2IRI(@NonNull String resourceName)
+  {
+    ClassLoader classLoader = SWRLAPIOntologyCache.class.getClassLoader();
+
+    if (classLoader == null)
+      throw new SWRLAPIException("Could not loadExternalSWRLBuiltInLibraries class loader");
+
+    URL url = classLoader.getResource(resourceName);
+
+    if (url == null)
+      throw new SWRLAPIException("Could not loadExternalSWRLBuiltInLibraries local resource " + resourceName);
+
+    return IRI.create(url);
+  }
+
+  private static class SupportOntology
+  {
+    @NonNull private final OWLOntologyID ontologyID;
+    @NonNull private final IRI documentIRI;
+    @NonNull private final Set<@NonNull OWLAxiom> axioms;
+    @NonNull private final Set<@NonNull OWLAnnotation> annotations;
+
+    public SupportOntology(@NonNull OWLOntologyID ontologyID, @NonNull IRI documentIRI,
+      @NonNull Set<@NonNull OWLAxiom> axioms, @NonNull Set<@NonNull OWLAnnotation> annotations)
+    {
+      this.ontologyID = ontologyID;
+      this.documentIRI = documentIRI;
+      this.axioms = axioms;
+      this.annotations = annotations;
+    }
+
+    @NonNull public OWLOntologyID getOntologyID()
+    {
+      return this.ontologyID;
+    }
+
+    @NonNull public IRI getDocumentIRI()
+    {
+      return this.documentIRI;
+    }
+
+    @NonNull public Set<@NonNull OWLAxiom> getAxioms()
+    {
+      return this.axioms;
+    }
+
+    @NonNull public Set<@NonNull OWLAnnotation> getAnnotations()
+    {
+      return this.annotations;
+    }
+  }
+}
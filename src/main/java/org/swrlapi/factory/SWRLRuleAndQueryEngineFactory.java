@@ -7,6 +7,7 @@ import org.swrlapi.core.IRIResolver;
 import org.swrlapi.core.SWRLRuleEngine;
 import org.swrlapi.exceptions.SWRLRuleEngineException;
 import org.swrlapi.sqwrl.SQWRLQueryEngine;
+import org.swrlapi.sqwrl.SQWRLQueryEnginePool;
 
 /**
  * Factory to create SWRL rule engines and SQWRL query engines.
@@ -65,5 +66,27 @@ public interface SWRLRuleAndQueryEngineFactory
   @NonNull SQWRLQueryEngine createSQWRLQueryEngine(@NonNull String ruleEngineName, @NonNull OWLOntology ontology,
     @NonNull IRIResolver iriResolver) throws SWRLRuleEngineException;
 
+  /**
+   * @param maximumNumberOfEngines     The maximum number of engines, active or idle, held by the pool
+   * @param maximumNumberOfIdleEngines The maximum number of idle engines retained by the pool
+   * @param maximumIdleTimeMillis      The time after which an idle engine is evicted; zero or less to disable
+   * @return A SQWRL query engine pool
+   * @throws SWRLRuleEngineException If an error occurs during creation
+   */
+  @NonNull SQWRLQueryEnginePool createSQWRLQueryEnginePool(int maximumNumberOfEngines, int maximumNumberOfIdleEngines,
+    long maximumIdleTimeMillis) throws SWRLRuleEngineException;
+
+  /**
+   * @param queryEngineName            The name of a rule engine
+   * @param maximumNumberOfEngines     The maximum number of engines, active or idle, held by the pool
+   * @param maximumNumberOfIdleEngines The maximum number of idle engines retained by the pool
+   * @param maximumIdleTimeMillis      The time after which an idle engine is evicted; zero or less to disable
+   * @return A SQWRL query engine pool
+   * @throws SWRLRuleEngineException If an error occurs during creation
+   */
+  @NonNull SQWRLQueryEnginePool createSQWRLQueryEnginePool(@NonNull String queryEngineName,
+    int maximumNumberOfEngines, int maximumNumberOfIdleEngines, long maximumIdleTimeMillis)
+    throws SWRLRuleEngineException;
+
   void tryToRegisterADefaultSWRLRuleEngine();
 }
@@ -0,0 +1,54 @@
+package org.swrlapi.factory;
+
+import org.checkerframework.checker.nullness.qual.MonotonicNonNull;
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Supplies the executor used for asynchronous rule engine and query engine executions when none is specified.
+ * <p>
+ * On runtimes that support virtual threads each execution runs on its own virtual thread; otherwise a cached pool of
+ * daemon platform threads is used. The virtual thread executor is located reflectively because the SWRLAPI is built
+ * for Java 8.
+ *
+ * @see org.swrlapi.factory.SWRLAPIFactory#getDefaultSWRLRuleEngineExecutor()
+ */
+class SWRLRuleEngineExecutors
+{
+  private static final String VIRTUAL_THREAD_EXECUTOR_METHOD_NAME = "newVirtualThreadPerTaskExecutor";
+  private static final String THREAD_NAME_PREFIX = "swrlapi-rule-engine-";
+
+  @MonotonicNonNull private static Executor defaultExecutor;
+
+  private SWRLRuleEngineExecutors()
+  {
+  }
+
+  @NonNull static synchronized Executor getDefaultExecutor()
+  {
+    if (defaultExecutor == null)
+      defaultExecutor = createDefaultExecutor();
+
+    return defaultExecutor;
+  }
+
+  @NonNull private static Executor createDefaultExecutor()
+  {
+    try {
+      Method method = Executors.class.getMethod(VIRTUAL_THREAD_EXECUTOR_METHOD_NAME);
+      return (Executor)method.invoke(null);
+    } catch (ReflectiveOperationException | RuntimeException e) {
+      AtomicInteger threadNumber = new AtomicInteger(1);
+
+      return Executors.newCachedThreadPool(runnable -> {
+        Thread thread = new Thread(runnable, THREAD_NAME_PREFIX + threadNumber.getAndIncrement());
+        thread.setDaemon(true);
+        return thread;
+      });
+    }
+  }
+}
@@ -0,0 +1,238 @@
+package org.swrlapi.factory;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.semanticweb.owlapi.model.OWLAxiom;
+import org.swrlapi.exceptions.SWRLRuleEngineException;
+import org.swrlapi.owl2rl.OWL2RLNames.OWL2RLRule;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InvalidClassException;
+import java.io.ObjectInputStream;
+import java.io.ObjectStreamClass;
+import java.io.ObjectOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * The inference results of a rule engine written to or read from a file. A snapshot records a fingerprint of the
+ * asserted axioms and enabled OWL 2 RL rules it was taken from so that it is only restored against the same knowledge.
+ * <p>
+ * The file holds a header followed by the gzipped inferred and injected axioms in Java serialized form. Only OWLAPI
+ * classes and the basic Java classes they are built from are deserialized when a snapshot is read.
+ *
+ * @see org.swrlapi.core.SWRLRuleEngine#saveSnapshot(File)
+ * @see org.swrlapi.core.SWRLRuleEngine#restoreSnapshot(File)
+ */
+class SWRLRuleEngineSnapshot
+{
+  private static final int MAGIC_NUMBER = 0x53574150; // "SWAP"
+  private static final int FORMAT_VERSION = 3;
+  private static final String FINGERPRINT_ALGORITHM = "SHA-256";
+
+  private static final List<@NonNull String> ALLOWED_CLASS_NAME_PREFIXES = Arrays
+    .asList("org.semanticweb.owlapi.", "uk.ac.manchester.cs.owl.owlapi.", "com.google.common.collect.",
+      "java.util.Collections$", "java.util.Arrays$");
+  private static final Set<@NonNull String> ALLOWED_CLASS_NAMES = new HashSet<>(Arrays
+    .asList("java.lang.Object", "java.lang.String", "java.lang.Enum", "java.lang.Number", "java.lang.Boolean",
+      "java.lang.Byte", "java.lang.Character", "java.lang.Short", "java.lang.Integer", "java.lang.Long",
+      "java.lang.Float", "java.lang.Double", "java.util.ArrayList", "java.util.LinkedList", "java.util.HashSet",
+      "java.util.LinkedHashSet", "java.util.TreeSet", "java.util.HashMap", "java.util.LinkedHashMap",
+      "java.util.TreeMap"));
+
+  @NonNull private final byte[] fingerprint;
+  @NonNull private final Set<@NonNull OWLAxiom> inferredOWLAxioms;
+  @NonNull private final Set<@NonNull OWLAxiom> injectedOWLAxioms;
+
+  public SWRLRuleEngineSnapshot(@NonNull byte[] fingerprint, @NonNull Set<@NonNull OWLAxiom> inferredOWLAxioms,
+    @NonNull Set<@NonNull OWLAxiom> injectedOWLAxioms)
+  {
+    this.fingerprint = fingerprint;
+    this.inferredOWLAxioms = inferredOWLAxioms;
+    this.injectedOWLAxioms = injectedOWLAxioms;
+  }
+
+  /**
+   * The fingerprint is a SHA-256 digest of the lane-wise sum of the SHA-256 digests of the renderings of the axioms,
+   * followed by the number of axioms and the names of the rules in declaration order. The sum does not depend on the
+   * order of the axioms, so it is computed in one pass without sorting, and it is the same for an ontology reloaded
+   * from the same source. Renderings are used rather than hash codes, which may differ between runs.
+   */
+  @NonNull public static byte[] getFingerprint(@NonNull Set<@NonNull OWLAxiom> assertedOWLAxioms,
+    @NonNull Collection<@NonNull OWL2RLRule> enabledOWL2RLRules)
+  {
+    MessageDigest digest = createDigest();
+    long[] axiomDigestSum = new long[4]; // A SHA-256 digest is four longs
+
+    for (OWLAxiom axiom : assertedOWLAxioms) {
+      ByteBuffer axiomDigest = ByteBuffer.wrap(digest.digest(axiom.toString().getBytes(StandardCharsets.UTF_8)));
+
+      for (int lane = 0; lane < axiomDigestSum.length; lane++)
+        axiomDigestSum[lane] += axiomDigest.getLong();
+    }
+
+    ByteBuffer header = ByteBuffer.allocate(8 * (axiomDigestSum.length + 1));
+
+    for (long lane : axiomDigestSum)
+      header.putLong(lane);
+    header.putLong(assertedOWLAxioms.size());
+    digest.update(header.array());
+
+    for (OWL2RLRule rule : EnumSet.allOf(OWL2RLRule.class)) {
+      if (enabledOWL2RLRules.contains(rule)) {
+        digest.update(rule.name().getBytes(StandardCharsets.UTF_8));
+        digest.update((byte)'\n');
+      }
+    }
+    return digest.digest();
+  }
+
+  public boolean hasFingerprint(@NonNull byte[] fingerprint)
+  {
+    return MessageDigest.isEqual(this.fingerprint, fingerprint);
+  }
+
+  @NonNull public byte[] getFingerprint()
+  {
+    return this.fingerprint.clone();
+  }
+
+  @NonNull public Set<@NonNull OWLAxiom> getInferredOWLAxioms()
+  {
+    return this.inferredOWLAxioms;
+  }
+
+  @NonNull public Set<@NonNull OWLAxiom> getInjectedOWLAxioms()
+  {
+    return this.injectedOWLAxioms;
+  }
+
+  public void write(@NonNull File file) throws SWRLRuleEngineException
+  {
+    try (ObjectOutputStream out = new ObjectOutputStream(
+      new GZIPOutputStream(new BufferedOutputStream(new FileOutputStream(file))))) {
+      out.writeInt(MAGIC_NUMBER);
+      out.writeInt(FORMAT_VERSION);
+      out.writeInt(this.fingerprint.length);
+      out.write(this.fingerprint);
+      writeOWLAxioms(out, this.inferredOWLAxioms);
+      writeOWLAxioms(out, this.injectedOWLAxioms);
+    } catch (IOException e) {
+      throw new SWRLRuleEngineException(
+        "error writing snapshot to file " + file + ": " + (e.getMessage() != null ? e.getMessage() : ""), e);
+    }
+  }
+
+  @NonNull public static SWRLRuleEngineSnapshot read(@NonNull File file) throws SWRLRuleEngineException
+  {
+    try (ObjectInputStream in = new SnapshotObjectInputStream(
+      new GZIPInputStream(new BufferedInputStream(new FileInputStream(file))))) {
+      if (in.readInt() != MAGIC_NUMBER)
+        throw new SWRLRuleEngineException("file " + file + " is not a rule engine snapshot");
+
+      int formatVersion = in.readInt();
+      if (formatVersion != FORMAT_VERSION)
+        throw new SWRLRuleEngineException(
+          "snapshot file " + file + " has unsupported format version " + formatVersion + "; expecting "
+            + FORMAT_VERSION);
+
+      byte[] fingerprint = new byte[in.readInt()];
+      in.readFully(fingerprint);
+      Set<@NonNull OWLAxiom> inferredOWLAxioms = readOWLAxioms(in);
+      Set<@NonNull OWLAxiom> injectedOWLAxioms = readOWLAxioms(in);
+
+      return new SWRLRuleEngineSnapshot(fingerprint, inferredOWLAxioms, injectedOWLAxioms);
+    } catch (IOException | ClassNotFoundException | ClassCastException | NegativeArraySizeException e) {
+      throw new SWRLRuleEngineException(
+        "error reading snapshot from file " + file + ": " + (e.getMessage() != null ? e.getMessage() : ""), e);
+    }
+  }
+
+  @NonNull private static MessageDigest createDigest()
+  {
+    try {
+      return MessageDigest.getInstance(FINGERPRINT_ALGORITHM);
+    } catch (NoSuchAlgorithmException e) { // Every Java platform supports SHA-256
+      throw new IllegalStateException(FINGERPRINT_ALGORITHM + " is not supported", e);
+    }
+  }
+
+  private static void writeOWLAxioms(@NonNull ObjectOutputStream out, @NonNull Set<@NonNull OWLAxiom> axioms)
+    throws IOException
+  {
+    int numberOfAxiomsWritten = 0;
+
+    out.writeInt(axioms.size());
+    for (OWLAxiom axiom : axioms) {
+      out.writeObject(axiom);
+      if (++numberOfAxiomsWritten % 1024 == 0)
+        out.reset(); // Shared objects are written once per batch rather than retained for the whole stream
+    }
+  }
+
+  @NonNull private static Set<@NonNull OWLAxiom> readOWLAxioms(@NonNull ObjectInputStream in)
+    throws IOException, ClassNotFoundException
+  {
+    int numberOfAxioms = in.readInt();
+    Set<@NonNull OWLAxiom> axioms = new HashSet<>();
+
+    for (int i = 0; i < numberOfAxioms; i++)
+      axioms.add((OWLAxiom)in.readObject());
+
+    return axioms;
+  }
+
+  /**
+   * Refuses to deserialize any class that an axiom cannot be built from, so that a crafted file cannot instantiate
+   * arbitrary classes on the class path.
+   */
+  private static class SnapshotObjectInputStream extends ObjectInputStream
+  {
+    public SnapshotObjectInputStream(@NonNull InputStream in) throws IOException
+    {
+      super(in);
+    }
+
+    @Override protected Class<?> resolveClass(@NonNull ObjectStreamClass desc)
+      throws IOException, ClassNotFoundException
+    {
+      if (!isAllowedClassName(desc.getName()))
+        throw new InvalidClassException(desc.getName(), "class is not allowed in a rule engine snapshot");
+
+      return super.resolveClass(desc);
+    }
+
+    @Override protected Class<?> resolveProxyClass(@NonNull String[] interfaces) throws IOException
+    {
+      throw new InvalidClassException("proxy classes are not allowed in a rule engine snapshot");
+    }
+
+    private static boolean isAllowedClassName(@NonNull String className)
+    {
+      String elementClassName = className.replaceFirst("^\\[+", ""); // Arrays are allowed if their elements are
+
+      if (elementClassName.equals(className))
+        return ALLOWED_CLASS_NAMES.contains(className) || ALLOWED_CLASS_NAME_PREFIXES.stream()
+          .anyMatch(className::startsWith);
+      else if (elementClassName.startsWith("L") && elementClassName.endsWith(";"))
+        return isAllowedClassName(elementClassName.substring(1, elementClassName.length() - 1));
+      else
+        return elementClassName.length() == 1; // Primitive array
+    }
+  }
+}
@@ -138,4 +138,9 @@ public interface Literal
   @NonNull OWLDatatype getOWLDatatype();
 
   @NonNull String getOWLDatatypeName();
+
+  /**
+   * @return The datatype of the literal, resolved when the literal was created
+   */
+  @NonNull LiteralDatatype getLiteralDatatype();
 }
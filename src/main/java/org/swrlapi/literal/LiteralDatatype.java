@@ -0,0 +1,98 @@
+package org.swrlapi.literal;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.semanticweb.owlapi.model.IRI;
+import org.semanticweb.owlapi.model.OWLDatatype;
+import org.semanticweb.owlapi.vocab.OWLRDFVocabulary;
+import org.semanticweb.owlapi.vocab.XSDVocabulary;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * The datatypes of literals that the SWRLAPI treats specially. A literal's datatype IRI is resolved to one of these
+ * constants once so that later type tests and conversions do not have to compare IRIs.
+ *
+ * @see org.swrlapi.literal.Literal#getLiteralDatatype()
+ */
+public enum LiteralDatatype
+{
+  BYTE(XSDVocabulary.BYTE.getIRI(), true),
+  SHORT(XSDVocabulary.SHORT.getIRI(), true),
+  INT(XSDVocabulary.INT.getIRI(), true),
+  LONG(XSDVocabulary.LONG.getIRI(), true),
+  FLOAT(XSDVocabulary.FLOAT.getIRI(), true),
+  DOUBLE(XSDVocabulary.DOUBLE.getIRI(), true),
+  DECIMAL(XSDVocabulary.DECIMAL.getIRI(), true),
+  INTEGER(XSDVocabulary.INTEGER.getIRI(), true),
+  NEGATIVE_INTEGER(XSDVocabulary.NEGATIVE_INTEGER.getIRI(), true),
+  POSITIVE_INTEGER(XSDVocabulary.POSITIVE_INTEGER.getIRI(), true),
+  NON_NEGATIVE_INTEGER(XSDVocabulary.NON_NEGATIVE_INTEGER.getIRI(), true),
+  NON_POSITIVE_INTEGER(XSDVocabulary.NON_POSITIVE_INTEGER.getIRI(), true),
+  UNSIGNED_LONG(XSDVocabulary.UNSIGNED_LONG.getIRI(), true),
+  UNSIGNED_INT(XSDVocabulary.UNSIGNED_INT.getIRI(), true),
+  UNSIGNED_SHORT(XSDVocabulary.UNSIGNED_SHORT.getIRI(), true),
+  UNSIGNED_BYTE(XSDVocabulary.UNSIGNED_BYTE.getIRI(), true),
+  STRING(XSDVocabulary.STRING.getIRI(), false),
+  BOOLEAN(XSDVocabulary.BOOLEAN.getIRI(), false),
+  ANY_URI(XSDVocabulary.ANY_URI.getIRI(), false),
+  TIME(XSDVocabulary.TIME.getIRI(), false),
+  DATE(XSDVocabulary.DATE.getIRI(), false),
+  DATE_TIME(XSDVocabulary.DATE_TIME.getIRI(), false),
+  DURATION(XSDVocabulary.DURATION.getIRI(), false),
+  RDF_PLAIN_LITERAL(OWLRDFVocabulary.RDF_PLAIN_LITERAL.getIRI(), false),
+  RDFS_LITERAL(OWLRDFVocabulary.RDFS_LITERAL.getIRI(), false),
+  RDF_XML_LITERAL(OWLRDFVocabulary.RDF_XML_LITERAL.getIRI(), false),
+  OTHER(null, false);
+
+  @NonNull private static final Map<@NonNull IRI, @NonNull LiteralDatatype> datatypes = new HashMap<>();
+
+  static {
+    for (LiteralDatatype datatype : values())
+      if (datatype.iri != null)
+        datatypes.put(datatype.iri, datatype);
+  }
+
+  @Nullable private final IRI iri;
+  private final boolean numeric;
+
+  LiteralDatatype(@Nullable IRI iri, boolean numeric)
+  {
+    this.iri = iri;
+    this.numeric = numeric;
+  }
+
+  /**
+   * @return The IRI of the datatype; absent for {@link #OTHER}
+   */
+  @Nullable public IRI getIRI()
+  {
+    return this.iri;
+  }
+
+  public boolean isNumeric()
+  {
+    return this.numeric;
+  }
+
+  /**
+   * @param datatypeIRI A datatype IRI
+   * @return The corresponding constant or {@link #OTHER} if the datatype is not treated specially
+   */
+  @NonNull public static LiteralDatatype of(@NonNull IRI datatypeIRI)
+  {
+    LiteralDatatype datatype = datatypes.get(datatypeIRI);
+
+    return datatype != null ? datatype : OTHER;
+  }
+
+  /**
+   * @param datatype An OWL datatype
+   * @return The corresponding constant or {@link #OTHER} if the datatype is not treated specially
+   */
+  @NonNull public static LiteralDatatype of(@NonNull OWLDatatype datatype)
+  {
+    return of(datatype.getIRI());
+  }
+}
@@ -2,9 +2,8 @@ package org.swrlapi.literal;
 
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.semanticweb.owlapi.model.OWLLiteral;
-import org.semanticweb.owlapi.vocab.XSDVocabulary;
+import org.swrlapi.exceptions.LiteralException;
 import org.swrlapi.exceptions.SWRLAPIException;
-import org.swrlapi.exceptions.SWRLAPIInternalException;
 import org.swrlapi.factory.NaturalOrderComparator;
 
 import java.math.BigDecimal;
@@ -15,6 +14,10 @@ import java.util.Comparator;
 /**
  * A very basic literal comparator. Not fully spec conformant.
  * <p>
+ * Comparisons dispatch on the {@link org.swrlapi.literal.LiteralDatatype} of each literal. OWL literals are parsed on
+ * every comparison; callers that compare the same values repeatedly should use
+ * {@link #compareLiterals(Literal, Literal)}, which uses the values cached by {@link org.swrlapi.literal.Literal}.
+ * <p>
  * See:
  * http://xmlbeans.apache.org/docs/2.1.0/guide/conXMLBeansSupportBuiltInSchemaTypes.html
  * http://iswc2011.semanticweb.org/fileadmin/iswc/Papers/Workshops/SSWS/Emmons-et-all-SSWS2011.pdf
@@ -35,126 +38,132 @@ public final class OWLLiteralComparator implements Comparator<OWLLiteral>
 
   public static boolean isNumeric(@NonNull OWLLiteral literal)
   {
-    return literal.getDatatype().getIRI().equals(XSDVocabulary.BYTE.getIRI()) || literal.getDatatype().getIRI()
-      .equals(XSDVocabulary.SHORT.getIRI()) || literal.getDatatype().getIRI().equals(XSDVocabulary.INT.getIRI())
-      || literal.getDatatype().getIRI().equals(XSDVocabulary.LONG.getIRI()) || literal.getDatatype().getIRI()
-      .equals(XSDVocabulary.FLOAT.getIRI()) || literal.getDatatype().getIRI().equals(XSDVocabulary.DOUBLE.getIRI())
-      || literal.getDatatype().getIRI().equals(XSDVocabulary.DECIMAL.getIRI()) || literal.getDatatype().getIRI()
-      .equals(XSDVocabulary.INTEGER.getIRI()) || literal.getDatatype().getIRI()
-      .equals(XSDVocabulary.POSITIVE_INTEGER.getIRI()) || literal.getDatatype().getIRI()
-      .equals(XSDVocabulary.NEGATIVE_INTEGER.getIRI()) || literal.getDatatype().getIRI()
-      .equals(XSDVocabulary.NON_NEGATIVE_INTEGER.getIRI()) || literal.getDatatype().getIRI()
-      .equals(XSDVocabulary.NON_POSITIVE_INTEGER.getIRI()) || literal.getDatatype().getIRI()
-      .equals(XSDVocabulary.UNSIGNED_LONG.getIRI()) || literal.getDatatype().getIRI()
-      .equals(XSDVocabulary.UNSIGNED_INT.getIRI()) || literal.getDatatype().getIRI()
-      .equals(XSDVocabulary.UNSIGNED_SHORT.getIRI()) || literal.getDatatype().getIRI()
-      .equals(XSDVocabulary.UNSIGNED_BYTE.getIRI());
+    return LiteralDatatype.of(literal.getDatatype()).isNumeric();
   }
 
-  private int compareOWLLiterals(@NonNull OWLLiteral l1, @NonNull OWLLiteral l2)
+  /**
+   * Compares two literals using their cached datatypes and parsed values. The ordering is the same as that imposed
+   * by this comparator on the underlying OWL literals.
+   *
+   * @param l1 The first literal
+   * @param l2 The second literal
+   * @return A negative integer, zero, or a positive integer as the first literal is less than, equal to, or greater
+   * than the second
+   */
+  public static int compareLiterals(@NonNull Literal l1, @NonNull Literal l2)
   {
+    LiteralDatatype datatype = l1.getLiteralDatatype();
+
     try {
-      if (areAllLiteralsNumeric(l1, l2)) {
-        if (areTypesIdentical(l1, l2)) {
-          if (l1.getDatatype().getIRI().equals(XSDVocabulary.BYTE.getIRI())) {
-            Byte b1 = Byte.parseByte(l1.getLiteral());
-            Byte b2 = Byte.parseByte(l2.getLiteral());
-            return b1.compareTo(b2);
-          } else if (l1.getDatatype().getIRI().equals(XSDVocabulary.SHORT.getIRI()) || l1.getDatatype().getIRI()
-            .equals(XSDVocabulary.UNSIGNED_BYTE.getIRI())) {
-            Short s1 = Short.parseShort(l1.getLiteral());
-            Short s2 = Short.parseShort(l2.getLiteral());
-            return s1.compareTo(s2);
-          } else if (l1.getDatatype().getIRI().equals(XSDVocabulary.INT.getIRI()) || l1.getDatatype().getIRI()
-            .equals(XSDVocabulary.UNSIGNED_SHORT.getIRI())) {
-            Integer i1 = Integer.parseInt(l1.getLiteral());
-            Integer i2 = Integer.parseInt(l2.getLiteral());
-            return i1.compareTo(i2);
-          } else if (l1.getDatatype().getIRI().equals(XSDVocabulary.LONG.getIRI()) || l1.getDatatype().getIRI()
-            .equals(XSDVocabulary.UNSIGNED_INT.getIRI())) {
-            Long long1 = Long.parseLong(l1.getLiteral());
-            Long long2 = Long.parseLong(l2.getLiteral());
-            return long1.compareTo(long2);
-          } else if (l1.getDatatype().isFloat()) {
-            Float f1 = Float.parseFloat(l1.getLiteral());
-            Float f2 = Float.parseFloat(l2.getLiteral());
-            return f1.compareTo(f2);
-          } else if (l1.getDatatype().isDouble()) {
-            Double d1 = Double.parseDouble(l1.getLiteral());
-            Double d2 = Double.parseDouble(l2.getLiteral());
-            return d1.compareTo(d2);
-          } else if (l1.getDatatype().getIRI().equals(XSDVocabulary.DECIMAL.getIRI())) {
-            BigDecimal d1 = new BigDecimal(l1.getLiteral());
-            BigDecimal d2 = new BigDecimal(l2.getLiteral());
-            return d1.compareTo(d2);
-          } else if (l1.getDatatype().getIRI().equals(XSDVocabulary.INTEGER.getIRI()) ||
-            l1.getDatatype().getIRI().equals(XSDVocabulary.POSITIVE_INTEGER.getIRI()) ||
-            l1.getDatatype().getIRI().equals(XSDVocabulary.NON_NEGATIVE_INTEGER.getIRI()) ||
-            l1.getDatatype().getIRI().equals(XSDVocabulary.NEGATIVE_INTEGER.getIRI()) ||
-            l1.getDatatype().getIRI().equals(XSDVocabulary.NON_POSITIVE_INTEGER.getIRI()) ||
-            l1.getDatatype().getIRI().equals(XSDVocabulary.UNSIGNED_LONG.getIRI())) {
-            BigInteger d1 = new BigInteger(l1.getLiteral());
-            BigInteger d2 = new BigInteger(l2.getLiteral());
-            return d1.compareTo(d2);
-          } else
-            throw new SWRLAPIInternalException(
-              "unsupported numeric datatype " + l1.getDatatype().getIRI() + " for OWL literal with value " + l1
-                .getLiteral());
-        } else { // Types differ - use xsd:decimal for comparison
-          BigDecimal d1 = new BigDecimal(l1.getLiteral());
-          BigDecimal d2 = new BigDecimal(l2.getLiteral());
-          return d1.compareTo(d2);
-        }
+      if (datatype.isNumeric() && l2.isNumeric()) {
+        if (datatype == l2.getLiteralDatatype()) {
+          switch (datatype) {
+          case BYTE:
+            return Byte.compare(l1.getByte(), l2.getByte());
+          case SHORT:
+            return Short.compare(l1.getShort(), l2.getShort());
+          case INT:
+            return Integer.compare(l1.getInt(), l2.getInt());
+          case LONG:
+            return Long.compare(l1.getLong(), l2.getLong());
+          case FLOAT:
+            return Float.compare(l1.getFloat(), l2.getFloat());
+          case DOUBLE:
+            return Double.compare(l1.getDouble(), l2.getDouble());
+          case DECIMAL:
+            return l1.getDecimal().compareTo(l2.getDecimal());
+          default: // Integer types
+            return l1.getInteger().compareTo(l2.getInteger());
+          }
+        } else // Types differ - use xsd:decimal for comparison
+          return l1.getDecimal().compareTo(l2.getDecimal());
       } else { // Non numeric type; types should be the same
-        if (!areTypesIdentical(l1, l2))
+        if (datatype != l2.getLiteralDatatype() || (datatype == LiteralDatatype.OTHER && !l1.getOWLDatatype().getIRI()
+          .equals(l2.getOWLDatatype().getIRI())))
           return -1;
         else {
-          if (l1.getDatatype().isBoolean()) {
-            Boolean b1 = Boolean.parseBoolean(l1.getLiteral());
-            Boolean b2 = Boolean.parseBoolean(l2.getLiteral());
-            return b1.compareTo(b2);
-          } else if (l1.getDatatype().getIRI().equals(XSDVocabulary.ANY_URI.getIRI())) {
-            URI u1 = URI.create(l1.getLiteral());
-            URI u2 = URI.create(l2.getLiteral());
-            return u1.compareTo(u2);
-          } else if (l1.getDatatype().getIRI().equals(XSDVocabulary.TIME.getIRI())) {
-            XSDTime t1 = new XSDTime(l1.getLiteral());
-            XSDTime t2 = new XSDTime(l2.getLiteral());
-            return t1.compareTo(t2);
-          } else if (l1.getDatatype().getIRI().equals(XSDVocabulary.DATE.getIRI())) {
-            XSDDate d1 = new XSDDate(l1.getLiteral());
-            XSDDate d2 = new XSDDate(l2.getLiteral());
-            return d1.compareTo(d2);
-          } else if (l1.getDatatype().getIRI().equals(XSDVocabulary.DATE_TIME.getIRI())) {
-            XSDDateTime dt1 = new XSDDateTime(l1.getLiteral());
-            XSDDateTime dt2 = new XSDDateTime(l2.getLiteral());
-            return dt1.compareTo(dt2);
-          } else if (l1.getDatatype().getIRI().equals(XSDVocabulary.DURATION.getIRI())) {
-            XSDDuration d1 = new XSDDuration(l1.getLiteral());
-            XSDDuration d2 = new XSDDuration(l2.getLiteral());
-            return d1.compareTo(d2);
-          } else
-            // The OWLAPI seems to do a rather odd comparison so we use a natural order comparison
-            return naturalOrderComparator.compare(l1.getLiteral(), l2.getLiteral());
+          switch (datatype) {
+          case BOOLEAN:
+            return Boolean.compare(l1.getBoolean(), l2.getBoolean());
+          case ANY_URI:
+            return l1.getAnyURI().compareTo(l2.getAnyURI());
+          case TIME:
+            return l1.getTime().compareTo(l2.getTime());
+          case DATE:
+            return l1.getDate().compareTo(l2.getDate());
+          case DATE_TIME:
+            return l1.getDateTime().compareTo(l2.getDateTime());
+          case DURATION:
+            return l1.getDuration().compareTo(l2.getDuration());
+          default:
+            return naturalOrderComparator.compare(l1.getValue(), l2.getValue());
+          }
         }
       }
-    } catch (IllegalArgumentException e) {
+    } catch (LiteralException | IllegalArgumentException e) {
       throw new SWRLAPIException(
-        "Literal " + l1.getLiteral() + " or " + l2.getLiteral() + " not valid " + l1.getDatatype().getIRI());
+        "Literal " + l1.getValue() + " or " + l2.getValue() + " not valid " + l1.getOWLDatatype().getIRI());
     }
   }
 
-  private boolean areTypesIdentical(@NonNull OWLLiteral literal1, @NonNull OWLLiteral literal2)
+  private int compareOWLLiterals(@NonNull OWLLiteral l1, @NonNull OWLLiteral l2)
   {
-    return literal1.getDatatype().getIRI().equals(literal2.getDatatype().getIRI());
-  }
+    LiteralDatatype datatype = LiteralDatatype.of(l1.getDatatype());
+    LiteralDatatype datatype2 = LiteralDatatype.of(l2.getDatatype());
+    String v1 = l1.getLiteral(), v2 = l2.getLiteral();
 
-  private boolean areAllLiteralsNumeric(@NonNull OWLLiteral... literals)
-  {
-    for (OWLLiteral literal : literals)
-      if (!isNumeric(literal))
-        return false;
-    return true;
+    try {
+      if (datatype.isNumeric() && datatype2.isNumeric()) {
+        if (datatype == datatype2) {
+          switch (datatype) {
+          case BYTE:
+            return Byte.compare(Byte.parseByte(v1), Byte.parseByte(v2));
+          case SHORT:
+          case UNSIGNED_BYTE:
+            return Short.compare(Short.parseShort(v1), Short.parseShort(v2));
+          case INT:
+          case UNSIGNED_SHORT:
+            return Integer.compare(Integer.parseInt(v1), Integer.parseInt(v2));
+          case LONG:
+          case UNSIGNED_INT:
+            return Long.compare(Long.parseLong(v1), Long.parseLong(v2));
+          case FLOAT:
+            return Float.compare(Float.parseFloat(v1), Float.parseFloat(v2));
+          case DOUBLE:
+            return Double.compare(Double.parseDouble(v1), Double.parseDouble(v2));
+          case DECIMAL:
+            return new BigDecimal(v1).compareTo(new BigDecimal(v2));
+          default: // Integer types
+            return new BigInteger(v1).compareTo(new BigInteger(v2));
+          }
+        } else // Types differ - use xsd:decimal for comparison
+          return new BigDecimal(v1).compareTo(new BigDecimal(v2));
+      } else { // Non numeric type; types should be the same
+        if (datatype != datatype2 || (datatype == LiteralDatatype.OTHER && !l1.getDatatype().getIRI()
+          .equals(l2.getDatatype().getIRI())))
+          return -1;
+        else {
+          switch (datatype) {
+          case BOOLEAN:
+            return Boolean.compare(Boolean.parseBoolean(v1), Boolean.parseBoolean(v2));
+          case ANY_URI:
+            return URI.create(v1).compareTo(URI.create(v2));
+          case TIME:
+            return new XSDTime(v1).compareTo(new XSDTime(v2));
+          case DATE:
+            return new XSDDate(v1).compareTo(new XSDDate(v2));
+          case DATE_TIME:
+            return new XSDDateTime(v1).compareTo(new XSDDateTime(v2));
+          case DURATION:
+            return new XSDDuration(v1).compareTo(new XSDDuration(v2));
+          default:
+            // The OWLAPI seems to do a rather odd comparison so we use a natural order comparison
+            return naturalOrderComparator.compare(v1, v2);
+          }
+        }
+      }
+    } catch (IllegalArgumentException e) {
+      throw new SWRLAPIException("Literal " + v1 + " or " + v2 + " not valid " + l1.getDatatype().getIRI());
+    }
   }
-
 }
@@ -6,24 +6,53 @@ import org.checkerframework.dataflow.qual.Deterministic;
 import org.checkerframework.dataflow.qual.SideEffectFree;
 import org.semanticweb.owlapi.vocab.XSDVocabulary;
 
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.time.temporal.TemporalAccessor;
 import java.util.Date;
 
+/**
+ * An xsd:date. Dates are ordered by their calendar date; any time zone offset is retained but not compared.
+ */
 public class XSDDate extends XSDType<XSDDate>
 {
-  @NonNull private final Date date;
+  @NonNull private final LocalDate date;
+  @Nullable private final ZoneOffset zoneOffset;
 
   public XSDDate(@NonNull String content)
   {
     super(content, XSDVocabulary.DATE.getIRI());
 
-    this.date = XSDTimeUtil.xsdDateString2UtilDate(content);
+    TemporalAccessor parsedDate = XSDTimeUtil.parseXSDDate(content);
+
+    this.date = LocalDate.from(parsedDate);
+    this.zoneOffset = XSDTimeUtil.getZoneOffset(parsedDate);
   }
 
   public XSDDate(@NonNull Date date)
   {
-    super(XSDTimeUtil.utilDate2XSDDateString(date), XSDVocabulary.DATE.getIRI());
+    this(XSDTimeUtil.utilDate2LocalDateTime(date).toLocalDate(), null);
+  }
+
+  public XSDDate(@NonNull LocalDate date, @Nullable ZoneOffset zoneOffset)
+  {
+    super(XSDTimeUtil.formatXSDDate(date, zoneOffset), XSDVocabulary.DATE.getIRI());
+
+    this.date = date;
+    this.zoneOffset = zoneOffset;
+  }
+
+  @NonNull public LocalDate getLocalDate()
+  {
+    return this.date;
+  }
 
-    this.date = new Date(date.getTime());
+  /**
+   * @return The time zone offset of the date; null if none was specified
+   */
+  @Nullable public ZoneOffset getZoneOffset()
+  {
+    return this.zoneOffset;
   }
 
   @Override protected void validate()
@@ -44,12 +73,12 @@ public class XSDDate extends XSDType<XSDDate>
 
     XSDDate xsdDate = (XSDDate)o;
 
-    return !(date != null ? !date.equals(xsdDate.date) : xsdDate.date != null);
+    return this.date.equals(xsdDate.date);
   }
 
   @SideEffectFree @Deterministic @Override public int hashCode()
   {
-    return date != null ? date.hashCode() : 0;
+    return this.date.hashCode();
   }
 
   @SideEffectFree @Deterministic @Override public int compareTo(@NonNull XSDDate o)
@@ -60,6 +89,6 @@ public class XSDDate extends XSDType<XSDDate>
     if (this == o)
       return 0;
 
-    return XSDTimeUtil.compareDates(this.date, o.date);
+    return this.date.compareTo(o.date);
   }
 }
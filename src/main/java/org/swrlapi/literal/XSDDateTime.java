@@ -6,24 +6,65 @@ import org.checkerframework.dataflow.qual.Deterministic;
 import org.checkerframework.dataflow.qual.SideEffectFree;
 import org.semanticweb.owlapi.vocab.XSDVocabulary;
 
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.TemporalAccessor;
 import java.util.Date;
 
+/**
+ * An xsd:dateTime. Date times with a time zone offset are normalized to UTC before being compared; those without one
+ * are compared as if they were in UTC.
+ */
 public class XSDDateTime extends XSDType<XSDDateTime>
 {
-  @NonNull private final Date datetime;
+  @NonNull private final LocalDateTime dateTime;
+  @Nullable private final ZoneOffset zoneOffset;
+  @NonNull private final LocalDateTime utcDateTime;
 
   public XSDDateTime(@NonNull String content)
   {
     super(content, XSDVocabulary.DATE_TIME.getIRI());
 
-    this.datetime = XSDTimeUtil.xsdDateTimeString2UtilDate(content);
+    TemporalAccessor parsedDateTime = XSDTimeUtil.parseXSDDateTime(content);
+
+    this.dateTime = LocalDateTime.from(parsedDateTime);
+    this.zoneOffset = XSDTimeUtil.getZoneOffset(parsedDateTime);
+    this.utcDateTime = toUTC(this.dateTime, this.zoneOffset);
   }
 
   public XSDDateTime(@NonNull Date datetime)
   {
-    super(XSDTimeUtil.utilDate2XSDDateTimeString(datetime), XSDVocabulary.DATE_TIME.getIRI());
+    this(XSDTimeUtil.utilDate2LocalDateTime(datetime), null);
+  }
 
-    this.datetime = new Date(datetime.getTime());
+  public XSDDateTime(@NonNull LocalDateTime dateTime, @Nullable ZoneOffset zoneOffset)
+  {
+    super(XSDTimeUtil.formatXSDDateTime(dateTime, zoneOffset), XSDVocabulary.DATE_TIME.getIRI());
+
+    this.dateTime = dateTime;
+    this.zoneOffset = zoneOffset;
+    this.utcDateTime = toUTC(dateTime, zoneOffset);
+  }
+
+  @NonNull public LocalDateTime getLocalDateTime()
+  {
+    return this.dateTime;
+  }
+
+  /**
+   * @return The time zone offset of the date time; null if none was specified
+   */
+  @Nullable public ZoneOffset getZoneOffset()
+  {
+    return this.zoneOffset;
+  }
+
+  /**
+   * @return The date time normalized to UTC
+   */
+  @NonNull public LocalDateTime getUTCDateTime()
+  {
+    return this.utcDateTime;
   }
 
   @Override protected void validate()
@@ -39,20 +80,17 @@ public class XSDDateTime extends XSDType<XSDDateTime>
   {
     if (this == o)
       return true;
-
-    if (!(o instanceof XSDDateTime))
+    if (o == null || getClass() != o.getClass())
       return false;
 
-    XSDDateTime otherDateTime = (XSDDateTime)o;
+    XSDDateTime that = (XSDDateTime)o;
 
-    return this.datetime != null && otherDateTime.datetime != null && this.datetime.equals(otherDateTime.datetime);
+    return this.utcDateTime.equals(that.utcDateTime);
   }
 
   @SideEffectFree @Deterministic @Override public int hashCode()
   {
-    int code = 136;
-    code += this.datetime.hashCode();
-    return code;
+    return this.utcDateTime.hashCode();
   }
 
   @SideEffectFree @Deterministic @Override public int compareTo(@NonNull XSDDateTime o)
@@ -63,6 +101,11 @@ public class XSDDateTime extends XSDType<XSDDateTime>
     if (this == o)
       return 0;
 
-    return XSDTimeUtil.compareDateTimes(this.datetime, o.datetime);
+    return this.utcDateTime.compareTo(o.utcDateTime);
+  }
+
+  @NonNull private static LocalDateTime toUTC(@NonNull LocalDateTime dateTime, @Nullable ZoneOffset zoneOffset)
+  {
+    return zoneOffset == null ? dateTime : dateTime.minusSeconds(zoneOffset.getTotalSeconds());
   }
 }
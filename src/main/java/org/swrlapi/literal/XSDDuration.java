@@ -4,18 +4,60 @@ import org.checkerframework.checker.nullness.qual.NonNull;
 import org.checkerframework.checker.nullness.qual.Nullable;
 import org.checkerframework.dataflow.qual.Deterministic;
 import org.checkerframework.dataflow.qual.SideEffectFree;
-import org.apache.axis.types.Duration;
 import org.semanticweb.owlapi.vocab.XSDVocabulary;
 
+import java.time.Duration;
+import java.time.Period;
+
+/**
+ * An xsd:duration, held as a year-month part and a day-time part. Durations are ordered by their year-month part
+ * and then by their day-time part, with a day counted as 24 hours.
+ */
 public class XSDDuration extends XSDType<XSDDuration>
 {
-  @NonNull private final Duration duration;
+  @NonNull private final Period yearMonth;
+  @NonNull private final Duration dayTime;
 
   public XSDDuration(@NonNull String content)
+  {
+    this(content, XSDTimeUtil.parseXSDDuration(content));
+  }
+
+  /**
+   * @param yearMonth The years and months of the duration; any days are ignored
+   * @param dayTime   The days, hours, minutes and seconds of the duration
+   * @throws IllegalArgumentException If the two parts have opposite signs
+   */
+  public XSDDuration(@NonNull Period yearMonth, @NonNull Duration dayTime)
+  {
+    super(XSDTimeUtil.formatXSDDuration(yearMonth.withDays(0), dayTime), XSDVocabulary.DURATION.getIRI());
+
+    this.yearMonth = yearMonth.withDays(0).normalized();
+    this.dayTime = dayTime;
+  }
+
+  private XSDDuration(@NonNull String content, @NonNull XSDDuration value)
   {
     super(content, XSDVocabulary.DURATION.getIRI());
 
-    this.duration = XSDTimeUtil.xsdDurationString2AxisDuration(content);
+    this.yearMonth = value.yearMonth;
+    this.dayTime = value.dayTime;
+  }
+
+  /**
+   * @return The normalized years and months of the duration
+   */
+  @NonNull public Period getYearMonthPeriod()
+  {
+    return this.yearMonth;
+  }
+
+  /**
+   * @return The days, hours, minutes and seconds of the duration
+   */
+  @NonNull public Duration getDayTimeDuration()
+  {
+    return this.dayTime;
   }
 
   @Override protected void validate()
@@ -37,13 +79,14 @@ public class XSDDuration extends XSDType<XSDDuration>
 
     XSDDuration otherDuration = (XSDDuration)o;
 
-    return this.duration != null && otherDuration.duration != null && this.duration.equals(otherDuration.duration);
+    return this.yearMonth.equals(otherDuration.yearMonth) && this.dayTime.equals(otherDuration.dayTime);
   }
 
   @SideEffectFree @Deterministic @Override public int hashCode()
   {
     int code = 34;
-    code += this.duration.hashCode();
+    code += this.yearMonth.hashCode();
+    code += 31 * this.dayTime.hashCode();
     return code;
   }
 
@@ -55,6 +98,8 @@ public class XSDDuration extends XSDType<XSDDuration>
     if (this == o)
       return 0;
 
-    return XSDTimeUtil.compareAxisDurations(this.duration, o.duration);
+    int diff = Long.compare(this.yearMonth.toTotalMonths(), o.yearMonth.toTotalMonths());
+
+    return diff != 0 ? diff : this.dayTime.compareTo(o.dayTime);
   }
 }
@@ -4,27 +4,67 @@ import org.checkerframework.checker.nullness.qual.NonNull;
 import org.checkerframework.checker.nullness.qual.Nullable;
 import org.checkerframework.dataflow.qual.Deterministic;
 import org.checkerframework.dataflow.qual.SideEffectFree;
-import org.apache.axis.types.Time;
 import org.semanticweb.owlapi.vocab.XSDVocabulary;
 
+import java.time.LocalTime;
+import java.time.ZoneOffset;
+import java.time.temporal.TemporalAccessor;
 import java.util.Date;
 
+/**
+ * An xsd:time. Times with a time zone offset are normalized to UTC before being compared; those without one are
+ * compared as if they were in UTC.
+ */
 public class XSDTime extends XSDType<XSDTime>
 {
-  private final @NonNull Time time;
+  @NonNull private final LocalTime time;
+  @Nullable private final ZoneOffset zoneOffset;
+  @NonNull private final LocalTime utcTime;
 
   public XSDTime(@NonNull String content)
   {
     super(content, XSDVocabulary.TIME.getIRI());
 
-    this.time = XSDTimeUtil.xsdTimeString2AxisTime(content);
+    TemporalAccessor parsedTime = XSDTimeUtil.parseXSDTime(content);
+
+    this.time = LocalTime.from(parsedTime);
+    this.zoneOffset = XSDTimeUtil.getZoneOffset(parsedTime);
+    this.utcTime = toUTC(this.time, this.zoneOffset);
   }
 
   public XSDTime(@NonNull Date date)
   {
-    super(XSDTimeUtil.utilDate2XSDTimeString(date), XSDVocabulary.TIME.getIRI());
+    this(XSDTimeUtil.utilDate2XSDTimeString(date));
+  }
+
+  public XSDTime(@NonNull LocalTime time, @Nullable ZoneOffset zoneOffset)
+  {
+    super(XSDTimeUtil.formatXSDTime(time, zoneOffset), XSDVocabulary.TIME.getIRI());
+
+    this.time = time;
+    this.zoneOffset = zoneOffset;
+    this.utcTime = toUTC(time, zoneOffset);
+  }
+
+  @NonNull public LocalTime getLocalTime()
+  {
+    return this.time;
+  }
+
+  /**
+   * @return The time zone offset of the time; null if none was specified
+   */
+  @Nullable public ZoneOffset getZoneOffset()
+  {
+    return this.zoneOffset;
+  }
 
-    this.time = XSDTimeUtil.utilDate2XSDTime(date);
+  /**
+   * @return The time normalized to UTC
+   */
+  @NonNull public LocalTime getUTCTime()
+  {
+    return this.utcTime;
   }
 
   @Override protected void validate()
@@ -46,13 +86,13 @@ public class XSDTime extends XSDType<XSDTime>
 
     XSDTime otherTime = (XSDTime)o;
 
-    return this.time != null && otherTime.time != null && this.time.equals(otherTime.time);
+    return this.utcTime.equals(otherTime.utcTime);
   }
 
   @SideEffectFree @Deterministic @Override public int hashCode()
   {
     int code = 156;
-    code += this.time.hashCode();
+    code += this.utcTime.hashCode();
     return code;
   }
 
@@ -64,6 +104,11 @@ public class XSDTime extends XSDType<XSDTime>
     if (this == o)
       return 0;
 
-    return XSDTimeUtil.compareAxisTimes(this.time, o.time);
+    return this.utcTime.compareTo(o.utcTime);
+  }
+
+  @NonNull private static LocalTime toUTC(@NonNull LocalTime time, @Nullable ZoneOffset zoneOffset)
+  {
+    return zoneOffset == null ? time : time.minusSeconds(zoneOffset.getTotalSeconds());
   }
 }
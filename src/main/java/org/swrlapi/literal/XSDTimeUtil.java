@@ -1,550 +1,430 @@
 package org.swrlapi.literal;
 
 import org.checkerframework.checker.nullness.qual.NonNull;
-
-import java.text.DateFormat;
-import java.text.ParseException;
-import java.text.SimpleDateFormat;
-import java.util.Calendar;
-import java.util.GregorianCalendar;
-
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.DateTimeException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.Period;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeFormatterBuilder;
+import java.time.format.ResolverStyle;
+import java.time.format.SignStyle;
+import java.time.temporal.ChronoField;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAccessor;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Parsing, formatting and arithmetic for the SWRLAPI's temporal XSD types. All formatters are immutable
+ * {@link java.time.format.DateTimeFormatter}s so every method here is safe to call concurrently.
+ * <p>
+ * Durations follow the XPath model: a signed number of months and a signed day-time {@link java.time.Duration}, with
+ * a day counted as 24 hours.
+ */
 public class XSDTimeUtil
 {
-  @NonNull private static final String xsdDateTimeFormatString = "yyyy-MM-dd'T'hh:mm:ss";
-  @NonNull private static final String xsdDateFormatString = "yyyy-MM-dd";
-  @NonNull private static final String jdbcDateTimeFormatString = "y-M-d h:m:s.S";
-  @NonNull private static final String jdbcDateFormatString = "y-M-d";
+  private static final long SECONDS_PER_DAY = 86400;
+  private static final long SECONDS_PER_HOUR = 3600;
+  private static final long SECONDS_PER_MINUTE = 60;
 
-  @NonNull private static final DateFormat xsdDateTimeFormat = new SimpleDateFormat(xsdDateTimeFormatString);
-  @NonNull private static final DateFormat xsdDateFormat = new SimpleDateFormat(xsdDateFormatString);
-  @NonNull private static final DateFormat jdbcDateTimeFormat = new SimpleDateFormat(jdbcDateTimeFormatString);
-  @NonNull private static final DateFormat jdbcDateFormat = new SimpleDateFormat(jdbcDateFormatString);
+  // Parsers accept the lexical forms used by XML Schema plus the unpadded fields historically accepted by the SWRLAPI
+  @NonNull private static final DateTimeFormatter xsdDateParser = new DateTimeFormatterBuilder()
+    .appendValue(ChronoField.YEAR, 4, 9, SignStyle.NORMAL).appendLiteral('-')
+    .appendValue(ChronoField.MONTH_OF_YEAR, 1, 2, SignStyle.NOT_NEGATIVE).appendLiteral('-')
+    .appendValue(ChronoField.DAY_OF_MONTH, 1, 2, SignStyle.NOT_NEGATIVE).optionalStart().appendOffset("+HH:MM", "Z")
+    .optionalEnd().toFormatter().withResolverStyle(ResolverStyle.STRICT);
 
-  public static org.apache.axis.types.Duration addAxisDurations(org.apache.axis.types.@NonNull Duration duration1,
-    org.apache.axis.types.@NonNull Duration duration2)
-  {
-    org.apache.axis.types.Duration result = new org.apache.axis.types.Duration();
+  @NonNull private static final DateTimeFormatter xsdTimeParser = new DateTimeFormatterBuilder()
+    .appendValue(ChronoField.HOUR_OF_DAY, 1, 2, SignStyle.NOT_NEGATIVE).appendLiteral(':')
+    .appendValue(ChronoField.MINUTE_OF_HOUR, 1, 2, SignStyle.NOT_NEGATIVE).appendLiteral(':')
+    .appendValue(ChronoField.SECOND_OF_MINUTE, 1, 2, SignStyle.NOT_NEGATIVE).optionalStart()
+    .appendFraction(ChronoField.NANO_OF_SECOND, 1, 9, true).optionalEnd().optionalStart().appendOffset("+HH:MM", "Z")
+    .optionalEnd().toFormatter().withResolverStyle(ResolverStyle.STRICT);
 
-    result.setYears(getYearsFromAxisDuration(duration1) + getYearsFromAxisDuration(duration2));
-    result.setMonths(getMonthsFromAxisDuration(duration1) + getMonthsFromAxisDuration(duration2));
-    result.setDays(getDaysFromAxisDuration(duration1) + getDaysFromAxisDuration(duration2));
-    result.setHours(getHoursFromAxisDuration(duration1) + getHoursFromAxisDuration(duration2));
-    result.setMinutes(getMinutesFromAxisDuration(duration1) + getMinutesFromAxisDuration(duration2));
-    result.setSeconds(getSecondsFromAxisDuration(duration1) + getSecondsFromAxisDuration(duration2));
+  @NonNull private static final DateTimeFormatter xsdDateTimeParser = new DateTimeFormatterBuilder()
+    .appendValue(ChronoField.YEAR, 4, 9, SignStyle.NORMAL).appendLiteral('-')
+    .appendValue(ChronoField.MONTH_OF_YEAR, 1, 2, SignStyle.NOT_NEGATIVE).appendLiteral('-')
+    .appendValue(ChronoField.DAY_OF_MONTH, 1, 2, SignStyle.NOT_NEGATIVE).appendLiteral('T').append(xsdTimeParser)
+    .toFormatter().withResolverStyle(ResolverStyle.STRICT);
 
-    return result;
-  }
+  // Formatters always write seconds, which ISO_LOCAL_TIME omits when zero, and only the significant fraction digits
+  @NonNull private static final DateTimeFormatter xsdTimeFormatter = new DateTimeFormatterBuilder()
+    .appendValue(ChronoField.HOUR_OF_DAY, 2).appendLiteral(':').appendValue(ChronoField.MINUTE_OF_HOUR, 2)
+    .appendLiteral(':').appendValue(ChronoField.SECOND_OF_MINUTE, 2)
+    .appendFraction(ChronoField.NANO_OF_SECOND, 0, 9, true).toFormatter();
 
-  public static int compareAxisDurations(org.apache.axis.types.@NonNull Duration duration1,
-    org.apache.axis.types.@NonNull Duration duration2)
-  {
-    int diff = getYearsFromAxisDuration(duration1) - getYearsFromAxisDuration(duration2);
-    if (diff != 0)
-      return diff;
+  @NonNull private static final DateTimeFormatter xsdDateTimeFormatter = new DateTimeFormatterBuilder()
+    .append(DateTimeFormatter.ISO_LOCAL_DATE).appendLiteral('T').append(xsdTimeFormatter).toFormatter();
 
-    diff = getMonthsFromAxisDuration(duration1) - getMonthsFromAxisDuration(duration2);
-    if (diff != 0)
-      return diff;
+  @NonNull private static final DateTimeFormatter xsdOffsetFormatter = new DateTimeFormatterBuilder()
+    .appendOffset("+HH:MM", "Z").toFormatter();
 
-    diff = getDaysFromAxisDuration(duration1) - getDaysFromAxisDuration(duration2);
-    if (diff != 0)
-      return diff;
+  // The millisecond precision form previously produced for java.util.Date values
+  @NonNull private static final DateTimeFormatter utilDateTimeFormatter = DateTimeFormatter.ofPattern("HH:mm:ss.SSS");
 
-    diff = getHoursFromAxisDuration(duration1) - getHoursFromAxisDuration(duration2);
-    if (diff != 0)
-      return diff;
+  @NonNull private static final Pattern xsdDurationPattern = Pattern
+    .compile("(-)?P(?:(\\d+)Y)?(?:(\\d+)M)?(?:(\\d+)D)?(?:T(?:(\\d+)H)?(?:(\\d+)M)?(?:(\\d+(?:\\.\\d+)?)S)?)?");
 
-    diff = getMinutesFromAxisDuration(duration1) - getMinutesFromAxisDuration(duration2);
-    if (diff != 0)
-      return diff;
+  private XSDTimeUtil()
+  {
+  }
 
-    // TODO Look at this
-    diff = (int)getSecondsFromAxisDuration(duration1) - (int)getSecondsFromAxisDuration(duration2);
+  // Parsing
 
-    return diff;
+  @NonNull static TemporalAccessor parseXSDDate(@NonNull String content)
+  {
+    try {
+      return xsdDateParser.parse(content);
+    } catch (DateTimeException e) {
+      throw new IllegalArgumentException("invalid xsd:Date '" + content + "'", e);
+    }
   }
 
-  public static int compareDateTimes(java.util.@NonNull Date date1, java.util.@NonNull Date date2)
+  @NonNull static TemporalAccessor parseXSDDateTime(@NonNull String content)
   {
-    Calendar calendar1 = new GregorianCalendar();
-    Calendar calendar2 = new GregorianCalendar();
-    calendar1.setTime(date1);
-    calendar2.setTime(date2);
-
-    int diff = calendar1.get(Calendar.YEAR) - calendar2.get(Calendar.YEAR);
-    if (diff != 0)
-      return diff;
-
-    diff = calendar1.get(Calendar.MONTH) - calendar2.get(Calendar.MONTH);
-    if (diff != 0)
-      return diff;
-
-    diff = calendar1.get(Calendar.DAY_OF_MONTH) - calendar2.get(Calendar.DAY_OF_MONTH);
-    if (diff != 0)
-      return diff;
-
-    diff = calendar1.get(Calendar.HOUR) - calendar2.get(Calendar.HOUR);
-    if (diff != 0)
-      return diff;
-
-    diff = calendar1.get(Calendar.MINUTE) - calendar2.get(Calendar.MINUTE);
-    if (diff != 0)
-      return diff;
-
-    diff = calendar1.get(Calendar.SECOND) - calendar2.get(Calendar.SECOND);
-
-    return diff;
+    try {
+      return xsdDateTimeParser.parse(content);
+    } catch (DateTimeException e) {
+      throw new IllegalArgumentException("invalid xsd:DateTime '" + content + "'", e);
+    }
   }
 
-  public static int compareDates(java.util.@NonNull Date date1, java.util.@NonNull Date date2)
+  @NonNull static TemporalAccessor parseXSDTime(@NonNull String content)
   {
-    Calendar calendar1 = new GregorianCalendar();
-    Calendar calendar2 = new GregorianCalendar();
-    calendar1.setTime(date1);
-    calendar2.setTime(date2);
-
-    int diff = calendar1.get(Calendar.YEAR) - calendar2.get(Calendar.YEAR);
-    if (diff != 0)
-      return diff;
-
-    diff = calendar1.get(Calendar.MONTH) - calendar2.get(Calendar.MONTH);
-    if (diff != 0)
-      return diff;
-
-    diff = calendar1.get(Calendar.DAY_OF_MONTH) - calendar2.get(Calendar.DAY_OF_MONTH);
-
-    return diff;
+    try {
+      return xsdTimeParser.parse(content);
+    } catch (DateTimeException e) {
+      throw new IllegalArgumentException("invalid xsd:Time '" + content + "'", e);
+    }
   }
 
-  public static int compareAxisTimes(org.apache.axis.types.@NonNull Time time1,
-    org.apache.axis.types.@NonNull Time time2)
+  @Nullable static ZoneOffset getZoneOffset(@NonNull TemporalAccessor parsedValue)
   {
-    Calendar calendar1 = time1.getAsCalendar();
-    Calendar calendar2 = time2.getAsCalendar();
-
-    int diff = calendar1.get(Calendar.HOUR) - calendar2.get(Calendar.HOUR);
-    if (diff != 0)
-      return diff;
-
-    diff = calendar1.get(Calendar.MINUTE) - calendar2.get(Calendar.MINUTE);
-    if (diff != 0)
-      return diff;
-
-    diff = calendar1.get(Calendar.SECOND) - calendar2.get(Calendar.SECOND);
-    if (diff != 0)
-      return diff;
-
-    return diff;
+    return parsedValue.isSupported(ChronoField.OFFSET_SECONDS) ? ZoneOffset.from(parsedValue) : null;
   }
 
-  public static org.apache.axis.types.@NonNull Duration subtractAxisDurations(
-    org.apache.axis.types.@NonNull Duration duration1, org.apache.axis.types.@NonNull Duration duration2)
+  @NonNull static XSDDuration parseXSDDuration(@NonNull String content)
   {
-    org.apache.axis.types.Duration result = new org.apache.axis.types.Duration();
+    Matcher matcher = xsdDurationPattern.matcher(content);
 
-    result.setYears(getYearsFromAxisDuration(duration1) - getYearsFromAxisDuration(duration2));
-    result.setMonths(getMonthsFromAxisDuration(duration1) - getMonthsFromAxisDuration(duration2));
-    result.setDays(getDaysFromAxisDuration(duration1) - getDaysFromAxisDuration(duration2));
-    result.setHours(getHoursFromAxisDuration(duration1) - getHoursFromAxisDuration(duration2));
-    result.setMinutes(getMinutesFromAxisDuration(duration1) - getMinutesFromAxisDuration(duration2));
-    result.setSeconds(getSecondsFromAxisDuration(duration1) - getSecondsFromAxisDuration(duration2));
+    if (!matcher.matches() || content.endsWith("P") || content.endsWith("T"))
+      throw new IllegalArgumentException("invalid xsd:Duration '" + content + "'");
 
-    return result;
+    try {
+      Period yearMonth = Period.of(parseDurationField(matcher.group(2)), parseDurationField(matcher.group(3)), 0)
+        .normalized();
+      Duration dayTime = Duration.ofDays(parseDurationField(matcher.group(4)))
+        .plusHours(parseDurationField(matcher.group(5))).plusMinutes(parseDurationField(matcher.group(6)));
+
+      if (matcher.group(7) != null) {
+        BigDecimal seconds = new BigDecimal(matcher.group(7));
+        dayTime = dayTime.plusSeconds(seconds.longValue())
+          .plusNanos(seconds.remainder(BigDecimal.ONE).movePointRight(9).longValue());
+      }
+
+      if (matcher.group(1) != null)
+        return new XSDDuration(yearMonth.negated(), dayTime.negated());
+      else
+        return new XSDDuration(yearMonth, dayTime);
+    } catch (ArithmeticException | DateTimeException e) {
+      throw new IllegalArgumentException("xsd:Duration '" + content + "' is out of range", e);
+    }
   }
 
-  public static org.apache.axis.types.@NonNull Duration multiplyAxisDurations(
-    org.apache.axis.types.@NonNull Duration duration1, org.apache.axis.types.@NonNull Duration duration2)
+  private static int parseDurationField(@Nullable String field)
   {
-    org.apache.axis.types.Duration result = new org.apache.axis.types.Duration();
-
-    result.setYears(getYearsFromAxisDuration(duration1) * getYearsFromAxisDuration(duration2));
-    result.setMonths(getMonthsFromAxisDuration(duration1) * getMonthsFromAxisDuration(duration2));
-    result.setDays(getDaysFromAxisDuration(duration1) * getDaysFromAxisDuration(duration2));
-    result.setHours(getHoursFromAxisDuration(duration1) * getHoursFromAxisDuration(duration2));
-    result.setMinutes(getMinutesFromAxisDuration(duration1) * getMinutesFromAxisDuration(duration2));
-    result.setSeconds(getSecondsFromAxisDuration(duration1) * getSecondsFromAxisDuration(duration2));
-
-    return result;
+    return field == null ? 0 : Math.toIntExact(Long.parseLong(field));
   }
 
-  public static org.apache.axis.types.@NonNull Duration divideAxisDurations(org.apache.axis.types.Duration duration1,
-    org.apache.axis.types.Duration duration2)
-  {
-    org.apache.axis.types.Duration result = new org.apache.axis.types.Duration();
+  // Formatting
 
-    result.setYears(getYearsFromAxisDuration(duration1) / getYearsFromAxisDuration(duration2));
-    result.setMonths(getMonthsFromAxisDuration(duration1) / getMonthsFromAxisDuration(duration2));
-    result.setDays(getDaysFromAxisDuration(duration1) / getDaysFromAxisDuration(duration2));
-    result.setHours(getHoursFromAxisDuration(duration1) / getHoursFromAxisDuration(duration2));
-    result.setMinutes(getMinutesFromAxisDuration(duration1) / getMinutesFromAxisDuration(duration2));
-    result.setSeconds(getSecondsFromAxisDuration(duration1) / getSecondsFromAxisDuration(duration2));
+  @NonNull static String formatXSDDate(@NonNull LocalDate date, @Nullable ZoneOffset zoneOffset)
+  {
+    String content = DateTimeFormatter.ISO_LOCAL_DATE.format(date);
 
-    return result;
+    return zoneOffset == null ? content : content + xsdOffsetFormatter.format(zoneOffset);
   }
 
-  public static org.apache.axis.types.@NonNull Duration addDayTimeDurations(
-    org.apache.axis.types.@NonNull Duration duration1, org.apache.axis.types.@NonNull Duration duration2)
+  @NonNull static String formatXSDDateTime(@NonNull LocalDateTime dateTime, @Nullable ZoneOffset zoneOffset)
   {
-    org.apache.axis.types.Duration result = new org.apache.axis.types.Duration();
-
-    result.setDays(getDaysFromAxisDuration(duration1) + getDaysFromAxisDuration(duration2));
-    result.setHours(getHoursFromAxisDuration(duration1) + getHoursFromAxisDuration(duration2));
-    result.setMinutes(getMinutesFromAxisDuration(duration1) + getMinutesFromAxisDuration(duration2));
-    result.setSeconds(getSecondsFromAxisDuration(duration1) + getSecondsFromAxisDuration(duration2));
+    String content = xsdDateTimeFormatter.format(dateTime);
 
-    return result;
+    return zoneOffset == null ? content : content + xsdOffsetFormatter.format(zoneOffset);
   }
 
-  public static org.apache.axis.types.@NonNull Duration subtractDayTimeDurations(
-    org.apache.axis.types.@NonNull Duration duration1, org.apache.axis.types.@NonNull Duration duration2)
+  @NonNull static String formatXSDTime(@NonNull LocalTime time, @Nullable ZoneOffset zoneOffset)
   {
-    org.apache.axis.types.Duration result = new org.apache.axis.types.Duration();
+    String content = xsdTimeFormatter.format(time);
 
-    result.setDays(getDaysFromAxisDuration(duration1) - getDaysFromAxisDuration(duration2));
-    result.setHours(getHoursFromAxisDuration(duration1) - getHoursFromAxisDuration(duration2));
-    result.setMinutes(getMinutesFromAxisDuration(duration1) - getMinutesFromAxisDuration(duration2));
-    result.setSeconds(getSecondsFromAxisDuration(duration1) - getSecondsFromAxisDuration(duration2));
-
-    return result;
+    return zoneOffset == null ? content : content + xsdOffsetFormatter.format(zoneOffset);
   }
 
-  public static org.apache.axis.types.@NonNull Duration multiplyDayTimeDurations(
-    org.apache.axis.types.@NonNull Duration duration1, org.apache.axis.types.@NonNull Duration duration2)
+  @NonNull static String formatXSDDuration(@NonNull Period yearMonth, @NonNull Duration dayTime)
   {
-    org.apache.axis.types.Duration result = new org.apache.axis.types.Duration();
+    long months = yearMonth.toTotalMonths();
 
-    result.setDays(getDaysFromAxisDuration(duration1) * getDaysFromAxisDuration(duration2));
-    result.setHours(getHoursFromAxisDuration(duration1) * getHoursFromAxisDuration(duration2));
-    result.setMinutes(getMinutesFromAxisDuration(duration1) * getMinutesFromAxisDuration(duration2));
-    result.setSeconds(getSecondsFromAxisDuration(duration1) * getSecondsFromAxisDuration(duration2));
+    if ((months < 0 && dayTime.compareTo(Duration.ZERO) > 0) || (months > 0 && dayTime.isNegative()))
+      throw new IllegalArgumentException(
+        "xsd:Duration cannot have year-month part " + yearMonth + " and day-time part " + dayTime
+          + " of opposite signs");
 
-    return result;
-  }
+    StringBuilder content = new StringBuilder();
 
-  public static org.apache.axis.types.@NonNull Duration divideDayTimeDurations(org.apache.axis.types.Duration duration1,
-    org.apache.axis.types.Duration duration2)
-  {
-    org.apache.axis.types.Duration result = new org.apache.axis.types.Duration();
+    if (months < 0 || dayTime.isNegative()) {
+      content.append('-');
+      months = -months;
+      dayTime = dayTime.negated();
+    }
 
-    result.setDays(getDaysFromAxisDuration(duration1) / getDaysFromAxisDuration(duration2));
-    result.setHours(getHoursFromAxisDuration(duration1) / getHoursFromAxisDuration(duration2));
-    result.setMinutes(getMinutesFromAxisDuration(duration1) / getMinutesFromAxisDuration(duration2));
-    result.setSeconds(getSecondsFromAxisDuration(duration1) / getSecondsFromAxisDuration(duration2));
+    content.append('P');
 
-    return result;
-  }
+    if (months / 12 != 0)
+      content.append(months / 12).append('Y');
+    if (months % 12 != 0)
+      content.append(months % 12).append('M');
 
-  public static org.apache.axis.types.@NonNull Duration addYearMonthDurations(
-    org.apache.axis.types.@NonNull Duration duration1, org.apache.axis.types.@NonNull Duration duration2)
-  {
-    org.apache.axis.types.Duration result = new org.apache.axis.types.Duration();
-
-    result.setDays(getYearsFromAxisDuration(duration1) + getYearsFromAxisDuration(duration2));
-    result.setHours(getMonthsFromAxisDuration(duration1) + getMonthsFromAxisDuration(duration2));
+    long seconds = dayTime.getSeconds();
+    int nanos = dayTime.getNano();
 
-    return result;
-  }
+    if (seconds / SECONDS_PER_DAY != 0)
+      content.append(seconds / SECONDS_PER_DAY).append('D');
 
-  public static org.apache.axis.types.Duration subtractYearMonthDurations(org.apache.axis.types.Duration duration1,
-    org.apache.axis.types.Duration duration2)
-  {
-    org.apache.axis.types.Duration result = new org.apache.axis.types.Duration();
+    seconds %= SECONDS_PER_DAY;
 
-    result.setDays(getYearsFromAxisDuration(duration1) - getYearsFromAxisDuration(duration2));
-    result.setHours(getMonthsFromAxisDuration(duration1) - getMonthsFromAxisDuration(duration2));
+    if (seconds != 0 || nanos != 0) {
+      content.append('T');
+      if (seconds / SECONDS_PER_HOUR != 0)
+        content.append(seconds / SECONDS_PER_HOUR).append('H');
+      if (seconds % SECONDS_PER_HOUR / SECONDS_PER_MINUTE != 0)
+        content.append(seconds % SECONDS_PER_HOUR / SECONDS_PER_MINUTE).append('M');
+      if (seconds % SECONDS_PER_MINUTE != 0 || nanos != 0)
+        content.append(BigDecimal.valueOf(seconds % SECONDS_PER_MINUTE).add(BigDecimal.valueOf(nanos, 9))
+          .stripTrailingZeros().toPlainString()).append('S');
+    } else if (content.charAt(content.length() - 1) == 'P')
+      content.append("T0S");
 
-    return result;
+    return content.toString();
   }
 
-  public static org.apache.axis.types.Duration multiplyYearMonthDurations(org.apache.axis.types.Duration duration1,
-    org.apache.axis.types.Duration duration2)
-  {
-    org.apache.axis.types.Duration result = new org.apache.axis.types.Duration();
-
-    result.setDays(getYearsFromAxisDuration(duration1) * getYearsFromAxisDuration(duration2));
-    result.setHours(getMonthsFromAxisDuration(duration1) * getMonthsFromAxisDuration(duration2));
+  // Durations
 
-    return result;
+  @NonNull public static XSDDuration yearMonthDuration(int years, int months)
+  {
+    return new XSDDuration(Period.of(years, months, 0), Duration.ZERO);
   }
 
-  public static org.apache.axis.types.Duration divideYearMonthDurations(org.apache.axis.types.Duration duration1,
-    org.apache.axis.types.Duration duration2)
+  @NonNull public static XSDDuration dayTimeDuration(long days, long hours, long minutes, long seconds)
   {
-    org.apache.axis.types.Duration result = new org.apache.axis.types.Duration();
-
-    result.setDays(getYearsFromAxisDuration(duration1) / getYearsFromAxisDuration(duration2));
-    result.setHours(getMonthsFromAxisDuration(duration1) / getMonthsFromAxisDuration(duration2));
-
-    return result;
+    return new XSDDuration(Period.ZERO,
+      Duration.ofDays(days).plusHours(hours).plusMinutes(minutes).plusSeconds(seconds));
   }
 
-  public static org.apache.axis.types.Duration subtractDates(java.util.Date date1, java.util.Date date2)
+  @NonNull public static XSDDuration addYearMonthDurations(@NonNull XSDDuration duration1,
+    @NonNull XSDDuration duration2)
   {
-    Calendar calendar1 = new GregorianCalendar();
-    Calendar calendar2 = new GregorianCalendar();
-    calendar1.setTime(date1);
-    calendar2.setTime(date2);
-
-    int years = calendar1.get(Calendar.YEAR) - calendar2.get(Calendar.YEAR);
-    int months = calendar1.get(Calendar.MONTH) - calendar2.get(Calendar.MONTH);
-    int days = calendar1.get(Calendar.DAY_OF_MONTH) - calendar2.get(Calendar.DAY_OF_MONTH);
-    int hours = calendar1.get(Calendar.HOUR) - calendar2.get(Calendar.HOUR);
-    int minutes = calendar1.get(Calendar.MINUTE) - calendar2.get(Calendar.MINUTE);
-    double seconds = calendar1.get(Calendar.SECOND) - calendar2.get(Calendar.SECOND);
-
-    return new org.apache.axis.types.Duration(false, years, months, days, hours, minutes, seconds);
+    return new XSDDuration(duration1.getYearMonthPeriod().plus(duration2.getYearMonthPeriod()), Duration.ZERO);
   }
 
-  public static org.apache.axis.types.Duration subtractTimes(org.apache.axis.types.Time time1,
-    org.apache.axis.types.Time time2)
+  @NonNull public static XSDDuration subtractYearMonthDurations(@NonNull XSDDuration duration1,
+    @NonNull XSDDuration duration2)
   {
-    Calendar calendar1 = time1.getAsCalendar();
-    Calendar calendar2 = time2.getAsCalendar();
-    org.apache.axis.types.Duration result = new org.apache.axis.types.Duration();
-
-    int hours = calendar1.get(Calendar.HOUR) - calendar2.get(Calendar.HOUR);
-    int minutes = calendar1.get(Calendar.MINUTE) - calendar2.get(Calendar.MINUTE);
-    double seconds = calendar1.get(Calendar.SECOND) - calendar2.get(Calendar.SECOND);
-
-    result.setHours(hours);
-    result.setMinutes(minutes);
-    result.setSeconds(seconds);
-
-    return result;
+    return new XSDDuration(duration1.getYearMonthPeriod().minus(duration2.getYearMonthPeriod()), Duration.ZERO);
   }
 
-  public static java.util.Date addYearMonthDurationToUtilDateTime(java.util.Date date,
-    org.apache.axis.types.Duration duration)
+  /**
+   * The result is rounded to the nearest month, with halves rounded up.
+   */
+  @NonNull public static XSDDuration multiplyYearMonthDuration(@NonNull XSDDuration duration, double factor)
   {
-    Calendar calendar = new GregorianCalendar(), result = new GregorianCalendar();
-
-    calendar.setTime(date);
-
-    result.set(calendar.get(Calendar.YEAR) + getYearsFromAxisDuration(duration),
-      calendar.get(Calendar.MONTH) + getMonthsFromAxisDuration(duration), calendar.get(Calendar.DAY_OF_MONTH),
-      calendar.get(Calendar.HOUR), calendar.get(Calendar.MINUTE), calendar.get(Calendar.SECOND));
+    BigDecimal months = BigDecimal.valueOf(duration.getYearMonthPeriod().toTotalMonths())
+      .multiply(toBigDecimal(factor));
 
-    return result.getTime();
+    return yearMonthDurationOfMonths(months);
   }
 
-  public static java.util.Date addYearMonthDurationToUtilDate(java.util.Date date,
-    org.apache.axis.types.Duration duration)
+  /**
+   * The result is rounded to the nearest month, with halves rounded up.
+   */
+  @NonNull public static XSDDuration divideYearMonthDuration(@NonNull XSDDuration duration, double divisor)
   {
-    Calendar calendar = new GregorianCalendar(), resultCalendar = new GregorianCalendar();
-
-    calendar.setTime(date);
-
-    resultCalendar.set(calendar.get(Calendar.YEAR) + getYearsFromAxisDuration(duration),
-      calendar.get(Calendar.MONTH) + getMonthsFromAxisDuration(duration), calendar.get(Calendar.DAY_OF_MONTH));
+    BigDecimal months = BigDecimal.valueOf(duration.getYearMonthPeriod().toTotalMonths())
+      .divide(toNonZeroBigDecimal(divisor), 9, RoundingMode.HALF_UP);
 
-    return resultCalendar.getTime();
+    return yearMonthDurationOfMonths(months);
   }
 
-  public static java.util.Date subtractYearMonthDurationFromUtilDateTime(java.util.Date date,
-    org.apache.axis.types.Duration duration)
+  @NonNull public static XSDDuration addDayTimeDurations(@NonNull XSDDuration duration1, @NonNull XSDDuration duration2)
   {
-    Calendar calendar = new GregorianCalendar(), result = new GregorianCalendar();
-
-    calendar.setTime(date);
-
-    result.set(calendar.get(Calendar.YEAR) - getYearsFromAxisDuration(duration),
-      calendar.get(Calendar.MONTH) - getMonthsFromAxisDuration(duration), calendar.get(Calendar.DAY_OF_MONTH),
-      calendar.get(Calendar.HOUR), calendar.get(Calendar.MINUTE), calendar.get(Calendar.SECOND));
-
-    return result.getTime();
+    return new XSDDuration(Period.ZERO, duration1.getDayTimeDuration().plus(duration2.getDayTimeDuration()));
   }
 
-  public static java.util.@NonNull Date subtractYearMonthDurationFromUtilDate(java.util.@NonNull Date date,
-    org.apache.axis.types.@NonNull Duration duration)
+  @NonNull public static XSDDuration subtractDayTimeDurations(@NonNull XSDDuration duration1,
+    @NonNull XSDDuration duration2)
   {
-    Calendar calendar = new GregorianCalendar(), resultCalendar = new GregorianCalendar();
-
-    calendar.setTime(date);
-
-    resultCalendar.set(calendar.get(Calendar.YEAR) - getYearsFromAxisDuration(duration),
-      calendar.get(Calendar.MONTH) - getMonthsFromAxisDuration(duration), calendar.get(Calendar.DAY_OF_MONTH));
-
-    return resultCalendar.getTime();
+    return new XSDDuration(Period.ZERO, duration1.getDayTimeDuration().minus(duration2.getDayTimeDuration()));
   }
 
-  public static java.util.@NonNull Date addDayTimeDurationToUtilDate(java.util.@NonNull Date date,
-    org.apache.axis.types.@NonNull Duration duration)
+  @NonNull public static XSDDuration multiplyDayTimeDuration(@NonNull XSDDuration duration, double factor)
   {
-    Calendar calendar = new GregorianCalendar(), resultCalendar = new GregorianCalendar();
-
-    calendar.setTime(date);
-
-    resultCalendar.set(calendar.get(Calendar.YEAR), calendar.get(Calendar.MONTH),
-      calendar.get(Calendar.DAY_OF_MONTH) + getDaysFromAxisDuration(duration),
-      calendar.get(Calendar.HOUR) + getHoursFromAxisDuration(duration),
-      calendar.get(Calendar.MINUTE) + getMinutesFromAxisDuration(duration),
-      (int)(calendar.get(Calendar.SECOND) + getSecondsFromAxisDuration(duration)));
+    BigDecimal seconds = toSeconds(duration.getDayTimeDuration()).multiply(toBigDecimal(factor));
 
-    return resultCalendar.getTime();
+    return dayTimeDurationOfSeconds(seconds);
   }
 
-  public static java.util.@NonNull Date subtractDayTimeDurationFromUtilDate(java.util.@NonNull Date date,
-    org.apache.axis.types.@NonNull Duration duration)
+  @NonNull public static XSDDuration divideDayTimeDuration(@NonNull XSDDuration duration, double divisor)
   {
-    Calendar calendar = new GregorianCalendar(), resultCalendar = new GregorianCalendar();
+    BigDecimal seconds = toSeconds(duration.getDayTimeDuration())
+      .divide(toNonZeroBigDecimal(divisor), 9, RoundingMode.HALF_UP);
 
-    calendar.setTime(date);
+    return dayTimeDurationOfSeconds(seconds);
+  }
 
-    resultCalendar.set(calendar.get(Calendar.YEAR), calendar.get(Calendar.MONTH),
-      calendar.get(Calendar.DAY_OF_MONTH) - getDaysFromAxisDuration(duration),
-      calendar.get(Calendar.HOUR) - getHoursFromAxisDuration(duration),
-      calendar.get(Calendar.MINUTE) - getMinutesFromAxisDuration(duration),
-      (int)(calendar.get(Calendar.SECOND) - getSecondsFromAxisDuration(duration)));
+  // Dates, times and date times
 
-    return resultCalendar.getTime();
+  @NonNull public static XSDDuration subtractDates(@NonNull XSDDate date1, @NonNull XSDDate date2)
+  {
+    return new XSDDuration(Period.ZERO,
+      Duration.ofDays(ChronoUnit.DAYS.between(date2.getLocalDate(), date1.getLocalDate())));
   }
 
-  public static org.apache.axis.types.@NonNull Time addDayTimeDurationToTime(org.apache.axis.types.@NonNull Time time,
-    org.apache.axis.types.@NonNull Duration duration)
+  @NonNull public static XSDDuration subtractTimes(@NonNull XSDTime time1, @NonNull XSDTime time2)
   {
-    Calendar calendar = time.getAsCalendar(), resultCalendar = new GregorianCalendar();
-
-    resultCalendar.set(0, calendar.get(Calendar.DAY_OF_MONTH) + getDaysFromAxisDuration(duration),
-      calendar.get(Calendar.HOUR) + getHoursFromAxisDuration(duration),
-      calendar.get(Calendar.MINUTE) + getMinutesFromAxisDuration(duration),
-      (int)(calendar.get(Calendar.SECOND) + getSecondsFromAxisDuration(duration)));
-
-    return new org.apache.axis.types.Time(resultCalendar);
+    return new XSDDuration(Period.ZERO, Duration.between(time2.getUTCTime(), time1.getUTCTime()));
   }
 
-  public static org.apache.axis.types.Time subtractDayTimeDurationFromTime(org.apache.axis.types.@NonNull Time time,
-    org.apache.axis.types.@NonNull Duration duration)
+  @NonNull public static XSDDuration subtractDateTimesYieldingYearMonthDuration(@NonNull XSDDateTime dateTime1,
+    @NonNull XSDDateTime dateTime2)
   {
-    Calendar calendar = time.getAsCalendar(), resultCalendar = new GregorianCalendar();
+    long months = ChronoUnit.MONTHS.between(dateTime2.getUTCDateTime(), dateTime1.getUTCDateTime());
 
-    resultCalendar.set(0, calendar.get(Calendar.DAY_OF_MONTH) - getDaysFromAxisDuration(duration),
-      calendar.get(Calendar.HOUR) - getHoursFromAxisDuration(duration),
-      calendar.get(Calendar.MINUTE) - getMinutesFromAxisDuration(duration),
-      (int)(calendar.get(Calendar.SECOND) - getSecondsFromAxisDuration(duration)));
-
-    return new org.apache.axis.types.Time(resultCalendar);
+    return new XSDDuration(Period.ofMonths(Math.toIntExact(months)).normalized(), Duration.ZERO);
   }
 
-  public static org.apache.axis.types.@NonNull Duration subtractUtilDatesYieldingYearMonthDuration(
-    java.util.@NonNull Date date1, java.util.@NonNull Date date2)
+  @NonNull public static XSDDuration subtractDateTimesYieldingDayTimeDuration(@NonNull XSDDateTime dateTime1,
+    @NonNull XSDDateTime dateTime2)
   {
-    Calendar calendar1 = new GregorianCalendar();
-    Calendar calendar2 = new GregorianCalendar();
-    calendar1.setTime(date1);
-    calendar2.setTime(date2);
-
-    int years = calendar1.get(Calendar.YEAR) - calendar2.get(Calendar.YEAR);
-    int months = calendar1.get(Calendar.MONTH) - calendar2.get(Calendar.MONTH);
-
-    return new org.apache.axis.types.Duration(false, years, months, 0, 0, 0, 0);
+    return new XSDDuration(Period.ZERO, Duration.between(dateTime2.getUTCDateTime(), dateTime1.getUTCDateTime()));
   }
 
-  public static org.apache.axis.types.@NonNull Duration subtractUtilDatesYieldingDayTimeDuration(
-    java.util.@NonNull Date date1, java.util.@NonNull Date date2)
+  @NonNull public static XSDDateTime addDurationToDateTime(@NonNull XSDDateTime dateTime,
+    @NonNull XSDDuration duration)
   {
-    Calendar calendar1 = new GregorianCalendar();
-    Calendar calendar2 = new GregorianCalendar();
-    calendar1.setTime(date1);
-    calendar2.setTime(date2);
+    LocalDateTime result = dateTime.getLocalDateTime().plus(duration.getYearMonthPeriod())
+      .plus(duration.getDayTimeDuration());
 
-    int days = calendar1.get(Calendar.DAY_OF_MONTH) - calendar2.get(Calendar.DAY_OF_MONTH);
-    int hours = calendar1.get(Calendar.HOUR) - calendar2.get(Calendar.HOUR);
-    int minutes = calendar1.get(Calendar.MINUTE) - calendar2.get(Calendar.MINUTE);
-    double seconds = calendar1.get(Calendar.SECOND) - calendar2.get(Calendar.SECOND);
-
-    return new org.apache.axis.types.Duration(false, 0, 0, days, hours, minutes, seconds);
+    return new XSDDateTime(result, dateTime.getZoneOffset());
   }
 
-  @NonNull public static String utilDate2XSDDateTimeString(java.util.@NonNull Date date)
+  @NonNull public static XSDDateTime subtractDurationFromDateTime(@NonNull XSDDateTime dateTime,
+    @NonNull XSDDuration duration)
   {
-    return xsdDateTimeFormat.format(date);
-  }
+    LocalDateTime result = dateTime.getLocalDateTime().minus(duration.getYearMonthPeriod())
+      .minus(duration.getDayTimeDuration());
 
-  @NonNull public static String utilDate2XSDDateString(java.util.@NonNull Date date)
-  {
-    return xsdDateFormat.format(date);
+    return new XSDDateTime(result, dateTime.getZoneOffset());
   }
 
-  @NonNull public static String utilDate2XSDTimeString(java.util.@NonNull Date date)
+  /**
+   * The day-time part of the duration is added to the start of the date and any time of day in the result is
+   * discarded.
+   */
+  @NonNull public static XSDDate addDurationToDate(@NonNull XSDDate date, @NonNull XSDDuration duration)
   {
-    Calendar calendar = new GregorianCalendar();
-    calendar.setTime(date);
-    org.apache.axis.types.Time time = new org.apache.axis.types.Time(calendar);
-    return time.toString();
+    LocalDate result = date.getLocalDate().plus(duration.getYearMonthPeriod()).atStartOfDay()
+      .plus(duration.getDayTimeDuration()).toLocalDate();
+
+    return new XSDDate(result, date.getZoneOffset());
   }
 
-  public static org.apache.axis.types.@NonNull Time utilDate2XSDTime(java.util.@NonNull Date date)
+  @NonNull public static XSDDate subtractDurationFromDate(@NonNull XSDDate date, @NonNull XSDDuration duration)
   {
-    Calendar calendar = new GregorianCalendar();
-    calendar.setTime(date);
-    return new org.apache.axis.types.Time(calendar);
+    LocalDate result = date.getLocalDate().minus(duration.getYearMonthPeriod()).atStartOfDay()
+      .minus(duration.getDayTimeDuration()).toLocalDate();
+
+    return new XSDDate(result, date.getZoneOffset());
   }
 
-  public static java.util.@NonNull Date xsdDateTime2UtilDate(@NonNull XSDDateTime dateTime)
+  /**
+   * Only the day-time part of the duration is used; the result wraps around midnight.
+   */
+  @NonNull public static XSDTime addDurationToTime(@NonNull XSDTime time, @NonNull XSDDuration duration)
   {
-    return xsdDateTimeString2UtilDate(dateTime.getContent());
+    return new XSDTime(time.getLocalTime().plus(duration.getDayTimeDuration()), time.getZoneOffset());
   }
 
-  public static java.util.@NonNull Date xsdDateTimeString2UtilDate(@NonNull String content)
+  @NonNull public static XSDTime subtractDurationFromTime(@NonNull XSDTime time, @NonNull XSDDuration duration)
   {
-    try {
-      return xsdDateTimeFormat.parse(content);
-    } catch (ParseException e) {
-      throw new IllegalArgumentException("Invalid xsd:DateTime " + content);
-    }
+    return new XSDTime(time.getLocalTime().minus(duration.getDayTimeDuration()), time.getZoneOffset());
   }
 
-  public static java.util.@NonNull Date xsdDate2UtilDate(@NonNull XSDDate date)
+  // Conversions to and from java.util.Date; these use the default time zone of the JVM
+
+  @NonNull public static String utilDate2XSDDateTimeString(java.util.@NonNull Date date)
   {
-    return xsdDateString2UtilDate(date.getContent());
+    return formatXSDDateTime(utilDate2LocalDateTime(date), null);
   }
 
-  public static java.util.@NonNull Date xsdDateString2UtilDate(@NonNull String content)
+  @NonNull public static String utilDate2XSDDateString(java.util.@NonNull Date date)
   {
-    try {
-      return xsdDateFormat.parse(content);
-    } catch (ParseException e) {
-      throw new IllegalArgumentException("Invalid xsd:Date " + content);
-    }
+    return formatXSDDate(utilDate2LocalDateTime(date).toLocalDate(), null);
   }
 
-  public static java.util.@NonNull Date xsdTimeString2UtilDate(@NonNull String content)
+  /**
+   * Times are expressed in UTC with millisecond precision, e.g., 13:45:30.250Z.
+   */
+  @NonNull public static String utilDate2XSDTimeString(java.util.@NonNull Date date)
   {
-    org.apache.axis.types.Time time = new org.apache.axis.types.Time(content);
+    LocalTime time = LocalDateTime.ofInstant(Instant.ofEpochMilli(date.getTime()), ZoneOffset.UTC).toLocalTime();
 
-    return time.getAsCalendar().getTime();
+    return utilDateTimeFormatter.format(time) + xsdOffsetFormatter.format(ZoneOffset.UTC);
   }
 
-  public static org.apache.axis.types.@NonNull Time xsdTimeString2AxisTime(@NonNull String content)
+  public static java.util.@NonNull Date xsdDateTime2UtilDate(@NonNull XSDDateTime dateTime)
   {
-    return new org.apache.axis.types.Time(content);
+    ZoneOffset zoneOffset = dateTime.getZoneOffset();
+    Instant instant = zoneOffset != null ?
+      dateTime.getLocalDateTime().toInstant(zoneOffset) :
+      dateTime.getLocalDateTime().atZone(ZoneId.systemDefault()).toInstant();
+
+    return new java.util.Date(instant.toEpochMilli());
   }
 
-  public static org.apache.axis.types.@NonNull Duration xsdDuration2AxisDuration(@NonNull XSDDuration duration)
+  public static java.util.@NonNull Date xsdDate2UtilDate(@NonNull XSDDate date)
   {
-    return new org.apache.axis.types.Duration(duration.getContent());
+    return new java.util.Date(
+      date.getLocalDate().atStartOfDay(ZoneId.systemDefault()).toInstant().toEpochMilli());
   }
 
-  public static org.apache.axis.types.@NonNull Duration xsdDurationString2AxisDuration(@NonNull String content)
+  @NonNull static LocalDateTime utilDate2LocalDateTime(java.util.@NonNull Date date)
   {
-    return new org.apache.axis.types.Duration(content);
+    return LocalDateTime.ofInstant(Instant.ofEpochMilli(date.getTime()), ZoneId.systemDefault());
   }
 
   @NonNull public static String date2JDBCDateTimeString(java.util.@NonNull Date date)
   {
-    return jdbcDateTimeFormat.format(date);
+    return new java.sql.Timestamp(date.getTime()).toString();
   }
 
-  @NonNull public static String date2JDBCDateString(java.util.Date date)
+  @NonNull public static String date2JDBCDateString(java.util.@NonNull Date date)
   {
-    return jdbcDateFormat.format(date);
+    return new java.sql.Date(date.getTime()).toString();
   }
 
   public static java.util.@NonNull Date jdbcDateTimeString2UtilDate(@NonNull String content)
   {
     try {
-      return jdbcDateTimeFormat.parse(content);
-    } catch (ParseException e) {
+      return new java.util.Date(java.sql.Timestamp.valueOf(content).getTime());
+    } catch (IllegalArgumentException e) {
       throw new IllegalArgumentException("Invalid JDBC datetime " + content);
     }
   }
@@ -552,18 +432,20 @@ public class XSDTimeUtil
   public static java.util.@NonNull Date jdbcDateString2UtilDate(@NonNull String content)
   {
     try {
-      return jdbcDateFormat.parse(content);
-    } catch (ParseException e) {
+      return new java.util.Date(java.sql.Date.valueOf(content).getTime());
+    } catch (IllegalArgumentException e) {
       throw new IllegalArgumentException("Invalid JDBC date " + content);
     }
   }
 
+  // Validation
+
   public static boolean isValidXSDDateTimeString(@NonNull String content)
   {
     try {
-      xsdDateTimeFormat.parse(content);
+      parseXSDDateTime(content);
       return true;
-    } catch (ParseException e) {
+    } catch (IllegalArgumentException e) {
       return false;
     }
   }
@@ -571,9 +453,9 @@ public class XSDTimeUtil
   public static boolean isValidXSDDateString(@NonNull String content)
   {
     try {
-      xsdDateFormat.parse(content);
+      parseXSDDate(content);
       return true;
-    } catch (ParseException e) {
+    } catch (IllegalArgumentException e) {
       return false;
     }
   }
@@ -581,9 +463,9 @@ public class XSDTimeUtil
   public static boolean isValidXSDTimeString(@NonNull String content)
   {
     try {
-      new org.apache.axis.types.Time(content);
+      parseXSDTime(content);
       return true;
-    } catch (NumberFormatException e) {
+    } catch (IllegalArgumentException e) {
       return false;
     }
   }
@@ -591,7 +473,7 @@ public class XSDTimeUtil
   public static boolean isValidXSDDurationString(@NonNull String content)
   {
     try {
-      new org.apache.axis.types.Duration(content);
+      parseXSDDuration(content);
       return true;
     } catch (IllegalArgumentException e) {
       return false;
@@ -601,130 +483,55 @@ public class XSDTimeUtil
   public static boolean isValidJDBCDateTimeString(@NonNull String content)
   {
     try {
-      jdbcDateTimeFormat.parse(content);
+      jdbcDateTimeString2UtilDate(content);
       return true;
-    } catch (ParseException e) {
+    } catch (IllegalArgumentException e) {
       return false;
     }
   }
 
-  public static int addAxisDurationYears(org.apache.axis.types.@NonNull Duration duration1,
-    org.apache.axis.types.@NonNull Duration duration2)
-  {
-    return getYearsFromAxisDuration(duration1) + getYearsFromAxisDuration(duration2);
-  }
-
-  public static int addAxisDurationMonths(org.apache.axis.types.@NonNull Duration duration1,
-    org.apache.axis.types.@NonNull Duration duration2)
-  {
-    return getMonthsFromAxisDuration(duration1) + getMonthsFromAxisDuration(duration2);
-  }
-
-  public static int addAxisDurationDays(org.apache.axis.types.@NonNull Duration duration1,
-    org.apache.axis.types.@NonNull Duration duration2)
-  {
-    return getDaysFromAxisDuration(duration1) + getDaysFromAxisDuration(duration2);
-  }
-
-  public static int addAxisDurationHours(org.apache.axis.types.@NonNull Duration duration1,
-    org.apache.axis.types.@NonNull Duration duration2)
-  {
-    return getHoursFromAxisDuration(duration1) + getHoursFromAxisDuration(duration2);
-  }
-
-  public static int addAxisDurationMinutes(org.apache.axis.types.@NonNull Duration duration1,
-    org.apache.axis.types.@NonNull Duration duration2)
-  {
-    return getMinutesFromAxisDuration(duration1) + getMinutesFromAxisDuration(duration2);
-  }
-
-  public static double addAxisDurationSeconds(org.apache.axis.types.@NonNull Duration duration1,
-    org.apache.axis.types.@NonNull Duration duration2)
-  {
-    return getSecondsFromAxisDuration(duration1) + getSecondsFromAxisDuration(duration2);
-  }
-
-  public static int subtractAxisDurationYears(org.apache.axis.types.@NonNull Duration duration1,
-    org.apache.axis.types.@NonNull Duration duration2)
+  @NonNull private static XSDDuration yearMonthDurationOfMonths(@NonNull BigDecimal months)
   {
-    return getYearsFromAxisDuration(duration1) - getYearsFromAxisDuration(duration2);
-  }
-
-  public static int subtractAxisDurationMonths(org.apache.axis.types.@NonNull Duration duration1,
-    org.apache.axis.types.@NonNull Duration duration2)
-  {
-    return getMonthsFromAxisDuration(duration1) - getMonthsFromAxisDuration(duration2);
-  }
-
-  public static int subtractAxisDurationDays(org.apache.axis.types.@NonNull Duration duration1,
-    org.apache.axis.types.@NonNull Duration duration2)
-  {
-    return getDaysFromAxisDuration(duration1) - getDaysFromAxisDuration(duration2);
-  }
-
-  public static int subtractAxisDurationHours(org.apache.axis.types.@NonNull Duration duration1,
-    org.apache.axis.types.@NonNull Duration duration2)
-  {
-    return getHoursFromAxisDuration(duration1) - getHoursFromAxisDuration(duration2);
-  }
+    try {
+      int roundedMonths = months.setScale(0, RoundingMode.HALF_UP).intValueExact();
 
-  public static int subtractAxisDurationMinutes(org.apache.axis.types.@NonNull Duration duration1,
-    org.apache.axis.types.@NonNull Duration duration2)
-  {
-    return getMinutesFromAxisDuration(duration1) - getMinutesFromAxisDuration(duration2);
+      return new XSDDuration(Period.ofMonths(roundedMonths).normalized(), Duration.ZERO);
+    } catch (ArithmeticException e) {
+      throw new IllegalArgumentException("xsd:Duration of " + months + " months is out of range", e);
+    }
   }
 
-  public static double subtractAxisDurationSeconds(org.apache.axis.types.@NonNull Duration duration1,
-    org.apache.axis.types.@NonNull Duration duration2)
+  @NonNull private static XSDDuration dayTimeDurationOfSeconds(@NonNull BigDecimal seconds)
   {
-    return getSecondsFromAxisDuration(duration1) - getSecondsFromAxisDuration(duration2);
-  }
+    try {
+      BigDecimal nanos = seconds.setScale(9, RoundingMode.HALF_UP).movePointRight(9);
+      BigDecimal[] secondsAndNanos = nanos.divideAndRemainder(BigDecimal.valueOf(1000000000L));
 
-  private static int getYearsFromAxisDuration(org.apache.axis.types.@NonNull Duration duration)
-  {
-    if (duration.isNegative())
-      return -duration.getYears();
-    else
-      return duration.getYears();
+      return new XSDDuration(Period.ZERO,
+        Duration.ofSeconds(secondsAndNanos[0].longValueExact(), secondsAndNanos[1].longValueExact()));
+    } catch (ArithmeticException e) {
+      throw new IllegalArgumentException("xsd:Duration of " + seconds + " seconds is out of range", e);
+    }
   }
 
-  private static int getMonthsFromAxisDuration(org.apache.axis.types.@NonNull Duration duration)
+  @NonNull private static BigDecimal toSeconds(@NonNull Duration duration)
   {
-    if (duration.isNegative())
-      return -duration.getMonths();
-    else
-      return duration.getMonths();
+    return BigDecimal.valueOf(duration.getSeconds()).add(BigDecimal.valueOf(duration.getNano(), 9));
   }
 
-  private static int getDaysFromAxisDuration(org.apache.axis.types.@NonNull Duration duration)
+  @NonNull private static BigDecimal toBigDecimal(double value)
   {
-    if (duration.isNegative())
-      return -duration.getDays();
-    else
-      return duration.getDays();
-  }
+    if (Double.isNaN(value) || Double.isInfinite(value))
+      throw new IllegalArgumentException("invalid duration factor " + value);
 
-  private static int getHoursFromAxisDuration(org.apache.axis.types.@NonNull Duration duration)
-  {
-    if (duration.isNegative())
-      return -duration.getHours();
-    else
-      return duration.getHours();
+    return BigDecimal.valueOf(value);
   }
 
-  private static int getMinutesFromAxisDuration(org.apache.axis.types.@NonNull Duration duration)
+  @NonNull private static BigDecimal toNonZeroBigDecimal(double value)
   {
-    if (duration.isNegative())
-      return -duration.getMinutes();
-    else
-      return duration.getMinutes();
-  }
+    if (value == 0.0)
+      throw new IllegalArgumentException("duration divisor may not be zero");
 
-  private static double getSecondsFromAxisDuration(org.apache.axis.types.@NonNull Duration duration)
-  {
-    if (duration.isNegative())
-      return -duration.getSeconds();
-    else
-      return duration.getSeconds();
+    return toBigDecimal(value);
   }
 }
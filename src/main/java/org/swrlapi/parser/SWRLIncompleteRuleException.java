@@ -13,4 +13,9 @@ public class SWRLIncompleteRuleException extends SWRLParseException
   {
     super(message);
   }
+
+  public SWRLIncompleteRuleException(@NonNull String message, int errorOffset)
+  {
+    super(message, errorOffset);
+  }
 }
@@ -9,13 +9,31 @@ public class SWRLParseException extends Exception
 {
   private static final long serialVersionUID = 1L;
 
+  private final int errorOffset;
+
   public SWRLParseException()
   {
     super();
+    this.errorOffset = -1;
   }
 
   public SWRLParseException(@NonNull String s)
   {
     super(s);
+    this.errorOffset = -1;
+  }
+
+  public SWRLParseException(@NonNull String s, int errorOffset)
+  {
+    super(s);
+    this.errorOffset = errorOffset;
+  }
+
+  /**
+   * @return The offset in the rule text at which the error was detected or -1 if it is not known
+   */
+  public int getErrorOffset()
+  {
+    return this.errorOffset;
   }
 }
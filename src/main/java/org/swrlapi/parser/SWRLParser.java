@@ -69,7 +69,7 @@ public class SWRLParser
   public Optional<@NonNull SWRLRule> parseSWRLRule(@NonNull String ruleText, boolean interactiveParseOnly,
     @NonNull String ruleName, @NonNull String comment) throws SWRLParseException
   {
-    SWRLTokenizer tokenizer = new SWRLTokenizer(ruleText.trim(), interactiveParseOnly);
+    SWRLTokenizer tokenizer = new SWRLTokenizer(ruleText, interactiveParseOnly);
     Optional<Set<SWRLAtom>> head = !tokenizer.isInteractiveParseOnly() ?
       Optional.of(this.swrlParserSupport.createSWRLHeadAtomList()) :
       Optional.<Set<SWRLAtom>>empty();
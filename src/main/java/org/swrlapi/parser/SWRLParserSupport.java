@@ -12,7 +12,6 @@ import org.semanticweb.owlapi.model.OWLDatatype;
 import org.semanticweb.owlapi.model.OWLLiteral;
 import org.semanticweb.owlapi.model.OWLNamedIndividual;
 import org.semanticweb.owlapi.model.OWLObjectProperty;
-import org.semanticweb.owlapi.model.OWLOntology;
 import org.semanticweb.owlapi.model.SWRLAtom;
 import org.semanticweb.owlapi.model.SWRLBuiltInAtom;
 import org.semanticweb.owlapi.model.SWRLClassAtom;
@@ -27,8 +26,6 @@ import org.semanticweb.owlapi.model.SWRLObjectPropertyAtom;
 import org.semanticweb.owlapi.model.SWRLRule;
 import org.semanticweb.owlapi.model.SWRLSameIndividualAtom;
 import org.semanticweb.owlapi.model.SWRLVariable;
-import org.semanticweb.owlapi.model.parameters.Imports;
-import org.semanticweb.owlapi.vocab.OWLRDFVocabulary;
 import org.semanticweb.owlapi.vocab.XSDVocabulary;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -39,6 +36,7 @@ import org.swrlapi.builtins.arguments.SWRLDatatypeBuiltInArgument;
 import org.swrlapi.builtins.arguments.SWRLNamedIndividualBuiltInArgument;
 import org.swrlapi.builtins.arguments.SWRLObjectPropertyBuiltInArgument;
 import org.swrlapi.core.IRIResolver;
+import org.swrlapi.core.OWLEntitySymbolTable;
 import org.swrlapi.core.SWRLAPIOWLOntology;
 import org.swrlapi.factory.OWLLiteralFactory;
 import org.swrlapi.factory.SWRLAPIOWLDataFactory;
@@ -69,40 +67,32 @@ class SWRLParserSupport
 
   public boolean isOWLEntity(@NonNull String shortName)
   {
-    return isOWLClass(shortName) || isOWLNamedIndividual(shortName) || isOWLObjectProperty(shortName)
-      || isOWLDataProperty(shortName) || isOWLAnnotationProperty(shortName) || isOWLDatatype(shortName);
+    return getOWLEntitySymbolTable().isOWLEntity(prefixedName2IRI(shortName)) || isOWLDatatype(shortName);
   }
 
   public boolean isOWLClass(@NonNull String shortName)
   {
-    IRI classIRI = prefixedName2IRI(shortName);
-
-    return getOWLOntology().containsClassInSignature(classIRI, Imports.INCLUDED) || classIRI
-      .equals(OWLRDFVocabulary.OWL_THING.getIRI()) || classIRI.equals(OWLRDFVocabulary.OWL_NOTHING.getIRI());
+    return getOWLEntitySymbolTable().isOWLClass(prefixedName2IRI(shortName));
   }
 
   public boolean isOWLNamedIndividual(@NonNull String shortName)
   {
-    IRI individualIRI = prefixedName2IRI(shortName);
-    return getOWLOntology().containsIndividualInSignature(individualIRI, Imports.INCLUDED);
+    return getOWLEntitySymbolTable().isOWLNamedIndividual(prefixedName2IRI(shortName));
   }
 
   public boolean isOWLObjectProperty(@NonNull String shortName)
   {
-    IRI propertyIRI = prefixedName2IRI(shortName);
-    return getOWLOntology().containsObjectPropertyInSignature(propertyIRI, Imports.INCLUDED);
+    return getOWLEntitySymbolTable().isOWLObjectProperty(prefixedName2IRI(shortName));
   }
 
   public boolean isOWLDataProperty(@NonNull String shortName)
   {
-    IRI propertyIRI = prefixedName2IRI(shortName);
-    return getOWLOntology().containsDataPropertyInSignature(propertyIRI, Imports.INCLUDED);
+    return getOWLEntitySymbolTable().isOWLDataProperty(prefixedName2IRI(shortName));
   }
 
   public boolean isOWLAnnotationProperty(@NonNull String shortName)
   {
-    IRI propertyIRI = prefixedName2IRI(shortName);
-    return getOWLOntology().containsAnnotationPropertyInSignature(propertyIRI, Imports.INCLUDED);
+    return getOWLEntitySymbolTable().isOWLAnnotationProperty(prefixedName2IRI(shortName));
   }
 
   // TODO This is very arbitrary. See if we can loadExternalSWRLBuiltInLibraries a method in the OWLAPI to determine if a shortName is a datatype.
@@ -415,9 +405,9 @@ class SWRLParserSupport
     return this.swrlapiOWLOntology;
   }
 
-  @NonNull private OWLOntology getOWLOntology()
+  @NonNull private OWLEntitySymbolTable getOWLEntitySymbolTable()
   {
-    return getSWRLAPIOWLOntology().getOWLOntology();
+    return getSWRLAPIOWLOntology().getOWLEntitySymbolTable();
   }
 
   @NonNull private SWRLAPIOWLDataFactory getSWRLAPIOWLDataFactory()
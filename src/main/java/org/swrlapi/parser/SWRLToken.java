@@ -14,11 +14,13 @@ class SWRLToken
 {
   @NonNull private final SWRLTokenType tokenType;
   @NonNull private final String value;
+  private final int offset;
 
-  public SWRLToken(@NonNull SWRLTokenType tokenType, @NonNull String value)
+  public SWRLToken(@NonNull SWRLTokenType tokenType, @NonNull String value, int offset)
   {
     this.tokenType = tokenType;
     this.value = value;
+    this.offset = offset;
   }
 
   @NonNull public SWRLTokenType getTokenType()
@@ -31,6 +33,14 @@ class SWRLToken
     return this.value;
   }
 
+  /**
+   * @return The offset of the first character of the token in the rule text
+   */
+  public int getOffset()
+  {
+    return this.offset;
+  }
+
   public boolean isImp()
   {
     return this.tokenType == SWRLTokenType.IMP;
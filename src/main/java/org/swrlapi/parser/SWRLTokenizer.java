@@ -1,13 +1,8 @@
 package org.swrlapi.parser;
 
-import org.checkerframework.checker.initialization.qual.UnderInitialization;
 import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
 
-import java.io.IOException;
-import java.io.Reader;
-import java.io.StreamTokenizer;
-import java.io.StringReader;
-import java.math.BigInteger;
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
@@ -17,6 +12,15 @@ import java.util.Set;
  * Tokenizer generates a {@link org.swrlapi.parser.SWRLParseException} for invalid input and a
  * {@link org.swrlapi.parser.SWRLIncompleteRuleException} (which is a subclass of
  * {@link org.swrlapi.parser.SWRLParseException}) for valid but incomplete input.
+ * <p>
+ * Tokens are scanned directly from the input characters as the parser asks for them, so a rule is tokenized only as
+ * far as it is parsed. Each token records its offset in the input, and exceptions raised by the tokenizer record the
+ * offset at which the error was detected (see {@link org.swrlapi.parser.SWRLParseException#getErrorOffset()}).
+ * <p>
+ * Whitespace is any character up to and including space. Words are made of letters, digits, the characters
+ * <code>:_-/#</code>, and any character above 159. Strings are enclosed in double quotes, end at a closing quote or
+ * the end of the line, and may contain the escape sequences recognized by {@link java.io.StreamTokenizer}. All other
+ * characters are single-character tokens.
  *
  * @see org.swrlapi.parser.SWRLToken
  * @see org.swrlapi.parser.SWRLParser
@@ -28,43 +32,52 @@ class SWRLTokenizer
   @NonNull private static final char wordChars[] = { ':', '_', '-', '/', '#' };
   @NonNull private static final char ordinaryChars[] = { '.', '^', '<', '>', '(', ')', '?' };
 
-  @NonNull private final MyStreamTokenizer tokenizer;
+  private static final int END_OF_INPUT = -1;
+  private static final int WORD = -2;
+  private static final int QUOTED_STRING = -3;
 
+  @NonNull private static final boolean[] isWordChar = new boolean[160];
+
+  static {
+    for (char c = 'a'; c <= 'z'; c++)
+      isWordChar[c] = true;
+    for (char c = 'A'; c <= 'Z'; c++)
+      isWordChar[c] = true;
+    for (char c = '0'; c <= '9'; c++)
+      isWordChar[c] = true;
+    for (char wordChar : wordChars)
+      isWordChar[wordChar] = true;
+  }
+
+  @NonNull private final CharSequence input;
+  private final int inputLength; // Excludes trailing whitespace, which only an unterminated string can contain
   @NonNull private final Set<@NonNull String> swrlVariables;
   @NonNull private final List<@NonNull SWRLToken> tokens;
   private final boolean interactiveParseOnly;
   private int tokenPosition;
 
-  public SWRLTokenizer(@NonNull String input, boolean interactiveParseOnly) throws SWRLParseException
-  {
-    this.tokenizer = new MyStreamTokenizer(new StringReader(input));
+  // Scanner state: the offset of the next unread character and the value and offset of the last raw token
+  private int inputOffset;
+  @NonNull private String rawTokenValue;
+  private int rawTokenOffset;
+  private boolean endOfInput;
+  @Nullable private SWRLParseException pendingException;
 
+  public SWRLTokenizer(@NonNull CharSequence input, boolean interactiveParseOnly)
+  {
+    this.input = input;
+    this.inputLength = trimmedLength(input);
     this.swrlVariables = new HashSet<>();
+    this.tokens = new ArrayList<>();
     this.interactiveParseOnly = interactiveParseOnly;
-
-    for (char wordChar : wordChars)
-      this.tokenizer.wordChars(wordChar, wordChar);
-
-    this.tokenizer.wordChars('0', '9');
-
-    for (char ordinaryChar : ordinaryChars)
-      this.tokenizer.ordinaryChar(ordinaryChar);
-
-    this.tokens = generateTokens();
     this.tokenPosition = 0;
+    this.inputOffset = 0;
+    this.rawTokenValue = "";
+    this.rawTokenOffset = 0;
+    this.endOfInput = false;
+    this.pendingException = null;
   }
 
-  // If we want to list:
-  // this.tokenizer.ordinaryChar('!');
-  // // Skip double quote
-  // this.tokenizer.ordinaryChars('$', '/');
-  // // Skip colon
-  // this.tokenizer.ordinaryChars(';', '@');
-  // this.tokenizer.ordinaryChars('[', '^');
-  // // Skip underscore
-  // this.tokenizer.ordinaryChar('`');
-  // this.tokenizer.ordinaryChars('{', '~');
-
   public void reset()
   {
     this.tokenPosition = 0;
@@ -79,7 +92,7 @@ class SWRLTokenizer
       if (token.getTokenType() == expectedTokenType)
         return token;
       else
-        throw new SWRLParseException(unexpectedTokenMessage);
+        throw new SWRLParseException(unexpectedTokenMessage, token.getOffset());
     } else
       throw generateEndOfRuleException(unexpectedTokenMessage);
   }
@@ -92,24 +105,30 @@ class SWRLTokenizer
       throw generateEndOfRuleException(noTokenMessage);
   }
 
+  /**
+   * Input that cannot be tokenized counts as a further token; the error is thrown when that token is retrieved.
+   *
+   * @return True if there is input remaining after the current token
+   */
   public boolean hasMoreTokens()
   {
-    return this.tokenPosition < this.tokens.size();
+    return this.tokenPosition < this.tokens.size() || scanToken() || this.pendingException != null;
   }
 
   @NonNull public SWRLToken peekToken(@NonNull String message) throws SWRLParseException
   {
-    if (this.tokenPosition < this.tokens.size())
-      return this.tokens.get(this.tokenPosition);
+    if (hasMoreTokens())
+      return currentToken();
     else
       throw generateEndOfRuleException(message);
   }
 
   public void skipToken() throws SWRLParseException
   {
-    if (this.tokenPosition < this.tokens.size())
+    if (hasMoreTokens()) {
+      currentToken();
       this.tokenPosition++;
-    else
+    } else
       throw generateEndOfRuleException("End of rule reached unexpectedly!");
   }
 
@@ -153,9 +172,22 @@ class SWRLTokenizer
   }
 
   @NonNull private SWRLToken getToken() throws SWRLParseException
+  {
+    if (hasMoreTokens()) {
+      SWRLToken token = currentToken();
+      this.tokenPosition++;
+      return token;
+    } else
+      throw generateEndOfRuleException("Incomplete rule!");
+  }
+
+  // Must only be called after hasMoreTokens() returns true
+  @NonNull private SWRLToken currentToken() throws SWRLParseException
   {
     if (this.tokenPosition < this.tokens.size())
-      return this.tokens.get(this.tokenPosition++);
+      return this.tokens.get(this.tokenPosition);
+    else if (this.pendingException != null)
+      throw this.pendingException;
     else
       throw generateEndOfRuleException("Incomplete rule!");
   }
@@ -167,165 +199,281 @@ class SWRLTokenizer
       SWRLToken token = getToken();
 
       if (token.getTokenType() != tokenType)
-        throw new SWRLParseException(unexpectedTokenMessage + ", got '" + token.getValue() + "'");
+        throw new SWRLParseException(unexpectedTokenMessage + ", got '" + token.getValue() + "'", token.getOffset());
     } else
       throw generateEndOfRuleException(unexpectedTokenMessage);
   }
 
-  @UnderInitialization @NonNull private List<@NonNull SWRLToken> generateTokens() throws SWRLParseException
+  // Scan the next token into the token list; return false at the end of the input or if the input is invalid
+  private boolean scanToken()
   {
-    List<@NonNull SWRLToken> tokens = new ArrayList<>();
-    SWRLToken token = generateToken();
-    while (token.getTokenType() != SWRLToken.SWRLTokenType.END_OF_INPUT) {
-      tokens.add(token);
-      token = generateToken();
-    }
-    return tokens;
-  }
+    if (this.endOfInput || this.pendingException != null)
+      return false;
 
-  @NonNull private SWRLToken generateToken() throws SWRLParseException
-  {
     try {
-      return convertToken2SWRLToken(this.tokenizer.nextToken());
-    } catch (IOException e) {
-      throw new SWRLParseException("Error tokenizing " + (e.getMessage() != null ? e.getMessage() : ""));
+      SWRLToken token = generateToken();
+      if (token.isEndOfInput()) {
+        this.endOfInput = true;
+        return false;
+      } else {
+        this.tokens.add(token);
+        return true;
+      }
+    } catch (SWRLParseException e) {
+      this.pendingException = e;
+      return false;
     }
   }
 
-  @NonNull private SWRLToken convertToken2SWRLToken(int tokenType) throws SWRLParseException, IOException
+  @NonNull private SWRLToken generateToken() throws SWRLParseException
   {
+    int tokenType = nextRawToken();
+    int tokenOffset = this.rawTokenOffset;
+
     switch (tokenType) {
-    case StreamTokenizer.TT_EOF:
-      return new SWRLToken(SWRLToken.SWRLTokenType.END_OF_INPUT, "");
-    case StreamTokenizer.TT_EOL:
-      return new SWRLToken(SWRLToken.SWRLTokenType.END_OF_INPUT, "");
-    case StreamTokenizer.TT_NUMBER:
-      throw new SWRLParseException("internal error - not expecting a StreamTokenizer.TT_NUMBER");
-    case StreamTokenizer.TT_WORD: {
-      String value = this.tokenizer.getValue();
+    case END_OF_INPUT:
+      return new SWRLToken(SWRLToken.SWRLTokenType.END_OF_INPUT, "", tokenOffset);
+    case WORD: {
+      String value = this.rawTokenValue;
       if (value.equalsIgnoreCase("not")) {
-        return new SWRLToken(SWRLToken.SWRLTokenType.NOT, "not");
+        return new SWRLToken(SWRLToken.SWRLTokenType.NOT, "not", tokenOffset);
       } else if (value.equalsIgnoreCase("and")) {
-        return new SWRLToken(SWRLToken.SWRLTokenType.AND, "and");
+        return new SWRLToken(SWRLToken.SWRLTokenType.AND, "and", tokenOffset);
       } else if (value.equalsIgnoreCase("or")) {
-        return new SWRLToken(SWRLToken.SWRLTokenType.OR, "or");
+        return new SWRLToken(SWRLToken.SWRLTokenType.OR, "or", tokenOffset);
       } else {
         boolean negativeNumeric = false;
         if (value.equals("-")) {
-          int nextTokenType = this.tokenizer.nextToken();
+          int nextTokenType = nextRawToken();
           if (nextTokenType == '>')
-            return new SWRLToken(SWRLToken.SWRLTokenType.IMP, "->");
-          else if (nextTokenType == StreamTokenizer.TT_EOF)
+            return new SWRLToken(SWRLToken.SWRLTokenType.IMP, "->", tokenOffset);
+          else if (nextTokenType == END_OF_INPUT)
             throw generateEndOfRuleException("Expecting '>' or integer or decimal after '-'");
-          else if (nextTokenType != StreamTokenizer.TT_WORD)
-            throw new SWRLParseException("Expecting '>' or integer or decimal after '-'");
+          else if (nextTokenType != WORD)
+            throw new SWRLParseException("Expecting '>' or integer or decimal after '-'", this.rawTokenOffset);
           else
             negativeNumeric = true;
         }
         if (isInteger(value)) {
           // See if it is followed by a '.', in which case it should be a decimal
-          if (this.tokenizer.nextToken() == '.') { // Found a . so expecting rest of decimal
-            int trailingTokenType = this.tokenizer.nextToken();
-            String trailingValue = this.tokenizer.getValue();
-            if (trailingTokenType == StreamTokenizer.TT_WORD && isInteger(trailingValue)) {
+          int afterIntegerOffset = this.inputOffset;
+          if (nextRawToken() == '.') { // Found a . so expecting rest of decimal
+            int trailingTokenType = nextRawToken();
+            String trailingValue = this.rawTokenValue;
+            if (trailingTokenType == WORD && isInteger(trailingValue)) {
               String decimalValue = value + "." + trailingValue;
               decimalValue = negativeNumeric ? "-" + decimalValue : decimalValue;
-              return new SWRLToken(SWRLToken.SWRLTokenType.DECIMAL, decimalValue);
-            } else if (trailingTokenType == StreamTokenizer.TT_EOF)
+              return new SWRLToken(SWRLToken.SWRLTokenType.DECIMAL, decimalValue, tokenOffset);
+            } else if (trailingTokenType == END_OF_INPUT)
               throw generateEndOfRuleException("Expecting decimal fraction part after '.'");
             else
-              throw new SWRLParseException("Expecting decimal fraction part after '.'");
+              throw new SWRLParseException("Expecting decimal fraction part after '.'", this.rawTokenOffset);
           } else { // No following '.' so it is an integer
-            this.tokenizer.pushBack();
+            this.inputOffset = afterIntegerOffset;
             String integerValue = negativeNumeric ? "-" + value : value;
-            return new SWRLToken(SWRLToken.SWRLTokenType.INTEGER, integerValue);
+            return new SWRLToken(SWRLToken.SWRLTokenType.INTEGER, integerValue, tokenOffset);
           }
         } else { // Value is not an integer
           if (negativeNumeric) // If negative, value should be an integer or decimal
-            throw new SWRLParseException("Expecting integer or decimal");
+            throw new SWRLParseException("Expecting integer or decimal", this.rawTokenOffset);
           else // Must be an identifier
-            return new SWRLToken(SWRLToken.SWRLTokenType.SHORTNAME, value);
+            return new SWRLToken(SWRLToken.SWRLTokenType.SHORTNAME, value, tokenOffset);
         }
       }
     }
-    case '"':
-      return new SWRLToken(SWRLToken.SWRLTokenType.STRING, this.tokenizer.getValue());
+    case QUOTED_STRING:
+      return new SWRLToken(SWRLToken.SWRLTokenType.STRING, this.rawTokenValue, tokenOffset);
     case ',':
-      return new SWRLToken(SWRLToken.SWRLTokenType.COMMA, ",");
+      return new SWRLToken(SWRLToken.SWRLTokenType.COMMA, ",", tokenOffset);
     case '?':
-      return new SWRLToken(SWRLToken.SWRLTokenType.QUESTION, "?");
+      return new SWRLToken(SWRLToken.SWRLTokenType.QUESTION, "?", tokenOffset);
     case '(':
-      return new SWRLToken(SWRLToken.SWRLTokenType.LPAREN, "(");
+      return new SWRLToken(SWRLToken.SWRLTokenType.LPAREN, "(", tokenOffset);
     case ')':
-      return new SWRLToken(SWRLToken.SWRLTokenType.RPAREN, ")");
+      return new SWRLToken(SWRLToken.SWRLTokenType.RPAREN, ")", tokenOffset);
     case '.':
-      return new SWRLToken(SWRLToken.SWRLTokenType.RING, ".");
+      return new SWRLToken(SWRLToken.SWRLTokenType.RING, ".", tokenOffset);
     case '^': {
-      int nextTokenType = this.tokenizer.nextToken();
-      if (nextTokenType == '^') {
-        return new SWRLToken(SWRLToken.SWRLTokenType.TYPE_QUAL, "^^");
+      int afterConjunctionOffset = this.inputOffset;
+      if (nextRawToken() == '^') {
+        return new SWRLToken(SWRLToken.SWRLTokenType.TYPE_QUAL, "^^", tokenOffset);
       } else { // Not ^^
-        this.tokenizer.pushBack();
-        return new SWRLToken(SWRLToken.SWRLTokenType.CONJUNCTION, "^");
+        this.inputOffset = afterConjunctionOffset;
+        return new SWRLToken(SWRLToken.SWRLTokenType.CONJUNCTION, "^", tokenOffset);
       }
     }
     case '<': {
-      int nextTokenType = this.tokenizer.nextToken();
-      if (nextTokenType == StreamTokenizer.TT_WORD) {
-        String iri = this.tokenizer.getValue();
-        nextTokenType = this.tokenizer.nextToken();
+      int nextTokenType = nextRawToken();
+      if (nextTokenType == WORD) {
+        String iri = this.rawTokenValue;
+        nextTokenType = nextRawToken();
         if (nextTokenType == '>')
-          return new SWRLToken(SWRLToken.SWRLTokenType.IRI, iri);
-        else if (nextTokenType == StreamTokenizer.TT_EOF)
+          return new SWRLToken(SWRLToken.SWRLTokenType.IRI, iri, tokenOffset);
+        else if (nextTokenType == END_OF_INPUT)
           throw generateEndOfRuleException("Expecting '>' after IRI");
         else
-          throw new SWRLParseException("Expecting IRI after '<'");
-      } else if (nextTokenType == StreamTokenizer.TT_EOF)
+          throw new SWRLParseException("Expecting IRI after '<'", this.rawTokenOffset);
+      } else if (nextTokenType == END_OF_INPUT)
         throw generateEndOfRuleException("Expecting IRI after '<'");
       else
-        throw new SWRLParseException("Expecting IRI after '<'"); // Some other token
+        throw new SWRLParseException("Expecting IRI after '<'", this.rawTokenOffset); // Some other token
     }
     default:
-      throw new SWRLParseException("Unexpected character '" + String.valueOf(Character.toChars(tokenType)) + "'");
+      throw new SWRLParseException("Unexpected character '" + (char)tokenType + "'", tokenOffset);
     }
-
   }
 
-  @NonNull private SWRLParseException generateEndOfRuleException(@NonNull String message)
+  /**
+   * Scan a word, a quoted string, or a single character from the input, skipping leading whitespace.
+   *
+   * @return {@link #WORD}, {@link #QUOTED_STRING}, {@link #END_OF_INPUT}, or the character itself
+   */
+  private int nextRawToken()
   {
-    if (!this.isInteractiveParseOnly())
-      return new SWRLParseException(message);
-    else
-      return new SWRLIncompleteRuleException(message);
-  }
+    int length = this.inputLength;
+    int offset = this.inputOffset;
 
-  private boolean isInteger(@NonNull String s)
-  {
-    try {
-      new BigInteger(s);
-      return true;
-    } catch (NumberFormatException e) {
-      return false;
+    while (offset < length && this.input.charAt(offset) <= ' ')
+      offset++;
+
+    this.rawTokenOffset = offset;
+    this.rawTokenValue = "";
+
+    if (offset >= length) {
+      this.inputOffset = offset;
+      return END_OF_INPUT;
+    }
+
+    char c = this.input.charAt(offset);
+
+    if (isWordChar(c)) {
+      int start = offset++;
+      while (offset < length && isWordChar(this.input.charAt(offset)))
+        offset++;
+      this.inputOffset = offset;
+      this.rawTokenValue = this.input.subSequence(start, offset).toString();
+      return WORD;
+    } else if (c == '"' || c == '\'') {
+      this.inputOffset = offset + 1;
+      this.rawTokenValue = scanQuotedString(c);
+      return c == '"' ? QUOTED_STRING : c;
+    } else {
+      this.inputOffset = offset + 1;
+      return c;
     }
   }
 
-  private class MyStreamTokenizer extends StreamTokenizer
+  // Scan the body of a quoted string that ends at the quote character, the end of the line, or the end of the input
+  @NonNull private String scanQuotedString(char quote)
   {
-    public MyStreamTokenizer(@NonNull Reader r)
-    {
-      super(r);
+    int length = this.input.length();
+    int offset = this.inputOffset;
+    int start = offset;
+
+    while (offset < length && this.input.charAt(offset) != quote && this.input.charAt(offset) != '\\'
+      && this.input.charAt(offset) != '\n' && this.input.charAt(offset) != '\r')
+      offset++;
+
+    if (offset == length || this.input.charAt(offset) != '\\') { // No escape sequences so no copy to a buffer
+      this.inputOffset = offset < length && this.input.charAt(offset) == quote ? offset + 1 : offset;
+      return this.input.subSequence(start, offset).toString();
     }
 
-    @Override public void parseNumbers()
-    {
+    StringBuilder sb = new StringBuilder().append(this.input, start, offset);
+
+    while (offset < length) {
+      char c = this.input.charAt(offset);
+
+      if (c == quote) {
+        offset++;
+        break;
+      } else if (c == '\n' || c == '\r')
+        break;
+      else if (c != '\\') {
+        sb.append(c);
+        offset++;
+      } else if (++offset == length) // A trailing backslash
+        sb.append('\uffff');
+      else {
+        char first = this.input.charAt(offset++);
+        if (first >= '0' && first <= '7') {
+          int value = first - '0';
+          if (offset < length && isOctalDigit(this.input.charAt(offset))) {
+            value = (value << 3) + (this.input.charAt(offset++) - '0');
+            if (first <= '3' && offset < length && isOctalDigit(this.input.charAt(offset)))
+              value = (value << 3) + (this.input.charAt(offset++) - '0');
+          }
+          sb.append((char)value);
+        } else
+          sb.append(unescape(first));
+      }
     }
+    this.inputOffset = offset;
+    return sb.toString();
+  }
 
-    @NonNull String getValue()
-    {
-      if (super.sval != null)
-        return super.sval;
-      else
-        return "";
+  private static char unescape(char c)
+  {
+    switch (c) {
+    case 'a':
+      return 0x7;
+    case 'b':
+      return '\b';
+    case 'f':
+      return 0xC;
+    case 'n':
+      return '\n';
+    case 'r':
+      return '\r';
+    case 't':
+      return '\t';
+    case 'v':
+      return 0xB;
+    default:
+      return c;
     }
   }
+
+  private static boolean isOctalDigit(char c)
+  {
+    return c >= '0' && c <= '7';
+  }
+
+  private static int trimmedLength(@NonNull CharSequence input)
+  {
+    int length = input.length();
+
+    while (length > 0 && input.charAt(length - 1) <= ' ')
+      length--;
+
+    return length;
+  }
+
+  private static boolean isWordChar(char c)
+  {
+    return c >= isWordChar.length || isWordChar[c];
+  }
+
+  @NonNull private SWRLParseException generateEndOfRuleException(@NonNull String message)
+  {
+    if (!this.isInteractiveParseOnly())
+      return new SWRLParseException(message, this.inputLength);
+    else
+      return new SWRLIncompleteRuleException(message, this.inputLength);
+  }
+
+  // Equivalent to checking that new BigInteger(s) succeeds for a word but without the cost of an exception
+  private static boolean isInteger(@NonNull String s)
+  {
+    int i = s.startsWith("-") ? 1 : 0;
+
+    if (i == s.length())
+      return false;
+
+    for (; i < s.length(); i++)
+      if (Character.digit(s.charAt(i), 10) < 0)
+        return false;
+
+    return true;
+  }
 }
@@ -1,14 +1,19 @@
 package org.swrlapi.sqwrl;
 
 import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
 import org.swrlapi.core.SWRLRuleEngine;
+import org.swrlapi.core.SWRLRuleEngineBudget;
 import org.swrlapi.exceptions.SWRLBuiltInException;
 import org.swrlapi.exceptions.SWRLRuleEngineException;
 import org.swrlapi.parser.SWRLParseException;
 import org.swrlapi.sqwrl.exceptions.SQWRLException;
 
 import javax.swing.*;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 /**
  * This interface defines the methods that must be provided by a SQWRL query engine.
@@ -60,6 +65,63 @@ public interface SQWRLQueryEngine extends SWRLRuleEngine
    */
   void runSQWRLQueries() throws SQWRLException;
 
+  /**
+   * Run a batch of named SQWRL queries, partitioning them across up to the specified number of engines that run in
+   * parallel. The ontology is processed once and the resulting asserted axioms are shared by all engines. The ontology
+   * must not be modified while the batch is running. The engines are separate from this engine, whose inferences and
+   * query results are not affected, unless no additional engines can be created, in which case the queries are run
+   * one after another in this engine.
+   *
+   * @param queryNames      The names of the queries to run
+   * @param numberOfEngines The maximum number of engines to run in parallel
+   * @return The result of each query, keyed by query name in the iteration order of the supplied names
+   * @throws SQWRLException If an error occurs during processing
+   */
+  @NonNull Map<@NonNull String, @NonNull SQWRLResult> runSQWRLQueries(@NonNull Set<@NonNull String> queryNames,
+    int numberOfEngines) throws SQWRLException;
+
+  /**
+   * Run a named SQWRL query asynchronously using the default executor. Cancelling the returned future stops the query
+   * at its next check. If the budget is exceeded the future completes with a
+   * {@link org.swrlapi.exceptions.SWRLRuleEngineBudgetExceededException}.
+   *
+   * @param queryName The name of the query
+   * @param budget    Limits on the execution
+   * @return A future holding the result of the query
+   * @see org.swrlapi.factory.SWRLAPIFactory#getDefaultSWRLRuleEngineExecutor()
+   */
+  @NonNull CompletableFuture<@NonNull SQWRLResult> runSQWRLQueryAsync(@NonNull String queryName,
+    @NonNull SWRLRuleEngineBudget budget);
+
+  /**
+   * Run a named SQWRL query asynchronously using the supplied executor. Asynchronous executions on the same engine run
+   * one at a time.
+   *
+   * @param queryName The name of the query
+   * @param budget    Limits on the execution
+   * @param executor  The executor that runs the query
+   * @return A future holding the result of the query
+   */
+  @NonNull CompletableFuture<@NonNull SQWRLResult> runSQWRLQueryAsync(@NonNull String queryName,
+    @NonNull SWRLRuleEngineBudget budget, @NonNull Executor executor);
+
+  /**
+   * Run all enabled SQWRL queries asynchronously using the default executor. The row limit of the budget applies to
+   * each query individually.
+   *
+   * @param budget Limits on the execution
+   * @return A future that completes when the queries have been run
+   */
+  @NonNull CompletableFuture<@Nullable Void> runSQWRLQueriesAsync(@NonNull SWRLRuleEngineBudget budget);
+
+  /**
+   * @param budget   Limits on the execution
+   * @param executor The executor that runs the queries
+   * @return A future that completes when the queries have been run
+   */
+  @NonNull CompletableFuture<@Nullable Void> runSQWRLQueriesAsync(@NonNull SWRLRuleEngineBudget budget,
+    @NonNull Executor executor);
+
   /**
    * Get the results from a previously executed SQWRL query.
    * A {@link org.swrlapi.sqwrl.exceptions.SQWRLInvalidQueryNameException} is thrown if no result is present.
@@ -97,6 +159,56 @@ public interface SQWRLQueryEngine extends SWRLRuleEngine
    */
   void importSQWRLQueryAndOWLAxioms(@NonNull String queryName) throws SWRLRuleEngineException, SWRLBuiltInException;
 
+  /**
+   * Enable or disable slicing of the ontology by the classes and properties a SQWRL query uses. When it is enabled,
+   * running a query imports only the SWRL rules whose consequents can derive facts about the classes and properties
+   * that the query uses, directly or through other imported rules and schema axioms, together with the asserted axioms
+   * that those rules and the query can use. Other rules are not materialized, so the engine does not hold their
+   * inferences after the query is run. Constants bound in the query do not narrow the slice. It is disabled by
+   * default, which materializes all active rules before the query is answered.
+   *
+   * @param enabled Whether to slice the ontology by the predicates of a query
+   */
+  void setQueryPredicateSlicingEnabled(boolean enabled);
+
+  /**
+   * @return True if the ontology is sliced by the predicates of a query
+   */
+  boolean isQueryPredicateSlicingEnabled();
+
+  /**
+   * Register a listener for the changes to the result of a query, making it a continuous query. The query is run and
+   * the listener is notified of all its rows as added rows. From then on the engine records the changes made to its
+   * ontology, and {@link #updateContinuousSQWRLQueries()} reruns a continuous query only if a change since its last
+   * run can affect its result, given the rules and schema axioms it depends on.
+   *
+   * @param queryName The name of the query
+   * @param listener  A listener to notify of changes to the query's result
+   * @throws SQWRLException If an error occurs running the query
+   */
+  void registerContinuousSQWRLQuery(@NonNull String queryName, @NonNull SQWRLResultListener listener)
+    throws SQWRLException;
+
+  /**
+   * Remove a listener from a continuous query. The query stops being continuous when it has no more listeners.
+   *
+   * @param queryName The name of the query
+   * @param listener  A previously registered listener
+   */
+  void unregisterContinuousSQWRLQuery(@NonNull String queryName, @NonNull SQWRLResultListener listener);
+
+  /**
+   * Rerun the continuous queries whose results may have been affected by changes to the ontology since they were last
+   * run, and notify their listeners of the rows added to and removed from their results. Where the engine can create
+   * additional target rule engines, the queries are rerun in a separate engine over a processed copy of the ontology,
+   * so that this engine's imported axioms, inferences, and incremental inference state are untouched. Enabling
+   * predicate slicing limits each run to the rules and axioms the query depends on.
+   *
+   * @throws SQWRLException If an error occurs running a query
+   * @see #setQueryPredicateSlicingEnabled(boolean)
+   */
+  void updateContinuousSQWRLQueries() throws SQWRLException;
+
   /**
    * Returns the name of the underlying target query engine.
    *
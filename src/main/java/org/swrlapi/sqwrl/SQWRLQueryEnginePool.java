@@ -0,0 +1,91 @@
+package org.swrlapi.sqwrl;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.semanticweb.owlapi.model.OWLOntology;
+import org.swrlapi.core.IRIResolver;
+import org.swrlapi.exceptions.SWRLRuleEngineException;
+
+/**
+ * A pool of reusable SQWRL query engines. Each pooled engine keeps its built-in library manager, bridge, and target
+ * rule engine between uses and is rebound to a new ontology when acquired, which avoids the cost of creating these
+ * components for every request.
+ * <p>
+ * An engine obtained from {@link #acquireSQWRLQueryEngine(OWLOntology)} must be used by one thread at a time and must
+ * be returned using {@link #releaseSQWRLQueryEngine(SQWRLQueryEngine)}. It must not be used after it is released.
+ *
+ * @see org.swrlapi.factory.SWRLAPIFactory#createSQWRLQueryEnginePool(int, int, long)
+ */
+public interface SQWRLQueryEnginePool
+{
+  /**
+   * Acquire an engine bound to the supplied ontology. If the pool has reached its maximum size this call blocks until
+   * an engine is released.
+   *
+   * @param ontology An OWL ontology
+   * @return A SQWRL query engine bound to the ontology
+   * @throws SWRLRuleEngineException If an error occurs creating or rebinding an engine
+   */
+  @NonNull SQWRLQueryEngine acquireSQWRLQueryEngine(@NonNull OWLOntology ontology) throws SWRLRuleEngineException;
+
+  /**
+   * @param ontology    An OWL ontology
+   * @param iriResolver An IRI resolver
+   * @return A SQWRL query engine bound to the ontology
+   * @throws SWRLRuleEngineException If an error occurs creating or rebinding an engine
+   */
+  @NonNull SQWRLQueryEngine acquireSQWRLQueryEngine(@NonNull OWLOntology ontology, @NonNull IRIResolver iriResolver)
+    throws SWRLRuleEngineException;
+
+  /**
+   * Return an engine to the pool.
+   *
+   * @param queryEngine An engine previously acquired from this pool
+   * @throws SWRLRuleEngineException If the engine was not acquired from this pool
+   */
+  void releaseSQWRLQueryEngine(@NonNull SQWRLQueryEngine queryEngine) throws SWRLRuleEngineException;
+
+  /**
+   * Discard idle engines that have exceeded the pool's maximum idle time.
+   */
+  void evictIdleSQWRLQueryEngines();
+
+  /**
+   * Discard all idle engines.
+   */
+  void clear();
+
+  /**
+   * @return The maximum number of engines, active or idle, held by the pool
+   */
+  int getMaximumNumberOfEngines();
+
+  /**
+   * @return The maximum number of idle engines retained by the pool
+   */
+  int getMaximumNumberOfIdleEngines();
+
+  /**
+   * @return The number of engines currently acquired
+   */
+  int getNumberOfActiveEngines();
+
+  /**
+   * @return The number of engines currently idle in the pool
+   */
+  int getNumberOfIdleEngines();
+
+  /**
+   * @return The number of engines created by the pool
+   */
+  long getNumberOfCreatedEngines();
+
+  /**
+   * @return The number of acquisitions satisfied by rebinding an idle engine
+   */
+  long getNumberOfReusedEngines();
+
+  /**
+   * @return The number of engines discarded because they were idle for too long or the pool was full
+   */
+  long getNumberOfEvictedEngines();
+}
@@ -0,0 +1,68 @@
+package org.swrlapi.sqwrl;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.swrlapi.sqwrl.values.SQWRLResultValue;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * The rows added to and removed from the result of a continuous SQWRL query by an update. A row whose values changed,
+ * such as a row holding an aggregate, is reported as the removal of the old row and the addition of the new one.
+ *
+ * @see org.swrlapi.sqwrl.SQWRLResultListener
+ */
+public class SQWRLResultDelta
+{
+  @NonNull private final String queryName;
+  @NonNull private final SQWRLResult result;
+  @NonNull private final List<@NonNull List<@NonNull SQWRLResultValue>> addedRows;
+  @NonNull private final List<@NonNull List<@NonNull SQWRLResultValue>> removedRows;
+
+  public SQWRLResultDelta(@NonNull String queryName, @NonNull SQWRLResult result,
+    @NonNull List<@NonNull List<@NonNull SQWRLResultValue>> addedRows,
+    @NonNull List<@NonNull List<@NonNull SQWRLResultValue>> removedRows)
+  {
+    this.queryName = queryName;
+    this.result = result;
+    this.addedRows = Collections.unmodifiableList(addedRows);
+    this.removedRows = Collections.unmodifiableList(removedRows);
+  }
+
+  @NonNull public String getQueryName()
+  {
+    return this.queryName;
+  }
+
+  /**
+   * @return The complete result of the query after the update, which is replaced when the query is next run
+   */
+  @NonNull public SQWRLResult getResult()
+  {
+    return this.result;
+  }
+
+  /**
+   * @return The rows that are in the result after the update but were not in it before
+   */
+  @NonNull public List<@NonNull List<@NonNull SQWRLResultValue>> getAddedRows()
+  {
+    return this.addedRows;
+  }
+
+  /**
+   * @return The rows that were in the result before the update but are not in it after
+   */
+  @NonNull public List<@NonNull List<@NonNull SQWRLResultValue>> getRemovedRows()
+  {
+    return this.removedRows;
+  }
+
+  /**
+   * @return True if no rows were added or removed
+   */
+  public boolean isEmpty()
+  {
+    return this.addedRows.isEmpty() && this.removedRows.isEmpty();
+  }
+}
@@ -69,6 +69,11 @@ public interface SQWRLResultGenerator
 	 */
 	int getCurrentNumberOfColumns() throws SQWRLException;
 
+	/**
+	 * @return The number of rows added so far
+	 */
+	int getCurrentNumberOfRows();
+
 	/**
 	 * @return True if the result is configured
 	 */
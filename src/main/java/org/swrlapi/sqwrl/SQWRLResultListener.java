@@ -0,0 +1,18 @@
+package org.swrlapi.sqwrl;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+/**
+ * A listener that is notified of the rows added to and removed from the result of a continuous SQWRL query.
+ * <p>
+ * Listeners are called on the thread that updates the continuous queries and should return quickly.
+ *
+ * @see org.swrlapi.sqwrl.SQWRLQueryEngine#registerContinuousSQWRLQuery(String, SQWRLResultListener)
+ */
+public interface SQWRLResultListener
+{
+  /**
+   * @param delta The changes to the result of the query
+   */
+  void sqwrlResultChanged(@NonNull SQWRLResultDelta delta);
+}
@@ -0,0 +1,130 @@
+package org.swrlapi.test;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.semanticweb.owlapi.apibinding.OWLManager;
+import org.semanticweb.owlapi.model.IRI;
+import org.semanticweb.owlapi.model.OWLClass;
+import org.semanticweb.owlapi.model.OWLDataFactory;
+import org.semanticweb.owlapi.model.OWLDataProperty;
+import org.semanticweb.owlapi.model.OWLNamedIndividual;
+import org.semanticweb.owlapi.model.OWLOntology;
+import org.semanticweb.owlapi.model.OWLOntologyCreationException;
+import org.semanticweb.owlapi.model.OWLOntologyManager;
+import org.swrlapi.exceptions.SWRLAPIException;
+import org.swrlapi.factory.SWRLAPIFactory;
+import org.swrlapi.parser.SWRLParseException;
+import org.swrlapi.sqwrl.SQWRLQueryEngine;
+import org.swrlapi.sqwrl.SQWRLResult;
+import org.swrlapi.sqwrl.exceptions.SQWRLException;
+
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Measures the time taken to run a batch of independent SQWRL queries with an increasing number of parallel engines.
+ * Each query selects the people older than a different threshold.
+ */
+public class SQWRLParallelQueryBenchmark
+{
+  private static final int DEFAULT_NUMBER_OF_QUERIES = 32;
+  private static final int DEFAULT_NUMBER_OF_INDIVIDUALS = 2000;
+  private static final int[] NUMBER_OF_ENGINES = { 1, 2, 4, 8 };
+
+  private static final String NAMESPACE = "http://org.swrlapi.test/parallel#";
+
+  public static void main(@NonNull String[] args)
+  {
+    if (args.length > 2)
+      Usage();
+
+    int numberOfQueries = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_NUMBER_OF_QUERIES;
+    int numberOfIndividuals = args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_NUMBER_OF_INDIVIDUALS;
+
+    try {
+      OWLOntology ontology = createOntology(numberOfIndividuals);
+      SQWRLQueryEngine queryEngine = SWRLAPIFactory.createSQWRLQueryEngine(ontology);
+      Set<@NonNull String> queryNames = createQueries(queryEngine, numberOfQueries);
+
+      queryEngine.runSQWRLQueries(queryNames, 1); // Warm up
+
+      long baselineNanos = 0;
+      for (int numberOfEngines : NUMBER_OF_ENGINES) {
+        long startNanos = System.nanoTime();
+        Map<@NonNull String, @NonNull SQWRLResult> results = queryEngine.runSQWRLQueries(queryNames, numberOfEngines);
+        long nanos = System.nanoTime() - startNanos;
+
+        if (numberOfEngines == 1)
+          baselineNanos = nanos;
+
+        System.out.println(
+          "Engines: " + numberOfEngines + ", time (ms): " + nanos / 1000000 + ", speedup: " + String
+            .format("%.2f", (double)baselineNanos / nanos) + ", rows: " + countRows(results));
+      }
+    } catch (OWLOntologyCreationException e) {
+      System.err.println("Error creating OWL ontology: " + (e.getMessage() != null ? e.getMessage() : ""));
+      System.exit(-1);
+    } catch (SWRLAPIException e) {
+      System.err.println("SWRLAPI error: " + (e.getMessage() != null ? e.getMessage() : ""));
+      System.exit(-1);
+    } catch (SWRLParseException e) {
+      System.err.println("SQWRL parse error: " + (e.getMessage() != null ? e.getMessage() : ""));
+      System.exit(-1);
+    } catch (SQWRLException e) {
+      System.err.println("SQWRL error: " + (e.getMessage() != null ? e.getMessage() : ""));
+      System.exit(-1);
+    }
+  }
+
+  @NonNull private static OWLOntology createOntology(int numberOfIndividuals) throws OWLOntologyCreationException
+  {
+    OWLOntologyManager ontologyManager = OWLManager.createOWLOntologyManager();
+    OWLDataFactory dataFactory = ontologyManager.getOWLDataFactory();
+    OWLOntology ontology = ontologyManager.createOntology(IRI.create("http://org.swrlapi.test/parallel"));
+    OWLClass person = dataFactory.getOWLClass(IRI.create(NAMESPACE + "Person"));
+    OWLDataProperty hasAge = dataFactory.getOWLDataProperty(IRI.create(NAMESPACE + "hasAge"));
+
+    ontologyManager.addAxiom(ontology, dataFactory.getOWLDeclarationAxiom(person));
+    ontologyManager.addAxiom(ontology, dataFactory.getOWLDeclarationAxiom(hasAge));
+
+    for (int individualIndex = 0; individualIndex < numberOfIndividuals; individualIndex++) {
+      OWLNamedIndividual individual = dataFactory.getOWLNamedIndividual(IRI.create(NAMESPACE + "p" + individualIndex));
+      ontologyManager.addAxiom(ontology, dataFactory.getOWLClassAssertionAxiom(person, individual));
+      ontologyManager.addAxiom(ontology, dataFactory
+        .getOWLDataPropertyAssertionAxiom(hasAge, individual, dataFactory.getOWLLiteral(individualIndex % 100)));
+    }
+    return ontology;
+  }
+
+  @NonNull private static Set<@NonNull String> createQueries(@NonNull SQWRLQueryEngine queryEngine,
+    int numberOfQueries) throws SWRLParseException, SQWRLException
+  {
+    Set<@NonNull String> queryNames = new LinkedHashSet<>();
+
+    for (int queryIndex = 0; queryIndex < numberOfQueries; queryIndex++) {
+      String queryName = "q" + queryIndex;
+      int threshold = queryIndex % 100;
+      queryEngine.createSQWRLQuery(queryName,
+        "Person(?p) ^ hasAge(?p, ?a) ^ swrlb:greaterThan(?a, " + threshold + ") -> sqwrl:select(?p, ?a)");
+      queryNames.add(queryName);
+    }
+    return queryNames;
+  }
+
+  private static int countRows(@NonNull Map<@NonNull String, @NonNull SQWRLResult> results) throws SQWRLException
+  {
+    int numberOfRows = 0;
+
+    for (SQWRLResult result : results.values())
+      numberOfRows += result.getNumberOfRows();
+
+    return numberOfRows;
+  }
+
+  private static void Usage()
+  {
+    System.err.println(
+      "Usage: " + SQWRLParallelQueryBenchmark.class.getName() + " [ <numberOfQueries> [ <numberOfIndividuals> ] ]");
+    System.exit(1);
+  }
+}
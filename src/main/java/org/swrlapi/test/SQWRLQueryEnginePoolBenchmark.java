@@ -0,0 +1,148 @@
+package org.swrlapi.test;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.semanticweb.owlapi.apibinding.OWLManager;
+import org.semanticweb.owlapi.model.IRI;
+import org.semanticweb.owlapi.model.OWLClass;
+import org.semanticweb.owlapi.model.OWLDataFactory;
+import org.semanticweb.owlapi.model.OWLNamedIndividual;
+import org.semanticweb.owlapi.model.OWLOntology;
+import org.semanticweb.owlapi.model.OWLOntologyCreationException;
+import org.semanticweb.owlapi.model.OWLOntologyManager;
+import org.swrlapi.exceptions.SWRLAPIException;
+import org.swrlapi.factory.SWRLAPIFactory;
+import org.swrlapi.parser.SWRLParseException;
+import org.swrlapi.sqwrl.SQWRLQueryEngine;
+import org.swrlapi.sqwrl.SQWRLQueryEnginePool;
+import org.swrlapi.sqwrl.SQWRLResult;
+import org.swrlapi.sqwrl.exceptions.SQWRLException;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Compares request throughput when running a SQWRL query over a fixed set of small ontologies using a freshly created
+ * query engine per request versus engines taken from a {@link SQWRLQueryEnginePool}.
+ */
+public class SQWRLQueryEnginePoolBenchmark
+{
+  private static final int DEFAULT_NUMBER_OF_ONTOLOGIES = 10;
+  private static final int DEFAULT_NUMBER_OF_REQUESTS = 500;
+  private static final int NUMBER_OF_INDIVIDUALS = 50;
+
+  private static final String NAMESPACE = "http://org.swrlapi.test/pool#";
+  private static final String QUERY_NAME = "q1";
+  private static final String QUERY = "Person(?p) -> sqwrl:select(?p)";
+
+  public static void main(@NonNull String[] args)
+  {
+    if (args.length > 2)
+      Usage();
+
+    int numberOfOntologies = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_NUMBER_OF_ONTOLOGIES;
+    int numberOfRequests = args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_NUMBER_OF_REQUESTS;
+
+    try {
+      List<@NonNull OWLOntology> ontologies = createOntologies(numberOfOntologies);
+
+      long freshNanos = runWithFreshEngines(ontologies, numberOfRequests);
+
+      SQWRLQueryEnginePool pool = SWRLAPIFactory.createSQWRLQueryEnginePool(4, 4, 60000);
+      long pooledNanos = runWithPooledEngines(pool, ontologies, numberOfRequests);
+
+      System.out.println("Requests: " + numberOfRequests + " over " + numberOfOntologies + " ontologies");
+      System.out.println("Fresh engines (requests/s): " + requestsPerSecond(numberOfRequests, freshNanos));
+      System.out.println("Pooled engines (requests/s): " + requestsPerSecond(numberOfRequests, pooledNanos));
+      System.out.println(
+        "Pool created " + pool.getNumberOfCreatedEngines() + ", reused " + pool.getNumberOfReusedEngines()
+          + ", evicted " + pool.getNumberOfEvictedEngines());
+    } catch (OWLOntologyCreationException e) {
+      System.err.println("Error creating OWL ontology: " + (e.getMessage() != null ? e.getMessage() : ""));
+      System.exit(-1);
+    } catch (SWRLAPIException e) {
+      System.err.println("SWRLAPI error: " + (e.getMessage() != null ? e.getMessage() : ""));
+      System.exit(-1);
+    } catch (SWRLParseException e) {
+      System.err.println("SQWRL parse error: " + (e.getMessage() != null ? e.getMessage() : ""));
+      System.exit(-1);
+    } catch (SQWRLException e) {
+      System.err.println("SQWRL error: " + (e.getMessage() != null ? e.getMessage() : ""));
+      System.exit(-1);
+    }
+  }
+
+  private static long runWithFreshEngines(@NonNull List<@NonNull OWLOntology> ontologies, int numberOfRequests)
+    throws SWRLParseException, SQWRLException
+  {
+    long startNanos = System.nanoTime();
+
+    for (int requestIndex = 0; requestIndex < numberOfRequests; requestIndex++) {
+      OWLOntology ontology = ontologies.get(requestIndex % ontologies.size());
+      SQWRLQueryEngine queryEngine = SWRLAPIFactory.createSQWRLQueryEngine(ontology);
+      consume(queryEngine.runSQWRLQuery(QUERY_NAME));
+    }
+    return System.nanoTime() - startNanos;
+  }
+
+  private static long runWithPooledEngines(@NonNull SQWRLQueryEnginePool pool,
+    @NonNull List<@NonNull OWLOntology> ontologies, int numberOfRequests) throws SWRLParseException, SQWRLException
+  {
+    long startNanos = System.nanoTime();
+
+    for (int requestIndex = 0; requestIndex < numberOfRequests; requestIndex++) {
+      OWLOntology ontology = ontologies.get(requestIndex % ontologies.size());
+      SQWRLQueryEngine queryEngine = pool.acquireSQWRLQueryEngine(ontology);
+      try {
+        consume(queryEngine.runSQWRLQuery(QUERY_NAME));
+      } finally {
+        pool.releaseSQWRLQueryEngine(queryEngine);
+      }
+    }
+    return System.nanoTime() - startNanos;
+  }
+
+  @NonNull private static List<@NonNull OWLOntology> createOntologies(int numberOfOntologies)
+    throws OWLOntologyCreationException, SWRLParseException, SQWRLException
+  {
+    List<@NonNull OWLOntology> ontologies = new ArrayList<>();
+
+    for (int ontologyIndex = 0; ontologyIndex < numberOfOntologies; ontologyIndex++) {
+      OWLOntologyManager ontologyManager = OWLManager.createOWLOntologyManager();
+      OWLDataFactory dataFactory = ontologyManager.getOWLDataFactory();
+      OWLOntology ontology = ontologyManager.createOntology(IRI.create("http://org.swrlapi.test/pool" + ontologyIndex));
+      OWLClass person = dataFactory.getOWLClass(IRI.create(NAMESPACE + "Person"));
+
+      ontologyManager.addAxiom(ontology, dataFactory.getOWLDeclarationAxiom(person));
+      for (int individualIndex = 0; individualIndex < NUMBER_OF_INDIVIDUALS; individualIndex++) {
+        OWLNamedIndividual individual = dataFactory
+          .getOWLNamedIndividual(IRI.create(NAMESPACE + "p" + ontologyIndex + "_" + individualIndex));
+        ontologyManager.addAxiom(ontology, dataFactory.getOWLClassAssertionAxiom(person, individual));
+      }
+
+      SQWRLQueryEngine queryEngine = SWRLAPIFactory.createSQWRLQueryEngine(ontology);
+      queryEngine.createSQWRLQuery(QUERY_NAME, QUERY); // Stores the query in the ontology
+
+      ontologies.add(ontology);
+    }
+    return ontologies;
+  }
+
+  private static void consume(@NonNull SQWRLResult result) throws SQWRLException
+  {
+    while (result.next()) {
+      result.getNamedIndividual("p");
+    }
+  }
+
+  private static double requestsPerSecond(int numberOfRequests, long nanos)
+  {
+    return numberOfRequests / (nanos / 1000000000.0);
+  }
+
+  private static void Usage()
+  {
+    System.err.println(
+      "Usage: " + SQWRLQueryEnginePoolBenchmark.class.getName() + " [ <numberOfOntologies> [ <numberOfRequests> ] ]");
+    System.exit(1);
+  }
+}
@@ -0,0 +1,83 @@
+package org.swrlapi.test;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.semanticweb.owlapi.model.IRI;
+import org.swrlapi.core.IRIResolver;
+import org.swrlapi.factory.SWRLAPIFactory;
+import org.swrlapi.factory.SWRLAPIInternalFactory;
+import org.swrlapi.sqwrl.values.SQWRLNamedIndividualResultValue;
+import org.swrlapi.sqwrl.values.SQWRLResultValueFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Measures the time taken to create the result values of a large SQWRL result, each of which requires the prefixed
+ * name and short form of an IRI, and the time taken to generate IRIs for new individuals.
+ */
+public class SQWRLResultRenderingBenchmark
+{
+  private static final int DEFAULT_NUMBER_OF_CELLS = 1000000;
+  private static final int DEFAULT_NUMBER_OF_INDIVIDUALS = 10000;
+
+  private static final String DEFAULT_NAMESPACE = "http://org.swrlapi.test/rendering#";
+  private static final String PREFIXED_NAMESPACE = "http://org.swrlapi.test/rendering/people#";
+  private static final String UNPREFIXED_NAMESPACE = "http://org.swrlapi.test/rendering/unknown#";
+
+  public static void main(@NonNull String[] args)
+  {
+    if (args.length > 2)
+      Usage();
+
+    int numberOfCells = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_NUMBER_OF_CELLS;
+    int numberOfIndividuals = args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_NUMBER_OF_INDIVIDUALS;
+
+    IRIResolver iriResolver = SWRLAPIFactory.createIRIResolver(DEFAULT_NAMESPACE);
+    iriResolver.setPrefix("people:", PREFIXED_NAMESPACE);
+    SQWRLResultValueFactory resultValueFactory = SWRLAPIInternalFactory.createSQWRLResultValueFactory(iriResolver);
+    List<@NonNull IRI> individualIRIs = createIndividualIRIs(numberOfIndividuals);
+    long renderedLength = 0;
+
+    for (int cellIndex = 0; cellIndex < numberOfCells; cellIndex++) // Warm up
+      renderedLength += renderCell(resultValueFactory, individualIRIs.get(cellIndex % numberOfIndividuals));
+
+    long startNanos = System.nanoTime();
+    for (int cellIndex = 0; cellIndex < numberOfCells; cellIndex++)
+      renderedLength += renderCell(resultValueFactory, individualIRIs.get(cellIndex % numberOfIndividuals));
+    System.out.println("Rendered " + numberOfCells + " result cells with " + numberOfIndividuals
+      + " distinct individuals in (ms): " + (System.nanoTime() - startNanos) / 1000000 + ", total rendered length: "
+      + renderedLength);
+
+    startNanos = System.nanoTime();
+    for (int cellIndex = 0; cellIndex < numberOfCells; cellIndex++)
+      renderedLength += iriResolver.generateIRI().toString().length();
+    System.out.println(
+      "Generated " + numberOfCells + " IRIs in (ms): " + (System.nanoTime() - startNanos) / 1000000 + ", total length: "
+        + renderedLength);
+  }
+
+  private static int renderCell(@NonNull SQWRLResultValueFactory resultValueFactory, @NonNull IRI individualIRI)
+  {
+    SQWRLNamedIndividualResultValue value = resultValueFactory.getNamedIndividualValue(individualIRI);
+
+    return value.getPrefixedName().length() + value.getShortName().length();
+  }
+
+  @NonNull private static List<@NonNull IRI> createIndividualIRIs(int numberOfIndividuals)
+  {
+    List<@NonNull IRI> individualIRIs = new ArrayList<>(numberOfIndividuals);
+    String[] namespaces = { DEFAULT_NAMESPACE, PREFIXED_NAMESPACE, UNPREFIXED_NAMESPACE };
+
+    for (int individualIndex = 0; individualIndex < numberOfIndividuals; individualIndex++)
+      individualIRIs.add(IRI.create(namespaces[individualIndex % namespaces.length] + "i" + individualIndex));
+
+    return individualIRIs;
+  }
+
+  private static void Usage()
+  {
+    System.err.println(
+      "Usage: " + SQWRLResultRenderingBenchmark.class.getName() + " [ <numberOfCells> [ <numberOfIndividuals> ] ]");
+    System.exit(1);
+  }
+}
@@ -0,0 +1,123 @@
+package org.swrlapi.test;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.semanticweb.owlapi.apibinding.OWLManager;
+import org.semanticweb.owlapi.model.IRI;
+import org.semanticweb.owlapi.model.OWLClass;
+import org.semanticweb.owlapi.model.OWLDataFactory;
+import org.semanticweb.owlapi.model.OWLDataProperty;
+import org.semanticweb.owlapi.model.OWLNamedIndividual;
+import org.semanticweb.owlapi.model.OWLOntology;
+import org.semanticweb.owlapi.model.OWLOntologyCreationException;
+import org.semanticweb.owlapi.model.OWLOntologyManager;
+import org.swrlapi.core.SWRLRuleEngineInstrumentationSnapshot.SWRLBuiltInStatistics;
+import org.swrlapi.exceptions.SWRLAPIException;
+import org.swrlapi.factory.SWRLAPIFactory;
+import org.swrlapi.parser.SWRLParseException;
+import org.swrlapi.sqwrl.SQWRLQueryEngine;
+import org.swrlapi.sqwrl.SQWRLResult;
+import org.swrlapi.sqwrl.exceptions.SQWRLException;
+
+import java.util.Map;
+
+/**
+ * Measures the time taken by comparison-heavy SQWRL queries. Each query joins every person with every other person
+ * and compares their ages or weights, so the run time is dominated by numeric comparison built-ins. The weight query
+ * compares literals of different datatypes.
+ */
+public class SWRLLiteralComparisonBenchmark
+{
+  private static final int DEFAULT_NUMBER_OF_INDIVIDUALS = 300;
+  private static final int DEFAULT_NUMBER_OF_RUNS = 5;
+
+  private static final String NAMESPACE = "http://org.swrlapi.test/comparison#";
+
+  private static final String AGE_QUERY = "Person(?p1) ^ hasAge(?p1, ?a1) ^ Person(?p2) ^ hasAge(?p2, ?a2) ^ "
+    + "swrlb:lessThan(?a1, ?a2) ^ swrlb:greaterThan(?a1, 17) -> sqwrl:count(?p1)";
+  private static final String WEIGHT_QUERY = "Person(?p1) ^ hasWeight(?p1, ?w1) ^ Person(?p2) ^ hasAge(?p2, ?a2) ^ "
+    + "swrlb:greaterThan(?w1, ?a2) -> sqwrl:count(?p1)";
+
+  public static void main(@NonNull String[] args)
+  {
+    if (args.length > 2)
+      Usage();
+
+    int numberOfIndividuals = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_NUMBER_OF_INDIVIDUALS;
+    int numberOfRuns = args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_NUMBER_OF_RUNS;
+
+    try {
+      OWLOntology ontology = createOntology(numberOfIndividuals);
+      SQWRLQueryEngine queryEngine = SWRLAPIFactory.createSQWRLQueryEngine(ontology);
+
+      queryEngine.getInstrumentation().setEnabled(true);
+
+      runQuery(queryEngine, "age", AGE_QUERY, numberOfRuns);
+      runQuery(queryEngine, "weight", WEIGHT_QUERY, numberOfRuns);
+
+      for (Map.Entry<@NonNull String, @NonNull SWRLBuiltInStatistics> entry : queryEngine.getInstrumentation()
+        .getSnapshot().getSWRLBuiltInStatistics().entrySet())
+        System.out.println(entry.getKey() + ": " + entry.getValue());
+    } catch (OWLOntologyCreationException e) {
+      System.err.println("Error creating OWL ontology: " + (e.getMessage() != null ? e.getMessage() : ""));
+      System.exit(-1);
+    } catch (SWRLAPIException e) {
+      System.err.println("SWRLAPI error: " + (e.getMessage() != null ? e.getMessage() : ""));
+      System.exit(-1);
+    } catch (SWRLParseException e) {
+      System.err.println("SQWRL parse error: " + (e.getMessage() != null ? e.getMessage() : ""));
+      System.exit(-1);
+    } catch (SQWRLException e) {
+      System.err.println("SQWRL error: " + (e.getMessage() != null ? e.getMessage() : ""));
+      System.exit(-1);
+    }
+  }
+
+  private static void runQuery(@NonNull SQWRLQueryEngine queryEngine, @NonNull String queryName,
+    @NonNull String queryText, int numberOfRuns) throws SWRLParseException, SQWRLException
+  {
+    queryEngine.createSQWRLQuery(queryName, queryText);
+    queryEngine.runSQWRLQuery(queryName); // Warm up
+
+    long totalNanos = 0;
+    for (int run = 0; run < numberOfRuns; run++) {
+      long startNanos = System.nanoTime();
+      SQWRLResult result = queryEngine.runSQWRLQuery(queryName);
+      totalNanos += System.nanoTime() - startNanos;
+
+      if (run == 0 && result.next())
+        System.out.println("Query: " + queryName + ", count: " + result.getLiteral(0).getValue());
+    }
+    System.out.println("Query: " + queryName + ", mean time (ms): " + totalNanos / numberOfRuns / 1000000);
+  }
+
+  @NonNull private static OWLOntology createOntology(int numberOfIndividuals) throws OWLOntologyCreationException
+  {
+    OWLOntologyManager ontologyManager = OWLManager.createOWLOntologyManager();
+    OWLDataFactory dataFactory = ontologyManager.getOWLDataFactory();
+    OWLOntology ontology = ontologyManager.createOntology(IRI.create("http://org.swrlapi.test/comparison"));
+    OWLClass person = dataFactory.getOWLClass(IRI.create(NAMESPACE + "Person"));
+    OWLDataProperty hasAge = dataFactory.getOWLDataProperty(IRI.create(NAMESPACE + "hasAge"));
+    OWLDataProperty hasWeight = dataFactory.getOWLDataProperty(IRI.create(NAMESPACE + "hasWeight"));
+
+    ontologyManager.addAxiom(ontology, dataFactory.getOWLDeclarationAxiom(person));
+    ontologyManager.addAxiom(ontology, dataFactory.getOWLDeclarationAxiom(hasAge));
+    ontologyManager.addAxiom(ontology, dataFactory.getOWLDeclarationAxiom(hasWeight));
+
+    for (int individualIndex = 0; individualIndex < numberOfIndividuals; individualIndex++) {
+      OWLNamedIndividual individual = dataFactory.getOWLNamedIndividual(IRI.create(NAMESPACE + "p" + individualIndex));
+      ontologyManager.addAxiom(ontology, dataFactory.getOWLClassAssertionAxiom(person, individual));
+      ontologyManager.addAxiom(ontology, dataFactory
+        .getOWLDataPropertyAssertionAxiom(hasAge, individual, dataFactory.getOWLLiteral(individualIndex % 100)));
+      ontologyManager.addAxiom(ontology, dataFactory.getOWLDataPropertyAssertionAxiom(hasWeight, individual,
+        dataFactory.getOWLLiteral(40.0 + (individualIndex % 80) * 0.75)));
+    }
+    return ontology;
+  }
+
+  private static void Usage()
+  {
+    System.err.println(
+      "Usage: " + SWRLLiteralComparisonBenchmark.class.getName() + " [ <numberOfIndividuals> [ <numberOfRuns> ] ]");
+    System.exit(1);
+  }
+}
@@ -0,0 +1,128 @@
+package org.swrlapi.test;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.semanticweb.owlapi.apibinding.OWLManager;
+import org.semanticweb.owlapi.model.IRI;
+import org.semanticweb.owlapi.model.OWLClass;
+import org.semanticweb.owlapi.model.OWLDataFactory;
+import org.semanticweb.owlapi.model.OWLDataProperty;
+import org.semanticweb.owlapi.model.OWLObjectProperty;
+import org.semanticweb.owlapi.model.OWLOntology;
+import org.semanticweb.owlapi.model.OWLOntologyCreationException;
+import org.semanticweb.owlapi.model.OWLOntologyManager;
+import org.swrlapi.exceptions.SWRLAPIException;
+import org.swrlapi.factory.SWRLAPIFactory;
+import org.swrlapi.parser.SWRLParseException;
+import org.swrlapi.parser.SWRLParser;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Measures the time taken to parse a large number of SWRL rules, as when loading a rule base, and to validate every
+ * prefix of a sample of the rules, as the rule editor does while a rule is typed.
+ */
+public class SWRLParserBenchmark
+{
+  private static final int DEFAULT_NUMBER_OF_RULES = 100000;
+  private static final int DEFAULT_NUMBER_OF_TYPED_RULES = 1000;
+
+  private static final String NAMESPACE = "http://org.swrlapi.test/parser#";
+
+  public static void main(@NonNull String[] args)
+  {
+    if (args.length > 2)
+      Usage();
+
+    int numberOfRules = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_NUMBER_OF_RULES;
+    int numberOfTypedRules = Math.min(numberOfRules,
+      args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_NUMBER_OF_TYPED_RULES);
+
+    try {
+      SWRLParser parser = SWRLAPIFactory.createSWRLRuleEngine(createOntology()).createSWRLParser();
+      List<@NonNull String> rules = createRules(numberOfRules);
+
+      for (String rule : rules) // Warm up
+        parser.parseSWRLRule(rule, false, "", "");
+
+      long startNanos = System.nanoTime();
+      for (String rule : rules)
+        parser.parseSWRLRule(rule, false, "", "");
+      System.out.println("Parsed " + numberOfRules + " rules in (ms): " + (System.nanoTime() - startNanos) / 1000000);
+
+      long numberOfPrefixes = 0, numberOfRejectedPrefixes = 0;
+      startNanos = System.nanoTime();
+      for (int ruleIndex = 0; ruleIndex < numberOfTypedRules; ruleIndex++) {
+        String rule = rules.get(ruleIndex);
+        for (int length = 1; length <= rule.length(); length++) {
+          if (!parser.isSWRLRuleCorrectButPossiblyIncomplete(rule.substring(0, length)))
+            numberOfRejectedPrefixes++;
+          numberOfPrefixes++;
+        }
+      }
+      System.out.println("Validated " + numberOfPrefixes + " prefixes of " + numberOfTypedRules + " rules in (ms): "
+        + (System.nanoTime() - startNanos) / 1000000 + ", rejected prefixes: " + numberOfRejectedPrefixes);
+    } catch (OWLOntologyCreationException e) {
+      System.err.println("Error creating OWL ontology: " + (e.getMessage() != null ? e.getMessage() : ""));
+      System.exit(-1);
+    } catch (SWRLAPIException e) {
+      System.err.println("SWRLAPI error: " + (e.getMessage() != null ? e.getMessage() : ""));
+      System.exit(-1);
+    } catch (SWRLParseException e) {
+      System.err.println("SWRL parse error: " + (e.getMessage() != null ? e.getMessage() : ""));
+      System.exit(-1);
+    }
+  }
+
+  @NonNull private static List<@NonNull String> createRules(int numberOfRules)
+  {
+    List<@NonNull String> rules = new ArrayList<>(numberOfRules);
+
+    for (int ruleIndex = 0; ruleIndex < numberOfRules; ruleIndex++) {
+      switch (ruleIndex % 3) {
+      case 0:
+        rules.add("Person(?p) ^ hasAge(?p, ?age) ^ swrlb:greaterThan(?age, " + ruleIndex % 100 + ") -> Adult(?p)");
+        break;
+      case 1:
+        rules.add("Person(?p) ^ hasParent(?p, ?parent) ^ hasName(?parent, \"n" + ruleIndex
+          + "\"^^xsd:string) -> hasAncestor(?p, ?parent)");
+        break;
+      default:
+        rules.add("Person(?p) ^ hasWeight(?p, ?w) ^ swrlb:multiply(?k, ?w, " + ruleIndex % 10
+          + ".5) ^ swrlb:lessThan(?k, -" + ruleIndex + ") -> Adult(?p)");
+        break;
+      }
+    }
+    return rules;
+  }
+
+  @NonNull private static OWLOntology createOntology() throws OWLOntologyCreationException
+  {
+    OWLOntologyManager ontologyManager = OWLManager.createOWLOntologyManager();
+    OWLDataFactory dataFactory = ontologyManager.getOWLDataFactory();
+    OWLOntology ontology = ontologyManager.createOntology(IRI.create("http://org.swrlapi.test/parser"));
+
+    for (String className : new String[] { "Person", "Adult" }) {
+      OWLClass cls = dataFactory.getOWLClass(IRI.create(NAMESPACE + className));
+      ontologyManager.addAxiom(ontology, dataFactory.getOWLDeclarationAxiom(cls));
+    }
+
+    for (String propertyName : new String[] { "hasParent", "hasAncestor" }) {
+      OWLObjectProperty property = dataFactory.getOWLObjectProperty(IRI.create(NAMESPACE + propertyName));
+      ontologyManager.addAxiom(ontology, dataFactory.getOWLDeclarationAxiom(property));
+    }
+
+    for (String propertyName : new String[] { "hasAge", "hasName", "hasWeight" }) {
+      OWLDataProperty property = dataFactory.getOWLDataProperty(IRI.create(NAMESPACE + propertyName));
+      ontologyManager.addAxiom(ontology, dataFactory.getOWLDeclarationAxiom(property));
+    }
+    return ontology;
+  }
+
+  private static void Usage()
+  {
+    System.err.println(
+      "Usage: " + SWRLParserBenchmark.class.getName() + " [ <numberOfRules> [ <numberOfTypedRules> ] ]");
+    System.exit(1);
+  }
+}
@@ -0,0 +1,127 @@
+package org.swrlapi.test;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.semanticweb.owlapi.apibinding.OWLManager;
+import org.semanticweb.owlapi.model.IRI;
+import org.semanticweb.owlapi.model.OWLClass;
+import org.semanticweb.owlapi.model.OWLDataFactory;
+import org.semanticweb.owlapi.model.OWLDataProperty;
+import org.semanticweb.owlapi.model.OWLObjectProperty;
+import org.semanticweb.owlapi.model.OWLOntology;
+import org.semanticweb.owlapi.model.OWLOntologyCreationException;
+import org.semanticweb.owlapi.model.OWLOntologyManager;
+import org.swrlapi.core.SWRLRuleDefinition;
+import org.swrlapi.core.SWRLRuleEngine;
+import org.swrlapi.exceptions.SWRLAPIException;
+import org.swrlapi.exceptions.SWRLBuiltInException;
+import org.swrlapi.factory.SWRLAPIFactory;
+import org.swrlapi.parser.SWRLParseException;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Compares the time taken to load a large rule base by creating each rule in turn with the time taken to create all
+ * of the rules with a single bulk call.
+ *
+ * @see org.swrlapi.core.SWRLRuleEngine#createSWRLRules(List)
+ */
+public class SWRLRuleBulkLoadingBenchmark
+{
+  private static final int DEFAULT_NUMBER_OF_RULES = 50000;
+
+  private static final String NAMESPACE = "http://org.swrlapi.test/bulkloading#";
+
+  public static void main(@NonNull String[] args)
+  {
+    if (args.length > 1)
+      Usage();
+
+    int numberOfRules = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_NUMBER_OF_RULES;
+
+    try {
+      List<@NonNull SWRLRuleDefinition> ruleDefinitions = createRuleDefinitions(numberOfRules);
+
+      SWRLRuleEngine ruleEngine = SWRLAPIFactory.createSWRLRuleEngine(createOntology());
+      long startNanos = System.nanoTime();
+      for (SWRLRuleDefinition ruleDefinition : ruleDefinitions)
+        ruleEngine.createSWRLRule(ruleDefinition.getRuleName(), ruleDefinition.getRuleText(),
+          ruleDefinition.getComment(), ruleDefinition.isActive());
+      System.out.println("Created " + ruleEngine.getSWRLRules().size() + " rules one at a time in (ms): "
+        + (System.nanoTime() - startNanos) / 1000000);
+
+      ruleEngine = SWRLAPIFactory.createSWRLRuleEngine(createOntology());
+      startNanos = System.nanoTime();
+      ruleEngine.createSWRLRules(ruleDefinitions);
+      System.out.println("Created " + ruleEngine.getSWRLRules().size() + " rules in bulk in (ms): "
+        + (System.nanoTime() - startNanos) / 1000000);
+    } catch (OWLOntologyCreationException e) {
+      System.err.println("Error creating OWL ontology: " + (e.getMessage() != null ? e.getMessage() : ""));
+      System.exit(-1);
+    } catch (SWRLAPIException e) {
+      System.err.println("SWRLAPI error: " + (e.getMessage() != null ? e.getMessage() : ""));
+      System.exit(-1);
+    } catch (SWRLParseException e) {
+      System.err.println("SWRL parse error: " + (e.getMessage() != null ? e.getMessage() : ""));
+      System.exit(-1);
+    } catch (SWRLBuiltInException e) {
+      System.err.println("SWRL built-in error: " + (e.getMessage() != null ? e.getMessage() : ""));
+      System.exit(-1);
+    }
+  }
+
+  @NonNull private static List<@NonNull SWRLRuleDefinition> createRuleDefinitions(int numberOfRules)
+  {
+    List<@NonNull SWRLRuleDefinition> ruleDefinitions = new ArrayList<>(numberOfRules);
+
+    for (int ruleIndex = 0; ruleIndex < numberOfRules; ruleIndex++) {
+      String ruleName = "R" + ruleIndex;
+      switch (ruleIndex % 3) {
+      case 0:
+        ruleDefinitions.add(new SWRLRuleDefinition(ruleName,
+          "Person(?p) ^ hasAge(?p, ?age) ^ swrlb:greaterThan(?age, " + ruleIndex % 100 + ") -> Adult(?p)"));
+        break;
+      case 1:
+        ruleDefinitions.add(new SWRLRuleDefinition(ruleName,
+          "Person(?p) ^ hasParent(?p, ?parent) ^ hasName(?parent, \"n" + ruleIndex
+            + "\"^^xsd:string) -> hasAncestor(?p, ?parent)", "Ancestor rule " + ruleIndex, true));
+        break;
+      default:
+        ruleDefinitions.add(new SWRLRuleDefinition(ruleName,
+          "Person(?p) ^ hasWeight(?p, ?w) ^ swrlb:multiply(?k, ?w, " + ruleIndex % 10 + ".5) ^ swrlb:lessThan(?k, "
+            + ruleIndex + ") -> Adult(?p)"));
+        break;
+      }
+    }
+    return ruleDefinitions;
+  }
+
+  @NonNull private static OWLOntology createOntology() throws OWLOntologyCreationException
+  {
+    OWLOntologyManager ontologyManager = OWLManager.createOWLOntologyManager();
+    OWLDataFactory dataFactory = ontologyManager.getOWLDataFactory();
+    OWLOntology ontology = ontologyManager.createOntology(IRI.create("http://org.swrlapi.test/bulkloading"));
+
+    for (String className : new String[] { "Person", "Adult" }) {
+      OWLClass cls = dataFactory.getOWLClass(IRI.create(NAMESPACE + className));
+      ontologyManager.addAxiom(ontology, dataFactory.getOWLDeclarationAxiom(cls));
+    }
+
+    for (String propertyName : new String[] { "hasParent", "hasAncestor" }) {
+      OWLObjectProperty property = dataFactory.getOWLObjectProperty(IRI.create(NAMESPACE + propertyName));
+      ontologyManager.addAxiom(ontology, dataFactory.getOWLDeclarationAxiom(property));
+    }
+
+    for (String propertyName : new String[] { "hasAge", "hasName", "hasWeight" }) {
+      OWLDataProperty property = dataFactory.getOWLDataProperty(IRI.create(NAMESPACE + propertyName));
+      ontologyManager.addAxiom(ontology, dataFactory.getOWLDeclarationAxiom(property));
+    }
+    return ontology;
+  }
+
+  private static void Usage()
+  {
+    System.err.println("Usage: " + SWRLRuleBulkLoadingBenchmark.class.getName() + " [ <numberOfRules> ]");
+    System.exit(1);
+  }
+}
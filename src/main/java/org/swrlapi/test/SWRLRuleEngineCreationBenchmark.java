@@ -0,0 +1,115 @@
+package org.swrlapi.test;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.semanticweb.owlapi.apibinding.OWLManager;
+import org.semanticweb.owlapi.model.AddImport;
+import org.semanticweb.owlapi.model.IRI;
+import org.semanticweb.owlapi.model.OWLDataFactory;
+import org.semanticweb.owlapi.model.OWLImportsDeclaration;
+import org.semanticweb.owlapi.model.OWLOntology;
+import org.semanticweb.owlapi.model.OWLOntologyCreationException;
+import org.semanticweb.owlapi.model.OWLOntologyLoaderConfiguration;
+import org.semanticweb.owlapi.model.OWLOntologyManager;
+import org.semanticweb.owlapi.util.SimpleIRIMapper;
+import org.swrlapi.exceptions.SWRLAPIException;
+import org.swrlapi.factory.SWRLAPIFactory;
+
+/**
+ * Measures the startup latency of creating SWRL rule engines for fresh ontologies that import the SWRLAPI support
+ * ontologies. Engines are created once for ontologies whose managers are created by
+ * {@link SWRLAPIFactory#createOWLOntologyManager()}, which hold copies of the support ontologies parsed once per
+ * process, and once for ontologies whose managers are created by OWLAPI, which parse the support ontologies for every
+ * ontology.
+ */
+public class SWRLRuleEngineCreationBenchmark
+{
+  private static final int DEFAULT_NUMBER_OF_ENGINES = 100;
+
+  private static final String[] SUPPORT_ONTOLOGY_IRIS = { "http://swrl.stanford.edu/ontologies/3.3/swrla.owl",
+    "http://swrl.stanford.edu/ontologies/built-ins/3.4/swrlm.owl",
+    "http://swrl.stanford.edu/ontologies/built-ins/3.3/temporal.owl",
+    "http://sqwrl.stanford.edu/ontologies/built-ins/3.4/sqwrl.owl" };
+  private static final String[] SUPPORT_ONTOLOGY_RESOURCES = { "owl/swrla.owl", "owl/swrlm.owl", "owl/temporal.owl",
+    "owl/sqwrl.owl" };
+
+  public static void main(@NonNull String[] args)
+  {
+    if (args.length > 1)
+      Usage();
+
+    int numberOfEngines = args.length == 0 ? DEFAULT_NUMBER_OF_ENGINES : Integer.parseInt(args[0]);
+
+    try {
+      System.out.println("Engines created: " + numberOfEngines);
+      measure(numberOfEngines, true);
+      measure(numberOfEngines, false);
+    } catch (OWLOntologyCreationException e) {
+      System.err.println("Error creating OWL ontology: " + (e.getMessage() != null ? e.getMessage() : ""));
+      System.exit(-1);
+    } catch (SWRLAPIException e) {
+      System.err.println("SWRLAPI error: " + (e.getMessage() != null ? e.getMessage() : ""));
+      System.exit(-1);
+    }
+  }
+
+  private static void measure(int numberOfEngines, boolean cached) throws OWLOntologyCreationException
+  {
+    String mode = cached ? "Cached" : "Uncached";
+    long firstEngineNanos = 0;
+    long startNanos = System.nanoTime();
+
+    for (int engineIndex = 0; engineIndex < numberOfEngines; engineIndex++) {
+      long engineStartNanos = System.nanoTime();
+
+      OWLOntology ontology = createOntology(engineIndex, cached);
+      SWRLAPIFactory.createSWRLRuleEngine(ontology);
+
+      if (engineIndex == 0)
+        firstEngineNanos = System.nanoTime() - engineStartNanos;
+    }
+
+    long totalNanos = System.nanoTime() - startNanos;
+
+    System.out.println(mode + " total time (ms): " + totalNanos / 1000000);
+    System.out.println(mode + " first engine (ms): " + firstEngineNanos / 1000000);
+    if (numberOfEngines > 1)
+      System.out.println(mode + " mean subsequent engine (ms): "
+        + ((totalNanos - firstEngineNanos) / (numberOfEngines - 1)) / 1000000.0);
+  }
+
+  /**
+   * @param cached If true the ontology's manager holds cached copies of the support ontologies
+   */
+  @NonNull private static OWLOntology createOntology(int ontologyIndex, boolean cached)
+    throws OWLOntologyCreationException
+  {
+    OWLOntologyManager ontologyManager = cached ?
+      SWRLAPIFactory.createOWLOntologyManager() :
+      OWLManager.createOWLOntologyManager();
+    OWLDataFactory dataFactory = ontologyManager.getOWLDataFactory();
+    OWLOntology ontology = ontologyManager.createOntology(IRI.create("http://org.swrlapi.test/ont" + ontologyIndex));
+
+    if (!cached) { // Imports are parsed from the bundled resources, as when an ontology importing them is loaded
+      ClassLoader classLoader = SWRLRuleEngineCreationBenchmark.class.getClassLoader();
+
+      for (int i = 0; i < SUPPORT_ONTOLOGY_IRIS.length; i++)
+        ontologyManager.getIRIMappers().add(new SimpleIRIMapper(IRI.create(SUPPORT_ONTOLOGY_IRIS[i]),
+          IRI.create(classLoader.getResource(SUPPORT_ONTOLOGY_RESOURCES[i]))));
+    }
+
+    for (String supportOntologyIRI : SUPPORT_ONTOLOGY_IRIS) {
+      OWLImportsDeclaration importsDeclaration = dataFactory.getOWLImportsDeclaration(IRI.create(supportOntologyIRI));
+
+      ontologyManager.applyChange(new AddImport(ontology, importsDeclaration));
+      ontologyManager.makeLoadImportRequest(importsDeclaration, new OWLOntologyLoaderConfiguration());
+    }
+
+    return ontology;
+  }
+
+  private static void Usage()
+  {
+    System.err.println("Usage: " + SWRLRuleEngineCreationBenchmark.class.getName() + " [ <numberOfEngines> ]");
+    System.exit(1);
+  }
+}
@@ -0,0 +1,98 @@
+package org.swrlapi.test;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.swrlapi.builtins.temporal.IntervalIndex;
+
+import java.util.Random;
+
+/**
+ * Compares generating the pairs of intervals that stand in an Allen relation with an interval index against a nested
+ * loop over all pairs, as a rule engine would do when it invokes a temporal built-in on every pair. Because the nested
+ * loop is quadratic it is run for a sample of the intervals only and its time is extrapolated.
+ */
+public class TemporalIntervalIndexBenchmark
+{
+  private static final int DEFAULT_NUMBER_OF_INTERVALS = 100000;
+  private static final int DEFAULT_NUMBER_OF_SAMPLED_INTERVALS = 1000;
+
+  private static final long TIMELINE_LENGTH = 100000000L;
+  private static final int MAXIMUM_INTERVAL_LENGTH = 10000;
+
+  private static final IntervalIndex.Relation[] RELATIONS = { IntervalIndex.Relation.OVERLAPS,
+    IntervalIndex.Relation.DURING, IntervalIndex.Relation.CONTAINS, IntervalIndex.Relation.MEETS,
+    IntervalIndex.Relation.INTERSECTS };
+
+  public static void main(@NonNull String[] args)
+  {
+    if (args.length > 2)
+      Usage();
+
+    int numberOfIntervals = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_NUMBER_OF_INTERVALS;
+    int numberOfSampledIntervals = Math.min(numberOfIntervals,
+      args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_NUMBER_OF_SAMPLED_INTERVALS);
+
+    Random random = new Random(1);
+    long[] starts = new long[numberOfIntervals];
+    long[] finishes = new long[numberOfIntervals];
+
+    for (int i = 0; i < numberOfIntervals; i++) {
+      starts[i] = (long)(random.nextDouble() * TIMELINE_LENGTH);
+      finishes[i] = starts[i] + random.nextInt(MAXIMUM_INTERVAL_LENGTH);
+    }
+
+    long startNanos = System.nanoTime();
+    IntervalIndex<Integer> index = new IntervalIndex<>();
+    for (int i = 0; i < numberOfIntervals; i++)
+      index.add(i, starts[i], finishes[i]);
+    index.find(IntervalIndex.Relation.EQUALS, 0, 0); // Force the index to be built
+    System.out.println(
+      "Indexed " + numberOfIntervals + " intervals in (ms): " + (System.nanoTime() - startNanos) / 1000000);
+
+    for (IntervalIndex.Relation relation : RELATIONS) {
+      long[] numberOfPairs = new long[1];
+
+      startNanos = System.nanoTime();
+      index.join(relation, index, (k1, k2) -> numberOfPairs[0]++);
+      long indexNanos = System.nanoTime() - startNanos;
+
+      startNanos = System.nanoTime();
+      long sampledPairs = 0;
+      for (int i = 0; i < numberOfSampledIntervals; i++)
+        for (int j = 0; j < numberOfIntervals; j++)
+          if (holds(relation, starts[j], finishes[j], starts[i], finishes[i]))
+            sampledPairs++;
+      long nestedLoopNanos = (System.nanoTime() - startNanos) / numberOfSampledIntervals * numberOfIntervals;
+
+      System.out.println(
+        "Relation: " + relation.getBuiltInName() + ", pairs: " + numberOfPairs[0] + " (" + sampledPairs
+          + " for sampled intervals), index join (ms): " + indexNanos / 1000000 + ", estimated nested loop (ms): "
+          + nestedLoopNanos / 1000000);
+    }
+  }
+
+  // The relations as tested by the temporal built-ins on each pair
+  private static boolean holds(@NonNull IntervalIndex.Relation relation, long s1, long f1, long s2, long f2)
+  {
+    switch (relation) {
+    case OVERLAPS:
+      return s1 <= s2 && f1 <= f2 && f1 >= s2;
+    case DURING:
+      return s2 <= s1 && f1 <= f2 && !(s1 == s2 && f1 == f2);
+    case CONTAINS:
+      return s1 <= s2 && f2 <= f1;
+    case MEETS:
+      return f1 + 1 == s2;
+    case INTERSECTS:
+      return s1 == s2 || (s1 < s2 && f1 > s2) || (s1 > s2 && f2 > s1);
+    default:
+      throw new IllegalArgumentException("unsupported relation " + relation);
+    }
+  }
+
+  private static void Usage()
+  {
+    System.err.println("Usage: " + TemporalIntervalIndexBenchmark.class.getName()
+      + " [ <numberOfIntervals> [ <numberOfSampledIntervals> ] ]");
+    System.exit(1);
+  }
+}
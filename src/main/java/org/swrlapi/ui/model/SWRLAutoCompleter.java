@@ -8,7 +8,16 @@ public interface SWRLAutoCompleter
 {
   /**
    * @param prefix A prefix string
-   * @return The possible completions
+   * @return The possible completions in alphabetical order
    */
   @NonNull List<@NonNull String> getCompletions(@NonNull String prefix);
+
+  /**
+   * Completions are ranked by length, shortest first, and then alphabetically.
+   *
+   * @param prefix                     A prefix string
+   * @param maximumNumberOfCompletions The maximum number of completions to return
+   * @return The highest ranked completions
+   */
+  @NonNull List<@NonNull String> getCompletions(@NonNull String prefix, int maximumNumberOfCompletions);
 }
@@ -1,6 +1,7 @@
 package org.swrlapi.ui.model;
 
 import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
 import org.checkerframework.dataflow.qual.SideEffectFree;
 import org.swrlapi.core.SWRLAPIRule;
 import org.swrlapi.core.SWRLRuleEngine;
@@ -9,6 +10,8 @@ import org.swrlapi.ui.view.SWRLAPIView;
 
 import javax.swing.table.AbstractTableModel;
 import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.SortedMap;
@@ -40,6 +43,7 @@ public class SWRLRulesAndSQWRLQueriesTableModel extends AbstractTableModel imple
   @NonNull private SWRLRuleEngine swrlRuleEngine;
   @NonNull private SWRLRuleRenderer swrlRuleRenderer;
   @NonNull private final SortedMap<@NonNull String, @NonNull SWRLRuleModel> swrlRuleModels; // rule name -> SWRLRuleModel
+  @NonNull private SWRLRuleModel[] swrlRuleModelRows; // The values of swrlRuleModels indexed by table row
   @NonNull private Optional<@NonNull SWRLAPIView> view = Optional.<@NonNull SWRLAPIView>empty();
   private ContentMode contentMode;
 
@@ -50,6 +54,7 @@ public class SWRLRulesAndSQWRLQueriesTableModel extends AbstractTableModel imple
     this.swrlRuleEngine = swrlRuleEngine;
     this.swrlRuleRenderer = this.swrlRuleEngine.createSWRLRuleRenderer();
     this.swrlRuleModels = new TreeMap<>();
+    this.swrlRuleModelRows = new SWRLRuleModel[0];
     this.isModified = false;
     this.contentMode = ContentMode.RuleContentOnly;
   }
@@ -65,6 +70,7 @@ public class SWRLRulesAndSQWRLQueriesTableModel extends AbstractTableModel imple
     this.swrlRuleEngine = swrlRuleEngine;
     this.swrlRuleRenderer = this.swrlRuleEngine.createSWRLRuleRenderer();
     this.swrlRuleModels.clear();
+    this.swrlRuleModelRows = new SWRLRuleModel[0];
     this.isModified = false;
 
     updateView();
@@ -173,7 +179,7 @@ public class SWRLRulesAndSQWRLQueriesTableModel extends AbstractTableModel imple
 
   @Override public int getRowCount()
   {
-    return this.swrlRuleModels.size();
+    return this.swrlRuleModelRows.length;
   }
 
   @Override public int getColumnCount()
@@ -209,7 +215,7 @@ public class SWRLRulesAndSQWRLQueriesTableModel extends AbstractTableModel imple
     if ((row < 0 || row >= getRowCount()) || ((column < 0 || column >= getColumnCount())))
       return "<OUT OF BOUNDS>";
     else {
-      SWRLRuleModel swrlRuleModel = (SWRLRuleModel)this.swrlRuleModels.values().toArray()[row];
+      SWRLRuleModel swrlRuleModel = this.swrlRuleModelRows[row];
       if (column == getRuleTextColumnNumber())
         return swrlRuleModel.getRuleText();
       else if (column == getRuleNameColumnNumber())
@@ -224,8 +230,9 @@ public class SWRLRulesAndSQWRLQueriesTableModel extends AbstractTableModel imple
 
   @Override public boolean isCellEditable(int rowIndex, int columnIndex)
   {
-    if (hasRuleActiveColumn() && columnIndex == getRuleActiveColumnNumber()) {
-      SWRLRuleModel swrlRuleModel = (SWRLRuleModel)this.swrlRuleModels.values().toArray()[rowIndex];
+    if (hasRuleActiveColumn() && columnIndex == getRuleActiveColumnNumber() && rowIndex >= 0
+      && rowIndex < this.swrlRuleModelRows.length) {
+      SWRLRuleModel swrlRuleModel = this.swrlRuleModelRows[rowIndex];
       return !swrlRuleModel.isSQWRLQuery();
     } else
       return false;
@@ -243,7 +250,7 @@ public class SWRLRulesAndSQWRLQueriesTableModel extends AbstractTableModel imple
   @Override public void setValueAt(Object aValue, int rowIndex, int columnIndex)
   {
     if (columnIndex == getRuleActiveColumnNumber()) {
-      ((SWRLRuleModel)this.swrlRuleModels.values().toArray()[rowIndex]).setActive((Boolean)aValue);
+      this.swrlRuleModelRows[rowIndex].setActive((Boolean)aValue);
     } else {
       super.setValueAt(aValue, rowIndex, columnIndex);
     }
@@ -261,21 +268,44 @@ public class SWRLRulesAndSQWRLQueriesTableModel extends AbstractTableModel imple
 
   @NonNull private Optional<@NonNull SWRLRuleModel> getSWRLRuleModelByIndex(int ruleIndex)
   {
-    if (ruleIndex >= 0 && ruleIndex < this.swrlRuleModels.values().size())
-      return Optional.of(((SWRLRuleModel)this.swrlRuleModels.values().toArray()[ruleIndex]));
+    if (ruleIndex >= 0 && ruleIndex < this.swrlRuleModelRows.length)
+      return Optional.of(this.swrlRuleModelRows[ruleIndex]);
     else
       return Optional.<@NonNull SWRLRuleModel>empty();
   }
 
+  /**
+   * Models of unchanged rules are kept, along with their rendered text, and the row array is rebuilt only if a rule
+   * has been added, removed, or replaced.
+   */
   private void updateRuleModels()
   {
-    this.swrlRuleModels.clear();
+    Set<@NonNull SWRLAPIRule> swrlapiRules = this.swrlRuleEngine.getSWRLRules();
+    Set<@NonNull String> ruleNames = new HashSet<>();
+    boolean rulesChanged = false;
 
-    for (SWRLAPIRule swrlapiRule : this.swrlRuleEngine.getSWRLRules()) {
+    for (SWRLAPIRule swrlapiRule : swrlapiRules) {
       String ruleName = swrlapiRule.getRuleName();
-      SWRLRuleModel swrlRuleModel = new SWRLRuleModel(swrlapiRule);
-      this.swrlRuleModels.put(ruleName, swrlRuleModel);
+      SWRLRuleModel swrlRuleModel = this.swrlRuleModels.get(ruleName);
+
+      ruleNames.add(ruleName);
+      if (swrlRuleModel == null || swrlRuleModel.rule != swrlapiRule) {
+        this.swrlRuleModels.put(ruleName, new SWRLRuleModel(swrlapiRule));
+        rulesChanged = true;
+      }
     }
+
+    if (this.swrlRuleModels.size() != ruleNames.size()) {
+      Iterator<Map.Entry<@NonNull String, @NonNull SWRLRuleModel>> iterator = this.swrlRuleModels.entrySet().iterator();
+      while (iterator.hasNext()) {
+        if (!ruleNames.contains(iterator.next().getKey()))
+          iterator.remove();
+      }
+      rulesChanged = true;
+    }
+
+    if (rulesChanged || this.swrlRuleModelRows.length != this.swrlRuleModels.size())
+      this.swrlRuleModelRows = this.swrlRuleModels.values().toArray(new SWRLRuleModel[this.swrlRuleModels.size()]);
   }
 
   @Override public String toString()
@@ -292,6 +322,7 @@ public class SWRLRulesAndSQWRLQueriesTableModel extends AbstractTableModel imple
   private class SWRLRuleModel
   {
     @NonNull private final SWRLAPIRule rule;
+    @Nullable private String ruleText; // Rendered on first display
 
     public SWRLRuleModel(@NonNull SWRLAPIRule rule)
     {
@@ -315,7 +346,13 @@ public class SWRLRulesAndSQWRLQueriesTableModel extends AbstractTableModel imple
 
     @NonNull public String getRuleText()
     {
-      return getSWRLRuleRenderer().renderSWRLRule(this.rule);
+      String ruleText = this.ruleText;
+
+      if (ruleText == null) {
+        ruleText = getSWRLRuleRenderer().renderSWRLRule(this.rule);
+        this.ruleText = ruleText;
+      }
+      return ruleText;
     }
 
     @NonNull public String getRuleName()
@@ -54,6 +54,8 @@ public class SWRLRulesTableView extends JPanel implements SWRLAPIView
   @NonNull private final JTable swrlRulesTable;
   @NonNull private final JButton newButton, cloneButton, editButton, deleteButton;
 
+  private boolean ruleEditingEnabled = true;
+
   public SWRLRulesTableView(@NonNull SWRLRuleEngineModel swrlRuleEngineModel,
     @NonNull SWRLRuleEngineDialogManager dialogManager)
   {
@@ -87,6 +89,24 @@ public class SWRLRulesTableView extends JPanel implements SWRLAPIView
     validate();
   }
 
+  /**
+   * Enable or disable creating, editing, cloning, deleting, and activating rules. Editing is disabled while a rule
+   * engine runs in the background so that the rules it is using do not change underneath it.
+   *
+   * @param enabled Whether rules may be edited
+   */
+  public void setRuleEditingEnabled(boolean enabled)
+  {
+    this.ruleEditingEnabled = enabled;
+    this.swrlRulesTable.setEnabled(enabled);
+    this.newButton.setEnabled(enabled);
+
+    if (enabled && hasSelectedRule())
+      enableEditAndCloneAndDelete();
+    else
+      disableEditAndCloneAndDelete();
+  }
+
   public Optional<@NonNull String> getSelectedSWRLRuleName()
   {
     int selectedRow = this.swrlRulesTable.getSelectedRow();
@@ -155,7 +175,7 @@ public class SWRLRulesTableView extends JPanel implements SWRLAPIView
     {
       @Override public void valueChanged(ListSelectionEvent e)
       {
-        if (hasSelectedRule())
+        if (hasSelectedRule() && SWRLRulesTableView.this.ruleEditingEnabled)
           enableEditAndCloneAndDelete();
         else
           disableEditAndCloneAndDelete();
@@ -165,7 +185,7 @@ public class SWRLRulesTableView extends JPanel implements SWRLAPIView
 
   private void editSelectedSWRLRule()
   {
-    if (this.swrlRulesTable.getSelectedRow() != -1) {
+    if (this.ruleEditingEnabled && this.swrlRulesTable.getSelectedRow() != -1) {
       String ruleName = getSelectedSWRLRuleName().get();
       String ruleText = getSelectedSWRLRuleText().get();
       String ruleComment = getSelectedSWRLRuleComment().get();
@@ -361,7 +381,7 @@ public class SWRLRulesTableView extends JPanel implements SWRLAPIView
 
     private void maybeShowPopup(@NonNull MouseEvent e)
     {
-      if (e.isPopupTrigger())
+      if (e.isPopupTrigger() && SWRLRulesTableView.this.ruleEditingEnabled)
         this.popup.show(e.getComponent(), e.getX(), e.getY());
     }
   }
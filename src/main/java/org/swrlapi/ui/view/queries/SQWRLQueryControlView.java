@@ -1,6 +1,11 @@
 package org.swrlapi.ui.view.queries;
 
 import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.swrlapi.core.SWRLRuleEngineBudget;
+import org.swrlapi.core.SWRLRuleEnginePhase;
+import org.swrlapi.core.SWRLRuleEngineProgress;
+import org.swrlapi.exceptions.SWRLRuleEngineCancelledException;
 import org.swrlapi.sqwrl.SQWRLQueryEngine;
 import org.swrlapi.sqwrl.SQWRLResult;
 import org.swrlapi.sqwrl.exceptions.SQWRLException;
@@ -15,9 +20,18 @@ import java.awt.event.ActionListener;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 /**
+ * Runs SQWRL queries and reports on their execution.
+ * <p>
+ * Queries run on the default rule engine executor so that the user interface stays responsive. While a query runs
+ * its progress is polled and displayed, it can be cancelled, and rules cannot be edited.
+ *
  * @see org.swrlapi.sqwrl.SQWRLQueryEngine
+ * @see org.swrlapi.sqwrl.SQWRLQueryEngine#runSQWRLQueryAsync(String, SWRLRuleEngineBudget)
  */
 public class SQWRLQueryControlView extends JPanel implements SWRLAPIView
 {
@@ -30,12 +44,21 @@ public class SQWRLQueryControlView extends JPanel implements SWRLAPIView
   private static final int CONSOLE_ROWS = 10;
   private static final int CONSOLE_COLUMNS = 80;
   private static final int MAXIMUM_OPEN_RESULT_VIEWS = 12;
+  private static final int PROGRESS_UPDATE_INTERVAL_MILLIS = 250;
 
   @NonNull private final SQWRLQueryEngineModel queryEngineModel;
   @NonNull private final SQWRLQuerySelector sqwrlQuerySelector;
   @NonNull private final JTextArea console;
   @NonNull private final JScrollPane consoleScrollPane;
   @NonNull private final Map<@NonNull String, SQWRLResultView> sqwrlResultViews = new HashMap<>();
+  @NonNull private final JButton runSQWRLQueryButton;
+  @NonNull private final JButton cancelSQWRLQueryButton;
+  @NonNull private final JLabel progressLabel;
+  @NonNull private final Timer progressTimer;
+
+  // Accessed on the event dispatch thread only
+  @Nullable private CompletableFuture<@NonNull SQWRLResult> runningSQWRLQuery = null;
+  @Nullable private String runningSQWRLQueryName = null;
 
   public SQWRLQueryControlView(@NonNull SQWRLQueryEngineModel queryEngineModel,
     @NonNull SQWRLQuerySelector sqwrlQuerySelector)
@@ -44,6 +67,12 @@ public class SQWRLQueryControlView extends JPanel implements SWRLAPIView
     this.sqwrlQuerySelector = sqwrlQuerySelector;
     this.console = new JTextArea(CONSOLE_ROWS, CONSOLE_COLUMNS);
     this.consoleScrollPane = new JScrollPane(this.console);
+    this.runSQWRLQueryButton = createButton("Run", "Run a SQWRL query",
+      new RunSQWRLQueryActionListener(this.console, this));
+    this.cancelSQWRLQueryButton = createButton("Cancel", "Cancel the running SQWRL query",
+      new CancelSQWRLQueryActionListener(this.console, this));
+    this.progressLabel = new JLabel(" ");
+    this.progressTimer = new Timer(PROGRESS_UPDATE_INTERVAL_MILLIS, event -> displayProgress());
   }
 
   @Override public void initialize()
@@ -55,10 +84,13 @@ public class SQWRLQueryControlView extends JPanel implements SWRLAPIView
     consoleScrollPane.setPreferredSize(new Dimension(VIEW_PREFERRED_WIDTH, VIEW_PREFERRED_HEIGHT));
     add(BorderLayout.CENTER, consoleScrollPane);
 
-    JPanel controlPanel = new JPanel(new FlowLayout());
-    JButton runSQWRLQueryButton = createButton("Run", "Run a SQWRL query",
-      new RunSQWRLQueryActionListener(this.console, this));
-    controlPanel.add(runSQWRLQueryButton);
+    JPanel controlPanel = new JPanel(new BorderLayout());
+    JPanel buttonsPanel = new JPanel(new FlowLayout());
+    this.cancelSQWRLQueryButton.setEnabled(this.runningSQWRLQuery != null);
+    buttonsPanel.add(this.runSQWRLQueryButton);
+    buttonsPanel.add(this.cancelSQWRLQueryButton);
+    controlPanel.add(BorderLayout.NORTH, this.progressLabel);
+    controlPanel.add(BorderLayout.SOUTH, buttonsPanel);
     add(BorderLayout.SOUTH, controlPanel);
 
     console.append("Select a SQWRL query from the list above and press the 'Run' button.\n");
@@ -88,6 +120,39 @@ public class SQWRLQueryControlView extends JPanel implements SWRLAPIView
     });
   }
 
+  /**
+   * Run a SQWRL query in the background. Its result is displayed in its result tab when it completes. Only one query
+   * is run at a time.
+   *
+   * @param queryName The name of the query
+   */
+  public void runSQWRLQuery(@NonNull String queryName)
+  {
+    if (this.runningSQWRLQuery != null)
+      appendToConsole("SQWRL query " + this.runningSQWRLQueryName
+        + " is still running. Cancel it or wait for it to finish before running another query.\n");
+    else if (!this.sqwrlResultViews.containsKey(queryName)
+      && this.sqwrlResultViews.size() == MAXIMUM_OPEN_RESULT_VIEWS) {
+      appendToConsole("A maximum of " + MAXIMUM_OPEN_RESULT_VIEWS + " result tabs may be open at once. ");
+      appendToConsole("Please close an existing tab to display results for the selected query.\n");
+    } else {
+      long startTime = System.currentTimeMillis();
+      CompletableFuture<@NonNull SQWRLResult> sqwrlQuery = getSQWRLQueryEngine()
+        .runSQWRLQueryAsync(queryName, SWRLRuleEngineBudget.UNLIMITED);
+
+      this.runningSQWRLQuery = sqwrlQuery;
+      this.runningSQWRLQueryName = queryName;
+      this.runSQWRLQueryButton.setEnabled(false);
+      this.cancelSQWRLQueryButton.setEnabled(true);
+      this.sqwrlQuerySelector.setRuleEditingEnabled(false);
+      this.progressLabel.setText("Running SQWRL query " + queryName + "...");
+      this.progressTimer.start();
+
+      sqwrlQuery.whenComplete((sqwrlResult, exception) -> SwingUtilities
+        .invokeLater(() -> finishSQWRLQuery(sqwrlQuery, queryName, sqwrlResult, exception, startTime)));
+    }
+  }
+
   public void removeSQWRLResultView(@NonNull String queryName)
   {
     if (this.sqwrlResultViews.containsKey(queryName)) {
@@ -122,6 +187,95 @@ public class SQWRLQueryControlView extends JPanel implements SWRLAPIView
     return this.queryEngineModel.getSQWRLQueryEngine();
   }
 
+  private void finishSQWRLQuery(@NonNull CompletableFuture<@NonNull SQWRLResult> sqwrlQuery, @NonNull String queryName,
+    @Nullable SQWRLResult sqwrlResult, @Nullable Throwable exception, long startTime)
+  {
+    if (this.runningSQWRLQuery != sqwrlQuery)
+      return;
+
+    this.runningSQWRLQuery = null;
+    this.runningSQWRLQueryName = null;
+    this.progressTimer.stop();
+    this.progressLabel.setText(" ");
+    this.runSQWRLQueryButton.setEnabled(true);
+    this.cancelSQWRLQueryButton.setEnabled(false);
+    this.sqwrlQuerySelector.setRuleEditingEnabled(true);
+
+    Throwable cause = exception instanceof CompletionException && exception.getCause() != null ?
+      exception.getCause() :
+      exception;
+
+    try {
+      if (cause instanceof CancellationException || cause instanceof SWRLRuleEngineCancelledException)
+        appendToConsole("SQWRL query " + queryName + " was cancelled.\n");
+      else if (cause instanceof SQWRLInvalidQueryNameException)
+        appendToConsole(queryName + " is not a valid SQWRL query or is not enabled.\n");
+      else if (cause != null)
+        appendToConsole("Exception running SQWRL query " + queryName + ": " + buildChainedErrorMessage(cause) + "\n");
+      else if (sqwrlResult == null || sqwrlResult.getNumberOfRows() == 0)
+        indicateEmptySQWRLResult(queryName);
+      else
+        displaySQWRLResult(queryName, sqwrlResult, startTime);
+    } catch (SQWRLException | RuntimeException e) {
+      appendToConsole("Exception displaying result of SQWRL query " + queryName + ": " + buildChainedErrorMessage(e)
+        + "\n");
+    }
+  }
+
+  private void displayProgress()
+  {
+    Optional<@NonNull SWRLRuleEngineProgress> progress = getSQWRLQueryEngine().getExecutionProgress();
+
+    if (this.runningSQWRLQueryName != null && progress.isPresent()) {
+      Optional<@NonNull SWRLRuleEnginePhase> phase = progress.get().getPhase();
+      String phaseDescription = phase.isPresent() && phase.get() == SWRLRuleEnginePhase.RUN ? "running" : "importing";
+
+      this.progressLabel.setText(
+        "SQWRL query " + this.runningSQWRLQueryName + " " + phaseDescription + ": " + progress.get()
+          .getNumberOfImportedOWLAxioms() + " axioms imported, " + progress.get().getNumberOfInferredOWLAxioms()
+          + " axioms inferred, " + progress.get().getNumberOfSQWRLResultRows() + " rows produced");
+    }
+  }
+
+  private void indicateEmptySQWRLResult(@NonNull String queryName)
+  {
+    appendToConsole("SQWRL query " + queryName + " did not generate any result.\n");
+
+    if (this.sqwrlResultViews.containsKey(queryName)) {
+      SQWRLResultView queryResultsView = this.sqwrlResultViews.get(queryName);
+      this.sqwrlResultViews.remove(queryName);
+      getParent().remove(queryResultsView);
+    }
+  }
+
+  private void displaySQWRLResult(@NonNull String queryName, @NonNull SQWRLResult sqwrlResult, long startTime)
+    throws SQWRLException
+  {
+    appendToConsole("See the " + queryName + " tab to review results of the SQWRL query.\n");
+    appendToConsole("The query took " + (System.currentTimeMillis() - startTime) + " milliseconds. ");
+
+    if (sqwrlResult.getNumberOfRows() == 1)
+      appendToConsole("1 row was returned.\n");
+    else
+      appendToConsole("" + sqwrlResult.getNumberOfRows() + " rows were returned.\n");
+
+    SQWRLResultView sqwrlResultView;
+
+    if (this.sqwrlResultViews.containsKey(queryName)) { // Existing result tab found
+      sqwrlResultView = this.sqwrlResultViews.get(queryName);
+      sqwrlResultView.setSQWRLResult(sqwrlResult);
+    } else { // Create new result tab
+      sqwrlResultView = new SQWRLResultView(this.queryEngineModel, queryName, sqwrlResult, this);
+      sqwrlResultView.initialize();
+      this.sqwrlResultViews.put(queryName, sqwrlResultView);
+      ((JTabbedPane)getParent()).addTab(queryName, null, sqwrlResultView, "SQWRL Result for query '" + queryName + "'");
+    }
+
+    sqwrlResultView.validate();
+    getParent().validate();
+    this.console.validate();
+  }
+
   private class ListenerBase
   {
     @NonNull protected final SQWRLQueryControlView sqwrlQueryControlView;
@@ -148,85 +302,37 @@ public class SQWRLQueryControlView extends JPanel implements SWRLAPIView
 
     private void runSQWRLQuery()
     {
-      Optional<@NonNull String> queryName = Optional.empty();
+      SQWRLQuerySelector querySelector = SQWRLQueryControlView.this.sqwrlQuerySelector;
 
-      if (SQWRLQueryControlView.this.sqwrlResultViews.size() == SQWRLQueryControlView.MAXIMUM_OPEN_RESULT_VIEWS) {
-        appendToConsole(
-          "A maximum of " + SQWRLQueryControlView.MAXIMUM_OPEN_RESULT_VIEWS + " result tabs may be open at once. ");
-        appendToConsole("Please close an existing tab to display results for the selected query.\n");
+      if (querySelector == null) {
+        appendToConsole("Configuration error: no query selector supplied. No queries can be executed!\n");
       } else {
-        try {
-          SQWRLQuerySelector querySelector = SQWRLQueryControlView.this.sqwrlQuerySelector;
-
-          if (querySelector == null) {
-            appendToConsole("Configuration error: no query selector supplied. No queries can be executed!\n");
-          } else {
-            queryName = SQWRLQueryControlView.this.sqwrlQuerySelector.getSelectedQueryName();
-
-            if (queryName.isPresent()) {
-              long startTime = System.currentTimeMillis();
-              SQWRLResult sqwrlResult = SQWRLQueryControlView.this.getSQWRLQueryEngine().runSQWRLQuery(queryName.get());
-
-              if (sqwrlResult == null || sqwrlResult.getNumberOfRows() == 0)
-                indicateEmptySQWRLResult(queryName.get());
-              else
-                displaySQWRLResult(queryName.get(), sqwrlResult, startTime);
-            } else
-              appendToConsole("No enabled SQWRL query selected.\n");
-          }
-        } catch (SQWRLInvalidQueryNameException e) {
-          if (queryName.isPresent())
-            appendToConsole(queryName.get() + " is not a valid SQWRL query or is not enabled.\n");
-          else
-            appendToConsole("No enabled SQWRL query selected.\n");
-        } catch (SQWRLException | RuntimeException e) {
-          if (queryName.isPresent())
-            appendToConsole(
-              "Exception running SQWRL query " + queryName.get() + ": " + buildChainedErrorMessage(e) + "\n");
-          else
-            appendToConsole("Exception running SQWRL queries: " + buildChainedErrorMessage(e) + "\n");
-        }
+        Optional<@NonNull String> queryName = querySelector.getSelectedQueryName();
+
+        if (queryName.isPresent())
+          this.sqwrlQueryControlView.runSQWRLQuery(queryName.get());
+        else
+          appendToConsole("No enabled SQWRL query selected.\n");
       }
     }
+  }
 
-    private void indicateEmptySQWRLResult(@NonNull String queryName)
+  private class CancelSQWRLQueryActionListener extends ListenerBase implements ActionListener
+  {
+    public CancelSQWRLQueryActionListener(@NonNull JTextArea console,
+      @NonNull SQWRLQueryControlView sqwrlQueryControlView)
     {
-      appendToConsole("SQWRL query " + queryName + " did not generate any result.\n");
-
-      if (SQWRLQueryControlView.this.sqwrlResultViews.containsKey(queryName)) {
-        SQWRLResultView queryResultsView = SQWRLQueryControlView.this.sqwrlResultViews.get(queryName);
-        SQWRLQueryControlView.this.sqwrlResultViews.remove(queryName);
-        getParent().remove(queryResultsView);
-      }
+      super(console, sqwrlQueryControlView);
     }
 
-    private void displaySQWRLResult(@NonNull String queryName, @NonNull SQWRLResult sqwrlResult, long startTime)
-      throws SQWRLException
+    @Override public void actionPerformed(@NonNull ActionEvent event)
     {
-      appendToConsole("See the " + queryName + " tab to review results of the SQWRL query.\n");
-      appendToConsole("The query took " + (System.currentTimeMillis() - startTime) + " milliseconds. ");
+      CompletableFuture<@NonNull SQWRLResult> sqwrlQuery = SQWRLQueryControlView.this.runningSQWRLQuery;
 
-      if (sqwrlResult.getNumberOfRows() == 1)
-        appendToConsole("1 row was returned.\n");
-      else
-        appendToConsole("" + sqwrlResult.getNumberOfRows() + " rows were returned.\n");
-
-      SQWRLResultView sqwrlResultView;
-
-      if (SQWRLQueryControlView.this.sqwrlResultViews.containsKey(queryName)) // Existing result tab found
-        sqwrlResultView = SQWRLQueryControlView.this.sqwrlResultViews.get(queryName);
-      else { // Create new result tab
-        sqwrlResultView = new SQWRLResultView(SQWRLQueryControlView.this.queryEngineModel, queryName, sqwrlResult,
-          this.sqwrlQueryControlView);
-        sqwrlResultView.initialize();
-        SQWRLQueryControlView.this.sqwrlResultViews.put(queryName, sqwrlResultView);
-        ((JTabbedPane)getParent())
-          .addTab(queryName, null, sqwrlResultView, "SQWRL Result for query '" + queryName + "'");
+      if (sqwrlQuery != null) {
+        appendToConsole("Cancelling SQWRL query " + SQWRLQueryControlView.this.runningSQWRLQueryName + ".\n");
+        sqwrlQuery.cancel(true);
       }
-
-      sqwrlResultView.validate();
-      this.sqwrlQueryControlView.getParent().validate();
-      this.console.validate();
     }
   }
 
@@ -24,4 +24,9 @@ class SQWRLQuerySelector
   {
     return this.swrlRulesTableView.getSelectedSWRLRuleName();
   }
+
+  public void setRuleEditingEnabled(boolean enabled)
+  {
+    this.swrlRulesTableView.setRuleEditingEnabled(enabled);
+  }
 }
@@ -7,7 +7,6 @@ import org.slf4j.LoggerFactory;
 import org.swrlapi.sqwrl.SQWRLQueryEngine;
 import org.swrlapi.sqwrl.SQWRLResult;
 import org.swrlapi.sqwrl.exceptions.SQWRLException;
-import org.swrlapi.sqwrl.exceptions.SQWRLInvalidQueryNameException;
 import org.swrlapi.sqwrl.values.SQWRLClassExpressionResultValue;
 import org.swrlapi.sqwrl.values.SQWRLDataPropertyExpressionResultValue;
 import org.swrlapi.sqwrl.values.SQWRLEntityResultValue;
@@ -26,6 +25,8 @@ import java.io.File;
 import java.io.FileOutputStream;
 import java.io.OutputStream;
 import java.io.OutputStreamWriter;
+import java.util.HashMap;
+import java.util.Map;
 
 /**
  * A view holding the result for a single SQWRL query.
@@ -94,6 +95,14 @@ public class SQWRLResultView extends JPanel implements SWRLAPIView
     validate();
   }
 
+  /**
+   * @param sqwrlResult The result of a rerun of this view's query
+   */
+  public void setSQWRLResult(@NonNull SQWRLResult sqwrlResult)
+  {
+    this.sqwrlResult = sqwrlResult;
+  }
+
   @NonNull private SQWRLQueryEngine getSQWRLQueryEngine()
   {
     return this.queryEngineModel.getSQWRLQueryEngine();
@@ -103,29 +112,8 @@ public class SQWRLResultView extends JPanel implements SWRLAPIView
   {
     @Override public void actionPerformed(ActionEvent event)
     {
-      try {
-        SQWRLResultView.this.sqwrlResult = SQWRLResultView.this.getSQWRLQueryEngine()
-          .runSQWRLQuery(SQWRLResultView.this.queryName);
-
-        if (SQWRLResultView.this.sqwrlResult == null || SQWRLResultView.this.sqwrlResult.getNumberOfRows() == 0) {
-          SQWRLResultView.this.sqwrlQueryControlView.appendToConsole(
-            "No result returned for SQWRL query '" + SQWRLResultView.this.queryName + "' - closing tab.\n");
-          SQWRLResultView.this.sqwrlQueryControlView.removeSQWRLResultView(SQWRLResultView.this.queryName);
-        } else
-          validate();
-      } catch (SQWRLInvalidQueryNameException e) {
-        SQWRLResultView.this.sqwrlQueryControlView
-          .appendToConsole("Invalid query name " + SQWRLResultView.this.queryName + ".\n");
-      } catch (SQWRLException e) {
-        SQWRLResultView.this.sqwrlQueryControlView.appendToConsole(
-          "Exception running SQWRL query '" + SQWRLResultView.this.queryName + "': " + (e != null ? e.getMessage() : "")
-            + "\n");
-      }
-
-      /*
-       * if (sqwrlResult == null) { controlPanel.removeAllPanels();
-       * controlPanel.appendText("Closing all result tabs.\n"); }
-       */
+      // The result is displayed in this view, or the view is closed if there is none, when the query completes
+      SQWRLResultView.this.sqwrlQueryControlView.runSQWRLQuery(SQWRLResultView.this.queryName);
     }
   }
 
@@ -217,10 +205,25 @@ public class SQWRLResultView extends JPanel implements SWRLAPIView
     return button;
   }
 
+  /**
+   * Cell values are rendered a page of rows at a time when a row in the page is first displayed, so only the rows
+   * that the user scrolls to are rendered.
+   */
   private class SQWRLQueryResultTableModel extends AbstractTableModel
   {
     private static final long serialVersionUID = 1L;
 
+    private static final int ROWS_PER_PAGE = 100;
+    private static final int MAXIMUM_CACHED_PAGES = 50;
+
+    @NonNull private final Map<@NonNull Integer, @NonNull Object[][]> pages = new HashMap<>(); // page index -> cells
+
+    @Override public void fireTableStructureChanged()
+    {
+      this.pages.clear();
+      super.fireTableStructureChanged();
+    }
+
     @Override public int getRowCount()
     {
       try {
@@ -251,6 +254,42 @@ public class SQWRLResultView extends JPanel implements SWRLAPIView
     }
 
     @NonNull @Override public Object getValueAt(int row, int column)
+    {
+      if (row < 0 || column < 0)
+        return "<INVALID>";
+
+      Object[][] page = getPage(row / ROWS_PER_PAGE);
+      int pageRow = row % ROWS_PER_PAGE;
+
+      if (pageRow >= page.length || column >= page[pageRow].length)
+        return "<INVALID>";
+      else
+        return page[pageRow][column];
+    }
+
+    @NonNull private Object[][] getPage(int pageIndex)
+    {
+      Object[][] page = this.pages.get(pageIndex);
+
+      if (page == null) {
+        int firstRow = pageIndex * ROWS_PER_PAGE;
+        int numberOfRows = Math.max(0, Math.min(ROWS_PER_PAGE, getRowCount() - firstRow));
+        int numberOfColumns = getColumnCount();
+
+        page = new Object[numberOfRows][numberOfColumns];
+        for (int pageRow = 0; pageRow < numberOfRows; pageRow++) {
+          for (int column = 0; column < numberOfColumns; column++)
+            page[pageRow][column] = renderValue(firstRow + pageRow, column);
+        }
+
+        if (this.pages.size() >= MAXIMUM_CACHED_PAGES)
+          this.pages.clear();
+        this.pages.put(pageIndex, page);
+      }
+      return page;
+    }
+
+    @NonNull private Object renderValue(int row, int column)
     {
       try {
         SQWRLResultValue sqwrlResultValue = (SQWRLResultView.this.sqwrlResult == null) ?
@@ -4,24 +4,20 @@ import org.checkerframework.checker.nullness.qual.NonNull;
 import org.swrlapi.core.SWRLRuleEngine;
 import org.swrlapi.ui.model.SWRLRuleEngineModel;
 import org.swrlapi.ui.view.SWRLAPIView;
-import org.semanticweb.owlapi.model.OWLObject;
 
 import javax.swing.*;
-import javax.swing.table.AbstractTableModel;
 import java.awt.*;
 
 public class AssertedOWLAxiomsView extends JPanel implements SWRLAPIView
 {
   private static final long serialVersionUID = 1L;
 
-  @NonNull private final SWRLRuleEngineModel ruleEngineModel;
-  @NonNull private final AssertedAxiomsTableModel assertedAxiomsTableModel;
+  @NonNull private final OWLAxiomsTableModel assertedAxiomsTableModel;
   @NonNull private final JTable table;
 
   public AssertedOWLAxiomsView(@NonNull SWRLRuleEngineModel ruleEngineModel)
   {
-    this.ruleEngineModel = ruleEngineModel;
-    this.assertedAxiomsTableModel = new AssertedAxiomsTableModel();
+    this.assertedAxiomsTableModel = new OWLAxiomsTableModel(ruleEngineModel, SWRLRuleEngine::getAssertedOWLAxioms);
     this.table = new JTable(this.assertedAxiomsTableModel);
   }
 
@@ -48,35 +44,4 @@ public class AssertedOWLAxiomsView extends JPanel implements SWRLAPIView
   {
     validate();
   }
-
-  @NonNull private SWRLRuleEngine getSWRLRuleEngine() { return this.ruleEngineModel.getSWRLRuleEngine(); }
-
-  private class AssertedAxiomsTableModel extends AbstractTableModel
-  {
-    private static final long serialVersionUID = 1L;
-
-    @Override
-    public int getRowCount()
-    {
-      return AssertedOWLAxiomsView.this.getSWRLRuleEngine().getNumberOfAssertedOWLAxioms();
-    }
-
-    @Override
-    public int getColumnCount()
-    {
-      return 1;
-    }
-
-    @Override
-    public Object getValueAt(int row, int column)
-    {
-      if (row < 0 || row >= getRowCount())
-        return "<OUT OF BOUNDS>";
-      else {
-        // TODO This seems overly elaborate
-        OWLObject owlObject = (OWLObject)AssertedOWLAxiomsView.this.getSWRLRuleEngine().getAssertedOWLAxioms().toArray()[row];
-        return ruleEngineModel.getSWRLRuleEngine().getSWRLAPIOWLOntology().getIRIResolver().render(owlObject);
-      }
-    }
-  }
 }
@@ -4,23 +4,19 @@ import org.checkerframework.checker.nullness.qual.NonNull;
 import org.swrlapi.core.SWRLRuleEngine;
 import org.swrlapi.ui.model.SWRLRuleEngineModel;
 import org.swrlapi.ui.view.SWRLAPIView;
-import org.semanticweb.owlapi.model.OWLObject;
 
 import javax.swing.*;
-import javax.swing.table.AbstractTableModel;
 import java.awt.*;
 
 public class InferredOWLAxiomsView extends JPanel implements SWRLAPIView
 {
   private static final long serialVersionUID = 1L;
 
-  @NonNull private final SWRLRuleEngineModel ruleEngineModel;
-  @NonNull private final InferredAxiomsTableModel inferredAxiomsTableModel;
+  @NonNull private final OWLAxiomsTableModel inferredAxiomsTableModel;
 
   public InferredOWLAxiomsView(@NonNull SWRLRuleEngineModel ruleEngineModel)
   {
-    this.ruleEngineModel = ruleEngineModel;
-    this.inferredAxiomsTableModel = new InferredAxiomsTableModel();
+    this.inferredAxiomsTableModel = new OWLAxiomsTableModel(ruleEngineModel, SWRLRuleEngine::getInferredOWLAxioms);
   }
 
   @Override public void initialize()
@@ -43,35 +39,4 @@ public class InferredOWLAxiomsView extends JPanel implements SWRLAPIView
   {
     validate();
   }
-
-  @NonNull private SWRLRuleEngine getSWRLRuleEngine()
-  {
-    return this.ruleEngineModel.getSWRLRuleEngine();
-  }
-
-  private class InferredAxiomsTableModel extends AbstractTableModel
-  {
-    private static final long serialVersionUID = 1L;
-
-    @Override public int getRowCount()
-    {
-      return InferredOWLAxiomsView.this.getSWRLRuleEngine().getNumberOfInferredOWLAxioms();
-    }
-
-    @Override public int getColumnCount()
-    {
-      return 1;
-    }
-
-    @Override public Object getValueAt(int row, int column)
-    {
-      if (row < 0 || row >= getRowCount())
-        return "<OUT OF BOUNDS>";
-      else {
-        // TODO This seems overly elaborate
-        OWLObject owlObject = (OWLObject)InferredOWLAxiomsView.this.getSWRLRuleEngine().getInferredOWLAxioms().toArray()[row];
-        return ruleEngineModel.getSWRLRuleEngine().getSWRLAPIOWLOntology().getIRIResolver().render(owlObject);
-      }
-    }
-  }
 }
@@ -0,0 +1,98 @@
+package org.swrlapi.ui.view.rules;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.semanticweb.owlapi.model.OWLAxiom;
+import org.swrlapi.core.SWRLRuleEngine;
+import org.swrlapi.ui.model.SWRLRuleEngineModel;
+
+import javax.swing.table.AbstractTableModel;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * A single column table model of a set of OWL axioms held by a rule engine.
+ * <p>
+ * The axioms are copied to an array the first time the model is used after its data changes, which is normally once
+ * per rule engine run, so a cell is found by its index instead of by copying the set. The renderings of recently
+ * painted rows are cached so that repainting does not render their axioms again.
+ *
+ * @see org.swrlapi.ui.view.rules.AssertedOWLAxiomsView
+ * @see org.swrlapi.ui.view.rules.InferredOWLAxiomsView
+ */
+class OWLAxiomsTableModel extends AbstractTableModel
+{
+  private static final long serialVersionUID = 1L;
+
+  private static final int MAXIMUM_CACHED_RENDERINGS = 1000;
+
+  @NonNull private final SWRLRuleEngineModel ruleEngineModel;
+  @NonNull private final Function<@NonNull SWRLRuleEngine, @NonNull Set<@NonNull OWLAxiom>> axiomsGetter;
+  @NonNull private final Map<@NonNull Integer, @NonNull String> renderings;
+
+  @Nullable private OWLAxiom[] axioms; // Null until first use after the data changes
+
+  public OWLAxiomsTableModel(@NonNull SWRLRuleEngineModel ruleEngineModel,
+    @NonNull Function<@NonNull SWRLRuleEngine, @NonNull Set<@NonNull OWLAxiom>> axiomsGetter)
+  {
+    this.ruleEngineModel = ruleEngineModel;
+    this.axiomsGetter = axiomsGetter;
+    this.renderings = new HashMap<>();
+    this.axioms = null;
+  }
+
+  @Override public void fireTableDataChanged()
+  {
+    this.axioms = null;
+    this.renderings.clear();
+    super.fireTableDataChanged();
+  }
+
+  @Override public int getRowCount()
+  {
+    return getAxioms().length;
+  }
+
+  @Override public int getColumnCount()
+  {
+    return 1;
+  }
+
+  @Override public Object getValueAt(int row, int column)
+  {
+    OWLAxiom[] axioms = getAxioms();
+
+    if (row < 0 || row >= axioms.length)
+      return "<OUT OF BOUNDS>";
+    else {
+      String rendering = this.renderings.get(row);
+
+      if (rendering == null) {
+        rendering = getSWRLRuleEngine().getSWRLAPIOWLOntology().getIRIResolver().render(axioms[row]);
+        if (this.renderings.size() >= MAXIMUM_CACHED_RENDERINGS)
+          this.renderings.clear();
+        this.renderings.put(row, rendering);
+      }
+      return rendering;
+    }
+  }
+
+  @NonNull private OWLAxiom[] getAxioms()
+  {
+    OWLAxiom[] axioms = this.axioms;
+
+    if (axioms == null) {
+      Set<@NonNull OWLAxiom> axiomSet = this.axiomsGetter.apply(getSWRLRuleEngine());
+      axioms = axiomSet.toArray(new OWLAxiom[axiomSet.size()]);
+      this.axioms = axioms;
+    }
+    return axioms;
+  }
+
+  @NonNull private SWRLRuleEngine getSWRLRuleEngine()
+  {
+    return this.ruleEngineModel.getSWRLRuleEngine();
+  }
+}
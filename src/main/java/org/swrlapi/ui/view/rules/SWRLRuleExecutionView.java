@@ -1,9 +1,11 @@
 package org.swrlapi.ui.view.rules;
 
 import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
 import org.swrlapi.exceptions.SWRLAPIException;
 import org.swrlapi.ui.model.SWRLRuleEngineModel;
 import org.swrlapi.ui.view.SWRLAPIView;
+import org.swrlapi.ui.view.SWRLRulesTableView;
 import org.swrlapi.ui.view.owl2rl.OWL2RLRuleTablesView;
 
 import javax.swing.*;
@@ -13,16 +15,30 @@ public class SWRLRuleExecutionView extends JTabbedPane implements SWRLAPIView
   private static final long serialVersionUID = 1L;
 
   @NonNull private final SWRLRuleEngineModel swrlRuleEngineModel;
+  @Nullable private final SWRLRulesTableView swrlRulesTableView;
 
   public SWRLRuleExecutionView(@NonNull SWRLRuleEngineModel swrlRuleEngineModel) throws SWRLAPIException
+  {
+    this(swrlRuleEngineModel, null);
+  }
+
+  /**
+   * @param swrlRuleEngineModel A rule engine model
+   * @param swrlRulesTableView  The view in which the model's rules are edited, which is disabled during inference
+   * @throws SWRLAPIException If an error occurs
+   */
+  public SWRLRuleExecutionView(@NonNull SWRLRuleEngineModel swrlRuleEngineModel,
+    @Nullable SWRLRulesTableView swrlRulesTableView) throws SWRLAPIException
   {
     this.swrlRuleEngineModel = swrlRuleEngineModel;
+    this.swrlRulesTableView = swrlRulesTableView;
   }
 
   @Override public void initialize()
   {
     OWL2RLRuleTablesView ruleTablesView = new OWL2RLRuleTablesView(this.swrlRuleEngineModel.getOWL2RLModel());
-    SWRLRulesControlView swrlRulesControlView = new SWRLRulesControlView(this.swrlRuleEngineModel);
+    SWRLRulesControlView swrlRulesControlView = new SWRLRulesControlView(this.swrlRuleEngineModel,
+      this.swrlRulesTableView);
     ImportedSWRLRulesView importedSWRLRulesView = new ImportedSWRLRulesView(this.swrlRuleEngineModel);
     AssertedOWLAxiomsView assertedOWLAxiomsView = new AssertedOWLAxiomsView(this.swrlRuleEngineModel);
     InferredOWLAxiomsView inferredOWLAxiomsView = new InferredOWLAxiomsView(this.swrlRuleEngineModel);
@@ -1,16 +1,38 @@
 package org.swrlapi.ui.view.rules;
 
 import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
 import org.swrlapi.core.SWRLRuleEngine;
+import org.swrlapi.core.SWRLRuleEngineBudget;
+import org.swrlapi.core.SWRLRuleEnginePhase;
+import org.swrlapi.core.SWRLRuleEngineProgress;
+import org.swrlapi.exceptions.SWRLRuleEngineCancelledException;
 import org.swrlapi.exceptions.SWRLRuleEngineException;
 import org.swrlapi.ui.model.SWRLRuleEngineModel;
 import org.swrlapi.ui.view.SWRLAPIView;
+import org.swrlapi.ui.view.SWRLRulesTableView;
 
 import javax.swing.*;
 import java.awt.*;
 import java.awt.event.ActionEvent;
 import java.awt.event.ActionListener;
-
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * Transfers rules and knowledge to a rule engine, runs it, and transfers inferred knowledge back to OWL, either step by
+ * step or in a single inference.
+ * <p>
+ * Inference runs on the default rule engine executor so that the user interface stays responsive. While it runs its
+ * progress is polled and displayed, it can be cancelled, and neither the steps nor rule editing are available.
+ *
+ * @see org.swrlapi.core.SWRLRuleEngine#inferAsync(SWRLRuleEngineBudget)
+ */
 public class SWRLRulesControlView extends JPanel implements SWRLAPIView
 {
   private static final long serialVersionUID = 1L;
@@ -21,12 +43,36 @@ public class SWRLRulesControlView extends JPanel implements SWRLAPIView
   private static final int BUTTON_PREFERRED_HEIGHT = 30;
   private static final int CONSOLE_ROWS = 10;
   private static final int CONSOLE_COLUMNS = 80;
+  private static final int PROGRESS_UPDATE_INTERVAL_MILLIS = 250;
 
   @NonNull private final SWRLRuleEngineModel swrlRuleEngineModel;
+  @Nullable private final SWRLRulesTableView swrlRulesTableView;
+  @NonNull private final JLabel progressLabel;
+  @NonNull private final Timer progressTimer;
+  @NonNull private final JButton cancelInferenceButton;
+  @NonNull private final List<@NonNull JButton> stepAndInferButtons = new ArrayList<>();
+
+  // Accessed on the event dispatch thread only
+  @Nullable private CompletableFuture<@Nullable Void> runningInference = null;
 
   public SWRLRulesControlView(@NonNull SWRLRuleEngineModel swrlRuleEngineModel)
+  {
+    this(swrlRuleEngineModel, null);
+  }
+
+  /**
+   * @param swrlRuleEngineModel A rule engine model
+   * @param swrlRulesTableView  The view in which the model's rules are edited, which is disabled during inference
+   */
+  public SWRLRulesControlView(@NonNull SWRLRuleEngineModel swrlRuleEngineModel,
+    @Nullable SWRLRulesTableView swrlRulesTableView)
   {
     this.swrlRuleEngineModel = swrlRuleEngineModel;
+    this.swrlRulesTableView = swrlRulesTableView;
+    this.progressLabel = new JLabel(" ");
+    this.progressTimer = new Timer(PROGRESS_UPDATE_INTERVAL_MILLIS, event -> displayProgress());
+    this.cancelInferenceButton = createButton("Cancel", "Cancel the running inference", event -> cancelInference());
+    this.cancelInferenceButton.setEnabled(false);
   }
 
   @Override public void initialize()
@@ -40,25 +86,35 @@ public class SWRLRulesControlView extends JPanel implements SWRLAPIView
     setLayout(new BorderLayout());
     add(BorderLayout.CENTER, scrollPane);
 
+    JPanel controlPanel = new JPanel(new BorderLayout());
     JPanel buttonsPanel = new JPanel(new FlowLayout());
-    JButton button = createButton("OWL+SWRL->" + ruleEngineName,
+    JButton importButton = createButton("OWL+SWRL->" + ruleEngineName,
       "Translate SWRL rules and relevant OWL knowledge to rule engine",
       new ImportActionListener(this.swrlRuleEngineModel, console, this));
-    buttonsPanel.add(button);
-    button = createButton("Run " + ruleEngineName, "Run the rule engine",
+    JButton runButton = createButton("Run " + ruleEngineName, "Run the rule engine",
       new RunActionListener(this.swrlRuleEngineModel, console, this));
-    buttonsPanel.add(button);
-    button = createButton(ruleEngineName + "->OWL", "Translate asserted rule engine knowledge to OWL knowledge",
+    JButton exportButton = createButton(ruleEngineName + "->OWL",
+      "Translate asserted rule engine knowledge to OWL knowledge",
       new ExportActionListener(this.swrlRuleEngineModel, console, this));
-    buttonsPanel.add(button);
-    add(BorderLayout.SOUTH, buttonsPanel);
+    JButton inferButton = createButton("Infer", "Transfer, run, and translate back to OWL in the background",
+      new InferActionListener(this.swrlRuleEngineModel, console, this));
+    this.stepAndInferButtons.addAll(Arrays.asList(importButton, runButton, exportButton, inferButton));
+    buttonsPanel.add(importButton);
+    buttonsPanel.add(runButton);
+    buttonsPanel.add(exportButton);
+    buttonsPanel.add(inferButton);
+    buttonsPanel.add(this.cancelInferenceButton);
+    controlPanel.add(BorderLayout.NORTH, this.progressLabel);
+    controlPanel.add(BorderLayout.SOUTH, buttonsPanel);
+    add(BorderLayout.SOUTH, controlPanel);
 
     console.append("Using the " + ruleEngineName + " rule engine.\n\n");
     console.append("Press the 'OWL+SWRL->" + ruleEngineName
       + "' button to transfer SWRL rules and relevant OWL knowledge to the rule engine.\n");
     console.append("Press the 'Run " + ruleEngineName + "' button to run the rule engine.\n");
     console.append("Press the '" + ruleEngineName
-      + "->OWL' button to transfer the inferred rule engine knowledge to OWL knowledge.\n\n");
+      + "->OWL' button to transfer the inferred rule engine knowledge to OWL knowledge.\n");
+    console.append("Press the 'Infer' button to perform all three steps in the background.\n\n");
     console.append(
       "The SWRLAPI supports an OWL profile called OWL 2 RL and uses an OWL 2 RL-based reasoner to perform reasoning.\n");
     console.append("See the 'OWL 2 RL' sub-tab for more information on this reasoner.");
@@ -97,6 +153,48 @@ public class SWRLRulesControlView extends JPanel implements SWRLAPIView
     return this.swrlRuleEngineModel.getSWRLRuleEngine();
   }
 
+  private void setInferenceRunning(boolean running)
+  {
+    for (JButton button : this.stepAndInferButtons)
+      button.setEnabled(!running);
+    this.cancelInferenceButton.setEnabled(running);
+
+    if (this.swrlRulesTableView != null)
+      this.swrlRulesTableView.setRuleEditingEnabled(!running);
+
+    if (running) {
+      this.progressLabel.setText("Inference running...");
+      this.progressTimer.start();
+    } else {
+      this.progressTimer.stop();
+      this.progressLabel.setText(" ");
+    }
+  }
+
+  private void cancelInference()
+  {
+    CompletableFuture<@Nullable Void> inference = this.runningInference;
+
+    if (inference != null)
+      inference.cancel(true);
+  }
+
+  private void displayProgress()
+  {
+    Optional<@NonNull SWRLRuleEngineProgress> progress = getSWRLRuleEngine().getExecutionProgress();
+
+    if (this.runningInference != null && progress.isPresent()) {
+      Optional<@NonNull SWRLRuleEnginePhase> phase = progress.get().getPhase();
+      String phaseDescription = !phase.isPresent() || phase.get() == SWRLRuleEnginePhase.IMPORT ?
+        "importing" :
+        phase.get() == SWRLRuleEnginePhase.RUN ? "running" : "exporting";
+
+      this.progressLabel.setText(
+        "Inference " + phaseDescription + ": " + progress.get().getNumberOfImportedOWLAxioms() + " axioms imported, "
+          + progress.get().getNumberOfInferredOWLAxioms() + " axioms inferred");
+    }
+  }
+
   private class ListenerBase
   {
     @NonNull protected final SWRLRuleEngineModel ruleEngineModel;
@@ -214,6 +312,61 @@ public class SWRLRulesControlView extends JPanel implements SWRLAPIView
     return message;
   }
 
+  private class InferActionListener extends ListenerBase implements ActionListener
+  {
+    public InferActionListener(@NonNull SWRLRuleEngineModel ruleEngineModel, @NonNull JTextArea textArea,
+      @NonNull SWRLRulesControlView controlPanel)
+    {
+      super(ruleEngineModel, textArea, controlPanel);
+    }
+
+    @Override public void actionPerformed(@NonNull ActionEvent event)
+    {
+      if (SWRLRulesControlView.this.runningInference != null)
+        return;
+
+      long startTime = System.currentTimeMillis();
+      CompletableFuture<@Nullable Void> inference = getSWRLRuleEngine().inferAsync(SWRLRuleEngineBudget.UNLIMITED);
+
+      SWRLRulesControlView.this.runningInference = inference;
+      setInferenceRunning(true);
+      clearConsole();
+      appendToConsole("Running inference in the background. Press the 'Cancel' button to stop it.\n");
+
+      inference.whenComplete(
+        (result, exception) -> SwingUtilities.invokeLater(() -> finishInference(inference, exception, startTime)));
+    }
+
+    private void finishInference(@NonNull CompletableFuture<@Nullable Void> inference, @Nullable Throwable exception,
+      long startTime)
+    {
+      if (SWRLRulesControlView.this.runningInference != inference)
+        return;
+
+      SWRLRulesControlView.this.runningInference = null;
+      setInferenceRunning(false);
+
+      Throwable cause = exception instanceof CompletionException && exception.getCause() != null ?
+        exception.getCause() :
+        exception;
+
+      if (cause instanceof CancellationException || cause instanceof SWRLRuleEngineCancelledException)
+        appendToConsole("Inference was cancelled.\n");
+      else if (cause != null)
+        appendToConsole("Exception performing inference: " + buildChainedErrorMessage(cause) + "\n");
+      else {
+        appendToConsole("Successful inference.\n");
+        appendToConsole("Number of inferred axioms: " + getSWRLRuleEngine().getNumberOfInferredOWLAxioms() + "\n");
+        if (getSWRLRuleEngine().getNumberOfInjectedOWLAxioms() != 0)
+          appendToConsole(
+            "Number of axioms injected by built-ins: " + getSWRLRuleEngine().getNumberOfInjectedOWLAxioms() + "\n");
+        appendToConsole("The process took " + (System.currentTimeMillis() - startTime) + " millisecond(s).\n");
+        appendToConsole("The inferred axioms were transferred to OWL knowledge.\n");
+      }
+      this.controlPanel.getParent().validate();
+    }
+  }
+
   private class ExportActionListener extends ListenerBase implements ActionListener
   {
     public ExportActionListener(@NonNull SWRLRuleEngineModel ruleEngineModel, @NonNull JTextArea textArea,
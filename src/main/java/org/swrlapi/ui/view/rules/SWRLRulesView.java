@@ -29,7 +29,7 @@ public class SWRLRulesView extends JSplitPane implements SWRLAPIView
 			throws SWRLAPIException
 	{
 		this.ruleTablesView = new SWRLRulesTableView(ruleEngineModel, dialogManager);
-		this.ruleExecutionView = new SWRLRuleExecutionView(ruleEngineModel);
+		this.ruleExecutionView = new SWRLRuleExecutionView(ruleEngineModel, this.ruleTablesView);
   }
 
   @Override public void initialize()
@@ -0,0 +1,91 @@
+package org.swrlapi.builtins.swrlb;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.semanticweb.owlapi.apibinding.OWLManager;
+import org.semanticweb.owlapi.model.OWLOntology;
+import org.semanticweb.owlapi.model.OWLOntologyCreationException;
+import org.swrlapi.bridge.SWRLBridge;
+import org.swrlapi.builtins.arguments.SWRLBuiltInArgument;
+import org.swrlapi.core.SWRLAPIOWLOntology;
+import org.swrlapi.exceptions.SWRLBuiltInException;
+import org.swrlapi.factory.SWRLAPIInternalFactory;
+import org.swrlapi.factory.SWRLBuiltInArgumentFactory;
+import org.swrlapi.literal.XSDDate;
+import org.swrlapi.literal.XSDDuration;
+import org.swrlapi.literal.XSDTime;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Duration arithmetic built-ins, invoked through a bridge with all arguments bound.
+ *
+ * @see SWRLBuiltInLibraryImpl
+ */
+public class SWRLBuiltInLibraryImplTest
+{
+  private SWRLBridge bridge;
+  private SWRLBuiltInArgumentFactory argumentFactory;
+
+  @Before public void setUp() throws OWLOntologyCreationException, SWRLBuiltInException
+  {
+    OWLOntology ontology = OWLManager.createOWLOntologyManager().createOntology();
+    SWRLAPIOWLOntology swrlapiOWLOntology = SWRLAPIInternalFactory.createSWRLAPIOntology(ontology);
+
+    this.bridge = SWRLAPIInternalFactory
+      .createSWRLBridge(swrlapiOWLOntology, SWRLAPIInternalFactory.createOWL2RLPersistenceLayer(ontology));
+    this.argumentFactory = swrlapiOWLOntology.getSWRLAPIOWLDataFactory().getSWRLBuiltInArgumentFactory();
+  }
+
+  @Test public void testAddYearMonthDurationsNormalizesMonths() throws SWRLBuiltInException
+  {
+    assertTrue(invoke("swrlb:addYearMonthDurations", duration("P2Y2M"), duration("P1Y6M"), duration("P8M")));
+    assertFalse(invoke("swrlb:addYearMonthDurations", duration("P1Y14M"), duration("P1Y6M"), duration("P8M")));
+  }
+
+  @Test public void testMultiplyAndDivideDurationsTakeNumericFactor() throws SWRLBuiltInException
+  {
+    assertTrue(invoke("swrlb:multiplyDayTimeDuration", duration("P1DT15H"), duration("P1DT2H"),
+      this.argumentFactory.getLiteralBuiltInArgument(1.5)));
+    assertTrue(invoke("swrlb:divideDayTimeDuration", duration("PT45M"), duration("PT1H30M"),
+      this.argumentFactory.getLiteralBuiltInArgument(2)));
+    assertTrue(invoke("swrlb:multiplyYearMonthDuration", duration("P1Y9M"), duration("P1Y2M"),
+      this.argumentFactory.getLiteralBuiltInArgument(1.5)));
+    assertTrue(invoke("swrlb:divideYearMonthDuration", duration("P4M"), duration("P1Y"),
+      this.argumentFactory.getLiteralBuiltInArgument(3)));
+  }
+
+  @Test public void testSubtractDatesYieldsDayTimeDuration() throws SWRLBuiltInException
+  {
+    assertTrue(invoke("swrlb:subtractDates", duration("P2D"),
+      this.argumentFactory.getLiteralBuiltInArgument(new XSDDate("2016-03-01")),
+      this.argumentFactory.getLiteralBuiltInArgument(new XSDDate("2016-02-28"))));
+  }
+
+  @Test public void testSubtractTimesUsesTwentyFourHourClock() throws SWRLBuiltInException
+  {
+    assertTrue(invoke("swrlb:subtractTimes", duration("PT12H"),
+      this.argumentFactory.getLiteralBuiltInArgument(new XSDTime("13:00:00")),
+      this.argumentFactory.getLiteralBuiltInArgument(new XSDTime("01:00:00"))));
+    assertFalse(invoke("swrlb:subtractTimes", duration("PT0S"),
+      this.argumentFactory.getLiteralBuiltInArgument(new XSDTime("13:00:00")),
+      this.argumentFactory.getLiteralBuiltInArgument(new XSDTime("01:00:00"))));
+  }
+
+  private boolean invoke(String builtInName, SWRLBuiltInArgument... arguments) throws SWRLBuiltInException
+  {
+    List<SWRLBuiltInArgument> argumentList = new ArrayList<>(Arrays.asList(arguments));
+
+    return !this.bridge.invokeSWRLBuiltIn("r", builtInName, 0, false, argumentList).isEmpty();
+  }
+
+  private SWRLBuiltInArgument duration(String content)
+  {
+    return this.argumentFactory.getLiteralBuiltInArgument(new XSDDuration(content));
+  }
+}
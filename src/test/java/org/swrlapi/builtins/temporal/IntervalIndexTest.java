@@ -0,0 +1,116 @@
+package org.swrlapi.builtins.temporal;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+/**
+ * @see IntervalIndex
+ */
+public class IntervalIndexTest
+{
+  private final Temporal temporal = new Temporal(new XSDDateTimeStringProcessor());
+
+  @Test public void testFindMatchesPeriodRelations() throws Exception
+  {
+    Random random = new Random(42);
+    IntervalIndex<Integer> index = new IntervalIndex<>();
+    List<Period> periods = new ArrayList<>();
+
+    for (int i = 0; i < 300; i++) {
+      long start = random.nextInt(100);
+      long finish = start + (random.nextInt(4) == 0 ? 0 : random.nextInt(20));
+      index.add(i, start, finish);
+      periods.add(new Period(this.temporal, start, finish, Temporal.FINEST));
+    }
+
+    for (int q = 0; q < 200; q++) {
+      long start = random.nextInt(110) - 5;
+      long finish = start + random.nextInt(25);
+      Period query = new Period(this.temporal, start, finish, Temporal.FINEST);
+
+      for (IntervalIndex.Relation relation : IntervalIndex.Relation.values()) {
+        Set<Integer> expected = new HashSet<>();
+        for (int i = 0; i < periods.size(); i++)
+          if (holds(relation, periods.get(i), query))
+            expected.add(i);
+
+        List<Integer> found = index.find(relation, start, finish);
+
+        Assert.assertEquals(relation + " [" + start + ", " + finish + "]", expected, new HashSet<>(found));
+        Assert.assertEquals(relation + " reported a duplicate", expected.size(), found.size());
+      }
+    }
+  }
+
+  @Test public void testJoin()
+  {
+    IntervalIndex<String> index = new IntervalIndex<>();
+    index.add("a", 0, 10);
+    index.add("b", 2, 5);
+    index.add("c", 11, 12);
+
+    List<String> pairs = new ArrayList<>();
+    index.join(IntervalIndex.Relation.DURING, index, (k1, k2) -> pairs.add(k1 + k2));
+    Assert.assertEquals(1, pairs.size());
+    Assert.assertEquals("ba", pairs.get(0));
+
+    pairs.clear();
+    index.join(IntervalIndex.Relation.MEETS, index, (k1, k2) -> pairs.add(k1 + k2));
+    Assert.assertEquals(1, pairs.size());
+    Assert.assertEquals("ac", pairs.get(0));
+  }
+
+  @Test public void testRelationForBuiltInName()
+  {
+    Assert.assertEquals(IntervalIndex.Relation.OVERLAPPED_BY, IntervalIndex.Relation.forBuiltInName("overlappedBy"));
+    Assert.assertEquals(IntervalIndex.Relation.MET_BY, IntervalIndex.Relation.forBuiltInName("temporal:metBy"));
+    Assert.assertNull(IntervalIndex.Relation.forBuiltInName("temporal:duration"));
+  }
+
+  @Test(expected = IllegalArgumentException.class) public void testAddRejectsReversedInterval()
+  {
+    new IntervalIndex<String>().add("a", 2, 1);
+  }
+
+  private static boolean holds(IntervalIndex.Relation relation, Period p1, Period p2) throws TemporalException
+  {
+    switch (relation) {
+    case EQUALS:
+      return p1.equals(p2, Temporal.FINEST);
+    case BEFORE:
+      return p1.before(p2, Temporal.FINEST);
+    case AFTER:
+      return p1.after(p2, Temporal.FINEST);
+    case MEETS:
+      return p1.meets(p2, Temporal.FINEST);
+    case MET_BY:
+      return p1.met_by(p2, Temporal.FINEST);
+    case OVERLAPS:
+      return p1.overlaps(p2, Temporal.FINEST);
+    case OVERLAPPED_BY:
+      return p1.overlapped_by(p2, Temporal.FINEST);
+    case CONTAINS:
+      return p1.contains(p2, Temporal.FINEST);
+    case DURING:
+      return p1.during(p2, Temporal.FINEST);
+    case STARTS:
+      return p1.starts(p2, Temporal.FINEST);
+    case STARTED_BY:
+      return p1.started_by(p2, Temporal.FINEST);
+    case FINISHES:
+      return p1.finishes(p2, Temporal.FINEST);
+    case FINISHED_BY:
+      return p1.finished_by(p2, Temporal.FINEST);
+    case INTERSECTS:
+      return p1.intersects(p2, Temporal.FINEST);
+    default:
+      throw new IllegalArgumentException("unknown relation " + relation);
+    }
+  }
+}
@@ -0,0 +1,163 @@
+package org.swrlapi.builtins.temporal;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.Date;
+
+/**
+ * Granule counts are checked against java.time arithmetic in the proleptic Gregorian calendar, counting from
+ * 0000-01-01.
+ *
+ * @see Temporal
+ */
+public class TemporalTest
+{
+  private static final LocalDateTime ORIGIN = LocalDateTime.of(0, 1, 1, 0, 0);
+
+  private static final String[] DATETIMES = { "0001-01-01T00:00:00.000", "1582-10-04T12:00:00.000",
+    "1582-10-15T12:00:00.000", "1900-02-28T23:59:59.999", "1900-03-01T00:00:00.000", "1970-01-01T00:00:00.000",
+    "1999-12-31T23:59:59.999", "2000-01-01T00:00:00.000", "2000-02-29T12:30:45.250", "2000-03-01T00:00:00.000",
+    "2015-12-31T23:59:59.999", "2016-02-28T23:59:59.999", "2016-02-29T00:00:00.000", "2016-03-01T00:00:00.000",
+    "2100-02-28T00:00:00.000", "2100-03-01T00:00:00.000", "9999-12-31T23:59:59.999" };
+
+  private final Temporal temporal = new Temporal(new XSDDateTimeStringProcessor());
+
+  @Test public void testGranuleCountsMatchJavaTime() throws Exception
+  {
+    for (String datetime : DATETIMES) {
+      LocalDateTime dateTime = LocalDateTime.parse(datetime);
+
+      Assert.assertEquals(datetime, ChronoUnit.MILLIS.between(ORIGIN, dateTime),
+        this.temporal.datetimeString2GranuleCount(datetime, Temporal.MILLISECONDS));
+      Assert.assertEquals(datetime, ChronoUnit.SECONDS.between(ORIGIN, dateTime),
+        this.temporal.datetimeString2GranuleCount(datetime, Temporal.SECONDS));
+      Assert.assertEquals(datetime, ChronoUnit.HOURS.between(ORIGIN, dateTime),
+        this.temporal.datetimeString2GranuleCount(datetime, Temporal.HOURS));
+      Assert.assertEquals(datetime, ChronoUnit.DAYS.between(ORIGIN, dateTime),
+        this.temporal.datetimeString2GranuleCount(datetime, Temporal.DAYS));
+      Assert.assertEquals(datetime, dateTime.getYear() * 12L + dateTime.getMonthValue() - 1,
+        this.temporal.datetimeString2GranuleCount(datetime, Temporal.MONTHS));
+      Assert.assertEquals(datetime, dateTime.getYear(),
+        this.temporal.datetimeString2GranuleCount(datetime, Temporal.YEARS));
+    }
+  }
+
+  @Test public void testGranuleCountsConvertBackToDatetimes() throws Exception
+  {
+    for (String datetime : DATETIMES) {
+      long granuleCount = this.temporal.datetimeString2GranuleCount(datetime, Temporal.MILLISECONDS);
+
+      Assert.assertEquals(datetime, this.temporal.granuleCount2DatetimeString(granuleCount, Temporal.MILLISECONDS));
+    }
+  }
+
+  @Test public void testMonthAndYearConversionsAccountForLeapYears() throws Exception
+  {
+    for (int year = 1896; year <= 2104; year++) {
+      long yearDayCount = ChronoUnit.DAYS.between(ORIGIN.toLocalDate(), LocalDate.of(year, 1, 1));
+
+      Assert.assertEquals(yearDayCount, Temporal.convertGranuleCount(year, Temporal.YEARS, Temporal.DAYS));
+      Assert.assertEquals(year, Temporal.convertGranuleCount(yearDayCount, Temporal.DAYS, Temporal.YEARS));
+      Assert.assertEquals(year - 1, Temporal.convertGranuleCount(yearDayCount - 1, Temporal.DAYS, Temporal.YEARS));
+
+      for (int month = 1; month <= 12; month++) {
+        LocalDate firstDay = LocalDate.of(year, month, 1);
+        long monthCount = year * 12L + month - 1;
+        long dayCount = ChronoUnit.DAYS.between(ORIGIN.toLocalDate(), firstDay);
+        long lastDayCount = dayCount + firstDay.lengthOfMonth() - 1;
+
+        Assert.assertEquals(dayCount, Temporal.convertGranuleCount(monthCount, Temporal.MONTHS, Temporal.DAYS));
+        Assert.assertEquals(dayCount * 24, Temporal.convertGranuleCount(monthCount, Temporal.MONTHS, Temporal.HOURS));
+        Assert.assertEquals(monthCount, Temporal.convertGranuleCount(dayCount, Temporal.DAYS, Temporal.MONTHS));
+        Assert.assertEquals(monthCount, Temporal.convertGranuleCount(lastDayCount, Temporal.DAYS, Temporal.MONTHS));
+        Assert.assertEquals(monthCount,
+          Temporal.convertGranuleCount(lastDayCount * 24 + 23, Temporal.HOURS, Temporal.MONTHS));
+      }
+    }
+  }
+
+  @Test public void testFractionalSecondsAreFractions() throws Exception
+  {
+    long start = this.temporal.datetimeString2GranuleCount("2016-01-01T00:00:00.000", Temporal.MILLISECONDS);
+
+    Assert.assertEquals(500,
+      this.temporal.datetimeString2GranuleCount("2016-01-01T00:00:00.5", Temporal.MILLISECONDS) - start);
+    Assert.assertEquals(50,
+      this.temporal.datetimeString2GranuleCount("2016-01-01T00:00:00.05", Temporal.MILLISECONDS) - start);
+    Assert.assertEquals(123,
+      this.temporal.datetimeString2GranuleCount("2016-01-01T00:00:00.123456", Temporal.MILLISECONDS) - start);
+
+    Temporal jdbcTemporal = new Temporal(new JDBCDatetimeStringProcessor());
+
+    Assert.assertEquals(start + 500,
+      jdbcTemporal.datetimeString2GranuleCount("2016-1-1 0:0:0.5", Temporal.MILLISECONDS));
+  }
+
+  @Test public void testPartialDatetimesRoundUpAndDown() throws Exception
+  {
+    long lastDay = ChronoUnit.DAYS.between(ORIGIN.toLocalDate(), LocalDate.of(2016, 2, 29));
+    long firstDay = lastDay - 28;
+
+    Assert.assertEquals(lastDay, this.temporal.datetimeString2GranuleCount("2016-02", Temporal.DAYS, true));
+    Assert.assertEquals(firstDay, this.temporal.datetimeString2GranuleCount("2016-02", Temporal.DAYS, false));
+    // Cached results are returned for repeated strings
+    Assert.assertEquals(lastDay, this.temporal.datetimeString2GranuleCount("2016-02", Temporal.DAYS, true));
+    Assert.assertEquals(firstDay, this.temporal.datetimeString2GranuleCount("2016-02", Temporal.DAYS, false));
+  }
+
+  @Test public void testInstantOperationsMatchCalendarArithmetic() throws Exception
+  {
+    String[][] datetimePairs = { { "2016-01-31T10:00:00.000", "2016-03-01T09:00:00.000" },
+      { "1999-12-31T23:59:59.999", "2000-01-01T00:00:00.000" },
+      { "1900-02-28T00:00:00.000", "1900-03-01T00:00:00.000" },
+      { "2000-02-28T00:00:00.000", "2000-03-01T00:00:00.000" },
+      { "2015-06-15T12:00:00.000", "2017-06-15T11:59:59.000" } };
+
+    for (String[] datetimePair : datetimePairs) {
+      Instant instant1 = new Instant(this.temporal, datetimePair[0]);
+      Instant instant2 = new Instant(this.temporal, datetimePair[1]);
+      LocalDateTime dateTime1 = LocalDateTime.parse(datetimePair[0]);
+      LocalDateTime dateTime2 = LocalDateTime.parse(datetimePair[1]);
+
+      Assert.assertEquals(ChronoUnit.MILLIS.between(dateTime1, dateTime2),
+        instant1.duration(instant2, Temporal.MILLISECONDS));
+      Assert.assertEquals(ChronoUnit.DAYS.between(dateTime1.toLocalDate(), dateTime2.toLocalDate()),
+        instant1.duration(instant2, Temporal.DAYS));
+      Assert.assertEquals(
+        (dateTime2.getYear() - dateTime1.getYear()) * 12L + dateTime2.getMonthValue() - dateTime1.getMonthValue(),
+        instant1.duration(instant2, Temporal.MONTHS));
+      Assert.assertEquals(dateTime2.getYear() - dateTime1.getYear(), instant1.duration(instant2, Temporal.YEARS));
+      Assert.assertTrue(instant1.before(instant2, Temporal.MILLISECONDS));
+      Assert.assertTrue(instant2.after(instant1, Temporal.MILLISECONDS));
+    }
+  }
+
+  @Test public void testAddingGranulesCrossesMonthAndYearBoundaries() throws Exception
+  {
+    Assert.assertEquals("2016-02-29T00:00:00.000",
+      this.temporal.addGranuleCount("2016-02-28T00:00:00.000", 1, Temporal.DAYS));
+    Assert.assertEquals("2016-03-01T00:00:00.000",
+      this.temporal.addGranuleCount("2016-02-28T00:00:00.000", 2, Temporal.DAYS));
+    Assert.assertEquals("2017-01-01T00:00:00.000",
+      this.temporal.addGranuleCount("2016-12-31T23:00:00.000", 1, Temporal.HOURS));
+    Assert.assertEquals("2017-02-01T00:00:00.000",
+      this.temporal.addGranuleCount("2016-12-15T00:00:00.000", 2, Temporal.MONTHS));
+    Assert.assertEquals("2015-12-31T23:59:59.999",
+      this.temporal.subtractGranuleCount("2016-01-01T00:00:00.000", 1, Temporal.MILLISECONDS));
+  }
+
+  @Test public void testUtilDatesAreCountedInLocalTime() throws Exception
+  {
+    LocalDateTime dateTime = LocalDateTime.of(2016, 2, 29, 13, 45, 30, 250000000);
+    Date date = Date.from(dateTime.atZone(ZoneId.systemDefault()).toInstant());
+    long granuleCount = Temporal.utilDate2GranuleCount(date, Temporal.MILLISECONDS);
+
+    Assert.assertEquals(ChronoUnit.MILLIS.between(ORIGIN, dateTime), granuleCount);
+    Assert.assertEquals(date, Temporal.granuleCount2UtilDate(granuleCount, Temporal.MILLISECONDS));
+  }
+}
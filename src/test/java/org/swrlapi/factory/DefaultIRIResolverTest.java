@@ -0,0 +1,160 @@
+package org.swrlapi.factory;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.semanticweb.owlapi.apibinding.OWLManager;
+import org.semanticweb.owlapi.formats.TurtleDocumentFormat;
+import org.semanticweb.owlapi.model.IRI;
+import org.semanticweb.owlapi.model.OWLOntology;
+import org.semanticweb.owlapi.model.OWLOntologyCreationException;
+import org.semanticweb.owlapi.model.OWLOntologyManager;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.IntStream;
+
+/**
+ * @see DefaultIRIResolver
+ */
+public class DefaultIRIResolverTest
+{
+  private static final String NAMESPACE = "http://example.org/";
+  private static final String ONTOLOGY_NAMESPACE = "http://example.org/onto#";
+
+  @Test public void testLongestMatchingNamespaceIsUsed()
+  {
+    DefaultIRIResolver iriResolver = new DefaultIRIResolver();
+
+    iriResolver.setPrefix("ex:", NAMESPACE);
+    iriResolver.setPrefix("onto:", ONTOLOGY_NAMESPACE);
+
+    Assert.assertEquals("onto:Person", prefixedName(iriResolver, ONTOLOGY_NAMESPACE + "Person"));
+    Assert.assertEquals("ex:Person", prefixedName(iriResolver, NAMESPACE + "Person"));
+    Assert.assertEquals("onto:", prefixedName(iriResolver, ONTOLOGY_NAMESPACE));
+  }
+
+  @Test public void testLongerNamespaceIsSkippedWhenItLeavesAnInvalidLocalName()
+  {
+    DefaultIRIResolver iriResolver = new DefaultIRIResolver();
+
+    iriResolver.setPrefix("onto:", ONTOLOGY_NAMESPACE);
+    iriResolver.setPrefix("p:", ONTOLOGY_NAMESPACE + "P");
+
+    Assert.assertEquals("p:erson", prefixedName(iriResolver, ONTOLOGY_NAMESPACE + "Person"));
+    Assert.assertEquals("onto:P1", prefixedName(iriResolver, ONTOLOGY_NAMESPACE + "P1"));
+  }
+
+  @Test public void testShortestThenLeastPrefixWinsForSharedNamespace()
+  {
+    DefaultIRIResolver iriResolver = new DefaultIRIResolver();
+
+    iriResolver.setPrefix("zz:", ONTOLOGY_NAMESPACE);
+    iriResolver.setPrefix("y:", ONTOLOGY_NAMESPACE);
+    iriResolver.setPrefix("x:", ONTOLOGY_NAMESPACE);
+    iriResolver.setPrefix("onto:", ONTOLOGY_NAMESPACE);
+
+    Assert.assertEquals("x:Person", prefixedName(iriResolver, ONTOLOGY_NAMESPACE + "Person"));
+  }
+
+  @Test public void testDefaultPrefixWinsForItsNamespace()
+  {
+    DefaultIRIResolver iriResolver = new DefaultIRIResolver(ONTOLOGY_NAMESPACE);
+
+    iriResolver.setPrefix("onto:", ONTOLOGY_NAMESPACE);
+
+    Assert.assertEquals(":Person", prefixedName(iriResolver, ONTOLOGY_NAMESPACE + "Person"));
+  }
+
+  @Test public void testSetPrefixInvalidatesCachedPrefixedNames()
+  {
+    DefaultIRIResolver iriResolver = new DefaultIRIResolver();
+    String iri = ONTOLOGY_NAMESPACE + "Person";
+    String autogeneratedPrefixedName = prefixedName(iriResolver, iri);
+
+    Assert.assertTrue(autogeneratedPrefixedName.startsWith("autogen"));
+    Assert.assertEquals(autogeneratedPrefixedName, prefixedName(iriResolver, iri));
+
+    iriResolver.setPrefix("onto:", ONTOLOGY_NAMESPACE);
+    Assert.assertEquals("onto:Person", prefixedName(iriResolver, iri));
+  }
+
+  @Test public void testUpdatePrefixesInvalidatesCachedPrefixedNames() throws OWLOntologyCreationException
+  {
+    DefaultIRIResolver iriResolver = new DefaultIRIResolver();
+    OWLOntology ontologyWithPrefix = createOntology(Collections.singleton("onto:"));
+    OWLOntology ontologyWithoutPrefix = createOntology(Collections.emptySet());
+    String iri = ONTOLOGY_NAMESPACE + "Person";
+
+    iriResolver.updatePrefixes(ontologyWithPrefix);
+    Assert.assertEquals("onto:Person", prefixedName(iriResolver, iri));
+    Assert.assertEquals("swrlb:add", prefixedName(iriResolver, "http://www.w3.org/2003/11/swrlb#add"));
+
+    iriResolver.updatePrefixes(ontologyWithoutPrefix); // Removes the prefix
+    Assert.assertNotEquals("onto:Person", prefixedName(iriResolver, iri));
+    Assert.assertEquals(iri, iriResolver.prefixedName2IRI(prefixedName(iriResolver, iri)).get().toString());
+
+    iriResolver.updatePrefixes(ontologyWithPrefix);
+    Assert.assertEquals("onto:Person", prefixedName(iriResolver, iri));
+  }
+
+  @Test public void testUpdatePrefixesKeepsDefaultPrefix() throws OWLOntologyCreationException
+  {
+    DefaultIRIResolver iriResolver = new DefaultIRIResolver(ONTOLOGY_NAMESPACE);
+
+    iriResolver.updatePrefixes(createOntology(Collections.singleton("onto:")));
+
+    Assert.assertEquals(":Person", prefixedName(iriResolver, ONTOLOGY_NAMESPACE + "Person"));
+  }
+
+  @Test public void testGeneratedIRIsUseDefaultPrefix()
+  {
+    IRI iri = new DefaultIRIResolver("http://example.org/onto").generateIRI();
+
+    Assert.assertTrue(iri.toString().startsWith("http://example.org/onto#"));
+  }
+
+  @Test public void testGeneratedIRIsWithoutDefaultPrefix()
+  {
+    IRI iri = new DefaultIRIResolver().generateIRI();
+
+    Assert.assertTrue(iri.toString().startsWith("http://swrl.stanford.edu/autogenerated#"));
+  }
+
+  @Test public void testGeneratedIRIsAreDistinct()
+  {
+    DefaultIRIResolver iriResolver = new DefaultIRIResolver();
+    Set<IRI> iris = ConcurrentHashMap.newKeySet();
+
+    IntStream.range(0, 10000).parallel().forEach(i -> iris.add(iriResolver.generateIRI()));
+
+    Assert.assertEquals(10000, iris.size());
+
+    Set<IRI> otherIRIs = new HashSet<>();
+    DefaultIRIResolver otherIRIResolver = new DefaultIRIResolver();
+    for (int i = 0; i < 100; i++)
+      otherIRIs.add(otherIRIResolver.generateIRI());
+
+    otherIRIs.retainAll(iris);
+    Assert.assertTrue(otherIRIs.isEmpty());
+  }
+
+  private String prefixedName(DefaultIRIResolver iriResolver, String iri)
+  {
+    return iriResolver.iri2PrefixedName(IRI.create(iri)).get();
+  }
+
+  private OWLOntology createOntology(Set<String> ontologyPrefixes) throws OWLOntologyCreationException
+  {
+    OWLOntologyManager ontologyManager = OWLManager.createOWLOntologyManager();
+    OWLOntology ontology = ontologyManager.createOntology();
+    TurtleDocumentFormat format = new TurtleDocumentFormat();
+
+    for (String prefix : ontologyPrefixes)
+      format.setPrefix(prefix, ONTOLOGY_NAMESPACE);
+    ontologyManager.setOntologyFormat(ontology, format);
+
+    return ontology;
+  }
+}
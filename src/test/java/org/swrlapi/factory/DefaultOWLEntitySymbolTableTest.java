@@ -0,0 +1,113 @@
+package org.swrlapi.factory;
+
+import org.junit.Test;
+import org.semanticweb.owlapi.apibinding.OWLManager;
+import org.semanticweb.owlapi.model.EntityType;
+import org.semanticweb.owlapi.model.OWLClass;
+import org.semanticweb.owlapi.model.OWLNamedIndividual;
+import org.semanticweb.owlapi.model.OWLOntology;
+import org.semanticweb.owlapi.model.OWLOntologyCreationException;
+import org.semanticweb.owlapi.model.OWLOntologyManager;
+import org.semanticweb.owlapi.vocab.OWLRDFVocabulary;
+import org.swrlapi.core.OWLEntitySymbolTable;
+import org.swrlapi.core.SWRLAPIOWLOntology;
+import org.swrlapi.exceptions.SWRLBuiltInException;
+import org.swrlapi.test.IntegrationTestBase;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.semanticweb.owlapi.apibinding.OWLFunctionalSyntaxFactory.Class;
+import static org.semanticweb.owlapi.apibinding.OWLFunctionalSyntaxFactory.Declaration;
+import static org.semanticweb.owlapi.apibinding.OWLFunctionalSyntaxFactory.NamedIndividual;
+
+public class DefaultOWLEntitySymbolTableTest extends IntegrationTestBase
+{
+  private static final OWLClass MALE = Class(iri(NS + "Male"));
+  private static final OWLNamedIndividual MALE_INDIVIDUAL = NamedIndividual(iri(NS + "Male"));
+  private static final OWLNamedIndividual P1 = NamedIndividual(iri(NS + "p1"));
+
+  @Test public void TestSymbolTableIsSharedPerOntology() throws OWLOntologyCreationException
+  {
+    OWLOntology ontology = OWLManager.createOWLOntologyManager().createOntology();
+
+    assertSame(SWRLAPIInternalFactory.getOWLEntitySymbolTable(ontology),
+      SWRLAPIInternalFactory.getOWLEntitySymbolTable(ontology));
+  }
+
+  @Test public void TestSymbolTableTracksAddedAndRemovedAxioms() throws OWLOntologyCreationException
+  {
+    OWLOntology ontology = OWLManager.createOWLOntologyManager().createOntology();
+    OWLEntitySymbolTable symbolTable = SWRLAPIInternalFactory.getOWLEntitySymbolTable(ontology);
+
+    addOWLAxioms(ontology, Declaration(MALE));
+
+    assertTrue(symbolTable.isOWLClass(MALE.getIRI()));
+    assertFalse(symbolTable.isOWLNamedIndividual(P1.getIRI()));
+
+    addOWLAxioms(ontology, Declaration(P1), Declaration(MALE_INDIVIDUAL));
+
+    assertTrue(symbolTable.isOWLNamedIndividual(P1.getIRI()));
+    assertEquals(2, symbolTable.getEntityTypes(MALE.getIRI()).size());
+
+    ontology.getOWLOntologyManager().removeAxiom(ontology, Declaration(MALE));
+
+    assertFalse(symbolTable.isOWLClass(MALE.getIRI()));
+    assertTrue(symbolTable.getEntityTypes(MALE.getIRI()).contains(EntityType.NAMED_INDIVIDUAL));
+    assertTrue(symbolTable.isOWLClass(OWLRDFVocabulary.OWL_THING.getIRI()));
+  }
+
+  @Test public void TestOntologiesWithSameIDInDifferentManagersHaveSeparateTables()
+    throws OWLOntologyCreationException, SWRLBuiltInException
+  {
+    OWLOntology ontology1 = OWLManager.createOWLOntologyManager().createOntology(iri(NS + "shared"));
+    OWLOntology ontology2 = OWLManager.createOWLOntologyManager().createOntology(iri(NS + "shared"));
+    SWRLAPIOWLOntology swrlapiOWLOntology1 = SWRLAPIInternalFactory.createSWRLAPIOntology(ontology1);
+    SWRLAPIOWLOntology swrlapiOWLOntology2 = SWRLAPIInternalFactory.createSWRLAPIOntology(ontology2);
+
+    assertEquals(ontology1, ontology2);
+    assertNotSame(swrlapiOWLOntology1.getOWLEntitySymbolTable(), swrlapiOWLOntology2.getOWLEntitySymbolTable());
+
+    addOWLAxioms(ontology1, Declaration(MALE));
+    addOWLAxioms(ontology2, Declaration(P1));
+
+    assertTrue(swrlapiOWLOntology1.getOWLEntitySymbolTable().isOWLClass(MALE.getIRI()));
+    assertFalse(swrlapiOWLOntology1.getOWLEntitySymbolTable().isOWLNamedIndividual(P1.getIRI()));
+    assertTrue(swrlapiOWLOntology2.getOWLEntitySymbolTable().isOWLNamedIndividual(P1.getIRI()));
+    assertFalse(swrlapiOWLOntology2.getOWLEntitySymbolTable().isOWLClass(MALE.getIRI()));
+  }
+
+  @Test public void TestAnonymousOntologiesHaveSeparateTables() throws OWLOntologyCreationException
+  {
+    OWLOntologyManager ontologyManager = OWLManager.createOWLOntologyManager();
+    OWLOntology ontology1 = ontologyManager.createOntology();
+    OWLOntology ontology2 = ontologyManager.createOntology();
+    OWLEntitySymbolTable symbolTable1 = SWRLAPIInternalFactory.getOWLEntitySymbolTable(ontology1);
+    OWLEntitySymbolTable symbolTable2 = SWRLAPIInternalFactory.getOWLEntitySymbolTable(ontology2);
+
+    addOWLAxioms(ontology1, Declaration(MALE));
+
+    assertNotSame(symbolTable1, symbolTable2);
+    assertTrue(symbolTable1.isOWLClass(MALE.getIRI()));
+    assertFalse(symbolTable2.isOWLClass(MALE.getIRI()));
+  }
+
+  @Test public void TestTableIsReplacedWhenOntologyIsRecreated() throws OWLOntologyCreationException
+  {
+    OWLOntologyManager ontologyManager = OWLManager.createOWLOntologyManager();
+    OWLOntology ontology1 = ontologyManager.createOntology(iri(NS + "recreated"));
+    OWLEntitySymbolTable symbolTable1 = SWRLAPIInternalFactory.getOWLEntitySymbolTable(ontology1);
+
+    addOWLAxioms(ontology1, Declaration(MALE));
+    assertTrue(symbolTable1.isOWLClass(MALE.getIRI()));
+
+    ontologyManager.removeOntology(ontology1);
+    OWLOntology ontology2 = ontologyManager.createOntology(iri(NS + "recreated"));
+    OWLEntitySymbolTable symbolTable2 = SWRLAPIInternalFactory.getOWLEntitySymbolTable(ontology2);
+
+    assertNotSame(symbolTable1, symbolTable2);
+    assertFalse(symbolTable2.isOWLClass(MALE.getIRI()));
+  }
+}
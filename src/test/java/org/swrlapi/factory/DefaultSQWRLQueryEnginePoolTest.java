@@ -0,0 +1,185 @@
+package org.swrlapi.factory;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.semanticweb.owlapi.apibinding.OWLManager;
+import org.semanticweb.owlapi.model.OWLClass;
+import org.semanticweb.owlapi.model.OWLNamedIndividual;
+import org.semanticweb.owlapi.model.OWLOntology;
+import org.semanticweb.owlapi.model.OWLOntologyCreationException;
+import org.semanticweb.owlapi.model.OWLOntologyManager;
+import org.swrlapi.core.SWRLAPIRule;
+import org.swrlapi.exceptions.SWRLBuiltInException;
+import org.swrlapi.exceptions.SWRLRuleEngineException;
+import org.swrlapi.parser.SWRLParseException;
+import org.swrlapi.sqwrl.SQWRLQueryEngine;
+import org.swrlapi.test.IntegrationTestBase;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.semanticweb.owlapi.apibinding.OWLFunctionalSyntaxFactory.Class;
+import static org.semanticweb.owlapi.apibinding.OWLFunctionalSyntaxFactory.ClassAssertion;
+import static org.semanticweb.owlapi.apibinding.OWLFunctionalSyntaxFactory.Declaration;
+import static org.semanticweb.owlapi.apibinding.OWLFunctionalSyntaxFactory.NamedIndividual;
+import static org.swrlapi.factory.SWRLAPIInternalFactory.createSWRLAPIOntology;
+
+public class DefaultSQWRLQueryEnginePoolTest extends IntegrationTestBase
+{
+  private static final OWLClass PERSON = Class(iri("Person"));
+  private static final OWLClass ADULT = Class(iri("Adult"));
+  private static final OWLNamedIndividual P1 = NamedIndividual(iri("p1"));
+  private static final OWLNamedIndividual P2 = NamedIndividual(iri("p2"));
+
+  private OWLOntologyManager ontologyManager;
+  private OWLOntology ontology;
+  private ExecutorService executor;
+
+  @Before public void setUp() throws OWLOntologyCreationException, SWRLParseException, SWRLBuiltInException
+  {
+    this.ontologyManager = OWLManager.createOWLOntologyManager();
+    this.ontology = this.ontologyManager.createOntology();
+    this.executor = Executors.newSingleThreadExecutor();
+
+    addOWLAxioms(this.ontology, Declaration(PERSON), Declaration(ADULT), Declaration(P1), ClassAssertion(PERSON, P1));
+    createSWRLAPIOntology(this.ontology).createSWRLRule("r1", "Person(?p) -> Adult(?p)");
+  }
+
+  @After public void tearDown()
+  {
+    this.executor.shutdownNow();
+  }
+
+  @Test public void TestReleasedEngineIsReused() throws SWRLRuleEngineException
+  {
+    DefaultSQWRLQueryEnginePool pool = createPool(2, 2, 0);
+
+    SQWRLQueryEngine queryEngine = pool.acquireSQWRLQueryEngine(this.ontology);
+
+    assertEquals(1, pool.getNumberOfActiveEngines());
+    assertEquals(0, pool.getNumberOfIdleEngines());
+    assertEquals(1, pool.getNumberOfCreatedEngines());
+
+    pool.releaseSQWRLQueryEngine(queryEngine);
+
+    assertEquals(0, pool.getNumberOfActiveEngines());
+    assertEquals(1, pool.getNumberOfIdleEngines());
+
+    assertSame(queryEngine, pool.acquireSQWRLQueryEngine(this.ontology));
+    assertEquals(1, pool.getNumberOfCreatedEngines());
+    assertEquals(1, pool.getNumberOfReusedEngines());
+  }
+
+  @Test public void TestProcessedOntologyIsKeptWhileOntologyIsUnchanged()
+    throws SWRLRuleEngineException, SWRLBuiltInException
+  {
+    DefaultSQWRLQueryEnginePool pool = createPool(1, 1, 0);
+
+    SQWRLQueryEngine queryEngine = pool.acquireSQWRLQueryEngine(this.ontology);
+    SWRLAPIRule rule = queryEngine.getSWRLRuleEngine().getSWRLRule("r1").get();
+    pool.releaseSQWRLQueryEngine(queryEngine);
+
+    queryEngine = pool.acquireSQWRLQueryEngine(this.ontology);
+    assertSame(rule, queryEngine.getSWRLRuleEngine().getSWRLRule("r1").get());
+    pool.releaseSQWRLQueryEngine(queryEngine);
+
+    addOWLAxioms(this.ontology, Declaration(P2), ClassAssertion(PERSON, P2));
+
+    queryEngine = pool.acquireSQWRLQueryEngine(this.ontology);
+    assertNotSame(rule, queryEngine.getSWRLRuleEngine().getSWRLRule("r1").get());
+  }
+
+  @Test public void TestEngineBoundToRequestedOntologyIsPreferred()
+    throws SWRLRuleEngineException, OWLOntologyCreationException
+  {
+    DefaultSQWRLQueryEnginePool pool = createPool(2, 2, 0);
+    OWLOntology otherOntology = this.ontologyManager.createOntology();
+
+    SQWRLQueryEngine queryEngine = pool.acquireSQWRLQueryEngine(this.ontology);
+    SQWRLQueryEngine otherQueryEngine = pool.acquireSQWRLQueryEngine(otherOntology);
+
+    pool.releaseSQWRLQueryEngine(queryEngine);
+    pool.releaseSQWRLQueryEngine(otherQueryEngine); // Most recently released, so first in line
+
+    assertSame(queryEngine, pool.acquireSQWRLQueryEngine(this.ontology));
+  }
+
+  @Test public void TestAcquireWaitsAtCapacity() throws Exception
+  {
+    DefaultSQWRLQueryEnginePool pool = createPool(1, 1, 0);
+
+    SQWRLQueryEngine queryEngine = pool.acquireSQWRLQueryEngine(this.ontology);
+    Future<SQWRLQueryEngine> waitingAcquire = this.executor.submit(() -> pool.acquireSQWRLQueryEngine(this.ontology));
+
+    Thread.sleep(100);
+    assertFalse(waitingAcquire.isDone());
+
+    pool.releaseSQWRLQueryEngine(queryEngine);
+
+    assertSame(queryEngine, waitingAcquire.get(10, TimeUnit.SECONDS));
+    assertEquals(1, pool.getNumberOfCreatedEngines());
+  }
+
+  @Test public void TestIdleEnginesAreEvictedAfterMaximumIdleTime() throws Exception
+  {
+    DefaultSQWRLQueryEnginePool pool = createPool(2, 2, 10);
+
+    pool.releaseSQWRLQueryEngine(pool.acquireSQWRLQueryEngine(this.ontology));
+    Thread.sleep(50);
+    pool.evictIdleSQWRLQueryEngines();
+
+    assertEquals(0, pool.getNumberOfIdleEngines());
+    assertEquals(1, pool.getNumberOfEvictedEngines());
+  }
+
+  @Test public void TestEnginesBeyondMaximumIdleAreEvicted() throws SWRLRuleEngineException
+  {
+    DefaultSQWRLQueryEnginePool pool = createPool(2, 1, 0);
+
+    SQWRLQueryEngine queryEngine1 = pool.acquireSQWRLQueryEngine(this.ontology);
+    SQWRLQueryEngine queryEngine2 = pool.acquireSQWRLQueryEngine(this.ontology);
+    pool.releaseSQWRLQueryEngine(queryEngine1);
+    pool.releaseSQWRLQueryEngine(queryEngine2);
+
+    assertEquals(1, pool.getNumberOfIdleEngines());
+    assertEquals(1, pool.getNumberOfEvictedEngines());
+  }
+
+  @Test public void TestClearEvictsIdleEngines() throws SWRLRuleEngineException
+  {
+    DefaultSQWRLQueryEnginePool pool = createPool(2, 2, 0);
+
+    SQWRLQueryEngine queryEngine1 = pool.acquireSQWRLQueryEngine(this.ontology);
+    SQWRLQueryEngine queryEngine2 = pool.acquireSQWRLQueryEngine(this.ontology);
+    pool.releaseSQWRLQueryEngine(queryEngine1);
+    pool.releaseSQWRLQueryEngine(queryEngine2);
+    pool.clear();
+
+    assertEquals(0, pool.getNumberOfIdleEngines());
+    assertEquals(2, pool.getNumberOfEvictedEngines());
+    assertNotSame(queryEngine2, pool.acquireSQWRLQueryEngine(this.ontology));
+    assertEquals(3, pool.getNumberOfCreatedEngines());
+  }
+
+  @Test(expected = SWRLRuleEngineException.class) public void TestReleasingForeignEngineFails()
+    throws SWRLRuleEngineException
+  {
+    SQWRLQueryEngine queryEngine = createPool(1, 1, 0).acquireSQWRLQueryEngine(this.ontology);
+
+    createPool(1, 1, 0).releaseSQWRLQueryEngine(queryEngine);
+  }
+
+  private static DefaultSQWRLQueryEnginePool createPool(int maximumNumberOfEngines, int maximumNumberOfIdleEngines,
+    long maximumIdleTimeMillis)
+  {
+    return new DefaultSQWRLQueryEnginePool(TestTargetSWRLRuleEngine.getCreator(), maximumNumberOfEngines,
+      maximumNumberOfIdleEngines, maximumIdleTimeMillis);
+  }
+}
@@ -0,0 +1,136 @@
+package org.swrlapi.factory;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.semanticweb.owlapi.model.IRI;
+import org.swrlapi.core.IRIResolver;
+import org.swrlapi.sqwrl.SQWRLResultManager;
+import org.swrlapi.sqwrl.exceptions.SQWRLException;
+import org.swrlapi.sqwrl.values.SQWRLResultValue;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+
+public class DefaultSQWRLResultManagerTest
+{
+  private SQWRLResultValueFactory valueFactory;
+
+  @Before public void setUp()
+  {
+    IRIResolver iriResolver = SWRLAPIFactory.createIRIResolver();
+
+    this.valueFactory = SWRLAPIInternalFactory.createSQWRLResultValueFactory(iriResolver);
+  }
+
+  @Test public void TestNumericColumnAscendingKeepsTiesInOrder() throws SQWRLException
+  {
+    List<List<SQWRLResultValue>> rows = Arrays.asList(
+      row(this.valueFactory.getLiteralValue(3), tag("a")),
+      row(this.valueFactory.getLiteralValue(1), tag("b")),
+      row(this.valueFactory.getLiteralValue(3), tag("c")),
+      row(this.valueFactory.getLiteralValue(2), tag("d")),
+      row(this.valueFactory.getLiteralValue(1), tag("e")));
+
+    assertEquals(Arrays.asList("b", "e", "d", "a", "c"), getOrderedTags(rows, true, 0));
+  }
+
+  @Test public void TestNumericColumnDescendingKeepsTiesInOrder() throws SQWRLException
+  {
+    List<List<SQWRLResultValue>> rows = Arrays.asList(
+      row(this.valueFactory.getLiteralValue(3.5), tag("a")),
+      row(this.valueFactory.getLiteralValue(-1.0), tag("b")),
+      row(this.valueFactory.getLiteralValue(3.5), tag("c")),
+      row(this.valueFactory.getLiteralValue(0.0), tag("d")),
+      row(this.valueFactory.getLiteralValue(-1.0), tag("e")));
+
+    assertEquals(Arrays.asList("a", "c", "d", "b", "e"), getOrderedTags(rows, false, 0));
+  }
+
+  @Test public void TestMixedNumericColumnOrdersByValue() throws SQWRLException
+  {
+    List<List<SQWRLResultValue>> rows = Arrays.asList(
+      row(this.valueFactory.getLiteralValue(2), tag("a")),
+      row(this.valueFactory.getLiteralValue(new BigDecimal("1.5")), tag("b")),
+      row(this.valueFactory.getLiteralValue(3L), tag("c")),
+      row(this.valueFactory.getLiteralValue(new BigDecimal("2.0")), tag("d")),
+      row(this.valueFactory.getLiteralValue(0.5), tag("e")));
+
+    assertEquals(Arrays.asList("e", "b", "a", "d", "c"), getOrderedTags(rows, true, 0));
+    assertEquals(Arrays.asList("c", "a", "d", "b", "e"), getOrderedTags(rows, false, 0));
+  }
+
+  @Test public void TestStringColumnOrdersNaturally() throws SQWRLException
+  {
+    List<List<SQWRLResultValue>> rows = Arrays.asList(
+      row(this.valueFactory.getLiteralValue("item10"), tag("a")),
+      row(this.valueFactory.getLiteralValue("item2"), tag("b")),
+      row(this.valueFactory.getLiteralValue("item2"), tag("c")),
+      row(this.valueFactory.getLiteralValue("item1"), tag("d")));
+
+    assertEquals(Arrays.asList("d", "b", "c", "a"), getOrderedTags(rows, true, 0));
+    assertEquals(Arrays.asList("a", "b", "c", "d"), getOrderedTags(rows, false, 0));
+  }
+
+  @Test public void TestStringAndNumericColumnsOrderByFirstColumnFirst() throws SQWRLException
+  {
+    List<List<SQWRLResultValue>> rows = Arrays.asList(
+      row(this.valueFactory.getLiteralValue("y"), this.valueFactory.getLiteralValue(1), tag("a")),
+      row(this.valueFactory.getLiteralValue("x"), this.valueFactory.getLiteralValue(2), tag("b")),
+      row(this.valueFactory.getLiteralValue("y"), this.valueFactory.getLiteralValue(0), tag("c")),
+      row(this.valueFactory.getLiteralValue("x"), this.valueFactory.getLiteralValue(2), tag("d")),
+      row(this.valueFactory.getLiteralValue("x"), this.valueFactory.getLiteralValue(1), tag("e")));
+
+    assertEquals(Arrays.asList("e", "b", "d", "c", "a"), getOrderedTags(rows, true, 0, 1));
+    assertEquals(Arrays.asList("a", "c", "b", "d", "e"), getOrderedTags(rows, false, 0, 1));
+  }
+
+  @Test public void TestEntityColumnOrdersByIRI() throws SQWRLException
+  {
+    List<List<SQWRLResultValue>> rows = Arrays.asList(
+      row(this.valueFactory.getNamedIndividualValue(IRI.create("http://example.org#i2")), tag("a")),
+      row(this.valueFactory.getNamedIndividualValue(IRI.create("http://example.org#i1")), tag("b")),
+      row(this.valueFactory.getNamedIndividualValue(IRI.create("http://example.org#i2")), tag("c")));
+
+    assertEquals(Arrays.asList("b", "a", "c"), getOrderedTags(rows, true, 0));
+    assertEquals(Arrays.asList("a", "c", "b"), getOrderedTags(rows, false, 0));
+  }
+
+  private List<String> getOrderedTags(List<List<SQWRLResultValue>> rows, boolean ascending,
+    int... orderByColumnIndexes) throws SQWRLException
+  {
+    SQWRLResultManager resultManager = SWRLAPIInternalFactory
+      .createSQWRLResultManager(SWRLAPIFactory.createIRIResolver());
+    int numberOfColumns = rows.get(0).size();
+    List<String> orderedTags = new ArrayList<>();
+
+    for (int columnIndex = 0; columnIndex < numberOfColumns; columnIndex++)
+      resultManager.addColumn("c" + columnIndex);
+
+    for (int columnIndex : orderByColumnIndexes)
+      resultManager.setOrderByColumn(columnIndex, ascending);
+
+    resultManager.configured();
+    for (List<SQWRLResultValue> row : rows)
+      resultManager.addRow(row);
+    resultManager.prepared();
+
+    for (SQWRLResultValue value : resultManager.getColumn(numberOfColumns - 1))
+      orderedTags.add(value.asLiteralResult().getValue());
+
+    return orderedTags;
+  }
+
+  private SQWRLResultValue tag(String tag)
+  {
+    return this.valueFactory.getLiteralValue(tag);
+  }
+
+  private static List<SQWRLResultValue> row(SQWRLResultValue... values)
+  {
+    return new ArrayList<>(Arrays.asList(values));
+  }
+}
@@ -0,0 +1,147 @@
+package org.swrlapi.factory;
+
+import org.junit.Test;
+import org.semanticweb.owlapi.apibinding.OWLManager;
+import org.semanticweb.owlapi.model.AxiomType;
+import org.semanticweb.owlapi.model.OWLAxiom;
+import org.semanticweb.owlapi.model.OWLClass;
+import org.semanticweb.owlapi.model.OWLDataProperty;
+import org.semanticweb.owlapi.model.OWLNamedIndividual;
+import org.semanticweb.owlapi.model.OWLOntology;
+import org.semanticweb.owlapi.model.OWLOntologyCreationException;
+import org.swrlapi.core.SWRLAPIOWLOntology;
+import org.swrlapi.core.SWRLAPIRule;
+import org.swrlapi.core.SWRLRuleDefinition;
+import org.swrlapi.core.SWRLRuleRenderer;
+import org.swrlapi.exceptions.SWRLBuiltInException;
+import org.swrlapi.parser.SWRLParseException;
+import org.swrlapi.test.IntegrationTestBase;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+import static org.semanticweb.owlapi.apibinding.OWLFunctionalSyntaxFactory.Class;
+import static org.semanticweb.owlapi.apibinding.OWLFunctionalSyntaxFactory.ClassAssertion;
+import static org.semanticweb.owlapi.apibinding.OWLFunctionalSyntaxFactory.DataProperty;
+import static org.semanticweb.owlapi.apibinding.OWLFunctionalSyntaxFactory.Declaration;
+import static org.semanticweb.owlapi.apibinding.OWLFunctionalSyntaxFactory.NamedIndividual;
+import static org.semanticweb.owlapi.apibinding.OWLFunctionalSyntaxFactory.SubClassOf;
+import static org.swrlapi.factory.SWRLAPIInternalFactory.createSWRLAPIOntology;
+
+public class DefaultSWRLAPIOWLOntologyTest extends IntegrationTestBase
+{
+  private static final OWLClass PERSON = Class(iri("Person"));
+  private static final OWLClass EMPLOYEE = Class(iri("Employee"));
+  private static final OWLClass MALE = Class(iri("Male"));
+  private static final OWLDataProperty HAS_AGE = DataProperty(iri("hasAge"));
+  private static final OWLNamedIndividual E1 = NamedIndividual(iri("e1"));
+
+  @Test public void TestProcessAddedOWLAssertionAxioms() throws OWLOntologyCreationException, SWRLBuiltInException
+  {
+    OWLOntology ontology = OWLManager.createOWLOntologyManager().createOntology();
+    DefaultSWRLAPIOWLOntology swrlapiOWLOntology = (DefaultSWRLAPIOWLOntology)createSWRLAPIOntology(ontology);
+
+    addOWLAxioms(ontology, Declaration(PERSON));
+    swrlapiOWLOntology.processOntology();
+    addOWLAxioms(ontology, ClassAssertion(PERSON, E1));
+
+    Optional<Set<OWLAxiom>> contributedAxioms = swrlapiOWLOntology
+      .processAddedOWLAssertionAxioms(Collections.singleton(ClassAssertion(PERSON, E1)));
+
+    assertTrue(contributedAxioms.isPresent());
+    assertEquals(2, contributedAxioms.get().size());
+    assertTrue(contributedAxioms.get().contains(Declaration(E1)));
+    assertTrue(swrlapiOWLOntology.hasAssertedOWLAxiom(ClassAssertion(PERSON, E1)));
+    assertTrue(swrlapiOWLOntology.hasAssertedOWLAxiom(Declaration(E1)));
+  }
+
+  @Test public void TestAlreadyAssertedAxiomsAreNotContributedAgain()
+    throws OWLOntologyCreationException, SWRLBuiltInException
+  {
+    OWLOntology ontology = OWLManager.createOWLOntologyManager().createOntology();
+    DefaultSWRLAPIOWLOntology swrlapiOWLOntology = (DefaultSWRLAPIOWLOntology)createSWRLAPIOntology(ontology);
+
+    addOWLAxioms(ontology, Declaration(PERSON), Declaration(MALE), ClassAssertion(PERSON, E1));
+    swrlapiOWLOntology.processOntology();
+    addOWLAxioms(ontology, ClassAssertion(MALE, E1));
+
+    long processingCount = swrlapiOWLOntology.getProcessingCount();
+    Optional<Set<OWLAxiom>> contributedAxioms = swrlapiOWLOntology
+      .processAddedOWLAssertionAxioms(Arrays.asList(ClassAssertion(PERSON, E1), ClassAssertion(MALE, E1)));
+
+    assertTrue(contributedAxioms.isPresent());
+    assertEquals(Collections.singleton(ClassAssertion(MALE, E1)), contributedAxioms.get());
+    assertNotEquals(processingCount, swrlapiOWLOntology.getProcessingCount());
+  }
+
+  @Test public void TestAddedSchemaAxiomsAreNotProcessedIncrementally()
+    throws OWLOntologyCreationException, SWRLBuiltInException
+  {
+    OWLOntology ontology = OWLManager.createOWLOntologyManager().createOntology();
+    DefaultSWRLAPIOWLOntology swrlapiOWLOntology = (DefaultSWRLAPIOWLOntology)createSWRLAPIOntology(ontology);
+
+    swrlapiOWLOntology.processOntology();
+    addOWLAxioms(ontology, SubClassOf(EMPLOYEE, PERSON));
+
+    assertFalse(swrlapiOWLOntology.processAddedOWLAssertionAxioms(Collections.singleton(SubClassOf(EMPLOYEE, PERSON)))
+      .isPresent());
+    assertFalse(swrlapiOWLOntology.hasAssertedOWLAxiom(SubClassOf(EMPLOYEE, PERSON)));
+  }
+
+  @Test public void TestBulkRuleCreationMatchesSingleRuleCreation()
+    throws OWLOntologyCreationException, SWRLParseException, SWRLBuiltInException
+  {
+    List<SWRLRuleDefinition> ruleDefinitions = new ArrayList<>();
+
+    for (int i = 0; i < 50; i++) {
+      ruleDefinitions.add(new SWRLRuleDefinition("r" + i, "Male(?m) ^ hasAge(?m, " + i + ") -> Person(?m)"));
+      ruleDefinitions.add(new SWRLRuleDefinition("g" + i,
+        "Person(?p) ^ hasAge(?p, ?a) ^ swrlb:greaterThan(?a, " + i + ") -> Male(?p)", "comment " + i, i % 2 == 0));
+      ruleDefinitions.add(new SWRLRuleDefinition("e" + i, "Male(e1) ^ swrlb:add(?x, " + i + ", 1) -> Person(e1)"));
+      ruleDefinitions.add(new SWRLRuleDefinition("q" + i,
+        "Person(?p) ^ hasAge(?p, ?a) ^ swrlb:add(?b, ?a, " + i + ") -> sqwrl:select(?p, ?b) ^ sqwrl:orderBy(?b)"));
+    }
+
+    OWLOntology bulkOntology = OWLManager.createOWLOntologyManager().createOntology();
+    OWLOntology singleOntology = OWLManager.createOWLOntologyManager().createOntology();
+    SWRLAPIOWLOntology bulkSWRLAPIOWLOntology = createSWRLAPIOntology(bulkOntology);
+    SWRLAPIOWLOntology singleSWRLAPIOWLOntology = createSWRLAPIOntology(singleOntology);
+
+    addOWLAxioms(bulkOntology, Declaration(PERSON), Declaration(MALE), Declaration(HAS_AGE), Declaration(E1));
+    addOWLAxioms(singleOntology, Declaration(PERSON), Declaration(MALE), Declaration(HAS_AGE), Declaration(E1));
+
+    List<SWRLAPIRule> bulkRules = bulkSWRLAPIOWLOntology.createSWRLRules(ruleDefinitions);
+    for (SWRLRuleDefinition ruleDefinition : ruleDefinitions)
+      singleSWRLAPIOWLOntology.createSWRLRule(ruleDefinition.getRuleName(), ruleDefinition.getRuleText(),
+        ruleDefinition.getComment(), ruleDefinition.isActive());
+
+    assertEquals(ruleDefinitions.size(), bulkRules.size());
+    for (int ruleIndex = 0; ruleIndex < ruleDefinitions.size(); ruleIndex++)
+      assertEquals(ruleDefinitions.get(ruleIndex).getRuleName(), bulkRules.get(ruleIndex).getRuleName());
+    assertEquals(singleOntology.getAxioms(AxiomType.SWRL_RULE), bulkOntology.getAxioms(AxiomType.SWRL_RULE));
+    assertEquals(renderRules(singleSWRLAPIOWLOntology), renderRules(bulkSWRLAPIOWLOntology));
+    assertEquals(singleSWRLAPIOWLOntology.getSQWRLQueryNames(), bulkSWRLAPIOWLOntology.getSQWRLQueryNames());
+    assertEquals(50, bulkSWRLAPIOWLOntology.getSQWRLQueryNames().size());
+  }
+
+  private Map<String, String> renderRules(SWRLAPIOWLOntology swrlapiOWLOntology)
+  {
+    SWRLRuleRenderer ruleRenderer = swrlapiOWLOntology.createSWRLRuleRenderer();
+    Map<String, String> renderedRules = new HashMap<>();
+
+    for (SWRLAPIRule rule : swrlapiOWLOntology.getSWRLRules())
+      renderedRules.put(rule.getRuleName(), ruleRenderer.renderSWRLRule(rule));
+
+    return renderedRules;
+  }
+}
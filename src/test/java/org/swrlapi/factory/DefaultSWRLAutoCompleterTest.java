@@ -0,0 +1,68 @@
+package org.swrlapi.factory;
+
+import org.junit.Test;
+import org.semanticweb.owlapi.apibinding.OWLManager;
+import org.semanticweb.owlapi.model.OWLClass;
+import org.semanticweb.owlapi.model.OWLOntology;
+import org.semanticweb.owlapi.model.OWLOntologyCreationException;
+import org.swrlapi.core.SWRLAPIOWLOntology;
+import org.swrlapi.test.IntegrationTestBase;
+import org.swrlapi.ui.model.SWRLAutoCompleter;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.semanticweb.owlapi.apibinding.OWLFunctionalSyntaxFactory.Class;
+import static org.semanticweb.owlapi.apibinding.OWLFunctionalSyntaxFactory.Declaration;
+import static org.swrlapi.factory.SWRLAPIInternalFactory.createSWRLAPIOntology;
+
+public class DefaultSWRLAutoCompleterTest extends IntegrationTestBase
+{
+  private static final OWLClass MALE = Class(iri("Male"));
+  private static final OWLClass MALE_ADULT = Class(iri("MaleAdult"));
+  private static final OWLClass MAMMAL = Class(iri("Mammal"));
+
+  @Test public void TestAutoCompleterIsShared() throws OWLOntologyCreationException
+  {
+    OWLOntology ontology = OWLManager.createOWLOntologyManager().createOntology();
+    SWRLAPIOWLOntology swrlapiOWLOntology = createSWRLAPIOntology(ontology);
+
+    assertSame(swrlapiOWLOntology.createSWRLAutoCompleter(), swrlapiOWLOntology.createSWRLAutoCompleter());
+  }
+
+  @Test public void TestCompletionsTrackAddedAndRemovedAxioms() throws OWLOntologyCreationException
+  {
+    OWLOntology ontology = OWLManager.createOWLOntologyManager().createOntology();
+    SWRLAPIOWLOntology swrlapiOWLOntology = createSWRLAPIOntology(ontology);
+    SWRLAutoCompleter autoCompleter = swrlapiOWLOntology.createSWRLAutoCompleter();
+
+    addOWLAxioms(ontology, Declaration(MALE_ADULT), Declaration(MAMMAL));
+
+    assertEquals(Arrays.asList("MaleAdult", "Mammal"), autoCompleter.getCompletions("Ma"));
+
+    addOWLAxioms(ontology, Declaration(MALE));
+
+    assertEquals(Arrays.asList("Male", "MaleAdult", "Mammal"), autoCompleter.getCompletions("Ma"));
+
+    ontology.getOWLOntologyManager().removeAxiom(ontology, Declaration(MAMMAL));
+
+    assertFalse(autoCompleter.getCompletions("Ma").contains("Mammal"));
+  }
+
+  @Test public void TestRankedCompletionsPreferShorterRenderings() throws OWLOntologyCreationException
+  {
+    OWLOntology ontology = OWLManager.createOWLOntologyManager().createOntology();
+    SWRLAPIOWLOntology swrlapiOWLOntology = createSWRLAPIOntology(ontology);
+
+    addOWLAxioms(ontology, Declaration(MALE_ADULT), Declaration(MAMMAL), Declaration(MALE));
+
+    List<String> completions = swrlapiOWLOntology.createSWRLAutoCompleter().getCompletions("Ma", 2);
+
+    assertEquals(Arrays.asList("Male", "Mammal"), completions);
+    assertTrue(swrlapiOWLOntology.createSWRLAutoCompleter().getCompletions("Zz", 2).isEmpty());
+  }
+}
@@ -0,0 +1,59 @@
+package org.swrlapi.factory;
+
+import org.junit.Test;
+import org.semanticweb.owlapi.apibinding.OWLManager;
+import org.semanticweb.owlapi.model.OWLClass;
+import org.semanticweb.owlapi.model.OWLNamedIndividual;
+import org.semanticweb.owlapi.model.OWLOntology;
+import org.semanticweb.owlapi.model.OWLOntologyCreationException;
+import org.swrlapi.core.SWRLAPIOWLOntology;
+import org.swrlapi.core.SWRLRuleEngineInferenceDelta;
+import org.swrlapi.exceptions.SWRLBuiltInException;
+import org.swrlapi.test.IntegrationTestBase;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.semanticweb.owlapi.apibinding.OWLFunctionalSyntaxFactory.Class;
+import static org.semanticweb.owlapi.apibinding.OWLFunctionalSyntaxFactory.ClassAssertion;
+import static org.semanticweb.owlapi.apibinding.OWLFunctionalSyntaxFactory.NamedIndividual;
+import static org.swrlapi.factory.SWRLAPIInternalFactory.createSWRLAPIOntology;
+
+public class DefaultSWRLBridgeTest extends IntegrationTestBase
+{
+  private static final OWLClass PERSON = Class(iri("Person"));
+  private static final OWLClass ADULT = Class(iri("Adult"));
+  private static final OWLNamedIndividual P1 = NamedIndividual(iri("p1"));
+  private static final OWLNamedIndividual P2 = NamedIndividual(iri("p2"));
+
+  @Test public void TestInferenceListenerReceivesChangesBetweenRuns()
+    throws OWLOntologyCreationException, SWRLBuiltInException
+  {
+    OWLOntology ontology = OWLManager.createOWLOntologyManager().createOntology();
+    SWRLAPIOWLOntology swrlapiOWLOntology = createSWRLAPIOntology(ontology);
+    DefaultSWRLBridge bridge = new DefaultSWRLBridge(swrlapiOWLOntology,
+      SWRLAPIInternalFactory.createOWL2RLPersistenceLayer(ontology));
+    List<SWRLRuleEngineInferenceDelta> deltas = new ArrayList<>();
+
+    bridge.addInferenceListener(deltas::add);
+
+    bridge.inferOWLAxiom(ClassAssertion(ADULT, P1));
+    bridge.inferOWLAxiom(ClassAssertion(PERSON, P1));
+    bridge.notifyInferenceListeners();
+
+    bridge.reset();
+    bridge.inferOWLAxiom(ClassAssertion(ADULT, P1));
+    bridge.inferOWLAxiom(ClassAssertion(ADULT, P2));
+    bridge.notifyInferenceListeners();
+
+    assertEquals(2, deltas.size());
+    assertEquals(2, deltas.get(0).getAddedInferredOWLAxioms().size());
+    assertTrue(deltas.get(0).getRemovedInferredOWLAxioms().isEmpty());
+    assertEquals(Collections.singleton(ClassAssertion(ADULT, P2)), deltas.get(1).getAddedInferredOWLAxioms());
+    assertEquals(Collections.singleton(ClassAssertion(PERSON, P1)), deltas.get(1).getRemovedInferredOWLAxioms());
+    assertTrue(deltas.get(1).getAddedInjectedOWLAxioms().isEmpty());
+  }
+}
@@ -0,0 +1,524 @@
+package org.swrlapi.factory;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.semanticweb.owlapi.apibinding.OWLManager;
+import org.semanticweb.owlapi.model.IRI;
+import org.semanticweb.owlapi.model.OWLAxiom;
+import org.semanticweb.owlapi.model.OWLClass;
+import org.semanticweb.owlapi.model.OWLNamedIndividual;
+import org.semanticweb.owlapi.model.OWLOntology;
+import org.semanticweb.owlapi.model.OWLOntologyChangeListener;
+import org.semanticweb.owlapi.model.OWLOntologyCreationException;
+import org.swrlapi.bridge.SWRLRuleEngineBridge;
+import org.swrlapi.bridge.TargetSWRLRuleEngine;
+import org.swrlapi.bridge.TargetSWRLRuleEngineCreator;
+import org.swrlapi.core.SWRLAPIOWLOntology;
+import org.swrlapi.core.SWRLRuleEngineBudget;
+import org.swrlapi.exceptions.SWRLBuiltInException;
+import org.swrlapi.exceptions.SWRLRuleEngineException;
+import org.swrlapi.exceptions.SWRLRuleEngineBudgetExceededException;
+import org.swrlapi.exceptions.SWRLRuleEngineCancelledException;
+import org.swrlapi.parser.SWRLParseException;
+import org.swrlapi.sqwrl.SQWRLResult;
+import org.swrlapi.sqwrl.SQWRLResultDelta;
+import org.swrlapi.sqwrl.exceptions.SQWRLException;
+import org.swrlapi.sqwrl.values.SQWRLResultValue;
+import org.swrlapi.test.IntegrationTestBase;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.semanticweb.owlapi.apibinding.OWLFunctionalSyntaxFactory.Class;
+import static org.semanticweb.owlapi.apibinding.OWLFunctionalSyntaxFactory.ClassAssertion;
+import static org.semanticweb.owlapi.apibinding.OWLFunctionalSyntaxFactory.Declaration;
+import static org.semanticweb.owlapi.apibinding.OWLFunctionalSyntaxFactory.NamedIndividual;
+import static org.swrlapi.factory.SWRLAPIInternalFactory.createSWRLAPIOntology;
+
+public class DefaultSWRLRuleAndQueryEngineTest extends IntegrationTestBase
+{
+  private static final OWLClass PERSON = Class(iri("Person"));
+  private static final OWLClass ADULT = Class(iri("Adult"));
+  private static final OWLNamedIndividual P1 = NamedIndividual(iri("p1"));
+  private static final OWLNamedIndividual P2 = NamedIndividual(iri("p2"));
+  private static final OWLNamedIndividual P3 = NamedIndividual(iri("p3"));
+  private static final OWLClass VEHICLE = Class(iri("Vehicle"));
+  private static final OWLNamedIndividual V1 = NamedIndividual(iri("v1"));
+
+  private OWLOntology ontology;
+  private DefaultSWRLBridge bridge;
+  private TestTargetSWRLRuleEngine targetSWRLRuleEngine;
+  private DefaultSWRLRuleAndQueryEngine ruleEngine;
+  private ExecutorService executor;
+
+  @Rule public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+  @Before public void setUp() throws OWLOntologyCreationException, SWRLParseException, SWRLBuiltInException
+  {
+    this.ontology = OWLManager.createOWLOntologyManager().createOntology();
+    this.executor = Executors.newCachedThreadPool();
+
+    addOWLAxioms(this.ontology, Declaration(PERSON), Declaration(ADULT), Declaration(P1), Declaration(P2),
+      ClassAssertion(PERSON, P1), ClassAssertion(PERSON, P2));
+
+    SWRLAPIOWLOntology swrlapiOWLOntology = createSWRLAPIOntology(this.ontology);
+    swrlapiOWLOntology.createSWRLRule("r1", "Person(?p) -> Adult(?p)");
+
+    this.bridge = new DefaultSWRLBridge(swrlapiOWLOntology,
+      SWRLAPIInternalFactory.createOWL2RLPersistenceLayer(this.ontology));
+    this.targetSWRLRuleEngine = new TestTargetSWRLRuleEngine(this.bridge);
+    this.bridge.setTargetSWRLRuleEngine(this.targetSWRLRuleEngine);
+    this.ruleEngine = new DefaultSWRLRuleAndQueryEngine(swrlapiOWLOntology, this.targetSWRLRuleEngine, this.bridge,
+      this.bridge, TestTargetSWRLRuleEngine.getCreator());
+  }
+
+  @After public void tearDown()
+  {
+    this.executor.shutdownNow();
+  }
+
+  @Test public void TestSynchronousCallsWaitForAsynchronousExecution() throws Exception
+  {
+    CountDownLatch started = new CountDownLatch(1);
+    CountDownLatch proceed = new CountDownLatch(1);
+
+    this.targetSWRLRuleEngine.setRunHook(() -> {
+      this.targetSWRLRuleEngine.setRunHook(null);
+      started.countDown();
+      awaitUninterruptibly(proceed);
+    });
+
+    CompletableFuture<Void> asyncInference = this.ruleEngine.inferAsync(SWRLRuleEngineBudget.UNLIMITED, this.executor);
+    assertTrue(started.await(10, TimeUnit.SECONDS));
+
+    Future<?> syncInference = this.executor.submit(() -> {
+      this.ruleEngine.infer();
+      return null;
+    });
+
+    Thread.sleep(100);
+    assertFalse(syncInference.isDone());
+    assertEquals(1, this.targetSWRLRuleEngine.getNumberOfRuns());
+
+    proceed.countDown();
+    asyncInference.get(10, TimeUnit.SECONDS);
+    syncInference.get(10, TimeUnit.SECONDS);
+
+    assertEquals(2, this.targetSWRLRuleEngine.getNumberOfRuns());
+  }
+
+  @Test public void TestCancellingRunningExecution() throws Exception
+  {
+    CountDownLatch started = new CountDownLatch(1);
+
+    this.targetSWRLRuleEngine.setRunHook(() -> {
+      this.targetSWRLRuleEngine.setRunHook(null);
+      started.countDown();
+      try {
+        Thread.sleep(10000);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt(); // Seen by the bridge at the next inference
+      }
+    });
+
+    CompletableFuture<Void> asyncInference = this.ruleEngine.inferAsync(SWRLRuleEngineBudget.UNLIMITED, this.executor);
+    assertTrue(started.await(10, TimeUnit.SECONDS));
+    asyncInference.cancel(true);
+
+    this.ruleEngine.infer(); // Waits for the cancelled execution to finish
+
+    assertTrue(asyncInference.isCancelled());
+    assertFalse(this.ruleEngine.getExecutionProgress().isPresent());
+    assertEquals(2, this.ruleEngine.getNumberOfInferredOWLAxioms());
+  }
+
+  @Test public void TestCancellingExecutionBeforeItStarts() throws Exception
+  {
+    List<Runnable> pendingTasks = new ArrayList<>();
+
+    CompletableFuture<Void> asyncInference = this.ruleEngine
+      .inferAsync(SWRLRuleEngineBudget.UNLIMITED, pendingTasks::add);
+
+    assertFalse(asyncInference.isDone());
+    asyncInference.cancel(true);
+    pendingTasks.forEach(Runnable::run);
+
+    assertTrue(asyncInference.isCancelled());
+    assertEquals(0, this.targetSWRLRuleEngine.getNumberOfRuns());
+    try {
+      asyncInference.get();
+      fail("cancelled execution completed");
+    } catch (CancellationException e) {
+      // Expected
+    }
+  }
+
+  @Test public void TestInferredAxiomBudgetExceeded() throws Exception
+  {
+    CompletableFuture<Void> asyncInference = this.ruleEngine
+      .inferAsync(new SWRLRuleEngineBudget(0, 1, 0), this.executor);
+
+    assertTrue(getExecutionFailure(asyncInference) instanceof SWRLRuleEngineBudgetExceededException);
+  }
+
+  @Test public void TestWallTimeBudgetExceeded() throws Exception
+  {
+    this.targetSWRLRuleEngine.setRunHook(() -> awaitUninterruptibly(new CountDownLatch(1), 50));
+
+    CompletableFuture<Void> asyncInference = this.ruleEngine
+      .inferAsync(SWRLRuleEngineBudget.ofWallTime(1), this.executor);
+
+    assertTrue(getExecutionFailure(asyncInference) instanceof SWRLRuleEngineBudgetExceededException);
+    assertEquals(1, this.targetSWRLRuleEngine.getNumberOfRuns());
+  }
+
+  @Test public void TestWallTimeExcludesTimeBeforeExecutionStarts() throws Exception
+  {
+    CompletableFuture<Void> asyncInference = this.ruleEngine
+      .inferAsync(SWRLRuleEngineBudget.ofWallTime(500), task -> this.executor.execute(() -> {
+        awaitUninterruptibly(new CountDownLatch(1), 1000); // Start after a deadline taken at submission
+        task.run();
+      }));
+
+    asyncInference.get(20, TimeUnit.SECONDS);
+
+    assertEquals(1, this.targetSWRLRuleEngine.getNumberOfRuns());
+  }
+
+  @Test public void TestQueuedExecutionsDoNotOccupyExecutorThreads() throws Exception
+  {
+    CountDownLatch started = new CountDownLatch(1);
+    CountDownLatch proceed = new CountDownLatch(1);
+    List<Runnable> submittedTasks = Collections.synchronizedList(new ArrayList<>());
+
+    this.targetSWRLRuleEngine.setRunHook(() -> {
+      this.targetSWRLRuleEngine.setRunHook(null);
+      started.countDown();
+      awaitUninterruptibly(proceed);
+    });
+
+    CompletableFuture<Void> firstInference = this.ruleEngine.inferAsync(SWRLRuleEngineBudget.UNLIMITED, task -> {
+      submittedTasks.add(task);
+      this.executor.execute(task);
+    });
+    assertTrue(started.await(10, TimeUnit.SECONDS));
+
+    CompletableFuture<Void> secondInference = this.ruleEngine.inferAsync(SWRLRuleEngineBudget.UNLIMITED, task -> {
+      submittedTasks.add(task);
+      this.executor.execute(task);
+    });
+
+    assertEquals(1, submittedTasks.size()); // The second execution is submitted when the first finishes
+
+    proceed.countDown();
+    firstInference.get(10, TimeUnit.SECONDS);
+    secondInference.get(10, TimeUnit.SECONDS);
+
+    assertEquals(2, submittedTasks.size());
+    assertEquals(2, this.targetSWRLRuleEngine.getNumberOfRuns());
+  }
+
+  @Test public void TestInterruptedExecutionIsReportedAsCancelled() throws Exception
+  {
+    this.targetSWRLRuleEngine.setRunHook(() -> Thread.currentThread().interrupt());
+
+    CompletableFuture<Void> asyncInference = this.ruleEngine.inferAsync(SWRLRuleEngineBudget.UNLIMITED, this.executor);
+
+    assertTrue(getExecutionFailure(asyncInference) instanceof SWRLRuleEngineCancelledException);
+  }
+
+  @Test public void TestParallelQueryResultsMatchSequentialResults() throws Exception
+  {
+    Set<String> queryNames = new LinkedHashSet<>(Arrays.asList("q1", "q2", "q3"));
+
+    this.ruleEngine.createSQWRLQuery("q1", "Person(?p) -> sqwrl:select(?p)");
+    this.ruleEngine.createSQWRLQuery("q2", "Adult(?p) -> sqwrl:select(?p)");
+    this.ruleEngine.createSQWRLQuery("q3", "Person(?p) ^ Adult(?p) -> sqwrl:select(?p)");
+
+    this.ruleEngine.importAssertedOWLAxioms();
+    this.ruleEngine.run();
+
+    int numberOfRuns = this.targetSWRLRuleEngine.getNumberOfRuns();
+    int numberOfResets = this.targetSWRLRuleEngine.getNumberOfResets();
+    Set<OWLAxiom> definedOWLAxioms = new HashSet<>(this.targetSWRLRuleEngine.getDefinedOWLAxioms());
+    Set<OWLAxiom> inferredOWLAxioms = new HashSet<>(this.ruleEngine.getInferredOWLAxioms());
+
+    Map<String, SQWRLResult> parallelResults = this.ruleEngine.runSQWRLQueries(queryNames, 3);
+
+    assertEquals(numberOfRuns, this.targetSWRLRuleEngine.getNumberOfRuns()); // Calling engine is untouched
+    assertEquals(numberOfResets, this.targetSWRLRuleEngine.getNumberOfResets());
+    assertEquals(definedOWLAxioms, this.targetSWRLRuleEngine.getDefinedOWLAxioms());
+    assertEquals(inferredOWLAxioms, this.ruleEngine.getInferredOWLAxioms());
+    assertEquals(new ArrayList<>(queryNames), new ArrayList<>(parallelResults.keySet()));
+
+    for (String queryName : queryNames) {
+      SQWRLResult sequentialResult = this.ruleEngine.runSQWRLQuery(queryName);
+
+      assertEquals(2, sequentialResult.getNumberOfRows());
+      assertEquals(sequentialResult.getColumn(0), parallelResults.get(queryName).getColumn(0));
+    }
+  }
+
+  @Test public void TestContinuousQueryReportsAddedAndRemovedRows() throws Exception
+  {
+    List<SQWRLResultDelta> deltas = new ArrayList<>();
+
+    this.ruleEngine.createSQWRLQuery("q1", "Adult(?p) -> sqwrl:select(?p)");
+    this.ruleEngine.registerContinuousSQWRLQuery("q1", deltas::add);
+
+    assertEquals(1, deltas.size());
+    assertEquals(new HashSet<>(Arrays.asList(P1.getIRI(), P2.getIRI())), getIRIs(deltas.get(0).getAddedRows()));
+    assertTrue(deltas.get(0).getRemovedRows().isEmpty());
+
+    addOWLAxioms(this.ontology, Declaration(P3), ClassAssertion(PERSON, P3));
+    this.ruleEngine.updateContinuousSQWRLQueries();
+
+    assertEquals(2, deltas.size());
+    assertEquals(Collections.singleton(P3.getIRI()), getIRIs(deltas.get(1).getAddedRows()));
+    assertTrue(deltas.get(1).getRemovedRows().isEmpty());
+
+    this.ontology.getOWLOntologyManager().removeAxiom(this.ontology, ClassAssertion(PERSON, P1));
+    this.ruleEngine.updateContinuousSQWRLQueries();
+
+    assertEquals(3, deltas.size());
+    assertTrue(deltas.get(2).getAddedRows().isEmpty());
+    assertEquals(Collections.singleton(P1.getIRI()), getIRIs(deltas.get(2).getRemovedRows()));
+    assertEquals(2, deltas.get(2).getResult().getNumberOfRows());
+  }
+
+  @Test public void TestContinuousQueryIgnoresIrrelevantChanges() throws Exception
+  {
+    List<SQWRLResultDelta> deltas = new ArrayList<>();
+
+    this.ruleEngine.createSQWRLQuery("q1", "Adult(?p) -> sqwrl:select(?p)");
+    this.ruleEngine.registerContinuousSQWRLQuery("q1", deltas::add);
+
+    addOWLAxioms(this.ontology, Declaration(VEHICLE), Declaration(V1), ClassAssertion(VEHICLE, V1));
+    this.ruleEngine.updateContinuousSQWRLQueries();
+
+    assertEquals(1, deltas.size());
+  }
+
+  @Test public void TestContinuousQueryUpdatesLeaveEngineUntouched() throws Exception
+  {
+    List<SQWRLResultDelta> deltas = new ArrayList<>();
+
+    this.ruleEngine.createSQWRLQuery("q1", "Adult(?p) -> sqwrl:select(?p)");
+    this.ruleEngine.importAssertedOWLAxioms();
+    this.ruleEngine.run();
+
+    int numberOfRuns = this.targetSWRLRuleEngine.getNumberOfRuns();
+    int numberOfResets = this.targetSWRLRuleEngine.getNumberOfResets();
+    Set<OWLAxiom> definedOWLAxioms = new HashSet<>(this.targetSWRLRuleEngine.getDefinedOWLAxioms());
+    Set<OWLAxiom> inferredOWLAxioms = new HashSet<>(this.ruleEngine.getInferredOWLAxioms());
+
+    this.ruleEngine.registerContinuousSQWRLQuery("q1", deltas::add);
+    addOWLAxioms(this.ontology, Declaration(P3), ClassAssertion(PERSON, P3));
+    this.ruleEngine.updateContinuousSQWRLQueries();
+
+    assertEquals(2, deltas.size());
+    assertEquals(numberOfRuns, this.targetSWRLRuleEngine.getNumberOfRuns());
+    assertEquals(numberOfResets, this.targetSWRLRuleEngine.getNumberOfResets());
+    assertEquals(definedOWLAxioms, this.targetSWRLRuleEngine.getDefinedOWLAxioms());
+    assertEquals(inferredOWLAxioms, this.ruleEngine.getInferredOWLAxioms());
+  }
+
+  @Test public void TestContinuousQueryEngineIsKeptWhileOnlyAssertionsAreAdded() throws Exception
+  {
+    List<SQWRLResultDelta> deltas = new ArrayList<>();
+    AtomicInteger numberOfCreatedEngines = new AtomicInteger();
+    TargetSWRLRuleEngineCreator creator = new TargetSWRLRuleEngineCreator()
+    {
+      @NonNull @Override public TargetSWRLRuleEngine create(@NonNull SWRLRuleEngineBridge bridge)
+      {
+        numberOfCreatedEngines.incrementAndGet();
+        return new TestTargetSWRLRuleEngine(bridge);
+      }
+
+      @NonNull @Override public String getRuleEngineName()
+      {
+        return "Test";
+      }
+    };
+    DefaultSWRLRuleAndQueryEngine ruleEngine = new DefaultSWRLRuleAndQueryEngine(
+      this.ruleEngine.getSWRLAPIOWLOntology(), this.targetSWRLRuleEngine, this.bridge, this.bridge, creator);
+
+    ruleEngine.createSQWRLQuery("q1", "Adult(?p) -> sqwrl:select(?p)");
+    ruleEngine.registerContinuousSQWRLQuery("q1", deltas::add);
+    addOWLAxioms(this.ontology, Declaration(P3), ClassAssertion(PERSON, P3));
+    ruleEngine.updateContinuousSQWRLQueries();
+
+    assertEquals(2, deltas.size());
+    assertEquals(Collections.singleton(P3.getIRI()), getIRIs(deltas.get(1).getAddedRows()));
+    assertEquals(1, numberOfCreatedEngines.get());
+
+    this.ontology.getOWLOntologyManager().removeAxiom(this.ontology, ClassAssertion(PERSON, P1));
+    ruleEngine.updateContinuousSQWRLQueries();
+
+    assertEquals(3, deltas.size());
+    assertEquals(Collections.singleton(P1.getIRI()), getIRIs(deltas.get(2).getRemovedRows()));
+    assertEquals(2, numberOfCreatedEngines.get());
+  }
+
+  @Test public void TestExportWithNoInferredAxiomsAppliesNoBatches() throws Exception
+  {
+    this.ontology.getOWLOntologyManager().removeAxiom(this.ontology, ClassAssertion(PERSON, P1));
+    this.ontology.getOWLOntologyManager().removeAxiom(this.ontology, ClassAssertion(PERSON, P2));
+
+    List<Integer> batchSizes = recordBatchSizes(this.ontology);
+
+    this.ruleEngine.setInferredOWLAxiomBatchSize(2);
+    this.ruleEngine.infer();
+
+    assertTrue(batchSizes.isEmpty());
+  }
+
+  @Test public void TestExportOfExactlyOneBatch() throws Exception
+  {
+    List<Integer> batchSizes = recordBatchSizes(this.ontology);
+
+    this.ruleEngine.setInferredOWLAxiomBatchSize(2);
+    this.ruleEngine.infer();
+
+    assertEquals(Collections.singletonList(2), batchSizes);
+    assertTrue(this.ontology.containsAxiom(ClassAssertion(ADULT, P1)));
+    assertTrue(this.ontology.containsAxiom(ClassAssertion(ADULT, P2)));
+  }
+
+  @Test public void TestExportOfOneMoreThanABatch() throws Exception
+  {
+    addOWLAxioms(this.ontology, Declaration(P3), ClassAssertion(PERSON, P3));
+
+    List<Integer> batchSizes = recordBatchSizes(this.ontology);
+
+    this.ruleEngine.setInferredOWLAxiomBatchSize(2);
+    this.ruleEngine.infer();
+
+    assertEquals(Arrays.asList(2, 1), batchSizes);
+    assertTrue(this.ontology.containsAxiom(ClassAssertion(ADULT, P1)));
+    assertTrue(this.ontology.containsAxiom(ClassAssertion(ADULT, P2)));
+    assertTrue(this.ontology.containsAxiom(ClassAssertion(ADULT, P3)));
+  }
+
+  @Test public void TestExportToSeparateOntology() throws Exception
+  {
+    OWLOntology inferredOWLAxiomOntology = this.ontology.getOWLOntologyManager().createOntology();
+    int axiomCount = this.ontology.getAxiomCount();
+
+    this.ruleEngine.setInferredOWLAxiomOntology(inferredOWLAxiomOntology);
+    this.ruleEngine.infer();
+
+    assertEquals(axiomCount, this.ontology.getAxiomCount());
+    assertEquals(new HashSet<>(Arrays.asList(ClassAssertion(ADULT, P1), ClassAssertion(ADULT, P2))),
+      inferredOWLAxiomOntology.getAxioms());
+  }
+
+  @Test public void TestExportToFile() throws Exception
+  {
+    File file = this.temporaryFolder.newFile("inferred.ofn");
+    int axiomCount = this.ontology.getAxiomCount();
+
+    this.ruleEngine.importAssertedOWLAxioms();
+    this.ruleEngine.run();
+    this.ruleEngine.exportInferredOWLAxioms(file);
+
+    OWLOntology exportedOntology = OWLManager.createOWLOntologyManager().loadOntologyFromOntologyDocument(file);
+
+    assertEquals(axiomCount, this.ontology.getAxiomCount());
+    assertTrue(exportedOntology.containsAxiom(ClassAssertion(ADULT, P1)));
+    assertTrue(exportedOntology.containsAxiom(ClassAssertion(ADULT, P2)));
+    assertEquals(2, exportedOntology.getLogicalAxiomCount());
+  }
+
+  @Test public void TestFailedBatchLeavesEarlierBatchesWritten() throws Exception
+  {
+    List<Integer> batchSizes = recordBatchSizes(this.ontology);
+
+    this.ontology.getOWLOntologyManager().addImpendingOntologyChangeListener(changes -> {
+      if (!batchSizes.isEmpty())
+        throw new IllegalStateException("ontology is read-only");
+    });
+    this.ruleEngine.setInferredOWLAxiomBatchSize(1);
+
+    try {
+      this.ruleEngine.infer();
+      fail("export completed");
+    } catch (SWRLRuleEngineException e) {
+      assertTrue(e.getMessage().contains("after 1 axioms were written"));
+      assertTrue(e.getMessage().contains("ontology is read-only"));
+    }
+
+    assertEquals(Collections.singletonList(1), batchSizes);
+    assertTrue(this.ontology.containsAxiom(ClassAssertion(ADULT, P1)) ^ this.ontology
+      .containsAxiom(ClassAssertion(ADULT, P2)));
+  }
+
+  private static List<Integer> recordBatchSizes(OWLOntology ontology)
+  {
+    List<Integer> batchSizes = new ArrayList<>();
+    OWLOntologyChangeListener listener = changes -> batchSizes.add(changes.size());
+
+    ontology.getOWLOntologyManager().addOntologyChangeListener(listener);
+
+    return batchSizes;
+  }
+
+  private static Set<IRI> getIRIs(List<List<SQWRLResultValue>> rows) throws SQWRLException
+  {
+    Set<IRI> iris = new HashSet<>();
+
+    for (List<SQWRLResultValue> row : rows)
+      iris.add(row.get(0).asEntityResult().getIRI());
+
+    return iris;
+  }
+
+  private static Throwable getExecutionFailure(CompletableFuture<?> future) throws Exception
+  {
+    try {
+      future.get(10, TimeUnit.SECONDS);
+      fail("execution completed");
+      return null;
+    } catch (ExecutionException e) {
+      return e.getCause();
+    }
+  }
+
+  private static void awaitUninterruptibly(CountDownLatch latch)
+  {
+    awaitUninterruptibly(latch, 10000);
+  }
+
+  private static void awaitUninterruptibly(CountDownLatch latch, long timeoutMillis)
+  {
+    try {
+      latch.await(timeoutMillis, TimeUnit.MILLISECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
@@ -0,0 +1,79 @@
+package org.swrlapi.factory;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.swrlapi.core.SWRLRuleEngineInstrumentation;
+import org.swrlapi.core.SWRLRuleEngineInstrumentationSnapshot;
+import org.swrlapi.core.SWRLRuleEngineInstrumentationSnapshot.SWRLBuiltInStatistics;
+import org.swrlapi.core.SWRLRuleEnginePhase;
+
+/**
+ * @see DefaultSWRLRuleEngineInstrumentation
+ */
+public class DefaultSWRLRuleEngineInstrumentationTest
+{
+  @Test public void testDisabledByDefault()
+  {
+    SWRLRuleEngineInstrumentation instrumentation = new DefaultSWRLRuleEngineInstrumentation();
+
+    instrumentation.recordPhase(SWRLRuleEnginePhase.RUN, 100);
+    instrumentation.recordSWRLBuiltInInvocation("swrlb:add", "r1", 100);
+    instrumentation.recordInferredOWLAxiom("r1");
+
+    SWRLRuleEngineInstrumentationSnapshot snapshot = instrumentation.getSnapshot();
+
+    Assert.assertTrue(snapshot.getPhaseStatistics().isEmpty());
+    Assert.assertTrue(snapshot.getSWRLBuiltInStatistics().isEmpty());
+    Assert.assertTrue(snapshot.getInferredOWLAxiomCounts().isEmpty());
+  }
+
+  @Test public void testRecordPhases()
+  {
+    SWRLRuleEngineInstrumentation instrumentation = new DefaultSWRLRuleEngineInstrumentation();
+    instrumentation.setEnabled(true);
+
+    instrumentation.recordPhase(SWRLRuleEnginePhase.IMPORT, 10);
+    instrumentation.recordPhase(SWRLRuleEnginePhase.IMPORT, 30);
+
+    SWRLRuleEngineInstrumentationSnapshot.PhaseStatistics statistics = instrumentation.getSnapshot()
+      .getPhaseStatistics().get(SWRLRuleEnginePhase.IMPORT);
+
+    Assert.assertEquals(2, statistics.getCount());
+    Assert.assertEquals(40, statistics.getTotalNanos());
+    Assert.assertEquals(30, statistics.getLastNanos());
+  }
+
+  @Test public void testRecordSWRLBuiltInInvocations()
+  {
+    SWRLRuleEngineInstrumentation instrumentation = new DefaultSWRLRuleEngineInstrumentation();
+    instrumentation.setEnabled(true);
+
+    for (int i = 0; i < 99; i++)
+      instrumentation.recordSWRLBuiltInInvocation("swrlb:add", "r1", 100);
+    instrumentation.recordSWRLBuiltInInvocation("swrlb:add", "r1", 1000000);
+
+    SWRLBuiltInStatistics statistics = instrumentation.getSnapshot().getSWRLBuiltInStatistics().get("swrlb:add");
+
+    Assert.assertEquals(100, statistics.getCount());
+    Assert.assertEquals(1000000, statistics.getMaximumNanos());
+    Assert.assertEquals(128, statistics.getPercentileNanos(50));
+    Assert.assertEquals(1000000, statistics.getPercentileNanos(100));
+  }
+
+  @Test public void testRecordInferredOWLAxioms()
+  {
+    SWRLRuleEngineInstrumentation instrumentation = new DefaultSWRLRuleEngineInstrumentation();
+    instrumentation.setEnabled(true);
+
+    instrumentation.recordInferredOWLAxiom("r1");
+    instrumentation.recordInferredOWLAxiom("r1");
+    instrumentation.recordInferredOWLAxiom("r2");
+
+    Assert.assertEquals(Long.valueOf(2), instrumentation.getSnapshot().getInferredOWLAxiomCounts().get("r1"));
+    Assert.assertEquals(Long.valueOf(1), instrumentation.getSnapshot().getInferredOWLAxiomCounts().get("r2"));
+
+    instrumentation.reset();
+
+    Assert.assertTrue(instrumentation.getSnapshot().getInferredOWLAxiomCounts().isEmpty());
+  }
+}
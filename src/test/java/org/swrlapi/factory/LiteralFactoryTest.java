@@ -4,6 +4,8 @@ import org.junit.Before;
 import org.junit.Test;
 import org.semanticweb.owlapi.model.OWLOntologyCreationException;
 import org.swrlapi.literal.Literal;
+import org.swrlapi.literal.LiteralDatatype;
+import org.swrlapi.literal.OWLLiteralComparator;
 
 import static junit.framework.TestCase.assertEquals;
 import static junit.framework.TestCase.assertTrue;
@@ -29,4 +31,24 @@ public class LiteralFactoryTest
     assertTrue(literal.isBoolean());
     assertEquals(true, literal.getBoolean());
   }
+
+  @Test public void testGetLiteralDatatype() throws Exception
+  {
+    Literal literal = this.literalFactory.getLiteral(23);
+
+    assertEquals(LiteralDatatype.INT, literal.getLiteralDatatype());
+    assertTrue(literal.isNumeric());
+    assertEquals(23, literal.getInt());
+    assertEquals(23L, literal.getLong());
+    assertEquals(23.0, literal.getDouble());
+  }
+
+  @Test public void testCompareLiteralsOfDifferentNumericTypes() throws Exception
+  {
+    Literal l1 = this.literalFactory.getLiteral(3);
+    Literal l2 = this.literalFactory.getLiteral(3.5);
+
+    assertTrue(OWLLiteralComparator.compareLiterals(l1, l2) < 0);
+    assertTrue(OWLLiteralComparator.compareLiterals(l2, l1) > 0);
+  }
 }
@@ -0,0 +1,153 @@
+package org.swrlapi.factory;
+
+import org.junit.Test;
+import org.semanticweb.owlapi.apibinding.OWLManager;
+import org.semanticweb.owlapi.model.OWLAxiom;
+import org.semanticweb.owlapi.model.OWLClass;
+import org.semanticweb.owlapi.model.OWLNamedIndividual;
+import org.semanticweb.owlapi.model.OWLObjectProperty;
+import org.semanticweb.owlapi.model.OWLOntology;
+import org.semanticweb.owlapi.model.OWLOntologyCreationException;
+import org.swrlapi.core.SWRLAPIOWLOntology;
+import org.swrlapi.core.SWRLAPIRule;
+import org.swrlapi.exceptions.SWRLBuiltInException;
+import org.swrlapi.owl2rl.AbstractOWL2RLEngine;
+import org.swrlapi.owl2rl.OWL2RLEngine;
+import org.swrlapi.owl2rl.OWL2RLNames.OWL2RLRule;
+import org.swrlapi.parser.SWRLParseException;
+import org.swrlapi.sqwrl.SQWRLQuery;
+import org.swrlapi.sqwrl.exceptions.SQWRLException;
+import org.swrlapi.test.IntegrationTestBase;
+
+import java.util.Collections;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.semanticweb.owlapi.apibinding.OWLFunctionalSyntaxFactory.Class;
+import static org.semanticweb.owlapi.apibinding.OWLFunctionalSyntaxFactory.ClassAssertion;
+import static org.semanticweb.owlapi.apibinding.OWLFunctionalSyntaxFactory.Declaration;
+import static org.semanticweb.owlapi.apibinding.OWLFunctionalSyntaxFactory.NamedIndividual;
+import static org.semanticweb.owlapi.apibinding.OWLFunctionalSyntaxFactory.ObjectProperty;
+import static org.semanticweb.owlapi.apibinding.OWLFunctionalSyntaxFactory.ObjectPropertyAssertion;
+import static org.semanticweb.owlapi.apibinding.OWLFunctionalSyntaxFactory.ObjectPropertyDomain;
+import static org.semanticweb.owlapi.apibinding.OWLFunctionalSyntaxFactory.SubClassOf;
+import static org.swrlapi.factory.SWRLAPIInternalFactory.createSWRLAPIOntology;
+
+public class OWLAxiomRelevanceFilterTest extends IntegrationTestBase
+{
+  private static final OWLClass PERSON = Class(iri("Person"));
+  private static final OWLClass ADULT = Class(iri("Adult"));
+  private static final OWLClass EMPLOYEE = Class(iri("Employee"));
+  private static final OWLClass VEHICLE = Class(iri("Vehicle"));
+  private static final OWLObjectProperty HAS_OWNER = ObjectProperty(iri("hasOwner"));
+  private static final OWLNamedIndividual E1 = NamedIndividual(iri("e1"));
+  private static final OWLNamedIndividual V1 = NamedIndividual(iri("v1"));
+
+  @Test public void TestIrrelevantAxiomsArePruned()
+    throws OWLOntologyCreationException, SWRLParseException, SWRLBuiltInException
+  {
+    OWLOntology ontology = OWLManager.createOWLOntologyManager().createOntology();
+    SWRLAPIOWLOntology swrlapiOWLOntology = createSWRLAPIOntology(ontology);
+
+    addOWLAxioms(ontology, Declaration(PERSON), Declaration(ADULT), Declaration(EMPLOYEE), Declaration(VEHICLE),
+      Declaration(HAS_OWNER), Declaration(E1), Declaration(V1), SubClassOf(EMPLOYEE, PERSON),
+      ClassAssertion(EMPLOYEE, E1), ClassAssertion(VEHICLE, V1), ObjectPropertyAssertion(HAS_OWNER, V1, E1),
+      ObjectPropertyDomain(HAS_OWNER, VEHICLE));
+    swrlapiOWLOntology.createSWRLRule("r1", "Person(?p) -> Adult(?p)");
+    swrlapiOWLOntology.processOntology();
+
+    Set<OWLAxiom> relevantAxioms = new OWLAxiomRelevanceFilter(createOWL2RLEngine(ontology))
+      .getRelevantOWLAxioms(swrlapiOWLOntology.getOWLAxioms());
+
+    assertTrue(relevantAxioms.contains(SubClassOf(EMPLOYEE, PERSON)));
+    assertTrue(relevantAxioms.contains(ClassAssertion(EMPLOYEE, E1)));
+    assertTrue(relevantAxioms.containsAll(swrlapiOWLOntology.getSWRLRules()));
+    assertFalse(relevantAxioms.contains(ClassAssertion(VEHICLE, V1)));
+    assertFalse(relevantAxioms.contains(ObjectPropertyAssertion(HAS_OWNER, V1, E1)));
+    assertFalse(relevantAxioms.contains(ObjectPropertyDomain(HAS_OWNER, VEHICLE)));
+  }
+
+  @Test public void TestAxiomsOfDisabledOWL2RLRulesArePruned()
+    throws OWLOntologyCreationException, SWRLParseException, SWRLBuiltInException
+  {
+    OWLOntology ontology = OWLManager.createOWLOntologyManager().createOntology();
+    SWRLAPIOWLOntology swrlapiOWLOntology = createSWRLAPIOntology(ontology);
+
+    addOWLAxioms(ontology, Declaration(PERSON), Declaration(VEHICLE), Declaration(HAS_OWNER), Declaration(E1),
+      Declaration(V1), ClassAssertion(VEHICLE, V1), ObjectPropertyAssertion(HAS_OWNER, V1, E1),
+      ObjectPropertyDomain(HAS_OWNER, VEHICLE));
+    swrlapiOWLOntology.createSWRLRule("r1", "hasOwner(?v, ?p) -> Person(?p)");
+    swrlapiOWLOntology.processOntology();
+
+    OWL2RLEngine owl2RLEngine = createOWL2RLEngine(ontology);
+
+    Set<OWLAxiom> relevantAxioms = new OWLAxiomRelevanceFilter(owl2RLEngine)
+      .getRelevantOWLAxioms(swrlapiOWLOntology.getOWLAxioms());
+
+    assertTrue(relevantAxioms.contains(ObjectPropertyDomain(HAS_OWNER, VEHICLE)));
+    assertTrue(relevantAxioms.contains(ClassAssertion(VEHICLE, V1)));
+
+    owl2RLEngine.disableRules(OWL2RLRule.PRP_DOM, OWL2RLRule.SCM_DOM1, OWL2RLRule.SCM_DOM2);
+    relevantAxioms = new OWLAxiomRelevanceFilter(owl2RLEngine).getRelevantOWLAxioms(swrlapiOWLOntology.getOWLAxioms());
+
+    assertTrue(relevantAxioms.contains(ObjectPropertyAssertion(HAS_OWNER, V1, E1)));
+    assertFalse(relevantAxioms.contains(ObjectPropertyDomain(HAS_OWNER, VEHICLE)));
+    assertFalse(relevantAxioms.contains(ClassAssertion(VEHICLE, V1)));
+  }
+
+  @Test public void TestOnlyRulesInQuerySliceAreSelected()
+    throws OWLOntologyCreationException, SWRLParseException, SWRLBuiltInException, SQWRLException
+  {
+    OWLOntology ontology = OWLManager.createOWLOntologyManager().createOntology();
+    SWRLAPIOWLOntology swrlapiOWLOntology = createSWRLAPIOntology(ontology);
+
+    addOWLAxioms(ontology, Declaration(PERSON), Declaration(ADULT), Declaration(EMPLOYEE), Declaration(VEHICLE),
+      Declaration(HAS_OWNER), Declaration(E1), Declaration(V1), ClassAssertion(EMPLOYEE, E1),
+      ClassAssertion(VEHICLE, V1), ObjectPropertyAssertion(HAS_OWNER, V1, E1));
+    SWRLAPIRule r1 = swrlapiOWLOntology.createSWRLRule("r1", "Employee(?p) -> Person(?p)");
+    SWRLAPIRule r2 = swrlapiOWLOntology.createSWRLRule("r2", "Person(?p) -> Adult(?p)");
+    SWRLAPIRule r3 = swrlapiOWLOntology.createSWRLRule("r3", "hasOwner(?v, ?p) -> Vehicle(?v)");
+    SQWRLQuery query = swrlapiOWLOntology.createSQWRLQuery("q1", "Person(?p) -> sqwrl:select(?p)");
+    swrlapiOWLOntology.processOntology();
+
+    Set<OWLAxiom> slicedAxioms = new OWLAxiomRelevanceFilter(createOWL2RLEngine(ontology))
+      .getQuerySliceOWLAxioms(swrlapiOWLOntology.getOWLAxioms(), Collections.singleton(query));
+
+    assertTrue(slicedAxioms.contains(r1));
+    assertTrue(slicedAxioms.contains(ClassAssertion(EMPLOYEE, E1)));
+    assertFalse(slicedAxioms.contains(r2));
+    assertFalse(slicedAxioms.contains(r3));
+    assertFalse(slicedAxioms.contains(ClassAssertion(VEHICLE, V1)));
+    assertFalse(slicedAxioms.contains(ObjectPropertyAssertion(HAS_OWNER, V1, E1)));
+  }
+
+  @Test public void TestOnlyChangesInQuerySliceAffectIt()
+    throws OWLOntologyCreationException, SWRLParseException, SWRLBuiltInException, SQWRLException
+  {
+    OWLOntology ontology = OWLManager.createOWLOntologyManager().createOntology();
+    SWRLAPIOWLOntology swrlapiOWLOntology = createSWRLAPIOntology(ontology);
+
+    addOWLAxioms(ontology, Declaration(PERSON), Declaration(EMPLOYEE), Declaration(VEHICLE), Declaration(E1),
+      Declaration(V1), ClassAssertion(EMPLOYEE, E1));
+    swrlapiOWLOntology.createSWRLRule("r1", "Employee(?p) -> Person(?p)");
+    SQWRLQuery query = swrlapiOWLOntology.createSQWRLQuery("q1", "Person(?p) -> sqwrl:select(?p)");
+    swrlapiOWLOntology.processOntology();
+
+    Predicate<OWLAxiom> changeTest = new OWLAxiomRelevanceFilter(createOWL2RLEngine(ontology))
+      .getQuerySliceOWLAxiomChangeTest(swrlapiOWLOntology.getOWLAxioms(), Collections.singleton(query));
+
+    assertTrue(changeTest.test(ClassAssertion(EMPLOYEE, V1)));
+    assertTrue(changeTest.test(SubClassOf(VEHICLE, EMPLOYEE)));
+    assertFalse(changeTest.test(ClassAssertion(VEHICLE, V1)));
+  }
+
+  private static OWL2RLEngine createOWL2RLEngine(OWLOntology ontology)
+  {
+    return new AbstractOWL2RLEngine(SWRLAPIInternalFactory.createOWL2RLPersistenceLayer(ontology),
+      Collections.emptySet(), Collections.emptySet(), Collections.emptySet())
+    {
+    };
+  }
+}
@@ -0,0 +1,56 @@
+package org.swrlapi.factory;
+
+import org.junit.Test;
+import org.semanticweb.owlapi.apibinding.OWLManager;
+import org.semanticweb.owlapi.model.AddImport;
+import org.semanticweb.owlapi.model.IRI;
+import org.semanticweb.owlapi.model.OWLOntology;
+import org.semanticweb.owlapi.model.OWLOntologyCreationException;
+import org.semanticweb.owlapi.model.OWLOntologyManager;
+import org.swrlapi.exceptions.SWRLBuiltInException;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.swrlapi.factory.SWRLAPIInternalFactory.createSWRLAPIOntology;
+
+public class SWRLAPIOntologyCacheTest
+{
+  private static final IRI SWRLB_IRI = IRI.create("http://www.w3.org/2003/11/swrlb#");
+  private static final IRI SQWRL_IRI = IRI.create("http://sqwrl.stanford.edu/ontologies/built-ins/3.4/sqwrl.owl");
+
+  @Test public void TestUnresolvedImportsAreNotAddedToUserManager()
+    throws OWLOntologyCreationException, SWRLBuiltInException
+  {
+    OWLOntologyManager ontologyManager = OWLManager.createOWLOntologyManager();
+    OWLOntology ontology = ontologyManager.createOntology();
+
+    ontologyManager.applyChange(
+      new AddImport(ontology, ontologyManager.getOWLDataFactory().getOWLImportsDeclaration(SWRLB_IRI)));
+
+    createSWRLAPIOntology(ontology);
+
+    assertEquals(1, ontologyManager.getOntologies().size());
+    assertEquals(1, ontology.getImportsClosure().size());
+  }
+
+  @Test public void TestIRIMappersAreInstalledOncePerManager()
+    throws OWLOntologyCreationException, SWRLBuiltInException
+  {
+    OWLOntologyManager ontologyManager = OWLManager.createOWLOntologyManager();
+    OWLOntology ontology = ontologyManager.createOntology();
+
+    createSWRLAPIOntology(ontology);
+    int numberOfIRIMappers = ontologyManager.getIRIMappers().size();
+    createSWRLAPIOntology(ontology);
+    createSWRLAPIOntology(ontologyManager.createOntology());
+
+    assertEquals(numberOfIRIMappers, ontologyManager.getIRIMappers().size());
+  }
+
+  @Test public void TestCreatedManagerContainsSupportOntologies()
+  {
+    OWLOntologyManager ontologyManager = SWRLAPIFactory.createOWLOntologyManager();
+
+    assertTrue(ontologyManager.contains(SQWRL_IRI));
+  }
+}
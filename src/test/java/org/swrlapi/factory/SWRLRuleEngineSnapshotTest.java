@@ -0,0 +1,193 @@
+package org.swrlapi.factory;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.semanticweb.owlapi.apibinding.OWLManager;
+import org.semanticweb.owlapi.model.OWLAxiom;
+import org.semanticweb.owlapi.model.OWLClass;
+import org.semanticweb.owlapi.model.OWLNamedIndividual;
+import org.semanticweb.owlapi.model.OWLOntology;
+import org.swrlapi.core.SWRLAPIOWLOntology;
+import org.swrlapi.exceptions.SWRLRuleEngineException;
+import org.swrlapi.owl2rl.OWL2RLNames.OWL2RLRule;
+import org.swrlapi.sqwrl.SQWRLResult;
+import org.swrlapi.test.IntegrationTestBase;
+
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.zip.GZIPOutputStream;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.semanticweb.owlapi.apibinding.OWLFunctionalSyntaxFactory.Class;
+import static org.semanticweb.owlapi.apibinding.OWLFunctionalSyntaxFactory.ClassAssertion;
+import static org.semanticweb.owlapi.apibinding.OWLFunctionalSyntaxFactory.Declaration;
+import static org.semanticweb.owlapi.apibinding.OWLFunctionalSyntaxFactory.NamedIndividual;
+import static org.semanticweb.owlapi.apibinding.OWLFunctionalSyntaxFactory.SubClassOf;
+
+public class SWRLRuleEngineSnapshotTest extends IntegrationTestBase
+{
+  private static final OWLClass PERSON = Class(iri("Person"));
+  private static final OWLClass EMPLOYEE = Class(iri("Employee"));
+  private static final OWLNamedIndividual E1 = NamedIndividual(iri("e1"));
+  private static final OWLNamedIndividual E2 = NamedIndividual(iri("e2"));
+
+  @Rule public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+  private TestTargetSWRLRuleEngine targetSWRLRuleEngine; // Of the last rule engine created
+
+  @Test public void TestSnapshotRoundTrip() throws IOException, SWRLRuleEngineException
+  {
+    File file = this.temporaryFolder.newFile("snapshot.bin");
+    Set<OWLAxiom> assertedAxioms = new HashSet<>(
+      Arrays.asList(SubClassOf(EMPLOYEE, PERSON), ClassAssertion(EMPLOYEE, E1)));
+    byte[] fingerprint = SWRLRuleEngineSnapshot
+      .getFingerprint(assertedAxioms, Collections.singleton(OWL2RLRule.CAX_SCO));
+
+    new SWRLRuleEngineSnapshot(fingerprint, Collections.singleton(ClassAssertion(PERSON, E1)),
+      Collections.singleton(Declaration(E1))).write(file);
+
+    SWRLRuleEngineSnapshot snapshot = SWRLRuleEngineSnapshot.read(file);
+
+    assertArrayEquals(fingerprint, snapshot.getFingerprint());
+    assertTrue(snapshot.hasFingerprint(fingerprint));
+    assertEquals(Collections.singleton(ClassAssertion(PERSON, E1)), snapshot.getInferredOWLAxioms());
+    assertEquals(Collections.singleton(Declaration(E1)), snapshot.getInjectedOWLAxioms());
+  }
+
+  @Test public void TestFingerprintDependsOnAxiomsAndEnabledRules()
+  {
+    Set<OWLAxiom> assertedAxioms = new HashSet<>(
+      Arrays.asList(SubClassOf(EMPLOYEE, PERSON), ClassAssertion(EMPLOYEE, E1)));
+    byte[] fingerprint = SWRLRuleEngineSnapshot
+      .getFingerprint(assertedAxioms, Collections.singleton(OWL2RLRule.CAX_SCO));
+
+    assertEquals(32, fingerprint.length);
+    assertArrayEquals(fingerprint, SWRLRuleEngineSnapshot
+      .getFingerprint(new HashSet<>(assertedAxioms), Collections.singleton(OWL2RLRule.CAX_SCO)));
+    assertArrayEquals(fingerprint, SWRLRuleEngineSnapshot
+      .getFingerprint(new LinkedHashSet<>(Arrays.asList(ClassAssertion(EMPLOYEE, E1), SubClassOf(EMPLOYEE, PERSON))),
+        Collections.singleton(OWL2RLRule.CAX_SCO)));
+    assertFalse(Arrays.equals(fingerprint, SWRLRuleEngineSnapshot
+      .getFingerprint(Collections.singleton(SubClassOf(EMPLOYEE, PERSON)),
+        Collections.singleton(OWL2RLRule.CAX_SCO))));
+    assertFalse(Arrays.equals(fingerprint,
+      SWRLRuleEngineSnapshot.getFingerprint(assertedAxioms, Collections.emptySet())));
+  }
+
+  @Test public void TestReadRejectsDisallowedClasses() throws IOException
+  {
+    File file = this.temporaryFolder.newFile("snapshot.bin");
+
+    try (ObjectOutputStream out = new ObjectOutputStream(
+      new GZIPOutputStream(new BufferedOutputStream(new FileOutputStream(file))))) {
+      out.writeInt(0x53574150);
+      out.writeInt(2);
+      out.writeInt(0);
+      out.writeInt(1);
+      out.writeObject(new File("axiom")); // Serializable, but not something an axiom is built from
+      out.writeInt(0);
+    }
+
+    try {
+      SWRLRuleEngineSnapshot.read(file);
+      fail("snapshot with a disallowed class was read");
+    } catch (SWRLRuleEngineException e) {
+      assertTrue(e.getMessage().contains("java.io.File"));
+    }
+  }
+
+  @Test public void TestQueryResultsAfterRestoreMatchResultsBeforeIt() throws Exception
+  {
+    File file = this.temporaryFolder.newFile("snapshot.bin");
+    OWLOntology ontology = createOntology();
+    DefaultSWRLRuleAndQueryEngine ruleEngine = createRuleEngine(ontology);
+
+    ruleEngine.createSQWRLQuery("q1", "Person(?p) -> sqwrl:select(?p)");
+    ruleEngine.importAssertedOWLAxioms();
+    ruleEngine.run();
+
+    Set<OWLAxiom> inferredOWLAxioms = new HashSet<>(ruleEngine.getInferredOWLAxioms());
+    SQWRLResult result = ruleEngine.runSQWRLQuery("q1");
+
+    ruleEngine.importAssertedOWLAxioms();
+    ruleEngine.run();
+    ruleEngine.saveSnapshot(file);
+
+    DefaultSWRLRuleAndQueryEngine restoringRuleEngine = createRuleEngine(ontology);
+
+    restoringRuleEngine.restoreSnapshot(file);
+
+    assertEquals(0, this.targetSWRLRuleEngine.getNumberOfRuns()); // Inference is not re-run
+    assertEquals(inferredOWLAxioms, restoringRuleEngine.getInferredOWLAxioms());
+    assertTrue(this.targetSWRLRuleEngine.getDefinedOWLAxioms().containsAll(inferredOWLAxioms));
+
+    SQWRLResult restoredResult = restoringRuleEngine.runSQWRLQuery("q1");
+
+    assertEquals(2, result.getNumberOfRows());
+    assertEquals(result.getColumn(0), restoredResult.getColumn(0));
+  }
+
+  @Test public void TestMismatchedSnapshotIsRejectedBeforeAnythingIsImported() throws Exception
+  {
+    File file = this.temporaryFolder.newFile("snapshot.bin");
+    OWLOntology ontology = createOntology();
+    DefaultSWRLRuleAndQueryEngine ruleEngine = createRuleEngine(ontology);
+    TestTargetSWRLRuleEngine targetSWRLRuleEngine = this.targetSWRLRuleEngine;
+
+    ruleEngine.importAssertedOWLAxioms();
+    ruleEngine.run();
+    ruleEngine.saveSnapshot(file);
+
+    addOWLAxioms(ontology, Declaration(E2), ClassAssertion(EMPLOYEE, E2));
+
+    int numberOfDefinedOWLAxioms = targetSWRLRuleEngine.getNumberOfDefinedOWLAxioms();
+
+    try {
+      ruleEngine.restoreSnapshot(file);
+      fail("mismatched snapshot was restored");
+    } catch (SWRLRuleEngineException e) {
+      assertEquals(numberOfDefinedOWLAxioms, targetSWRLRuleEngine.getNumberOfDefinedOWLAxioms());
+      assertTrue(targetSWRLRuleEngine.getDefinedOWLAxioms().isEmpty());
+      assertTrue(ruleEngine.getInferredOWLAxioms().isEmpty());
+    }
+  }
+
+  private OWLOntology createOntology() throws Exception
+  {
+    OWLOntology ontology = OWLManager.createOWLOntologyManager().createOntology();
+
+    addOWLAxioms(ontology, Declaration(PERSON), Declaration(EMPLOYEE), Declaration(E1), Declaration(E2),
+      ClassAssertion(EMPLOYEE, E1), ClassAssertion(PERSON, E2));
+
+    return ontology;
+  }
+
+  private DefaultSWRLRuleAndQueryEngine createRuleEngine(OWLOntology ontology) throws Exception
+  {
+    SWRLAPIOWLOntology swrlapiOWLOntology = SWRLAPIInternalFactory.createSWRLAPIOntology(ontology);
+
+    if (!swrlapiOWLOntology.getSWRLRule("r1").isPresent())
+      swrlapiOWLOntology.createSWRLRule("r1", "Employee(?e) -> Person(?e)");
+
+    DefaultSWRLBridge bridge = new DefaultSWRLBridge(swrlapiOWLOntology,
+      SWRLAPIInternalFactory.createOWL2RLPersistenceLayer(ontology));
+    this.targetSWRLRuleEngine = new TestTargetSWRLRuleEngine(bridge);
+    bridge.setTargetSWRLRuleEngine(this.targetSWRLRuleEngine);
+
+    return new DefaultSWRLRuleAndQueryEngine(swrlapiOWLOntology, this.targetSWRLRuleEngine, bridge, bridge,
+      TestTargetSWRLRuleEngine.getCreator());
+  }
+}
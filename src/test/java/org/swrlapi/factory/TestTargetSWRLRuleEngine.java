@@ -0,0 +1,243 @@
+package org.swrlapi.factory;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.semanticweb.owlapi.model.OWLAxiom;
+import org.semanticweb.owlapi.model.OWLClass;
+import org.semanticweb.owlapi.model.OWLClassAssertionAxiom;
+import org.semanticweb.owlapi.model.OWLClassExpression;
+import org.semanticweb.owlapi.model.OWLIndividual;
+import org.semanticweb.owlapi.model.OWLNamedIndividual;
+import org.semanticweb.owlapi.model.SWRLAtom;
+import org.semanticweb.owlapi.model.SWRLBuiltInAtom;
+import org.semanticweb.owlapi.model.SWRLClassAtom;
+import org.semanticweb.owlapi.model.SWRLRule;
+import org.semanticweb.owlapi.reasoner.OWLReasoner;
+import org.swrlapi.bridge.SWRLRuleEngineBridge;
+import org.swrlapi.bridge.TargetSWRLRuleEngine;
+import org.swrlapi.bridge.TargetSWRLRuleEngineCreator;
+import org.swrlapi.exceptions.TargetSWRLRuleEngineException;
+import org.swrlapi.owl2rl.AbstractOWL2RLEngine;
+import org.swrlapi.owl2rl.OWL2RLEngine;
+import org.swrlapi.sqwrl.SQWRLQuery;
+import org.swrlapi.sqwrl.SQWRLResultGenerator;
+import org.swrlapi.sqwrl.exceptions.SQWRLException;
+import org.swrlapi.sqwrl.values.SQWRLResultValue;
+
+import javax.swing.*;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+
+import static org.semanticweb.owlapi.apibinding.OWLFunctionalSyntaxFactory.ClassAssertion;
+
+/**
+ * A minimal target rule engine for tests. It evaluates rules and SQWRL queries whose bodies are class atoms over a
+ * single variable, inferring class assertions for rule heads and adding one row per matching named individual to each
+ * active query's result. Other axioms are recorded but not reasoned with.
+ */
+class TestTargetSWRLRuleEngine implements TargetSWRLRuleEngine
+{
+  @NonNull private final SWRLRuleEngineBridge bridge;
+  @NonNull private final OWL2RLEngine owl2RLEngine;
+  @NonNull private final Set<@NonNull OWLAxiom> definedOWLAxioms = new HashSet<>();
+  @NonNull private final List<@NonNull SWRLRule> rules = new ArrayList<>();
+  @NonNull private final List<@NonNull SQWRLQuery> queries = new ArrayList<>();
+
+  @Nullable private volatile Runnable runHook = null;
+
+  private int numberOfDefinedOWLAxioms = 0;
+  private int numberOfRuns = 0;
+  private int numberOfResets = 0;
+
+  public TestTargetSWRLRuleEngine(@NonNull SWRLRuleEngineBridge bridge)
+  {
+    this.bridge = bridge;
+    this.owl2RLEngine = new AbstractOWL2RLEngine(bridge.getOWL2RLPersistenceLayer(), Collections.emptySet(),
+      Collections.emptySet(), Collections.emptySet())
+    {
+    };
+  }
+
+  @NonNull public static TargetSWRLRuleEngineCreator getCreator()
+  {
+    return new TargetSWRLRuleEngineCreator()
+    {
+      @NonNull @Override public TargetSWRLRuleEngine create(@NonNull SWRLRuleEngineBridge bridge)
+      {
+        return new TestTargetSWRLRuleEngine(bridge);
+      }
+
+      @NonNull @Override public String getRuleEngineName()
+      {
+        return "Test";
+      }
+    };
+  }
+
+  @Override public void defineOWLAxiom(@NonNull OWLAxiom axiom)
+  {
+    this.numberOfDefinedOWLAxioms++;
+    this.definedOWLAxioms.add(axiom);
+
+    if (axiom instanceof SWRLRule && ((SWRLRule)axiom).getHead().stream().noneMatch(a -> a instanceof SWRLBuiltInAtom))
+      this.rules.add((SWRLRule)axiom);
+  }
+
+  @Override public void defineSQWRLQuery(@NonNull SQWRLQuery query)
+  {
+    if (query.isActive())
+      this.queries.add(query);
+  }
+
+  @Override public void runRuleEngine() throws TargetSWRLRuleEngineException
+  {
+    this.numberOfRuns++;
+
+    Runnable hook = this.runHook;
+    if (hook != null)
+      hook.run();
+
+    Set<@NonNull OWLClassAssertionAxiom> facts = this.definedOWLAxioms.stream()
+      .filter(a -> a instanceof OWLClassAssertionAxiom).map(a -> (OWLClassAssertionAxiom)a)
+      .collect(Collectors.toCollection(HashSet::new));
+
+    boolean changed = true;
+    while (changed) {
+      changed = false;
+      for (SWRLRule rule : this.rules) {
+        for (OWLNamedIndividual individual : match(rule.getBody(), facts)) {
+          for (OWLClassExpression head : getClassAtomPredicates(rule.getHead())) {
+            OWLClassAssertionAxiom inferred = ClassAssertion(head, individual);
+            if (facts.add(inferred)) {
+              this.bridge.inferOWLAxiom(inferred);
+              changed = true;
+            }
+          }
+        }
+      }
+    }
+
+    try {
+      for (SQWRLQuery query : this.queries) {
+        SQWRLResultGenerator generator = query.getSQWRLResultGenerator();
+        SQWRLResultValueFactory valueFactory = SWRLAPIInternalFactory
+          .createSQWRLResultValueFactory(this.bridge.getIRIResolver());
+
+        for (OWLNamedIndividual individual : match(query.getBodyAtoms(), facts)) {
+          List<@NonNull SQWRLResultValue> row = new ArrayList<>();
+          for (int column = 0; column < generator.getCurrentNumberOfColumns(); column++)
+            row.add(valueFactory.getNamedIndividualValue(individual.getIRI()));
+          generator.addRow(row);
+        }
+      }
+    } catch (SQWRLException e) {
+      throw new TargetSWRLRuleEngineException(
+        "error generating query result: " + (e.getMessage() != null ? e.getMessage() : ""), e);
+    }
+  }
+
+  @Override public void resetRuleEngine()
+  {
+    this.numberOfResets++;
+    this.definedOWLAxioms.clear();
+    this.rules.clear();
+    this.queries.clear();
+  }
+
+  /**
+   * @param runHook Called at the start of each run, before any inference; used to block or slow down runs
+   */
+  public void setRunHook(@Nullable Runnable runHook)
+  {
+    this.runHook = runHook;
+  }
+
+  public int getNumberOfDefinedOWLAxioms()
+  {
+    return this.numberOfDefinedOWLAxioms;
+  }
+
+  public int getNumberOfRuns()
+  {
+    return this.numberOfRuns;
+  }
+
+  public int getNumberOfResets()
+  {
+    return this.numberOfResets;
+  }
+
+  @NonNull public Set<@NonNull OWLAxiom> getDefinedOWLAxioms()
+  {
+    return Collections.unmodifiableSet(this.definedOWLAxioms);
+  }
+
+  @NonNull @Override public String getTargetRuleEngineName()
+  {
+    return "Test";
+  }
+
+  @NonNull @Override public String getTargetRuleEngineVersion()
+  {
+    return "1.0";
+  }
+
+  @NonNull @Override public Icon getTargetRuleEngineIcon()
+  {
+    return new ImageIcon();
+  }
+
+  @NonNull @Override public OWLReasoner getOWLReasoner()
+  {
+    throw new UnsupportedOperationException("test rule engine has no reasoner");
+  }
+
+  @NonNull @Override public OWL2RLEngine getOWL2RLEngine()
+  {
+    return this.owl2RLEngine;
+  }
+
+  /**
+   * Individuals, in IRI order, that are asserted to be instances of every class in the class atoms of the supplied
+   * atoms. Atoms other than class atoms are ignored.
+   */
+  @NonNull private static Set<@NonNull OWLNamedIndividual> match(@NonNull Iterable<? extends SWRLAtom> atoms,
+    @NonNull Set<@NonNull OWLClassAssertionAxiom> facts)
+  {
+    List<@NonNull OWLClassExpression> classes = getClassAtomPredicates(atoms);
+    Map<@NonNull OWLClassExpression, @NonNull Set<@NonNull OWLIndividual>> instances = new HashMap<>();
+
+    for (OWLClassAssertionAxiom fact : facts)
+      instances.computeIfAbsent(fact.getClassExpression(), c -> new HashSet<>()).add(fact.getIndividual());
+
+    Set<@NonNull OWLNamedIndividual> matches = new TreeSet<>();
+    if (classes.isEmpty())
+      return matches;
+
+    for (OWLIndividual individual : instances.getOrDefault(classes.get(0), Collections.emptySet())) {
+      if (individual.isNamed() && classes.stream()
+        .allMatch(c -> instances.getOrDefault(c, Collections.emptySet()).contains(individual)))
+        matches.add(individual.asOWLNamedIndividual());
+    }
+    return matches;
+  }
+
+  @NonNull private static List<@NonNull OWLClassExpression> getClassAtomPredicates(
+    @NonNull Iterable<? extends SWRLAtom> atoms)
+  {
+    List<@NonNull OWLClassExpression> classes = new ArrayList<>();
+
+    for (SWRLAtom atom : atoms) {
+      if (atom instanceof SWRLClassAtom && ((SWRLClassAtom)atom).getPredicate() instanceof OWLClass)
+        classes.add(((SWRLClassAtom)atom).getPredicate());
+    }
+    return classes;
+  }
+}
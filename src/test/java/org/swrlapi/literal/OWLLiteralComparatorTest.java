@@ -7,6 +7,11 @@ import org.swrlapi.factory.OWLDatatypeFactory;
 import org.swrlapi.factory.OWLLiteralFactory;
 import org.swrlapi.factory.SWRLAPIInternalFactory;
 
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+
 public class OWLLiteralComparatorTest
 {
   private static final OWLLiteralFactory literalFactory = SWRLAPIInternalFactory.createOWLLiteralFactory();
@@ -78,4 +83,66 @@ public class OWLLiteralComparatorTest
     Assert.assertFalse(OWLLiteralComparator.isNumeric(l));
   }
 
-}
\ No newline at end of file
+  @Test public void testMixedNumericTypesCompareAsDecimals() throws Exception
+  {
+    OWLLiteral l1 = literalFactory.getOWLLiteral(3);
+    OWLLiteral l2 = literalFactory.getOWLLiteral(3.5);
+
+    Assert.assertTrue(OWLLiteralComparator.COMPARATOR.compare(l1, l2) < 0);
+    Assert.assertTrue(OWLLiteralComparator.COMPARATOR.compare(l2, l1) > 0);
+  }
+
+  @Test public void testDifferentNonNumericTypesAreUnordered() throws Exception
+  {
+    OWLLiteral l1 = literalFactory.getOWLLiteral("3");
+    OWLLiteral l2 = literalFactory.getOWLLiteral(true);
+
+    Assert.assertEquals(-1, OWLLiteralComparator.COMPARATOR.compare(l1, l2));
+    Assert.assertEquals(-1, OWLLiteralComparator.COMPARATOR.compare(l2, l1));
+  }
+
+  @Test public void testCompareLiteralsIsEquivalentToCompare() throws Exception
+  {
+    List<OWLLiteral> owlLiterals = new ArrayList<>();
+
+    owlLiterals.add(literalFactory.getOWLLiteral((byte)-3));
+    owlLiterals.add(literalFactory.getOWLLiteral((byte)7));
+    owlLiterals.add(literalFactory.getOWLLiteral((short)7));
+    owlLiterals.add(literalFactory.getOWLLiteral(-40000));
+    owlLiterals.add(literalFactory.getOWLLiteral(7));
+    owlLiterals.add(literalFactory.getOWLLiteral(5000000000L));
+    owlLiterals.add(literalFactory.getOWLLiteral(2.5f));
+    owlLiterals.add(literalFactory.getOWLLiteral(-0.0f));
+    owlLiterals.add(literalFactory.getOWLLiteral(0.0f));
+    owlLiterals.add(literalFactory.getOWLLiteral(7.0));
+    owlLiterals.add(literalFactory.getOWLLiteral(-1.25e10));
+    owlLiterals.add(literalFactory.getOWLLiteral(new BigDecimal("7.000")));
+    owlLiterals.add(literalFactory.getOWLLiteral(new BigDecimal("-0.5")));
+    owlLiterals.add(literalFactory.getOWLLiteral(new BigInteger("123456789012345678901234567890")));
+    owlLiterals.add(literalFactory.getOWLLiteral("7", datatypeFactory.getIntegerDatatype()));
+    owlLiterals.add(literalFactory.getOWLLiteral("a2"));
+    owlLiterals.add(literalFactory.getOWLLiteral("a10"));
+    owlLiterals.add(literalFactory.getOWLLiteral(true));
+    owlLiterals.add(literalFactory.getOWLLiteral(false));
+    owlLiterals.add(literalFactory.getOWLLiteral("http://example.org/a", datatypeFactory.getURIDatatype()));
+    owlLiterals.add(literalFactory.getOWLLiteral("http://example.org/b", datatypeFactory.getURIDatatype()));
+    owlLiterals.add(literalFactory.getOWLLiteral("2001-01-05", datatypeFactory.getDateDatatype()));
+    owlLiterals.add(literalFactory.getOWLLiteral("1999-12-31", datatypeFactory.getDateDatatype()));
+    owlLiterals.add(literalFactory.getOWLLiteral("2001-01-05T10:00:00", datatypeFactory.getDateTimeDatatype()));
+    owlLiterals.add(literalFactory.getOWLLiteral("2001-01-05T09:30:00", datatypeFactory.getDateTimeDatatype()));
+    owlLiterals.add(literalFactory.getOWLLiteral("10:00:00", datatypeFactory.getTimeDatatype()));
+    owlLiterals.add(literalFactory.getOWLLiteral("09:30:00", datatypeFactory.getTimeDatatype()));
+    owlLiterals.add(literalFactory.getOWLLiteral("P1D", datatypeFactory.getDurationDatatype()));
+    owlLiterals.add(literalFactory.getOWLLiteral("PT1H", datatypeFactory.getDurationDatatype()));
+
+    for (OWLLiteral l1 : owlLiterals) {
+      for (OWLLiteral l2 : owlLiterals) {
+        int expected = Integer.signum(OWLLiteralComparator.COMPARATOR.compare(l1, l2));
+        int actual = Integer.signum(OWLLiteralComparator
+          .compareLiterals(SWRLAPIInternalFactory.createLiteral(l1), SWRLAPIInternalFactory.createLiteral(l2)));
+
+        Assert.assertEquals(l1 + " compared with " + l2, expected, actual);
+      }
+    }
+  }
+}
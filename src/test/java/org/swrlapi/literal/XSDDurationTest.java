@@ -1,5 +1,6 @@
 package org.swrlapi.literal;
 
+import org.junit.Assert;
 import org.junit.Test;
 
 /**
@@ -18,4 +19,20 @@ public class XSDDurationTest
     duration.validate();
   }
 
+  @Test public void testCompareNormalizesComponents()
+  {
+    Assert.assertEquals(0, new XSDDuration("P1Y").compareTo(new XSDDuration("P12M")));
+    Assert.assertTrue(new XSDDuration("PT90M").compareTo(new XSDDuration("PT1H")) > 0);
+    Assert.assertTrue(new XSDDuration("-P1D").compareTo(new XSDDuration("PT1S")) < 0);
+  }
+
+  @Test public void testDayTimeArithmetic()
+  {
+    XSDDuration duration = XSDTimeUtil.dayTimeDuration(1, 2, 3, 4);
+
+    Assert.assertEquals("P1DT2H3M4S", duration.getContent());
+    Assert.assertEquals("PT13H1M32S", XSDTimeUtil.multiplyDayTimeDuration(duration, 0.5).getContent());
+    Assert.assertEquals("-PT1H30M0.5S",
+      XSDTimeUtil.subtractTimes(new XSDTime("10:00:00"), new XSDTime("11:30:00.5")).getContent());
+  }
 }
\ No newline at end of file
@@ -0,0 +1,141 @@
+package org.swrlapi.literal;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.Date;
+
+/**
+ * @see XSDTimeUtil
+ */
+public class XSDTimeUtilTest
+{
+  @Test public void testDateTimeRoundTrip()
+  {
+    for (String content : new String[] { "2016-02-29T13:45:30", "2016-02-29T13:45:30.5", "2016-02-29T00:00:00Z",
+      "2016-02-29T13:45:30+05:30", "1999-12-31T23:59:59.123-08:00" }) {
+      XSDDateTime dateTime = new XSDDateTime(content);
+
+      Assert.assertEquals(content,
+        XSDTimeUtil.formatXSDDateTime(dateTime.getLocalDateTime(), dateTime.getZoneOffset()));
+      Assert.assertEquals(dateTime, new XSDDateTime(dateTime.getLocalDateTime(), dateTime.getZoneOffset()));
+    }
+  }
+
+  @Test public void testDateRoundTrip()
+  {
+    for (String content : new String[] { "2016-02-29", "2016-02-29Z", "2016-02-29-05:00", "0001-01-01" }) {
+      XSDDate date = new XSDDate(content);
+
+      Assert.assertEquals(content, XSDTimeUtil.formatXSDDate(date.getLocalDate(), date.getZoneOffset()));
+      Assert.assertEquals(date, new XSDDate(date.getLocalDate(), date.getZoneOffset()));
+    }
+  }
+
+  @Test public void testTimeRoundTrip()
+  {
+    for (String content : new String[] { "13:45:30", "00:00:00", "13:45:30.125+01:00", "23:59:59Z" }) {
+      XSDTime time = new XSDTime(content);
+
+      Assert.assertEquals(content, XSDTimeUtil.formatXSDTime(time.getLocalTime(), time.getZoneOffset()));
+      Assert.assertEquals(time, new XSDTime(time.getLocalTime(), time.getZoneOffset()));
+    }
+  }
+
+  @Test public void testFormattingAlwaysIncludesSeconds()
+  {
+    Assert.assertEquals("13:45:00", XSDTimeUtil.formatXSDTime(LocalTime.of(13, 45), null));
+    Assert.assertEquals("2016-02-29T00:00:00",
+      XSDTimeUtil.formatXSDDateTime(LocalDateTime.of(2016, 2, 29, 0, 0), null));
+    Assert.assertTrue(XSDTimeUtil.isValidXSDTimeString(new XSDTime(LocalTime.of(13, 45), null).getContent()));
+  }
+
+  @Test public void testUnpaddedFieldsAreAccepted()
+  {
+    Assert.assertEquals(new XSDDateTime("2016-02-09T08:05:03"), new XSDDateTime("2016-2-9T8:5:3"));
+    Assert.assertEquals(new XSDDate("2016-02-09"), new XSDDate("2016-2-9"));
+  }
+
+  @Test public void testInvalidValuesAreRejected()
+  {
+    Assert.assertFalse(XSDTimeUtil.isValidXSDDateString("2015-02-29"));
+    Assert.assertFalse(XSDTimeUtil.isValidXSDDateTimeString("2016-02-29T24:00:01"));
+    Assert.assertFalse(XSDTimeUtil.isValidXSDTimeString("13:45"));
+    Assert.assertFalse(XSDTimeUtil.isValidXSDDurationString("P1YT"));
+  }
+
+  @Test public void testDateTimeOrderingAcrossOffsets()
+  {
+    XSDDateTime dateTime = new XSDDateTime("2016-01-01T10:00:00+02:00");
+
+    Assert.assertEquals(new XSDDateTime("2016-01-01T08:00:00Z"), dateTime);
+    Assert.assertEquals(0, dateTime.compareTo(new XSDDateTime("2016-01-01T03:00:00-05:00")));
+    Assert.assertTrue(dateTime.compareTo(new XSDDateTime("2016-01-01T09:00:00Z")) < 0);
+    Assert.assertTrue(new XSDDateTime("2016-01-01T01:00:00+02:00")
+      .compareTo(new XSDDateTime("2015-12-31T23:30:00Z")) < 0);
+    Assert.assertTrue(new XSDDateTime("2015-12-31T20:00:00-05:00")
+      .compareTo(new XSDDateTime("2016-01-01T00:30:00Z")) > 0);
+  }
+
+  @Test public void testTimeOrderingAcrossOffsets()
+  {
+    XSDTime time = new XSDTime("10:00:00+02:00");
+
+    Assert.assertEquals(new XSDTime("08:00:00Z"), time);
+    Assert.assertTrue(time.compareTo(new XSDTime("09:00:00Z")) < 0);
+    Assert.assertTrue(time.compareTo(new XSDTime("07:30:00-00:45")) < 0);
+    Assert.assertTrue(new XSDTime("13:00:00").compareTo(new XSDTime("01:00:00")) > 0);
+  }
+
+  @Test public void testUtilDate2XSDTimeStringMatchesBaselineFormat()
+  {
+    // The baseline formatted times in UTC as HH:mm:ss.SSS followed by Z
+    Assert.assertEquals("13:45:30.250Z",
+      XSDTimeUtil.utilDate2XSDTimeString(Date.from(Instant.parse("2016-02-29T13:45:30.250Z"))));
+    Assert.assertEquals("00:00:00.000Z", XSDTimeUtil.utilDate2XSDTimeString(new Date(0)));
+    Assert.assertEquals("23:59:59.999Z",
+      XSDTimeUtil.utilDate2XSDTimeString(Date.from(Instant.parse("1999-12-31T23:59:59.999Z"))));
+    Assert.assertEquals(new XSDTime("13:45:30.25Z"), new XSDTime(Date.from(Instant.parse("2016-02-29T13:45:30.250Z"))));
+  }
+
+  @Test public void testYearMonthDurationArithmetic()
+  {
+    Assert.assertEquals("P2Y2M",
+      XSDTimeUtil.addYearMonthDurations(new XSDDuration("P1Y6M"), new XSDDuration("P8M")).getContent());
+    Assert.assertEquals("P10M",
+      XSDTimeUtil.subtractYearMonthDurations(new XSDDuration("P1Y6M"), new XSDDuration("P8M")).getContent());
+    Assert.assertEquals("P1Y9M", XSDTimeUtil.multiplyYearMonthDuration(new XSDDuration("P1Y2M"), 1.5).getContent());
+    Assert.assertEquals("P4M", XSDTimeUtil.divideYearMonthDuration(new XSDDuration("P1Y"), 3).getContent());
+  }
+
+  @Test public void testDateDifferencesAreDayTimeDurations()
+  {
+    Assert.assertEquals("P2D", XSDTimeUtil.subtractDates(new XSDDate("2016-03-01"), new XSDDate("2016-02-28"))
+      .getContent());
+    Assert.assertEquals("-P366D", XSDTimeUtil.subtractDates(new XSDDate("2016-01-01"), new XSDDate("2017-01-01"))
+      .getContent());
+    Assert.assertEquals("PT12H", XSDTimeUtil.subtractTimes(new XSDTime("13:00:00"), new XSDTime("01:00:00"))
+      .getContent());
+    Assert.assertEquals("P1M", XSDTimeUtil
+      .subtractDateTimesYieldingYearMonthDuration(new XSDDateTime("2016-02-29T00:00:00"),
+        new XSDDateTime("2016-01-29T00:00:00")).getContent());
+  }
+
+  @Test public void testAddingDurationsToDateTimes()
+  {
+    Assert.assertEquals("2017-02-28T10:00:00+01:00", XSDTimeUtil
+      .addDurationToDateTime(new XSDDateTime("2016-02-29T10:00:00+01:00"), new XSDDuration("P1Y")).getContent());
+    Assert.assertEquals("2016-03-01", XSDTimeUtil
+      .addDurationToDate(new XSDDate("2016-02-28"), new XSDDuration("P1DT23H")).getContent());
+    Assert.assertEquals("01:30:00", XSDTimeUtil
+      .addDurationToTime(new XSDTime("23:00:00"), new XSDDuration("PT2H30M")).getContent());
+  }
+
+  @Test(expected = IllegalArgumentException.class) public void testDivisionByZeroIsRejected()
+  {
+    XSDTimeUtil.divideDayTimeDuration(new XSDDuration("P1D"), 0.0);
+  }
+}
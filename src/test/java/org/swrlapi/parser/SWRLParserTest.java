@@ -2,6 +2,7 @@ package org.swrlapi.parser;
 
 import org.junit.Test;
 import org.semanticweb.owlapi.apibinding.OWLManager;
+import org.semanticweb.owlapi.model.AxiomType;
 import org.semanticweb.owlapi.model.OWLClass;
 import org.semanticweb.owlapi.model.OWLDataProperty;
 import org.semanticweb.owlapi.model.OWLNamedIndividual;
@@ -15,12 +16,18 @@ import org.semanticweb.owlapi.model.SWRLObjectPropertyAtom;
 import org.semanticweb.owlapi.model.SWRLSameIndividualAtom;
 import org.swrlapi.core.SWRLAPIOWLOntology;
 import org.swrlapi.core.SWRLAPIRule;
+import org.swrlapi.core.SWRLRuleDefinition;
 import org.swrlapi.exceptions.SWRLBuiltInException;
 import org.swrlapi.test.IntegrationTestBase;
 
+import java.util.Arrays;
+import java.util.List;
+
 import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 import static org.semanticweb.owlapi.apibinding.OWLFunctionalSyntaxFactory.Class;
 import static org.semanticweb.owlapi.apibinding.OWLFunctionalSyntaxFactory.DataProperty;
 import static org.semanticweb.owlapi.apibinding.OWLFunctionalSyntaxFactory.Declaration;
@@ -786,4 +793,42 @@ public class SWRLParserTest extends IntegrationTestBase
 
     swrlapiOWLOntology.createSWRLRule("r1", "Person(?p) ^ hasID(?p, \"p7ID\") -> hasFirstName(?p, \"Angela\")");
   }
+
+  @Test public void TestBulkRuleCreation()
+    throws SWRLParseException, OWLOntologyCreationException, SWRLBuiltInException
+  {
+    OWLOntology ontology = OWLManager.createOWLOntologyManager().createOntology();
+    SWRLAPIOWLOntology swrlapiOWLOntology = createSWRLAPIOntology(ontology);
+
+    addOWLAxioms(ontology, Declaration(PERSON), Declaration(MALE), Declaration(HAS_AGE));
+
+    List<SWRLAPIRule> rules = swrlapiOWLOntology.createSWRLRules(Arrays
+      .asList(new SWRLRuleDefinition("r1", "Male(?m) -> Person(?m)"),
+        new SWRLRuleDefinition("r2", "Person(?p) ^ hasAge(?p, ?a) ^ swrlb:greaterThan(?a, 17) -> Male(?p)", "", true)));
+
+    assertEquals(2, rules.size());
+    assertEquals("r1", rules.get(0).getRuleName());
+    assertEquals("r2", rules.get(1).getRuleName());
+    assertEquals(2, ontology.getAxiomCount(AxiomType.SWRL_RULE));
+    assertEquals(2, swrlapiOWLOntology.getSWRLRules().size());
+  }
+
+  @Test public void TestBulkRuleCreationAddsNoRulesOnError()
+    throws OWLOntologyCreationException, SWRLBuiltInException
+  {
+    OWLOntology ontology = OWLManager.createOWLOntologyManager().createOntology();
+    SWRLAPIOWLOntology swrlapiOWLOntology = createSWRLAPIOntology(ontology);
+
+    addOWLAxioms(ontology, Declaration(PERSON), Declaration(MALE));
+
+    try {
+      swrlapiOWLOntology.createSWRLRules(Arrays
+        .asList(new SWRLRuleDefinition("r1", "Male(?m) -> Person(?m)"),
+          new SWRLRuleDefinition("r2", "Person(?p) -> Female(?p)")));
+      fail("Expected a parse error for rule r2");
+    } catch (SWRLParseException e) {
+      assertTrue(e.getMessage().contains("r2"));
+    }
+    assertEquals(0, ontology.getAxiomCount(AxiomType.SWRL_RULE));
+  }
 }
@@ -0,0 +1,317 @@
+package org.swrlapi.parser;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.StreamTokenizer;
+import java.io.StringReader;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class SWRLTokenizerTest
+{
+  private static final String[] INPUTS = {
+    "Person(?p) ^ hasAge(?p, ?age) ^ swrlb:greaterThan(?age, 17) -> Adult(?p)",
+    "hasHeight(?p, 1.85) ^ hasDelta(?p, -3) ^ hasRate(?p, -0.25) -> Tall(?p)",
+    "hasName(?p, \"Fred\") ^ hasNote(?p, \"a \\\"quoted\\\"\\tnote\\n\") -> Named(?p)",
+    "hasDOB(?p, \"1990-01-01\"^^xsd:date) -> Born(?p)", "<http://example/a#Person>(?p) -> owl:Thing(?p)",
+    "Person(?p) . sqwrl:select(?p) ^ sqwrl:orderBy(?p)", "not AND Or ^^ ^ ^", "caf\u00e9(?x) -> \u0100nicode(?x)",
+    "  Person(?p)\t->\r\nAdult(?p)  \n ", "\"unterminated string", "\"ends at\nnewline\" x",
+    "\"octal \\101\\7\\377\\8\" x", "\"trailing backslash\\", "\"unterminated with trailing spaces   ",
+    "'single quoted'", "p(1.x)", "p(- x)", "p(- 5)", "p(<abc)", "p(1.", "p(-", "<abc", "a @ b",
+    "a-b c_d e/f g#h 12ab", "" };
+
+  @Test public void TestTokenStreamsMatchStreamTokenizerBasedTokenizer()
+  {
+    for (String input : INPUTS) {
+      assertEquals(input, referenceTokens(input, false), tokens(input, false));
+      assertEquals(input, referenceTokens(input, true), tokens(input, true));
+    }
+  }
+
+  @Test public void TestTokenOffsets() throws SWRLParseException
+  {
+    assertEquals(Arrays.asList("SHORTNAME hasAge@0", "LPAREN (@6", "QUESTION ?@7", "SHORTNAME p@8", "COMMA ,@9",
+      "DECIMAL -3.5@11", "RPAREN )@15"), tokensWithOffsets("hasAge(?p, -3.5)"));
+    assertEquals(Arrays.asList("IRI http://ex/a#b@0", "LPAREN (@15", "QUESTION ?@16", "SHORTNAME x@17", "RPAREN )@18"),
+      tokensWithOffsets("<http://ex/a#b>(?x)"));
+  }
+
+  @Test public void TestQuotedStringOffsetsAndValues() throws SWRLParseException
+  {
+    assertEquals(Arrays.asList("SHORTNAME n@0", "LPAREN (@1", "STRING a b@2", "COMMA ,@7", "STRING c\"d@9",
+      "RPAREN )@15"), tokensWithOffsets("n(\"a b\", \"c\\\"d\")"));
+  }
+
+  @Test public void TestMultiCharacterTokenOffsets() throws SWRLParseException
+  {
+    assertEquals(
+      Arrays.asList("STRING 1@0", "TYPE_QUAL ^^@3", "SHORTNAME xsd:int@5", "IMP ->@13", "SHORTNAME q@16"),
+      tokensWithOffsets("\"1\"^^xsd:int -> q"));
+    assertEquals(Arrays.asList("SHORTNAME a@0", "CONJUNCTION ^@2", "SHORTNAME b@4", "INTEGER -12@6"),
+      tokensWithOffsets("a ^ b -12"));
+  }
+
+  @Test public void TestErrorOffsetOfUnexpectedCharacter()
+  {
+    assertErrorOffset("Person(?p) -> Adult(?p) @", 24, false);
+  }
+
+  @Test public void TestErrorOffsetOfMalformedDecimal()
+  {
+    assertErrorOffset("p(1.x)", 4, false);
+  }
+
+  @Test public void TestErrorOffsetOfMalformedNegativeNumber()
+  {
+    assertErrorOffset("p(- x)", 4, false);
+  }
+
+  @Test public void TestErrorOffsetOfMalformedIRI()
+  {
+    assertErrorOffset("<abc)", 4, false);
+  }
+
+  @Test public void TestIncompleteInputIsReportedAtEndOfTrimmedInput()
+  {
+    SWRLParseException e = assertErrorOffset("p(1.   \n", 4, true);
+
+    assertThat(e, instanceOf(SWRLIncompleteRuleException.class));
+    assertErrorOffset("<abc", 4, false);
+  }
+
+  @Test public void TestTokensBeforeAnErrorAreReturned() throws SWRLParseException
+  {
+    SWRLTokenizer tokenizer = new SWRLTokenizer("a b @", false);
+
+    assertEquals("a", tokenizer.getToken("token").getValue());
+    assertEquals("b", tokenizer.getToken("token").getValue());
+    assertTrue(tokenizer.hasMoreTokens());
+    try {
+      tokenizer.getToken("token");
+      fail("Expecting a parse exception");
+    } catch (SWRLParseException e) {
+      assertEquals(4, e.getErrorOffset());
+    }
+  }
+
+  @Test public void TestResetRewindsToFirstToken() throws SWRLParseException
+  {
+    SWRLTokenizer tokenizer = new SWRLTokenizer("a(?x)", false);
+
+    while (tokenizer.hasMoreTokens())
+      tokenizer.skipToken();
+    tokenizer.reset();
+
+    assertEquals("a", tokenizer.peekToken("token").getValue());
+    assertFalse(new SWRLTokenizer("   ", false).hasMoreTokens());
+  }
+
+  @NonNull private static SWRLParseException assertErrorOffset(@NonNull String input, int expectedErrorOffset,
+    boolean interactiveParseOnly)
+  {
+    SWRLTokenizer tokenizer = new SWRLTokenizer(input, interactiveParseOnly);
+
+    try {
+      while (tokenizer.hasMoreTokens())
+        tokenizer.getToken("Incomplete rule!");
+      tokenizer.getToken("Incomplete rule!");
+    } catch (SWRLParseException e) {
+      assertEquals(input, expectedErrorOffset, e.getErrorOffset());
+      return e;
+    }
+    throw new AssertionError("Expecting a parse exception for " + input);
+  }
+
+  @NonNull private static List<@NonNull String> tokensWithOffsets(@NonNull String input) throws SWRLParseException
+  {
+    SWRLTokenizer tokenizer = new SWRLTokenizer(input, false);
+    List<@NonNull String> tokens = new ArrayList<>();
+
+    while (tokenizer.hasMoreTokens()) {
+      SWRLToken token = tokenizer.getToken("Incomplete rule!");
+      tokens.add(token.getTokenType() + " " + token.getValue() + "@" + token.getOffset());
+    }
+    return tokens;
+  }
+
+  @NonNull private static List<@NonNull String> tokens(@NonNull String input, boolean interactiveParseOnly)
+  {
+    SWRLTokenizer tokenizer = new SWRLTokenizer(input, interactiveParseOnly);
+    List<@NonNull String> tokens = new ArrayList<>();
+
+    try {
+      while (tokenizer.hasMoreTokens()) {
+        SWRLToken token = tokenizer.getToken("Incomplete rule!");
+        tokens.add(token.getTokenType() + " " + token.getValue());
+      }
+    } catch (SWRLParseException e) {
+      tokens.add(e.getClass().getSimpleName() + " " + e.getMessage());
+    }
+    return tokens;
+  }
+
+  /**
+   * Tokenize with the rules of the original {@link java.io.StreamTokenizer}-based tokenizer. Tokens before an error
+   * are kept so that streams can be compared up to the point of failure.
+   */
+  @NonNull private static List<@NonNull String> referenceTokens(@NonNull String input, boolean interactiveParseOnly)
+  {
+    ReferenceTokenizer tokenizer = new ReferenceTokenizer(input, interactiveParseOnly);
+    List<@NonNull String> tokens = new ArrayList<>();
+
+    try {
+      SWRLToken token = tokenizer.generateToken();
+      while (token.getTokenType() != SWRLToken.SWRLTokenType.END_OF_INPUT) {
+        tokens.add(token.getTokenType() + " " + token.getValue());
+        token = tokenizer.generateToken();
+      }
+    } catch (SWRLParseException e) {
+      tokens.add(e.getClass().getSimpleName() + " " + e.getMessage());
+    } catch (IOException e) {
+      throw new AssertionError(e);
+    }
+    return tokens;
+  }
+
+  private static class ReferenceTokenizer extends StreamTokenizer
+  {
+    private final boolean interactiveParseOnly;
+
+    public ReferenceTokenizer(@NonNull String input, boolean interactiveParseOnly)
+    {
+      super(new StringReader(input));
+      this.interactiveParseOnly = interactiveParseOnly;
+
+      for (char wordChar : new char[] { ':', '_', '-', '/', '#' })
+        wordChars(wordChar, wordChar);
+      wordChars('0', '9');
+      for (char ordinaryChar : new char[] { '.', '^', '<', '>', '(', ')', '?' })
+        ordinaryChar(ordinaryChar);
+    }
+
+    @Override public void parseNumbers()
+    {
+    }
+
+    @NonNull private String getValue()
+    {
+      return this.sval != null ? this.sval : "";
+    }
+
+    @NonNull private SWRLToken generateToken() throws SWRLParseException, IOException
+    {
+      int tokenType = nextToken();
+
+      switch (tokenType) {
+      case TT_EOF:
+      case TT_EOL:
+        return token(SWRLToken.SWRLTokenType.END_OF_INPUT, "");
+      case TT_WORD: {
+        String value = getValue();
+        if (value.equalsIgnoreCase("not"))
+          return token(SWRLToken.SWRLTokenType.NOT, "not");
+        else if (value.equalsIgnoreCase("and"))
+          return token(SWRLToken.SWRLTokenType.AND, "and");
+        else if (value.equalsIgnoreCase("or"))
+          return token(SWRLToken.SWRLTokenType.OR, "or");
+        boolean negativeNumeric = false;
+        if (value.equals("-")) {
+          int nextTokenType = nextToken();
+          if (nextTokenType == '>')
+            return token(SWRLToken.SWRLTokenType.IMP, "->");
+          else if (nextTokenType == TT_EOF)
+            throw endOfRuleException("Expecting '>' or integer or decimal after '-'");
+          else if (nextTokenType != TT_WORD)
+            throw new SWRLParseException("Expecting '>' or integer or decimal after '-'");
+          else
+            negativeNumeric = true;
+        }
+        if (isInteger(value)) {
+          if (nextToken() == '.') {
+            int trailingTokenType = nextToken();
+            String trailingValue = getValue();
+            if (trailingTokenType == TT_WORD && isInteger(trailingValue))
+              return token(SWRLToken.SWRLTokenType.DECIMAL, (negativeNumeric ? "-" : "") + value + "." + trailingValue);
+            else if (trailingTokenType == TT_EOF)
+              throw endOfRuleException("Expecting decimal fraction part after '.'");
+            else
+              throw new SWRLParseException("Expecting decimal fraction part after '.'");
+          } else {
+            pushBack();
+            return token(SWRLToken.SWRLTokenType.INTEGER, (negativeNumeric ? "-" : "") + value);
+          }
+        } else if (negativeNumeric)
+          throw new SWRLParseException("Expecting integer or decimal");
+        else
+          return token(SWRLToken.SWRLTokenType.SHORTNAME, value);
+      }
+      case '"':
+        return token(SWRLToken.SWRLTokenType.STRING, getValue());
+      case ',':
+        return token(SWRLToken.SWRLTokenType.COMMA, ",");
+      case '?':
+        return token(SWRLToken.SWRLTokenType.QUESTION, "?");
+      case '(':
+        return token(SWRLToken.SWRLTokenType.LPAREN, "(");
+      case ')':
+        return token(SWRLToken.SWRLTokenType.RPAREN, ")");
+      case '.':
+        return token(SWRLToken.SWRLTokenType.RING, ".");
+      case '^':
+        if (nextToken() == '^')
+          return token(SWRLToken.SWRLTokenType.TYPE_QUAL, "^^");
+        pushBack();
+        return token(SWRLToken.SWRLTokenType.CONJUNCTION, "^");
+      case '<': {
+        int nextTokenType = nextToken();
+        if (nextTokenType == TT_WORD) {
+          String iri = getValue();
+          nextTokenType = nextToken();
+          if (nextTokenType == '>')
+            return token(SWRLToken.SWRLTokenType.IRI, iri);
+          else if (nextTokenType == TT_EOF)
+            throw endOfRuleException("Expecting '>' after IRI");
+          else
+            throw new SWRLParseException("Expecting IRI after '<'");
+        } else if (nextTokenType == TT_EOF)
+          throw endOfRuleException("Expecting IRI after '<'");
+        else
+          throw new SWRLParseException("Expecting IRI after '<'");
+      }
+      default:
+        throw new SWRLParseException("Unexpected character '" + String.valueOf(Character.toChars(tokenType)) + "'");
+      }
+    }
+
+    @NonNull private static SWRLToken token(@NonNull SWRLToken.SWRLTokenType tokenType, @NonNull String value)
+    {
+      return new SWRLToken(tokenType, value, -1);
+    }
+
+    @NonNull private SWRLParseException endOfRuleException(@NonNull String message)
+    {
+      return this.interactiveParseOnly ? new SWRLIncompleteRuleException(message) : new SWRLParseException(message);
+    }
+
+    private static boolean isInteger(@NonNull String s)
+    {
+      try {
+        new BigInteger(s);
+        return true;
+      } catch (NumberFormatException e) {
+        return false;
+      }
+    }
+  }
+}